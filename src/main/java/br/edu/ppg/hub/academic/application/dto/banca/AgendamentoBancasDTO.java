@@ -0,0 +1,52 @@
+package br.edu.ppg.hub.academic.application.dto.banca;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * DTO do pedido de proposta de agendamento em lote de bancas
+ * Horários são os inícios possíveis em cada dia útil do intervalo de datas
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgendamentoBancasDTO {
+
+    @NotEmpty(message = "Informe as bancas a agendar")
+    private List<Long> bancaIds;
+
+    @NotNull(message = "A data inicial é obrigatória")
+    private LocalDate dataInicio;
+
+    @NotNull(message = "A data final é obrigatória")
+    private LocalDate dataFim;
+
+    @NotEmpty(message = "Informe os horários de início")
+    private List<LocalTime> horarios;
+
+    @Min(value = 30, message = "A duração deve ser de pelo menos 30 minutos")
+    @Max(value = 600, message = "A duração não pode exceder 600 minutos")
+    private Integer duracaoMinutos;
+
+    /**
+     * Salas candidatas para bancas presenciais e híbridas; vazia mantém o local atual
+     */
+    private List<String> salas;
+
+    @Builder.Default
+    private Boolean incluirSabado = false;
+}
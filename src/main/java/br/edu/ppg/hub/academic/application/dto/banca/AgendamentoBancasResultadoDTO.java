@@ -0,0 +1,71 @@
+package br.edu.ppg.hub.academic.application.dto.banca;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * DTO de resposta da proposta de agendamento em lote de bancas
+ * A proposta não altera as bancas; cada alocação é aplicada pela atualização da banca
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgendamentoBancasResultadoDTO {
+
+    private List<BancaAlocada> alocadas;
+
+    private List<BancaNaoAlocada> naoAlocadas;
+
+    /**
+     * Se a busca parou pelo prazo; outra execução com mais datas ou horários pode alocar mais bancas
+     */
+    private Boolean tempoEsgotado;
+
+    private Long tempoMs;
+
+    /**
+     * Data, horário e sala propostos para uma banca
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BancaAlocada {
+
+        private Long bancaId;
+
+        private String discenteNome;
+
+        private LocalDate data;
+
+        private LocalTime horarioInicio;
+
+        private LocalTime horarioFim;
+
+        private String sala;
+    }
+
+    /**
+     * Banca sem proposta e o motivo
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BancaNaoAlocada {
+
+        private Long bancaId;
+
+        private String motivo;
+    }
+}
@@ -4,6 +4,7 @@ import br.edu.ppg.hub.academic.domain.model.Banca;
 import br.edu.ppg.hub.academic.domain.model.Discente;
 import br.edu.ppg.hub.academic.domain.model.Docente;
 import br.edu.ppg.hub.academic.domain.model.TrabalhoConclusao;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.BancaResumoProjection;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -180,4 +181,29 @@ public class BancaMapper {
                 .updatedAt(banca.getUpdatedAt())
                 .build();
     }
+
+    /**
+     * Converte a linha da listagem paginada para ResumoDTO.
+     *
+     * @param banca Linha da listagem
+     * @return DTO de resumo
+     */
+    public BancaResumoDTO toResumoDTO(BancaResumoProjection banca) {
+        return BancaResumoDTO.builder()
+                .id(banca.getId())
+                .tipo(banca.getTipo())
+                .status(banca.getStatus())
+                .trabalhoConclusaoId(banca.getTrabalhoConclusaoId())
+                .trabalhoConclusaoTitulo(banca.getTrabalhoConclusaoTitulo())
+                .discenteId(banca.getDiscenteId())
+                .discenteNome(banca.getDiscenteNome())
+                .presidenteNome(banca.getPresidenteNome())
+                .dataAgendada(banca.getDataAgendada())
+                .horarioInicio(banca.getHorarioInicio())
+                .localRealizacao(banca.getLocalRealizacao())
+                .modalidade(banca.getModalidade())
+                .resultado(banca.getResultado())
+                .notaFinal(banca.getNotaFinal())
+                .build();
+    }
 }
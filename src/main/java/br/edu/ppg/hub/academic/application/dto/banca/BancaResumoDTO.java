@@ -0,0 +1,53 @@
+package br.edu.ppg.hub.academic.application.dto.banca;
+
+import br.edu.ppg.hub.academic.domain.enums.ResultadoBanca;
+import br.edu.ppg.hub.academic.domain.enums.TipoBanca;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * DTO de resumo de banca examinadora para as listagens paginadas.
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BancaResumoDTO {
+
+    private Long id;
+
+    private TipoBanca tipo;
+
+    private String status;
+
+    private Long trabalhoConclusaoId;
+
+    private String trabalhoConclusaoTitulo;
+
+    private Long discenteId;
+
+    private String discenteNome;
+
+    private String presidenteNome;
+
+    private LocalDate dataAgendada;
+
+    private LocalTime horarioInicio;
+
+    private String localRealizacao;
+
+    private String modalidade;
+
+    private ResultadoBanca resultado;
+
+    private BigDecimal notaFinal;
+}
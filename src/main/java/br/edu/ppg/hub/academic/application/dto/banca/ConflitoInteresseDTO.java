@@ -0,0 +1,36 @@
+package br.edu.ppg.hub.academic.application.dto.banca;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de conflito de interesse por coautoria entre um membro externo da banca
+ * e o discente ou um orientador
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConflitoInteresseDTO {
+
+    private Long membroId;
+
+    private String membroNome;
+
+    /**
+     * Papel do avaliado: Discente, Orientador ou Coorientador
+     */
+    private String papel;
+
+    private String avaliadoNome;
+
+    /**
+     * Ano da coautoria mais recente (OpenAlex)
+     */
+    private Integer ultimoAno;
+}
@@ -2,6 +2,7 @@ package br.edu.ppg.hub.academic.application.dto.discente;
 
 import br.edu.ppg.hub.academic.domain.model.Discente;
 import br.edu.ppg.hub.academic.domain.model.Docente;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.DiscenteResumoProjection;
 import br.edu.ppg.hub.auth.domain.model.Usuario;
 import br.edu.ppg.hub.core.domain.model.LinhaPesquisa;
 import br.edu.ppg.hub.core.domain.model.Programa;
@@ -278,4 +279,28 @@ public class DiscenteMapper {
                 .mesesAtePrazo(discente.getMesesAtePrazo())
                 .build();
     }
+
+    /**
+     * Converte a linha da listagem paginada para ResumoDTO
+     */
+    public DiscenteResumoDTO toResumoDTO(DiscenteResumoProjection discente) {
+        return DiscenteResumoDTO.builder()
+                .id(discente.getId())
+                .numeroMatricula(discente.getNumeroMatricula())
+                .usuarioNome(discente.getUsuarioNome())
+                .usuarioEmail(discente.getUsuarioEmail())
+                .programaId(discente.getProgramaId())
+                .programaSigla(discente.getProgramaSigla())
+                .linhaPesquisaNome(discente.getLinhaPesquisaNome())
+                .orientadorId(discente.getOrientadorId())
+                .orientadorNome(discente.getOrientadorNome())
+                .tipoCurso(discente.getTipoCurso())
+                .turma(discente.getTurma())
+                .semestreIngresso(discente.getSemestreIngresso())
+                .dataIngresso(discente.getDataIngresso())
+                .dataLimiteAtual(discente.getDataLimiteAtual())
+                .bolsista(discente.getBolsista())
+                .status(discente.getStatus())
+                .build();
+    }
 }
@@ -0,0 +1,58 @@
+package br.edu.ppg.hub.academic.application.dto.discente;
+
+import br.edu.ppg.hub.academic.domain.enums.StatusDiscente;
+import br.edu.ppg.hub.academic.domain.enums.TipoCurso;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO de resumo de discente para as listagens paginadas
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiscenteResumoDTO {
+
+    private Long id;
+
+    private String numeroMatricula;
+
+    private String usuarioNome;
+
+    private String usuarioEmail;
+
+    private Long programaId;
+
+    private String programaSigla;
+
+    private String linhaPesquisaNome;
+
+    private Long orientadorId;
+
+    private String orientadorNome;
+
+    private TipoCurso tipoCurso;
+
+    private Integer turma;
+
+    private String semestreIngresso;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate dataIngresso;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate dataLimiteAtual;
+
+    private Boolean bolsista;
+
+    private StatusDiscente status;
+}
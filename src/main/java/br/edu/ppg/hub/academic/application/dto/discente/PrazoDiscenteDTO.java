@@ -0,0 +1,42 @@
+package br.edu.ppg.hub.academic.application.dto.discente;
+
+import br.edu.ppg.hub.academic.domain.enums.TipoPrazo;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO de prazo de qualificação ou defesa de um discente, para o acompanhamento
+ * de prazos em risco do programa
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PrazoDiscenteDTO {
+
+    private Long discenteId;
+
+    private String numeroMatricula;
+
+    private String nome;
+
+    private TipoPrazo tipo;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate data;
+
+    /**
+     * Dias até o prazo; negativo quando vencido
+     */
+    private Long diasRestantes;
+
+    private Boolean vencido;
+}
@@ -0,0 +1,35 @@
+package br.edu.ppg.hub.academic.application.dto.discente;
+
+import br.edu.ppg.hub.academic.domain.enums.TransicaoDiscente;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para transição de situação de vários discentes de uma vez
+ * O motivo é obrigatório no desligamento
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransicaoLoteDTO {
+
+    @NotNull(message = "Transição é obrigatória")
+    private TransicaoDiscente transicao;
+
+    @NotEmpty(message = "Informe ao menos um discente")
+    @Size(max = 1000, message = "Máximo de 1000 discentes por lote")
+    private List<Long> discenteIds;
+
+    private String motivo;
+}
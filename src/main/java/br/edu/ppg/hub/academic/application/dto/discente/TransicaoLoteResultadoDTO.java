@@ -0,0 +1,45 @@
+package br.edu.ppg.hub.academic.application.dto.discente;
+
+import br.edu.ppg.hub.academic.domain.enums.TransicaoDiscente;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de resposta da transição de discentes em lote
+ * Com qualquer erro nenhum discente é alterado e todos os erros são retornados
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransicaoLoteResultadoDTO {
+
+    private TransicaoDiscente transicao;
+
+    private Integer total;
+
+    private Integer atualizados;
+
+    private List<ErroDiscente> erros;
+
+    /**
+     * Erro de validação de um discente do lote
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ErroDiscente {
+
+        private Long discenteId;
+
+        private String mensagem;
+    }
+}
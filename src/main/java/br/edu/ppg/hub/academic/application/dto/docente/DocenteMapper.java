@@ -1,6 +1,7 @@
 package br.edu.ppg.hub.academic.application.dto.docente;
 
 import br.edu.ppg.hub.academic.domain.model.Docente;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.DocenteResumoProjection;
 import br.edu.ppg.hub.auth.domain.model.Usuario;
 import br.edu.ppg.hub.core.domain.model.LinhaPesquisa;
 import br.edu.ppg.hub.core.domain.model.Programa;
@@ -173,4 +174,26 @@ public class DocenteMapper {
                 .temBolsaVigente(docente.temBolsaProdutividadeVigente())
                 .build();
     }
+
+    /**
+     * Converte a linha da listagem paginada para ResumoDTO
+     */
+    public DocenteResumoDTO toResumoDTO(DocenteResumoProjection docente) {
+        return DocenteResumoDTO.builder()
+                .id(docente.getId())
+                .matricula(docente.getMatricula())
+                .usuarioNome(docente.getUsuarioNome())
+                .usuarioEmail(docente.getUsuarioEmail())
+                .programaId(docente.getProgramaId())
+                .programaSigla(docente.getProgramaSigla())
+                .linhaPesquisaNome(docente.getLinhaPesquisaNome())
+                .categoria(docente.getCategoria())
+                .titulacaoMaxima(docente.getTitulacaoMaxima())
+                .tipoVinculo(docente.getTipoVinculo())
+                .orientacoesMestradoAndamento(docente.getOrientacoesMestradoAndamento())
+                .orientacoesDoutoradoAndamento(docente.getOrientacoesDoutoradoAndamento())
+                .bolsistaProdutividade(docente.getBolsistaProdutividade())
+                .status(docente.getStatus())
+                .build();
+    }
 }
@@ -0,0 +1,50 @@
+package br.edu.ppg.hub.academic.application.dto.docente;
+
+import br.edu.ppg.hub.academic.domain.enums.CategoriaDocente;
+import br.edu.ppg.hub.academic.domain.enums.StatusDocente;
+import br.edu.ppg.hub.academic.domain.enums.TipoVinculoDocente;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de resumo de docente para as listagens paginadas
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocenteResumoDTO {
+
+    private Long id;
+
+    private String matricula;
+
+    private String usuarioNome;
+
+    private String usuarioEmail;
+
+    private Long programaId;
+
+    private String programaSigla;
+
+    private String linhaPesquisaNome;
+
+    private CategoriaDocente categoria;
+
+    private String titulacaoMaxima;
+
+    private TipoVinculoDocente tipoVinculo;
+
+    private Integer orientacoesMestradoAndamento;
+
+    private Integer orientacoesDoutoradoAndamento;
+
+    private Boolean bolsistaProdutividade;
+
+    private StatusDocente status;
+}
@@ -0,0 +1,40 @@
+package br.edu.ppg.hub.academic.application.dto.docente;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de docente recomendado para orientar um novo discente, com a carga atual
+ * de orientações
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrientadorRecomendadoDTO {
+
+    private Long docenteId;
+
+    private String nome;
+
+    private Long linhaPesquisaId;
+
+    /**
+     * Docente da mesma linha de pesquisa do discente
+     */
+    private Boolean mesmaLinhaPesquisa;
+
+    private Integer orientacoesMestradoAndamento;
+
+    private Integer orientacoesDoutoradoAndamento;
+
+    /**
+     * Orientações que o docente ainda pode assumir
+     */
+    private Integer vagas;
+}
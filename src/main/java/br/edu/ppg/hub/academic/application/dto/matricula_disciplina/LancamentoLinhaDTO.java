@@ -0,0 +1,30 @@
+package br.edu.ppg.hub.academic.application.dto.matricula_disciplina;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO de uma linha do lançamento em lote de notas e frequências
+ * A matrícula é identificada pelo ID ou pelo número de matrícula do discente
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LancamentoLinhaDTO {
+
+    private Long matriculaId;
+
+    private String numeroMatricula;
+
+    private BigDecimal nota;
+
+    private BigDecimal frequencia;
+}
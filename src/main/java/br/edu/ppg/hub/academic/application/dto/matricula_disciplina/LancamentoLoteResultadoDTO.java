@@ -0,0 +1,46 @@
+package br.edu.ppg.hub.academic.application.dto.matricula_disciplina;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de resposta do lançamento em lote de notas e frequências
+ * Com qualquer erro de linha nada é gravado e todos os erros são retornados
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LancamentoLoteResultadoDTO {
+
+    private Long ofertaId;
+
+    private Integer totalLinhas;
+
+    private Integer atualizadas;
+
+    private List<ErroLinha> erros;
+
+    /**
+     * Erro de validação de uma linha do arquivo
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ErroLinha {
+
+        private Integer linha;
+
+        private String identificador;
+
+        private String mensagem;
+    }
+}
@@ -52,6 +52,12 @@ public class MembroBancaCreateDTO {
     @Size(max = 255, message = "O email não pode exceder 255 caracteres")
     private String email;
 
+    /**
+     * ORCID do membro externo (ex: 0000-0002-1825-0097), para verificar coautoria com discente e orientador
+     */
+    @Pattern(regexp = "^\\d{4}-\\d{4}-\\d{4}-\\d{3}[\\dX]$", message = "ORCID inválido")
+    private String orcid;
+
     /**
      * Resumo do currículo do membro (Lattes resumido)
      */
@@ -37,6 +37,7 @@ public class MembroBancaMapper {
                 .instituicao(dto.getInstituicao())
                 .titulacao(dto.getTitulacao())
                 .email(dto.getEmail())
+                .orcid(dto.getOrcid())
                 .curriculoResumo(dto.getCurriculoResumo())
                 .funcao(dto.getFuncao())
                 .tipo(dto.getTipo())
@@ -61,6 +62,7 @@ public class MembroBancaMapper {
                 .instituicao(membro.getInstituicao())
                 .titulacao(membro.getTitulacao())
                 .email(membro.getEmail())
+                .orcid(membro.getOrcid())
                 .curriculoResumo(membro.getCurriculoResumo())
                 .funcao(membro.getFuncao())
                 .tipo(membro.getTipo())
@@ -34,6 +34,7 @@ public class MembroBancaResponseDTO {
     private String instituicao;
     private String titulacao;
     private String email;
+    private String orcid;
     private String curriculoResumo;
 
     // Função e tipo
@@ -3,6 +3,7 @@ package br.edu.ppg.hub.academic.application.dto.oferta_disciplina;
 import br.edu.ppg.hub.academic.domain.model.Disciplina;
 import br.edu.ppg.hub.academic.domain.model.Docente;
 import br.edu.ppg.hub.academic.domain.model.OfertaDisciplina;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.OfertaDisciplinaResumoProjection;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -151,4 +152,31 @@ public class OfertaDisciplinaMapper {
                 .permiteLancarNotas(oferta.permiteLancarNotas())
                 .build();
     }
+
+    /**
+     * Converte a linha da listagem paginada para ResumoDTO
+     *
+     * @param oferta Linha da listagem
+     * @return DTO de resumo
+     */
+    public OfertaDisciplinaResumoDTO toResumoDTO(OfertaDisciplinaResumoProjection oferta) {
+        return OfertaDisciplinaResumoDTO.builder()
+                .id(oferta.getId())
+                .disciplinaId(oferta.getDisciplinaId())
+                .disciplinaCodigo(oferta.getDisciplinaCodigo())
+                .disciplinaNome(oferta.getDisciplinaNome())
+                .disciplinaCreditos(oferta.getDisciplinaCreditos())
+                .docenteResponsavelId(oferta.getDocenteResponsavelId())
+                .docenteResponsavelNome(oferta.getDocenteResponsavelNome())
+                .periodo(oferta.getPeriodo())
+                .turma(oferta.getTurma())
+                .modalidade(oferta.getModalidade())
+                .dataInicio(oferta.getDataInicio())
+                .dataFim(oferta.getDataFim())
+                .vagasOferecidas(oferta.getVagasOferecidas())
+                .vagasOcupadas(oferta.getVagasOcupadas())
+                .listaEspera(oferta.getListaEspera())
+                .status(oferta.getStatus())
+                .build();
+    }
 }
@@ -0,0 +1,57 @@
+package br.edu.ppg.hub.academic.application.dto.oferta_disciplina;
+
+import br.edu.ppg.hub.academic.domain.enums.StatusOferta;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO de resumo de oferta de disciplina para as listagens paginadas
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OfertaDisciplinaResumoDTO {
+
+    private Long id;
+
+    private Long disciplinaId;
+
+    private String disciplinaCodigo;
+
+    private String disciplinaNome;
+
+    private Integer disciplinaCreditos;
+
+    private Long docenteResponsavelId;
+
+    private String docenteResponsavelNome;
+
+    private String periodo;
+
+    private String turma;
+
+    private String modalidade;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate dataInicio;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate dataFim;
+
+    private Integer vagasOferecidas;
+
+    private Integer vagasOcupadas;
+
+    private Integer listaEspera;
+
+    private StatusOferta status;
+}
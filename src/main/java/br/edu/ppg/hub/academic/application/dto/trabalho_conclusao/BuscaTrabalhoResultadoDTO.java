@@ -0,0 +1,30 @@
+package br.edu.ppg.hub.academic.application.dto.trabalho_conclusao;
+
+import br.edu.ppg.hub.academic.infrastructure.repository.BuscaTrabalhoRepository.FacetaPalavraChave;
+import br.edu.ppg.hub.academic.infrastructure.repository.BuscaTrabalhoRepository.TrabalhoEncontrado;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de resposta da busca textual de trabalhos de conclusão
+ * Facetas são calculadas apenas na primeira página; proximoCursor é nulo na última
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BuscaTrabalhoResultadoDTO {
+
+    private List<TrabalhoEncontrado> itens;
+
+    private List<FacetaPalavraChave> facetas;
+
+    private String proximoCursor;
+}
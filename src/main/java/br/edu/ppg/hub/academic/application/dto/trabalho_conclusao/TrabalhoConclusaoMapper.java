@@ -3,6 +3,7 @@ package br.edu.ppg.hub.academic.application.dto.trabalho_conclusao;
 import br.edu.ppg.hub.academic.domain.model.Discente;
 import br.edu.ppg.hub.academic.domain.model.Docente;
 import br.edu.ppg.hub.academic.domain.model.TrabalhoConclusao;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.TrabalhoConclusaoResumoProjection;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -226,4 +227,27 @@ public class TrabalhoConclusaoMapper {
                 .updatedAt(trabalho.getUpdatedAt())
                 .build();
     }
+
+    /**
+     * Converte a linha da listagem paginada para ResumoDTO.
+     *
+     * @param trabalho Linha da listagem
+     * @return DTO de resumo
+     */
+    public TrabalhoConclusaoResumoDTO toResumoDTO(TrabalhoConclusaoResumoProjection trabalho) {
+        return TrabalhoConclusaoResumoDTO.builder()
+                .id(trabalho.getId())
+                .tipo(trabalho.getTipo())
+                .tituloPortugues(trabalho.getTituloPortugues())
+                .discenteId(trabalho.getDiscenteId())
+                .discenteNome(trabalho.getDiscenteNome())
+                .orientadorId(trabalho.getOrientadorId())
+                .orientadorNome(trabalho.getOrientadorNome())
+                .coorientadorNome(trabalho.getCoorientadorNome())
+                .dataDefesa(trabalho.getDataDefesa())
+                .anoDefesa(trabalho.getAnoDefesa())
+                .idioma(trabalho.getIdioma())
+                .status(trabalho.getStatus())
+                .build();
+    }
 }
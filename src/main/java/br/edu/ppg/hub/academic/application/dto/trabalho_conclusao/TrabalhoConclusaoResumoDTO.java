@@ -0,0 +1,47 @@
+package br.edu.ppg.hub.academic.application.dto.trabalho_conclusao;
+
+import br.edu.ppg.hub.academic.domain.enums.StatusTrabalho;
+import br.edu.ppg.hub.academic.domain.enums.TipoTrabalho;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO de resumo de trabalho de conclusão para as listagens paginadas.
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrabalhoConclusaoResumoDTO {
+
+    private Long id;
+
+    private TipoTrabalho tipo;
+
+    private String tituloPortugues;
+
+    private Long discenteId;
+
+    private String discenteNome;
+
+    private Long orientadorId;
+
+    private String orientadorNome;
+
+    private String coorientadorNome;
+
+    private LocalDate dataDefesa;
+
+    private Integer anoDefesa;
+
+    private String idioma;
+
+    private StatusTrabalho status;
+}
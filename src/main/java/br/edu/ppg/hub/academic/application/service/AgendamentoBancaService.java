@@ -0,0 +1,232 @@
+package br.edu.ppg.hub.academic.application.service;
+
+import br.edu.ppg.hub.academic.application.dto.banca.AgendamentoBancasDTO;
+import br.edu.ppg.hub.academic.application.dto.banca.AgendamentoBancasResultadoDTO;
+import br.edu.ppg.hub.academic.application.dto.banca.AgendamentoBancasResultadoDTO.BancaAlocada;
+import br.edu.ppg.hub.academic.application.dto.banca.AgendamentoBancasResultadoDTO.BancaNaoAlocada;
+import br.edu.ppg.hub.academic.domain.model.Banca;
+import br.edu.ppg.hub.academic.domain.model.MembroBanca;
+import br.edu.ppg.hub.academic.infrastructure.repository.BancaRepository;
+import br.edu.ppg.hub.academic.infrastructure.repository.MembroBancaRepository;
+import br.edu.ppg.hub.academic.infrastructure.scheduling.AgendaBancas;
+import br.edu.ppg.hub.academic.infrastructure.scheduling.AlocadorBancas;
+import br.edu.ppg.hub.academic.infrastructure.scheduling.BancaPendente;
+import br.edu.ppg.hub.academic.infrastructure.scheduling.HorarioBanca;
+import br.edu.ppg.hub.shared.config.AgendamentoBancaConfig;
+import br.edu.ppg.hub.shared.exception.BusinessException;
+import br.edu.ppg.hub.shared.util.Transacoes;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Proposta de agendamento em lote de bancas.
+ *
+ * <p>Para cada banca do lote, busca data, horário e sala em que discente, presidente,
+ * secretário, membros internos e sala estejam livres, considerando as demais bancas
+ * agendadas e as aulas dos docentes ({@link AgendaBancas}) e as bancas do próprio lote.
+ * A busca ({@link AlocadorBancas}) tem prazo configurável e devolve a melhor alocação
+ * encontrada. Nada é gravado: o coordenador aplica as propostas atualizando cada banca.</p>
+ *
+ * <p>Bancas (com discente e usuário) e membros são lidos numa transação curta, encerrada
+ * antes da busca, que pode levar o prazo inteiro.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Service
+@Slf4j
+public class AgendamentoBancaService {
+
+    private static final long MAX_DIAS_INTERVALO = 180;
+
+    private final BancaRepository bancaRepository;
+    private final MembroBancaRepository membroBancaRepository;
+    private final AgendaBancas agendaBancas;
+    private final AgendamentoBancaConfig config;
+    private final TransactionTemplate leitura;
+
+    public AgendamentoBancaService(BancaRepository bancaRepository, MembroBancaRepository membroBancaRepository,
+                                   AgendaBancas agendaBancas, AgendamentoBancaConfig config,
+                                   PlatformTransactionManager transactionManager) {
+        this.bancaRepository = bancaRepository;
+        this.membroBancaRepository = membroBancaRepository;
+        this.agendaBancas = agendaBancas;
+        this.config = config;
+        this.leitura = Transacoes.leituraPropria(transactionManager);
+    }
+
+    /**
+     * Propõe datas, horários e salas para as bancas informadas.
+     *
+     * @param dto Bancas, intervalo de datas, horários de início e salas candidatas
+     * @return Bancas alocadas e bancas sem horário, com o motivo
+     */
+    public AgendamentoBancasResultadoDTO propor(AgendamentoBancasDTO dto) {
+        long inicio = System.nanoTime();
+        List<Long> bancaIds = List.copyOf(new LinkedHashSet<>(dto.getBancaIds()));
+        validarPedido(dto, bancaIds);
+
+        int duracao = dto.getDuracaoMinutos() != null ? dto.getDuracaoMinutos() : config.getDuracaoPadraoMinutos();
+        List<HorarioBanca> horarios = horariosCandidatos(dto, duracao);
+        List<String> salas = dto.getSalas() == null ? List.of() : dto.getSalas().stream()
+                .filter(sala -> sala != null && !sala.isBlank())
+                .map(String::trim)
+                .distinct()
+                .toList();
+
+        Lote carregado = leitura.execute(status -> carregar(bancaIds));
+        Map<Long, Banca> bancas = carregado.bancas();
+        Map<Long, List<MembroBanca>> membros = carregado.membros();
+
+        List<BancaNaoAlocada> naoAlocadas = new ArrayList<>();
+        List<BancaPendente> pendentes = new ArrayList<>();
+        for (Long bancaId : bancaIds) {
+            Banca banca = bancas.get(bancaId);
+            List<MembroBanca> membrosBanca = membros.getOrDefault(bancaId, List.of());
+            String motivo = banca == null ? "Banca não encontrada" : motivoInelegivel(banca, membrosBanca);
+            if (motivo != null) {
+                naoAlocadas.add(new BancaNaoAlocada(bancaId, motivo));
+            } else {
+                pendentes.add(new BancaPendente(bancaId, banca.getDiscente().getId(),
+                        docentes(banca, membrosBanca), !banca.isVirtual()));
+            }
+        }
+
+        // As bancas do lote serão realocadas: seus horários atuais não contam como ocupação
+        Set<Long> lote = Set.copyOf(bancaIds);
+        AlocadorBancas alocador = new AlocadorBancas(pendentes, horarios, salas,
+                (recurso, identificador, horario) -> agendaBancas.livre(recurso, identificador, horario, lote));
+        AlocadorBancas.Resultado resultado = alocador.resolver(config.getPrazoAlocacaoMs());
+
+        List<BancaAlocada> alocadas = new ArrayList<>();
+        for (AlocadorBancas.Alocacao alocacao : resultado.alocacoes()) {
+            Banca banca = bancas.get(alocacao.bancaId());
+            alocadas.add(BancaAlocada.builder()
+                    .bancaId(alocacao.bancaId())
+                    .discenteNome(banca.getDiscente().getUsuario().getNomeCompleto())
+                    .data(alocacao.horario().data())
+                    .horarioInicio(alocacao.horario().inicio())
+                    .horarioFim(alocacao.horario().fim())
+                    .sala(salaProposta(alocacao, banca))
+                    .build());
+        }
+        resultado.semHorario().forEach(bancaId -> naoAlocadas.add(new BancaNaoAlocada(bancaId,
+                "Sem horário em que discente, docentes e sala estejam livres")));
+
+        long tempoMs = (System.nanoTime() - inicio) / 1_000_000;
+        log.info("Proposta de agendamento: {} de {} bancas alocadas em {} horários candidatos ({} ms{})",
+                alocadas.size(), bancaIds.size(), horarios.size(), tempoMs,
+                resultado.tempoEsgotado() ? ", prazo esgotado" : "");
+
+        return AgendamentoBancasResultadoDTO.builder()
+                .alocadas(alocadas)
+                .naoAlocadas(naoAlocadas)
+                .tempoEsgotado(resultado.tempoEsgotado())
+                .tempoMs(tempoMs)
+                .build();
+    }
+
+    private Lote carregar(List<Long> bancaIds) {
+        Map<Long, Banca> bancas = bancaRepository.findByIdIn(bancaIds).stream()
+                .collect(Collectors.toMap(Banca::getId, Function.identity()));
+        Map<Long, List<MembroBanca>> membros = membroBancaRepository.findByBancaIdIn(bancaIds).stream()
+                .collect(Collectors.groupingBy(membro -> membro.getBanca().getId()));
+        return new Lote(bancas, membros);
+    }
+
+    private record Lote(Map<Long, Banca> bancas, Map<Long, List<MembroBanca>> membros) {
+    }
+
+    private void validarPedido(AgendamentoBancasDTO dto, List<Long> bancaIds) {
+        if (bancaIds.size() > config.getMaxBancasPorLote()) {
+            throw new BusinessException("Máximo de " + config.getMaxBancasPorLote() + " bancas por proposta");
+        }
+        if (dto.getDataInicio().isBefore(LocalDate.now())) {
+            throw new BusinessException("Data inicial deve ser futura");
+        }
+        if (dto.getDataFim().isBefore(dto.getDataInicio())) {
+            throw new BusinessException("Data final deve ser posterior à data inicial");
+        }
+        if (ChronoUnit.DAYS.between(dto.getDataInicio(), dto.getDataFim()) > MAX_DIAS_INTERVALO) {
+            throw new BusinessException("Intervalo de datas não pode exceder " + MAX_DIAS_INTERVALO + " dias");
+        }
+    }
+
+    /**
+     * Um horário por dia útil (e sábado, se pedido) e horário de início informado.
+     */
+    private List<HorarioBanca> horariosCandidatos(AgendamentoBancasDTO dto, int duracao) {
+        List<LocalTime> inicios = dto.getHorarios().stream().distinct().sorted().toList();
+        List<HorarioBanca> horarios = new ArrayList<>();
+        for (LocalDate data = dto.getDataInicio(); !data.isAfter(dto.getDataFim()); data = data.plusDays(1)) {
+            DayOfWeek dia = data.getDayOfWeek();
+            boolean sabadoExcluido = dia == DayOfWeek.SATURDAY && !Boolean.TRUE.equals(dto.getIncluirSabado());
+            if (dia == DayOfWeek.SUNDAY || sabadoExcluido) {
+                continue;
+            }
+            for (LocalTime horaInicio : inicios) {
+                LocalTime horaFim = horaInicio.plusMinutes(duracao);
+                if (horaFim.isAfter(horaInicio)) {
+                    horarios.add(new HorarioBanca(data, horaInicio, horaFim));
+                }
+            }
+        }
+        if (horarios.isEmpty()) {
+            throw new BusinessException("Nenhum horário candidato no intervalo informado");
+        }
+        return horarios;
+    }
+
+    /**
+     * Mesmas regras de composição de {@link BancaService#adicionarMembro}: no máximo
+     * {@value Banca#MAXIMO_MEMBROS} membros e presidente interno.
+     */
+    private String motivoInelegivel(Banca banca, List<MembroBanca> membros) {
+        if (!banca.podeReagendar()) {
+            return "Banca não pode ser reagendada no status atual";
+        }
+        if (membros.size() > Banca.MAXIMO_MEMBROS) {
+            return "Banca excede o número máximo de " + Banca.MAXIMO_MEMBROS + " membros";
+        }
+        if (membros.stream().anyMatch(membro -> membro.isPresidente() && membro.isExterno())) {
+            return "Presidente deve ser membro interno";
+        }
+        return null;
+    }
+
+    /**
+     * Sem salas candidatas, bancas presenciais mantêm o local atual.
+     */
+    private String salaProposta(AlocadorBancas.Alocacao alocacao, Banca banca) {
+        if (alocacao.sala() != null || banca.isVirtual()) {
+            return alocacao.sala();
+        }
+        return banca.getLocalRealizacao();
+    }
+
+    private Set<Long> docentes(Banca banca, List<MembroBanca> membros) {
+        Set<Long> docentes = new LinkedHashSet<>();
+        docentes.add(banca.getPresidente().getId());
+        if (banca.getSecretario() != null) {
+            docentes.add(banca.getSecretario().getId());
+        }
+        membros.stream()
+                .filter(membro -> membro.getDocente() != null)
+                .forEach(membro -> docentes.add(membro.getDocente().getId()));
+        return docentes;
+    }
+}
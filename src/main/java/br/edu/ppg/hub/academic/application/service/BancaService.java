@@ -3,7 +3,9 @@ package br.edu.ppg.hub.academic.application.service;
 import br.edu.ppg.hub.academic.application.dto.banca.BancaCreateDTO;
 import br.edu.ppg.hub.academic.application.dto.banca.BancaMapper;
 import br.edu.ppg.hub.academic.application.dto.banca.BancaResponseDTO;
+import br.edu.ppg.hub.academic.application.dto.banca.BancaResumoDTO;
 import br.edu.ppg.hub.academic.application.dto.banca.BancaUpdateDTO;
+import br.edu.ppg.hub.academic.application.dto.banca.ConflitoInteresseDTO;
 import br.edu.ppg.hub.academic.application.dto.membro_banca.MembroBancaCreateDTO;
 import br.edu.ppg.hub.academic.application.dto.membro_banca.MembroBancaMapper;
 import br.edu.ppg.hub.academic.application.dto.membro_banca.MembroBancaResponseDTO;
@@ -14,12 +16,17 @@ import br.edu.ppg.hub.academic.domain.model.Discente;
 import br.edu.ppg.hub.academic.domain.model.Docente;
 import br.edu.ppg.hub.academic.domain.model.MembroBanca;
 import br.edu.ppg.hub.academic.domain.model.TrabalhoConclusao;
+import br.edu.ppg.hub.academic.infrastructure.coautoria.GrafoCoautoria;
 import br.edu.ppg.hub.academic.infrastructure.repository.BancaRepository;
 import br.edu.ppg.hub.academic.infrastructure.repository.DiscenteRepository;
 import br.edu.ppg.hub.academic.infrastructure.repository.DocenteRepository;
 import br.edu.ppg.hub.academic.infrastructure.repository.MembroBancaRepository;
 import br.edu.ppg.hub.academic.infrastructure.repository.TrabalhoConclusaoRepository;
+import br.edu.ppg.hub.academic.infrastructure.scheduling.AgendaBancas;
+import br.edu.ppg.hub.auth.domain.model.Usuario;
+import br.edu.ppg.hub.shared.config.AgendamentoBancaConfig;
 import br.edu.ppg.hub.shared.exception.BusinessException;
+import br.edu.ppg.hub.shared.exception.ConflictException;
 import br.edu.ppg.hub.shared.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,9 +36,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.Year;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -54,6 +66,9 @@ public class BancaService {
     private final MembroBancaRepository membroBancaRepository;
     private final BancaMapper bancaMapper;
     private final MembroBancaMapper membroBancaMapper;
+    private final AgendaBancas agendaBancas;
+    private final GrafoCoautoria grafoCoautoria;
+    private final AgendamentoBancaConfig agendamentoBancaConfig;
 
     /**
      * Cria e agenda uma nova banca.
@@ -122,8 +137,10 @@ public class BancaService {
 
         // Criar banca
         Banca banca = bancaMapper.toEntity(dto, trabalho, discente, presidente, secretario);
+        validarAgenda(banca, docentesDaBanca(banca));
 
         banca = bancaRepository.save(banca);
+        agendaBancas.atualizarBanca(banca.getId());
 
         log.info("Banca agendada com sucesso: {}", banca.getId());
         return bancaMapper.toResponseDTO(banca);
@@ -152,11 +169,10 @@ public class BancaService {
      * @return Página de bancas
      */
     @Transactional(readOnly = true)
-    public Page<BancaResponseDTO> listarTodas(Pageable pageable) {
+    public Page<BancaResumoDTO> listarTodas(Pageable pageable) {
         log.debug("Listando todas as bancas");
 
-        return bancaRepository.findAll(pageable)
-                .map(bancaMapper::toResponseDTO);
+        return bancaRepository.findResumos(pageable).map(bancaMapper::toResumoDTO);
     }
 
     /**
@@ -167,11 +183,10 @@ public class BancaService {
      * @return Página de bancas
      */
     @Transactional(readOnly = true)
-    public Page<BancaResponseDTO> buscarPorDiscente(Long discenteId, Pageable pageable) {
+    public Page<BancaResumoDTO> buscarPorDiscente(Long discenteId, Pageable pageable) {
         log.debug("Buscando bancas do discente: {}", discenteId);
 
-        return bancaRepository.findByDiscenteId(discenteId, pageable)
-                .map(bancaMapper::toResponseDTO);
+        return bancaRepository.findResumosByDiscenteId(discenteId, pageable).map(bancaMapper::toResumoDTO);
     }
 
     /**
@@ -196,11 +211,10 @@ public class BancaService {
      * @return Página de bancas agendadas
      */
     @Transactional(readOnly = true)
-    public Page<BancaResponseDTO> buscarAgendadas(Pageable pageable) {
+    public Page<BancaResumoDTO> buscarAgendadas(Pageable pageable) {
         log.debug("Buscando bancas agendadas");
 
-        return bancaRepository.findBancasAgendadas(pageable)
-                .map(bancaMapper::toResponseDTO);
+        return bancaRepository.findResumosAgendados(pageable).map(bancaMapper::toResumoDTO);
     }
 
     /**
@@ -243,8 +257,10 @@ public class BancaService {
         }
 
         bancaMapper.updateEntity(banca, dto, presidente, secretario);
+        validarAgenda(banca, docentesDaBanca(banca));
 
         banca = bancaRepository.save(banca);
+        agendaBancas.atualizarBanca(id);
 
         log.info("Banca atualizada com sucesso: {}", id);
         return bancaMapper.toResponseDTO(banca);
@@ -274,8 +290,10 @@ public class BancaService {
 
         banca.setDataAgendada(novaData);
         banca.setStatus("Agendada");
+        validarAgenda(banca, docentesDaBanca(banca));
 
         banca = bancaRepository.save(banca);
+        agendaBancas.atualizarBanca(id);
 
         log.info("Banca reagendada com sucesso: {}", id);
         return bancaMapper.toResponseDTO(banca);
@@ -305,6 +323,7 @@ public class BancaService {
         banca.setDataRealizacao(LocalDate.now());
 
         banca = bancaRepository.save(banca);
+        agendaBancas.atualizarBanca(id);
 
         log.info("Banca iniciada com sucesso: {}", id);
         return bancaMapper.toResponseDTO(banca);
@@ -383,6 +402,7 @@ public class BancaService {
         banca.setObservacoesBanca(motivo);
 
         banca = bancaRepository.save(banca);
+        agendaBancas.atualizarBanca(id);
 
         log.info("Banca cancelada: {}", id);
         return bancaMapper.toResponseDTO(banca);
@@ -409,8 +429,8 @@ public class BancaService {
 
         // Validar número máximo de membros
         long numeroMembros = membroBancaRepository.countByBancaId(bancaId);
-        if (numeroMembros >= 7) {
-            throw new BusinessException("Banca já atingiu o número máximo de 7 membros");
+        if (numeroMembros >= Banca.MAXIMO_MEMBROS) {
+            throw new BusinessException("Banca já atingiu o número máximo de " + Banca.MAXIMO_MEMBROS + " membros");
         }
 
         // Validar se membro interno não é duplicado
@@ -430,6 +450,18 @@ public class BancaService {
             }
         }
 
+        // Validar coautoria recente do membro externo com discente ou orientadores
+        if (membroDTO.getTipo().equals("Externo") && membroDTO.getOrcid() != null) {
+            List<ConflitoInteresseDTO> conflitos =
+                    conflitosInteresse(banca, null, membroDTO.getNomeCompleto(), membroDTO.getOrcid());
+            if (!conflitos.isEmpty()) {
+                ConflitoInteresseDTO conflito = conflitos.get(0);
+                throw new ConflictException(String.format(
+                        "Conflito de interesse: membro é coautor de %s (%s) em trabalho de %d",
+                        conflito.getAvaliadoNome(), conflito.getPapel().toLowerCase(), conflito.getUltimoAno()));
+            }
+        }
+
         // Validar presidente interno
         if (membroDTO.getFuncao().equals("Presidente") && membroDTO.getTipo().equals("Externo")) {
             throw new BusinessException("Presidente deve ser membro interno");
@@ -450,12 +482,16 @@ public class BancaService {
             if (!docente.isAtivo()) {
                 throw new BusinessException("Docente deve estar ativo");
             }
+
+            // Docente não pode ter outro compromisso no horário da banca
+            validarAgenda(banca, List.of(docente.getId()));
         }
 
         // Criar membro
         MembroBanca membro = membroBancaMapper.toEntity(membroDTO, banca, docente);
 
         membro = membroBancaRepository.save(membro);
+        agendaBancas.atualizarBanca(bancaId);
 
         log.info("Membro adicionado à banca com sucesso: {}", membro.getId());
         return membroBancaMapper.toResponseDTO(membro);
@@ -478,10 +514,32 @@ public class BancaService {
         }
 
         membroBancaRepository.delete(membro);
+        agendaBancas.atualizarBanca(membro.getBanca().getId());
 
         log.info("Membro removido da banca: {}", membroId);
     }
 
+    /**
+     * Lista os membros externos da banca que são coautores recentes do discente ou
+     * de um orientador, segundo o grafo de coautoria do OpenAlex.
+     *
+     * @param bancaId ID da banca
+     * @return Conflitos encontrados (vazia se não há conflito ou faltam ORCIDs)
+     */
+    @Transactional(readOnly = true)
+    public List<ConflitoInteresseDTO> buscarConflitosInteresse(Long bancaId) {
+        log.debug("Verificando conflitos de interesse da banca: {}", bancaId);
+
+        Banca banca = bancaRepository.findById(bancaId)
+                .orElseThrow(() -> new ResourceNotFoundException("Banca não encontrada"));
+
+        return membroBancaRepository.findByBancaId(bancaId).stream()
+                .filter(membro -> membro.isExterno() && membro.getOrcid() != null)
+                .flatMap(membro -> conflitosInteresse(banca, membro.getId(), membro.getNomeCompleto(),
+                        membro.getOrcid()).stream())
+                .toList();
+    }
+
     /**
      * Define o presidente da banca.
      *
@@ -527,6 +585,86 @@ public class BancaService {
         return bancaMapper.toResponseDTO(banca);
     }
 
+    /**
+     * Impede que discente, docentes ou sala da banca tenham outro compromisso no mesmo horário:
+     * outra banca agendada ou aula de oferta de disciplina. Só bancas agendadas ocupam a agenda.
+     *
+     * @param banca Banca com data e horário já definidos
+     * @param docentes Docentes a verificar
+     */
+    private void validarAgenda(Banca banca, Collection<Long> docentes) {
+        if (!banca.isAgendada()) {
+            return;
+        }
+        Set<Long> ignorar = banca.getId() != null ? Set.of(banca.getId()) : Set.of();
+        List<String> impedimentos = agendaBancas.impedimentos(
+                banca.getDiscente().getId(),
+                docentes,
+                banca.isVirtual() ? null : banca.getLocalRealizacao(),
+                agendaBancas.horario(banca.getDataAgendada(), banca.getHorarioInicio(), banca.getHorarioFim()),
+                ignorar);
+        if (!impedimentos.isEmpty()) {
+            throw new ConflictException("Conflito de agenda: " + impedimentos.get(0));
+        }
+    }
+
+    /**
+     * Presidente, secretário e membros internos da banca.
+     */
+    private Set<Long> docentesDaBanca(Banca banca) {
+        Set<Long> docentes = new LinkedHashSet<>();
+        docentes.add(banca.getPresidente().getId());
+        if (banca.getSecretario() != null) {
+            docentes.add(banca.getSecretario().getId());
+        }
+        if (banca.getId() != null) {
+            docentes.addAll(membroBancaRepository.findDocenteIdsByBancaId(banca.getId()));
+        }
+        return docentes;
+    }
+
+    /**
+     * Coautorias do membro externo (identificado pelo ORCID) com discente, orientador e
+     * coorientador dentro da janela configurada.
+     */
+    private List<ConflitoInteresseDTO> conflitosInteresse(Banca banca, Long membroId, String membroNome,
+                                                          String orcid) {
+        Optional<Long> autor = grafoCoautoria.autorPorOrcid(orcid);
+        if (autor.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Usuario> avaliados = new LinkedHashMap<>();
+        Map<Long, String> papeis = new LinkedHashMap<>();
+        Discente discente = banca.getDiscente();
+        adicionarAvaliado(avaliados, papeis, discente.getUsuario(), "Discente");
+        if (discente.getOrientador() != null) {
+            adicionarAvaliado(avaliados, papeis, discente.getOrientador().getUsuario(), "Orientador");
+        }
+        if (discente.getCoorientadorInterno() != null) {
+            adicionarAvaliado(avaliados, papeis, discente.getCoorientadorInterno().getUsuario(), "Coorientador");
+        }
+
+        int anoMinimo = Year.now().getValue() - agendamentoBancaConfig.getAnosConflitoCoautoria();
+        return grafoCoautoria.conflitos(List.of(autor.get()), avaliados.keySet(), anoMinimo).stream()
+                .map(conflito -> ConflitoInteresseDTO.builder()
+                        .membroId(membroId)
+                        .membroNome(membroNome)
+                        .papel(papeis.get(conflito.avaliadoAutorId()))
+                        .avaliadoNome(avaliados.get(conflito.avaliadoAutorId()).getNomeCompleto())
+                        .ultimoAno(conflito.ultimoAno())
+                        .build())
+                .toList();
+    }
+
+    private void adicionarAvaliado(Map<Long, Usuario> avaliados, Map<Long, String> papeis, Usuario usuario,
+                                   String papel) {
+        Long autorId = GrafoCoautoria.autorId(usuario.getOpenalexAuthorId());
+        if (autorId != null && avaliados.putIfAbsent(autorId, usuario) == null) {
+            papeis.put(autorId, papel);
+        }
+    }
+
     /**
      * Valida a composição da banca conforme as regras de negócio.
      *
@@ -548,8 +686,8 @@ public class BancaService {
             ));
         }
 
-        if (numeroTitulares > 7) {
-            throw new BusinessException("Banca deve ter no máximo 7 membros titulares");
+        if (numeroTitulares > Banca.MAXIMO_MEMBROS) {
+            throw new BusinessException("Banca deve ter no máximo " + Banca.MAXIMO_MEMBROS + " membros titulares");
         }
 
         // Validar membro externo
@@ -629,6 +767,7 @@ public class BancaService {
         }
 
         bancaRepository.delete(banca);
+        agendaBancas.atualizarBanca(id);
 
         log.info("Banca deletada com sucesso: {}", id);
     }
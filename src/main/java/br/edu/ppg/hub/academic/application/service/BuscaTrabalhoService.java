@@ -0,0 +1,108 @@
+package br.edu.ppg.hub.academic.application.service;
+
+import br.edu.ppg.hub.academic.application.dto.trabalho_conclusao.BuscaTrabalhoResultadoDTO;
+import br.edu.ppg.hub.academic.infrastructure.repository.BuscaTrabalhoRepository;
+import br.edu.ppg.hub.academic.infrastructure.repository.BuscaTrabalhoRepository.FacetaPalavraChave;
+import br.edu.ppg.hub.academic.infrastructure.repository.BuscaTrabalhoRepository.TrabalhoEncontrado;
+import br.edu.ppg.hub.shared.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Service da busca textual de dissertações e teses.
+ *
+ * <p>A paginação é por cursor: o cliente devolve o proximoCursor recebido para
+ * obter a página seguinte, sem OFFSET. O cursor codifica (rank, id) da última
+ * linha entregue.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BuscaTrabalhoService {
+
+    static final int TAMANHO_MAXIMO = 100;
+    static final int LIMITE_FACETAS = 10;
+
+    private final BuscaTrabalhoRepository buscaTrabalhoRepository;
+
+    /**
+     * Busca trabalhos por texto no título, palavras-chave e resumos.
+     *
+     * @param texto        Texto da busca (sintaxe de websearch: "frase exata", OR, -termo)
+     * @param programaId   Programa do discente (opcional)
+     * @param palavraChave Faceta de palavra-chave selecionada (opcional)
+     * @param cursor       Cursor recebido na página anterior (null na primeira página)
+     * @param tamanho      Número de trabalhos por página
+     * @return Página de resultados, facetas (primeira página) e cursor da próxima página
+     */
+    @Transactional(readOnly = true)
+    public BuscaTrabalhoResultadoDTO buscar(String texto, Long programaId, String palavraChave,
+                                            String cursor, int tamanho) {
+        if (texto == null || texto.isBlank()) {
+            throw new BusinessException("Informe o texto da busca");
+        }
+        if (tamanho < 1 || tamanho > TAMANHO_MAXIMO) {
+            throw new BusinessException("O tamanho da página deve estar entre 1 e " + TAMANHO_MAXIMO);
+        }
+        String filtroPalavra = palavraChave == null || palavraChave.isBlank() ? null : palavraChave;
+
+        Cursor posicao = cursor == null || cursor.isBlank() ? null : Cursor.decodificar(cursor);
+        log.debug("Buscando trabalhos: texto='{}', programa={}, palavraChave={}, cursor={}",
+                texto, programaId, filtroPalavra, posicao);
+
+        // Uma linha a mais indica se existe próxima página
+        List<TrabalhoEncontrado> linhas = buscaTrabalhoRepository.buscar(texto, programaId, filtroPalavra,
+                posicao != null ? posicao.rank() : null,
+                posicao != null ? posicao.id() : null,
+                tamanho + 1);
+
+        String proximoCursor = null;
+        if (linhas.size() > tamanho) {
+            linhas = linhas.subList(0, tamanho);
+            TrabalhoEncontrado ultimo = linhas.get(tamanho - 1);
+            proximoCursor = new Cursor(ultimo.rank(), ultimo.id()).codificar();
+        }
+
+        List<FacetaPalavraChave> facetas = posicao == null
+                ? buscaTrabalhoRepository.facetas(texto, programaId, filtroPalavra, LIMITE_FACETAS)
+                : List.of();
+
+        return BuscaTrabalhoResultadoDTO.builder()
+                .itens(List.copyOf(linhas))
+                .facetas(facetas)
+                .proximoCursor(proximoCursor)
+                .build();
+    }
+
+    /**
+     * Posição (rank, id) da última linha entregue; o rank trafega como bits do float para não perder precisão.
+     */
+    record Cursor(float rank, long id) {
+
+        String codificar() {
+            String valor = Integer.toHexString(Float.floatToIntBits(rank)) + ":" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decodificar(String cursor) {
+            try {
+                String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separador = valor.indexOf(':');
+                float rank = Float.intBitsToFloat(Integer.parseUnsignedInt(valor.substring(0, separador), 16));
+                long id = Long.parseLong(valor.substring(separador + 1));
+                return new Cursor(rank, id);
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new BusinessException("Cursor de paginação inválido");
+            }
+        }
+    }
+}
@@ -3,11 +3,17 @@ package br.edu.ppg.hub.academic.application.service;
 import br.edu.ppg.hub.academic.application.dto.discente.DiscenteCreateDTO;
 import br.edu.ppg.hub.academic.application.dto.discente.DiscenteMapper;
 import br.edu.ppg.hub.academic.application.dto.discente.DiscenteResponseDTO;
+import br.edu.ppg.hub.academic.application.dto.discente.DiscenteResumoDTO;
 import br.edu.ppg.hub.academic.application.dto.discente.DiscenteUpdateDTO;
+import br.edu.ppg.hub.academic.application.dto.discente.PrazoDiscenteDTO;
 import br.edu.ppg.hub.academic.domain.enums.StatusDiscente;
 import br.edu.ppg.hub.academic.domain.enums.TipoCurso;
+import br.edu.ppg.hub.academic.domain.event.DiscenteAlteradoEvent;
+import br.edu.ppg.hub.academic.domain.event.PrazoDiscenteAlteradoEvent;
 import br.edu.ppg.hub.academic.domain.model.Discente;
 import br.edu.ppg.hub.academic.domain.model.Docente;
+import br.edu.ppg.hub.academic.infrastructure.orientacao.CargaOrientacoes;
+import br.edu.ppg.hub.academic.infrastructure.prazos.MonitorPrazos;
 import br.edu.ppg.hub.academic.infrastructure.repository.DiscenteRepository;
 import br.edu.ppg.hub.academic.infrastructure.repository.DocenteRepository;
 import br.edu.ppg.hub.auth.domain.model.Usuario;
@@ -21,16 +27,19 @@ import br.edu.ppg.hub.shared.exception.DuplicateResourceException;
 import br.edu.ppg.hub.shared.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Service para operações com Discentes
@@ -49,6 +58,10 @@ public class DiscenteService {
     private final LinhaPesquisaRepository linhaPesquisaRepository;
     private final DocenteRepository docenteRepository;
     private final DiscenteMapper discenteMapper;
+    private final EstatisticasProgramaService estatisticasProgramaService;
+    private final MonitorPrazos monitorPrazos;
+    private final CargaOrientacoes cargaOrientacoes;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Matricula um novo discente
@@ -111,11 +124,9 @@ public class DiscenteService {
         }
 
         discente = discenteRepository.save(discente);
-
-        // Atualizar contador de orientações do orientador
-        if (orientador != null) {
-            atualizarContagemOrientacoes(orientador);
-        }
+        eventPublisher.publishEvent(new DiscenteAlteradoEvent(discente.getId(), null, programa.getId()));
+        eventPublisher.publishEvent(new PrazoDiscenteAlteradoEvent(discente.getId()));
+        atualizarCargaOrientacao(null, discente);
 
         log.info("Discente matriculado com sucesso: {}", discente.getId());
         return discenteMapper.toResponseDTO(discente);
@@ -158,8 +169,13 @@ public class DiscenteService {
                     .orElseThrow(() -> new ResourceNotFoundException("Coorientador não encontrado"));
         }
 
+        EstadoEstatistico anterior = EstadoEstatistico.de(discente);
+        Orientacao orientacaoAnterior = Orientacao.de(discente);
         discenteMapper.updateEntity(discente, dto, linhaPesquisa, novoOrientador, coorientadorInterno);
         discente = discenteRepository.save(discente);
+        publicarSeAlterado(discente, anterior);
+        eventPublisher.publishEvent(new PrazoDiscenteAlteradoEvent(discente.getId()));
+        atualizarCargaOrientacao(orientacaoAnterior, discente);
 
         log.info("Discente atualizado com sucesso: {}", id);
         return discenteMapper.toResponseDTO(discente);
@@ -182,60 +198,55 @@ public class DiscenteService {
      * Busca todos os discentes (paginado)
      */
     @Transactional(readOnly = true)
-    public Page<DiscenteResponseDTO> buscarTodos(Pageable pageable) {
+    public Page<DiscenteResumoDTO> buscarTodos(Pageable pageable) {
         log.debug("Buscando todos os discentes");
-        return discenteRepository.findAll(pageable)
-                .map(discenteMapper::toResponseDTO);
+        return discenteRepository.findResumos(pageable).map(discenteMapper::toResumoDTO);
     }
 
     /**
      * Busca discentes por programa
      */
     @Transactional(readOnly = true)
-    public Page<DiscenteResponseDTO> buscarPorPrograma(Long programaId, Pageable pageable) {
+    public Page<DiscenteResumoDTO> buscarPorPrograma(Long programaId, Pageable pageable) {
         log.debug("Buscando discentes do programa: {}", programaId);
 
         if (!programaRepository.existsById(programaId)) {
             throw new ResourceNotFoundException("Programa não encontrado");
         }
 
-        return discenteRepository.findByProgramaId(programaId, pageable)
-                .map(discenteMapper::toResponseDTO);
+        return discenteRepository.findResumosByProgramaId(programaId, pageable).map(discenteMapper::toResumoDTO);
     }
 
     /**
      * Busca discentes por orientador
      */
     @Transactional(readOnly = true)
-    public Page<DiscenteResponseDTO> buscarPorOrientador(Long orientadorId, Pageable pageable) {
+    public Page<DiscenteResumoDTO> buscarPorOrientador(Long orientadorId, Pageable pageable) {
         log.debug("Buscando discentes do orientador: {}", orientadorId);
 
         if (!docenteRepository.existsById(orientadorId)) {
             throw new ResourceNotFoundException("Orientador não encontrado");
         }
 
-        return discenteRepository.findByOrientadorId(orientadorId, pageable)
-                .map(discenteMapper::toResponseDTO);
+        return discenteRepository.findResumosByOrientadorId(orientadorId, pageable).map(discenteMapper::toResumoDTO);
     }
 
     /**
      * Busca discentes por status
      */
     @Transactional(readOnly = true)
-    public Page<DiscenteResponseDTO> buscarPorStatus(StatusDiscente status, Pageable pageable) {
+    public Page<DiscenteResumoDTO> buscarPorStatus(StatusDiscente status, Pageable pageable) {
         log.debug("Buscando discentes com status: {}", status);
-        return discenteRepository.findByStatus(status, pageable)
-                .map(discenteMapper::toResponseDTO);
+        return discenteRepository.findResumosByStatus(status, pageable).map(discenteMapper::toResumoDTO);
     }
 
     /**
      * Busca discentes por tipo de curso
      */
     @Transactional(readOnly = true)
-    public Page<DiscenteResponseDTO> buscarPorTipoCurso(TipoCurso tipoCurso, Pageable pageable) {
+    public Page<DiscenteResumoDTO> buscarPorTipoCurso(TipoCurso tipoCurso, Pageable pageable) {
         log.debug("Buscando discentes de {}", tipoCurso);
-        return discenteRepository.findByTipoCurso(tipoCurso, pageable)
-                .map(discenteMapper::toResponseDTO);
+        return discenteRepository.findResumosByTipoCurso(tipoCurso, pageable).map(discenteMapper::toResumoDTO);
     }
 
     /**
@@ -259,15 +270,17 @@ public class DiscenteService {
             throw new BusinessException("Orientador não está apto para orientar");
         }
 
-        Docente orientadorAntigo = discente.getOrientador();
+        Orientacao anterior = Orientacao.de(discente);
+        if (anterior != null && anterior.orientadorId().equals(orientadorId)) {
+            return discenteMapper.toResponseDTO(discente);
+        }
+        if (discente.isAtivo() && novoOrientador.atingiuLimiteOrientacoes()) {
+            throw new BusinessException("Orientador já atingiu o limite de orientações simultâneas");
+        }
+
         discente.setOrientador(novoOrientador);
         discente = discenteRepository.save(discente);
-
-        // Atualizar contagem de orientações
-        if (orientadorAntigo != null) {
-            atualizarContagemOrientacoes(orientadorAntigo);
-        }
-        atualizarContagemOrientacoes(novoOrientador);
+        atualizarCargaOrientacao(anterior, discente);
 
         log.info("Orientador vinculado com sucesso");
         return discenteMapper.toResponseDTO(discente);
@@ -296,6 +309,8 @@ public class DiscenteService {
             throw new BusinessException("Discente não está ativo");
         }
 
+        EstadoEstatistico anterior = EstadoEstatistico.de(discente);
+        Orientacao orientacaoAnterior = Orientacao.de(discente);
         discente.setQualificacaoRealizada(true);
         discente.setDataQualificacao(dataQualificacao);
         discente.setResultadoQualificacao(resultado);
@@ -305,6 +320,9 @@ public class DiscenteService {
         }
 
         discente = discenteRepository.save(discente);
+        publicarSeAlterado(discente, anterior);
+        eventPublisher.publishEvent(new PrazoDiscenteAlteradoEvent(discente.getId()));
+        atualizarCargaOrientacao(orientacaoAnterior, discente);
 
         log.info("Qualificação registrada com sucesso");
         return discenteMapper.toResponseDTO(discente);
@@ -324,6 +342,8 @@ public class DiscenteService {
             throw new BusinessException("Discente não está apto para defender (precisa estar qualificado)");
         }
 
+        EstadoEstatistico anterior = EstadoEstatistico.de(discente);
+        Orientacao orientacaoAnterior = Orientacao.de(discente);
         discente.setDataDefesa(dataDefesa);
         discente.setResultadoDefesa(resultado);
         discente.setTituloFinal(tituloFinal);
@@ -333,27 +353,9 @@ public class DiscenteService {
         }
 
         discente = discenteRepository.save(discente);
-
-        // Atualizar contagem de orientações concluídas do orientador
-        if (discente.getOrientador() != null) {
-            Docente orientador = discente.getOrientador();
-            if (discente.getTipoCurso() == TipoCurso.MESTRADO) {
-                orientador.setOrientacoesMestradoConcluidas(
-                    (orientador.getOrientacoesMestradoConcluidas() != null ? orientador.getOrientacoesMestradoConcluidas() : 0) + 1
-                );
-                orientador.setOrientacoesMestradoAndamento(
-                    Math.max(0, (orientador.getOrientacoesMestradoAndamento() != null ? orientador.getOrientacoesMestradoAndamento() : 0) - 1)
-                );
-            } else {
-                orientador.setOrientacoesDoutoradoConcluidas(
-                    (orientador.getOrientacoesDoutoradoConcluidas() != null ? orientador.getOrientacoesDoutoradoConcluidas() : 0) + 1
-                );
-                orientador.setOrientacoesDoutoradoAndamento(
-                    Math.max(0, (orientador.getOrientacoesDoutoradoAndamento() != null ? orientador.getOrientacoesDoutoradoAndamento() : 0) - 1)
-                );
-            }
-            docenteRepository.save(orientador);
-        }
+        publicarSeAlterado(discente, anterior);
+        eventPublisher.publishEvent(new PrazoDiscenteAlteradoEvent(discente.getId()));
+        atualizarCargaOrientacao(orientacaoAnterior, discente);
 
         log.info("Defesa registrada com sucesso");
         return discenteMapper.toResponseDTO(discente);
@@ -383,11 +385,16 @@ public class DiscenteService {
         prorrogacoes.add(prorrogacao);
         discente.setProrrogacoes(prorrogacoes);
 
+        if (discente.getDataLimiteAtual() == null) {
+            throw new BusinessException("Discente não possui data limite definida");
+        }
+
         // Atualizar data limite
         LocalDate novaDataLimite = discente.getDataLimiteAtual().plusMonths(meses);
         discente.setDataLimiteAtual(novaDataLimite);
 
         discente = discenteRepository.save(discente);
+        eventPublisher.publishEvent(new PrazoDiscenteAlteradoEvent(discente.getId()));
 
         log.info("Prorrogação adicionada com sucesso. Nova data limite: {}", novaDataLimite);
         return discenteMapper.toResponseDTO(discente);
@@ -422,16 +429,16 @@ public class DiscenteService {
         Discente discente = discenteRepository.findById(discenteId)
                 .orElseThrow(() -> new ResourceNotFoundException("Discente não encontrado"));
 
+        EstadoEstatistico anterior = EstadoEstatistico.de(discente);
+        Orientacao orientacaoAnterior = Orientacao.de(discente);
         discente.setStatus(StatusDiscente.DESLIGADO);
         discente.setMotivoDesligamento(motivo);
         discente.setDataDesligamento(LocalDate.now());
 
         discente = discenteRepository.save(discente);
-
-        // Atualizar contagem de orientações do orientador
-        if (discente.getOrientador() != null) {
-            atualizarContagemOrientacoes(discente.getOrientador());
-        }
+        publicarSeAlterado(discente, anterior);
+        eventPublisher.publishEvent(new PrazoDiscenteAlteradoEvent(discente.getId()));
+        atualizarCargaOrientacao(orientacaoAnterior, discente);
 
         log.info("Discente desligado com sucesso");
         return discenteMapper.toResponseDTO(discente);
@@ -451,8 +458,13 @@ public class DiscenteService {
             throw new BusinessException("Discente ainda não defendeu");
         }
 
+        EstadoEstatistico anterior = EstadoEstatistico.de(discente);
+        Orientacao orientacaoAnterior = Orientacao.de(discente);
         discente.setStatus(StatusDiscente.TITULADO);
         discente = discenteRepository.save(discente);
+        publicarSeAlterado(discente, anterior);
+        eventPublisher.publishEvent(new PrazoDiscenteAlteradoEvent(discente.getId()));
+        atualizarCargaOrientacao(orientacaoAnterior, discente);
 
         log.info("Discente titulado com sucesso");
         return discenteMapper.toResponseDTO(discente);
@@ -461,34 +473,35 @@ public class DiscenteService {
     /**
      * Retorna estatísticas de discentes de um programa
      */
-    @Transactional(readOnly = true)
     public Map<String, Object> getEstatisticasPorPrograma(Long programaId) {
-        log.debug("Calculando estatísticas de discentes do programa: {}", programaId);
-
-        if (!programaRepository.existsById(programaId)) {
-            throw new ResourceNotFoundException("Programa não encontrado");
-        }
-
-        Map<String, Long> stats = discenteRepository.getEstatisticasPorPrograma(programaId);
-
-        Map<String, Object> result = new HashMap<>(stats);
-        result.put("ativos", discenteRepository.countByProgramaIdAndStatus(programaId, StatusDiscente.CURSANDO));
-        result.put("qualificados", discenteRepository.countByProgramaIdAndStatus(programaId, StatusDiscente.QUALIFICADO));
-
-        return result;
+        return estatisticasProgramaService.discentes(programaId);
     }
 
     /**
-     * Atualiza a contagem de orientações de um docente
+     * Prazos de qualificação e defesa do programa vencidos ou que vencem nos próximos dias
      */
-    private void atualizarContagemOrientacoes(Docente docente) {
-        long mestradoAndamento = discenteRepository.countByOrientadorId(docente.getId());
-        long doutoradoAndamento = discenteRepository.countByOrientadorId(docente.getId());
+    public List<PrazoDiscenteDTO> buscarPrazosEmRisco(Long programaId, int dias) {
+        log.debug("Buscando prazos em risco do programa {} nos próximos {} dias", programaId, dias);
 
-        // Aqui seria ideal filtrar por tipo de curso, mas por simplicidade estamos contando todos
-        // Em uma implementação real, você criaria queries específicas no repository
+        if (!programaRepository.existsById(programaId)) {
+            throw new ResourceNotFoundException("Programa não encontrado");
+        }
+        if (dias < 0) {
+            throw new BusinessException("O número de dias não pode ser negativo");
+        }
 
-        docenteRepository.save(docente);
+        LocalDate hoje = LocalDate.now();
+        return monitorPrazos.emRisco(programaId, dias).stream()
+                .map(prazo -> PrazoDiscenteDTO.builder()
+                        .discenteId(prazo.discenteId())
+                        .numeroMatricula(prazo.matricula())
+                        .nome(prazo.nome())
+                        .tipo(prazo.tipo())
+                        .data(prazo.data())
+                        .diasRestantes(ChronoUnit.DAYS.between(hoje, prazo.data()))
+                        .vencido(prazo.data().isBefore(hoje))
+                        .build())
+                .toList();
     }
 
     /**
@@ -501,8 +514,67 @@ public class DiscenteService {
         Discente discente = discenteRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Discente não encontrado"));
 
+        Orientacao orientacaoAnterior = Orientacao.de(discente);
         discenteRepository.delete(discente);
+        eventPublisher.publishEvent(new DiscenteAlteradoEvent(id, discente.getPrograma().getId(), null));
+        eventPublisher.publishEvent(new PrazoDiscenteAlteradoEvent(id));
+        atualizarCargaOrientacao(orientacaoAnterior, null);
 
         log.info("Discente deletado com sucesso: {}", id);
     }
+
+    /**
+     * Publica {@link DiscenteAlteradoEvent} quando muda algum campo contado nas estatísticas
+     */
+    private void publicarSeAlterado(Discente discente, EstadoEstatistico anterior) {
+        if (!anterior.equals(EstadoEstatistico.de(discente))) {
+            eventPublisher.publishEvent(new DiscenteAlteradoEvent(
+                    discente.getId(), anterior.programaId(), discente.getPrograma().getId()));
+        }
+    }
+
+    /**
+     * Ajusta os contadores de orientação quando muda a orientação contada do discente
+     * (ativo com orientador); a orientação encerrada por titulação conta como concluída.
+     *
+     * @param discente discente após a alteração, ou nulo se excluído
+     */
+    private void atualizarCargaOrientacao(Orientacao anterior, Discente discente) {
+        Orientacao atual = discente != null ? Orientacao.de(discente) : null;
+        if (Objects.equals(anterior, atual)) {
+            return;
+        }
+        if (anterior != null) {
+            boolean titulado = discente != null && discente.getStatus() == StatusDiscente.TITULADO;
+            cargaOrientacoes.encerrar(anterior.orientadorId(), anterior.tipoCurso(), titulado);
+        }
+        if (atual != null) {
+            cargaOrientacoes.iniciar(atual.orientadorId(), atual.tipoCurso());
+        }
+    }
+
+    /**
+     * Orientação contada na carga do orientador: discente ativo com orientador
+     */
+    private record Orientacao(Long orientadorId, TipoCurso tipoCurso) {
+
+        static Orientacao de(Discente discente) {
+            if (!discente.isAtivo() || discente.getOrientador() == null) {
+                return null;
+            }
+            return new Orientacao(discente.getOrientador().getId(), discente.getTipoCurso());
+        }
+    }
+
+    /**
+     * Campos do discente que entram nas estatísticas do programa
+     */
+    private record EstadoEstatistico(Long programaId, StatusDiscente status,
+                                     TipoCurso tipoCurso, Boolean bolsista) {
+
+        static EstadoEstatistico de(Discente discente) {
+            return new EstadoEstatistico(discente.getPrograma().getId(), discente.getStatus(),
+                    discente.getTipoCurso(), discente.getBolsista());
+        }
+    }
 }
@@ -5,6 +5,7 @@ import br.edu.ppg.hub.academic.application.dto.disciplina.DisciplinaMapper;
 import br.edu.ppg.hub.academic.application.dto.disciplina.DisciplinaResponseDTO;
 import br.edu.ppg.hub.academic.application.dto.disciplina.DisciplinaUpdateDTO;
 import br.edu.ppg.hub.academic.domain.enums.StatusDisciplina;
+import br.edu.ppg.hub.academic.domain.event.DisciplinaAlteradaEvent;
 import br.edu.ppg.hub.academic.domain.enums.TipoDisciplina;
 import br.edu.ppg.hub.academic.domain.model.Disciplina;
 import br.edu.ppg.hub.academic.infrastructure.repository.DisciplinaRepository;
@@ -17,6 +18,7 @@ import br.edu.ppg.hub.shared.exception.DuplicateResourceException;
 import br.edu.ppg.hub.shared.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -42,6 +44,8 @@ public class DisciplinaService {
     private final ProgramaRepository programaRepository;
     private final LinhaPesquisaRepository linhaPesquisaRepository;
     private final DisciplinaMapper disciplinaMapper;
+    private final RequisitosDisciplinaService requisitosDisciplinaService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Cria uma nova disciplina
@@ -82,9 +86,13 @@ public class DisciplinaService {
         // Validar créditos
         validarCreditos(dto.getCargaHorariaTotal(), dto.getCreditos());
 
+        // Validar pré-requisitos e co-requisitos
+        requisitosDisciplinaService.validarRequisitos(null, programa.getId(), dto.getPreRequisitos(), dto.getCoRequisitos());
+
         // Criar disciplina
         Disciplina disciplina = disciplinaMapper.toEntity(dto, programa, linhaPesquisa);
         disciplina = disciplinaRepository.save(disciplina);
+        eventPublisher.publishEvent(new DisciplinaAlteradaEvent(disciplina.getId()));
 
         log.info("Disciplina criada com sucesso: {}", disciplina.getId());
         return disciplinaMapper.toResponseDTO(disciplina);
@@ -128,8 +136,16 @@ public class DisciplinaService {
         Integer creditos = dto.getCreditos() != null ? dto.getCreditos() : disciplina.getCreditos();
         validarCreditos(cargaTotal, creditos);
 
+        // Validar pré-requisitos e co-requisitos se alterados
+        if (dto.getPreRequisitos() != null || dto.getCoRequisitos() != null) {
+            requisitosDisciplinaService.validarRequisitos(id, disciplina.getPrograma().getId(),
+                    dto.getPreRequisitos() != null ? dto.getPreRequisitos() : disciplina.getPreRequisitos(),
+                    dto.getCoRequisitos() != null ? dto.getCoRequisitos() : disciplina.getCoRequisitos());
+        }
+
         disciplinaMapper.updateEntity(disciplina, dto, linhaPesquisa);
         disciplina = disciplinaRepository.save(disciplina);
+        eventPublisher.publishEvent(new DisciplinaAlteradaEvent(disciplina.getId()));
 
         log.info("Disciplina atualizada com sucesso: {}", id);
         return disciplinaMapper.toResponseDTO(disciplina);
@@ -235,6 +251,7 @@ public class DisciplinaService {
 
         disciplina.setStatus(StatusDisciplina.ATIVA);
         disciplina = disciplinaRepository.save(disciplina);
+        eventPublisher.publishEvent(new DisciplinaAlteradaEvent(disciplina.getId()));
 
         log.info("Disciplina ativada com sucesso: {}", id);
         return disciplinaMapper.toResponseDTO(disciplina);
@@ -256,6 +273,7 @@ public class DisciplinaService {
 
         disciplina.setStatus(StatusDisciplina.INATIVA);
         disciplina = disciplinaRepository.save(disciplina);
+        eventPublisher.publishEvent(new DisciplinaAlteradaEvent(disciplina.getId()));
 
         log.info("Disciplina desativada com sucesso: {}", id);
         return disciplinaMapper.toResponseDTO(disciplina);
@@ -310,6 +328,7 @@ public class DisciplinaService {
                 .build();
 
         nova = disciplinaRepository.save(nova);
+        eventPublisher.publishEvent(new DisciplinaAlteradaEvent(nova.getId()));
 
         log.info("Disciplina duplicada com sucesso: {}", nova.getId());
         return disciplinaMapper.toResponseDTO(nova);
@@ -332,6 +351,7 @@ public class DisciplinaService {
         }
 
         disciplinaRepository.delete(disciplina);
+        eventPublisher.publishEvent(new DisciplinaAlteradaEvent(id));
         log.info("Disciplina deletada com sucesso: {}", id);
     }
 
@@ -3,10 +3,15 @@ package br.edu.ppg.hub.academic.application.service;
 import br.edu.ppg.hub.academic.application.dto.docente.DocenteCreateDTO;
 import br.edu.ppg.hub.academic.application.dto.docente.DocenteMapper;
 import br.edu.ppg.hub.academic.application.dto.docente.DocenteResponseDTO;
+import br.edu.ppg.hub.academic.application.dto.docente.DocenteResumoDTO;
 import br.edu.ppg.hub.academic.application.dto.docente.DocenteUpdateDTO;
+import br.edu.ppg.hub.academic.application.dto.docente.OrientadorRecomendadoDTO;
 import br.edu.ppg.hub.academic.domain.enums.StatusDocente;
+import br.edu.ppg.hub.academic.domain.enums.TipoCurso;
 import br.edu.ppg.hub.academic.domain.enums.TipoVinculoDocente;
+import br.edu.ppg.hub.academic.domain.event.DocenteAlteradoEvent;
 import br.edu.ppg.hub.academic.domain.model.Docente;
+import br.edu.ppg.hub.academic.infrastructure.orientacao.CargaOrientacoes;
 import br.edu.ppg.hub.academic.infrastructure.repository.DocenteRepository;
 import br.edu.ppg.hub.auth.domain.model.Usuario;
 import br.edu.ppg.hub.auth.infrastructure.repository.UsuarioRepository;
@@ -19,15 +24,16 @@ import br.edu.ppg.hub.shared.exception.DuplicateResourceException;
 import br.edu.ppg.hub.shared.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Service para operações com Docentes
@@ -45,6 +51,9 @@ public class DocenteService {
     private final ProgramaRepository programaRepository;
     private final LinhaPesquisaRepository linhaPesquisaRepository;
     private final DocenteMapper docenteMapper;
+    private final EstatisticasProgramaService estatisticasProgramaService;
+    private final CargaOrientacoes cargaOrientacoes;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Cria um novo docente
@@ -79,6 +88,7 @@ public class DocenteService {
         // Criar docente
         Docente docente = docenteMapper.toEntity(dto, usuario, programa, linhaPesquisa);
         docente = docenteRepository.save(docente);
+        eventPublisher.publishEvent(new DocenteAlteradoEvent(docente.getId(), null, programa.getId()));
 
         log.info("Docente criado com sucesso: {}", docente.getId());
         return docenteMapper.toResponseDTO(docente);
@@ -105,8 +115,10 @@ public class DocenteService {
             }
         }
 
+        EstadoEstatistico anterior = EstadoEstatistico.de(docente);
         docenteMapper.updateEntity(docente, dto, linhaPesquisa);
         docente = docenteRepository.save(docente);
+        publicarSeAlterado(docente, anterior);
 
         log.info("Docente atualizado com sucesso: {}", id);
         return docenteMapper.toResponseDTO(docente);
@@ -129,17 +141,16 @@ public class DocenteService {
      * Busca todos os docentes (paginado)
      */
     @Transactional(readOnly = true)
-    public Page<DocenteResponseDTO> buscarTodos(Pageable pageable) {
+    public Page<DocenteResumoDTO> buscarTodos(Pageable pageable) {
         log.debug("Buscando todos os docentes");
-        return docenteRepository.findAll(pageable)
-                .map(docenteMapper::toResponseDTO);
+        return docenteRepository.findResumos(pageable).map(docenteMapper::toResumoDTO);
     }
 
     /**
      * Busca docentes por programa
      */
     @Transactional(readOnly = true)
-    public Page<DocenteResponseDTO> buscarPorPrograma(Long programaId, Pageable pageable) {
+    public Page<DocenteResumoDTO> buscarPorPrograma(Long programaId, Pageable pageable) {
         log.debug("Buscando docentes do programa: {}", programaId);
 
         // Validar se o programa existe
@@ -147,48 +158,46 @@ public class DocenteService {
             throw new ResourceNotFoundException("Programa não encontrado");
         }
 
-        return docenteRepository.findByProgramaId(programaId, pageable)
-                .map(docenteMapper::toResponseDTO);
+        return docenteRepository.findResumosByProgramaId(programaId, pageable).map(docenteMapper::toResumoDTO);
     }
 
     /**
      * Busca docentes por programa e status
      */
     @Transactional(readOnly = true)
-    public Page<DocenteResponseDTO> buscarPorProgramaEStatus(Long programaId, StatusDocente status, Pageable pageable) {
+    public Page<DocenteResumoDTO> buscarPorProgramaEStatus(Long programaId, StatusDocente status, Pageable pageable) {
         log.debug("Buscando docentes do programa {} com status {}", programaId, status);
 
         if (!programaRepository.existsById(programaId)) {
             throw new ResourceNotFoundException("Programa não encontrado");
         }
 
-        return docenteRepository.findByProgramaIdAndStatus(programaId, status, pageable)
-                .map(docenteMapper::toResponseDTO);
+        return docenteRepository.findResumosByProgramaIdAndStatus(programaId, status, pageable)
+                .map(docenteMapper::toResumoDTO);
     }
 
     /**
      * Busca docentes por tipo de vínculo
      */
     @Transactional(readOnly = true)
-    public Page<DocenteResponseDTO> buscarPorTipoVinculo(TipoVinculoDocente tipoVinculo, Pageable pageable) {
+    public Page<DocenteResumoDTO> buscarPorTipoVinculo(TipoVinculoDocente tipoVinculo, Pageable pageable) {
         log.debug("Buscando docentes com tipo de vínculo: {}", tipoVinculo);
-        return docenteRepository.findByTipoVinculo(tipoVinculo, pageable)
-                .map(docenteMapper::toResponseDTO);
+        return docenteRepository.findResumosByTipoVinculo(tipoVinculo, pageable).map(docenteMapper::toResumoDTO);
     }
 
     /**
      * Busca docentes por linha de pesquisa
      */
     @Transactional(readOnly = true)
-    public Page<DocenteResponseDTO> buscarPorLinhaPesquisa(Long linhaPesquisaId, Pageable pageable) {
+    public Page<DocenteResumoDTO> buscarPorLinhaPesquisa(Long linhaPesquisaId, Pageable pageable) {
         log.debug("Buscando docentes da linha de pesquisa: {}", linhaPesquisaId);
 
         if (!linhaPesquisaRepository.existsById(linhaPesquisaId)) {
             throw new ResourceNotFoundException("Linha de pesquisa não encontrada");
         }
 
-        return docenteRepository.findByLinhaPesquisaId(linhaPesquisaId, pageable)
-                .map(docenteMapper::toResponseDTO);
+        return docenteRepository.findResumosByLinhaPesquisaId(linhaPesquisaId, pageable)
+                .map(docenteMapper::toResumoDTO);
     }
 
     /**
@@ -208,6 +217,32 @@ public class DocenteService {
                 .toList();
     }
 
+    /**
+     * Recomenda orientadores para um novo discente: docentes ativos com vagas, da
+     * linha de pesquisa informada primeiro e dos menos para os mais carregados
+     */
+    public List<OrientadorRecomendadoDTO> recomendarOrientadores(Long programaId, Long linhaPesquisaId,
+                                                                 TipoCurso tipoCurso, int limite) {
+        log.debug("Recomendando orientadores no programa {} para a linha {}", programaId, linhaPesquisaId);
+
+        if (!programaRepository.existsById(programaId)) {
+            throw new ResourceNotFoundException("Programa não encontrado");
+        }
+
+        return cargaOrientacoes.recomendar(programaId, linhaPesquisaId, tipoCurso, limite).stream()
+                .map(carga -> OrientadorRecomendadoDTO.builder()
+                        .docenteId(carga.docenteId())
+                        .nome(carga.nome())
+                        .linhaPesquisaId(carga.linhaPesquisaId())
+                        .mesmaLinhaPesquisa(linhaPesquisaId != null
+                                && Objects.equals(carga.linhaPesquisaId(), linhaPesquisaId))
+                        .orientacoesMestradoAndamento(carga.mestrado())
+                        .orientacoesDoutoradoAndamento(carga.doutorado())
+                        .vagas(Docente.LIMITE_ORIENTACOES - carga.total())
+                        .build())
+                .toList();
+    }
+
     /**
      * Ativa um docente
      */
@@ -218,11 +253,13 @@ public class DocenteService {
         Docente docente = docenteRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Docente não encontrado"));
 
+        EstadoEstatistico anterior = EstadoEstatistico.de(docente);
         docente.setStatus(StatusDocente.ATIVO);
         docente.setDataDesvinculacao(null);
         docente.setMotivoDesligamento(null);
 
         docente = docenteRepository.save(docente);
+        publicarSeAlterado(docente, anterior);
 
         log.info("Docente ativado com sucesso: {}", id);
         return docenteMapper.toResponseDTO(docente);
@@ -238,11 +275,13 @@ public class DocenteService {
         Docente docente = docenteRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Docente não encontrado"));
 
+        EstadoEstatistico anterior = EstadoEstatistico.de(docente);
         docente.setStatus(StatusDocente.DESLIGADO);
         docente.setDataDesvinculacao(LocalDate.now());
         docente.setMotivoDesligamento(motivo);
 
         docente = docenteRepository.save(docente);
+        publicarSeAlterado(docente, anterior);
 
         log.info("Docente desativado com sucesso: {}", id);
         return docenteMapper.toResponseDTO(docente);
@@ -258,10 +297,12 @@ public class DocenteService {
         Docente docente = docenteRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Docente não encontrado"));
 
+        EstadoEstatistico anterior = EstadoEstatistico.de(docente);
         docente.setStatus(StatusDocente.AFASTADO);
         docente.setMotivoDesligamento(motivo);
 
         docente = docenteRepository.save(docente);
+        publicarSeAlterado(docente, anterior);
 
         log.info("Docente afastado com sucesso: {}", id);
         return docenteMapper.toResponseDTO(docente);
@@ -277,11 +318,13 @@ public class DocenteService {
         Docente docente = docenteRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Docente não encontrado"));
 
+        EstadoEstatistico anterior = EstadoEstatistico.de(docente);
         docente.setStatus(StatusDocente.APOSENTADO);
         docente.setDataDesvinculacao(LocalDate.now());
         docente.setMotivoDesligamento("Aposentadoria");
 
         docente = docenteRepository.save(docente);
+        publicarSeAlterado(docente, anterior);
 
         log.info("Docente aposentado com sucesso: {}", id);
         return docenteMapper.toResponseDTO(docente);
@@ -332,23 +375,8 @@ public class DocenteService {
     /**
      * Retorna estatísticas de docentes de um programa
      */
-    @Transactional(readOnly = true)
     public Map<String, Object> getEstatisticasPorPrograma(Long programaId) {
-        log.debug("Calculando estatísticas de docentes do programa: {}", programaId);
-
-        if (!programaRepository.existsById(programaId)) {
-            throw new ResourceNotFoundException("Programa não encontrado");
-        }
-
-        Map<String, Object> stats = new HashMap<>();
-        stats.put("total", docenteRepository.countByProgramaId(programaId));
-        stats.put("ativos", docenteRepository.countByProgramaIdAndStatus(programaId, StatusDocente.ATIVO));
-        stats.put("afastados", docenteRepository.countByProgramaIdAndStatus(programaId, StatusDocente.AFASTADO));
-        stats.put("permanentes", docenteRepository.countByProgramaIdAndTipoVinculo(programaId, TipoVinculoDocente.PERMANENTE));
-        stats.put("colaboradores", docenteRepository.countByProgramaIdAndTipoVinculo(programaId, TipoVinculoDocente.COLABORADOR));
-        stats.put("bolsistasProdutividade", docenteRepository.findBolsistasProdutividade(programaId).size());
-
-        return stats;
+        return estatisticasProgramaService.docentes(programaId);
     }
 
     /**
@@ -362,7 +390,30 @@ public class DocenteService {
                 .orElseThrow(() -> new ResourceNotFoundException("Docente não encontrado"));
 
         docenteRepository.delete(docente);
+        eventPublisher.publishEvent(new DocenteAlteradoEvent(id, docente.getPrograma().getId(), null));
 
         log.info("Docente deletado com sucesso: {}", id);
     }
+
+    /**
+     * Publica {@link DocenteAlteradoEvent} quando muda algum campo contado nas estatísticas
+     */
+    private void publicarSeAlterado(Docente docente, EstadoEstatistico anterior) {
+        if (!anterior.equals(EstadoEstatistico.de(docente))) {
+            eventPublisher.publishEvent(new DocenteAlteradoEvent(
+                    docente.getId(), anterior.programaId(), docente.getPrograma().getId()));
+        }
+    }
+
+    /**
+     * Campos do docente que entram nas estatísticas do programa
+     */
+    private record EstadoEstatistico(Long programaId, StatusDocente status,
+                                     TipoVinculoDocente tipoVinculo, boolean bolsistaProdutividade) {
+
+        static EstadoEstatistico de(Docente docente) {
+            return new EstadoEstatistico(docente.getPrograma().getId(), docente.getStatus(),
+                    docente.getTipoVinculo(), docente.temBolsaProdutividadeVigente());
+        }
+    }
 }
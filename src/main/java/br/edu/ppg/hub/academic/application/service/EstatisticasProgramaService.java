@@ -0,0 +1,167 @@
+package br.edu.ppg.hub.academic.application.service;
+
+import br.edu.ppg.hub.academic.domain.event.DiscenteAlteradoEvent;
+import br.edu.ppg.hub.academic.domain.event.DocenteAlteradoEvent;
+import br.edu.ppg.hub.academic.infrastructure.repository.DiscenteRepository;
+import br.edu.ppg.hub.academic.infrastructure.repository.DocenteRepository;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.EstatisticasDiscentesProjection;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.EstatisticasDocentesProjection;
+import br.edu.ppg.hub.core.infrastructure.repository.ProgramaRepository;
+import br.edu.ppg.hub.shared.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Estatísticas de docentes e discentes por programa (página inicial da coordenação).
+ *
+ * <p>Cada grupo é calculado em uma única consulta de agregação condicional e
+ * mantido em cache por programa. As entradas são removidas após o commit das
+ * alterações que mudam as contagens, sinalizadas por {@link DocenteAlteradoEvent}
+ * e {@link DiscenteAlteradoEvent}; a expiração do cache é apenas uma rede de
+ * segurança (ex.: vigência de bolsa que vence com a passagem do dia).</p>
+ *
+ * <p>Uma leitura que começou antes do commit pode terminar depois da remoção e
+ * gravar de volta as contagens antigas. Por isso cada programa tem uma versão,
+ * incrementada a cada invalidação: a entrada guarda a versão lida antes da
+ * consulta e só é servida enquanto ela for a atual.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EstatisticasProgramaService {
+
+    public static final String CACHE_DOCENTES = "estatisticasDocentesPrograma";
+    public static final String CACHE_DISCENTES = "estatisticasDiscentesPrograma";
+
+    private final DocenteRepository docenteRepository;
+    private final DiscenteRepository discenteRepository;
+    private final ProgramaRepository programaRepository;
+    private final CacheManager cacheManager;
+
+    private final Map<Long, AtomicLong> versoesDocentes = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> versoesDiscentes = new ConcurrentHashMap<>();
+
+    /**
+     * Valor em cache com a versão do programa lida antes de calculá-lo
+     */
+    private record Entrada(long versao, Map<String, Object> valor) {
+    }
+
+    /**
+     * Estatísticas de docentes de um programa
+     */
+    public Map<String, Object> docentes(Long programaId) {
+        return emCache(CACHE_DOCENTES, versoesDocentes, programaId, () -> calcularDocentes(programaId));
+    }
+
+    /**
+     * Estatísticas de discentes de um programa
+     */
+    public Map<String, Object> discentes(Long programaId) {
+        return emCache(CACHE_DISCENTES, versoesDiscentes, programaId, () -> calcularDiscentes(programaId));
+    }
+
+    private Map<String, Object> calcularDocentes(Long programaId) {
+        log.debug("Calculando estatísticas de docentes do programa: {}", programaId);
+        validarPrograma(programaId);
+
+        EstatisticasDocentesProjection stats = docenteRepository.getEstatisticasPorPrograma(programaId);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("total", stats.getTotal());
+        result.put("ativos", stats.getAtivos());
+        result.put("afastados", stats.getAfastados());
+        result.put("permanentes", stats.getPermanentes());
+        result.put("colaboradores", stats.getColaboradores());
+        result.put("bolsistasProdutividade", stats.getBolsistasProdutividade());
+        return Collections.unmodifiableMap(result);
+    }
+
+    private Map<String, Object> calcularDiscentes(Long programaId) {
+        log.debug("Calculando estatísticas de discentes do programa: {}", programaId);
+        validarPrograma(programaId);
+
+        EstatisticasDiscentesProjection stats = discenteRepository.getEstatisticasPorPrograma(programaId);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("total", stats.getTotal());
+        result.put("totalMestrado", stats.getTotalMestrado());
+        result.put("totalDoutorado", stats.getTotalDoutorado());
+        result.put("totalTitulados", stats.getTotalTitulados());
+        result.put("totalBolsistas", stats.getTotalBolsistas());
+        result.put("ativos", stats.getAtivos());
+        result.put("qualificados", stats.getQualificados());
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Invalida as estatísticas de docentes dos programas afetados, após o commit
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocenteAlterado(DocenteAlteradoEvent event) {
+        invalidar(CACHE_DOCENTES, versoesDocentes, event.programasAfetados());
+    }
+
+    /**
+     * Invalida as estatísticas de discentes dos programas afetados, após o commit
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDiscenteAlterado(DiscenteAlteradoEvent event) {
+        invalidar(CACHE_DISCENTES, versoesDiscentes, event.programasAfetados());
+    }
+
+    /**
+     * Serve a entrada do cache se ainda for da versão atual; senão calcula e grava com a
+     * versão lida antes do cálculo. Uma gravação atrasada fica com versão antiga e não é servida.
+     */
+    private Map<String, Object> emCache(String nomeCache, Map<Long, AtomicLong> versoes, Long programaId,
+                                        Supplier<Map<String, Object>> calculo) {
+        AtomicLong versao = versoes.get(programaId);
+        long lida = versao == null ? 0 : versao.get();
+
+        Cache cache = cacheManager.getCache(nomeCache);
+        if (cache == null) {
+            return calculo.get();
+        }
+        Entrada entrada = cache.get(programaId, Entrada.class);
+        if (entrada != null && entrada.versao() == lida) {
+            return entrada.valor();
+        }
+
+        Map<String, Object> valor = calculo.get();
+        cache.put(programaId, new Entrada(lida, valor));
+        return valor;
+    }
+
+    private void invalidar(String nomeCache, Map<Long, AtomicLong> versoes, Set<Long> programaIds) {
+        Cache cache = cacheManager.getCache(nomeCache);
+        for (Long programaId : programaIds) {
+            versoes.computeIfAbsent(programaId, id -> new AtomicLong()).incrementAndGet();
+            if (cache != null) {
+                cache.evict(programaId);
+            }
+            log.debug("Estatísticas invalidadas: cache={}, programa={}", nomeCache, programaId);
+        }
+    }
+
+    private void validarPrograma(Long programaId) {
+        if (!programaRepository.existsById(programaId)) {
+            throw new ResourceNotFoundException("Programa não encontrado");
+        }
+    }
+}
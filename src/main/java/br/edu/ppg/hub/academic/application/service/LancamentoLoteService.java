@@ -0,0 +1,295 @@
+package br.edu.ppg.hub.academic.application.service;
+
+import br.edu.ppg.hub.academic.application.dto.matricula_disciplina.LancamentoLinhaDTO;
+import br.edu.ppg.hub.academic.application.dto.matricula_disciplina.LancamentoLoteResultadoDTO;
+import br.edu.ppg.hub.academic.application.dto.matricula_disciplina.LancamentoLoteResultadoDTO.ErroLinha;
+import br.edu.ppg.hub.academic.domain.enums.StatusMatricula;
+import br.edu.ppg.hub.academic.domain.model.OfertaDisciplina;
+import br.edu.ppg.hub.academic.infrastructure.repository.LancamentoLoteRepository;
+import br.edu.ppg.hub.academic.infrastructure.repository.MatriculaDisciplinaRepository;
+import br.edu.ppg.hub.academic.infrastructure.repository.OfertaDisciplinaRepository;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.LancamentoMatriculaProjection;
+import br.edu.ppg.hub.auth.application.service.AuditService;
+import br.edu.ppg.hub.shared.exception.BusinessException;
+import br.edu.ppg.hub.shared.exception.ResourceNotFoundException;
+import br.edu.ppg.hub.shared.util.CsvReader;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service para lançamento em lote de notas e frequências de uma oferta
+ *
+ * O arquivo (CSV ou JSON) é lido de forma incremental e cada linha é validada em
+ * memória contra as matrículas da oferta, carregadas em uma única consulta. Sem
+ * erros, todas as linhas são gravadas com um único UPDATE e um único evento de
+ * auditoria; com qualquer erro nada é gravado e todos os erros são retornados.
+ * A leitura do arquivo não ocorre dentro de transação (sem conexão presa durante
+ * o upload); o UPDATE único é atômico por si só.
+ *
+ * CSV: cabeçalho com matriculaId ou numeroMatricula e nota e/ou frequencia,
+ * separado por vírgula ou ponto e vírgula (decimais com ponto ou vírgula).
+ * JSON: array de objetos com os mesmos campos.
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LancamentoLoteService {
+
+    /**
+     * Limite de linhas por arquivo
+     */
+    private static final int MAX_LINHAS = 5000;
+
+    private static final BigDecimal NOTA_MAXIMA = new BigDecimal("10.0");
+    private static final BigDecimal FREQUENCIA_MAXIMA = new BigDecimal("100.0");
+
+    private final OfertaDisciplinaRepository ofertaDisciplinaRepository;
+    private final MatriculaDisciplinaRepository matriculaRepository;
+    private final LancamentoLoteRepository lancamentoLoteRepository;
+    private final AuditService auditService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Importa lançamentos a partir de um CSV
+     */
+    public LancamentoLoteResultadoDTO importarCsv(Long ofertaId, InputStream conteudo) {
+        log.info("Importando lançamentos (CSV) para oferta: {}", ofertaId);
+
+        Validacao validacao = iniciar(ofertaId);
+        try (CsvReader csv = new CsvReader(new BufferedReader(new InputStreamReader(conteudo, StandardCharsets.UTF_8)))) {
+            Map<String, Integer> colunas = indexarColunas(csv.getCabecalho());
+            List<String> campos;
+            while ((campos = csv.proximoRegistro()) != null && !validacao.limiteExcedido) {
+                int linha = csv.getLinhaRegistro();
+                try {
+                    validacao.validar(linha, LancamentoLinhaDTO.builder()
+                            .matriculaId(parseLong(campo(campos, colunas, "matriculaid")))
+                            .numeroMatricula(campo(campos, colunas, "numeromatricula"))
+                            .nota(parseDecimal(campo(campos, colunas, "nota")))
+                            .frequencia(parseDecimal(campo(campos, colunas, "frequencia")))
+                            .build());
+                } catch (NumberFormatException e) {
+                    validacao.erro(linha, null, "Valor numérico inválido");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao ler o arquivo CSV", e);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(e.getMessage());
+        }
+
+        return aplicar(ofertaId, validacao);
+    }
+
+    /**
+     * Importa lançamentos a partir de um array JSON
+     */
+    public LancamentoLoteResultadoDTO importarJson(Long ofertaId, InputStream conteudo) {
+        log.info("Importando lançamentos (JSON) para oferta: {}", ofertaId);
+
+        Validacao validacao = iniciar(ofertaId);
+        int linha = 0;
+        try (MappingIterator<LancamentoLinhaDTO> linhas = objectMapper.readerFor(LancamentoLinhaDTO.class).readValues(conteudo)) {
+            while (linhas.hasNextValue() && !validacao.limiteExcedido) {
+                linha++;
+                validacao.validar(linha, linhas.nextValue());
+            }
+        } catch (JsonProcessingException e) {
+            // JSON malformado: não é possível continuar a leitura com segurança
+            validacao.erro(linha + 1, null, "JSON inválido: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao ler o JSON", e);
+        }
+
+        return aplicar(ofertaId, validacao);
+    }
+
+    private Validacao iniciar(Long ofertaId) {
+        OfertaDisciplina oferta = ofertaDisciplinaRepository.findById(ofertaId)
+                .orElseThrow(() -> new ResourceNotFoundException("Oferta de disciplina não encontrada"));
+
+        if (!oferta.permiteLancarNotas()) {
+            throw new BusinessException("Oferta não está em período de lançamento de notas");
+        }
+
+        return new Validacao(matriculaRepository.findParaLancamentoEmLote(ofertaId));
+    }
+
+    private LancamentoLoteResultadoDTO aplicar(Long ofertaId, Validacao validacao) {
+        if (validacao.limiteExcedido) {
+            validacao.erro(null, null, "Arquivo excede o limite de " + MAX_LINHAS + " linhas");
+        }
+
+        int atualizadas = 0;
+        if (validacao.erros.isEmpty() && !validacao.lancamentos.isEmpty()) {
+            int total = validacao.lancamentos.size();
+            Long[] ids = new Long[total];
+            BigDecimal[] notas = new BigDecimal[total];
+            BigDecimal[] frequencias = new BigDecimal[total];
+            int i = 0;
+            for (Map.Entry<Long, LancamentoLinhaDTO> entry : validacao.lancamentos.entrySet()) {
+                ids[i] = entry.getKey();
+                notas[i] = entry.getValue().getNota();
+                frequencias[i] = entry.getValue().getFrequencia();
+                i++;
+            }
+
+            atualizadas = lancamentoLoteRepository.aplicar(ofertaId, ids, notas, frequencias);
+
+            Map<String, Object> resumo = new HashMap<>();
+            resumo.put("matriculas", total);
+            resumo.put("atualizadas", atualizadas);
+            auditService.registrarAcao("LANCAMENTO_LOTE", "OfertaDisciplina", ofertaId, null, resumo);
+        }
+
+        log.info("Lançamento em lote da oferta {}: {} linhas, {} atualizadas, {} erros",
+                ofertaId, validacao.totalLinhas, atualizadas, validacao.erros.size());
+
+        return LancamentoLoteResultadoDTO.builder()
+                .ofertaId(ofertaId)
+                .totalLinhas(validacao.totalLinhas)
+                .atualizadas(atualizadas)
+                .erros(validacao.erros)
+                .build();
+    }
+
+    private Map<String, Integer> indexarColunas(List<String> cabecalho) {
+        Map<String, Integer> colunas = new HashMap<>();
+        for (int i = 0; i < cabecalho.size(); i++) {
+            colunas.put(cabecalho.get(i).toLowerCase().replace("_", ""), i);
+        }
+        if (!colunas.containsKey("matriculaid") && !colunas.containsKey("numeromatricula")) {
+            throw new BusinessException("Cabeçalho deve conter a coluna matriculaId ou numeroMatricula");
+        }
+        if (!colunas.containsKey("nota") && !colunas.containsKey("frequencia")) {
+            throw new BusinessException("Cabeçalho deve conter a coluna nota e/ou frequencia");
+        }
+        return colunas;
+    }
+
+    private String campo(List<String> campos, Map<String, Integer> colunas, String coluna) {
+        Integer indice = colunas.get(coluna);
+        if (indice == null || indice >= campos.size()) {
+            return null;
+        }
+        String valor = campos.get(indice).trim();
+        return valor.isEmpty() ? null : valor;
+    }
+
+    private Long parseLong(String valor) {
+        return valor != null ? Long.valueOf(valor) : null;
+    }
+
+    private BigDecimal parseDecimal(String valor) {
+        return valor != null ? new BigDecimal(valor.replace(',', '.')) : null;
+    }
+
+    /**
+     * Acumula lançamentos válidos e erros por linha durante a leitura
+     */
+    private static final class Validacao {
+
+        private final Map<Long, LancamentoMatriculaProjection> porId;
+        private final Map<String, LancamentoMatriculaProjection> porNumero;
+        private final Map<Long, LancamentoLinhaDTO> lancamentos = new LinkedHashMap<>();
+        private final Map<Long, Integer> linhaPorMatricula = new HashMap<>();
+        private final List<ErroLinha> erros = new ArrayList<>();
+        private int totalLinhas;
+        private boolean limiteExcedido;
+
+        Validacao(List<LancamentoMatriculaProjection> matriculas) {
+            this.porId = matriculas.stream()
+                    .collect(Collectors.toMap(LancamentoMatriculaProjection::getId, Function.identity()));
+            this.porNumero = matriculas.stream()
+                    .filter(m -> m.getNumeroMatricula() != null)
+                    .collect(Collectors.toMap(LancamentoMatriculaProjection::getNumeroMatricula, Function.identity(),
+                            (a, b) -> a));
+        }
+
+        void validar(int linha, LancamentoLinhaDTO dto) {
+            if (totalLinhas >= MAX_LINHAS) {
+                limiteExcedido = true;
+                return;
+            }
+            totalLinhas++;
+            String identificador = dto.getMatriculaId() != null
+                    ? String.valueOf(dto.getMatriculaId()) : dto.getNumeroMatricula();
+
+            if (identificador == null) {
+                erro(linha, null, "Informe matriculaId ou numeroMatricula");
+                return;
+            }
+
+            LancamentoMatriculaProjection matricula = dto.getMatriculaId() != null
+                    ? porId.get(dto.getMatriculaId())
+                    : porNumero.get(dto.getNumeroMatricula());
+            if (matricula == null) {
+                erro(linha, identificador, "Matrícula não encontrada nesta oferta");
+                return;
+            }
+            if (matricula.getSituacao() != StatusMatricula.MATRICULADO) {
+                erro(linha, identificador, "Matrícula não está ativa");
+                return;
+            }
+
+            Integer linhaAnterior = linhaPorMatricula.putIfAbsent(matricula.getId(), linha);
+            if (linhaAnterior != null) {
+                erro(linha, identificador, "Matrícula repetida no arquivo (linha " + linhaAnterior + ")");
+                return;
+            }
+
+            if (dto.getNota() == null && dto.getFrequencia() == null) {
+                erro(linha, identificador, "Informe nota e/ou frequência");
+                return;
+            }
+            if (dto.getNota() != null &&
+                (dto.getNota().compareTo(BigDecimal.ZERO) < 0 || dto.getNota().compareTo(NOTA_MAXIMA) > 0)) {
+                erro(linha, identificador, "Nota deve estar entre 0 e 10");
+                return;
+            }
+            if (dto.getFrequencia() != null &&
+                (dto.getFrequencia().compareTo(BigDecimal.ZERO) < 0 || dto.getFrequencia().compareTo(FREQUENCIA_MAXIMA) > 0)) {
+                erro(linha, identificador, "Frequência deve estar entre 0 e 100");
+                return;
+            }
+
+            // Mesmo arredondamento de setNotaFinalComArredondamento/setFrequenciaComArredondamento
+            lancamentos.put(matricula.getId(), LancamentoLinhaDTO.builder()
+                    .matriculaId(matricula.getId())
+                    .nota(dto.getNota() != null ? dto.getNota().setScale(2, RoundingMode.HALF_UP) : null)
+                    .frequencia(dto.getFrequencia() != null ? dto.getFrequencia().setScale(2, RoundingMode.HALF_UP) : null)
+                    .build());
+        }
+
+        void erro(Integer linha, String identificador, String mensagem) {
+            erros.add(ErroLinha.builder()
+                    .linha(linha)
+                    .identificador(identificador)
+                    .mensagem(mensagem)
+                    .build());
+        }
+    }
+}
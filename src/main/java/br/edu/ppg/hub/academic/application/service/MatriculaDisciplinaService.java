@@ -5,33 +5,47 @@ import br.edu.ppg.hub.academic.application.dto.matricula_disciplina.MatriculaDis
 import br.edu.ppg.hub.academic.application.dto.matricula_disciplina.MatriculaDisciplinaResponseDTO;
 import br.edu.ppg.hub.academic.domain.enums.StatusMatricula;
 import br.edu.ppg.hub.academic.domain.enums.StatusOferta;
-import br.edu.ppg.hub.academic.domain.model.Discente;
+import br.edu.ppg.hub.academic.domain.event.ResultadosLancadosEvent;
 import br.edu.ppg.hub.academic.domain.model.MatriculaDisciplina;
-import br.edu.ppg.hub.academic.domain.model.OfertaDisciplina;
+import br.edu.ppg.hub.academic.infrastructure.enrollment.SeatAllocator;
 import br.edu.ppg.hub.academic.infrastructure.repository.DiscenteRepository;
 import br.edu.ppg.hub.academic.infrastructure.repository.MatriculaDisciplinaRepository;
 import br.edu.ppg.hub.academic.infrastructure.repository.OfertaDisciplinaRepository;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.ElegibilidadeMatriculaProjection;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.FechamentoResultadosProjection;
+import br.edu.ppg.hub.academic.infrastructure.timetable.ConflitoHorario;
+import br.edu.ppg.hub.academic.infrastructure.timetable.GradeHorarios;
 import br.edu.ppg.hub.shared.exception.BusinessException;
 import br.edu.ppg.hub.shared.exception.ConflictException;
 import br.edu.ppg.hub.shared.exception.ResourceNotFoundException;
+import br.edu.ppg.hub.shared.util.ViolacaoIntegridade;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
  * Service para operações com Matrículas em Disciplinas
  *
- * Implementa controle de concorrência com lock pessimista para evitar race conditions
- * no processo de matrícula quando múltiplos alunos tentam se matricular simultaneamente.
+ * As vagas são concedidas pelo {@link SeatAllocator} (contadores em memória gravados
+ * em lote), sem lock na linha da oferta. Com vagas esgotadas o discente entra na
+ * lista de espera e é promovido automaticamente quando uma vaga é liberada.
+ * Choques de horário com outras ofertas do discente são barrados pela {@link GradeHorarios}.
  *
  * @author PPG Hub
  * @since 1.0
@@ -45,61 +59,84 @@ public class MatriculaDisciplinaService {
     private final OfertaDisciplinaRepository ofertaDisciplinaRepository;
     private final DiscenteRepository discenteRepository;
     private final MatriculaDisciplinaMapper matriculaMapper;
+    private final SeatAllocator seatAllocator;
+    private final GradeHorarios gradeHorarios;
+    private final RequisitosDisciplinaService requisitosDisciplinaService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AsyncTaskExecutor fechamentoResultadosExecutor;
 
     /**
      * Matricula um discente em uma oferta de disciplina
      *
-     * USA LOCK PESSIMISTA para evitar race condition nas vagas
+     * Todas as validações rodam sem lock. A vaga é reservada por último; sem vaga, a
+     * matrícula é gravada em LISTA_ESPERA (ou rejeitada, se a lista de espera estiver
+     * desabilitada). Matrícula duplicada, inclusive na lista de espera, é detectada
+     * pela constraint única (discente_id, oferta_disciplina_id).
      */
     @Transactional
     public MatriculaDisciplinaResponseDTO matricular(MatriculaDisciplinaCreateDTO dto) {
         log.info("Matriculando discente {} na oferta {}", dto.getDiscenteId(), dto.getOfertaDisciplinaId());
 
-        // 1. Buscar oferta com LOCK PESSIMISTA (WRITE) para controle de concorrência
-        OfertaDisciplina oferta = ofertaDisciplinaRepository
-                .findByIdForUpdate(dto.getOfertaDisciplinaId())
-                .orElseThrow(() -> new ResourceNotFoundException("Oferta de disciplina não encontrada"));
+        // 1. Validar oferta e discente em uma única consulta (sem lock)
+        ElegibilidadeMatriculaProjection elegibilidade = ofertaDisciplinaRepository
+                .findElegibilidadeMatricula(dto.getOfertaDisciplinaId(), dto.getDiscenteId())
+                .orElseThrow(() -> ofertaDisciplinaRepository.existsById(dto.getOfertaDisciplinaId())
+                        ? new ResourceNotFoundException("Discente não encontrado")
+                        : new ResourceNotFoundException("Oferta de disciplina não encontrada"));
 
-        // 2. Validar status da oferta
-        if (!oferta.isInscricoesAbertas()) {
+        if (elegibilidade.getStatusOferta() != StatusOferta.ABERTA) {
             throw new BusinessException("As inscrições não estão abertas para esta oferta");
         }
 
-        // 3. Validar vagas disponíveis (proteção contra race condition)
-        if (oferta.getVagasOcupadas() >= oferta.getVagasOferecidas()) {
-            throw new BusinessException("Não há vagas disponíveis para esta oferta");
-        }
-
-        // 4. Buscar discente
-        Discente discente = discenteRepository.findById(dto.getDiscenteId())
-                .orElseThrow(() -> new ResourceNotFoundException("Discente não encontrado"));
-
         // Validar discente ativo
-        if (!discente.isAtivo()) {
+        if (elegibilidade.getStatusDiscente() == null || !elegibilidade.getStatusDiscente().isAtivo()) {
             throw new BusinessException("Discente não está ativo no programa");
         }
 
         // Validar se discente pertence ao mesmo programa da disciplina
-        if (!discente.getPrograma().getId().equals(oferta.getDisciplina().getPrograma().getId())) {
+        if (!elegibilidade.getProgramaDiscenteId().equals(elegibilidade.getProgramaOfertaId())) {
             throw new BusinessException("Discente não pertence ao programa da disciplina");
         }
 
-        // 5. Validar duplicação (evitar matrícula dupla)
-        if (matriculaRepository.existsByDiscenteIdAndOfertaDisciplinaId(dto.getDiscenteId(), dto.getOfertaDisciplinaId())) {
-            throw new ConflictException("Discente já está matriculado nesta oferta");
+        // Validar pré-requisitos e co-requisitos da disciplina
+        requisitosDisciplinaService.validarMatricula(dto.getDiscenteId(), elegibilidade.getDisciplinaId(),
+                elegibilidade.getProgramaOfertaId());
+
+        // Validar choque de horário com as demais ofertas do discente no período
+        List<ConflitoHorario> conflitos = gradeHorarios.conflitosMatricula(dto.getDiscenteId(), dto.getOfertaDisciplinaId());
+        if (!conflitos.isEmpty()) {
+            throw new ConflictException("Choque de horário: " + conflitos.get(0).descricao());
         }
 
-        // 6. Criar matrícula
-        MatriculaDisciplina matricula = matriculaMapper.toEntity(dto, oferta, discente);
-        matricula = matriculaRepository.save(matricula);
+        // 2. Criar matrícula (duplicação barrada pela constraint única)
+        MatriculaDisciplina matricula = matriculaMapper.toEntity(dto,
+                ofertaDisciplinaRepository.getReferenceById(dto.getOfertaDisciplinaId()),
+                discenteRepository.getReferenceById(dto.getDiscenteId()));
+        try {
+            matricula = matriculaRepository.saveAndFlush(matricula);
+        } catch (DataIntegrityViolationException e) {
+            if (ViolacaoIntegridade.violou(e, MatriculaDisciplinaRepository.UK_DISCENTE_OFERTA)) {
+                throw new ConflictException("Discente já está matriculado nesta oferta");
+            }
+            throw e;
+        }
+        gradeHorarios.registrarMatricula(dto.getDiscenteId(), dto.getOfertaDisciplinaId());
 
-        // 7. Incrementar contador de vagas ocupadas (dentro da mesma transação)
-        oferta.incrementarVagasOcupadas();
-        ofertaDisciplinaRepository.save(oferta);
+        // 3. Reservar vaga (último passo: rollback desfaz a matrícula e devolve a vaga)
+        if (seatAllocator.reservar(dto.getOfertaDisciplinaId())) {
+            log.info("Matrícula realizada com sucesso: {}", matricula.getId());
+            return matriculaMapper.toResponseDTO(matricula);
+        }
+
+        if (!seatAllocator.aceitaListaEspera()) {
+            throw new BusinessException("Não há vagas disponíveis para esta oferta");
+        }
 
-        log.info("Matrícula realizada com sucesso: {} - Vagas restantes: {}",
-                matricula.getId(), oferta.calcularVagasDisponiveis());
+        matricula.setSituacao(StatusMatricula.LISTA_ESPERA);
+        seatAllocator.entrarNaFila(dto.getOfertaDisciplinaId(), matricula.getId());
 
+        log.info("Oferta {} sem vagas - matrícula {} incluída na lista de espera",
+                dto.getOfertaDisciplinaId(), matricula.getId());
         return matriculaMapper.toResponseDTO(matricula);
     }
 
@@ -184,10 +221,9 @@ public class MatriculaDisciplinaService {
         matricula.trancar();
         matricula = matriculaRepository.save(matricula);
 
-        // Decrementar vagas ocupadas
-        OfertaDisciplina oferta = matricula.getOfertaDisciplina();
-        oferta.decrementarVagasOcupadas();
-        ofertaDisciplinaRepository.save(oferta);
+        // Liberar vaga (promove o primeiro da lista de espera)
+        seatAllocator.liberar(matricula.getOfertaDisciplina().getId());
+        gradeHorarios.removerMatricula(matricula.getDiscente().getId(), matricula.getOfertaDisciplina().getId());
 
         log.info("Matrícula trancada com sucesso: {}", id);
         return matriculaMapper.toResponseDTO(matricula);
@@ -286,6 +322,7 @@ public class MatriculaDisciplinaService {
         // Calcular resultado
         String resultado = matricula.calcularResultadoFinal();
         matricula = matriculaRepository.save(matricula);
+        eventPublisher.publishEvent(new ResultadosLancadosEvent(matricula.getDiscente().getId()));
 
         log.info("Resultado calculado para matrícula {}: {}", id, resultado);
         return matriculaMapper.toResponseDTO(matricula);
@@ -293,6 +330,9 @@ public class MatriculaDisciplinaService {
 
     /**
      * Calcula resultado em lote para todas as matrículas de uma oferta
+     *
+     * Fechamento set-based: um único UPDATE grava situação, status e conceito de todas
+     * as matrículas pendentes e retorna as contagens agregadas.
      */
     @Transactional
     public Map<String, Object> calcularResultadosOferta(Long ofertaId) {
@@ -302,39 +342,78 @@ public class MatriculaDisciplinaService {
             throw new ResourceNotFoundException("Oferta de disciplina não encontrada");
         }
 
-        List<MatriculaDisciplina> matriculas = matriculaRepository.findParaLancamentoResultado(ofertaId);
+        FechamentoResultadosProjection fechamento = matriculaRepository.fecharResultadosOferta(ofertaId);
+        eventPublisher.publishEvent(ResultadosLancadosEvent.emLote());
+
+        Map<String, Object> resultado = new HashMap<>();
+        resultado.put("ofertaId", ofertaId);
+        resultado.put("totalProcessadas", fechamento.getTotalProcessadas());
+        resultado.put("aprovados", fechamento.getAprovados());
+        resultado.put("reprovados", fechamento.getReprovados());
+        resultado.put("erros", 0);
+
+        log.info("Resultados calculados: {} processadas, {} aprovados, {} reprovados",
+                fechamento.getTotalProcessadas(), fechamento.getAprovados(), fechamento.getReprovados());
+
+        return resultado;
+    }
+
+    /**
+     * Fecha os resultados de todas as ofertas de um período em paralelo
+     *
+     * Cada oferta é fechada em sua própria transação (um UPDATE por oferta); a falha
+     * de uma oferta não desfaz as demais e é reportada em "ofertasComErro". As ofertas
+     * rodam no executor compartilhado {@code fechamentoResultadosExecutor}, limitado a
+     * {@code ppg.resultados.paralelismo} threads.
+     */
+    public Map<String, Object> calcularResultadosPeriodo(String periodo) {
+        log.info("Calculando resultados em lote para o período: {}", periodo);
+
+        List<Long> ofertaIds = matriculaRepository.findOfertasComResultadosPendentes(periodo);
 
-        int processadas = 0;
-        int aprovados = 0;
-        int reprovados = 0;
-        int erros = 0;
+        long processadas = 0;
+        long aprovados = 0;
+        long reprovados = 0;
+        List<Long> ofertasComErro = new ArrayList<>();
 
-        for (MatriculaDisciplina matricula : matriculas) {
-            try {
-                matricula.calcularResultadoFinal();
-                matriculaRepository.save(matricula);
-                processadas++;
+        Map<Long, Future<FechamentoResultadosProjection>> fechamentos = new LinkedHashMap<>();
+        for (Long ofertaId : ofertaIds) {
+            fechamentos.put(ofertaId, fechamentoResultadosExecutor.submit(
+                    () -> matriculaRepository.fecharResultadosOferta(ofertaId)));
+        }
 
-                if (matricula.isAprovado()) {
-                    aprovados++;
-                } else {
-                    reprovados++;
+        try {
+            for (Map.Entry<Long, Future<FechamentoResultadosProjection>> entry : fechamentos.entrySet()) {
+                try {
+                    FechamentoResultadosProjection fechamento = entry.getValue().get();
+                    processadas += fechamento.getTotalProcessadas();
+                    aprovados += fechamento.getAprovados();
+                    reprovados += fechamento.getReprovados();
+                } catch (ExecutionException e) {
+                    log.error("Erro ao fechar resultados da oferta {}: {}", entry.getKey(), e.getCause().getMessage());
+                    ofertasComErro.add(entry.getKey());
                 }
-            } catch (Exception e) {
-                log.error("Erro ao calcular resultado da matrícula {}: {}", matricula.getId(), e.getMessage());
-                erros++;
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fechamentos.values().forEach(future -> future.cancel(false));
+            throw new BusinessException("Fechamento de resultados interrompido");
+        }
+
+        if (processadas > 0) {
+            eventPublisher.publishEvent(ResultadosLancadosEvent.emLote());
         }
 
         Map<String, Object> resultado = new HashMap<>();
-        resultado.put("ofertaId", ofertaId);
+        resultado.put("periodo", periodo);
+        resultado.put("totalOfertas", ofertaIds.size());
         resultado.put("totalProcessadas", processadas);
         resultado.put("aprovados", aprovados);
         resultado.put("reprovados", reprovados);
-        resultado.put("erros", erros);
+        resultado.put("ofertasComErro", ofertasComErro);
 
-        log.info("Resultados calculados: {} processadas, {} aprovados, {} reprovados, {} erros",
-                processadas, aprovados, reprovados, erros);
+        log.info("Resultados do período {}: {} ofertas, {} processadas, {} aprovados, {} reprovados, {} ofertas com erro",
+                periodo, ofertaIds.size(), processadas, aprovados, reprovados, ofertasComErro.size());
 
         return resultado;
     }
@@ -389,18 +468,24 @@ public class MatriculaDisciplinaService {
             throw new BusinessException("Não é possível deletar matrícula de oferta concluída");
         }
 
-        if (matricula.getSituacao() != StatusMatricula.MATRICULADO) {
-            throw new BusinessException("Só é possível deletar matrículas no status 'Matriculado'");
+        if (!matricula.isAtiva() && !matricula.isEmListaEspera()) {
+            throw new BusinessException("Só é possível deletar matrículas no status 'Matriculado' ou 'Lista de Espera'");
         }
 
-        // Decrementar vagas ocupadas se estiver matriculado
-        if (matricula.isAtiva()) {
-            OfertaDisciplina oferta = matricula.getOfertaDisciplina();
-            oferta.decrementarVagasOcupadas();
-            ofertaDisciplinaRepository.save(oferta);
-        }
+        Long ofertaId = matricula.getOfertaDisciplina().getId();
+        Long discenteId = matricula.getDiscente().getId();
+        boolean ocupavaVaga = matricula.isAtiva();
 
         matriculaRepository.delete(matricula);
+        gradeHorarios.removerMatricula(discenteId, ofertaId);
+
+        // Liberar vaga se estava matriculado, ou sair da lista de espera
+        if (ocupavaVaga) {
+            seatAllocator.liberar(ofertaId);
+        } else {
+            seatAllocator.sairDaFila(ofertaId, id);
+        }
+        eventPublisher.publishEvent(new ResultadosLancadosEvent(discenteId));
         log.info("Matrícula deletada com sucesso: {}", id);
     }
 }
@@ -3,16 +3,21 @@ package br.edu.ppg.hub.academic.application.service;
 import br.edu.ppg.hub.academic.application.dto.oferta_disciplina.OfertaDisciplinaCreateDTO;
 import br.edu.ppg.hub.academic.application.dto.oferta_disciplina.OfertaDisciplinaMapper;
 import br.edu.ppg.hub.academic.application.dto.oferta_disciplina.OfertaDisciplinaResponseDTO;
+import br.edu.ppg.hub.academic.application.dto.oferta_disciplina.OfertaDisciplinaResumoDTO;
 import br.edu.ppg.hub.academic.application.dto.oferta_disciplina.OfertaDisciplinaUpdateDTO;
 import br.edu.ppg.hub.academic.domain.enums.StatusOferta;
 import br.edu.ppg.hub.academic.domain.model.Disciplina;
 import br.edu.ppg.hub.academic.domain.model.Docente;
 import br.edu.ppg.hub.academic.domain.model.OfertaDisciplina;
+import br.edu.ppg.hub.academic.infrastructure.enrollment.SeatAllocator;
 import br.edu.ppg.hub.academic.infrastructure.repository.DisciplinaRepository;
 import br.edu.ppg.hub.academic.infrastructure.repository.DocenteRepository;
 import br.edu.ppg.hub.academic.infrastructure.repository.MatriculaDisciplinaRepository;
 import br.edu.ppg.hub.academic.infrastructure.repository.OfertaDisciplinaRepository;
+import br.edu.ppg.hub.academic.infrastructure.timetable.ConflitoHorario;
+import br.edu.ppg.hub.academic.infrastructure.timetable.GradeHorarios;
 import br.edu.ppg.hub.shared.exception.BusinessException;
+import br.edu.ppg.hub.shared.exception.ConflictException;
 import br.edu.ppg.hub.shared.exception.DuplicateResourceException;
 import br.edu.ppg.hub.shared.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -44,6 +49,8 @@ public class OfertaDisciplinaService {
     private final DocenteRepository docenteRepository;
     private final MatriculaDisciplinaRepository matriculaRepository;
     private final OfertaDisciplinaMapper ofertaDisciplinaMapper;
+    private final SeatAllocator seatAllocator;
+    private final GradeHorarios gradeHorarios;
 
     /**
      * Cria uma nova oferta de disciplina
@@ -99,7 +106,9 @@ public class OfertaDisciplinaService {
 
         // Criar oferta
         OfertaDisciplina oferta = ofertaDisciplinaMapper.toEntity(dto, disciplina, docenteResponsavel, docenteColaborador);
+        validarChoqueHorario(oferta);
         oferta = ofertaDisciplinaRepository.save(oferta);
+        gradeHorarios.atualizarOferta(oferta.getId());
 
         log.info("Oferta de disciplina criada com sucesso: {}", oferta.getId());
         return ofertaDisciplinaMapper.toResponseDTO(oferta);
@@ -154,12 +163,18 @@ public class OfertaDisciplinaService {
         }
 
         // Validar alteração de vagas
-        if (dto.getVagasOferecidas() != null && dto.getVagasOferecidas() < oferta.getVagasOcupadas()) {
+        if (dto.getVagasOferecidas() != null && dto.getVagasOferecidas() < seatAllocator.vagasOcupadas(id)) {
             throw new BusinessException("Não é possível reduzir vagas para menos que o número de vagas ocupadas");
         }
 
         ofertaDisciplinaMapper.updateEntity(oferta, dto, docenteResponsavel, docenteColaborador);
+        validarChoqueHorario(oferta);
         oferta = ofertaDisciplinaRepository.save(oferta);
+        gradeHorarios.atualizarOferta(id);
+
+        if (dto.getVagasOferecidas() != null) {
+            seatAllocator.atualizarCapacidade(id, oferta.getVagasOferecidas());
+        }
 
         log.info("Oferta de disciplina atualizada com sucesso: {}", id);
         return ofertaDisciplinaMapper.toResponseDTO(oferta);
@@ -182,35 +197,34 @@ public class OfertaDisciplinaService {
      * Busca todas as ofertas (paginado)
      */
     @Transactional(readOnly = true)
-    public Page<OfertaDisciplinaResponseDTO> buscarTodas(Pageable pageable) {
+    public Page<OfertaDisciplinaResumoDTO> buscarTodas(Pageable pageable) {
         log.debug("Buscando todas as ofertas de disciplinas");
-        return ofertaDisciplinaRepository.findAll(pageable)
-                .map(ofertaDisciplinaMapper::toResponseDTO);
+        return ofertaDisciplinaRepository.findResumos(pageable).map(ofertaDisciplinaMapper::toResumoDTO);
     }
 
     /**
      * Busca ofertas por período
      */
     @Transactional(readOnly = true)
-    public Page<OfertaDisciplinaResponseDTO> buscarPorPeriodo(String periodo, Pageable pageable) {
+    public Page<OfertaDisciplinaResumoDTO> buscarPorPeriodo(String periodo, Pageable pageable) {
         log.debug("Buscando ofertas do período: {}", periodo);
-        return ofertaDisciplinaRepository.findByPeriodo(periodo, pageable)
-                .map(ofertaDisciplinaMapper::toResponseDTO);
+        return ofertaDisciplinaRepository.findResumosByPeriodo(periodo, pageable)
+                .map(ofertaDisciplinaMapper::toResumoDTO);
     }
 
     /**
      * Busca ofertas por docente
      */
     @Transactional(readOnly = true)
-    public Page<OfertaDisciplinaResponseDTO> buscarPorDocente(Long docenteId, Pageable pageable) {
+    public Page<OfertaDisciplinaResumoDTO> buscarPorDocente(Long docenteId, Pageable pageable) {
         log.debug("Buscando ofertas do docente: {}", docenteId);
 
         if (!docenteRepository.existsById(docenteId)) {
             throw new ResourceNotFoundException("Docente não encontrado");
         }
 
-        return ofertaDisciplinaRepository.findByDocenteResponsavelId(docenteId, pageable)
-                .map(ofertaDisciplinaMapper::toResponseDTO);
+        return ofertaDisciplinaRepository.findResumosByDocenteResponsavelId(docenteId, pageable)
+                .map(ofertaDisciplinaMapper::toResumoDTO);
     }
 
     /**
@@ -321,6 +335,7 @@ public class OfertaDisciplinaService {
         oferta.setStatus(StatusOferta.CONCLUIDA);
         oferta = ofertaDisciplinaRepository.save(oferta);
 
+        gradeHorarios.atualizarOferta(id);
         log.info("Oferta concluída: {}", id);
         return ofertaDisciplinaMapper.toResponseDTO(oferta);
     }
@@ -348,6 +363,7 @@ public class OfertaDisciplinaService {
         }
         oferta = ofertaDisciplinaRepository.save(oferta);
 
+        gradeHorarios.atualizarOferta(id);
         log.info("Oferta cancelada: {}", id);
         return ofertaDisciplinaMapper.toResponseDTO(oferta);
     }
@@ -369,6 +385,7 @@ public class OfertaDisciplinaService {
         }
 
         ofertaDisciplinaRepository.delete(oferta);
+        gradeHorarios.atualizarOferta(id);
         log.info("Oferta deletada com sucesso: {}", id);
     }
 
@@ -417,4 +434,22 @@ public class OfertaDisciplinaService {
 
         return resultado;
     }
+
+    /**
+     * Relatório de choques de horário do período (discentes, docentes e salas)
+     */
+    public List<ConflitoHorario> getConflitosHorario(String periodo) {
+        log.debug("Verificando choques de horário do período: {}", periodo);
+        return gradeHorarios.relatorio(periodo);
+    }
+
+    /**
+     * Impede que docentes ou sala da oferta fiquem com dois compromissos no mesmo horário
+     */
+    private void validarChoqueHorario(OfertaDisciplina oferta) {
+        List<ConflitoHorario> conflitos = gradeHorarios.conflitosOferta(oferta);
+        if (!conflitos.isEmpty()) {
+            throw new ConflictException("Choque de horário: " + conflitos.get(0).descricao());
+        }
+    }
 }
@@ -0,0 +1,99 @@
+package br.edu.ppg.hub.academic.application.service;
+
+import br.edu.ppg.hub.academic.infrastructure.curriculum.GrafoCurricular;
+import br.edu.ppg.hub.academic.infrastructure.curriculum.GrafoCurricular.Requisitos;
+import br.edu.ppg.hub.academic.infrastructure.curriculum.MapaCurricular;
+import br.edu.ppg.hub.academic.infrastructure.repository.DisciplinaRepository;
+import br.edu.ppg.hub.academic.infrastructure.repository.MatriculaDisciplinaRepository;
+import br.edu.ppg.hub.shared.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Validação de pré-requisitos e co-requisitos de disciplinas.
+ *
+ * <p>Na matrícula, a elegibilidade é um teste de subconjunto entre o bitset de
+ * pré-requisitos da disciplina e o bitset de aprovações do discente, ambos em
+ * memória ({@link MapaCurricular}); o banco só é consultado para co-requisitos
+ * (disciplinas em curso) e para montar a mensagem de erro.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RequisitosDisciplinaService {
+
+    private final MapaCurricular mapaCurricular;
+    private final DisciplinaRepository disciplinaRepository;
+    private final MatriculaDisciplinaRepository matriculaRepository;
+
+    /**
+     * Verifica se o discente cumpre os requisitos da disciplina.
+     *
+     * @throws BusinessException com as disciplinas pendentes
+     */
+    public void validarMatricula(Long discenteId, Long disciplinaId, Long programaId) {
+        GrafoCurricular grafo = mapaCurricular.grafo(programaId);
+        BitSet aprovadas = grafo.bits(mapaCurricular.aprovadas(discenteId));
+
+        BitSet faltantes = grafo.preRequisitosFaltantes(disciplinaId, aprovadas);
+        if (!faltantes.isEmpty()) {
+            log.debug("Discente {} sem pré-requisitos para disciplina {}: {}", discenteId, disciplinaId,
+                    grafo.ids(grafo.trilhaPendente(disciplinaId, aprovadas)));
+            throw new BusinessException("Pré-requisitos não cumpridos: " + descrever(grafo.ids(faltantes)));
+        }
+
+        if (grafo.temCoRequisitos(disciplinaId)) {
+            BitSet cumpridos = (BitSet) aprovadas.clone();
+            cumpridos.or(grafo.bits(matriculaRepository.findDisciplinasEmCurso(discenteId)));
+            BitSet coFaltantes = grafo.coRequisitosFaltantes(disciplinaId, cumpridos);
+            if (!coFaltantes.isEmpty()) {
+                throw new BusinessException("Co-requisitos devem ser cursados antes ou no mesmo período: "
+                        + descrever(grafo.ids(coFaltantes)));
+            }
+        }
+    }
+
+    /**
+     * Valida as listas de requisitos de uma disciplina nova ({@code disciplinaId} nulo) ou alterada:
+     * formato, pertencimento ao programa e ausência de ciclos.
+     */
+    public void validarRequisitos(Long disciplinaId, Long programaId, String preRequisitos, String coRequisitos) {
+        Requisitos requisitos = Requisitos.parse(preRequisitos, coRequisitos);
+        GrafoCurricular grafo = mapaCurricular.grafo(programaId);
+
+        Set<Long> referenciados = new HashSet<>(requisitos.preRequisitos());
+        referenciados.addAll(requisitos.coRequisitos());
+        List<Long> externos = referenciados.stream().filter(id -> !grafo.contem(id)).sorted().toList();
+        if (!externos.isEmpty()) {
+            throw new BusinessException("Requisitos devem ser disciplinas do mesmo programa. Inválidos: " + externos);
+        }
+
+        if (disciplinaId == null) {
+            return;
+        }
+        if (requisitos.coRequisitos().contains(disciplinaId)) {
+            throw new BusinessException("Disciplina não pode ser co-requisito de si mesma");
+        }
+        List<Long> ciclicos = grafo.criariamCiclo(disciplinaId, requisitos.preRequisitos());
+        if (!ciclicos.isEmpty()) {
+            throw new BusinessException("Pré-requisitos criariam ciclo: " + descrever(ciclicos));
+        }
+    }
+
+    private String descrever(List<Long> disciplinaIds) {
+        return disciplinaRepository.findAllById(disciplinaIds).stream()
+                .map(d -> d.getCodigo() + " - " + d.getNome())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+}
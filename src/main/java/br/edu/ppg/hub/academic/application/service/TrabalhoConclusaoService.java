@@ -3,18 +3,23 @@ package br.edu.ppg.hub.academic.application.service;
 import br.edu.ppg.hub.academic.application.dto.trabalho_conclusao.TrabalhoConclusaoCreateDTO;
 import br.edu.ppg.hub.academic.application.dto.trabalho_conclusao.TrabalhoConclusaoMapper;
 import br.edu.ppg.hub.academic.application.dto.trabalho_conclusao.TrabalhoConclusaoResponseDTO;
+import br.edu.ppg.hub.academic.application.dto.trabalho_conclusao.TrabalhoConclusaoResumoDTO;
 import br.edu.ppg.hub.academic.application.dto.trabalho_conclusao.TrabalhoConclusaoUpdateDTO;
 import br.edu.ppg.hub.academic.domain.enums.StatusTrabalho;
 import br.edu.ppg.hub.academic.domain.enums.TipoTrabalho;
 import br.edu.ppg.hub.academic.domain.model.Discente;
 import br.edu.ppg.hub.academic.domain.model.Docente;
 import br.edu.ppg.hub.academic.domain.model.TrabalhoConclusao;
+import br.edu.ppg.hub.academic.infrastructure.metrics.ContadoresTrabalho;
+import br.edu.ppg.hub.academic.infrastructure.metrics.ContadoresTrabalho.Metrica;
 import br.edu.ppg.hub.academic.infrastructure.repository.DiscenteRepository;
 import br.edu.ppg.hub.academic.infrastructure.repository.DocenteRepository;
 import br.edu.ppg.hub.academic.infrastructure.repository.TrabalhoConclusaoRepository;
 import br.edu.ppg.hub.shared.exception.BusinessException;
 import br.edu.ppg.hub.shared.exception.DuplicateResourceException;
 import br.edu.ppg.hub.shared.exception.ResourceNotFoundException;
+import br.edu.ppg.hub.shared.storage.DocumentStore;
+import br.edu.ppg.hub.shared.storage.DocumentoArmazenado;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -23,6 +28,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -44,6 +51,8 @@ public class TrabalhoConclusaoService {
     private final DiscenteRepository discenteRepository;
     private final DocenteRepository docenteRepository;
     private final TrabalhoConclusaoMapper trabalhoConclusaoMapper;
+    private final DocumentStore documentStore;
+    private final ContadoresTrabalho contadoresTrabalho;
 
     private static final long MAX_FILE_SIZE = 50 * 1024 * 1024; // 50MB
 
@@ -123,11 +132,10 @@ public class TrabalhoConclusaoService {
      * @return Página de trabalhos
      */
     @Transactional(readOnly = true)
-    public Page<TrabalhoConclusaoResponseDTO> listarTodos(Pageable pageable) {
+    public Page<TrabalhoConclusaoResumoDTO> listarTodos(Pageable pageable) {
         log.debug("Listando todos os trabalhos de conclusão");
 
-        return trabalhoConclusaoRepository.findAll(pageable)
-                .map(trabalhoConclusaoMapper::toResponseDTO);
+        return trabalhoConclusaoRepository.findResumos(pageable).map(trabalhoConclusaoMapper::toResumoDTO);
     }
 
     /**
@@ -154,11 +162,11 @@ public class TrabalhoConclusaoService {
      * @return Página de trabalhos
      */
     @Transactional(readOnly = true)
-    public Page<TrabalhoConclusaoResponseDTO> buscarPorOrientador(Long orientadorId, Pageable pageable) {
+    public Page<TrabalhoConclusaoResumoDTO> buscarPorOrientador(Long orientadorId, Pageable pageable) {
         log.debug("Buscando trabalhos do orientador: {}", orientadorId);
 
-        return trabalhoConclusaoRepository.findByOrientadorId(orientadorId, pageable)
-                .map(trabalhoConclusaoMapper::toResponseDTO);
+        return trabalhoConclusaoRepository.findResumosByOrientadorId(orientadorId, pageable)
+                .map(trabalhoConclusaoMapper::toResumoDTO);
     }
 
     /**
@@ -169,11 +177,11 @@ public class TrabalhoConclusaoService {
      * @return Página de trabalhos
      */
     @Transactional(readOnly = true)
-    public Page<TrabalhoConclusaoResponseDTO> buscarPorCoorientador(Long coorientadorId, Pageable pageable) {
+    public Page<TrabalhoConclusaoResumoDTO> buscarPorCoorientador(Long coorientadorId, Pageable pageable) {
         log.debug("Buscando trabalhos do coorientador: {}", coorientadorId);
 
-        return trabalhoConclusaoRepository.findByCoorientadorId(coorientadorId, pageable)
-                .map(trabalhoConclusaoMapper::toResponseDTO);
+        return trabalhoConclusaoRepository.findResumosByCoorientadorId(coorientadorId, pageable)
+                .map(trabalhoConclusaoMapper::toResumoDTO);
     }
 
     /**
@@ -335,18 +343,23 @@ public class TrabalhoConclusaoService {
     }
 
     /**
-     * Simula upload de arquivo PDF do trabalho.
+     * Faz upload do arquivo PDF do trabalho.
+     * <p>
+     * O conteúdo é copiado em streaming para o {@link DocumentStore}, fora de transação;
+     * só a gravação da chave e do tamanho no trabalho ocupa uma conexão com o banco.
+     * Reenviar o mesmo PDF reaproveita o arquivo já armazenado.
+     * </p>
      *
      * @param id ID do trabalho
      * @param arquivo Arquivo PDF
      * @return Trabalho com arquivo anexado
      */
-    @Transactional
     public TrabalhoConclusaoResponseDTO uploadArquivo(Long id, MultipartFile arquivo) {
         log.info("Fazendo upload de arquivo para trabalho: {}", id);
 
-        TrabalhoConclusao trabalho = trabalhoConclusaoRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Trabalho de conclusão não encontrado"));
+        if (!trabalhoConclusaoRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Trabalho de conclusão não encontrado");
+        }
 
         // Validar arquivo
         if (arquivo == null || arquivo.isEmpty()) {
@@ -362,29 +375,45 @@ public class TrabalhoConclusaoService {
             throw new BusinessException("Arquivo deve ser do tipo PDF");
         }
 
-        // Simular salvamento do arquivo (em produção, usar S3/MinIO)
-        String nomeArquivo = arquivo.getOriginalFilename();
-        String path = "/uploads/trabalhos/" + id + "/" + nomeArquivo;
+        DocumentoArmazenado documento;
+        try {
+            documento = documentStore.armazenar(arquivo.getInputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao armazenar arquivo do trabalho " + id, e);
+        }
 
-        trabalho.setArquivoPdf(path);
-        trabalho.setTamanhoArquivoBytes(arquivo.getSize());
+        if (trabalhoConclusaoRepository.atualizarArquivo(id, documento.chave(), documento.tamanho()) == 0) {
+            // Trabalho removido durante o envio: o arquivo só fica se outro trabalho usa o mesmo conteúdo
+            descartarSeOrfao(documento.chave());
+            throw new ResourceNotFoundException("Trabalho de conclusão não encontrado");
+        }
 
-        trabalho = trabalhoConclusaoRepository.save(trabalho);
+        TrabalhoConclusao trabalho = trabalhoConclusaoRepository.findComAssociacoesById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Trabalho de conclusão não encontrado"));
 
-        log.info("Arquivo enviado com sucesso para trabalho: {}", id);
+        log.info("Arquivo enviado com sucesso para trabalho: {} ({})", id, documento.chave());
         return trabalhoConclusaoMapper.toResponseDTO(trabalho);
     }
 
+    private void descartarSeOrfao(String chave) {
+        if (trabalhoConclusaoRepository.existsByArquivoPdf(chave)) {
+            return;
+        }
+        try {
+            documentStore.remover(chave);
+        } catch (IOException e) {
+            log.warn("Não foi possível remover o documento órfão {}", chave, e);
+        }
+    }
+
     /**
-     * Simula download do arquivo PDF do trabalho.
+     * Localiza o arquivo PDF do trabalho no armazenamento.
      *
      * @param id ID do trabalho
-     * @return Conteúdo simulado do arquivo
+     * @return Metadados do documento (chave, tamanho, data)
      */
-    @Transactional
-    public byte[] downloadArquivo(Long id) {
-        log.info("Fazendo download de arquivo do trabalho: {}", id);
-
+    @Transactional(readOnly = true)
+    public DocumentoArmazenado buscarArquivo(Long id) {
         TrabalhoConclusao trabalho = trabalhoConclusaoRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Trabalho de conclusão não encontrado"));
 
@@ -392,14 +421,33 @@ public class TrabalhoConclusaoService {
             throw new BusinessException("Trabalho não possui arquivo anexado");
         }
 
-        // Incrementar contador de downloads
-        trabalho.incrementarDownloads();
-        trabalhoConclusaoRepository.save(trabalho);
+        try {
+            return documentStore.buscar(trabalho.getArquivoPdf())
+                    .orElseThrow(() -> new ResourceNotFoundException("Arquivo do trabalho não encontrado"));
+        } catch (IllegalArgumentException e) {
+            // Caminho simulado gravado antes do armazenamento real
+            throw new ResourceNotFoundException("Arquivo do trabalho não encontrado");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao ler arquivo do trabalho " + id, e);
+        }
+    }
 
-        log.info("Download realizado para trabalho: {}", id);
+    /**
+     * Contabiliza um download do trabalho (gravado em lote, fora do request).
+     *
+     * @param id ID do trabalho
+     */
+    public void registrarDownload(Long id) {
+        contadoresTrabalho.registrar(Metrica.DOWNLOADS, id);
+    }
 
-        // Simular conteúdo do arquivo (em produção, buscar do S3/MinIO)
-        return ("Conteúdo simulado do PDF do trabalho " + id).getBytes();
+    /**
+     * Contabiliza uma visualização da página do trabalho (gravada em lote, fora do request).
+     *
+     * @param id ID do trabalho
+     */
+    public void registrarVisualizacao(Long id) {
+        contadoresTrabalho.registrar(Metrica.VISUALIZACOES, id);
     }
 
     /**
@@ -424,11 +472,10 @@ public class TrabalhoConclusaoService {
      * @return Página de trabalhos
      */
     @Transactional(readOnly = true)
-    public Page<TrabalhoConclusaoResponseDTO> buscarPorTipo(TipoTrabalho tipo, Pageable pageable) {
+    public Page<TrabalhoConclusaoResumoDTO> buscarPorTipo(TipoTrabalho tipo, Pageable pageable) {
         log.debug("Buscando trabalhos por tipo: {}", tipo);
 
-        return trabalhoConclusaoRepository.findByTipo(tipo, pageable)
-                .map(trabalhoConclusaoMapper::toResponseDTO);
+        return trabalhoConclusaoRepository.findResumosByTipo(tipo, pageable).map(trabalhoConclusaoMapper::toResumoDTO);
     }
 
     /**
@@ -439,11 +486,11 @@ public class TrabalhoConclusaoService {
      * @return Página de trabalhos
      */
     @Transactional(readOnly = true)
-    public Page<TrabalhoConclusaoResponseDTO> buscarPorStatus(StatusTrabalho status, Pageable pageable) {
+    public Page<TrabalhoConclusaoResumoDTO> buscarPorStatus(StatusTrabalho status, Pageable pageable) {
         log.debug("Buscando trabalhos por status: {}", status);
 
-        return trabalhoConclusaoRepository.findByStatus(status, pageable)
-                .map(trabalhoConclusaoMapper::toResponseDTO);
+        return trabalhoConclusaoRepository.findResumosByStatus(status, pageable)
+                .map(trabalhoConclusaoMapper::toResumoDTO);
     }
 
     /**
@@ -455,15 +502,15 @@ public class TrabalhoConclusaoService {
      * @return Página de trabalhos
      */
     @Transactional(readOnly = true)
-    public Page<TrabalhoConclusaoResponseDTO> buscarPorPeriodoDefesa(
+    public Page<TrabalhoConclusaoResumoDTO> buscarPorPeriodoDefesa(
             LocalDate dataInicio,
             LocalDate dataFim,
             Pageable pageable
     ) {
         log.debug("Buscando trabalhos defendidos entre {} e {}", dataInicio, dataFim);
 
-        return trabalhoConclusaoRepository.findByDataDefesaBetween(dataInicio, dataFim, pageable)
-                .map(trabalhoConclusaoMapper::toResponseDTO);
+        return trabalhoConclusaoRepository.findResumosByDataDefesaBetween(dataInicio, dataFim, pageable)
+                .map(trabalhoConclusaoMapper::toResumoDTO);
     }
 
     /**
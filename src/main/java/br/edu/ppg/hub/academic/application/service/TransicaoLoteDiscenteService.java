@@ -0,0 +1,179 @@
+package br.edu.ppg.hub.academic.application.service;
+
+import br.edu.ppg.hub.academic.application.dto.discente.TransicaoLoteDTO;
+import br.edu.ppg.hub.academic.application.dto.discente.TransicaoLoteResultadoDTO;
+import br.edu.ppg.hub.academic.application.dto.discente.TransicaoLoteResultadoDTO.ErroDiscente;
+import br.edu.ppg.hub.academic.domain.enums.TipoCurso;
+import br.edu.ppg.hub.academic.domain.enums.TransicaoDiscente;
+import br.edu.ppg.hub.academic.domain.event.DiscenteAlteradoEvent;
+import br.edu.ppg.hub.academic.domain.event.PrazosDiscentesAlteradosEvent;
+import br.edu.ppg.hub.academic.infrastructure.orientacao.CargaOrientacoes;
+import br.edu.ppg.hub.academic.infrastructure.orientacao.CargaOrientacoes.ConclusoesDocente;
+import br.edu.ppg.hub.academic.infrastructure.repository.TransicaoDiscenteRepository;
+import br.edu.ppg.hub.academic.infrastructure.repository.TransicaoDiscenteRepository.SituacaoDiscente;
+import br.edu.ppg.hub.auth.application.service.AuditService;
+import br.edu.ppg.hub.shared.exception.BusinessException;
+import br.edu.ppg.hub.shared.util.Transacoes;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service para transições de situação de discentes em lote (titulação e
+ * desligamento), usadas no fechamento do semestre
+ *
+ * Trancamento em lote é recusado enquanto não houver situação de trancamento:
+ * não haveria o que gravar nem auditar.
+ *
+ * Os discentes do lote são lidos e bloqueados em uma única consulta e validados
+ * em memória. Sem erros, a transição é gravada com um único UPDATE, os contadores
+ * de orientação são recalculados uma vez por docente afetado e a auditoria é
+ * publicada em lote após o commit; com qualquer erro nada é gravado e todos os erros são
+ * retornados.
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransicaoLoteDiscenteService {
+
+    private final TransicaoDiscenteRepository transicaoDiscenteRepository;
+    private final CargaOrientacoes cargaOrientacoes;
+    private final AuditService auditService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Aplica a transição a todos os discentes do lote, ou a nenhum
+     */
+    @Transactional
+    public TransicaoLoteResultadoDTO aplicar(TransicaoLoteDTO dto) {
+        TransicaoDiscente transicao = dto.getTransicao();
+        log.info("Aplicando {} em lote a {} discentes", transicao, dto.getDiscenteIds().size());
+
+        if (transicao.getStatusDestino() == null) {
+            throw new BusinessException(
+                    transicao.getDescricao() + " em lote não é suportado: não há situação de destino");
+        }
+
+        String motivo = dto.getMotivo() != null ? dto.getMotivo().trim() : null;
+        if (transicao.exigeMotivo() && (motivo == null || motivo.isEmpty())) {
+            throw new BusinessException("Motivo é obrigatório para " + transicao.getDescricao().toLowerCase());
+        }
+
+        List<ErroDiscente> erros = new ArrayList<>();
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Long id : dto.getDiscenteIds()) {
+            if (id == null) {
+                erros.add(erro(null, "ID do discente não informado"));
+            } else if (!ids.add(id)) {
+                erros.add(erro(id, "Discente repetido no lote"));
+            }
+        }
+
+        Map<Long, SituacaoDiscente> situacoes = transicaoDiscenteRepository
+                .buscarParaTransicao(ids.toArray(Long[]::new)).stream()
+                .collect(Collectors.toMap(SituacaoDiscente::id, Function.identity()));
+        for (Long id : ids) {
+            SituacaoDiscente situacao = situacoes.get(id);
+            if (situacao == null) {
+                erros.add(erro(id, "Discente não encontrado"));
+            } else if (situacao.status() == null || !situacao.status().isAtivo()) {
+                erros.add(erro(id, "Discente não está ativo (" + descricao(situacao) + ")"));
+            } else if (transicao == TransicaoDiscente.TITULAR && situacao.dataDefesa() == null) {
+                erros.add(erro(id, "Discente ainda não defendeu"));
+            }
+        }
+
+        int atualizados = 0;
+        if (erros.isEmpty()) {
+            atualizados = gravar(transicao, motivo, ids, situacoes);
+        }
+
+        log.info("Transição {} em lote: {} discentes, {} atualizados, {} erros",
+                transicao, dto.getDiscenteIds().size(), atualizados, erros.size());
+
+        return TransicaoLoteResultadoDTO.builder()
+                .transicao(transicao)
+                .total(dto.getDiscenteIds().size())
+                .atualizados(atualizados)
+                .erros(erros)
+                .build();
+    }
+
+    private int gravar(TransicaoDiscente transicao, String motivo, Set<Long> ids,
+                       Map<Long, SituacaoDiscente> situacoes) {
+        Long[] discenteIds = ids.toArray(Long[]::new);
+        int atualizados = switch (transicao) {
+            case TITULAR -> transicaoDiscenteRepository.titular(discenteIds);
+            case DESLIGAR -> transicaoDiscenteRepository.desligar(discenteIds, motivo, LocalDate.now());
+            case TRANCAR -> throw new IllegalStateException("Transição sem situação de destino: " + transicao);
+        };
+
+        cargaOrientacoes.recalcular(conclusoesPorOrientador(transicao, situacoes.values()));
+        for (SituacaoDiscente situacao : situacoes.values()) {
+            eventPublisher.publishEvent(new DiscenteAlteradoEvent(
+                    situacao.id(), situacao.programaId(), situacao.programaId()));
+        }
+        eventPublisher.publishEvent(new PrazosDiscentesAlteradosEvent(List.copyOf(ids)));
+
+        Map<Long, Map<String, Object>> anteriores = new LinkedHashMap<>();
+        Map<Long, Map<String, Object>> novos = new LinkedHashMap<>();
+        for (SituacaoDiscente situacao : situacoes.values()) {
+            anteriores.put(situacao.id(), Map.of("status", situacao.status()));
+            Map<String, Object> dados = new HashMap<>();
+            dados.put("transicao", transicao);
+            dados.put("status", transicao.getStatusDestino());
+            dados.put("motivo", motivo);
+            novos.put(situacao.id(), dados);
+        }
+        Transacoes.aposCommit(() -> auditService.registrarAcoes("TRANSICAO_LOTE", "Discente", anteriores, novos));
+
+        return atualizados;
+    }
+
+    /**
+     * Orientadores dos discentes do lote, com as titulações a somar como concluídas
+     */
+    private List<ConclusoesDocente> conclusoesPorOrientador(TransicaoDiscente transicao,
+                                                           Iterable<SituacaoDiscente> situacoes) {
+        Map<Long, int[]> porOrientador = new LinkedHashMap<>();
+        for (SituacaoDiscente situacao : situacoes) {
+            if (situacao.orientadorId() == null) {
+                continue;
+            }
+            int[] concluidas = porOrientador.computeIfAbsent(situacao.orientadorId(), id -> new int[2]);
+            if (transicao == TransicaoDiscente.TITULAR) {
+                concluidas[situacao.tipoCurso() == TipoCurso.MESTRADO ? 0 : 1]++;
+            }
+        }
+        return porOrientador.entrySet().stream()
+                .map(e -> new ConclusoesDocente(e.getKey(), e.getValue()[0], e.getValue()[1]))
+                .toList();
+    }
+
+    private String descricao(SituacaoDiscente situacao) {
+        return situacao.status() != null ? situacao.status().getDescricao() : "sem situação";
+    }
+
+    private ErroDiscente erro(Long discenteId, String mensagem) {
+        return ErroDiscente.builder()
+                .discenteId(discenteId)
+                .mensagem(mensagem)
+                .build();
+    }
+}
@@ -21,6 +21,11 @@ public enum StatusMatricula {
      */
     MATRICULADO("Matriculado", "Discente matriculado e cursando a disciplina"),
 
+    /**
+     * Discente aguardando vaga na oferta (promovido na ordem de inscrição)
+     */
+    LISTA_ESPERA("Lista de Espera", "Discente aguardando liberação de vaga"),
+
     /**
      * Matrícula trancada pelo discente
      */
@@ -0,0 +1,28 @@
+package br.edu.ppg.hub.academic.domain.enums;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Getter;
+
+/**
+ * Prazos acadêmicos acompanhados para cada discente ativo
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Getter
+public enum TipoPrazo {
+
+    QUALIFICACAO("Qualificação"),
+    DEFESA("Defesa");
+
+    private final String descricao;
+
+    TipoPrazo(String descricao) {
+        this.descricao = descricao;
+    }
+
+    @JsonValue
+    public String getDescricao() {
+        return descricao;
+    }
+}
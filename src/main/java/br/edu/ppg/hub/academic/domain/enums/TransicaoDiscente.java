@@ -0,0 +1,40 @@
+package br.edu.ppg.hub.academic.domain.enums;
+
+import lombok.Getter;
+
+/**
+ * Transições de situação aplicadas a discentes em lote, no fechamento do semestre
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Getter
+public enum TransicaoDiscente {
+
+    TITULAR("Titulação", StatusDiscente.TITULADO),
+    DESLIGAR("Desligamento", StatusDiscente.DESLIGADO),
+    /**
+     * Ainda não há situação de trancamento: o trancamento em lote é recusado
+     * até que exista uma situação de destino para gravar
+     */
+    TRANCAR("Trancamento", null);
+
+    private final String descricao;
+
+    /**
+     * Situação final do discente, ou nula se a transição não altera a situação
+     */
+    private final StatusDiscente statusDestino;
+
+    TransicaoDiscente(String descricao, StatusDiscente statusDestino) {
+        this.descricao = descricao;
+        this.statusDestino = statusDestino;
+    }
+
+    /**
+     * Verifica se a transição exige motivo
+     */
+    public boolean exigeMotivo() {
+        return this == DESLIGAR || this == TRANCAR;
+    }
+}
@@ -0,0 +1,24 @@
+package br.edu.ppg.hub.academic.domain.event;
+
+import br.edu.ppg.hub.academic.domain.enums.TipoPrazo;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Lote de alertas de prazos acadêmicos que atingiram uma das antecedências configuradas
+ * (ex.: 90, 30 e 7 dias antes e no dia do vencimento).
+ *
+ * <p>Publicado pelo monitor de prazos fora de transação, em lotes de tamanho limitado.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public record AlertasPrazoEvent(List<Alerta> alertas) {
+
+    /**
+     * @param diasRestantes dias até o vencimento no dia do alerta (zero no próprio dia)
+     */
+    public record Alerta(Long discenteId, Long programaId, TipoPrazo tipo, LocalDate data, long diasRestantes) {
+    }
+}
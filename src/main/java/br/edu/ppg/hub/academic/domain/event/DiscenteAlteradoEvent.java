@@ -0,0 +1,29 @@
+package br.edu.ppg.hub.academic.domain.event;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
+/**
+ * Evento publicado quando um discente entra, sai ou muda de situação em um programa
+ * (status, tipo de curso, bolsa ou programa).
+ *
+ * <p>Os programas anterior e atual diferem apenas quando o discente troca de
+ * programa; na matrícula o anterior é nulo e na exclusão o atual é nulo.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public record DiscenteAlteradoEvent(Long discenteId, Long programaAnteriorId, Long programaAtualId) {
+
+    /**
+     * Programas cujas estatísticas de discentes foram afetadas.
+     */
+    public Set<Long> programasAfetados() {
+        return Stream.of(programaAnteriorId, programaAtualId)
+                .filter(Objects::nonNull)
+                .collect(toUnmodifiableSet());
+    }
+}
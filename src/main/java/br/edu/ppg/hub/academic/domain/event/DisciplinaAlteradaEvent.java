@@ -0,0 +1,13 @@
+package br.edu.ppg.hub.academic.domain.event;
+
+/**
+ * Evento publicado quando uma disciplina é criada, alterada, ativada, desativada ou excluída.
+ *
+ * <p>Leva apenas o id: os interessados recarregam o estado atual após o commit
+ * (disciplina inexistente significa exclusão).</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public record DisciplinaAlteradaEvent(Long disciplinaId) {
+}
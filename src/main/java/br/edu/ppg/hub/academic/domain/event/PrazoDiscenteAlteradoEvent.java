@@ -0,0 +1,14 @@
+package br.edu.ppg.hub.academic.domain.event;
+
+/**
+ * Evento publicado quando muda algo que define os prazos de um discente: data limite,
+ * prorrogação, qualificação, defesa, status ou exclusão.
+ *
+ * <p>Leva apenas o id: os interessados recarregam o estado atual após o commit
+ * (discente inexistente ou inativo significa que não há mais prazos).</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public record PrazoDiscenteAlteradoEvent(Long discenteId) {
+}
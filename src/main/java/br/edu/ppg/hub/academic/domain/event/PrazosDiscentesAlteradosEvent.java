@@ -0,0 +1,14 @@
+package br.edu.ppg.hub.academic.domain.event;
+
+import java.util.List;
+
+/**
+ * Versão em lote de {@link PrazoDiscenteAlteradoEvent}, publicada pelas operações
+ * que alteram vários discentes de uma vez; os interessados recarregam todos em uma
+ * única leitura após o commit.
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public record PrazosDiscentesAlteradosEvent(List<Long> discenteIds) {
+}
@@ -0,0 +1,22 @@
+package br.edu.ppg.hub.academic.domain.event;
+
+/**
+ * Evento publicado quando matrículas recebem resultado final (aprovação ou reprovação)
+ * ou são removidas.
+ *
+ * <p>No fechamento em lote de uma oferta ou período vários discentes são afetados
+ * e {@code discenteId} é nulo.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public record ResultadosLancadosEvent(Long discenteId) {
+
+    public static ResultadosLancadosEvent emLote() {
+        return new ResultadosLancadosEvent(null);
+    }
+
+    public boolean isEmLote() {
+        return discenteId == null;
+    }
+}
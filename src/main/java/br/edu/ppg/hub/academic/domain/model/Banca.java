@@ -38,6 +38,19 @@ import java.util.Map;
     name = "bancas",
     schema = "academic"
 )
+@NamedEntityGraph(
+    name = Banca.GRAFO_LISTAGEM,
+    attributeNodes = {
+        @NamedAttributeNode("trabalhoConclusao"),
+        @NamedAttributeNode(value = "discente", subgraph = "discente"),
+        @NamedAttributeNode(value = "presidente", subgraph = "docente"),
+        @NamedAttributeNode(value = "secretario", subgraph = "docente")
+    },
+    subgraphs = {
+        @NamedSubgraph(name = "discente", attributeNodes = @NamedAttributeNode("usuario")),
+        @NamedSubgraph(name = "docente", attributeNodes = @NamedAttributeNode("usuario"))
+    }
+)
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
@@ -46,6 +59,17 @@ import java.util.Map;
 @Builder
 public class Banca {
 
+    /**
+     * Grafo das listagens de bancas: trabalho de conclusão, discente, presidente e secretário, os três
+     * últimos com o usuário.
+     */
+    public static final String GRAFO_LISTAGEM = "Banca.listagem";
+
+    /**
+     * Número máximo de membros da banca.
+     */
+    public static final int MAXIMO_MEMBROS = 7;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -36,6 +36,17 @@ import java.util.Map;
         @UniqueConstraint(name = "uk_discente_programa_matricula", columnNames = {"programa_id", "numero_matricula"})
     }
 )
+@NamedEntityGraph(
+    name = Discente.GRAFO_LISTAGEM,
+    attributeNodes = {
+        @NamedAttributeNode("usuario"),
+        @NamedAttributeNode("programa"),
+        @NamedAttributeNode("linhaPesquisa"),
+        @NamedAttributeNode(value = "orientador", subgraph = "docente"),
+        @NamedAttributeNode(value = "coorientadorInterno", subgraph = "docente")
+    },
+    subgraphs = @NamedSubgraph(name = "docente", attributeNodes = @NamedAttributeNode("usuario"))
+)
 @EntityListeners(AuditingEntityListener.class)
 @Check(constraints = "data_defesa IS NULL OR data_defesa >= data_ingresso")
 @Getter
@@ -45,6 +56,12 @@ import java.util.Map;
 @Builder
 public class Discente {
 
+    /**
+     * Grafo das listagens de discentes: usuário, programa, linha de pesquisa e orientador e
+     * coorientador interno com os respectivos usuários.
+     */
+    public static final String GRAFO_LISTAGEM = "Discente.listagem";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
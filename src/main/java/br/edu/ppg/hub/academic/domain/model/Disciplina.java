@@ -37,6 +37,13 @@ import java.time.LocalDateTime;
                 @UniqueConstraint(name = "uk_disciplina_codigo", columnNames = {"programa_id", "codigo"})
         }
 )
+@NamedEntityGraph(
+    name = Disciplina.GRAFO_LISTAGEM,
+    attributeNodes = {
+        @NamedAttributeNode("programa"),
+        @NamedAttributeNode("linhaPesquisa")
+    }
+)
 @EntityListeners(AuditingEntityListener.class)
 @Data
 @Builder
@@ -44,6 +51,11 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Disciplina {
 
+    /**
+     * Grafo das listagens de disciplinas: programa e linha de pesquisa.
+     */
+    public static final String GRAFO_LISTAGEM = "Disciplina.listagem";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -223,7 +235,7 @@ public class Disciplina {
      */
     @NotNull(message = "Status é obrigatório")
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false, length = 50, columnDefinition = "VARCHAR(50) DEFAULT 'Ativa'")
+    @Column(nullable = false, length = 50, columnDefinition = "VARCHAR(50) DEFAULT 'ATIVA'")
     private StatusDisciplina status = StatusDisciplina.ATIVA;
 
     /**
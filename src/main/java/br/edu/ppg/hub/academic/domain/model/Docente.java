@@ -33,6 +33,14 @@ import java.time.LocalDateTime;
         @UniqueConstraint(name = "uk_docente_usuario_programa", columnNames = {"usuario_id", "programa_id"})
     }
 )
+@NamedEntityGraph(
+    name = Docente.GRAFO_LISTAGEM,
+    attributeNodes = {
+        @NamedAttributeNode("usuario"),
+        @NamedAttributeNode("programa"),
+        @NamedAttributeNode("linhaPesquisa")
+    }
+)
 @EntityListeners(AuditingEntityListener.class)
 @Check(constraints = "data_desvinculacao IS NULL OR data_desvinculacao >= data_vinculacao")
 @Getter
@@ -42,6 +50,16 @@ import java.time.LocalDateTime;
 @Builder
 public class Docente {
 
+    /**
+     * Grafo das listagens de docentes: usuário, programa e linha de pesquisa.
+     */
+    public static final String GRAFO_LISTAGEM = "Docente.listagem";
+
+    /**
+     * Número máximo de orientações simultâneas (mestrado e doutorado).
+     */
+    public static final int LIMITE_ORIENTACOES = 8;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -311,6 +329,6 @@ public class Docente {
      * (geralmente 8 para mestrado+doutorado, mas pode variar)
      */
     public boolean atingiuLimiteOrientacoes() {
-        return getTotalOrientacoesAndamento() >= 8;
+        return getTotalOrientacoesAndamento() >= LIMITE_ORIENTACOES;
     }
 }
@@ -40,6 +40,21 @@ import java.time.LocalDateTime;
                 )
         }
 )
+@NamedEntityGraph(
+    name = MatriculaDisciplina.GRAFO_LISTAGEM,
+    attributeNodes = {
+        @NamedAttributeNode(value = "discente", subgraph = "discente"),
+        @NamedAttributeNode(value = "ofertaDisciplina", subgraph = "oferta")
+    },
+    subgraphs = {
+        @NamedSubgraph(name = "discente", attributeNodes = @NamedAttributeNode("usuario")),
+        @NamedSubgraph(name = "oferta", attributeNodes = {
+            @NamedAttributeNode("disciplina"),
+            @NamedAttributeNode(value = "docenteResponsavel", subgraph = "docente")
+        }),
+        @NamedSubgraph(name = "docente", attributeNodes = @NamedAttributeNode("usuario"))
+    }
+)
 @EntityListeners(AuditingEntityListener.class)
 @Data
 @Builder
@@ -47,6 +62,12 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class MatriculaDisciplina {
 
+    /**
+     * Grafo das listagens de matrículas: discente com usuário e oferta com disciplina e docente
+     * responsável (e o usuário deste).
+     */
+    public static final String GRAFO_LISTAGEM = "MatriculaDisciplina.listagem";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -109,10 +130,10 @@ public class MatriculaDisciplina {
     private BigDecimal notaFinal;
 
     /**
-     * Conceito final (A, B, C, D, E, Aprovado, Reprovado)
+     * Conceito final (A, B, C, D, E, Reprovado por Falta, Reprovado por Nota)
      */
-    @Size(max = 10, message = "Conceito deve ter no máximo 10 caracteres")
-    @Column(length = 10)
+    @Size(max = 30, message = "Conceito deve ter no máximo 30 caracteres")
+    @Column(length = 30)
     private String conceito;
 
     /**
@@ -154,6 +175,9 @@ public class MatriculaDisciplina {
 
     private static final BigDecimal NOTA_MINIMA_APROVACAO = new BigDecimal("7.0");
     private static final BigDecimal FREQUENCIA_MINIMA_APROVACAO = new BigDecimal("75.0");
+    private static final BigDecimal NOTA_CONCEITO_A = new BigDecimal("9.0");
+    private static final BigDecimal NOTA_CONCEITO_B = new BigDecimal("8.0");
+    private static final BigDecimal NOTA_CONCEITO_D = new BigDecimal("6.0");
 
     // =====================================================
     // Métodos Helper
@@ -194,6 +218,15 @@ public class MatriculaDisciplina {
         return this.situacao == StatusMatricula.MATRICULADO;
     }
 
+    /**
+     * Verifica se a matrícula está na lista de espera da oferta
+     *
+     * @return true se aguarda vaga
+     */
+    public boolean isEmListaEspera() {
+        return this.situacao == StatusMatricula.LISTA_ESPERA;
+    }
+
     /**
      * Verifica se a matrícula foi trancada
      *
@@ -284,13 +317,13 @@ public class MatriculaDisciplina {
             return null;
         }
 
-        if (notaFinal.compareTo(new BigDecimal("9.0")) >= 0) {
+        if (notaFinal.compareTo(NOTA_CONCEITO_A) >= 0) {
             return "A";
-        } else if (notaFinal.compareTo(new BigDecimal("8.0")) >= 0) {
+        } else if (notaFinal.compareTo(NOTA_CONCEITO_B) >= 0) {
             return "B";
-        } else if (notaFinal.compareTo(new BigDecimal("7.0")) >= 0) {
+        } else if (notaFinal.compareTo(NOTA_MINIMA_APROVACAO) >= 0) {
             return "C";
-        } else if (notaFinal.compareTo(new BigDecimal("6.0")) >= 0) {
+        } else if (notaFinal.compareTo(NOTA_CONCEITO_D) >= 0) {
             return "D";
         } else {
             return "E";
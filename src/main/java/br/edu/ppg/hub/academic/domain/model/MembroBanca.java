@@ -30,6 +30,11 @@ import java.time.LocalDateTime;
     name = "membros_banca",
     schema = "academic"
 )
+@NamedEntityGraph(
+    name = MembroBanca.GRAFO_LISTAGEM,
+    attributeNodes = @NamedAttributeNode(value = "docente", subgraph = "docente"),
+    subgraphs = @NamedSubgraph(name = "docente", attributeNodes = @NamedAttributeNode("usuario"))
+)
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
@@ -38,6 +43,11 @@ import java.time.LocalDateTime;
 @Builder
 public class MembroBanca {
 
+    /**
+     * Grafo dos membros da banca: o docente interno e o seu usuário (nulo para membros externos).
+     */
+    public static final String GRAFO_LISTAGEM = "MembroBanca.listagem";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -90,6 +100,13 @@ public class MembroBanca {
     @Size(max = 255, message = "O email não pode exceder 255 caracteres")
     private String email;
 
+    /**
+     * ORCID do membro externo, usado na verificação de conflito de interesse por coautoria
+     */
+    @Column(name = "orcid", length = 19)
+    @Pattern(regexp = "^\\d{4}-\\d{4}-\\d{4}-\\d{3}[\\dX]$", message = "ORCID inválido")
+    private String orcid;
+
     /**
      * Resumo do currículo do membro (Lattes resumido)
      */
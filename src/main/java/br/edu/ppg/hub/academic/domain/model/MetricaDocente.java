@@ -23,6 +23,11 @@ import java.time.LocalDateTime;
         @Index(name = "idx_metrica_data_coleta", columnList = "data_coleta")
     }
 )
+@NamedEntityGraph(
+    name = MetricaDocente.GRAFO_LISTAGEM,
+    attributeNodes = @NamedAttributeNode(value = "docente", subgraph = "docente"),
+    subgraphs = @NamedSubgraph(name = "docente", attributeNodes = @NamedAttributeNode("usuario"))
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -30,6 +35,11 @@ import java.time.LocalDateTime;
 @Builder
 public class MetricaDocente {
 
+    /**
+     * Grafo das listagens de métricas: o docente e o seu usuário (nome do pesquisador).
+     */
+    public static final String GRAFO_LISTAGEM = "MetricaDocente.listagem";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
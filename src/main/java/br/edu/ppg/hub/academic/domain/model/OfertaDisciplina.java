@@ -38,6 +38,15 @@ import java.time.LocalDateTime;
                 )
         }
 )
+@NamedEntityGraph(
+    name = OfertaDisciplina.GRAFO_LISTAGEM,
+    attributeNodes = {
+        @NamedAttributeNode("disciplina"),
+        @NamedAttributeNode(value = "docenteResponsavel", subgraph = "docente"),
+        @NamedAttributeNode(value = "docenteColaborador", subgraph = "docente")
+    },
+    subgraphs = @NamedSubgraph(name = "docente", attributeNodes = @NamedAttributeNode("usuario"))
+)
 @EntityListeners(AuditingEntityListener.class)
 @Data
 @Builder
@@ -45,6 +54,11 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class OfertaDisciplina {
 
+    /**
+     * Grafo das listagens de ofertas: disciplina e docentes responsável e colaborador, com os usuários.
+     */
+    public static final String GRAFO_LISTAGEM = "OfertaDisciplina.listagem";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -156,17 +170,17 @@ public class OfertaDisciplina {
     private Integer vagasOferecidas;
 
     /**
-     * Número de vagas já ocupadas
+     * Número de vagas já ocupadas (mantido pelo SeatAllocator, não é sobrescrito em updates da entidade)
      */
     @Min(value = 0, message = "Vagas ocupadas não podem ser negativas")
-    @Column(name = "vagas_ocupadas", columnDefinition = "INTEGER DEFAULT 0")
+    @Column(name = "vagas_ocupadas", updatable = false, columnDefinition = "INTEGER DEFAULT 0")
     private Integer vagasOcupadas = 0;
 
     /**
-     * Número de alunos em lista de espera
+     * Número de alunos em lista de espera (mantido pelo SeatAllocator)
      */
     @Min(value = 0, message = "Lista de espera não pode ser negativa")
-    @Column(name = "lista_espera", columnDefinition = "INTEGER DEFAULT 0")
+    @Column(name = "lista_espera", updatable = false, columnDefinition = "INTEGER DEFAULT 0")
     private Integer listaEspera = 0;
 
     /**
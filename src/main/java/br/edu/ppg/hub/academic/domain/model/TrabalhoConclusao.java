@@ -38,6 +38,18 @@ import java.time.LocalDateTime;
         @UniqueConstraint(name = "uk_trabalho_discente", columnNames = {"discente_id"})
     }
 )
+@NamedEntityGraph(
+    name = TrabalhoConclusao.GRAFO_LISTAGEM,
+    attributeNodes = {
+        @NamedAttributeNode(value = "discente", subgraph = "discente"),
+        @NamedAttributeNode(value = "orientador", subgraph = "docente"),
+        @NamedAttributeNode(value = "coorientador", subgraph = "docente")
+    },
+    subgraphs = {
+        @NamedSubgraph(name = "discente", attributeNodes = @NamedAttributeNode("usuario")),
+        @NamedSubgraph(name = "docente", attributeNodes = @NamedAttributeNode("usuario"))
+    }
+)
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
@@ -46,6 +58,11 @@ import java.time.LocalDateTime;
 @Builder
 public class TrabalhoConclusao {
 
+    /**
+     * Grafo das listagens de trabalhos: discente, orientador e coorientador, cada um com o seu usuário.
+     */
+    public static final String GRAFO_LISTAGEM = "TrabalhoConclusao.listagem";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -222,7 +239,7 @@ public class TrabalhoConclusao {
     private String idioma = "pt";
 
     /**
-     * URL ou caminho do arquivo PDF do trabalho
+     * Chave do arquivo PDF no armazenamento de documentos (SHA-256 do conteúdo)
      */
     @Column(name = "arquivo_pdf", columnDefinition = "TEXT")
     private String arquivoPdf;
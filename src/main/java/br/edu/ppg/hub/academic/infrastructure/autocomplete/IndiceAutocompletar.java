@@ -0,0 +1,186 @@
+package br.edu.ppg.hub.academic.infrastructure.autocomplete;
+
+import br.edu.ppg.hub.academic.domain.event.DisciplinaAlteradaEvent;
+import br.edu.ppg.hub.academic.domain.event.DocenteAlteradoEvent;
+import br.edu.ppg.hub.academic.infrastructure.repository.DisciplinaRepository;
+import br.edu.ppg.hub.academic.infrastructure.repository.DocenteRepository;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.ItemAutocompletarProjection;
+import br.edu.ppg.hub.core.domain.event.ProgramaAlteradoEvent;
+import br.edu.ppg.hub.core.infrastructure.repository.ProgramaRepository;
+import br.edu.ppg.hub.core.infrastructure.repository.projection.ProgramaAutocompletarProjection;
+import br.edu.ppg.hub.shared.util.Transacoes;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Índice em memória para o autocompletar de docentes, disciplinas e programas.
+ *
+ * <p>Docentes e disciplinas são indexados por programa; programas, em um índice
+ * global. O índice é carregado na inicialização e mantido por eventos de
+ * alteração ({@link DocenteAlteradoEvent}, {@link DisciplinaAlteradaEvent},
+ * {@link ProgramaAlteradoEvent}): após o commit, apenas o registro alterado é
+ * relido do banco. As consultas de autocompletar não acessam o banco.</p>
+ *
+ * <p>Alterações que não publicam evento (ex.: nome do usuário de um docente) são
+ * corrigidas pela recarga completa diária. Uma alteração concorrente a uma recarga
+ * pode se perder até o próximo evento do mesmo registro ou a próxima recarga.</p>
+ *
+ * <p>O estado em memória é por instância; cada instância mantém o seu.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Component
+@Slf4j
+public class IndiceAutocompletar {
+
+    private final DocenteRepository docenteRepository;
+    private final DisciplinaRepository disciplinaRepository;
+    private final ProgramaRepository programaRepository;
+    private final TransactionTemplate leitura;
+
+    private volatile IndicePorPrograma docentes = new IndicePorPrograma();
+    private volatile IndicePorPrograma disciplinas = new IndicePorPrograma();
+    private volatile IndicePrefixos programas = new IndicePrefixos();
+
+    public IndiceAutocompletar(DocenteRepository docenteRepository,
+                               DisciplinaRepository disciplinaRepository,
+                               ProgramaRepository programaRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.docenteRepository = docenteRepository;
+        this.disciplinaRepository = disciplinaRepository;
+        this.programaRepository = programaRepository;
+        this.leitura = Transacoes.leituraPropria(transactionManager);
+    }
+
+    /**
+     * Docentes ativos do programa cujo nome começa com os termos informados.
+     */
+    public List<ItemAutocompletar> docentes(Long programaId, String consulta, int limite) {
+        return docentes.buscar(programaId, consulta, limite);
+    }
+
+    /**
+     * Disciplinas ativas do programa cujo código ou nome começa com os termos informados.
+     */
+    public List<ItemAutocompletar> disciplinas(Long programaId, String consulta, int limite) {
+        return disciplinas.buscar(programaId, consulta, limite);
+    }
+
+    /**
+     * Programas ativos cuja sigla ou nome começa com os termos informados.
+     */
+    public List<ItemAutocompletar> programas(String consulta, int limite) {
+        return programas.buscar(consulta, limite);
+    }
+
+    /**
+     * Carga completa na inicialização e, diariamente, como rede de segurança.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 15 3 * * *")
+    public void recarregar() {
+        long inicio = System.nanoTime();
+
+        IndicePorPrograma novosDocentes = new IndicePorPrograma();
+        IndicePorPrograma novasDisciplinas = new IndicePorPrograma();
+        IndicePrefixos novosProgramas = new IndicePrefixos();
+
+        leitura.executeWithoutResult(status -> {
+            docenteRepository.findItensAutocompletar().forEach(item -> novosDocentes.colocar(item, item.getRotulo()));
+            disciplinaRepository.findItensAutocompletar().forEach(item -> novasDisciplinas.colocar(item, textoDisciplina(item)));
+            programaRepository.findItensAutocompletar().forEach(item -> colocarPrograma(novosProgramas, item));
+        });
+
+        docentes = novosDocentes;
+        disciplinas = novasDisciplinas;
+        programas = novosProgramas;
+
+        log.info("Índice de autocompletar carregado em {} ms: {} docentes, {} disciplinas, {} programas",
+                (System.nanoTime() - inicio) / 1_000_000,
+                novosDocentes.tamanho(), novasDisciplinas.tamanho(), novosProgramas.tamanho());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocenteAlterado(DocenteAlteradoEvent event) {
+        atualizar(event.docenteId(), docentes, docenteRepository::findItemAutocompletar, ItemAutocompletarProjection::getRotulo);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDisciplinaAlterada(DisciplinaAlteradaEvent event) {
+        atualizar(event.disciplinaId(), disciplinas, disciplinaRepository::findItemAutocompletar, IndiceAutocompletar::textoDisciplina);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProgramaAlterado(ProgramaAlteradoEvent event) {
+        Long id = event.programaId();
+        IndicePrefixos indice = programas;
+        leitura.execute(status -> programaRepository.findItemAutocompletar(id))
+                .ifPresentOrElse(item -> colocarPrograma(indice, item), () -> indice.remover(id));
+    }
+
+    private void atualizar(Long id, IndicePorPrograma indice,
+                           Function<Long, Optional<ItemAutocompletarProjection>> carregar,
+                           Function<ItemAutocompletarProjection, String> texto) {
+        leitura.execute(status -> carregar.apply(id))
+                .ifPresentOrElse(item -> indice.colocar(item, texto.apply(item)), () -> indice.remover(id));
+    }
+
+    private static String textoDisciplina(ItemAutocompletarProjection item) {
+        return item.getDetalhe() + " " + item.getRotulo();
+    }
+
+    private static void colocarPrograma(IndicePrefixos indice, ProgramaAutocompletarProjection programa) {
+        indice.colocar(programa.getId(), programa.getSigla(), programa.getNome(),
+                programa.getSigla() + " " + programa.getNome());
+    }
+
+    /**
+     * Um índice de prefixos por programa. Guarda o programa de cada item para
+     * retirá-lo do índice anterior quando ele muda de programa.
+     */
+    private static final class IndicePorPrograma {
+
+        private final Map<Long, IndicePrefixos> porPrograma = new ConcurrentHashMap<>();
+        private final Map<Long, Long> programaDoItem = new ConcurrentHashMap<>();
+
+        List<ItemAutocompletar> buscar(Long programaId, String consulta, int limite) {
+            IndicePrefixos indice = porPrograma.get(programaId);
+            return indice != null ? indice.buscar(consulta, limite) : List.of();
+        }
+
+        void colocar(ItemAutocompletarProjection item, String texto) {
+            long id = item.getId();
+            Long programaId = item.getProgramaId();
+            Long anterior = programaDoItem.put(id, programaId);
+            if (anterior != null && !anterior.equals(programaId)) {
+                porPrograma.get(anterior).remover(id);
+            }
+            porPrograma.computeIfAbsent(programaId, p -> new IndicePrefixos())
+                    .colocar(id, item.getRotulo(), item.getDetalhe(), texto);
+        }
+
+        void remover(long id) {
+            Long programaId = programaDoItem.remove(id);
+            if (programaId != null) {
+                porPrograma.get(programaId).remover(id);
+            }
+        }
+
+        int tamanho() {
+            return programaDoItem.size();
+        }
+    }
+}
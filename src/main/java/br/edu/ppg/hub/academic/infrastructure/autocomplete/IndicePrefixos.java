@@ -0,0 +1,153 @@
+package br.edu.ppg.hub.academic.infrastructure.autocomplete;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.regex.Pattern;
+
+/**
+ * Índice de prefixos em memória de um escopo (um programa ou o catálogo global).
+ *
+ * <p>Cada item é quebrado em tokens minúsculos e sem acentos; os pares
+ * (token, id) ficam em um conjunto ordenado, e a busca por prefixo percorre
+ * apenas o intervalo [prefixo, prefixo + U+FFFF). Com vários termos na consulta,
+ * o mais longo seleciona os candidatos e os demais precisam ser prefixo de algum
+ * token do item ("jo sil" casa "José da Silva").</p>
+ *
+ * <p>Leituras não bloqueiam; escritas são serializadas por item. Durante a troca
+ * de um item, uma leitura concorrente pode não vê-lo por um instante.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+final class IndicePrefixos {
+
+    private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Comparator<Chave> ORDEM = Comparator.comparing(Chave::token)
+            .thenComparingLong(Chave::id);
+
+    private final NavigableSet<Chave> chaves = new ConcurrentSkipListSet<>(ORDEM);
+    private final Map<Long, Registro> registros = new ConcurrentHashMap<>();
+
+    /**
+     * Inclui ou substitui um item.
+     *
+     * @param texto texto indexado (ex.: código e nome da disciplina)
+     */
+    void colocar(long id, String rotulo, String detalhe, String texto) {
+        String[] tokens = tokens(texto);
+        Registro novo = new Registro(new ItemAutocompletar(id, rotulo, detalhe), tokens);
+        registros.compute(id, (chave, anterior) -> {
+            if (anterior != null) {
+                for (String token : anterior.tokens()) {
+                    chaves.remove(new Chave(token, id));
+                }
+            }
+            for (String token : tokens) {
+                chaves.add(new Chave(token, id));
+            }
+            return novo;
+        });
+    }
+
+    /**
+     * Remove um item (sem efeito se não estiver no índice).
+     */
+    void remover(long id) {
+        registros.computeIfPresent(id, (chave, anterior) -> {
+            for (String token : anterior.tokens()) {
+                chaves.remove(new Chave(token, id));
+            }
+            return null;
+        });
+    }
+
+    boolean contem(long id) {
+        return registros.containsKey(id);
+    }
+
+    int tamanho() {
+        return registros.size();
+    }
+
+    /**
+     * Itens cujos tokens começam com todos os termos da consulta, em ordem alfabética do rótulo.
+     */
+    List<ItemAutocompletar> buscar(String consulta, int limite) {
+        String[] termos = tokens(consulta);
+        if (termos.length == 0 || limite <= 0) {
+            return List.of();
+        }
+        // O termo mais longo é o mais seletivo
+        String guia = termos[0];
+        for (String termo : termos) {
+            if (termo.length() > guia.length()) {
+                guia = termo;
+            }
+        }
+
+        Set<Long> vistos = new LinkedHashSet<>();
+        List<ItemAutocompletar> encontrados = new ArrayList<>();
+        for (Chave chave : chaves.subSet(new Chave(guia, Long.MIN_VALUE), true,
+                new Chave(guia + '\uffff', Long.MIN_VALUE), false)) {
+            if (!vistos.add(chave.id())) {
+                continue;
+            }
+            Registro registro = registros.get(chave.id());
+            if (registro != null && registro.casaTodos(termos)) {
+                encontrados.add(registro.item());
+            }
+        }
+
+        encontrados.sort(Comparator.comparing(ItemAutocompletar::rotulo, String.CASE_INSENSITIVE_ORDER));
+        return encontrados.size() > limite ? List.copyOf(encontrados.subList(0, limite)) : encontrados;
+    }
+
+    /**
+     * Tokens distintos, em ordem, minúsculos e sem acentos.
+     */
+    static String[] tokens(String texto) {
+        if (texto == null || texto.isBlank()) {
+            return new String[0];
+        }
+        String semAcentos = MARCAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return Arrays.stream(SEPARADORES.split(semAcentos.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .sorted()
+                .toArray(String[]::new);
+    }
+
+    private record Chave(String token, long id) {
+    }
+
+    private record Registro(ItemAutocompletar item, String[] tokens) {
+
+        /**
+         * Cada termo precisa ser prefixo de algum token (tokens ordenados: busca binária).
+         */
+        boolean casaTodos(String[] termos) {
+            for (String termo : termos) {
+                int posicao = Arrays.binarySearch(tokens, termo);
+                if (posicao < 0) {
+                    posicao = -posicao - 1;
+                    if (posicao >= tokens.length || !tokens[posicao].startsWith(termo)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package br.edu.ppg.hub.academic.infrastructure.autocomplete;
+
+/**
+ * Sugestão do autocompletar.
+ *
+ * @param id      identificador da entidade
+ * @param rotulo  texto exibido (nome do docente, nome da disciplina, sigla do programa)
+ * @param detalhe texto complementar (código da disciplina, nome do programa)
+ * @author PPG Hub
+ * @since 1.0
+ */
+public record ItemAutocompletar(long id, String rotulo, String detalhe) {
+}
@@ -0,0 +1,237 @@
+package br.edu.ppg.hub.academic.infrastructure.coautoria;
+
+import br.edu.ppg.hub.shared.util.Transacoes;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Grafo de coautoria dos autores sincronizados com o OpenAlex, para detectar
+ * conflito de interesse entre membros de banca e discente ou orientador.
+ *
+ * <p>Cada autor sincronizado tem a lista ordenada dos IDs numéricos dos coautores
+ * ({@code A5023888391} vira {@code 5023888391}) com o ano da colaboração mais
+ * recente, em dois arrays paralelos. Verificar se dois autores colaboraram é uma
+ * busca binária na lista de cada um; a verificação de uma banca inteira é a
+ * interseção dos membros com os coautores de discente e orientadores.</p>
+ *
+ * <p>As arestas são gravadas em {@code academic.coautorias} a cada sincronização,
+ * na transação de quem sincroniza, e aplicadas à memória após o commit. Uma
+ * sincronização só acrescenta coautores ou avança o ano: trabalhos que deixam de
+ * vir do OpenAlex não apagam colaborações já conhecidas.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Component
+@Slf4j
+public class GrafoCoautoria {
+
+    private static final String SELECT_COAUTORIAS = """
+            SELECT autor_id, coautor_id, coautor_orcid, ultimo_ano
+            FROM academic.coautorias
+            """;
+
+    private static final String UPSERT_COAUTORIAS = """
+            INSERT INTO academic.coautorias (autor_id, coautor_id, coautor_orcid, ultimo_ano)
+            SELECT ?, c.coautor_id, c.orcid, c.ano
+            FROM UNNEST(CAST(? AS BIGINT[]), CAST(? AS VARCHAR[]), CAST(? AS SMALLINT[])) AS c(coautor_id, orcid, ano)
+            ON CONFLICT (autor_id, coautor_id) DO UPDATE
+            SET ultimo_ano = GREATEST(academic.coautorias.ultimo_ano, EXCLUDED.ultimo_ano),
+                coautor_orcid = COALESCE(EXCLUDED.coautor_orcid, academic.coautorias.coautor_orcid)
+            """;
+
+    private static final Pattern ORCID = Pattern.compile("\\d{4}-\\d{4}-\\d{4}-\\d{3}[\\dX]");
+
+    /**
+     * Coautor de um trabalho do autor sincronizado.
+     *
+     * @param orcid ORCID normalizado do coautor, ou nulo
+     */
+    public record Coautoria(long coautorId, String orcid, int ano) {
+    }
+
+    /**
+     * Colaboração entre um membro da banca e um avaliado (discente ou orientador).
+     */
+    public record Conflito(long membroAutorId, long avaliadoAutorId, int ultimoAno) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate novaTransacao;
+
+    private final Map<Long, Coautores> coautores = new ConcurrentHashMap<>();
+    private final Map<String, Long> autoresPorOrcid = new ConcurrentHashMap<>();
+
+    public GrafoCoautoria(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.novaTransacao = Transacoes.leituraPropria(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        Map<Long, Map<Long, Integer>> arestas = new HashMap<>();
+        Map<String, Long> orcids = new HashMap<>();
+        novaTransacao.executeWithoutResult(status -> jdbcTemplate.query(SELECT_COAUTORIAS, rs -> {
+            long coautorId = rs.getLong("coautor_id");
+            arestas.computeIfAbsent(rs.getLong("autor_id"), id -> new HashMap<>())
+                    .put(coautorId, rs.getInt("ultimo_ano"));
+            String orcid = rs.getString("coautor_orcid");
+            if (orcid != null) {
+                orcids.put(orcid, coautorId);
+            }
+        }));
+        arestas.forEach((autorId, anos) -> coautores.put(autorId, Coautores.VAZIO.mesclar(anos)));
+        autoresPorOrcid.putAll(orcids);
+        log.info("Grafo de coautoria carregado: {} autores, {} ORCIDs conhecidos", arestas.size(), orcids.size());
+    }
+
+    /**
+     * Registra os coautores de uma sincronização do autor. Grava na transação corrente;
+     * a memória é atualizada após o commit.
+     */
+    public void atualizar(long autorId, Collection<Coautoria> coautorias) {
+        Map<Long, Integer> anos = new HashMap<>();
+        Map<Long, String> orcids = new HashMap<>();
+        for (Coautoria coautoria : coautorias) {
+            if (coautoria.coautorId() == autorId) {
+                continue;
+            }
+            anos.merge(coautoria.coautorId(), coautoria.ano(), Math::max);
+            if (coautoria.orcid() != null) {
+                orcids.put(coautoria.coautorId(), coautoria.orcid());
+            }
+        }
+        if (anos.isEmpty()) {
+            return;
+        }
+
+        Long[] ids = anos.keySet().toArray(Long[]::new);
+        String[] orcidsArray = new String[ids.length];
+        Integer[] anosArray = new Integer[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            orcidsArray[i] = orcids.get(ids[i]);
+            anosArray[i] = anos.get(ids[i]);
+        }
+        jdbcTemplate.update(UPSERT_COAUTORIAS, autorId, ids, orcidsArray, anosArray);
+
+        Transacoes.aposCommit(() -> {
+            coautores.compute(autorId, (id, atual) -> (atual == null ? Coautores.VAZIO : atual).mesclar(anos));
+            orcids.forEach((coautorId, orcid) -> autoresPorOrcid.put(orcid, coautorId));
+        });
+        log.debug("Coautoria do autor {} atualizada: {} coautores", autorId, anos.size());
+    }
+
+    /**
+     * Autor do OpenAlex com o ORCID, se já apareceu como coautor em alguma sincronização.
+     */
+    public Optional<Long> autorPorOrcid(String orcid) {
+        String normalizado = normalizarOrcid(orcid);
+        return normalizado == null ? Optional.empty() : Optional.ofNullable(autoresPorOrcid.get(normalizado));
+    }
+
+    /**
+     * Ano da colaboração mais recente entre os dois autores, em qualquer das listas, ou -1.
+     */
+    public int ultimaColaboracao(long autor, long outro) {
+        return Math.max(coautores.getOrDefault(autor, Coautores.VAZIO).ano(outro),
+                coautores.getOrDefault(outro, Coautores.VAZIO).ano(autor));
+    }
+
+    /**
+     * Pares membro-avaliado que colaboraram a partir de {@code anoMinimo}.
+     * Um autor não conflita consigo mesmo (orientador que também é membro).
+     */
+    public List<Conflito> conflitos(Collection<Long> membros, Collection<Long> avaliados, int anoMinimo) {
+        List<Conflito> conflitos = new ArrayList<>();
+        for (long avaliado : avaliados) {
+            for (long membro : membros) {
+                if (membro == avaliado) {
+                    continue;
+                }
+                int ano = ultimaColaboracao(membro, avaliado);
+                if (ano >= anoMinimo) {
+                    conflitos.add(new Conflito(membro, avaliado, ano));
+                }
+            }
+        }
+        return conflitos;
+    }
+
+    /**
+     * ID numérico de um autor a partir do ID ou da URL do OpenAlex (A5023888391 ou
+     * https://openalex.org/A5023888391); nulo se não for um ID de autor.
+     */
+    public static Long autorId(String openAlexId) {
+        if (openAlexId == null) {
+            return null;
+        }
+        String id = openAlexId.substring(openAlexId.lastIndexOf('/') + 1).trim();
+        if (id.length() < 2 || Character.toUpperCase(id.charAt(0)) != 'A') {
+            return null;
+        }
+        try {
+            return Long.parseLong(id.substring(1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * ORCID sem prefixo de URL e com dígito verificador maiúsculo; nulo se inválido.
+     */
+    public static String normalizarOrcid(String orcid) {
+        if (orcid == null) {
+            return null;
+        }
+        String valor = orcid.substring(orcid.lastIndexOf('/') + 1).trim().toUpperCase(Locale.ROOT);
+        return ORCID.matcher(valor).matches() ? valor : null;
+    }
+
+    /**
+     * Coautores de um autor: IDs em ordem crescente e ano da última colaboração. Imutável.
+     */
+    private record Coautores(long[] ids, short[] anos) {
+
+        static final Coautores VAZIO = new Coautores(new long[0], new short[0]);
+
+        int ano(long coautorId) {
+            int i = Arrays.binarySearch(ids, coautorId);
+            return i < 0 ? -1 : anos[i];
+        }
+
+        Coautores mesclar(Map<Long, Integer> novos) {
+            TreeMap<Long, Integer> todos = new TreeMap<>();
+            for (int i = 0; i < ids.length; i++) {
+                todos.put(ids[i], (int) anos[i]);
+            }
+            novos.forEach((id, ano) -> todos.merge(id, ano, Math::max));
+
+            long[] novosIds = new long[todos.size()];
+            short[] novosAnos = new short[todos.size()];
+            int i = 0;
+            for (Map.Entry<Long, Integer> entrada : todos.entrySet()) {
+                novosIds[i] = entrada.getKey();
+                novosAnos[i] = entrada.getValue().shortValue();
+                i++;
+            }
+            return new Coautores(novosIds, novosAnos);
+        }
+    }
+}
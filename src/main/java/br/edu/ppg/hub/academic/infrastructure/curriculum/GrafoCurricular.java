@@ -0,0 +1,272 @@
+package br.edu.ppg.hub.academic.infrastructure.curriculum;
+
+import br.edu.ppg.hub.shared.exception.BusinessException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Grafo de pré-requisitos e co-requisitos das disciplinas de um programa.
+ *
+ * <p>Conjuntos de disciplinas são {@link BitSet}s indexados pela posição da disciplina
+ * no programa (ids em ordem crescente, de 0 ao total de disciplinas), e não pelo id
+ * global: o tamanho de cada bitset acompanha o currículo do programa, não a tabela de
+ * disciplinas inteira. {@link #bits} e {@link #ids} convertem entre ids e posições.
+ * Na construção, uma busca em profundidade detecta ciclos e calcula o fechamento
+ * transitivo de cada disciplina (todos os pré-requisitos, diretos e indiretos).
+ * Com isso, a elegibilidade é um teste de subconjunto entre bitsets, e saber se um
+ * novo pré-requisito cria ciclo é uma consulta a um bit.</p>
+ *
+ * <p>Instâncias são imutáveis; alterações nas disciplinas geram um novo grafo, com
+ * posições possivelmente diferentes. Bitsets não devem ser guardados além do grafo
+ * que os criou.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public final class GrafoCurricular {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final BitSet VAZIO = new BitSet();
+
+    private final long[] ids;
+    private final Map<Long, Integer> posicoes;
+    private final BitSet[] preRequisitos;
+    private final BitSet[] coRequisitos;
+    private final BitSet[] fechamento;
+    private final List<Long> ciclo;
+
+    private GrafoCurricular(long[] ids, Map<Long, Integer> posicoes, BitSet[] preRequisitos,
+                            BitSet[] coRequisitos, BitSet[] fechamento, List<Long> ciclo) {
+        this.ids = ids;
+        this.posicoes = posicoes;
+        this.preRequisitos = preRequisitos;
+        this.coRequisitos = coRequisitos;
+        this.fechamento = fechamento;
+        this.ciclo = ciclo;
+    }
+
+    /**
+     * Constrói o grafo. Referências a disciplinas fora do mapa são ignoradas; se houver
+     * ciclo, a aresta que o fecha é desconsiderada no fechamento e o ciclo fica em {@link #ciclo()}.
+     */
+    public static GrafoCurricular construir(Map<Long, Requisitos> disciplinas) {
+        long[] ids = disciplinas.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        Map<Long, Integer> posicoes = new HashMap<>(ids.length * 2);
+        for (int i = 0; i < ids.length; i++) {
+            posicoes.put(ids[i], i);
+        }
+
+        BitSet[] pre = new BitSet[ids.length];
+        BitSet[] co = new BitSet[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            Requisitos requisitos = disciplinas.get(ids[i]);
+            pre[i] = bits(requisitos.preRequisitos(), posicoes);
+            co[i] = bits(requisitos.coRequisitos(), posicoes);
+        }
+
+        Construcao construcao = new Construcao(pre);
+        for (int i = 0; i < ids.length; i++) {
+            construcao.visitar(i);
+        }
+        List<Long> ciclo = construcao.ciclo.stream().map(i -> ids[i]).toList();
+        return new GrafoCurricular(ids, posicoes, pre, co, construcao.fechamento, ciclo);
+    }
+
+    public boolean contem(long disciplinaId) {
+        return posicoes.containsKey(disciplinaId);
+    }
+
+    /**
+     * Pré-requisitos diretos ainda não cumpridos (vazio: elegível).
+     */
+    public BitSet preRequisitosFaltantes(long disciplinaId, BitSet aprovadas) {
+        return diferenca(de(preRequisitos, disciplinaId), aprovadas);
+    }
+
+    /**
+     * Co-requisitos não cumpridos nem em curso.
+     */
+    public BitSet coRequisitosFaltantes(long disciplinaId, BitSet cumpridos) {
+        return diferenca(de(coRequisitos, disciplinaId), cumpridos);
+    }
+
+    public boolean temCoRequisitos(long disciplinaId) {
+        return !de(coRequisitos, disciplinaId).isEmpty();
+    }
+
+    /**
+     * Toda a cadeia de pré-requisitos (diretos e indiretos) ainda não aprovada.
+     */
+    public BitSet trilhaPendente(long disciplinaId, BitSet aprovadas) {
+        return diferenca(de(fechamento, disciplinaId), aprovadas);
+    }
+
+    /**
+     * Pré-requisitos propostos que fechariam um ciclo: a própria disciplina ou
+     * alguma que já a tem (direta ou indiretamente) como pré-requisito.
+     */
+    public List<Long> criariamCiclo(long disciplinaId, Set<Long> novosPreRequisitos) {
+        Integer posicao = posicoes.get(disciplinaId);
+        List<Long> ciclicos = new ArrayList<>();
+        for (Long preRequisito : novosPreRequisitos) {
+            if (preRequisito == disciplinaId
+                    || (posicao != null && de(fechamento, preRequisito).get(posicao))) {
+                ciclicos.add(preRequisito);
+            }
+        }
+        return ciclicos;
+    }
+
+    /**
+     * Primeiro ciclo encontrado na construção (vazio se o grafo é acíclico).
+     */
+    public List<Long> ciclo() {
+        return ciclo;
+    }
+
+    /**
+     * Ids das disciplinas nas posições marcadas, em ordem crescente.
+     */
+    public List<Long> ids(BitSet bits) {
+        List<Long> resultado = new ArrayList<>(bits.cardinality());
+        bits.stream().forEach(posicao -> resultado.add(ids[posicao]));
+        return resultado;
+    }
+
+    /**
+     * Bitset das disciplinas informadas; ids de outros programas são ignorados.
+     */
+    public BitSet bits(long[] disciplinaIds) {
+        BitSet bits = new BitSet(ids.length);
+        for (long id : disciplinaIds) {
+            Integer posicao = posicoes.get(id);
+            if (posicao != null) {
+                bits.set(posicao);
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Bitset das disciplinas informadas; ids de outros programas são ignorados.
+     */
+    public BitSet bits(Collection<Long> disciplinaIds) {
+        return bits(disciplinaIds, posicoes);
+    }
+
+    private BitSet de(BitSet[] conjuntos, long disciplinaId) {
+        Integer posicao = posicoes.get(disciplinaId);
+        return posicao == null ? VAZIO : conjuntos[posicao];
+    }
+
+    private static BitSet bits(Collection<Long> disciplinaIds, Map<Long, Integer> posicoes) {
+        BitSet bits = new BitSet(posicoes.size());
+        for (Long id : disciplinaIds) {
+            Integer posicao = posicoes.get(id);
+            if (posicao != null) {
+                bits.set(posicao);
+            }
+        }
+        return bits;
+    }
+
+    private static BitSet diferenca(BitSet exigidos, BitSet cumpridos) {
+        BitSet faltantes = (BitSet) exigidos.clone();
+        faltantes.andNot(cumpridos);
+        return faltantes;
+    }
+
+    /**
+     * Requisitos de uma disciplina (ids das colunas jsonb pre_requisitos e co_requisitos).
+     */
+    public record Requisitos(Set<Long> preRequisitos, Set<Long> coRequisitos) {
+
+        /**
+         * @throws BusinessException se alguma lista não for um array JSON de ids
+         */
+        public static Requisitos parse(String preRequisitos, String coRequisitos) {
+            return new Requisitos(ids(preRequisitos, "Pré-requisitos"), ids(coRequisitos, "Co-requisitos"));
+        }
+
+        private static Set<Long> ids(String json, String campo) {
+            if (json == null || json.isBlank()) {
+                return Set.of();
+            }
+            JsonNode raiz;
+            try {
+                raiz = MAPPER.readTree(json);
+            } catch (JsonProcessingException e) {
+                throw new BusinessException(campo + " não são um JSON válido");
+            }
+            if (!raiz.isArray()) {
+                throw new BusinessException(campo + " devem ser uma lista de ids de disciplinas");
+            }
+            Set<Long> ids = new LinkedHashSet<>();
+            for (JsonNode id : raiz) {
+                if (!id.canConvertToLong() || id.asLong() <= 0) {
+                    throw new BusinessException(campo + " contêm id inválido: " + id);
+                }
+                ids.add(id.asLong());
+            }
+            return Collections.unmodifiableSet(ids);
+        }
+    }
+
+    /**
+     * Busca em profundidade sobre as posições: brancos com estado 0, cinzas na pilha, pretos concluídos.
+     */
+    private static final class Construcao {
+
+        private static final int CINZA = 1;
+        private static final int PRETO = 2;
+
+        private final BitSet[] pre;
+        private final int[] estado;
+        private final BitSet[] fechamento;
+        private final List<Integer> pilha = new ArrayList<>();
+        private List<Integer> ciclo = List.of();
+
+        Construcao(BitSet[] pre) {
+            this.pre = pre;
+            this.estado = new int[pre.length];
+            this.fechamento = new BitSet[pre.length];
+        }
+
+        void visitar(int posicao) {
+            if (estado[posicao] != 0) {
+                return;
+            }
+            estado[posicao] = CINZA;
+            pilha.add(posicao);
+
+            BitSet alcancaveis = new BitSet(pre.length);
+            BitSet diretos = pre[posicao];
+            for (int requisito = diretos.nextSetBit(0); requisito >= 0; requisito = diretos.nextSetBit(requisito + 1)) {
+                visitar(requisito);
+                if (estado[requisito] == CINZA) {
+                    if (ciclo.isEmpty()) {
+                        ciclo = List.copyOf(pilha.subList(pilha.indexOf(requisito), pilha.size()));
+                    }
+                    continue;
+                }
+                alcancaveis.set(requisito);
+                alcancaveis.or(fechamento[requisito]);
+            }
+
+            fechamento[posicao] = alcancaveis;
+            estado[posicao] = PRETO;
+            pilha.remove(pilha.size() - 1);
+        }
+    }
+}
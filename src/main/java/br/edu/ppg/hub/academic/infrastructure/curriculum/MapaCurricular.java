@@ -0,0 +1,107 @@
+package br.edu.ppg.hub.academic.infrastructure.curriculum;
+
+import br.edu.ppg.hub.academic.domain.event.DisciplinaAlteradaEvent;
+import br.edu.ppg.hub.academic.domain.event.ResultadosLancadosEvent;
+import br.edu.ppg.hub.academic.infrastructure.curriculum.GrafoCurricular.Requisitos;
+import br.edu.ppg.hub.academic.infrastructure.repository.DisciplinaRepository;
+import br.edu.ppg.hub.academic.infrastructure.repository.MatriculaDisciplinaRepository;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.RequisitosDisciplinaProjection;
+import br.edu.ppg.hub.shared.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Grafos curriculares por programa e disciplinas aprovadas por discente.
+ *
+ * <p>O grafo de um programa é montado na primeira consulta a partir das colunas
+ * jsonb de requisitos e descartado quando qualquer disciplina muda
+ * ({@link DisciplinaAlteradaEvent}). As aprovações de cada discente ficam no cache
+ * {@value #CACHE_APROVADAS} como ids (não como bitset: as posições pertencem a um
+ * grafo, que é refeito quando as disciplinas mudam), removidas quando resultados são
+ * lançados ou matrículas removidas ({@link ResultadosLancadosEvent}).</p>
+ *
+ * <p>Os arrays devolvidos são compartilhados e não devem ser alterados.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MapaCurricular {
+
+    public static final String CACHE_APROVADAS = "disciplinasAprovadasDiscente";
+
+    private final DisciplinaRepository disciplinaRepository;
+    private final MatriculaDisciplinaRepository matriculaRepository;
+    private final CacheManager cacheManager;
+
+    private final Map<Long, GrafoCurricular> grafos = new ConcurrentHashMap<>();
+
+    /**
+     * Grafo de requisitos das disciplinas do programa.
+     */
+    public GrafoCurricular grafo(Long programaId) {
+        return grafos.computeIfAbsent(programaId, this::construir);
+    }
+
+    /**
+     * Ids das disciplinas em que o discente já foi aprovado; converta com {@link GrafoCurricular#bits(long[])}.
+     */
+    @Cacheable(value = CACHE_APROVADAS, key = "#discenteId")
+    public long[] aprovadas(Long discenteId) {
+        return matriculaRepository.findDisciplinasCursadasAprovadas(discenteId).stream()
+                .mapToLong(Long::longValue)
+                .distinct()
+                .toArray();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDisciplinaAlterada(DisciplinaAlteradaEvent event) {
+        // Edições de disciplinas são raras: descarta todos os grafos em vez de localizar o programa
+        grafos.clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResultadosLancados(ResultadosLancadosEvent event) {
+        Cache cache = cacheManager.getCache(CACHE_APROVADAS);
+        if (cache == null) {
+            return;
+        }
+        if (event.isEmLote()) {
+            cache.clear();
+        } else {
+            cache.evict(event.discenteId());
+        }
+    }
+
+    private GrafoCurricular construir(Long programaId) {
+        Map<Long, Requisitos> disciplinas = new HashMap<>();
+        for (RequisitosDisciplinaProjection disciplina : disciplinaRepository.findRequisitosByProgramaId(programaId)) {
+            try {
+                disciplinas.put(disciplina.getId(),
+                        Requisitos.parse(disciplina.getPreRequisitos(), disciplina.getCoRequisitos()));
+            } catch (BusinessException e) {
+                log.warn("Requisitos da disciplina {} ignorados: {}", disciplina.getId(), e.getMessage());
+                disciplinas.put(disciplina.getId(), new Requisitos(Set.of(), Set.of()));
+            }
+        }
+
+        GrafoCurricular grafo = GrafoCurricular.construir(disciplinas);
+        if (!grafo.ciclo().isEmpty()) {
+            log.error("Ciclo de pré-requisitos no programa {}: disciplinas {}", programaId, grafo.ciclo());
+        }
+        log.debug("Grafo curricular do programa {} montado: {} disciplinas", programaId, disciplinas.size());
+        return grafo;
+    }
+}
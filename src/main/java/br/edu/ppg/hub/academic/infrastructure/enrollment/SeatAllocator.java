@@ -0,0 +1,304 @@
+package br.edu.ppg.hub.academic.infrastructure.enrollment;
+
+import br.edu.ppg.hub.academic.infrastructure.repository.OfertaDisciplinaRepository;
+import br.edu.ppg.hub.shared.config.SeatAllocationConfig;
+import br.edu.ppg.hub.shared.exception.ResourceNotFoundException;
+import br.edu.ppg.hub.shared.util.Transacoes;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Alocação de vagas em ofertas de disciplina durante o período de matrícula.
+ *
+ * <p>Com {@code ppg.enrollment.alocador-em-memoria} habilitado, cada oferta tem um
+ * contador atômico em memória (hidratado de {@code vagas_ocupadas}) e uma fila FIFO
+ * de matrículas em {@code LISTA_ESPERA}. Reservas são concedidas ou negadas sem lock
+ * e sem tocar a linha da oferta; os contadores são gravados em lote a cada
+ * {@code flush-interval-ms}. Vagas liberadas por trancamento promovem automaticamente
+ * o primeiro da fila.</p>
+ *
+ * <p>As matrículas são a fonte da verdade: na inicialização os contadores são
+ * recalculados a partir delas e a fila é reconstruída na ordem de inscrição (id),
+ * de modo que a reconstrução após uma queda é determinística.</p>
+ *
+ * <p>O estado em memória só é válido com uma única instância da aplicação. Com o
+ * alocador desabilitado, as reservas usam o UPDATE condicional do banco e não há
+ * lista de espera.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Component
+@Slf4j
+public class SeatAllocator {
+
+    private static final String SELECT_VAGAS = """
+            SELECT vagas_oferecidas, COALESCE(vagas_ocupadas, 0)
+            FROM academic.ofertas_disciplinas
+            WHERE id = ?
+            """;
+
+    private static final String SELECT_FILA = """
+            SELECT id
+            FROM academic.matriculas_disciplinas
+            WHERE oferta_disciplina_id = ? AND situacao = 'LISTA_ESPERA'
+            ORDER BY id
+            """;
+
+    private static final String PROMOVER = """
+            UPDATE academic.matriculas_disciplinas
+            SET situacao = 'MATRICULADO', data_matricula = NOW(), updated_at = NOW()
+            WHERE id = ? AND situacao = 'LISTA_ESPERA'
+            """;
+
+    private static final String UPDATE_CONTADORES = """
+            UPDATE academic.ofertas_disciplinas o
+            SET vagas_ocupadas = v.ocupadas, lista_espera = v.espera, updated_at = NOW()
+            FROM (SELECT UNNEST(CAST(? AS BIGINT[])) AS id,
+                         UNNEST(CAST(? AS INTEGER[])) AS ocupadas,
+                         UNNEST(CAST(? AS INTEGER[])) AS espera) v
+            WHERE o.id = v.id
+            """;
+
+    private static final String RECONCILIAR_CONTADORES = """
+            UPDATE academic.ofertas_disciplinas o
+            SET vagas_ocupadas = c.ocupadas, lista_espera = c.espera
+            FROM (
+                SELECT od.id,
+                       COUNT(md.id) FILTER (WHERE md.situacao IN ('MATRICULADO', 'APROVADO', 'REPROVADO')) AS ocupadas,
+                       COUNT(md.id) FILTER (WHERE md.situacao = 'LISTA_ESPERA') AS espera
+                FROM academic.ofertas_disciplinas od
+                LEFT JOIN academic.matriculas_disciplinas md ON md.oferta_disciplina_id = od.id
+                WHERE od.status = 'ABERTA'
+                GROUP BY od.id
+            ) c
+            WHERE o.id = c.id
+              AND (o.vagas_ocupadas IS DISTINCT FROM c.ocupadas OR o.lista_espera IS DISTINCT FROM c.espera)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OfertaDisciplinaRepository ofertaDisciplinaRepository;
+    private final SeatAllocationConfig config;
+    private final TransactionTemplate novaTransacao;
+
+    private final Map<Long, VagasOferta> ofertas = new ConcurrentHashMap<>();
+    private final Set<Long> alteradas = ConcurrentHashMap.newKeySet();
+
+    public SeatAllocator(JdbcTemplate jdbcTemplate,
+                         OfertaDisciplinaRepository ofertaDisciplinaRepository,
+                         SeatAllocationConfig config,
+                         PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ofertaDisciplinaRepository = ofertaDisciplinaRepository;
+        this.config = config;
+        this.novaTransacao = Transacoes.propria(transactionManager);
+    }
+
+    /**
+     * Indica se vagas esgotadas levam o discente para a lista de espera.
+     */
+    public boolean aceitaListaEspera() {
+        return config.isAlocadorEmMemoria();
+    }
+
+    /**
+     * Reserva uma vaga na oferta dentro da transação corrente.
+     * Se a transação sofrer rollback, a vaga é devolvida.
+     *
+     * @return true se a vaga foi concedida
+     */
+    public boolean reservar(Long ofertaId) {
+        if (!config.isAlocadorEmMemoria()) {
+            return ofertaDisciplinaRepository.reservarVaga(ofertaId).isPresent();
+        }
+
+        VagasOferta vagas = obter(ofertaId);
+        if (!vagas.reservar()) {
+            return false;
+        }
+        alteradas.add(ofertaId);
+        Transacoes.aposRollback(novaTransacao, () -> liberarEmMemoria(ofertaId));
+        return true;
+    }
+
+    /**
+     * Devolve a vaga de uma matrícula trancada ou excluída. Com o alocador em memória,
+     * a vaga é devolvida após o commit e promove o primeiro da lista de espera.
+     */
+    public void liberar(Long ofertaId) {
+        if (!config.isAlocadorEmMemoria()) {
+            ofertaDisciplinaRepository.liberarVaga(ofertaId);
+            return;
+        }
+        Transacoes.aposCommit(novaTransacao, () -> liberarEmMemoria(ofertaId));
+    }
+
+    /**
+     * Inclui a matrícula na lista de espera da oferta após o commit.
+     */
+    public void entrarNaFila(Long ofertaId, Long matriculaId) {
+        Transacoes.aposCommit(novaTransacao, () -> {
+            VagasOferta vagas = obter(ofertaId);
+            vagas.enfileirar(matriculaId);
+            alteradas.add(ofertaId);
+            // Uma vaga pode ter sido liberada entre a negativa e o commit
+            promoverFila(ofertaId, vagas);
+        });
+    }
+
+    /**
+     * Remove a matrícula da lista de espera após o commit (desistência).
+     */
+    public void sairDaFila(Long ofertaId, Long matriculaId) {
+        Transacoes.aposCommit(novaTransacao, () -> {
+            VagasOferta vagas = ofertas.get(ofertaId);
+            if (vagas != null && vagas.removerDaFila(matriculaId)) {
+                alteradas.add(ofertaId);
+            }
+        });
+    }
+
+    /**
+     * Atualiza o total de vagas oferecidas após o commit, promovendo a fila se aumentou.
+     */
+    public void atualizarCapacidade(Long ofertaId, int vagasOferecidas) {
+        Transacoes.aposCommit(novaTransacao, () -> {
+            VagasOferta vagas = ofertas.get(ofertaId);
+            if (vagas != null) {
+                vagas.setCapacidade(vagasOferecidas);
+                promoverFila(ofertaId, vagas);
+            }
+        });
+    }
+
+    /**
+     * Número atual de vagas ocupadas da oferta.
+     */
+    public int vagasOcupadas(Long ofertaId) {
+        if (!config.isAlocadorEmMemoria()) {
+            return carregarVagas(ofertaId)[1];
+        }
+        return obter(ofertaId).getOcupadas();
+    }
+
+    /**
+     * Grava em lote os contadores das ofertas alteradas desde o último flush.
+     */
+    @Scheduled(fixedDelayString = "${ppg.enrollment.flush-interval-ms:500}")
+    public void flush() {
+        if (alteradas.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = new ArrayList<>();
+        List<Integer> ocupadas = new ArrayList<>();
+        List<Integer> espera = new ArrayList<>();
+        for (Long id : new ArrayList<>(alteradas)) {
+            alteradas.remove(id);
+            VagasOferta vagas = ofertas.get(id);
+            if (vagas != null) {
+                ids.add(id);
+                ocupadas.add(vagas.getOcupadas());
+                espera.add(vagas.getTamanhoFila());
+            }
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.update(UPDATE_CONTADORES,
+                    ids.toArray(Long[]::new), ocupadas.toArray(Integer[]::new), espera.toArray(Integer[]::new));
+            log.debug("Contadores de vagas gravados para {} ofertas", ids.size());
+        } catch (Exception e) {
+            alteradas.addAll(ids);
+            log.error("Erro ao gravar contadores de vagas", e);
+        }
+    }
+
+    /**
+     * Reconstrói o estado a partir do banco: recalcula os contadores das ofertas abertas
+     * a partir das matrículas e descarta o estado em memória (recarregado sob demanda).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        if (!config.isAlocadorEmMemoria()) {
+            return;
+        }
+        flush();
+        ofertas.clear();
+        int corrigidas = jdbcTemplate.update(RECONCILIAR_CONTADORES);
+        log.info("Alocador de vagas reconstruído ({} ofertas com contadores corrigidos)", corrigidas);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        flush();
+    }
+
+    private void liberarEmMemoria(Long ofertaId) {
+        VagasOferta vagas = obter(ofertaId);
+        vagas.desocupar();
+        alteradas.add(ofertaId);
+        promoverFila(ofertaId, vagas);
+    }
+
+    /**
+     * Promove matrículas da fila enquanto houver vagas.
+     */
+    private void promoverFila(Long ofertaId, VagasOferta vagas) {
+        Long matriculaId;
+        while ((matriculaId = vagas.promoverProximo()) != null) {
+            alteradas.add(ofertaId);
+            try {
+                if (jdbcTemplate.update(PROMOVER, matriculaId) == 1) {
+                    log.info("Matrícula {} promovida da lista de espera da oferta {}", matriculaId, ofertaId);
+                } else {
+                    // Matrícula removida da fila por outro caminho
+                    vagas.desocupar();
+                }
+            } catch (Exception e) {
+                vagas.desocupar();
+                vagas.devolverAoInicio(matriculaId);
+                log.error("Erro ao promover matrícula {} da lista de espera", matriculaId, e);
+                return;
+            }
+        }
+    }
+
+    private VagasOferta obter(Long ofertaId) {
+        VagasOferta vagas = ofertas.get(ofertaId);
+        if (vagas != null) {
+            return vagas;
+        }
+
+        // Carregado fora do computeIfAbsent para não segurar o lock do mapa durante a consulta
+        int[] contadores = carregarVagas(ofertaId);
+        List<Long> fila = jdbcTemplate.queryForList(SELECT_FILA, Long.class, ofertaId);
+        VagasOferta carregada = new VagasOferta(contadores[0], contadores[1], fila);
+        VagasOferta existente = ofertas.putIfAbsent(ofertaId, carregada);
+        return existente != null ? existente : carregada;
+    }
+
+    private int[] carregarVagas(Long ofertaId) {
+        List<int[]> resultado = jdbcTemplate.query(SELECT_VAGAS,
+                (rs, rowNum) -> new int[]{rs.getInt(1), rs.getInt(2)}, ofertaId);
+        if (resultado.isEmpty()) {
+            throw new ResourceNotFoundException("Oferta de disciplina não encontrada");
+        }
+        return resultado.get(0);
+    }
+}
@@ -0,0 +1,118 @@
+package br.edu.ppg.hub.academic.infrastructure.enrollment;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Estado em memória das vagas de uma oferta: contador atômico de vagas ocupadas
+ * e fila FIFO de matrículas em lista de espera.
+ *
+ * <p>Todas as operações são lock-free (CAS e fila concorrente). Enquanto houver
+ * alguém na fila, novas reservas são negadas para que a vaga liberada vá para
+ * o primeiro da fila.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+final class VagasOferta {
+
+    private volatile int capacidade;
+    private final AtomicInteger ocupadas;
+    private final ConcurrentLinkedDeque<Long> fila = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger tamanhoFila = new AtomicInteger();
+
+    VagasOferta(int capacidade, int ocupadas, List<Long> fila) {
+        this.capacidade = capacidade;
+        this.ocupadas = new AtomicInteger(ocupadas);
+        this.fila.addAll(fila);
+        this.tamanhoFila.set(fila.size());
+    }
+
+    /**
+     * Reserva uma vaga para uma nova inscrição (negada se houver fila de espera).
+     */
+    boolean reservar() {
+        return tamanhoFila.get() == 0 && ocupar();
+    }
+
+    /**
+     * Devolve uma vaga (trancamento, exclusão ou rollback).
+     */
+    void desocupar() {
+        ocupadas.updateAndGet(atual -> Math.max(atual - 1, 0));
+    }
+
+    /**
+     * Inclui a matrícula no fim da fila de espera.
+     */
+    void enfileirar(Long matriculaId) {
+        tamanhoFila.incrementAndGet();
+        fila.offerLast(matriculaId);
+    }
+
+    /**
+     * Devolve a matrícula ao início da fila (promoção que falhou).
+     */
+    void devolverAoInicio(Long matriculaId) {
+        tamanhoFila.incrementAndGet();
+        fila.offerFirst(matriculaId);
+    }
+
+    /**
+     * Ocupa uma vaga para o primeiro da fila.
+     *
+     * @return id da matrícula promovida ou null se não houver vaga ou fila
+     */
+    Long promoverProximo() {
+        if (tamanhoFila.get() == 0 || !ocupar()) {
+            return null;
+        }
+        Long matriculaId = fila.pollFirst();
+        if (matriculaId == null) {
+            desocupar();
+            return null;
+        }
+        tamanhoFila.decrementAndGet();
+        return matriculaId;
+    }
+
+    /**
+     * Remove a matrícula da fila de espera (desistência).
+     */
+    boolean removerDaFila(Long matriculaId) {
+        if (fila.remove(matriculaId)) {
+            tamanhoFila.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    int getCapacidade() {
+        return capacidade;
+    }
+
+    void setCapacidade(int capacidade) {
+        this.capacidade = capacidade;
+    }
+
+    int getOcupadas() {
+        return ocupadas.get();
+    }
+
+    int getTamanhoFila() {
+        return Math.max(tamanhoFila.get(), 0);
+    }
+
+    private boolean ocupar() {
+        while (true) {
+            int atual = ocupadas.get();
+            if (atual >= capacidade) {
+                return false;
+            }
+            if (ocupadas.compareAndSet(atual, atual + 1)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package br.edu.ppg.hub.academic.infrastructure.metrics;
+
+import br.edu.ppg.hub.shared.config.ContadoresConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores de métricas dos trabalhos de conclusão: downloads, visualizações e
+ * variações de citações (OpenAlex).
+ *
+ * <p>Cada incremento vai para um {@link LongAdder} do trabalho em memória, sem
+ * transação nem lock na linha do trabalho. A cada {@code flush-interval-ms} os
+ * valores acumulados de todos os trabalhos são somados às colunas em um único
+ * UPDATE em lote; em caso de erro, voltam para os contadores e entram no próximo lote.</p>
+ *
+ * <p>No encerramento há um último flush; se o banco estiver indisponível, os
+ * incrementos são anexados ao {@code arquivo-pendentes} e gravados na próxima
+ * inicialização. A entrega é pelo menos uma vez: um UPDATE confirmado cuja
+ * resposta se perdeu é repetido.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ContadoresTrabalho {
+
+    public enum Metrica {
+        DOWNLOADS,
+        VISUALIZACOES,
+        CITACOES
+    }
+
+    private static final String UPDATE_CONTADORES = """
+            UPDATE academic.trabalhos_conclusao t
+            SET downloads_count = COALESCE(t.downloads_count, 0) + v.downloads,
+                visualizacoes_count = COALESCE(t.visualizacoes_count, 0) + v.visualizacoes,
+                citacoes_count = GREATEST(COALESCE(t.citacoes_count, 0) + v.citacoes, 0)
+            FROM (SELECT UNNEST(CAST(? AS BIGINT[])) AS id,
+                         UNNEST(CAST(? AS INTEGER[])) AS downloads,
+                         UNNEST(CAST(? AS INTEGER[])) AS visualizacoes,
+                         UNNEST(CAST(? AS INTEGER[])) AS citacoes) v
+            WHERE t.id = v.id
+            """;
+
+    private static final String SEPARADOR = ";";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ContadoresConfig config;
+
+    // Entradas não são removidas: um incremento concorrente poderia cair em um contador já descartado
+    private final Map<Long, Contadores> pendentes = new ConcurrentHashMap<>();
+
+    public void registrar(Metrica metrica, Long trabalhoId) {
+        registrar(metrica, trabalhoId, 1);
+    }
+
+    /**
+     * Soma {@code quantidade} à métrica do trabalho (negativa para citações removidas).
+     */
+    public void registrar(Metrica metrica, Long trabalhoId, long quantidade) {
+        if (quantidade != 0) {
+            pendentes.computeIfAbsent(trabalhoId, id -> new Contadores()).adicionar(metrica, quantidade);
+        }
+    }
+
+    /**
+     * Grava em lote os incrementos registrados desde o último flush.
+     */
+    @Scheduled(fixedDelayString = "${ppg.contadores.flush-interval-ms:1000}")
+    public void flush() {
+        gravar();
+    }
+
+    /**
+     * Recarrega os incrementos salvos em arquivo no último encerramento.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recuperarPendentes() {
+        Path arquivo = arquivoPendentes();
+        if (!Files.exists(arquivo)) {
+            return;
+        }
+        try {
+            List<String> linhas = Files.readAllLines(arquivo, StandardCharsets.UTF_8);
+            for (String linha : linhas) {
+                String[] campos = linha.split(SEPARADOR);
+                Long trabalhoId = Long.valueOf(campos[0]);
+                for (Metrica metrica : Metrica.values()) {
+                    registrar(metrica, trabalhoId, Long.parseLong(campos[metrica.ordinal() + 1]));
+                }
+            }
+            // A partir daqui os incrementos estão em memória e voltam ao arquivo se o encerramento falhar
+            Files.delete(arquivo);
+            log.info("Contadores pendentes recuperados para {} trabalhos", linhas.size());
+        } catch (IOException | RuntimeException e) {
+            log.error("Erro ao recuperar contadores pendentes de {}", arquivo, e);
+            return;
+        }
+        gravar();
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        if (!gravar()) {
+            salvarPendentes();
+        }
+    }
+
+    /**
+     * @return false se o UPDATE falhou (incrementos devolvidos aos contadores)
+     */
+    private synchronized boolean gravar() {
+        List<Long> ids = new ArrayList<>();
+        List<Integer> downloads = new ArrayList<>();
+        List<Integer> visualizacoes = new ArrayList<>();
+        List<Integer> citacoes = new ArrayList<>();
+        pendentes.forEach((id, contadores) -> {
+            long[] valores = contadores.retirar();
+            if (valores != null) {
+                ids.add(id);
+                downloads.add(Math.toIntExact(valores[Metrica.DOWNLOADS.ordinal()]));
+                visualizacoes.add(Math.toIntExact(valores[Metrica.VISUALIZACOES.ordinal()]));
+                citacoes.add(Math.toIntExact(valores[Metrica.CITACOES.ordinal()]));
+            }
+        });
+        if (ids.isEmpty()) {
+            return true;
+        }
+
+        try {
+            jdbcTemplate.update(UPDATE_CONTADORES, ids.toArray(Long[]::new), downloads.toArray(Integer[]::new),
+                    visualizacoes.toArray(Integer[]::new), citacoes.toArray(Integer[]::new));
+            log.debug("Contadores gravados para {} trabalhos", ids.size());
+            return true;
+        } catch (Exception e) {
+            for (int i = 0; i < ids.size(); i++) {
+                registrar(Metrica.DOWNLOADS, ids.get(i), downloads.get(i));
+                registrar(Metrica.VISUALIZACOES, ids.get(i), visualizacoes.get(i));
+                registrar(Metrica.CITACOES, ids.get(i), citacoes.get(i));
+            }
+            log.error("Erro ao gravar contadores de trabalhos", e);
+            return false;
+        }
+    }
+
+    private void salvarPendentes() {
+        List<String> linhas = new ArrayList<>();
+        pendentes.forEach((id, contadores) -> {
+            long[] valores = contadores.retirar();
+            if (valores != null) {
+                StringBuilder linha = new StringBuilder().append(id);
+                for (long valor : valores) {
+                    linha.append(SEPARADOR).append(valor);
+                }
+                linhas.add(linha.toString());
+            }
+        });
+        if (linhas.isEmpty()) {
+            return;
+        }
+
+        Path arquivo = arquivoPendentes();
+        try {
+            if (arquivo.getParent() != null) {
+                Files.createDirectories(arquivo.getParent());
+            }
+            Files.write(arquivo, linhas, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            log.warn("Contadores de {} trabalhos salvos em {} para a próxima inicialização", linhas.size(), arquivo);
+        } catch (IOException e) {
+            log.error("Contadores de {} trabalhos perdidos: {}", linhas.size(), linhas, e);
+        }
+    }
+
+    private Path arquivoPendentes() {
+        return Paths.get(config.getArquivoPendentes());
+    }
+
+    /**
+     * Um {@link LongAdder} por métrica de um trabalho.
+     */
+    private static final class Contadores {
+
+        private final LongAdder[] valores = new LongAdder[Metrica.values().length];
+
+        Contadores() {
+            for (int i = 0; i < valores.length; i++) {
+                valores[i] = new LongAdder();
+            }
+        }
+
+        void adicionar(Metrica metrica, long quantidade) {
+            valores[metrica.ordinal()].add(quantidade);
+        }
+
+        /**
+         * Retira o acumulado subtraindo exatamente o que foi lido, de modo que incrementos
+         * concorrentes fiquem para o próximo lote. Cada retirada cabe em um INTEGER: o
+         * excedente fica no contador em vez de estourar a conversão depois de retirado.
+         *
+         * @return valores por métrica, ou null se todos forem zero
+         */
+        long[] retirar() {
+            long[] retirados = new long[valores.length];
+            boolean algum = false;
+            for (int i = 0; i < valores.length; i++) {
+                retirados[i] = Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, valores[i].sum()));
+                if (retirados[i] != 0) {
+                    valores[i].add(-retirados[i]);
+                    algum = true;
+                }
+            }
+            return algum ? retirados : null;
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package br.edu.ppg.hub.academic.infrastructure.orientacao;
+
+import br.edu.ppg.hub.academic.domain.enums.TipoCurso;
+import br.edu.ppg.hub.academic.domain.event.DocenteAlteradoEvent;
+import br.edu.ppg.hub.academic.domain.model.Docente;
+import br.edu.ppg.hub.shared.util.Transacoes;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Carga de orientação dos docentes: contadores de orientações em andamento e
+ * concluídas por tipo de curso, e recomendação de orientadores.
+ *
+ * <p>Os contadores em {@code academic.docentes} são mantidos com incrementos
+ * atômicos em SQL na transação de quem altera o vínculo (matrícula, troca de
+ * orientador, titulação, desligamento, exclusão), sem ler e regravar a entidade;
+ * as transições em lote recalculam cada docente afetado uma única vez.
+ * Uma reconciliação diária recalcula os contadores em andamento a partir dos
+ * discentes ativos, em uma única consulta agrupada; os concluídos podem incluir
+ * orientações anteriores ao sistema e não são recalculados. A reconciliação
+ * bloqueia as linhas dos docentes antes de contar, para não sobrescrever com uma
+ * contagem antiga um incremento confirmado durante o UPDATE.</p>
+ *
+ * <p>A recomendação usa uma cópia em memória da carga dos docentes ativos,
+ * atualizada após o commit de cada incremento, por {@link DocenteAlteradoEvent}
+ * e recarregada após a reconciliação. A cópia é por instância.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Component
+@Slf4j
+public class CargaOrientacoes {
+
+    private static final String UPDATE_CONTADORES = """
+            UPDATE academic.docentes
+            SET orientacoes_mestrado_andamento = GREATEST(COALESCE(orientacoes_mestrado_andamento, 0) + ?, 0),
+                orientacoes_doutorado_andamento = GREATEST(COALESCE(orientacoes_doutorado_andamento, 0) + ?, 0),
+                orientacoes_mestrado_concluidas = COALESCE(orientacoes_mestrado_concluidas, 0) + ?,
+                orientacoes_doutorado_concluidas = COALESCE(orientacoes_doutorado_concluidas, 0) + ?
+            WHERE id = ?
+            RETURNING orientacoes_mestrado_andamento, orientacoes_doutorado_andamento
+            """;
+
+    private static final String RECONCILIAR = """
+            UPDATE academic.docentes doc
+            SET orientacoes_mestrado_andamento = c.mestrado,
+                orientacoes_doutorado_andamento = c.doutorado
+            FROM (
+                SELECT d.id,
+                       COUNT(s.id) FILTER (WHERE UPPER(s.tipo_curso) = 'MESTRADO') AS mestrado,
+                       COUNT(s.id) FILTER (WHERE UPPER(s.tipo_curso) = 'DOUTORADO') AS doutorado
+                FROM academic.docentes d
+                LEFT JOIN academic.discentes s
+                       ON s.orientador_id = d.id
+                      AND s.status IN ('MATRICULADO', 'CURSANDO', 'QUALIFICADO', 'DEFENDENDO')
+                GROUP BY d.id
+            ) c
+            WHERE c.id = doc.id
+              AND (doc.orientacoes_mestrado_andamento IS DISTINCT FROM c.mestrado
+                   OR doc.orientacoes_doutorado_andamento IS DISTINCT FROM c.doutorado)
+            """;
+
+    private static final String BLOQUEAR_DOCENTES = """
+            SELECT id FROM academic.docentes ORDER BY id FOR UPDATE
+            """;
+
+    private static final String RECALCULAR_DOCENTES = """
+            UPDATE academic.docentes doc
+            SET orientacoes_mestrado_andamento = c.mestrado,
+                orientacoes_doutorado_andamento = c.doutorado,
+                orientacoes_mestrado_concluidas = COALESCE(doc.orientacoes_mestrado_concluidas, 0) + v.mestrado,
+                orientacoes_doutorado_concluidas = COALESCE(doc.orientacoes_doutorado_concluidas, 0) + v.doutorado
+            FROM (SELECT UNNEST(CAST(? AS BIGINT[])) AS id,
+                         UNNEST(CAST(? AS INTEGER[])) AS mestrado,
+                         UNNEST(CAST(? AS INTEGER[])) AS doutorado) v
+            CROSS JOIN LATERAL (
+                SELECT COUNT(s.id) FILTER (WHERE UPPER(s.tipo_curso) = 'MESTRADO') AS mestrado,
+                       COUNT(s.id) FILTER (WHERE UPPER(s.tipo_curso) = 'DOUTORADO') AS doutorado
+                FROM academic.discentes s
+                WHERE s.orientador_id = v.id
+                  AND s.status IN ('MATRICULADO', 'CURSANDO', 'QUALIFICADO', 'DEFENDENDO')
+            ) c
+            WHERE doc.id = v.id
+            RETURNING doc.id, doc.orientacoes_mestrado_andamento, doc.orientacoes_doutorado_andamento
+            """;
+
+    private static final String SELECT_CARGAS = """
+            SELECT d.id, d.programa_id, d.linha_pesquisa_id, u.nome_completo,
+                   COALESCE(d.orientacoes_mestrado_andamento, 0) AS mestrado,
+                   COALESCE(d.orientacoes_doutorado_andamento, 0) AS doutorado
+            FROM academic.docentes d
+            JOIN auth.usuarios u ON u.id = d.usuario_id
+            WHERE d.status = 'ATIVO'
+            """;
+
+    private static final String SELECT_CARGA_DOCENTE = SELECT_CARGAS + "  AND d.id = ?\n";
+
+    /**
+     * Carga de um docente ativo.
+     */
+    public record CargaDocente(long docenteId, long programaId, Long linhaPesquisaId, String nome,
+                               int mestrado, int doutorado) {
+
+        public int total() {
+            return mestrado + doutorado;
+        }
+
+        int doTipo(TipoCurso tipoCurso) {
+            return tipoCurso == TipoCurso.DOUTORADO ? doutorado : mestrado;
+        }
+
+        CargaDocente comContadores(int mestrado, int doutorado) {
+            return new CargaDocente(docenteId, programaId, linhaPesquisaId, nome, mestrado, doutorado);
+        }
+    }
+
+    /**
+     * Orientações concluídas (titulações) a somar a um docente no recálculo em lote.
+     */
+    public record ConclusoesDocente(long docenteId, int mestrado, int doutorado) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate leitura;
+    private final TransactionTemplate novaTransacao;
+
+    private volatile Map<Long, CargaDocente> cargas = new ConcurrentHashMap<>();
+
+    public CargaOrientacoes(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.leitura = Transacoes.leituraPropria(transactionManager);
+        this.novaTransacao = Transacoes.propria(transactionManager);
+    }
+
+    /**
+     * Conta uma nova orientação em andamento do docente.
+     */
+    public void iniciar(long docenteId, TipoCurso tipoCurso) {
+        atualizar(docenteId, tipoCurso, 1, 0);
+    }
+
+    /**
+     * Encerra uma orientação em andamento do docente, contando-a como concluída se o
+     * discente titulou.
+     */
+    public void encerrar(long docenteId, TipoCurso tipoCurso, boolean concluida) {
+        atualizar(docenteId, tipoCurso, -1, concluida ? 1 : 0);
+    }
+
+    /**
+     * Recalcula, em um único UPDATE, os contadores em andamento dos docentes a partir
+     * dos discentes ativos e soma as orientações concluídas informadas. Usado pelas
+     * transições em lote, depois de alterados os discentes na mesma transação.
+     */
+    public void recalcular(Collection<ConclusoesDocente> docentes) {
+        if (docentes.isEmpty()) {
+            return;
+        }
+        Long[] ids = new Long[docentes.size()];
+        Integer[] mestrado = new Integer[ids.length];
+        Integer[] doutorado = new Integer[ids.length];
+        int i = 0;
+        for (ConclusoesDocente docente : docentes) {
+            ids[i] = docente.docenteId();
+            mestrado[i] = docente.mestrado();
+            doutorado[i] = docente.doutorado();
+            i++;
+        }
+        List<long[]> contadores = jdbcTemplate.query(RECALCULAR_DOCENTES,
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getInt(2), rs.getInt(3)},
+                ids, mestrado, doutorado);
+        Transacoes.aposCommit(() -> contadores.forEach(valores -> cargas.computeIfPresent(valores[0],
+                (id, carga) -> carga.comContadores((int) valores[1], (int) valores[2]))));
+    }
+
+    /**
+     * Docentes ativos do programa com vagas de orientação, da linha de pesquisa
+     * informada primeiro e, dentro dela, dos menos para os mais carregados.
+     */
+    public List<CargaDocente> recomendar(Long programaId, Long linhaPesquisaId, TipoCurso tipoCurso, int limite) {
+        Comparator<CargaDocente> ordem = Comparator
+                .comparing((CargaDocente carga) -> !Objects.equals(carga.linhaPesquisaId(), linhaPesquisaId))
+                .thenComparingInt(CargaDocente::total)
+                .thenComparingInt(carga -> carga.doTipo(tipoCurso))
+                .thenComparing(CargaDocente::nome, Comparator.nullsLast(Comparator.naturalOrder()));
+        return cargas.values().stream()
+                .filter(carga -> carga.programaId() == programaId)
+                .filter(carga -> carga.total() < Docente.LIMITE_ORIENTACOES)
+                .sorted(ordem)
+                .limit(limite)
+                .toList();
+    }
+
+    /**
+     * Recalcula os contadores em andamento de todos os docentes em uma única
+     * consulta agrupada e recarrega a cópia em memória.
+     *
+     * <p>As linhas dos docentes são bloqueadas antes: em READ COMMITTED o UPDATE
+     * seguinte tira um snapshot novo, que já inclui os discentes de todo incremento
+     * confirmado, e incrementos posteriores esperam o commit da reconciliação.
+     * Às 4h05, fora do horário da recarga da grade de horários (3h45).</p>
+     */
+    @Scheduled(cron = "0 5 4 * * *")
+    public void reconciliar() {
+        Integer corrigidos = novaTransacao.execute(status -> {
+            jdbcTemplate.queryForList(BLOQUEAR_DOCENTES, Long.class);
+            return jdbcTemplate.update(RECONCILIAR);
+        });
+        log.info("Reconciliação de orientações: {} docentes com contadores corrigidos", corrigidos);
+        carregar();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        Map<Long, CargaDocente> novas = leitura.execute(status -> jdbcTemplate.query(SELECT_CARGAS, this::carga))
+                .stream()
+                .collect(Collectors.toConcurrentMap(CargaDocente::docenteId, carga -> carga));
+        cargas = novas;
+        log.info("Carga de orientação carregada: {} docentes ativos", novas.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocenteAlterado(DocenteAlteradoEvent event) {
+        Long id = event.docenteId();
+        Map<Long, CargaDocente> atuais = cargas;
+        leitura.execute(status -> jdbcTemplate.query(SELECT_CARGA_DOCENTE, this::carga, id)).stream()
+                .findFirst()
+                .ifPresentOrElse(carga -> atuais.put(id, carga), () -> atuais.remove(id));
+    }
+
+    private void atualizar(long docenteId, TipoCurso tipoCurso, int andamento, int concluidas) {
+        boolean doutorado = tipoCurso == TipoCurso.DOUTORADO;
+        List<int[]> contadores = jdbcTemplate.query(UPDATE_CONTADORES,
+                (rs, rowNum) -> new int[]{rs.getInt(1), rs.getInt(2)},
+                doutorado ? 0 : andamento, doutorado ? andamento : 0,
+                doutorado ? 0 : concluidas, doutorado ? concluidas : 0,
+                docenteId);
+        if (contadores.isEmpty()) {
+            return;
+        }
+        int[] valores = contadores.get(0);
+        Transacoes.aposCommit(() -> cargas.computeIfPresent(docenteId,
+                (id, carga) -> carga.comContadores(valores[0], valores[1])));
+    }
+
+    private CargaDocente carga(ResultSet rs, int rowNum) throws SQLException {
+        return new CargaDocente(
+                rs.getLong("id"),
+                rs.getLong("programa_id"),
+                rs.getObject("linha_pesquisa_id", Long.class),
+                rs.getString("nome_completo"),
+                rs.getInt("mestrado"),
+                rs.getInt("doutorado"));
+    }
+}
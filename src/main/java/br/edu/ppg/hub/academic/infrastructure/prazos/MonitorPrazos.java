@@ -0,0 +1,271 @@
+package br.edu.ppg.hub.academic.infrastructure.prazos;
+
+import br.edu.ppg.hub.academic.domain.enums.TipoCurso;
+import br.edu.ppg.hub.academic.domain.enums.TipoPrazo;
+import br.edu.ppg.hub.academic.domain.event.AlertasPrazoEvent;
+import br.edu.ppg.hub.academic.domain.event.AlertasPrazoEvent.Alerta;
+import br.edu.ppg.hub.academic.domain.event.PrazoDiscenteAlteradoEvent;
+import br.edu.ppg.hub.academic.domain.event.PrazosDiscentesAlteradosEvent;
+import br.edu.ppg.hub.shared.config.PrazosConfig;
+import br.edu.ppg.hub.shared.util.Transacoes;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Monitor dos prazos de qualificação e defesa dos discentes ativos.
+ *
+ * <p>Os prazos ficam em memória de duas formas:</p>
+ * <ul>
+ *   <li>por programa, em conjuntos ordenados por data: a consulta de prazos em
+ *       risco percorre apenas os k prazos até a data limite pedida;</li>
+ *   <li>numa {@link RodaPrazos} com o próximo dia de alerta de cada prazo (data do
+ *       prazo menos uma das antecedências configuradas). A verificação diária
+ *       avança a roda até hoje e publica {@link AlertasPrazoEvent} em lotes.</li>
+ * </ul>
+ *
+ * <p>O prazo de defesa é a data limite atual (já com prorrogações); o de
+ * qualificação, enquanto não realizada, é o ingresso mais os meses configurados
+ * por tipo de curso, limitado à data limite. A carga usa o índice parcial de
+ * {@code data_limite_atual} dos discentes ativos; cada {@link PrazoDiscenteAlteradoEvent}
+ * relê apenas o discente alterado, após o commit, e cada {@link PrazosDiscentesAlteradosEvent}
+ * relê os discentes do lote em uma única consulta.</p>
+ *
+ * <p>Antecedências já passadas na carga não geram alerta: a aplicação parada em um
+ * dia de alerta perde aquele alerta, e a consulta de prazos em risco cobre o caso.
+ * O estado em memória é por instância; em mais de uma instância, cada uma publica
+ * os próprios alertas.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Component
+@Slf4j
+public class MonitorPrazos {
+
+    private static final String SELECT_PRAZOS = """
+            SELECT d.id, d.programa_id, d.numero_matricula, u.nome_completo, d.tipo_curso,
+                   d.data_ingresso, d.qualificacao_realizada, d.data_limite_atual
+            FROM academic.discentes d
+            JOIN auth.usuarios u ON u.id = d.usuario_id
+            WHERE d.status IN ('MATRICULADO', 'CURSANDO', 'QUALIFICADO', 'DEFENDENDO')
+              AND d.data_limite_atual IS NOT NULL
+            """;
+
+    private static final String SELECT_PRAZOS_DISCENTE = SELECT_PRAZOS + "  AND d.id = ?\n";
+
+    private static final String SELECT_PRAZOS_DISCENTES = SELECT_PRAZOS + "  AND d.id = ANY(CAST(? AS BIGINT[]))\n";
+
+    private static final Comparator<Prazo> POR_DATA = Comparator.comparing(Prazo::data)
+            .thenComparing(Prazo::tipo)
+            .thenComparingLong(Prazo::discenteId);
+
+    /**
+     * Prazo acadêmico de um discente ativo.
+     */
+    public record Prazo(long discenteId, long programaId, String matricula, String nome,
+                        TipoPrazo tipo, LocalDate data) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PrazosConfig config;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate leitura;
+
+    /**
+     * Guardado por {@code this}, exceto a leitura dos conjuntos por programa.
+     */
+    private volatile Estado estado = new Estado(LocalDate.now().minusDays(1).toEpochDay());
+
+    public MonitorPrazos(JdbcTemplate jdbcTemplate,
+                         PrazosConfig config,
+                         ApplicationEventPublisher eventPublisher,
+                         PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = config;
+        this.eventPublisher = eventPublisher;
+        this.leitura = Transacoes.leituraPropria(transactionManager);
+    }
+
+    /**
+     * Prazos do programa vencidos ou que vencem nos próximos dias, do mais próximo ao
+     * mais distante.
+     */
+    public List<Prazo> emRisco(Long programaId, int dias) {
+        NavigableSet<Prazo> prazos = estado.porPrograma.get(programaId);
+        if (prazos == null) {
+            return List.of();
+        }
+        LocalDate limite = LocalDate.now().plusDays(dias);
+        List<Prazo> resultado = new ArrayList<>();
+        for (Prazo prazo : prazos) {
+            if (prazo.data().isAfter(limite)) {
+                break;
+            }
+            resultado.add(prazo);
+        }
+        return resultado;
+    }
+
+    /**
+     * Carga completa na inicialização e, diariamente, como rede de segurança. A roda
+     * nova continua do último dia processado, para não repetir alertas.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 30 3 * * *")
+    public void recarregar() {
+        long inicio = System.nanoTime();
+        List<Prazo> prazos = leitura.execute(status -> jdbcTemplate.query(SELECT_PRAZOS, this::prazos))
+                .stream().flatMap(List::stream).toList();
+
+        synchronized (this) {
+            Estado novo = new Estado(estado.roda.ultimoDiaProcessado());
+            prazos.forEach(novo::adicionar);
+            prazos.forEach(prazo -> agendar(novo, prazo));
+            estado = novo;
+        }
+        log.info("Prazos de discentes carregados em {} ms: {} prazos, {} alertas agendados",
+                (System.nanoTime() - inicio) / 1_000_000, prazos.size(), estado.roda.tamanho());
+    }
+
+    /**
+     * Avança a roda até hoje e publica os alertas do dia.
+     */
+    @Scheduled(cron = "0 0 6 * * *")
+    public void verificar() {
+        List<Alerta> alertas = avancar(LocalDate.now());
+        int lote = Math.max(1, config.getTamanhoLoteAlertas());
+        for (int i = 0; i < alertas.size(); i += lote) {
+            eventPublisher.publishEvent(new AlertasPrazoEvent(
+                    List.copyOf(alertas.subList(i, Math.min(i + lote, alertas.size())))));
+        }
+        log.info("Verificação de prazos: {} alertas publicados", alertas.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPrazoDiscenteAlterado(PrazoDiscenteAlteradoEvent event) {
+        Long id = event.discenteId();
+        List<Prazo> prazos = leitura.execute(status -> jdbcTemplate.query(SELECT_PRAZOS_DISCENTE, this::prazos, id))
+                .stream().flatMap(List::stream).toList();
+        substituir(List.of(id), prazos);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPrazosDiscentesAlterados(PrazosDiscentesAlteradosEvent event) {
+        Object ids = event.discenteIds().toArray(Long[]::new);
+        List<Prazo> prazos = leitura.execute(status -> jdbcTemplate.query(SELECT_PRAZOS_DISCENTES, this::prazos, ids))
+                .stream().flatMap(List::stream).toList();
+        substituir(event.discenteIds(), prazos);
+    }
+
+    /**
+     * Troca os prazos em memória dos discentes pelos recarregados; discentes sem prazos saem do monitor.
+     */
+    private synchronized void substituir(List<Long> discenteIds, List<Prazo> prazos) {
+        Estado atual = estado;
+        discenteIds.forEach(id -> atual.remover(id).forEach(atual.roda::cancelar));
+        prazos.forEach(prazo -> {
+            atual.adicionar(prazo);
+            agendar(atual, prazo);
+        });
+    }
+
+    synchronized List<Alerta> avancar(LocalDate hoje) {
+        Estado atual = estado;
+        List<Alerta> alertas = new ArrayList<>();
+        for (Prazo prazo : atual.roda.avancar(hoje.toEpochDay())) {
+            alertas.add(new Alerta(prazo.discenteId(), prazo.programaId(), prazo.tipo(), prazo.data(),
+                    Math.max(0, ChronoUnit.DAYS.between(hoje, prazo.data()))));
+            agendar(atual, prazo);
+        }
+        return alertas;
+    }
+
+    /**
+     * Agenda o prazo na maior antecedência cujo dia de alerta ainda não foi processado.
+     */
+    private void agendar(Estado estado, Prazo prazo) {
+        long ultimoDia = estado.roda.ultimoDiaProcessado();
+        long dia = prazo.data().toEpochDay();
+        config.getAntecedenciasDias().stream()
+                .map(antecedencia -> dia - antecedencia)
+                .filter(alerta -> alerta > ultimoDia)
+                .min(Long::compare)
+                .ifPresent(alerta -> estado.roda.agendar(prazo, alerta));
+    }
+
+    private List<Prazo> prazos(ResultSet rs, int rowNum) throws SQLException {
+        long discenteId = rs.getLong("id");
+        long programaId = rs.getLong("programa_id");
+        String matricula = rs.getString("numero_matricula");
+        String nome = rs.getString("nome_completo");
+        LocalDate dataLimite = rs.getObject("data_limite_atual", LocalDate.class);
+
+        List<Prazo> prazos = new ArrayList<>(2);
+        if (!rs.getBoolean("qualificacao_realizada")) {
+            TipoCurso tipoCurso = TipoCurso.fromString(rs.getString("tipo_curso"));
+            int meses = tipoCurso == TipoCurso.DOUTORADO
+                    ? config.getMesesQualificacaoDoutorado()
+                    : config.getMesesQualificacaoMestrado();
+            LocalDate qualificacao = rs.getObject("data_ingresso", LocalDate.class).plusMonths(meses);
+            prazos.add(new Prazo(discenteId, programaId, matricula, nome, TipoPrazo.QUALIFICACAO,
+                    qualificacao.isAfter(dataLimite) ? dataLimite : qualificacao));
+        }
+        prazos.add(new Prazo(discenteId, programaId, matricula, nome, TipoPrazo.DEFESA, dataLimite));
+        return prazos;
+    }
+
+    /**
+     * Prazos em memória e roda de alertas. Os conjuntos por programa são lidos sem lock.
+     */
+    private static final class Estado {
+
+        final Map<Long, NavigableSet<Prazo>> porPrograma = new ConcurrentHashMap<>();
+        final Map<Long, List<Prazo>> porDiscente = new HashMap<>();
+        final RodaPrazos<Prazo> roda;
+
+        Estado(long ultimoDiaProcessado) {
+            this.roda = new RodaPrazos<>(ultimoDiaProcessado);
+        }
+
+        void adicionar(Prazo prazo) {
+            porPrograma.computeIfAbsent(prazo.programaId(), id -> new ConcurrentSkipListSet<>(POR_DATA)).add(prazo);
+            porDiscente.computeIfAbsent(prazo.discenteId(), id -> new ArrayList<>(2)).add(prazo);
+        }
+
+        List<Prazo> remover(Long discenteId) {
+            List<Prazo> prazos = porDiscente.remove(discenteId);
+            if (prazos == null) {
+                return List.of();
+            }
+            for (Prazo prazo : prazos) {
+                Set<Prazo> doPrograma = porPrograma.get(prazo.programaId());
+                if (doPrograma != null) {
+                    doPrograma.remove(prazo);
+                }
+            }
+            return prazos;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package br.edu.ppg.hub.academic.infrastructure.prazos;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Roda de tempo hierárquica com resolução de um dia.
+ *
+ * <p>Cada nível tem {@value #POSICOES} posições; uma posição do nível 0 é um dia,
+ * do nível 1 são 64 dias e do nível 2, 4096 dias (os três níveis cobrem mais de
+ * 700 anos). Um item fica no nível mais baixo em que a data cabe sem dar a volta
+ * na roda. Ao avançar, quando o cursor chega ao início de uma posição de nível
+ * superior, os itens dela descem para os níveis inferiores; os itens da posição
+ * do nível 0 correspondente ao dia vencem.</p>
+ *
+ * <p>Agendar e cancelar custam O(1); avançar um dia custa O(1) mais os itens que
+ * descem ou vencem. Os dias são contados em {@code LocalDate.toEpochDay()}.</p>
+ *
+ * <p>Não é thread-safe.</p>
+ *
+ * @param <T> item agendado; igualdade por valor, um agendamento por item
+ * @author PPG Hub
+ * @since 1.0
+ */
+public final class RodaPrazos<T> {
+
+    private static final int BITS = 6;
+    private static final int POSICOES = 1 << BITS;
+    private static final int MASCARA = POSICOES - 1;
+    private static final int NIVEIS = 3;
+
+    @SuppressWarnings("unchecked")
+    private final Set<T>[][] posicoes = new Set[NIVEIS][POSICOES];
+    private final Map<T, Agendamento<T>> agendamentos = new HashMap<>();
+    private final Set<T> vencidos = new LinkedHashSet<>();
+
+    private long atual;
+
+    /**
+     * @param ultimoDiaProcessado dia em que o cursor começa; itens desse dia ou anteriores vencem no próximo avanço
+     */
+    public RodaPrazos(long ultimoDiaProcessado) {
+        this.atual = ultimoDiaProcessado;
+        for (Set<T>[] nivel : posicoes) {
+            for (int p = 0; p < POSICOES; p++) {
+                nivel[p] = new LinkedHashSet<>();
+            }
+        }
+    }
+
+    /**
+     * Agenda o item para vencer no dia; substitui um agendamento anterior do mesmo item.
+     */
+    public void agendar(T item, long dia) {
+        cancelar(item);
+        colocar(item, dia);
+    }
+
+    public boolean cancelar(T item) {
+        Agendamento<T> agendamento = agendamentos.remove(item);
+        return agendamento != null && agendamento.posicao().remove(item);
+    }
+
+    /**
+     * Avança o cursor até o dia informado.
+     *
+     * @return itens vencidos até o dia, inclusive, em ordem de vencimento
+     */
+    public List<T> avancar(long ate) {
+        List<T> vencidosAgora = new ArrayList<>(retirar(vencidos));
+        while (atual < ate) {
+            atual++;
+            // Do nível mais alto para o mais baixo: os itens descem nível a nível até o 0
+            for (int nivel = NIVEIS - 1; nivel >= 1; nivel--) {
+                if ((atual & ((1L << (BITS * nivel)) - 1)) == 0) {
+                    Set<T> posicao = posicoes[nivel][(int) ((atual >>> (BITS * nivel)) & MASCARA)];
+                    for (T item : retirar(posicao)) {
+                        colocar(item, agendamentos.get(item).dia());
+                    }
+                }
+            }
+            // Itens que desceram para o próprio dia caem em vencidos
+            vencidosAgora.addAll(retirar(vencidos));
+            vencidosAgora.addAll(retirar(posicoes[0][(int) (atual & MASCARA)]));
+        }
+        vencidosAgora.forEach(agendamentos::remove);
+        return vencidosAgora;
+    }
+
+    public int tamanho() {
+        return agendamentos.size();
+    }
+
+    public long ultimoDiaProcessado() {
+        return atual;
+    }
+
+    private void colocar(T item, long dia) {
+        Set<T> posicao = posicao(dia);
+        posicao.add(item);
+        agendamentos.put(item, new Agendamento<>(dia, posicao));
+    }
+
+    private Set<T> posicao(long dia) {
+        if (dia <= atual) {
+            return vencidos;
+        }
+        for (int nivel = 0; nivel < NIVEIS - 1; nivel++) {
+            if ((dia >>> (BITS * (nivel + 1))) == (atual >>> (BITS * (nivel + 1)))) {
+                return posicoes[nivel][(int) ((dia >>> (BITS * nivel)) & MASCARA)];
+            }
+        }
+        // Além do alcance do nível mais alto, o item volta a esta posição a cada volta até caber
+        return posicoes[NIVEIS - 1][(int) ((dia >>> (BITS * (NIVEIS - 1))) & MASCARA)];
+    }
+
+    private List<T> retirar(Set<T> posicao) {
+        List<T> itens = new ArrayList<>(posicao);
+        posicao.clear();
+        return itens;
+    }
+
+    private record Agendamento<T>(long dia, Set<T> posicao) {
+    }
+}
@@ -3,14 +3,17 @@ package br.edu.ppg.hub.academic.infrastructure.repository;
 import br.edu.ppg.hub.academic.domain.enums.ResultadoBanca;
 import br.edu.ppg.hub.academic.domain.enums.TipoBanca;
 import br.edu.ppg.hub.academic.domain.model.Banca;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.BancaResumoProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -23,12 +26,29 @@ import java.util.List;
 @Repository
 public interface BancaRepository extends JpaRepository<Banca, Long> {
 
+    /**
+     * Lista paginada com as associações exibidas na resposta
+     */
+    @Override
+    @EntityGraph(Banca.GRAFO_LISTAGEM)
+    Page<Banca> findAll(Pageable pageable);
+
+    /**
+     * Busca as bancas de um lote com discente, presidente e secretário (agendamento em lote).
+     *
+     * @param ids IDs das bancas
+     * @return Lista de bancas
+     */
+    @EntityGraph(Banca.GRAFO_LISTAGEM)
+    List<Banca> findByIdIn(Collection<Long> ids);
+
     /**
      * Busca bancas por trabalho de conclusão.
      *
      * @param trabalhoConclusaoId ID do trabalho de conclusão
      * @return Lista de bancas
      */
+    @EntityGraph(Banca.GRAFO_LISTAGEM)
     List<Banca> findByTrabalhoConclusaoId(Long trabalhoConclusaoId);
 
     /**
@@ -37,6 +57,7 @@ public interface BancaRepository extends JpaRepository<Banca, Long> {
      * @param discenteId ID do discente
      * @return Lista de bancas
      */
+    @EntityGraph(Banca.GRAFO_LISTAGEM)
     List<Banca> findByDiscenteId(Long discenteId);
 
     /**
@@ -46,6 +67,7 @@ public interface BancaRepository extends JpaRepository<Banca, Long> {
      * @param pageable Parâmetros de paginação
      * @return Página de bancas
      */
+    @EntityGraph(Banca.GRAFO_LISTAGEM)
     Page<Banca> findByDiscenteId(Long discenteId, Pageable pageable);
 
     /**
@@ -71,6 +93,7 @@ public interface BancaRepository extends JpaRepository<Banca, Long> {
      * @param tipo Tipo da banca
      * @return Lista de bancas
      */
+    @EntityGraph(Banca.GRAFO_LISTAGEM)
     List<Banca> findByTipo(TipoBanca tipo);
 
     /**
@@ -80,6 +103,7 @@ public interface BancaRepository extends JpaRepository<Banca, Long> {
      * @param pageable Parâmetros de paginação
      * @return Página de bancas
      */
+    @EntityGraph(Banca.GRAFO_LISTAGEM)
     Page<Banca> findByTipo(TipoBanca tipo, Pageable pageable);
 
     /**
@@ -88,6 +112,7 @@ public interface BancaRepository extends JpaRepository<Banca, Long> {
      * @param status Status da banca
      * @return Lista de bancas
      */
+    @EntityGraph(Banca.GRAFO_LISTAGEM)
     List<Banca> findByStatus(String status);
 
     /**
@@ -97,6 +122,7 @@ public interface BancaRepository extends JpaRepository<Banca, Long> {
      * @param pageable Parâmetros de paginação
      * @return Página de bancas
      */
+    @EntityGraph(Banca.GRAFO_LISTAGEM)
     Page<Banca> findByStatus(String status, Pageable pageable);
 
     /**
@@ -163,6 +189,7 @@ public interface BancaRepository extends JpaRepository<Banca, Long> {
            "AND b.dataAgendada >= CURRENT_DATE " +
            "AND b.resultado IS NULL " +
            "ORDER BY b.dataAgendada ASC, b.horarioInicio ASC")
+    @EntityGraph(Banca.GRAFO_LISTAGEM)
     List<Banca> findBancasAgendadas();
 
     /**
@@ -175,6 +202,7 @@ public interface BancaRepository extends JpaRepository<Banca, Long> {
            "AND b.dataAgendada >= CURRENT_DATE " +
            "AND b.resultado IS NULL " +
            "ORDER BY b.dataAgendada ASC, b.horarioInicio ASC")
+    @EntityGraph(Banca.GRAFO_LISTAGEM)
     Page<Banca> findBancasAgendadas(Pageable pageable);
 
     /**
@@ -324,4 +352,61 @@ public interface BancaRepository extends JpaRepository<Banca, Long> {
      * @return true se existe, false caso contrário
      */
     boolean existsByDiscenteIdAndTipoAndStatus(Long discenteId, TipoBanca tipo, String status);
+
+    // =====================================================
+    // Listagens resumidas (projeções, sem carregar a entidade)
+    // =====================================================
+
+    String RESUMO_SELECT = """
+            SELECT b.id AS id, b.tipo AS tipo, b.status AS status,
+                   t.id AS trabalhoConclusaoId, t.tituloPortugues AS trabalhoConclusaoTitulo,
+                   d.id AS discenteId, du.nomeCompleto AS discenteNome,
+                   pu.nomeCompleto AS presidenteNome,
+                   b.dataAgendada AS dataAgendada, b.horarioInicio AS horarioInicio,
+                   b.localRealizacao AS localRealizacao, b.modalidade AS modalidade,
+                   b.resultado AS resultado, b.notaFinal AS notaFinal
+            FROM Banca b
+            LEFT JOIN b.trabalhoConclusao t
+            JOIN b.discente d
+            JOIN d.usuario du
+            JOIN b.presidente p
+            JOIN p.usuario pu
+            """;
+
+    String RESUMO_COUNT = "SELECT COUNT(b) FROM Banca b ";
+
+    /**
+     * Lista resumida de todas as bancas (paginado).
+     *
+     * @param pageable Parâmetros de paginação
+     * @return Página de resumos
+     */
+    @Query(value = RESUMO_SELECT, countQuery = RESUMO_COUNT)
+    Page<BancaResumoProjection> findResumos(Pageable pageable);
+
+    /**
+     * Lista resumida das bancas de um discente (paginado).
+     *
+     * @param discenteId ID do discente
+     * @param pageable Parâmetros de paginação
+     * @return Página de resumos
+     */
+    @Query(value = RESUMO_SELECT + "WHERE d.id = :discenteId",
+           countQuery = RESUMO_COUNT + "WHERE b.discente.id = :discenteId")
+    Page<BancaResumoProjection> findResumosByDiscenteId(@Param("discenteId") Long discenteId, Pageable pageable);
+
+    /**
+     * Lista resumida das bancas agendadas (paginado).
+     *
+     * @param pageable Parâmetros de paginação
+     * @return Página de resumos
+     */
+    @Query(value = RESUMO_SELECT + "WHERE b.status = 'Agendada' " +
+                   "AND b.dataAgendada >= CURRENT_DATE " +
+                   "AND b.resultado IS NULL " +
+                   "ORDER BY b.dataAgendada ASC, b.horarioInicio ASC",
+           countQuery = RESUMO_COUNT + "WHERE b.status = 'Agendada' " +
+                   "AND b.dataAgendada >= CURRENT_DATE " +
+                   "AND b.resultado IS NULL")
+    Page<BancaResumoProjection> findResumosAgendados(Pageable pageable);
 }
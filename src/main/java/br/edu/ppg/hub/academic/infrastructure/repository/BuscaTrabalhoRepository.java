@@ -0,0 +1,132 @@
+package br.edu.ppg.hub.academic.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Busca textual de trabalhos de conclusão sobre academic.trabalhos_conclusao.documento_busca.
+ *
+ * <p>O texto é interpretado com websearch_to_tsquery em português e em inglês
+ * (aspas, OR e -termo). As linhas são ordenadas por ts_rank e paginadas por
+ * cursor (rank, id); o trecho destacado (ts_headline) é gerado apenas para as
+ * linhas da página.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Repository
+@RequiredArgsConstructor
+public class BuscaTrabalhoRepository {
+
+    private static final String CANDIDATOS = """
+            WITH consulta AS (
+                SELECT websearch_to_tsquery('portuguese', :texto)
+                       || websearch_to_tsquery('english', :texto) AS q
+            ),
+            candidatos AS (
+                SELECT t.id, t.tipo, t.titulo_portugues, t.resumo_portugues,
+                       t.palavras_chave_portugues, t.ano_defesa, t.status,
+                       u.nome_completo AS discente_nome,
+                       ts_rank(t.documento_busca, c.q) AS rank
+                FROM academic.trabalhos_conclusao t
+                CROSS JOIN consulta c
+                JOIN academic.discentes d ON d.id = t.discente_id
+                JOIN auth.usuarios u ON u.id = d.usuario_id
+                WHERE t.documento_busca @@ c.q
+                  AND (CAST(:programaId AS BIGINT) IS NULL OR d.programa_id = :programaId)
+                  AND (CAST(:palavraChave AS TEXT) IS NULL OR EXISTS (
+                        SELECT 1
+                        FROM regexp_split_to_table(t.palavras_chave_portugues, '[;,]') k
+                        WHERE lower(trim(k)) = lower(trim(:palavraChave))))
+            )
+            """;
+
+    private static final String SELECT_PAGINA = CANDIDATOS + """
+            SELECT p.id, p.tipo, p.titulo_portugues, p.ano_defesa, p.status, p.discente_nome, p.rank,
+                   ts_headline('portuguese', p.resumo_portugues, c.q,
+                               'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MinWords=10, MaxWords=30')
+                       AS trecho
+            FROM (
+                SELECT *
+                FROM candidatos
+                WHERE CAST(:cursorRank AS REAL) IS NULL
+                   OR (rank, id) < (CAST(:cursorRank AS REAL), CAST(:cursorId AS BIGINT))
+                ORDER BY rank DESC, id DESC
+                LIMIT :limite
+            ) p
+            CROSS JOIN consulta c
+            ORDER BY p.rank DESC, p.id DESC
+            """;
+
+    private static final String SELECT_FACETAS = CANDIDATOS + """
+            SELECT lower(trim(k)) AS palavra, COUNT(*) AS total
+            FROM candidatos,
+                 regexp_split_to_table(candidatos.palavras_chave_portugues, '[;,]') k
+            WHERE trim(k) <> ''
+            GROUP BY lower(trim(k))
+            ORDER BY total DESC, palavra
+            LIMIT :limite
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Página de trabalhos que atendem à busca, do mais para o menos relevante.
+     *
+     * @param cursorRank rank da última linha da página anterior (null na primeira página)
+     * @param cursorId   id da última linha da página anterior (null na primeira página)
+     */
+    public List<TrabalhoEncontrado> buscar(String texto, Long programaId, String palavraChave,
+                                           Float cursorRank, Long cursorId, int limite) {
+        MapSqlParameterSource params = filtros(texto, programaId, palavraChave)
+                .addValue("cursorRank", cursorRank)
+                .addValue("cursorId", cursorId)
+                .addValue("limite", limite);
+
+        return jdbcTemplate.query(SELECT_PAGINA, params, (rs, i) -> new TrabalhoEncontrado(
+                rs.getLong("id"),
+                rs.getString("tipo"),
+                rs.getString("titulo_portugues"),
+                rs.getString("discente_nome"),
+                rs.getObject("ano_defesa", Integer.class),
+                rs.getString("status"),
+                rs.getFloat("rank"),
+                rs.getString("trecho")));
+    }
+
+    /**
+     * Palavras-chave (em português) mais frequentes entre todos os trabalhos que atendem à busca.
+     */
+    public List<FacetaPalavraChave> facetas(String texto, Long programaId, String palavraChave, int limite) {
+        MapSqlParameterSource params = filtros(texto, programaId, palavraChave)
+                .addValue("limite", limite);
+
+        return jdbcTemplate.query(SELECT_FACETAS, params, (rs, i) -> new FacetaPalavraChave(
+                rs.getString("palavra"),
+                rs.getLong("total")));
+    }
+
+    private MapSqlParameterSource filtros(String texto, Long programaId, String palavraChave) {
+        return new MapSqlParameterSource()
+                .addValue("texto", texto)
+                .addValue("programaId", programaId)
+                .addValue("palavraChave", palavraChave);
+    }
+
+    /**
+     * Linha do resultado da busca
+     */
+    public record TrabalhoEncontrado(Long id, String tipo, String tituloPortugues, String discenteNome,
+                                     Integer anoDefesa, String status, float rank, String trecho) {
+    }
+
+    /**
+     * Palavra-chave e número de trabalhos em que aparece
+     */
+    public record FacetaPalavraChave(String palavra, long total) {
+    }
+}
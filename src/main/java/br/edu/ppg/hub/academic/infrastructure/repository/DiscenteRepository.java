@@ -3,8 +3,11 @@ package br.edu.ppg.hub.academic.infrastructure.repository;
 import br.edu.ppg.hub.academic.domain.enums.StatusDiscente;
 import br.edu.ppg.hub.academic.domain.enums.TipoCurso;
 import br.edu.ppg.hub.academic.domain.model.Discente;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.DiscenteResumoProjection;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.EstatisticasDiscentesProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,7 +15,6 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -24,6 +26,13 @@ import java.util.Optional;
 @Repository
 public interface DiscenteRepository extends JpaRepository<Discente, Long> {
 
+    /**
+     * Lista paginada com as associações exibidas na resposta
+     */
+    @Override
+    @EntityGraph(Discente.GRAFO_LISTAGEM)
+    Page<Discente> findAll(Pageable pageable);
+
     /**
      * Busca discente por ID do usuário
      */
@@ -47,31 +56,37 @@ public interface DiscenteRepository extends JpaRepository<Discente, Long> {
     /**
      * Busca todos os discentes de um programa
      */
+    @EntityGraph(Discente.GRAFO_LISTAGEM)
     List<Discente> findByProgramaId(Long programaId);
 
     /**
      * Busca todos os discentes de um programa (paginado)
      */
+    @EntityGraph(Discente.GRAFO_LISTAGEM)
     Page<Discente> findByProgramaId(Long programaId, Pageable pageable);
 
     /**
      * Busca discentes por orientador
      */
+    @EntityGraph(Discente.GRAFO_LISTAGEM)
     List<Discente> findByOrientadorId(Long orientadorId);
 
     /**
      * Busca discentes por orientador (paginado)
      */
+    @EntityGraph(Discente.GRAFO_LISTAGEM)
     Page<Discente> findByOrientadorId(Long orientadorId, Pageable pageable);
 
     /**
      * Busca discentes por tipo de curso
      */
+    @EntityGraph(Discente.GRAFO_LISTAGEM)
     List<Discente> findByTipoCurso(TipoCurso tipoCurso);
 
     /**
      * Busca discentes por tipo de curso (paginado)
      */
+    @EntityGraph(Discente.GRAFO_LISTAGEM)
     Page<Discente> findByTipoCurso(TipoCurso tipoCurso, Pageable pageable);
 
     /**
@@ -87,31 +102,37 @@ public interface DiscenteRepository extends JpaRepository<Discente, Long> {
     /**
      * Busca discentes por status
      */
+    @EntityGraph(Discente.GRAFO_LISTAGEM)
     List<Discente> findByStatus(StatusDiscente status);
 
     /**
      * Busca discentes por status (paginado)
      */
+    @EntityGraph(Discente.GRAFO_LISTAGEM)
     Page<Discente> findByStatus(StatusDiscente status, Pageable pageable);
 
     /**
      * Busca discentes de um programa por status
      */
+    @EntityGraph(Discente.GRAFO_LISTAGEM)
     List<Discente> findByProgramaIdAndStatus(Long programaId, StatusDiscente status);
 
     /**
      * Busca discentes de um programa por status (paginado)
      */
+    @EntityGraph(Discente.GRAFO_LISTAGEM)
     Page<Discente> findByProgramaIdAndStatus(Long programaId, StatusDiscente status, Pageable pageable);
 
     /**
      * Busca discentes por linha de pesquisa
      */
+    @EntityGraph(Discente.GRAFO_LISTAGEM)
     List<Discente> findByLinhaPesquisaId(Long linhaPesquisaId);
 
     /**
      * Busca discentes por linha de pesquisa (paginado)
      */
+    @EntityGraph(Discente.GRAFO_LISTAGEM)
     Page<Discente> findByLinhaPesquisaId(Long linhaPesquisaId, Pageable pageable);
 
     /**
@@ -194,16 +215,17 @@ public interface DiscenteRepository extends JpaRepository<Discente, Long> {
     boolean existsByProgramaIdAndNumeroMatricula(Long programaId, String numeroMatricula);
 
     /**
-     * Estatísticas de discentes por programa
+     * Estatísticas de discentes de um programa em uma única agregação
      */
-    @Query("SELECT new map(" +
-           "COUNT(d) as total, " +
-           "SUM(CASE WHEN d.tipoCurso = 'MESTRADO' THEN 1 ELSE 0 END) as totalMestrado, " +
-           "SUM(CASE WHEN d.tipoCurso = 'DOUTORADO' THEN 1 ELSE 0 END) as totalDoutorado, " +
-           "SUM(CASE WHEN d.status = 'TITULADO' THEN 1 ELSE 0 END) as totalTitulados, " +
-           "SUM(CASE WHEN d.bolsista = true THEN 1 ELSE 0 END) as totalBolsistas" +
-           ") FROM Discente d WHERE d.programa.id = :programaId")
-    Map<String, Long> getEstatisticasPorPrograma(@Param("programaId") Long programaId);
+    @Query("SELECT COUNT(d) AS total, " +
+           "COALESCE(SUM(CASE WHEN d.tipoCurso = 'MESTRADO' THEN 1 ELSE 0 END), 0) AS totalMestrado, " +
+           "COALESCE(SUM(CASE WHEN d.tipoCurso = 'DOUTORADO' THEN 1 ELSE 0 END), 0) AS totalDoutorado, " +
+           "COALESCE(SUM(CASE WHEN d.status = 'TITULADO' THEN 1 ELSE 0 END), 0) AS totalTitulados, " +
+           "COALESCE(SUM(CASE WHEN d.bolsista = true THEN 1 ELSE 0 END), 0) AS totalBolsistas, " +
+           "COALESCE(SUM(CASE WHEN d.status = 'CURSANDO' THEN 1 ELSE 0 END), 0) AS ativos, " +
+           "COALESCE(SUM(CASE WHEN d.status = 'QUALIFICADO' THEN 1 ELSE 0 END), 0) AS qualificados " +
+           "FROM Discente d WHERE d.programa.id = :programaId")
+    EstatisticasDiscentesProjection getEstatisticasPorPrograma(@Param("programaId") Long programaId);
 
     /**
      * Busca discentes por turma
@@ -214,4 +236,60 @@ public interface DiscenteRepository extends JpaRepository<Discente, Long> {
      * Busca discentes por semestre de ingresso
      */
     List<Discente> findByProgramaIdAndSemestreIngresso(Long programaId, String semestreIngresso);
+
+    // =====================================================
+    // Listagens resumidas (projeções, sem carregar a entidade)
+    // =====================================================
+
+    String RESUMO_SELECT = """
+            SELECT d.id AS id, d.numeroMatricula AS numeroMatricula,
+                   u.nomeCompleto AS usuarioNome, u.email AS usuarioEmail,
+                   p.id AS programaId, p.sigla AS programaSigla, l.nome AS linhaPesquisaNome,
+                   o.id AS orientadorId, ou.nomeCompleto AS orientadorNome,
+                   d.tipoCurso AS tipoCurso, d.turma AS turma, d.semestreIngresso AS semestreIngresso,
+                   d.dataIngresso AS dataIngresso, d.dataLimiteAtual AS dataLimiteAtual,
+                   d.bolsista AS bolsista, d.status AS status
+            FROM Discente d
+            JOIN d.usuario u
+            JOIN d.programa p
+            LEFT JOIN d.linhaPesquisa l
+            LEFT JOIN d.orientador o
+            LEFT JOIN o.usuario ou
+            """;
+
+    String RESUMO_COUNT = "SELECT COUNT(d) FROM Discente d ";
+
+    /**
+     * Lista resumida de todos os discentes (paginado)
+     */
+    @Query(value = RESUMO_SELECT, countQuery = RESUMO_COUNT)
+    Page<DiscenteResumoProjection> findResumos(Pageable pageable);
+
+    /**
+     * Lista resumida dos discentes de um programa (paginado)
+     */
+    @Query(value = RESUMO_SELECT + "WHERE p.id = :programaId",
+           countQuery = RESUMO_COUNT + "WHERE d.programa.id = :programaId")
+    Page<DiscenteResumoProjection> findResumosByProgramaId(@Param("programaId") Long programaId, Pageable pageable);
+
+    /**
+     * Lista resumida dos orientandos de um docente (paginado)
+     */
+    @Query(value = RESUMO_SELECT + "WHERE o.id = :orientadorId",
+           countQuery = RESUMO_COUNT + "WHERE d.orientador.id = :orientadorId")
+    Page<DiscenteResumoProjection> findResumosByOrientadorId(@Param("orientadorId") Long orientadorId, Pageable pageable);
+
+    /**
+     * Lista resumida dos discentes por status (paginado)
+     */
+    @Query(value = RESUMO_SELECT + "WHERE d.status = :status",
+           countQuery = RESUMO_COUNT + "WHERE d.status = :status")
+    Page<DiscenteResumoProjection> findResumosByStatus(@Param("status") StatusDiscente status, Pageable pageable);
+
+    /**
+     * Lista resumida dos discentes por tipo de curso (paginado)
+     */
+    @Query(value = RESUMO_SELECT + "WHERE d.tipoCurso = :tipoCurso",
+           countQuery = RESUMO_COUNT + "WHERE d.tipoCurso = :tipoCurso")
+    Page<DiscenteResumoProjection> findResumosByTipoCurso(@Param("tipoCurso") TipoCurso tipoCurso, Pageable pageable);
 }
@@ -3,8 +3,11 @@ package br.edu.ppg.hub.academic.infrastructure.repository;
 import br.edu.ppg.hub.academic.domain.enums.StatusDisciplina;
 import br.edu.ppg.hub.academic.domain.enums.TipoDisciplina;
 import br.edu.ppg.hub.academic.domain.model.Disciplina;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.ItemAutocompletarProjection;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.RequisitosDisciplinaProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -22,6 +25,13 @@ import java.util.Optional;
 @Repository
 public interface DisciplinaRepository extends JpaRepository<Disciplina, Long> {
 
+    /**
+     * Lista paginada com as associações exibidas na resposta
+     */
+    @Override
+    @EntityGraph(Disciplina.GRAFO_LISTAGEM)
+    Page<Disciplina> findAll(Pageable pageable);
+
     /**
      * Busca disciplina por código e programa
      */
@@ -30,11 +40,13 @@ public interface DisciplinaRepository extends JpaRepository<Disciplina, Long> {
     /**
      * Busca todas as disciplinas de um programa
      */
+    @EntityGraph(Disciplina.GRAFO_LISTAGEM)
     List<Disciplina> findByProgramaId(Long programaId);
 
     /**
      * Busca todas as disciplinas de um programa (paginado)
      */
+    @EntityGraph(Disciplina.GRAFO_LISTAGEM)
     Page<Disciplina> findByProgramaId(Long programaId, Pageable pageable);
 
     /**
@@ -50,43 +62,51 @@ public interface DisciplinaRepository extends JpaRepository<Disciplina, Long> {
     /**
      * Busca disciplinas de um programa por tipo
      */
+    @EntityGraph(Disciplina.GRAFO_LISTAGEM)
     List<Disciplina> findByProgramaIdAndTipo(Long programaId, TipoDisciplina tipo);
 
     /**
      * Busca disciplinas de um programa por tipo (paginado)
      */
+    @EntityGraph(Disciplina.GRAFO_LISTAGEM)
     Page<Disciplina> findByProgramaIdAndTipo(Long programaId, TipoDisciplina tipo, Pageable pageable);
 
     /**
      * Busca disciplinas de um programa por status
      */
+    @EntityGraph(Disciplina.GRAFO_LISTAGEM)
     List<Disciplina> findByProgramaIdAndStatus(Long programaId, StatusDisciplina status);
 
     /**
      * Busca disciplinas de um programa por status (paginado)
      */
+    @EntityGraph(Disciplina.GRAFO_LISTAGEM)
     Page<Disciplina> findByProgramaIdAndStatus(Long programaId, StatusDisciplina status, Pageable pageable);
 
     /**
      * Busca disciplinas ativas de um programa
      */
     @Query("SELECT d FROM Disciplina d WHERE d.programa.id = :programaId AND d.status = 'ATIVA'")
+    @EntityGraph(Disciplina.GRAFO_LISTAGEM)
     List<Disciplina> findAtivasByPrograma(@Param("programaId") Long programaId);
 
     /**
      * Busca disciplinas ativas de um programa (paginado)
      */
     @Query("SELECT d FROM Disciplina d WHERE d.programa.id = :programaId AND d.status = 'ATIVA'")
+    @EntityGraph(Disciplina.GRAFO_LISTAGEM)
     Page<Disciplina> findAtivasByPrograma(@Param("programaId") Long programaId, Pageable pageable);
 
     /**
      * Busca disciplinas de uma linha de pesquisa
      */
+    @EntityGraph(Disciplina.GRAFO_LISTAGEM)
     List<Disciplina> findByLinhaPesquisaId(Long linhaPesquisaId);
 
     /**
      * Busca disciplinas de uma linha de pesquisa (paginado)
      */
+    @EntityGraph(Disciplina.GRAFO_LISTAGEM)
     Page<Disciplina> findByLinhaPesquisaId(Long linhaPesquisaId, Pageable pageable);
 
     /**
@@ -172,4 +192,34 @@ public interface DisciplinaRepository extends JpaRepository<Disciplina, Long> {
            "AND NOT EXISTS (SELECT o FROM OfertaDisciplina o WHERE o.disciplina = d " +
            "AND o.ano >= :anoMinimo)")
     List<Disciplina> findSemOfertasRecentes(@Param("programaId") Long programaId, @Param("anoMinimo") Integer anoMinimo);
+
+    /**
+     * Pré-requisitos e co-requisitos de todas as disciplinas do programa (grafo curricular)
+     */
+    @Query("SELECT d.id AS id, d.preRequisitos AS preRequisitos, d.coRequisitos AS coRequisitos " +
+           "FROM Disciplina d WHERE d.programa.id = :programaId")
+    List<RequisitosDisciplinaProjection> findRequisitosByProgramaId(@Param("programaId") Long programaId);
+
+    // =====================================================
+    // Autocompletar (índice em memória)
+    // =====================================================
+
+    String AUTOCOMPLETAR_SELECT = """
+            SELECT d.id AS id, d.programa.id AS programaId,
+                   d.nome AS rotulo, d.codigo AS detalhe
+            FROM Disciplina d
+            WHERE d.status = 'ATIVA'
+            """;
+
+    /**
+     * Disciplinas ativas para a carga do índice de autocompletar
+     */
+    @Query(AUTOCOMPLETAR_SELECT)
+    List<ItemAutocompletarProjection> findItensAutocompletar();
+
+    /**
+     * Disciplina para atualização do índice de autocompletar (vazio se inexistente ou inativa)
+     */
+    @Query(AUTOCOMPLETAR_SELECT + "AND d.id = :id")
+    Optional<ItemAutocompletarProjection> findItemAutocompletar(@Param("id") Long id);
 }
@@ -3,8 +3,12 @@ package br.edu.ppg.hub.academic.infrastructure.repository;
 import br.edu.ppg.hub.academic.domain.enums.StatusDocente;
 import br.edu.ppg.hub.academic.domain.enums.TipoVinculoDocente;
 import br.edu.ppg.hub.academic.domain.model.Docente;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.DocenteResumoProjection;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.EstatisticasDocentesProjection;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.ItemAutocompletarProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -22,6 +26,13 @@ import java.util.Optional;
 @Repository
 public interface DocenteRepository extends JpaRepository<Docente, Long> {
 
+    /**
+     * Lista paginada com as associações exibidas na resposta
+     */
+    @Override
+    @EntityGraph(Docente.GRAFO_LISTAGEM)
+    Page<Docente> findAll(Pageable pageable);
+
     /**
      * Busca docente por ID do usuário
      */
@@ -35,31 +46,37 @@ public interface DocenteRepository extends JpaRepository<Docente, Long> {
     /**
      * Busca todos os docentes de um programa
      */
+    @EntityGraph(Docente.GRAFO_LISTAGEM)
     List<Docente> findByProgramaId(Long programaId);
 
     /**
      * Busca todos os docentes de um programa (paginado)
      */
+    @EntityGraph(Docente.GRAFO_LISTAGEM)
     Page<Docente> findByProgramaId(Long programaId, Pageable pageable);
 
     /**
      * Busca docentes de um programa por status
      */
+    @EntityGraph(Docente.GRAFO_LISTAGEM)
     List<Docente> findByProgramaIdAndStatus(Long programaId, StatusDocente status);
 
     /**
      * Busca docentes de um programa por status (paginado)
      */
+    @EntityGraph(Docente.GRAFO_LISTAGEM)
     Page<Docente> findByProgramaIdAndStatus(Long programaId, StatusDocente status, Pageable pageable);
 
     /**
      * Busca docentes por tipo de vínculo
      */
+    @EntityGraph(Docente.GRAFO_LISTAGEM)
     List<Docente> findByTipoVinculo(TipoVinculoDocente tipoVinculo);
 
     /**
      * Busca docentes por tipo de vínculo (paginado)
      */
+    @EntityGraph(Docente.GRAFO_LISTAGEM)
     Page<Docente> findByTipoVinculo(TipoVinculoDocente tipoVinculo, Pageable pageable);
 
     /**
@@ -70,11 +87,13 @@ public interface DocenteRepository extends JpaRepository<Docente, Long> {
     /**
      * Busca docentes de uma linha de pesquisa
      */
+    @EntityGraph(Docente.GRAFO_LISTAGEM)
     List<Docente> findByLinhaPesquisaId(Long linhaPesquisaId);
 
     /**
      * Busca docentes de uma linha de pesquisa (paginado)
      */
+    @EntityGraph(Docente.GRAFO_LISTAGEM)
     Page<Docente> findByLinhaPesquisaId(Long linhaPesquisaId, Pageable pageable);
 
     /**
@@ -90,6 +109,7 @@ public interface DocenteRepository extends JpaRepository<Docente, Long> {
            "AND d.status = 'ATIVO' " +
            "AND (d.orientacoesMestradoAndamento + d.orientacoesDoutoradoAndamento) < :limiteOrientacoes " +
            "ORDER BY (d.orientacoesMestradoAndamento + d.orientacoesDoutoradoAndamento) ASC")
+    @EntityGraph(Docente.GRAFO_LISTAGEM)
     List<Docente> findDocentesComOrientacoesDisponiveis(
         @Param("programaId") Long programaId,
         @Param("limiteOrientacoes") int limiteOrientacoes
@@ -101,6 +121,7 @@ public interface DocenteRepository extends JpaRepository<Docente, Long> {
     @Query("SELECT d FROM Docente d WHERE d.programa.id = :programaId " +
            "AND d.bolsistaProdutividade = true " +
            "AND (d.vigenciaBolsaFim IS NULL OR d.vigenciaBolsaFim >= CURRENT_DATE)")
+    @EntityGraph(Docente.GRAFO_LISTAGEM)
     List<Docente> findBolsistasProdutividade(@Param("programaId") Long programaId);
 
     /**
@@ -118,6 +139,20 @@ public interface DocenteRepository extends JpaRepository<Docente, Long> {
      */
     long countByProgramaIdAndTipoVinculo(Long programaId, TipoVinculoDocente tipoVinculo);
 
+    /**
+     * Estatísticas de docentes de um programa em uma única agregação
+     */
+    @Query("SELECT COUNT(d) AS total, " +
+           "COALESCE(SUM(CASE WHEN d.status = 'ATIVO' THEN 1 ELSE 0 END), 0) AS ativos, " +
+           "COALESCE(SUM(CASE WHEN d.status = 'AFASTADO' THEN 1 ELSE 0 END), 0) AS afastados, " +
+           "COALESCE(SUM(CASE WHEN d.tipoVinculo = 'PERMANENTE' THEN 1 ELSE 0 END), 0) AS permanentes, " +
+           "COALESCE(SUM(CASE WHEN d.tipoVinculo = 'COLABORADOR' THEN 1 ELSE 0 END), 0) AS colaboradores, " +
+           "COALESCE(SUM(CASE WHEN d.bolsistaProdutividade = true " +
+           "AND (d.vigenciaBolsaFim IS NULL OR d.vigenciaBolsaFim >= CURRENT_DATE) THEN 1 ELSE 0 END), 0) " +
+           "AS bolsistasProdutividade " +
+           "FROM Docente d WHERE d.programa.id = :programaId")
+    EstatisticasDocentesProjection getEstatisticasPorPrograma(@Param("programaId") Long programaId);
+
     /**
      * Verifica se já existe docente com o mesmo usuário e programa
      */
@@ -129,4 +164,93 @@ public interface DocenteRepository extends JpaRepository<Docente, Long> {
     @Query("SELECT d FROM Docente d WHERE d.programa.id = :programaId " +
            "ORDER BY (d.orientacoesMestradoConcluidas + d.orientacoesDoutoradoConcluidas) DESC")
     Page<Docente> findDocentesMaisProdutivos(@Param("programaId") Long programaId, Pageable pageable);
+
+    // =====================================================
+    // Listagens resumidas (projeções, sem carregar a entidade)
+    // =====================================================
+
+    String RESUMO_SELECT = """
+            SELECT d.id AS id, d.matricula AS matricula,
+                   u.nomeCompleto AS usuarioNome, u.email AS usuarioEmail,
+                   p.id AS programaId, p.sigla AS programaSigla, l.nome AS linhaPesquisaNome,
+                   d.categoria AS categoria, d.titulacaoMaxima AS titulacaoMaxima,
+                   d.tipoVinculo AS tipoVinculo,
+                   d.orientacoesMestradoAndamento AS orientacoesMestradoAndamento,
+                   d.orientacoesDoutoradoAndamento AS orientacoesDoutoradoAndamento,
+                   d.bolsistaProdutividade AS bolsistaProdutividade, d.status AS status
+            FROM Docente d
+            JOIN d.usuario u
+            JOIN d.programa p
+            LEFT JOIN d.linhaPesquisa l
+            """;
+
+    String RESUMO_COUNT = "SELECT COUNT(d) FROM Docente d ";
+
+    /**
+     * Lista resumida de todos os docentes (paginado)
+     */
+    @Query(value = RESUMO_SELECT, countQuery = RESUMO_COUNT)
+    Page<DocenteResumoProjection> findResumos(Pageable pageable);
+
+    /**
+     * Lista resumida dos docentes de um programa (paginado)
+     */
+    @Query(value = RESUMO_SELECT + "WHERE p.id = :programaId",
+           countQuery = RESUMO_COUNT + "WHERE d.programa.id = :programaId")
+    Page<DocenteResumoProjection> findResumosByProgramaId(@Param("programaId") Long programaId, Pageable pageable);
+
+    /**
+     * Lista resumida dos docentes de um programa por status (paginado)
+     */
+    @Query(value = RESUMO_SELECT + "WHERE p.id = :programaId AND d.status = :status",
+           countQuery = RESUMO_COUNT + "WHERE d.programa.id = :programaId AND d.status = :status")
+    Page<DocenteResumoProjection> findResumosByProgramaIdAndStatus(
+        @Param("programaId") Long programaId,
+        @Param("status") StatusDocente status,
+        Pageable pageable
+    );
+
+    /**
+     * Lista resumida dos docentes por tipo de vínculo (paginado)
+     */
+    @Query(value = RESUMO_SELECT + "WHERE d.tipoVinculo = :tipoVinculo",
+           countQuery = RESUMO_COUNT + "WHERE d.tipoVinculo = :tipoVinculo")
+    Page<DocenteResumoProjection> findResumosByTipoVinculo(
+        @Param("tipoVinculo") TipoVinculoDocente tipoVinculo,
+        Pageable pageable
+    );
+
+    /**
+     * Lista resumida dos docentes de uma linha de pesquisa (paginado)
+     */
+    @Query(value = RESUMO_SELECT + "WHERE l.id = :linhaPesquisaId",
+           countQuery = RESUMO_COUNT + "WHERE d.linhaPesquisa.id = :linhaPesquisaId")
+    Page<DocenteResumoProjection> findResumosByLinhaPesquisaId(
+        @Param("linhaPesquisaId") Long linhaPesquisaId,
+        Pageable pageable
+    );
+
+    // =====================================================
+    // Autocompletar (índice em memória)
+    // =====================================================
+
+    String AUTOCOMPLETAR_SELECT = """
+            SELECT d.id AS id, d.programa.id AS programaId,
+                   u.nomeCompleto AS rotulo, u.email AS detalhe
+            FROM Docente d
+            JOIN d.usuario u
+            WHERE d.status = 'ATIVO'
+            """;
+
+    /**
+     * Docentes ativos para a carga do índice de autocompletar
+     */
+    @Query(AUTOCOMPLETAR_SELECT)
+    List<ItemAutocompletarProjection> findItensAutocompletar();
+
+    /**
+     * Docente para atualização do índice de autocompletar (vazio se inexistente ou inativo)
+     */
+    @Query(AUTOCOMPLETAR_SELECT + "AND d.id = :id")
+    Optional<ItemAutocompletarProjection> findItemAutocompletar(@Param("id") Long id);
 }
@@ -0,0 +1,56 @@
+package br.edu.ppg.hub.academic.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Gravação em lote de notas e frequências com um único UPDATE.
+ *
+ * <p>As linhas são enviadas como arrays paralelos (UNNEST); nota ou frequência
+ * nula mantém o valor atual da matrícula.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Repository
+@RequiredArgsConstructor
+public class LancamentoLoteRepository {
+
+    private static final String UPDATE_LANCAMENTOS = """
+            UPDATE academic.matriculas_disciplinas m
+            SET nota_final = COALESCE(v.nota, m.nota_final),
+                frequencia_percentual = COALESCE(v.frequencia, m.frequencia_percentual),
+                updated_at = NOW()
+            FROM (SELECT UNNEST(CAST(? AS BIGINT[])) AS id,
+                         UNNEST(CAST(? AS NUMERIC[])) AS nota,
+                         UNNEST(CAST(? AS NUMERIC[])) AS frequencia) v
+            WHERE m.id = v.id
+              AND m.oferta_disciplina_id = ?
+              AND m.situacao = 'MATRICULADO'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Aplica os lançamentos da oferta.
+     *
+     * @return número de matrículas atualizadas
+     */
+    public int aplicar(Long ofertaId, Long[] matriculaIds, BigDecimal[] notas, BigDecimal[] frequencias) {
+        return jdbcTemplate.update(UPDATE_LANCAMENTOS, matriculaIds, comoTexto(notas), comoTexto(frequencias), ofertaId);
+    }
+
+    /**
+     * O driver não converte BigDecimal[] em array SQL; os valores vão como texto e o CAST converte.
+     */
+    private String[] comoTexto(BigDecimal[] valores) {
+        String[] texto = new String[valores.length];
+        for (int i = 0; i < valores.length; i++) {
+            texto[i] = valores[i] != null ? valores[i].toPlainString() : null;
+        }
+        return texto;
+    }
+}
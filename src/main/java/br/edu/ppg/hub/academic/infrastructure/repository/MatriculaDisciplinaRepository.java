@@ -2,12 +2,16 @@ package br.edu.ppg.hub.academic.infrastructure.repository;
 
 import br.edu.ppg.hub.academic.domain.enums.StatusMatricula;
 import br.edu.ppg.hub.academic.domain.model.MatriculaDisciplina;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.FechamentoResultadosProjection;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.LancamentoMatriculaProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -21,24 +25,33 @@ import java.util.Optional;
 @Repository
 public interface MatriculaDisciplinaRepository extends JpaRepository<MatriculaDisciplina, Long> {
 
+    /**
+     * Constraint única (discente_id, oferta_disciplina_id) criada na V2, que barra matrícula duplicada
+     */
+    String UK_DISCENTE_OFERTA = "matriculas_disciplinas_discente_id_oferta_disciplina_id_key";
+
     /**
      * Busca todas as matrículas de um discente
      */
+    @EntityGraph(MatriculaDisciplina.GRAFO_LISTAGEM)
     List<MatriculaDisciplina> findByDiscenteId(Long discenteId);
 
     /**
      * Busca todas as matrículas de um discente (paginado)
      */
+    @EntityGraph(MatriculaDisciplina.GRAFO_LISTAGEM)
     Page<MatriculaDisciplina> findByDiscenteId(Long discenteId, Pageable pageable);
 
     /**
      * Busca todas as matrículas de uma oferta
      */
+    @EntityGraph(MatriculaDisciplina.GRAFO_LISTAGEM)
     List<MatriculaDisciplina> findByOfertaDisciplinaId(Long ofertaId);
 
     /**
      * Busca todas as matrículas de uma oferta (paginado)
      */
+    @EntityGraph(MatriculaDisciplina.GRAFO_LISTAGEM)
     Page<MatriculaDisciplina> findByOfertaDisciplinaId(Long ofertaId, Pageable pageable);
 
     /**
@@ -94,6 +107,7 @@ public interface MatriculaDisciplinaRepository extends JpaRepository<MatriculaDi
     @Query("SELECT m FROM MatriculaDisciplina m WHERE m.discente.id = :discenteId " +
            "ORDER BY m.ofertaDisciplina.ano DESC, m.ofertaDisciplina.semestre DESC, " +
            "m.ofertaDisciplina.disciplina.nome")
+    @EntityGraph(MatriculaDisciplina.GRAFO_LISTAGEM)
     List<MatriculaDisciplina> findHistoricoByDiscenteId(@Param("discenteId") Long discenteId);
 
     /**
@@ -195,6 +209,59 @@ public interface MatriculaDisciplinaRepository extends JpaRepository<MatriculaDi
            "AND m.statusFinal IS NULL")
     List<MatriculaDisciplina> findParaLancamentoResultado(@Param("ofertaId") Long ofertaId);
 
+    /**
+     * Busca as matrículas de uma oferta para validação do lançamento em lote
+     */
+    @Query("SELECT m.id AS id, m.discente.numeroMatricula AS numeroMatricula, m.situacao AS situacao " +
+           "FROM MatriculaDisciplina m WHERE m.ofertaDisciplina.id = :ofertaId")
+    List<LancamentoMatriculaProjection> findParaLancamentoEmLote(@Param("ofertaId") Long ofertaId);
+
+    /**
+     * Fecha em um único UPDATE os resultados das matrículas com nota e frequência lançadas.
+     * Mesmos critérios de {@link MatriculaDisciplina#calcularResultadoFinal()}:
+     * aprovado com nota >= 7.0 e frequência >= 75%, conceito A/B/C pela nota.
+     * Executa em transação própria e retorna as contagens do próprio UPDATE.
+     */
+    @Transactional
+    @Query(value = """
+            WITH fechadas AS (
+                UPDATE academic.matriculas_disciplinas
+                SET situacao = CASE WHEN nota_final >= 7.0 AND frequencia_percentual >= 75.0
+                                    THEN 'APROVADO' ELSE 'REPROVADO' END,
+                    status_final = CASE WHEN nota_final >= 7.0 AND frequencia_percentual >= 75.0
+                                        THEN 'Aprovado' ELSE 'Reprovado' END,
+                    conceito = CASE
+                        WHEN nota_final >= 7.0 AND frequencia_percentual >= 75.0 THEN
+                            CASE WHEN nota_final >= 9.0 THEN 'A' WHEN nota_final >= 8.0 THEN 'B' ELSE 'C' END
+                        WHEN frequencia_percentual < 75.0 THEN 'Reprovado por Falta'
+                        ELSE 'Reprovado por Nota' END,
+                    data_resultado = CURRENT_DATE,
+                    updated_at = NOW()
+                WHERE oferta_disciplina_id = :ofertaId
+                  AND situacao = 'MATRICULADO'
+                  AND nota_final IS NOT NULL
+                  AND frequencia_percentual IS NOT NULL
+                  AND status_final IS NULL
+                RETURNING situacao
+            )
+            SELECT COUNT(*) AS "totalProcessadas",
+                   COUNT(*) FILTER (WHERE situacao = 'APROVADO') AS "aprovados",
+                   COUNT(*) FILTER (WHERE situacao = 'REPROVADO') AS "reprovados"
+            FROM fechadas
+            """, nativeQuery = true)
+    FechamentoResultadosProjection fecharResultadosOferta(@Param("ofertaId") Long ofertaId);
+
+    /**
+     * Busca as ofertas de um período com resultados pendentes de fechamento
+     */
+    @Query("SELECT DISTINCT m.ofertaDisciplina.id FROM MatriculaDisciplina m " +
+           "WHERE m.ofertaDisciplina.periodo = :periodo " +
+           "AND m.situacao = 'MATRICULADO' " +
+           "AND m.notaFinal IS NOT NULL " +
+           "AND m.frequenciaPercentual IS NOT NULL " +
+           "AND m.statusFinal IS NULL")
+    List<Long> findOfertasComResultadosPendentes(@Param("periodo") String periodo);
+
     /**
      * Busca matrículas de um discente em disciplinas de um programa
      */
@@ -211,4 +278,11 @@ public interface MatriculaDisciplinaRepository extends JpaRepository<MatriculaDi
     @Query("SELECT m.ofertaDisciplina.disciplina.id FROM MatriculaDisciplina m " +
            "WHERE m.discente.id = :discenteId AND m.situacao = 'APROVADO'")
     List<Long> findDisciplinasCursadasAprovadas(@Param("discenteId") Long discenteId);
+
+    /**
+     * Disciplinas que o discente está cursando (para validação de co-requisitos)
+     */
+    @Query("SELECT m.ofertaDisciplina.disciplina.id FROM MatriculaDisciplina m " +
+           "WHERE m.discente.id = :discenteId AND m.situacao = 'MATRICULADO'")
+    List<Long> findDisciplinasEmCurso(@Param("discenteId") Long discenteId);
 }
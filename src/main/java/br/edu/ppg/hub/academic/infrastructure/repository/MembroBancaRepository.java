@@ -3,11 +3,13 @@ package br.edu.ppg.hub.academic.infrastructure.repository;
 import br.edu.ppg.hub.academic.domain.model.MembroBanca;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,14 +29,33 @@ public interface MembroBancaRepository extends JpaRepository<MembroBanca, Long>
      * @param bancaId ID da banca
      * @return Lista de membros
      */
+    @EntityGraph(MembroBanca.GRAFO_LISTAGEM)
     List<MembroBanca> findByBancaId(Long bancaId);
 
+    /**
+     * Busca os membros de várias bancas (agendamento em lote).
+     *
+     * @param bancaIds IDs das bancas
+     * @return Lista de membros
+     */
+    List<MembroBanca> findByBancaIdIn(Collection<Long> bancaIds);
+
+    /**
+     * Docentes internos que compõem a banca (para verificação de agenda).
+     *
+     * @param bancaId ID da banca
+     * @return IDs dos docentes
+     */
+    @Query("SELECT m.docente.id FROM MembroBanca m WHERE m.banca.id = :bancaId AND m.docente IS NOT NULL")
+    List<Long> findDocenteIdsByBancaId(@Param("bancaId") Long bancaId);
+
     /**
      * Busca membros por banca ordenados por ordem de apresentação.
      *
      * @param bancaId ID da banca
      * @return Lista de membros ordenados
      */
+    @EntityGraph(MembroBanca.GRAFO_LISTAGEM)
     List<MembroBanca> findByBancaIdOrderByOrdemApresentacaoAsc(Long bancaId);
 
     /**
@@ -43,6 +64,7 @@ public interface MembroBancaRepository extends JpaRepository<MembroBanca, Long>
      * @param docenteId ID do docente
      * @return Lista de membros
      */
+    @EntityGraph(MembroBanca.GRAFO_LISTAGEM)
     List<MembroBanca> findByDocenteId(Long docenteId);
 
     /**
@@ -52,6 +74,7 @@ public interface MembroBancaRepository extends JpaRepository<MembroBanca, Long>
      * @param pageable Parâmetros de paginação
      * @return Página de membros
      */
+    @EntityGraph(MembroBanca.GRAFO_LISTAGEM)
     Page<MembroBanca> findByDocenteId(Long docenteId, Pageable pageable);
 
     /**
@@ -106,6 +129,7 @@ public interface MembroBancaRepository extends JpaRepository<MembroBanca, Long>
      */
     @Query("SELECT m FROM MembroBanca m WHERE m.banca.id = :bancaId " +
            "AND m.tipo = 'Externo'")
+    @EntityGraph(MembroBanca.GRAFO_LISTAGEM)
     List<MembroBanca> findMembrosExternosPorBanca(@Param("bancaId") Long bancaId);
 
     /**
@@ -116,6 +140,7 @@ public interface MembroBancaRepository extends JpaRepository<MembroBanca, Long>
      */
     @Query("SELECT m FROM MembroBanca m WHERE m.banca.id = :bancaId " +
            "AND m.tipo = 'Interno'")
+    @EntityGraph(MembroBanca.GRAFO_LISTAGEM)
     List<MembroBanca> findMembrosInternosPorBanca(@Param("bancaId") Long bancaId);
 
     /**
@@ -126,6 +151,7 @@ public interface MembroBancaRepository extends JpaRepository<MembroBanca, Long>
      */
     @Query("SELECT m FROM MembroBanca m WHERE m.banca.id = :bancaId " +
            "AND m.confirmado = true")
+    @EntityGraph(MembroBanca.GRAFO_LISTAGEM)
     List<MembroBanca> findMembrosConfirmadosPorBanca(@Param("bancaId") Long bancaId);
 
     /**
@@ -136,6 +162,7 @@ public interface MembroBancaRepository extends JpaRepository<MembroBanca, Long>
      */
     @Query("SELECT m FROM MembroBanca m WHERE m.banca.id = :bancaId " +
            "AND (m.confirmado = false OR m.confirmado IS NULL)")
+    @EntityGraph(MembroBanca.GRAFO_LISTAGEM)
     List<MembroBanca> findMembrosNaoConfirmadosPorBanca(@Param("bancaId") Long bancaId);
 
     /**
@@ -166,6 +193,7 @@ public interface MembroBancaRepository extends JpaRepository<MembroBanca, Long>
      */
     @Query("SELECT m FROM MembroBanca m WHERE m.banca.id = :bancaId " +
            "AND m.notaIndividual IS NOT NULL")
+    @EntityGraph(MembroBanca.GRAFO_LISTAGEM)
     List<MembroBanca> findMembrosComNotaPorBanca(@Param("bancaId") Long bancaId);
 
     /**
@@ -3,6 +3,7 @@ package br.edu.ppg.hub.academic.infrastructure.repository;
 import br.edu.ppg.hub.academic.domain.model.MetricaDocente;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -23,16 +24,19 @@ public interface MetricaDocenteRepository extends JpaRepository<MetricaDocente,
     /**
      * Busca todas as métricas de um docente
      */
+    @EntityGraph(MetricaDocente.GRAFO_LISTAGEM)
     List<MetricaDocente> findByDocenteId(Long docenteId);
 
     /**
      * Busca todas as métricas de um docente (paginado)
      */
+    @EntityGraph(MetricaDocente.GRAFO_LISTAGEM)
     Page<MetricaDocente> findByDocenteId(Long docenteId, Pageable pageable);
 
     /**
      * Busca todas as métricas de um docente ordenadas por data de coleta (mais recente primeiro)
      */
+    @EntityGraph(MetricaDocente.GRAFO_LISTAGEM)
     List<MetricaDocente> findByDocenteIdOrderByDataColetaDesc(Long docenteId);
 
     /**
@@ -54,6 +58,7 @@ public interface MetricaDocenteRepository extends JpaRepository<MetricaDocente,
     /**
      * Busca métricas de um docente por fonte ordenadas por data
      */
+    @EntityGraph(MetricaDocente.GRAFO_LISTAGEM)
     List<MetricaDocente> findByDocenteIdAndFonteOrderByDataColetaDesc(Long docenteId, String fonte);
 
     /**
@@ -63,6 +68,7 @@ public interface MetricaDocenteRepository extends JpaRepository<MetricaDocente,
            "WHERE m.docente.programa.id = :programaId " +
            "AND m.hIndex >= 10 " +
            "AND m.dataColeta = (SELECT MAX(m2.dataColeta) FROM MetricaDocente m2 WHERE m2.docente.id = m.docente.id)")
+    @EntityGraph(MetricaDocente.GRAFO_LISTAGEM)
     List<MetricaDocente> findDocentesAltaProdutividadePorPrograma(@Param("programaId") Long programaId);
 
     /**
@@ -72,6 +78,7 @@ public interface MetricaDocenteRepository extends JpaRepository<MetricaDocente,
            "WHERE m.docente.programa.id = :programaId " +
            "AND m.publicacoesUltimos5Anos >= 3 " +
            "AND m.dataColeta = (SELECT MAX(m2.dataColeta) FROM MetricaDocente m2 WHERE m2.docente.id = m.docente.id)")
+    @EntityGraph(MetricaDocente.GRAFO_LISTAGEM)
     List<MetricaDocente> findDocentesQueAtendemCapesPorPrograma(@Param("programaId") Long programaId);
 
     /**
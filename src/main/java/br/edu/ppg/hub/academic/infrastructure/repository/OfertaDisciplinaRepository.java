@@ -2,11 +2,15 @@ package br.edu.ppg.hub.academic.infrastructure.repository;
 
 import br.edu.ppg.hub.academic.domain.enums.StatusOferta;
 import br.edu.ppg.hub.academic.domain.model.OfertaDisciplina;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.ElegibilidadeMatriculaProjection;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.OfertaDisciplinaResumoProjection;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -24,6 +28,13 @@ import java.util.Optional;
 @Repository
 public interface OfertaDisciplinaRepository extends JpaRepository<OfertaDisciplina, Long> {
 
+    /**
+     * Lista paginada com as associações exibidas na resposta
+     */
+    @Override
+    @EntityGraph(OfertaDisciplina.GRAFO_LISTAGEM)
+    Page<OfertaDisciplina> findAll(Pageable pageable);
+
     /**
      * Busca oferta por ID com LOCK PESSIMISTA para controle de concorrência
      * Usado especialmente para matricular alunos e evitar race condition nas vagas
@@ -32,6 +43,40 @@ public interface OfertaDisciplinaRepository extends JpaRepository<OfertaDiscipli
     @Query("SELECT o FROM OfertaDisciplina o WHERE o.id = :id")
     Optional<OfertaDisciplina> findByIdForUpdate(@Param("id") Long id);
 
+    /**
+     * Dados para validação de matrícula (oferta + discente) em uma única consulta, sem lock.
+     * Vazio se a oferta ou o discente não existir.
+     */
+    @Query("SELECT o.status AS statusOferta, o.disciplina.id AS disciplinaId, o.disciplina.programa.id AS programaOfertaId, " +
+           "d.status AS statusDiscente, d.programa.id AS programaDiscenteId " +
+           "FROM OfertaDisciplina o, Discente d WHERE o.id = :ofertaId AND d.id = :discenteId")
+    Optional<ElegibilidadeMatriculaProjection> findElegibilidadeMatricula(@Param("ofertaId") Long ofertaId,
+                                                                          @Param("discenteId") Long discenteId);
+
+    /**
+     * Reserva uma vaga de forma atômica com um único UPDATE condicional.
+     * Retorna as vagas restantes ou vazio se a oferta não está aberta ou está lotada.
+     * O lock da linha dura apenas até o commit da transação chamadora.
+     */
+    @Query(value = """
+            UPDATE academic.ofertas_disciplinas
+            SET vagas_ocupadas = vagas_ocupadas + 1, updated_at = NOW()
+            WHERE id = :id AND status = 'ABERTA' AND vagas_ocupadas < vagas_oferecidas
+            RETURNING vagas_oferecidas - vagas_ocupadas
+            """, nativeQuery = true)
+    Optional<Integer> reservarVaga(@Param("id") Long id);
+
+    /**
+     * Libera uma vaga de forma atômica (trancamento ou exclusão de matrícula).
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE academic.ofertas_disciplinas
+            SET vagas_ocupadas = GREATEST(vagas_ocupadas - 1, 0), updated_at = NOW()
+            WHERE id = :id
+            """, nativeQuery = true)
+    int liberarVaga(@Param("id") Long id);
+
     /**
      * Busca todas as ofertas de uma disciplina
      */
@@ -55,21 +100,25 @@ public interface OfertaDisciplinaRepository extends JpaRepository<OfertaDiscipli
     /**
      * Busca ofertas por período
      */
+    @EntityGraph(OfertaDisciplina.GRAFO_LISTAGEM)
     List<OfertaDisciplina> findByPeriodo(String periodo);
 
     /**
      * Busca ofertas por período (paginado)
      */
+    @EntityGraph(OfertaDisciplina.GRAFO_LISTAGEM)
     Page<OfertaDisciplina> findByPeriodo(String periodo, Pageable pageable);
 
     /**
      * Busca ofertas por docente responsável
      */
+    @EntityGraph(OfertaDisciplina.GRAFO_LISTAGEM)
     List<OfertaDisciplina> findByDocenteResponsavelId(Long docenteId);
 
     /**
      * Busca ofertas por docente responsável (paginado)
      */
+    @EntityGraph(OfertaDisciplina.GRAFO_LISTAGEM)
     Page<OfertaDisciplina> findByDocenteResponsavelId(Long docenteId, Pageable pageable);
 
     /**
@@ -80,11 +129,13 @@ public interface OfertaDisciplinaRepository extends JpaRepository<OfertaDiscipli
     /**
      * Busca ofertas por status
      */
+    @EntityGraph(OfertaDisciplina.GRAFO_LISTAGEM)
     List<OfertaDisciplina> findByStatus(StatusOferta status);
 
     /**
      * Busca ofertas por status (paginado)
      */
+    @EntityGraph(OfertaDisciplina.GRAFO_LISTAGEM)
     Page<OfertaDisciplina> findByStatus(StatusOferta status, Pageable pageable);
 
     /**
@@ -92,6 +143,7 @@ public interface OfertaDisciplinaRepository extends JpaRepository<OfertaDiscipli
      */
     @Query("SELECT o FROM OfertaDisciplina o WHERE o.vagasOcupadas < o.vagasOferecidas " +
            "AND o.status = 'ABERTA'")
+    @EntityGraph(OfertaDisciplina.GRAFO_LISTAGEM)
     List<OfertaDisciplina> findComVagasDisponiveis();
 
     /**
@@ -99,6 +151,7 @@ public interface OfertaDisciplinaRepository extends JpaRepository<OfertaDiscipli
      */
     @Query("SELECT o FROM OfertaDisciplina o WHERE o.vagasOcupadas < o.vagasOferecidas " +
            "AND o.status = 'ABERTA'")
+    @EntityGraph(OfertaDisciplina.GRAFO_LISTAGEM)
     Page<OfertaDisciplina> findComVagasDisponiveis(Pageable pageable);
 
     /**
@@ -225,4 +278,48 @@ public interface OfertaDisciplinaRepository extends JpaRepository<OfertaDiscipli
     @Query("SELECT o FROM OfertaDisciplina o WHERE o.disciplina.id = :disciplinaId " +
            "ORDER BY o.ano DESC, o.semestre DESC")
     Page<OfertaDisciplina> findUltimasOfertasDisciplina(@Param("disciplinaId") Long disciplinaId, Pageable pageable);
+
+    // =====================================================
+    // Listagens resumidas (projeções, sem carregar a entidade)
+    // =====================================================
+
+    String RESUMO_SELECT = """
+            SELECT o.id AS id,
+                   d.id AS disciplinaId, d.codigo AS disciplinaCodigo, d.nome AS disciplinaNome,
+                   d.creditos AS disciplinaCreditos,
+                   r.id AS docenteResponsavelId, ru.nomeCompleto AS docenteResponsavelNome,
+                   o.periodo AS periodo, o.turma AS turma, o.modalidade AS modalidade,
+                   o.dataInicio AS dataInicio, o.dataFim AS dataFim,
+                   o.vagasOferecidas AS vagasOferecidas, o.vagasOcupadas AS vagasOcupadas,
+                   o.listaEspera AS listaEspera, o.status AS status
+            FROM OfertaDisciplina o
+            JOIN o.disciplina d
+            JOIN o.docenteResponsavel r
+            JOIN r.usuario ru
+            """;
+
+    String RESUMO_COUNT = "SELECT COUNT(o) FROM OfertaDisciplina o ";
+
+    /**
+     * Lista resumida de todas as ofertas (paginado)
+     */
+    @Query(value = RESUMO_SELECT, countQuery = RESUMO_COUNT)
+    Page<OfertaDisciplinaResumoProjection> findResumos(Pageable pageable);
+
+    /**
+     * Lista resumida das ofertas de um período (paginado)
+     */
+    @Query(value = RESUMO_SELECT + "WHERE o.periodo = :periodo",
+           countQuery = RESUMO_COUNT + "WHERE o.periodo = :periodo")
+    Page<OfertaDisciplinaResumoProjection> findResumosByPeriodo(@Param("periodo") String periodo, Pageable pageable);
+
+    /**
+     * Lista resumida das ofertas de um docente responsável (paginado)
+     */
+    @Query(value = RESUMO_SELECT + "WHERE r.id = :docenteId",
+           countQuery = RESUMO_COUNT + "WHERE o.docenteResponsavel.id = :docenteId")
+    Page<OfertaDisciplinaResumoProjection> findResumosByDocenteResponsavelId(
+        @Param("docenteId") Long docenteId,
+        Pageable pageable
+    );
 }
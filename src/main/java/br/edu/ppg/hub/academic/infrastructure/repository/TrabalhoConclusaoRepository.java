@@ -3,12 +3,16 @@ package br.edu.ppg.hub.academic.infrastructure.repository;
 import br.edu.ppg.hub.academic.domain.enums.StatusTrabalho;
 import br.edu.ppg.hub.academic.domain.enums.TipoTrabalho;
 import br.edu.ppg.hub.academic.domain.model.TrabalhoConclusao;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.TrabalhoConclusaoResumoProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -24,6 +28,13 @@ import java.util.Optional;
 @Repository
 public interface TrabalhoConclusaoRepository extends JpaRepository<TrabalhoConclusao, Long> {
 
+    /**
+     * Lista paginada com as associações exibidas na resposta
+     */
+    @Override
+    @EntityGraph(TrabalhoConclusao.GRAFO_LISTAGEM)
+    Page<TrabalhoConclusao> findAll(Pageable pageable);
+
     /**
      * Busca trabalho por ID do discente.
      *
@@ -38,6 +49,7 @@ public interface TrabalhoConclusaoRepository extends JpaRepository<TrabalhoConcl
      * @param orientadorId ID do orientador
      * @return Lista de trabalhos
      */
+    @EntityGraph(TrabalhoConclusao.GRAFO_LISTAGEM)
     List<TrabalhoConclusao> findByOrientadorId(Long orientadorId);
 
     /**
@@ -47,6 +59,7 @@ public interface TrabalhoConclusaoRepository extends JpaRepository<TrabalhoConcl
      * @param pageable Parâmetros de paginação
      * @return Página de trabalhos
      */
+    @EntityGraph(TrabalhoConclusao.GRAFO_LISTAGEM)
     Page<TrabalhoConclusao> findByOrientadorId(Long orientadorId, Pageable pageable);
 
     /**
@@ -55,6 +68,7 @@ public interface TrabalhoConclusaoRepository extends JpaRepository<TrabalhoConcl
      * @param coorientadorId ID do coorientador
      * @return Lista de trabalhos
      */
+    @EntityGraph(TrabalhoConclusao.GRAFO_LISTAGEM)
     List<TrabalhoConclusao> findByCoorientadorId(Long coorientadorId);
 
     /**
@@ -64,6 +78,7 @@ public interface TrabalhoConclusaoRepository extends JpaRepository<TrabalhoConcl
      * @param pageable Parâmetros de paginação
      * @return Página de trabalhos
      */
+    @EntityGraph(TrabalhoConclusao.GRAFO_LISTAGEM)
     Page<TrabalhoConclusao> findByCoorientadorId(Long coorientadorId, Pageable pageable);
 
     /**
@@ -72,6 +87,7 @@ public interface TrabalhoConclusaoRepository extends JpaRepository<TrabalhoConcl
      * @param tipo Tipo do trabalho
      * @return Lista de trabalhos
      */
+    @EntityGraph(TrabalhoConclusao.GRAFO_LISTAGEM)
     List<TrabalhoConclusao> findByTipo(TipoTrabalho tipo);
 
     /**
@@ -81,6 +97,7 @@ public interface TrabalhoConclusaoRepository extends JpaRepository<TrabalhoConcl
      * @param pageable Parâmetros de paginação
      * @return Página de trabalhos
      */
+    @EntityGraph(TrabalhoConclusao.GRAFO_LISTAGEM)
     Page<TrabalhoConclusao> findByTipo(TipoTrabalho tipo, Pageable pageable);
 
     /**
@@ -89,6 +106,7 @@ public interface TrabalhoConclusaoRepository extends JpaRepository<TrabalhoConcl
      * @param status Status do trabalho
      * @return Lista de trabalhos
      */
+    @EntityGraph(TrabalhoConclusao.GRAFO_LISTAGEM)
     List<TrabalhoConclusao> findByStatus(StatusTrabalho status);
 
     /**
@@ -98,6 +116,7 @@ public interface TrabalhoConclusaoRepository extends JpaRepository<TrabalhoConcl
      * @param pageable Parâmetros de paginação
      * @return Página de trabalhos
      */
+    @EntityGraph(TrabalhoConclusao.GRAFO_LISTAGEM)
     Page<TrabalhoConclusao> findByStatus(StatusTrabalho status, Pageable pageable);
 
     /**
@@ -116,6 +135,7 @@ public interface TrabalhoConclusaoRepository extends JpaRepository<TrabalhoConcl
      * @param dataFim Data final
      * @return Lista de trabalhos
      */
+    @EntityGraph(TrabalhoConclusao.GRAFO_LISTAGEM)
     List<TrabalhoConclusao> findByDataDefesaBetween(LocalDate dataInicio, LocalDate dataFim);
 
     /**
@@ -126,6 +146,7 @@ public interface TrabalhoConclusaoRepository extends JpaRepository<TrabalhoConcl
      * @param pageable Parâmetros de paginação
      * @return Página de trabalhos
      */
+    @EntityGraph(TrabalhoConclusao.GRAFO_LISTAGEM)
     Page<TrabalhoConclusao> findByDataDefesaBetween(LocalDate dataInicio, LocalDate dataFim, Pageable pageable);
 
     /**
@@ -172,6 +193,7 @@ public interface TrabalhoConclusaoRepository extends JpaRepository<TrabalhoConcl
      */
     @Query("SELECT t FROM TrabalhoConclusao t WHERE t.status = 'QUALIFICADO' " +
            "AND t.dataDefesa IS NULL")
+    @EntityGraph(TrabalhoConclusao.GRAFO_LISTAGEM)
     List<TrabalhoConclusao> findTrabalhosPendentesDefesa();
 
     /**
@@ -224,18 +246,6 @@ public interface TrabalhoConclusaoRepository extends JpaRepository<TrabalhoConcl
            "LOWER(t.palavrasChavePortugues) LIKE LOWER(CONCAT('%', :palavraChave, '%'))")
     List<TrabalhoConclusao> findByPalavraChave(@Param("palavraChave") String palavraChave);
 
-    /**
-     * Busca trabalhos por texto no título ou resumo.
-     *
-     * @param texto Texto a buscar
-     * @return Lista de trabalhos
-     */
-    @Query("SELECT t FROM TrabalhoConclusao t WHERE " +
-           "LOWER(t.tituloPortugues) LIKE LOWER(CONCAT('%', :texto, '%')) OR " +
-           "LOWER(t.tituloIngles) LIKE LOWER(CONCAT('%', :texto, '%')) OR " +
-           "LOWER(t.resumoPortugues) LIKE LOWER(CONCAT('%', :texto, '%'))")
-    List<TrabalhoConclusao> findByTextoTituloOuResumo(@Param("texto") String texto);
-
     /**
      * Busca trabalhos por DOI.
      *
@@ -312,4 +322,124 @@ public interface TrabalhoConclusaoRepository extends JpaRepository<TrabalhoConcl
      * @return true se existe, false caso contrário
      */
     boolean existsByDiscenteId(Long discenteId);
+
+    /**
+     * Verifica se algum trabalho referencia o documento (a chave é o hash do conteúdo,
+     * então trabalhos com o mesmo PDF compartilham o arquivo).
+     *
+     * @param arquivoPdf Chave do documento no armazenamento
+     * @return true se referenciado, false caso contrário
+     */
+    boolean existsByArquivoPdf(String arquivoPdf);
+
+    // =====================================================
+    // Listagens resumidas (projeções, sem carregar a entidade)
+    // =====================================================
+
+    String RESUMO_SELECT = """
+            SELECT t.id AS id, t.tipo AS tipo, t.tituloPortugues AS tituloPortugues,
+                   d.id AS discenteId, du.nomeCompleto AS discenteNome,
+                   o.id AS orientadorId, ou.nomeCompleto AS orientadorNome,
+                   cu.nomeCompleto AS coorientadorNome,
+                   t.dataDefesa AS dataDefesa, t.anoDefesa AS anoDefesa,
+                   t.idioma AS idioma, t.status AS status
+            FROM TrabalhoConclusao t
+            JOIN t.discente d
+            JOIN d.usuario du
+            JOIN t.orientador o
+            JOIN o.usuario ou
+            LEFT JOIN t.coorientador c
+            LEFT JOIN c.usuario cu
+            """;
+
+    String RESUMO_COUNT = "SELECT COUNT(t) FROM TrabalhoConclusao t ";
+
+    /**
+     * Lista resumida de todos os trabalhos (paginado).
+     *
+     * @param pageable Parâmetros de paginação
+     * @return Página de resumos
+     */
+    @Query(value = RESUMO_SELECT, countQuery = RESUMO_COUNT)
+    Page<TrabalhoConclusaoResumoProjection> findResumos(Pageable pageable);
+
+    /**
+     * Lista resumida dos trabalhos de um orientador (paginado).
+     *
+     * @param orientadorId ID do orientador
+     * @param pageable Parâmetros de paginação
+     * @return Página de resumos
+     */
+    @Query(value = RESUMO_SELECT + "WHERE o.id = :orientadorId",
+           countQuery = RESUMO_COUNT + "WHERE t.orientador.id = :orientadorId")
+    Page<TrabalhoConclusaoResumoProjection> findResumosByOrientadorId(
+            @Param("orientadorId") Long orientadorId, Pageable pageable);
+
+    /**
+     * Lista resumida dos trabalhos de um coorientador (paginado).
+     *
+     * @param coorientadorId ID do coorientador
+     * @param pageable Parâmetros de paginação
+     * @return Página de resumos
+     */
+    @Query(value = RESUMO_SELECT + "WHERE c.id = :coorientadorId",
+           countQuery = RESUMO_COUNT + "WHERE t.coorientador.id = :coorientadorId")
+    Page<TrabalhoConclusaoResumoProjection> findResumosByCoorientadorId(
+            @Param("coorientadorId") Long coorientadorId, Pageable pageable);
+
+    /**
+     * Lista resumida dos trabalhos por tipo (paginado).
+     *
+     * @param tipo Tipo do trabalho
+     * @param pageable Parâmetros de paginação
+     * @return Página de resumos
+     */
+    @Query(value = RESUMO_SELECT + "WHERE t.tipo = :tipo",
+           countQuery = RESUMO_COUNT + "WHERE t.tipo = :tipo")
+    Page<TrabalhoConclusaoResumoProjection> findResumosByTipo(@Param("tipo") TipoTrabalho tipo, Pageable pageable);
+
+    /**
+     * Lista resumida dos trabalhos por status (paginado).
+     *
+     * @param status Status do trabalho
+     * @param pageable Parâmetros de paginação
+     * @return Página de resumos
+     */
+    @Query(value = RESUMO_SELECT + "WHERE t.status = :status",
+           countQuery = RESUMO_COUNT + "WHERE t.status = :status")
+    Page<TrabalhoConclusaoResumoProjection> findResumosByStatus(@Param("status") StatusTrabalho status, Pageable pageable);
+
+    /**
+     * Lista resumida dos trabalhos defendidos em um período (paginado).
+     *
+     * @param dataInicio Data inicial
+     * @param dataFim Data final
+     * @param pageable Parâmetros de paginação
+     * @return Página de resumos
+     */
+    @Query(value = RESUMO_SELECT + "WHERE t.dataDefesa BETWEEN :dataInicio AND :dataFim",
+           countQuery = RESUMO_COUNT + "WHERE t.dataDefesa BETWEEN :dataInicio AND :dataFim")
+    Page<TrabalhoConclusaoResumoProjection> findResumosByDataDefesaBetween(
+            @Param("dataInicio") LocalDate dataInicio,
+            @Param("dataFim") LocalDate dataFim,
+            Pageable pageable);
+
+    /**
+     * Busca o trabalho com as associações exibidas na resposta
+     */
+    @EntityGraph(TrabalhoConclusao.GRAFO_LISTAGEM)
+    Optional<TrabalhoConclusao> findComAssociacoesById(Long id);
+
+    /**
+     * Registra o documento PDF do trabalho (chave no armazenamento e tamanho).
+     * Executa em transação própria, depois que o arquivo já foi gravado.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE academic.trabalhos_conclusao
+            SET arquivo_pdf = :chave, tamanho_arquivo_bytes = :tamanho, updated_at = NOW()
+            WHERE id = :id
+            """, nativeQuery = true)
+    int atualizarArquivo(@Param("id") Long id, @Param("chave") String chave, @Param("tamanho") Long tamanho);
 }
@@ -0,0 +1,92 @@
+package br.edu.ppg.hub.academic.infrastructure.repository;
+
+import br.edu.ppg.hub.academic.domain.enums.StatusDiscente;
+import br.edu.ppg.hub.academic.domain.enums.TipoCurso;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Leitura e gravação das transições de situação de discentes em lote.
+ *
+ * <p>Os discentes do lote são lidos e bloqueados ({@code FOR UPDATE}) em uma única
+ * consulta; a transição é gravada com um único UPDATE sobre os ids (ANY), que
+ * repete as condições validadas.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransicaoDiscenteRepository {
+
+    private static final String SELECT_SITUACOES = """
+            SELECT d.id, d.programa_id, d.status, UPPER(d.tipo_curso) AS tipo_curso, d.orientador_id,
+                   d.data_defesa
+            FROM academic.discentes d
+            WHERE d.id = ANY(CAST(? AS BIGINT[]))
+            FOR UPDATE
+            """;
+
+    private static final String UPDATE_TITULAR = """
+            UPDATE academic.discentes
+            SET status = 'TITULADO', updated_at = NOW()
+            WHERE id = ANY(CAST(? AS BIGINT[]))
+              AND status IN ('MATRICULADO', 'CURSANDO', 'QUALIFICADO', 'DEFENDENDO')
+              AND data_defesa IS NOT NULL
+            """;
+
+    private static final String UPDATE_DESLIGAR = """
+            UPDATE academic.discentes
+            SET status = 'DESLIGADO', motivo_desligamento = ?, data_desligamento = ?, updated_at = NOW()
+            WHERE id = ANY(CAST(? AS BIGINT[]))
+              AND status IN ('MATRICULADO', 'CURSANDO', 'QUALIFICADO', 'DEFENDENDO')
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Situação atual de um discente, para validar a transição
+     */
+    public record SituacaoDiscente(Long id, Long programaId, StatusDiscente status, TipoCurso tipoCurso,
+                                   Long orientadorId, LocalDate dataDefesa) {
+    }
+
+    /**
+     * Lê e bloqueia os discentes até o fim da transação
+     */
+    public List<SituacaoDiscente> buscarParaTransicao(Long[] discenteIds) {
+        return jdbcTemplate.query(SELECT_SITUACOES, (rs, rowNum) -> {
+            Date dataDefesa = rs.getDate("data_defesa");
+            return new SituacaoDiscente(
+                    rs.getLong("id"),
+                    rs.getLong("programa_id"),
+                    StatusDiscente.fromString(rs.getString("status")),
+                    TipoCurso.valueOf(rs.getString("tipo_curso")),
+                    rs.getObject("orientador_id", Long.class),
+                    dataDefesa != null ? dataDefesa.toLocalDate() : null);
+        }, (Object) discenteIds);
+    }
+
+    /**
+     * Titula os discentes ativos que já defenderam
+     *
+     * @return número de discentes atualizados
+     */
+    public int titular(Long[] discenteIds) {
+        return jdbcTemplate.update(UPDATE_TITULAR, (Object) discenteIds);
+    }
+
+    /**
+     * Desliga os discentes ativos
+     *
+     * @return número de discentes atualizados
+     */
+    public int desligar(Long[] discenteIds, String motivo, LocalDate data) {
+        return jdbcTemplate.update(UPDATE_DESLIGAR, motivo, data, discenteIds);
+    }
+}
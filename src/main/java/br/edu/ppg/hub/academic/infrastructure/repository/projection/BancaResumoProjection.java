@@ -0,0 +1,49 @@
+package br.edu.ppg.hub.academic.infrastructure.repository.projection;
+
+import br.edu.ppg.hub.academic.domain.enums.ResultadoBanca;
+import br.edu.ppg.hub.academic.domain.enums.TipoBanca;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Linha das listagens paginadas de bancas.
+ * <p>
+ * Apenas colunas exibidas na listagem, com título do trabalho e nomes resolvidos
+ * por join; ata e pauta (jsonb) ficam no detalhe.
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public interface BancaResumoProjection {
+
+    Long getId();
+
+    TipoBanca getTipo();
+
+    String getStatus();
+
+    Long getTrabalhoConclusaoId();
+
+    String getTrabalhoConclusaoTitulo();
+
+    Long getDiscenteId();
+
+    String getDiscenteNome();
+
+    String getPresidenteNome();
+
+    LocalDate getDataAgendada();
+
+    LocalTime getHorarioInicio();
+
+    String getLocalRealizacao();
+
+    String getModalidade();
+
+    ResultadoBanca getResultado();
+
+    BigDecimal getNotaFinal();
+}
@@ -0,0 +1,51 @@
+package br.edu.ppg.hub.academic.infrastructure.repository.projection;
+
+import br.edu.ppg.hub.academic.domain.enums.StatusDiscente;
+import br.edu.ppg.hub.academic.domain.enums.TipoCurso;
+
+import java.time.LocalDate;
+
+/**
+ * Linha das listagens paginadas de discentes.
+ * <p>
+ * Apenas colunas exibidas na listagem, com os nomes das associações resolvidos
+ * por join; prorrogações e documentos (jsonb) ficam no detalhe.
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public interface DiscenteResumoProjection {
+
+    Long getId();
+
+    String getNumeroMatricula();
+
+    String getUsuarioNome();
+
+    String getUsuarioEmail();
+
+    Long getProgramaId();
+
+    String getProgramaSigla();
+
+    String getLinhaPesquisaNome();
+
+    Long getOrientadorId();
+
+    String getOrientadorNome();
+
+    TipoCurso getTipoCurso();
+
+    Integer getTurma();
+
+    String getSemestreIngresso();
+
+    LocalDate getDataIngresso();
+
+    LocalDate getDataLimiteAtual();
+
+    Boolean getBolsista();
+
+    StatusDiscente getStatus();
+}
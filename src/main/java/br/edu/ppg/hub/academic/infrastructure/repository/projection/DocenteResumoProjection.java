@@ -0,0 +1,46 @@
+package br.edu.ppg.hub.academic.infrastructure.repository.projection;
+
+import br.edu.ppg.hub.academic.domain.enums.CategoriaDocente;
+import br.edu.ppg.hub.academic.domain.enums.StatusDocente;
+import br.edu.ppg.hub.academic.domain.enums.TipoVinculoDocente;
+
+/**
+ * Linha das listagens paginadas de docentes.
+ * <p>
+ * Apenas colunas exibidas na listagem, com os nomes das associações resolvidos
+ * por join; textos longos (currículo, projetos) ficam no detalhe.
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public interface DocenteResumoProjection {
+
+    Long getId();
+
+    String getMatricula();
+
+    String getUsuarioNome();
+
+    String getUsuarioEmail();
+
+    Long getProgramaId();
+
+    String getProgramaSigla();
+
+    String getLinhaPesquisaNome();
+
+    CategoriaDocente getCategoria();
+
+    String getTitulacaoMaxima();
+
+    TipoVinculoDocente getTipoVinculo();
+
+    Integer getOrientacoesMestradoAndamento();
+
+    Integer getOrientacoesDoutoradoAndamento();
+
+    Boolean getBolsistaProdutividade();
+
+    StatusDocente getStatus();
+}
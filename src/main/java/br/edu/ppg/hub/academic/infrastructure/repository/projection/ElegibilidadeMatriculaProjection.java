@@ -0,0 +1,24 @@
+package br.edu.ppg.hub.academic.infrastructure.repository.projection;
+
+import br.edu.ppg.hub.academic.domain.enums.StatusDiscente;
+import br.edu.ppg.hub.academic.domain.enums.StatusOferta;
+
+/**
+ * Projeção com os dados necessários para validar uma matrícula em disciplina,
+ * obtidos em uma única consulta e sem lock.
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public interface ElegibilidadeMatriculaProjection {
+
+    StatusOferta getStatusOferta();
+
+    Long getDisciplinaId();
+
+    Long getProgramaOfertaId();
+
+    StatusDiscente getStatusDiscente();
+
+    Long getProgramaDiscenteId();
+}
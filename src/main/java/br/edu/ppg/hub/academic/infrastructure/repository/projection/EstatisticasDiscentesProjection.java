@@ -0,0 +1,24 @@
+package br.edu.ppg.hub.academic.infrastructure.repository.projection;
+
+/**
+ * Contagens de discentes de um programa, calculadas em uma única agregação condicional.
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public interface EstatisticasDiscentesProjection {
+
+    Long getTotal();
+
+    Long getTotalMestrado();
+
+    Long getTotalDoutorado();
+
+    Long getTotalTitulados();
+
+    Long getTotalBolsistas();
+
+    Long getAtivos();
+
+    Long getQualificados();
+}
@@ -0,0 +1,22 @@
+package br.edu.ppg.hub.academic.infrastructure.repository.projection;
+
+/**
+ * Contagens de docentes de um programa, calculadas em uma única agregação condicional.
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public interface EstatisticasDocentesProjection {
+
+    Long getTotal();
+
+    Long getAtivos();
+
+    Long getAfastados();
+
+    Long getPermanentes();
+
+    Long getColaboradores();
+
+    Long getBolsistasProdutividade();
+}
@@ -0,0 +1,17 @@
+package br.edu.ppg.hub.academic.infrastructure.repository.projection;
+
+/**
+ * Contagens agregadas do fechamento de resultados de uma oferta,
+ * retornadas pelo mesmo UPDATE que grava os resultados.
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public interface FechamentoResultadosProjection {
+
+    Long getTotalProcessadas();
+
+    Long getAprovados();
+
+    Long getReprovados();
+}
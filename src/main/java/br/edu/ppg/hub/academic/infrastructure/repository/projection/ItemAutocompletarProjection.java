@@ -0,0 +1,18 @@
+package br.edu.ppg.hub.academic.infrastructure.repository.projection;
+
+/**
+ * Dados mínimos de docente ou disciplina para o índice de autocompletar.
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public interface ItemAutocompletarProjection {
+
+    Long getId();
+
+    Long getProgramaId();
+
+    String getRotulo();
+
+    String getDetalhe();
+}
@@ -0,0 +1,19 @@
+package br.edu.ppg.hub.academic.infrastructure.repository.projection;
+
+import br.edu.ppg.hub.academic.domain.enums.StatusMatricula;
+
+/**
+ * Projeção com os dados necessários para validar o lançamento em lote
+ * de notas e frequências de uma oferta.
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public interface LancamentoMatriculaProjection {
+
+    Long getId();
+
+    String getNumeroMatricula();
+
+    StatusMatricula getSituacao();
+}
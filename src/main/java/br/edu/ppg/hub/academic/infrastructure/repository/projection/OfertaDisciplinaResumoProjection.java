@@ -0,0 +1,50 @@
+package br.edu.ppg.hub.academic.infrastructure.repository.projection;
+
+import br.edu.ppg.hub.academic.domain.enums.StatusOferta;
+
+import java.time.LocalDate;
+
+/**
+ * Linha das listagens paginadas de ofertas de disciplinas.
+ * <p>
+ * Apenas colunas exibidas na listagem, com disciplina e docente resolvidos
+ * por join; horários (jsonb) e observações ficam no detalhe.
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public interface OfertaDisciplinaResumoProjection {
+
+    Long getId();
+
+    Long getDisciplinaId();
+
+    String getDisciplinaCodigo();
+
+    String getDisciplinaNome();
+
+    Integer getDisciplinaCreditos();
+
+    Long getDocenteResponsavelId();
+
+    String getDocenteResponsavelNome();
+
+    String getPeriodo();
+
+    String getTurma();
+
+    String getModalidade();
+
+    LocalDate getDataInicio();
+
+    LocalDate getDataFim();
+
+    Integer getVagasOferecidas();
+
+    Integer getVagasOcupadas();
+
+    Integer getListaEspera();
+
+    StatusOferta getStatus();
+}
@@ -0,0 +1,16 @@
+package br.edu.ppg.hub.academic.infrastructure.repository.projection;
+
+/**
+ * Pré-requisitos e co-requisitos de uma disciplina (listas JSON de ids) para o grafo curricular.
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public interface RequisitosDisciplinaProjection {
+
+    Long getId();
+
+    String getPreRequisitos();
+
+    String getCoRequisitos();
+}
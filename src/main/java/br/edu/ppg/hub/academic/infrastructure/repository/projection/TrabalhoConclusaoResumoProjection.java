@@ -0,0 +1,43 @@
+package br.edu.ppg.hub.academic.infrastructure.repository.projection;
+
+import br.edu.ppg.hub.academic.domain.enums.StatusTrabalho;
+import br.edu.ppg.hub.academic.domain.enums.TipoTrabalho;
+
+import java.time.LocalDate;
+
+/**
+ * Linha das listagens paginadas de trabalhos de conclusão.
+ * <p>
+ * Apenas colunas exibidas na listagem, com os nomes de discente e orientadores
+ * resolvidos por join; resumos e abstract ficam no detalhe.
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public interface TrabalhoConclusaoResumoProjection {
+
+    Long getId();
+
+    TipoTrabalho getTipo();
+
+    String getTituloPortugues();
+
+    Long getDiscenteId();
+
+    String getDiscenteNome();
+
+    Long getOrientadorId();
+
+    String getOrientadorNome();
+
+    String getCoorientadorNome();
+
+    LocalDate getDataDefesa();
+
+    Integer getAnoDefesa();
+
+    String getIdioma();
+
+    StatusTrabalho getStatus();
+}
@@ -0,0 +1,239 @@
+package br.edu.ppg.hub.academic.infrastructure.scheduling;
+
+import br.edu.ppg.hub.academic.infrastructure.timetable.ConflitoHorario.Recurso;
+import br.edu.ppg.hub.academic.infrastructure.timetable.GradeHorarios;
+import br.edu.ppg.hub.shared.config.AgendamentoBancaConfig;
+import br.edu.ppg.hub.shared.util.Transacoes;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Agenda em memória de docentes, discentes e salas para o agendamento de bancas.
+ *
+ * <p>Guarda as bancas agendadas a partir de hoje, indexadas por participante
+ * (presidente, secretário, membros internos e discente) e por sala; as aulas dos
+ * docentes e a ocupação das salas vêm da {@link GradeHorarios}. Verificar se um
+ * docente está livre em um horário é uma consulta em memória, usada tanto na
+ * validação de cada agendamento quanto pelo {@link AlocadorBancas}.</p>
+ *
+ * <p>A agenda é carregada na inicialização, atualizada após o commit de cada
+ * alteração de banca e recarregada diariamente. Como na grade de horários,
+ * verificação e gravação não são atômicas, e o estado é por instância.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Component
+@Slf4j
+public class AgendaBancas {
+
+    private static final String SELECT_BANCAS = """
+            SELECT b.id, b.discente_id, b.data_agendada, b.horario_inicio, b.horario_fim,
+                   b.modalidade, b.local_realizacao, b.presidente_id, b.secretario_id,
+                   ARRAY(SELECT mb.docente_id FROM academic.membros_banca mb
+                         WHERE mb.banca_id = b.id AND mb.docente_id IS NOT NULL) AS membros
+            FROM academic.bancas b
+            WHERE b.status = 'Agendada' AND b.data_agendada >= CURRENT_DATE
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GradeHorarios gradeHorarios;
+    private final AgendamentoBancaConfig config;
+    private final TransactionTemplate novaTransacao;
+    private final RowMapper<CompromissoBanca> compromisso = (rs, i) -> {
+        Set<Long> docentes = new LinkedHashSet<>();
+        for (String coluna : List.of("presidente_id", "secretario_id")) {
+            Long docenteId = rs.getObject(coluna, Long.class);
+            if (docenteId != null) {
+                docentes.add(docenteId);
+            }
+        }
+        for (Object membro : (Object[]) rs.getArray("membros").getArray()) {
+            docentes.add(((Number) membro).longValue());
+        }
+        Time fim = rs.getTime("horario_fim");
+        return new CompromissoBanca(
+                rs.getLong("id"),
+                rs.getLong("discente_id"),
+                docentes,
+                "Virtual".equals(rs.getString("modalidade")) ? null : normalizarSala(rs.getString("local_realizacao")),
+                horario(rs.getDate("data_agendada").toLocalDate(), rs.getTime("horario_inicio").toLocalTime(),
+                        fim != null ? fim.toLocalTime() : null));
+    };
+
+    private volatile Estado estado = new Estado();
+
+    public AgendaBancas(JdbcTemplate jdbcTemplate, GradeHorarios gradeHorarios, AgendamentoBancaConfig config,
+                        PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.gradeHorarios = gradeHorarios;
+        this.config = config;
+        this.novaTransacao = Transacoes.leituraPropria(transactionManager);
+    }
+
+    /**
+     * Carga completa na inicialização e, diariamente, para descartar bancas passadas.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 50 3 * * *")
+    public void recarregar() {
+        Estado novo = new Estado();
+        List<CompromissoBanca> agendadas = novaTransacao.execute(status ->
+                jdbcTemplate.query(SELECT_BANCAS, compromisso));
+        if (agendadas != null) {
+            agendadas.forEach(novo::substituir);
+        }
+        synchronized (this) {
+            estado = novo;
+        }
+        log.info("Agenda de bancas carregada: {} bancas agendadas", novo.bancas.size());
+    }
+
+    /**
+     * Horário da banca; sem término informado, usa a duração padrão.
+     */
+    public HorarioBanca horario(LocalDate data, LocalTime inicio, LocalTime fim) {
+        if (fim == null) {
+            fim = inicio.plusMinutes(config.getDuracaoPadraoMinutos());
+            if (fim.isBefore(inicio)) {
+                fim = LocalTime.MAX;
+            }
+        }
+        return new HorarioBanca(data, inicio, fim);
+    }
+
+    /**
+     * Compromissos que impedem a banca no horário: outras bancas dos participantes ou da sala
+     * e aulas dos docentes ou na sala. Bancas em {@code ignorar} (a própria, em um reagendamento)
+     * não contam.
+     *
+     * @param sala sala da banca, ou nula para bancas virtuais
+     * @return descrições dos impedimentos (vazia se o horário está livre)
+     */
+    public List<String> impedimentos(Long discenteId, Collection<Long> docentes, String sala,
+                                     HorarioBanca horario, Set<Long> ignorar) {
+        List<String> impedimentos = new ArrayList<>(
+                ocupacoes(Recurso.DISCENTE, String.valueOf(discenteId), horario, ignorar));
+        for (Long docenteId : docentes) {
+            impedimentos.addAll(ocupacoes(Recurso.DOCENTE, String.valueOf(docenteId), horario, ignorar));
+        }
+        if (normalizarSala(sala) != null) {
+            impedimentos.addAll(ocupacoes(Recurso.SALA, sala, horario, ignorar));
+        }
+        return impedimentos;
+    }
+
+    public boolean livre(Recurso recurso, String identificador, HorarioBanca horario, Set<Long> ignorar) {
+        return ocupacoes(recurso, identificador, horario, ignorar).isEmpty();
+    }
+
+    /**
+     * Relê a banca após o commit: atualiza seus participantes e horário ou a retira da
+     * agenda se deixou de estar agendada.
+     */
+    public void atualizarBanca(Long bancaId) {
+        Transacoes.aposCommit(() -> {
+            List<CompromissoBanca> lida = novaTransacao.execute(status ->
+                    jdbcTemplate.query(SELECT_BANCAS + "AND b.id = ?", compromisso, bancaId));
+            synchronized (this) {
+                if (lida == null || lida.isEmpty()) {
+                    estado.retirar(bancaId);
+                } else {
+                    estado.substituir(lida.get(0));
+                }
+            }
+        });
+    }
+
+    private List<String> ocupacoes(Recurso recurso, String identificador, HorarioBanca horario, Set<Long> ignorar) {
+        String valor = recurso == Recurso.SALA ? normalizarSala(identificador) : identificador;
+        String nome = recurso.name().toLowerCase(Locale.ROOT) + " " + valor;
+        List<String> ocupacoes = new ArrayList<>();
+
+        Estado atual = estado;
+        for (Long bancaId : atual.porRecurso.getOrDefault(new Chave(recurso, valor), Set.of())) {
+            CompromissoBanca banca = atual.bancas.get(bancaId);
+            if (banca != null && !ignorar.contains(bancaId) && banca.horario().sobrepoe(horario)) {
+                ocupacoes.add(String.format("%s ocupado pela banca %d em %s, %s-%s", nome, bancaId,
+                        banca.horario().data(), banca.horario().inicio(), banca.horario().fim()));
+            }
+        }
+        if (recurso != Recurso.DISCENTE) {
+            for (Long ofertaId : gradeHorarios.ofertasNoHorario(recurso, valor, horario.data(),
+                    horario.inicio(), horario.fim())) {
+                ocupacoes.add(String.format("%s ocupado pela oferta %d em %s, %s-%s", nome, ofertaId,
+                        horario.data(), horario.inicio(), horario.fim()));
+            }
+        }
+        return ocupacoes;
+    }
+
+    private static String normalizarSala(String sala) {
+        return sala == null || sala.isBlank() ? null : sala.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private record Chave(Recurso recurso, String valor) {
+    }
+
+    private record CompromissoBanca(long id, long discenteId, Set<Long> docentes, String sala, HorarioBanca horario) {
+
+        List<Chave> recursos() {
+            List<Chave> chaves = new ArrayList<>();
+            chaves.add(new Chave(Recurso.DISCENTE, String.valueOf(discenteId)));
+            docentes.forEach(id -> chaves.add(new Chave(Recurso.DOCENTE, String.valueOf(id))));
+            if (sala != null) {
+                chaves.add(new Chave(Recurso.SALA, sala));
+            }
+            return chaves;
+        }
+    }
+
+    /**
+     * Bancas agendadas e índice por recurso. Alterações são serializadas pela {@link AgendaBancas}.
+     */
+    private static final class Estado {
+
+        private final Map<Long, CompromissoBanca> bancas = new ConcurrentHashMap<>();
+        private final Map<Chave, Set<Long>> porRecurso = new ConcurrentHashMap<>();
+
+        void substituir(CompromissoBanca banca) {
+            retirar(banca.id());
+            bancas.put(banca.id(), banca);
+            for (Chave chave : banca.recursos()) {
+                porRecurso.computeIfAbsent(chave, c -> ConcurrentHashMap.newKeySet()).add(banca.id());
+            }
+        }
+
+        void retirar(long bancaId) {
+            CompromissoBanca anterior = bancas.remove(bancaId);
+            if (anterior == null) {
+                return;
+            }
+            for (Chave chave : anterior.recursos()) {
+                Set<Long> ids = porRecurso.get(chave);
+                if (ids != null) {
+                    ids.remove(bancaId);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package br.edu.ppg.hub.academic.infrastructure.scheduling;
+
+import br.edu.ppg.hub.academic.infrastructure.timetable.ConflitoHorario.Recurso;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Alocação de data, horário e sala para um lote de bancas pendentes.
+ *
+ * <p>Cada recurso (docente, discente, sala) tem um {@link BitSet} dos horários
+ * candidatos em que está ocupado: compromissos já existentes, informados por
+ * {@link Disponibilidade}, mais as bancas alocadas durante a busca. Os horários
+ * livres de uma banca são o complemento da união dos bitsets dos seus participantes.</p>
+ *
+ * <p>A busca é em profundidade com poda: escolhe primeiro a banca com menos horários
+ * livres (a mais restrita) e tenta os horários dos dias com menos bancas alocadas.
+ * A primeira descida já é uma alocação gulosa completa; o restante do tempo é usado
+ * para tentar alocar mais bancas, voltando atrás nas escolhas. A busca termina ao
+ * alocar todas ou no prazo, devolvendo a melhor alocação encontrada.</p>
+ *
+ * <p>Instâncias não são thread-safe; use uma por lote.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public final class AlocadorBancas {
+
+    /**
+     * Compromissos já existentes fora do lote.
+     */
+    @FunctionalInterface
+    public interface Disponibilidade {
+
+        boolean livre(Recurso recurso, String identificador, HorarioBanca horario);
+    }
+
+    /**
+     * Banca alocada: horário e sala (nula para bancas virtuais ou sem salas candidatas).
+     */
+    public record Alocacao(long bancaId, HorarioBanca horario, String sala) {
+    }
+
+    /**
+     * Melhor alocação encontrada.
+     *
+     * @param alocacoes     bancas com horário, na ordem do lote
+     * @param semHorario    bancas para as quais não houve horário compatível
+     * @param tempoEsgotado se a busca parou pelo prazo antes de provar que não havia alocação melhor
+     */
+    public record Resultado(List<Alocacao> alocacoes, List<Long> semHorario, boolean tempoEsgotado) {
+    }
+
+    private record Chave(Recurso recurso, String identificador) {
+    }
+
+    private static final int PENDENTE = 0;
+    private static final int DECIDIDA = 1;
+
+    private final List<BancaPendente> bancas;
+    private final List<HorarioBanca> horarios;
+    private final List<String> salas;
+
+    private final BitSet[] sobrepostos;
+    private final int[] diaDoHorario;
+    private final int[][] recursosDaBanca;
+    private final boolean[] precisaSala;
+    private final BitSet[] ocupados;
+    private final BitSet[] salasOcupadas;
+
+    private final int[] estado;
+    private final int[] horarioDe;
+    private final int[] salaDe;
+    private final int[] bancasNoDia;
+
+    private int melhorTotal = -1;
+    private int[] melhorHorario;
+    private int[] melhorSala;
+    private long limite;
+    private boolean esgotado;
+
+    public AlocadorBancas(List<BancaPendente> bancas, List<HorarioBanca> horarios, List<String> salas,
+                          Disponibilidade disponibilidade) {
+        this.bancas = List.copyOf(bancas);
+        this.horarios = List.copyOf(horarios);
+        this.salas = List.copyOf(salas);
+        int totalHorarios = horarios.size();
+
+        sobrepostos = new BitSet[totalHorarios];
+        diaDoHorario = new int[totalHorarios];
+        Map<LocalDate, Integer> dias = new HashMap<>();
+        for (int h = 0; h < totalHorarios; h++) {
+            sobrepostos[h] = new BitSet(totalHorarios);
+            for (int outro = 0; outro < totalHorarios; outro++) {
+                if (horarios.get(h).sobrepoe(horarios.get(outro))) {
+                    sobrepostos[h].set(outro);
+                }
+            }
+            diaDoHorario[h] = dias.computeIfAbsent(horarios.get(h).data(), d -> dias.size());
+        }
+
+        Map<Chave, Integer> indices = new HashMap<>();
+        List<BitSet> ocupacoes = new ArrayList<>();
+        recursosDaBanca = new int[this.bancas.size()][];
+        precisaSala = new boolean[this.bancas.size()];
+        for (int b = 0; b < this.bancas.size(); b++) {
+            BancaPendente banca = this.bancas.get(b);
+            List<Chave> participantes = new ArrayList<>();
+            participantes.add(new Chave(Recurso.DISCENTE, String.valueOf(banca.discenteId())));
+            banca.docentes().forEach(id -> participantes.add(new Chave(Recurso.DOCENTE, String.valueOf(id))));
+
+            recursosDaBanca[b] = new int[participantes.size()];
+            for (int r = 0; r < participantes.size(); r++) {
+                recursosDaBanca[b][r] = indices.computeIfAbsent(participantes.get(r), chave -> {
+                    ocupacoes.add(ocupacao(disponibilidade, chave.recurso(), chave.identificador()));
+                    return ocupacoes.size() - 1;
+                });
+            }
+            precisaSala[b] = banca.presencial() && !this.salas.isEmpty();
+        }
+        ocupados = ocupacoes.toArray(BitSet[]::new);
+
+        salasOcupadas = new BitSet[this.salas.size()];
+        for (int s = 0; s < this.salas.size(); s++) {
+            salasOcupadas[s] = ocupacao(disponibilidade, Recurso.SALA, this.salas.get(s));
+        }
+
+        estado = new int[this.bancas.size()];
+        horarioDe = new int[this.bancas.size()];
+        salaDe = new int[this.bancas.size()];
+        Arrays.fill(horarioDe, -1);
+        Arrays.fill(salaDe, -1);
+        bancasNoDia = new int[dias.size()];
+    }
+
+    /**
+     * Executa a busca até alocar todas as bancas ou até o prazo.
+     */
+    public Resultado resolver(long prazoMillis) {
+        limite = System.nanoTime() + prazoMillis * 1_000_000;
+        buscar(0, bancas.size());
+
+        List<Alocacao> alocacoes = new ArrayList<>();
+        List<Long> semHorario = new ArrayList<>();
+        for (int b = 0; b < bancas.size(); b++) {
+            long bancaId = bancas.get(b).bancaId();
+            if (melhorHorario[b] < 0) {
+                semHorario.add(bancaId);
+            } else {
+                alocacoes.add(new Alocacao(bancaId, horarios.get(melhorHorario[b]),
+                        melhorSala[b] < 0 ? null : salas.get(melhorSala[b])));
+            }
+        }
+        return new Resultado(alocacoes, semHorario, esgotado);
+    }
+
+    private void buscar(int alocadas, int restantes) {
+        if (alocadas > melhorTotal) {
+            melhorTotal = alocadas;
+            melhorHorario = horarioDe.clone();
+            melhorSala = salaDe.clone();
+        }
+        if (restantes == 0 || alocadas + restantes <= melhorTotal || parar()) {
+            return;
+        }
+
+        // Banca mais restrita: menos horários livres; no empate, a com mais participantes
+        int escolhida = -1;
+        BitSet livres = null;
+        for (int b = 0; b < bancas.size(); b++) {
+            if (estado[b] != PENDENTE) {
+                continue;
+            }
+            BitSet candidatos = livres(b);
+            if (escolhida < 0 || candidatos.cardinality() < livres.cardinality()
+                    || (candidatos.cardinality() == livres.cardinality()
+                        && recursosDaBanca[b].length > recursosDaBanca[escolhida].length)) {
+                escolhida = b;
+                livres = candidatos;
+                if (candidatos.isEmpty()) {
+                    break;
+                }
+            }
+        }
+
+        estado[escolhida] = DECIDIDA;
+        for (int horario : ordenar(livres)) {
+            int sala = precisaSala[escolhida] ? salaLivre(horario) : -1;
+            List<BitSet> acrescimos = alocar(escolhida, horario, sala);
+            buscar(alocadas + 1, restantes - 1);
+            desalocar(escolhida, horario, sala, acrescimos);
+            if (melhorTotal == bancas.size() || parar()) {
+                break;
+            }
+        }
+        // Também tenta deixar a banca sem horário, se isso ainda puder superar a melhor alocação
+        if (melhorTotal < bancas.size() && !parar()) {
+            buscar(alocadas, restantes - 1);
+        }
+        estado[escolhida] = PENDENTE;
+    }
+
+    private BitSet livres(int banca) {
+        BitSet livres = new BitSet(horarios.size());
+        livres.set(0, horarios.size());
+        for (int recurso : recursosDaBanca[banca]) {
+            livres.andNot(ocupados[recurso]);
+        }
+        if (precisaSala[banca]) {
+            BitSet comSala = new BitSet(horarios.size());
+            for (BitSet ocupada : salasOcupadas) {
+                BitSet livre = new BitSet(horarios.size());
+                livre.set(0, horarios.size());
+                livre.andNot(ocupada);
+                comSala.or(livre);
+            }
+            livres.and(comSala);
+        }
+        return livres;
+    }
+
+    /**
+     * Dias com menos bancas primeiro (distribui a carga dos docentes), depois ordem cronológica.
+     */
+    private List<Integer> ordenar(BitSet livres) {
+        List<Integer> ordem = new ArrayList<>(livres.cardinality());
+        livres.stream().forEach(ordem::add);
+        ordem.sort(Comparator.<Integer>comparingInt(h -> bancasNoDia[diaDoHorario[h]])
+                .thenComparing(h -> horarios.get(h).data())
+                .thenComparing(h -> horarios.get(h).inicio()));
+        return ordem;
+    }
+
+    private int salaLivre(int horario) {
+        for (int s = 0; s < salasOcupadas.length; s++) {
+            if (!salasOcupadas[s].get(horario)) {
+                return s;
+            }
+        }
+        throw new IllegalStateException("Horário " + horario + " sem sala livre");
+    }
+
+    /**
+     * Marca os participantes (e a sala) como ocupados em todos os horários que se sobrepõem ao escolhido.
+     *
+     * @return bits efetivamente acrescentados a cada recurso, para desfazer
+     */
+    private List<BitSet> alocar(int banca, int horario, int sala) {
+        List<BitSet> acrescimos = new ArrayList<>(recursosDaBanca[banca].length + 1);
+        for (int recurso : recursosDaBanca[banca]) {
+            acrescimos.add(ocupar(ocupados[recurso], horario));
+        }
+        if (sala >= 0) {
+            acrescimos.add(ocupar(salasOcupadas[sala], horario));
+        }
+        horarioDe[banca] = horario;
+        salaDe[banca] = sala;
+        bancasNoDia[diaDoHorario[horario]]++;
+        return acrescimos;
+    }
+
+    private void desalocar(int banca, int horario, int sala, List<BitSet> acrescimos) {
+        int[] recursos = recursosDaBanca[banca];
+        for (int r = 0; r < recursos.length; r++) {
+            ocupados[recursos[r]].andNot(acrescimos.get(r));
+        }
+        if (sala >= 0) {
+            salasOcupadas[sala].andNot(acrescimos.get(recursos.length));
+        }
+        horarioDe[banca] = -1;
+        salaDe[banca] = -1;
+        bancasNoDia[diaDoHorario[horario]]--;
+    }
+
+    private BitSet ocupar(BitSet ocupacao, int horario) {
+        BitSet acrescimo = (BitSet) sobrepostos[horario].clone();
+        acrescimo.andNot(ocupacao);
+        ocupacao.or(acrescimo);
+        return acrescimo;
+    }
+
+    private BitSet ocupacao(Disponibilidade disponibilidade, Recurso recurso, String identificador) {
+        BitSet ocupacao = new BitSet(horarios.size());
+        for (int h = 0; h < horarios.size(); h++) {
+            if (!disponibilidade.livre(recurso, identificador, horarios.get(h))) {
+                ocupacao.set(h);
+            }
+        }
+        return ocupacao;
+    }
+
+    private boolean parar() {
+        if (!esgotado && System.nanoTime() > limite) {
+            esgotado = true;
+        }
+        return esgotado;
+    }
+}
@@ -0,0 +1,16 @@
+package br.edu.ppg.hub.academic.infrastructure.scheduling;
+
+import java.util.Set;
+
+/**
+ * Banca a ser alocada pelo {@link AlocadorBancas}.
+ *
+ * @param bancaId    id da banca
+ * @param discenteId discente avaliado
+ * @param docentes   docentes internos (presidente, secretário e membros)
+ * @param presencial se precisa de sala (presencial ou híbrida)
+ * @author PPG Hub
+ * @since 1.0
+ */
+public record BancaPendente(long bancaId, long discenteId, Set<Long> docentes, boolean presencial) {
+}
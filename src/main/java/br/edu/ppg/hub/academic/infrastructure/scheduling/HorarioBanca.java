@@ -0,0 +1,26 @@
+package br.edu.ppg.hub.academic.infrastructure.scheduling;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Data e faixa de horário de uma banca (fim exclusivo).
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public record HorarioBanca(LocalDate data, LocalTime inicio, LocalTime fim) {
+
+    public HorarioBanca {
+        if (!fim.isAfter(inicio)) {
+            throw new IllegalArgumentException("Horário inválido: " + inicio + "-" + fim);
+        }
+    }
+
+    /**
+     * Horários que apenas se tocam (14:00-17:00 e 17:00-20:00) não se sobrepõem.
+     */
+    public boolean sobrepoe(HorarioBanca outro) {
+        return data.equals(outro.data) && inicio.isBefore(outro.fim) && outro.inicio.isBefore(fim);
+    }
+}
@@ -0,0 +1,38 @@
+package br.edu.ppg.hub.academic.infrastructure.timetable;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.format.TextStyle;
+import java.util.Locale;
+
+/**
+ * Sobreposição de horários entre duas ofertas que disputam o mesmo recurso.
+ *
+ * @param recurso              tipo do recurso disputado
+ * @param identificador        id do discente ou docente, ou nome da sala
+ * @param ofertaId             oferta verificada
+ * @param ofertaConflitanteId  oferta que já ocupa o horário
+ * @param dia                  dia da semana da sobreposição
+ * @param inicio               início do trecho sobreposto
+ * @param fim                  fim do trecho sobreposto
+ * @author PPG Hub
+ * @since 1.0
+ */
+public record ConflitoHorario(Recurso recurso, String identificador, Long ofertaId, Long ofertaConflitanteId,
+                              DayOfWeek dia, LocalTime inicio, LocalTime fim) {
+
+    private static final Locale PT_BR = Locale.forLanguageTag("pt-BR");
+
+    public enum Recurso {
+        DISCENTE, DOCENTE, SALA
+    }
+
+    /**
+     * Texto para mensagens de erro
+     */
+    public String descricao() {
+        return String.format("%s %s ocupado pela oferta %d em %s, %s-%s",
+                recurso.name().toLowerCase(Locale.ROOT), identificador, ofertaConflitanteId,
+                dia.getDisplayName(TextStyle.FULL, PT_BR), inicio, fim);
+    }
+}
@@ -0,0 +1,361 @@
+package br.edu.ppg.hub.academic.infrastructure.timetable;
+
+import br.edu.ppg.hub.academic.domain.model.Docente;
+import br.edu.ppg.hub.academic.domain.model.OfertaDisciplina;
+import br.edu.ppg.hub.academic.infrastructure.timetable.ConflitoHorario.Recurso;
+import br.edu.ppg.hub.shared.exception.BusinessException;
+import br.edu.ppg.hub.shared.util.Transacoes;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Grade de horários das ofertas ativas, para detecção de choques de horário.
+ *
+ * <p>O JSON de horários de cada oferta é convertido uma única vez em intervalos
+ * semanais e mantido em memória. Por período (ex.: 2024.1), cada discente, docente
+ * e sala tem um {@link IndiceIntervalos} com os horários que já ocupa; verificar
+ * uma matrícula ou uma nova oferta é uma consulta por intervalo em cada recurso
+ * envolvido, sem ler outras matrículas do banco.</p>
+ *
+ * <p>Ofertas ativas são as planejadas, abertas, fechadas ou em curso; matrículas
+ * ativas, as matriculadas ou em lista de espera. A grade é carregada na
+ * inicialização, atualizada após o commit das alterações e recarregada diariamente.
+ * Verificação e registro não são atômicos: duas matrículas simultâneas do mesmo
+ * discente podem passar ambas, e aparecem no relatório do período.</p>
+ *
+ * <p>O estado em memória é por instância, como no {@code SeatAllocator}.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Component
+@Slf4j
+public class GradeHorarios {
+
+    private static final String SELECT_OFERTAS = """
+            SELECT id, periodo, CAST(horarios AS TEXT) AS horarios, sala,
+                   docente_responsavel_id, docente_colaborador_id, data_inicio, data_fim
+            FROM academic.ofertas_disciplinas
+            WHERE status IN ('PLANEJADA', 'ABERTA', 'FECHADA', 'EM_CURSO')
+            """;
+
+    private static final String SELECT_MATRICULAS = """
+            SELECT md.oferta_disciplina_id, md.discente_id
+            FROM academic.matriculas_disciplinas md
+            JOIN academic.ofertas_disciplinas o ON o.id = md.oferta_disciplina_id
+            WHERE o.status IN ('PLANEJADA', 'ABERTA', 'FECHADA', 'EM_CURSO')
+              AND md.situacao IN ('MATRICULADO', 'LISTA_ESPERA')
+            """;
+
+    private static final RowMapper<GradeOferta> GRADE = (rs, i) -> new GradeOferta(
+            rs.getLong("id"),
+            rs.getString("periodo"),
+            new Ocupacao.Vigencia(rs.getDate("data_inicio").toLocalDate(), rs.getDate("data_fim").toLocalDate()),
+            normalizarSala(rs.getString("sala")),
+            docentes(rs.getObject("docente_responsavel_id", Long.class), rs.getObject("docente_colaborador_id", Long.class)),
+            intervalosOuVazio(rs.getLong("id"), rs.getString("horarios")));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate novaTransacao;
+
+    private volatile Estado estado = new Estado();
+
+    public GradeHorarios(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.novaTransacao = Transacoes.leituraPropria(transactionManager);
+    }
+
+    /**
+     * Carga completa na inicialização e, diariamente, como rede de segurança.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 45 3 * * *")
+    public void recarregar() {
+        long inicio = System.nanoTime();
+        Estado novo = new Estado();
+
+        novaTransacao.executeWithoutResult(status -> {
+            jdbcTemplate.query(SELECT_OFERTAS, GRADE).forEach(grade -> novo.ofertas.put(grade.id(), grade));
+            jdbcTemplate.query(SELECT_MATRICULAS, rs -> {
+                novo.discentesPorOferta.computeIfAbsent(rs.getLong(1), o -> ConcurrentHashMap.newKeySet())
+                        .add(rs.getLong(2));
+            });
+        });
+        novo.ofertas.values().forEach(novo::indexar);
+
+        synchronized (this) {
+            estado = novo;
+        }
+        log.info("Grade de horários carregada em {} ms: {} ofertas ativas",
+                (System.nanoTime() - inicio) / 1_000_000, novo.ofertas.size());
+    }
+
+    /**
+     * Choques entre a oferta e as demais ofertas ativas do discente no período.
+     */
+    public List<ConflitoHorario> conflitosMatricula(Long discenteId, Long ofertaId) {
+        Estado atual = estado;
+        GradeOferta grade = atual.ofertas.get(ofertaId);
+        if (grade == null) {
+            return List.of();
+        }
+        return atual.conflitos(grade, List.of(new Chave(Recurso.DISCENTE, String.valueOf(discenteId))));
+    }
+
+    /**
+     * Choques de docentes e sala da oferta (nova ou alterada) com as demais ofertas ativas do período.
+     *
+     * @throws BusinessException se os horários da oferta forem inválidos
+     */
+    public List<ConflitoHorario> conflitosOferta(OfertaDisciplina oferta) {
+        GradeOferta grade = new GradeOferta(
+                oferta.getId() != null ? oferta.getId() : -1L,
+                oferta.getPeriodo(),
+                new Ocupacao.Vigencia(oferta.getDataInicio(), oferta.getDataFim()),
+                normalizarSala(oferta.getSala()),
+                docentes(idDe(oferta.getDocenteResponsavel()), idDe(oferta.getDocenteColaborador())),
+                HorariosOferta.parse(oferta.getHorarios()));
+        return estado.conflitos(grade, grade.recursos());
+    }
+
+    /**
+     * Todos os choques de horário do período, por recurso.
+     */
+    public List<ConflitoHorario> relatorio(String periodo) {
+        Map<Chave, IndiceIntervalos> recursos = estado.periodos.getOrDefault(periodo, Map.of());
+        List<ConflitoHorario> conflitos = new ArrayList<>();
+        recursos.forEach((chave, indice) -> {
+            for (Ocupacao[] par : indice.paresSobrepostos()) {
+                conflitos.add(conflito(chave, par[1].ofertaId(), par[0], par[1].intervalo()));
+            }
+        });
+        conflitos.sort(Comparator.comparing(ConflitoHorario::recurso)
+                .thenComparing(ConflitoHorario::identificador)
+                .thenComparing(ConflitoHorario::dia)
+                .thenComparing(ConflitoHorario::inicio));
+        return conflitos;
+    }
+
+    /**
+     * Ofertas em que o docente ou a sala tem aula na data, dentro da faixa de horário.
+     */
+    public List<Long> ofertasNoHorario(Recurso recurso, String identificador, LocalDate data,
+                                       LocalTime inicio, LocalTime fim) {
+        Chave chave = new Chave(recurso, recurso == Recurso.SALA ? normalizarSala(identificador) : identificador);
+        Ocupacao.Vigencia dia = new Ocupacao.Vigencia(data, data);
+        Intervalo intervalo = Intervalo.de(data.getDayOfWeek(), inicio, fim);
+        List<Long> ofertas = new ArrayList<>();
+        for (Map<Chave, IndiceIntervalos> recursos : estado.periodos.values()) {
+            IndiceIntervalos indice = recursos.get(chave);
+            if (indice != null) {
+                indice.sobrepostas(-1L, dia, intervalo).forEach(ocupacao -> ofertas.add(ocupacao.ofertaId()));
+            }
+        }
+        return ofertas;
+    }
+
+    /**
+     * Relê a oferta após o commit: atualiza seus horários ou a retira da grade se deixou de estar ativa.
+     */
+    public void atualizarOferta(Long ofertaId) {
+        Transacoes.aposCommit(() -> {
+            List<GradeOferta> lida = novaTransacao.execute(status ->
+                    jdbcTemplate.query(SELECT_OFERTAS + "AND id = ?", GRADE, ofertaId));
+            synchronized (this) {
+                if (lida == null || lida.isEmpty()) {
+                    estado.retirar(ofertaId);
+                } else {
+                    estado.substituir(lida.get(0));
+                }
+            }
+        });
+    }
+
+    /**
+     * Inclui a oferta na grade do discente após o commit da matrícula.
+     */
+    public void registrarMatricula(Long discenteId, Long ofertaId) {
+        Transacoes.aposCommit(() -> {
+            synchronized (this) {
+                estado.matricular(discenteId, ofertaId);
+            }
+        });
+    }
+
+    /**
+     * Retira a oferta da grade do discente após o commit do trancamento ou exclusão.
+     */
+    public void removerMatricula(Long discenteId, Long ofertaId) {
+        Transacoes.aposCommit(() -> {
+            synchronized (this) {
+                estado.desmatricular(discenteId, ofertaId);
+            }
+        });
+    }
+
+    private static ConflitoHorario conflito(Chave chave, long ofertaId, Ocupacao existente, Intervalo intervalo) {
+        Intervalo sobreposto = existente.intervalo().intersecao(intervalo);
+        return new ConflitoHorario(chave.recurso(), chave.valor(), ofertaId, existente.ofertaId(),
+                sobreposto.dia(), sobreposto.horaInicio(), sobreposto.horaFim());
+    }
+
+    private static List<Intervalo> intervalosOuVazio(long ofertaId, String horarios) {
+        try {
+            return HorariosOferta.parse(horarios);
+        } catch (BusinessException e) {
+            log.warn("Oferta {} ignorada na grade de horários: {}", ofertaId, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private static Long idDe(Docente docente) {
+        return docente != null ? docente.getId() : null;
+    }
+
+    private static Set<Long> docentes(Long responsavelId, Long colaboradorId) {
+        Set<Long> ids = new LinkedHashSet<>();
+        Stream.of(responsavelId, colaboradorId).filter(Objects::nonNull).forEach(ids::add);
+        return ids;
+    }
+
+    private static String normalizarSala(String sala) {
+        return sala == null || sala.isBlank() ? null : sala.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private record Chave(Recurso recurso, String valor) {
+    }
+
+    private record GradeOferta(long id, String periodo, Ocupacao.Vigencia vigencia, String sala,
+                               Set<Long> docentes, List<Intervalo> intervalos) {
+
+        /**
+         * Recursos ocupados pela própria oferta (docentes e sala).
+         */
+        List<Chave> recursos() {
+            List<Chave> chaves = new ArrayList<>();
+            docentes.forEach(id -> chaves.add(new Chave(Recurso.DOCENTE, String.valueOf(id))));
+            if (sala != null) {
+                chaves.add(new Chave(Recurso.SALA, sala));
+            }
+            return chaves;
+        }
+    }
+
+    /**
+     * Grade carregada: ofertas ativas, matrículas ativas e índices por período e recurso.
+     * Alterações são serializadas pelo {@link GradeHorarios}; consultas leem os índices sem lock global.
+     */
+    private static final class Estado {
+
+        private final Map<Long, GradeOferta> ofertas = new ConcurrentHashMap<>();
+        private final Map<Long, Set<Long>> discentesPorOferta = new ConcurrentHashMap<>();
+        private final Map<String, Map<Chave, IndiceIntervalos>> periodos = new ConcurrentHashMap<>();
+
+        List<ConflitoHorario> conflitos(GradeOferta grade, List<Chave> chaves) {
+            Map<Chave, IndiceIntervalos> recursos = periodos.getOrDefault(grade.periodo(), Map.of());
+            List<ConflitoHorario> conflitos = new ArrayList<>();
+            for (Chave chave : chaves) {
+                IndiceIntervalos indice = recursos.get(chave);
+                if (indice == null) {
+                    continue;
+                }
+                for (Intervalo intervalo : grade.intervalos()) {
+                    for (Ocupacao ocupacao : indice.sobrepostas(grade.id(), grade.vigencia(), intervalo)) {
+                        conflitos.add(conflito(chave, grade.id(), ocupacao, intervalo));
+                    }
+                }
+            }
+            return conflitos;
+        }
+
+        void indexar(GradeOferta grade) {
+            for (Chave chave : grade.recursos()) {
+                indice(grade.periodo(), chave).adicionar(grade.id(), grade.vigencia(), grade.intervalos());
+            }
+            for (Long discenteId : discentesPorOferta.getOrDefault(grade.id(), Set.of())) {
+                indice(grade.periodo(), chaveDiscente(discenteId))
+                        .adicionar(grade.id(), grade.vigencia(), grade.intervalos());
+            }
+        }
+
+        void substituir(GradeOferta grade) {
+            GradeOferta anterior = ofertas.put(grade.id(), grade);
+            if (anterior != null) {
+                desindexar(anterior);
+            }
+            indexar(grade);
+        }
+
+        void retirar(long ofertaId) {
+            GradeOferta anterior = ofertas.remove(ofertaId);
+            if (anterior != null) {
+                desindexar(anterior);
+            }
+            discentesPorOferta.remove(ofertaId);
+        }
+
+        void matricular(long discenteId, long ofertaId) {
+            discentesPorOferta.computeIfAbsent(ofertaId, o -> ConcurrentHashMap.newKeySet()).add(discenteId);
+            GradeOferta grade = ofertas.get(ofertaId);
+            if (grade != null) {
+                indice(grade.periodo(), chaveDiscente(discenteId))
+                        .adicionar(ofertaId, grade.vigencia(), grade.intervalos());
+            }
+        }
+
+        void desmatricular(long discenteId, long ofertaId) {
+            Set<Long> discentes = discentesPorOferta.get(ofertaId);
+            if (discentes != null) {
+                discentes.remove(discenteId);
+            }
+            GradeOferta grade = ofertas.get(ofertaId);
+            if (grade != null) {
+                IndiceIntervalos indice = periodos.getOrDefault(grade.periodo(), Map.of()).get(chaveDiscente(discenteId));
+                if (indice != null) {
+                    indice.remover(ofertaId);
+                }
+            }
+        }
+
+        private void desindexar(GradeOferta grade) {
+            Map<Chave, IndiceIntervalos> recursos = periodos.getOrDefault(grade.periodo(), Map.of());
+            List<Chave> chaves = new ArrayList<>(grade.recursos());
+            discentesPorOferta.getOrDefault(grade.id(), Set.of()).forEach(id -> chaves.add(chaveDiscente(id)));
+            for (Chave chave : chaves) {
+                IndiceIntervalos indice = recursos.get(chave);
+                if (indice != null) {
+                    indice.remover(grade.id());
+                }
+            }
+        }
+
+        private IndiceIntervalos indice(String periodo, Chave chave) {
+            return periodos.computeIfAbsent(periodo, p -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(chave, c -> new IndiceIntervalos());
+        }
+
+        private static Chave chaveDiscente(long discenteId) {
+            return new Chave(Recurso.DISCENTE, String.valueOf(discenteId));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package br.edu.ppg.hub.academic.infrastructure.timetable;
+
+import br.edu.ppg.hub.shared.exception.BusinessException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.text.Normalizer;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Conversão do campo {@code horarios} da oferta para intervalos semanais.
+ *
+ * <p>Formato: {@code [{"dia": "Segunda", "inicio": "14:00", "fim": "16:00"}]}. O dia
+ * aceita variações de acentuação e o sufixo "-feira" ("Terça-feira", "terca").</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public final class HorariosOferta {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final DateTimeFormatter HORA = DateTimeFormatter.ofPattern("H:mm");
+
+    private static final Map<String, DayOfWeek> DIAS = Map.of(
+            "segunda", DayOfWeek.MONDAY,
+            "terca", DayOfWeek.TUESDAY,
+            "quarta", DayOfWeek.WEDNESDAY,
+            "quinta", DayOfWeek.THURSDAY,
+            "sexta", DayOfWeek.FRIDAY,
+            "sabado", DayOfWeek.SATURDAY,
+            "domingo", DayOfWeek.SUNDAY);
+
+    private HorariosOferta() {
+    }
+
+    /**
+     * Intervalos da oferta, ordenados pelo início.
+     *
+     * @throws BusinessException se o JSON não estiver no formato esperado
+     */
+    public static List<Intervalo> parse(String horarios) {
+        if (horarios == null || horarios.isBlank()) {
+            return List.of();
+        }
+        JsonNode raiz;
+        try {
+            raiz = MAPPER.readTree(horarios);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException("Horários da oferta não são um JSON válido");
+        }
+        if (!raiz.isArray()) {
+            throw new BusinessException("Horários da oferta devem ser uma lista de {dia, inicio, fim}");
+        }
+
+        List<Intervalo> intervalos = new ArrayList<>(raiz.size());
+        for (JsonNode horario : raiz) {
+            DayOfWeek dia = dia(horario.path("dia").asText(""));
+            LocalTime inicio = hora(horario.path("inicio").asText(""));
+            LocalTime fim = hora(horario.path("fim").asText(""));
+            if (!fim.isAfter(inicio)) {
+                throw new BusinessException("Horário de fim deve ser posterior ao de início: " + horario);
+            }
+            intervalos.add(Intervalo.de(dia, inicio, fim));
+        }
+        intervalos.sort(Comparator.comparingInt(Intervalo::inicio));
+        return List.copyOf(intervalos);
+    }
+
+    private static DayOfWeek dia(String texto) {
+        String chave = Normalizer.normalize(texto, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT)
+                .replace("-feira", "")
+                .trim();
+        DayOfWeek dia = DIAS.get(chave);
+        if (dia == null) {
+            throw new BusinessException("Dia da semana inválido nos horários da oferta: " + texto);
+        }
+        return dia;
+    }
+
+    private static LocalTime hora(String texto) {
+        try {
+            return LocalTime.parse(texto.trim(), HORA);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException("Hora inválida nos horários da oferta: " + texto);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package br.edu.ppg.hub.academic.infrastructure.timetable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Intervalos semanais ocupados por um recurso (discente, docente ou sala) em um período.
+ *
+ * <p>Os intervalos ficam ordenados pelo início. Como nenhum intervalo dura mais que
+ * {@code maiorDuracao}, os que podem sobrepor [s, e) começam em
+ * (s - maiorDuracao, e): a consulta é uma descida na árvore mais os candidatos
+ * desse trecho, O(log n + k).</p>
+ *
+ * <p>Métodos sincronizados: cada recurso tem poucos intervalos e a disputa é rara.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+final class IndiceIntervalos {
+
+    private final NavigableMap<Integer, List<Ocupacao>> porInicio = new TreeMap<>();
+    private final Map<Long, List<Intervalo>> porOferta = new HashMap<>();
+    private int maiorDuracao;
+
+    synchronized void adicionar(long ofertaId, Ocupacao.Vigencia vigencia, List<Intervalo> intervalos) {
+        remover(ofertaId);
+        porOferta.put(ofertaId, intervalos);
+        for (Intervalo intervalo : intervalos) {
+            porInicio.computeIfAbsent(intervalo.inicio(), i -> new ArrayList<>(1))
+                    .add(new Ocupacao(ofertaId, vigencia, intervalo));
+            maiorDuracao = Math.max(maiorDuracao, intervalo.duracao());
+        }
+    }
+
+    synchronized void remover(long ofertaId) {
+        List<Intervalo> intervalos = porOferta.remove(ofertaId);
+        if (intervalos == null) {
+            return;
+        }
+        for (Intervalo intervalo : intervalos) {
+            List<Ocupacao> ocupacoes = porInicio.get(intervalo.inicio());
+            ocupacoes.removeIf(o -> o.ofertaId() == ofertaId);
+            if (ocupacoes.isEmpty()) {
+                porInicio.remove(intervalo.inicio());
+            }
+        }
+    }
+
+    synchronized boolean isVazio() {
+        return porOferta.isEmpty();
+    }
+
+    /**
+     * Ocupações de outras ofertas que se sobrepõem ao intervalo no mesmo trecho do calendário.
+     */
+    synchronized List<Ocupacao> sobrepostas(long ofertaId, Ocupacao.Vigencia vigencia, Intervalo intervalo) {
+        List<Ocupacao> encontradas = new ArrayList<>();
+        for (List<Ocupacao> ocupacoes : porInicio.subMap(intervalo.inicio() - maiorDuracao, false,
+                intervalo.fim(), false).values()) {
+            for (Ocupacao ocupacao : ocupacoes) {
+                if (ocupacao.ofertaId() != ofertaId
+                        && ocupacao.intervalo().sobrepoe(intervalo)
+                        && ocupacao.vigencia().sobrepoe(vigencia)) {
+                    encontradas.add(ocupacao);
+                }
+            }
+        }
+        return encontradas;
+    }
+
+    /**
+     * Todos os pares de ocupações sobrepostas (varredura pela ordem de início).
+     */
+    synchronized List<Ocupacao[]> paresSobrepostos() {
+        List<Ocupacao[]> pares = new ArrayList<>();
+        List<Ocupacao> abertas = new ArrayList<>();
+        for (List<Ocupacao> ocupacoes : porInicio.values()) {
+            for (Ocupacao atual : ocupacoes) {
+                abertas.removeIf(aberta -> aberta.intervalo().fim() <= atual.intervalo().inicio());
+                for (Ocupacao aberta : abertas) {
+                    if (aberta.ofertaId() != atual.ofertaId() && aberta.vigencia().sobrepoe(atual.vigencia())) {
+                        pares.add(new Ocupacao[]{aberta, atual});
+                    }
+                }
+                abertas.add(atual);
+            }
+        }
+        return pares;
+    }
+}
@@ -0,0 +1,54 @@
+package br.edu.ppg.hub.academic.infrastructure.timetable;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * Intervalo semanal de aula, em minutos desde segunda-feira 00:00 (fim exclusivo).
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public record Intervalo(int inicio, int fim) {
+
+    static final int MINUTOS_DIA = 24 * 60;
+
+    public Intervalo {
+        if (inicio < 0 || fim <= inicio || fim > 7 * MINUTOS_DIA) {
+            throw new IllegalArgumentException("Intervalo inválido: [" + inicio + ", " + fim + ")");
+        }
+    }
+
+    static Intervalo de(DayOfWeek dia, LocalTime inicio, LocalTime fim) {
+        int base = (dia.getValue() - 1) * MINUTOS_DIA;
+        return new Intervalo(base + inicio.getHour() * 60 + inicio.getMinute(),
+                base + fim.getHour() * 60 + fim.getMinute());
+    }
+
+    /**
+     * Intervalos que apenas se tocam (14:00-16:00 e 16:00-18:00) não se sobrepõem.
+     */
+    public boolean sobrepoe(Intervalo outro) {
+        return inicio < outro.fim && outro.inicio < fim;
+    }
+
+    public Intervalo intersecao(Intervalo outro) {
+        return new Intervalo(Math.max(inicio, outro.inicio), Math.min(fim, outro.fim));
+    }
+
+    public DayOfWeek dia() {
+        return DayOfWeek.of(inicio / MINUTOS_DIA + 1);
+    }
+
+    public LocalTime horaInicio() {
+        return LocalTime.MIN.plusMinutes(inicio % MINUTOS_DIA);
+    }
+
+    public LocalTime horaFim() {
+        return fim % MINUTOS_DIA == 0 ? LocalTime.MAX : LocalTime.MIN.plusMinutes(fim % MINUTOS_DIA);
+    }
+
+    int duracao() {
+        return fim - inicio;
+    }
+}
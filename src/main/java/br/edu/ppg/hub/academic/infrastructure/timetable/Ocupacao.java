@@ -0,0 +1,22 @@
+package br.edu.ppg.hub.academic.infrastructure.timetable;
+
+import java.time.LocalDate;
+
+/**
+ * Intervalo semanal ocupado por uma oferta, válido entre as datas de início e fim da oferta.
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+record Ocupacao(long ofertaId, Vigencia vigencia, Intervalo intervalo) {
+
+    /**
+     * Datas da oferta (inclusivas). Ofertas modulares em meses distintos não conflitam.
+     */
+    record Vigencia(LocalDate inicio, LocalDate fim) {
+
+        boolean sobrepoe(Vigencia outra) {
+            return !inicio.isAfter(outra.fim) && !outra.inicio.isAfter(fim);
+        }
+    }
+}
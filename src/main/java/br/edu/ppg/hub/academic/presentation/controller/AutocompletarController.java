@@ -0,0 +1,77 @@
+package br.edu.ppg.hub.academic.presentation.controller;
+
+import br.edu.ppg.hub.academic.infrastructure.autocomplete.IndiceAutocompletar;
+import br.edu.ppg.hub.academic.infrastructure.autocomplete.ItemAutocompletar;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controller REST do autocompletar de docentes, disciplinas e programas.
+ * As sugestões vêm do índice em memória, sem consulta ao banco.
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@RestController
+@RequestMapping("/api/autocompletar")
+@RequiredArgsConstructor
+@Tag(name = "Autocompletar", description = "Sugestões por prefixo para campos de seleção")
+@SecurityRequirement(name = "bearer-jwt")
+public class AutocompletarController {
+
+    private static final int LIMITE_MAXIMO = 50;
+
+    private final IndiceAutocompletar indiceAutocompletar;
+
+    /**
+     * Docentes ativos do programa
+     */
+    @GetMapping("/docentes")
+    @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'SECRETARIA', 'DOCENTE', 'DISCENTE')")
+    @Operation(summary = "Sugerir docentes", description = "Docentes ativos do programa cujo nome começa com os termos informados")
+    public ResponseEntity<List<ItemAutocompletar>> docentes(
+            @RequestParam Long programaId,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limite
+    ) {
+        return ResponseEntity.ok(indiceAutocompletar.docentes(programaId, q, limitar(limite)));
+    }
+
+    /**
+     * Disciplinas ativas do programa
+     */
+    @GetMapping("/disciplinas")
+    @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'SECRETARIA', 'DOCENTE', 'DISCENTE')")
+    @Operation(summary = "Sugerir disciplinas", description = "Disciplinas ativas do programa cujo código ou nome começa com os termos informados")
+    public ResponseEntity<List<ItemAutocompletar>> disciplinas(
+            @RequestParam Long programaId,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limite
+    ) {
+        return ResponseEntity.ok(indiceAutocompletar.disciplinas(programaId, q, limitar(limite)));
+    }
+
+    /**
+     * Programas ativos
+     */
+    @GetMapping("/programas")
+    @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'SECRETARIA', 'DOCENTE', 'DISCENTE')")
+    @Operation(summary = "Sugerir programas", description = "Programas ativos cuja sigla ou nome começa com os termos informados")
+    public ResponseEntity<List<ItemAutocompletar>> programas(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limite
+    ) {
+        return ResponseEntity.ok(indiceAutocompletar.programas(q, limitar(limite)));
+    }
+
+    private static int limitar(int limite) {
+        return Math.max(1, Math.min(limite, LIMITE_MAXIMO));
+    }
+}
@@ -1,10 +1,15 @@
 package br.edu.ppg.hub.academic.presentation.controller;
 
+import br.edu.ppg.hub.academic.application.dto.banca.AgendamentoBancasDTO;
+import br.edu.ppg.hub.academic.application.dto.banca.AgendamentoBancasResultadoDTO;
 import br.edu.ppg.hub.academic.application.dto.banca.BancaCreateDTO;
 import br.edu.ppg.hub.academic.application.dto.banca.BancaResponseDTO;
+import br.edu.ppg.hub.academic.application.dto.banca.BancaResumoDTO;
 import br.edu.ppg.hub.academic.application.dto.banca.BancaUpdateDTO;
+import br.edu.ppg.hub.academic.application.dto.banca.ConflitoInteresseDTO;
 import br.edu.ppg.hub.academic.application.dto.membro_banca.MembroBancaCreateDTO;
 import br.edu.ppg.hub.academic.application.dto.membro_banca.MembroBancaResponseDTO;
+import br.edu.ppg.hub.academic.application.service.AgendamentoBancaService;
 import br.edu.ppg.hub.academic.application.service.BancaService;
 import br.edu.ppg.hub.academic.domain.enums.ResultadoBanca;
 import io.swagger.v3.oas.annotations.Operation;
@@ -41,6 +46,7 @@ import java.util.Map;
 public class BancaController {
 
     private final BancaService bancaService;
+    private final AgendamentoBancaService agendamentoBancaService;
 
     /**
      * Agenda uma nova banca.
@@ -53,6 +59,20 @@ public class BancaController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Propõe data, horário e sala para um lote de bancas, sem alterá-las.
+     */
+    @PostMapping("/agendamento/propostas")
+    @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR')")
+    @Operation(summary = "Propor agendamento em lote",
+               description = "Sugere horários em que discente, docentes e sala de cada banca estão livres")
+    public ResponseEntity<AgendamentoBancasResultadoDTO> proporAgendamento(
+            @Valid @RequestBody AgendamentoBancasDTO dto
+    ) {
+        AgendamentoBancasResultadoDTO response = agendamentoBancaService.propor(dto);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Busca banca por ID.
      */
@@ -70,10 +90,10 @@ public class BancaController {
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'DOCENTE')")
     @Operation(summary = "Listar todas as bancas", description = "Retorna lista paginada de bancas")
-    public ResponseEntity<Page<BancaResponseDTO>> listarTodas(
+    public ResponseEntity<Page<BancaResumoDTO>> listarTodas(
             @PageableDefault(size = 20, sort = "dataAgendada") Pageable pageable
     ) {
-        Page<BancaResponseDTO> response = bancaService.listarTodas(pageable);
+        Page<BancaResumoDTO> response = bancaService.listarTodas(pageable);
         return ResponseEntity.ok(response);
     }
 
@@ -83,11 +103,11 @@ public class BancaController {
     @GetMapping("/discente/{discenteId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'DOCENTE', 'DISCENTE')")
     @Operation(summary = "Listar bancas por discente", description = "Retorna bancas de um discente")
-    public ResponseEntity<Page<BancaResponseDTO>> buscarPorDiscente(
+    public ResponseEntity<Page<BancaResumoDTO>> buscarPorDiscente(
             @PathVariable Long discenteId,
             @PageableDefault(size = 20, sort = "dataAgendada") Pageable pageable
     ) {
-        Page<BancaResponseDTO> response = bancaService.buscarPorDiscente(discenteId, pageable);
+        Page<BancaResumoDTO> response = bancaService.buscarPorDiscente(discenteId, pageable);
         return ResponseEntity.ok(response);
     }
 
@@ -102,16 +122,28 @@ public class BancaController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Lista conflitos de interesse por coautoria dos membros externos.
+     */
+    @GetMapping("/{id}/conflitos-interesse")
+    @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'DOCENTE')")
+    @Operation(summary = "Conflitos de interesse da banca",
+               description = "Membros externos coautores recentes do discente ou de orientador (OpenAlex)")
+    public ResponseEntity<List<ConflitoInteresseDTO>> buscarConflitosInteresse(@PathVariable Long id) {
+        List<ConflitoInteresseDTO> response = bancaService.buscarConflitosInteresse(id);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Busca bancas agendadas.
      */
     @GetMapping("/agendadas")
     @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'DOCENTE')")
     @Operation(summary = "Listar bancas agendadas", description = "Retorna bancas futuras agendadas")
-    public ResponseEntity<Page<BancaResponseDTO>> buscarAgendadas(
+    public ResponseEntity<Page<BancaResumoDTO>> buscarAgendadas(
             @PageableDefault(size = 20, sort = "dataAgendada") Pageable pageable
     ) {
-        Page<BancaResponseDTO> response = bancaService.buscarAgendadas(pageable);
+        Page<BancaResumoDTO> response = bancaService.buscarAgendadas(pageable);
         return ResponseEntity.ok(response);
     }
 
@@ -2,8 +2,13 @@ package br.edu.ppg.hub.academic.presentation.controller;
 
 import br.edu.ppg.hub.academic.application.dto.discente.DiscenteCreateDTO;
 import br.edu.ppg.hub.academic.application.dto.discente.DiscenteResponseDTO;
+import br.edu.ppg.hub.academic.application.dto.discente.DiscenteResumoDTO;
 import br.edu.ppg.hub.academic.application.dto.discente.DiscenteUpdateDTO;
+import br.edu.ppg.hub.academic.application.dto.discente.PrazoDiscenteDTO;
+import br.edu.ppg.hub.academic.application.dto.discente.TransicaoLoteDTO;
+import br.edu.ppg.hub.academic.application.dto.discente.TransicaoLoteResultadoDTO;
 import br.edu.ppg.hub.academic.application.service.DiscenteService;
+import br.edu.ppg.hub.academic.application.service.TransicaoLoteDiscenteService;
 import br.edu.ppg.hub.academic.domain.enums.StatusDiscente;
 import br.edu.ppg.hub.academic.domain.enums.TipoCurso;
 import io.swagger.v3.oas.annotations.Operation;
@@ -21,6 +26,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -37,6 +43,7 @@ import java.util.Map;
 public class DiscenteController {
 
     private final DiscenteService discenteService;
+    private final TransicaoLoteDiscenteService transicaoLoteDiscenteService;
 
     /**
      * Matricula um novo discente
@@ -80,10 +87,10 @@ public class DiscenteController {
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'DOCENTE')")
     @Operation(summary = "Listar todos os discentes", description = "Retorna lista paginada de discentes")
-    public ResponseEntity<Page<DiscenteResponseDTO>> buscarTodos(
+    public ResponseEntity<Page<DiscenteResumoDTO>> buscarTodos(
             @PageableDefault(size = 20, sort = "id") Pageable pageable
     ) {
-        Page<DiscenteResponseDTO> response = discenteService.buscarTodos(pageable);
+        Page<DiscenteResumoDTO> response = discenteService.buscarTodos(pageable);
         return ResponseEntity.ok(response);
     }
 
@@ -93,11 +100,11 @@ public class DiscenteController {
     @GetMapping("/programa/{programaId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'DOCENTE', 'DISCENTE')")
     @Operation(summary = "Listar discentes por programa", description = "Retorna discentes de um programa específico")
-    public ResponseEntity<Page<DiscenteResponseDTO>> buscarPorPrograma(
+    public ResponseEntity<Page<DiscenteResumoDTO>> buscarPorPrograma(
             @PathVariable Long programaId,
             @PageableDefault(size = 20, sort = "id") Pageable pageable
     ) {
-        Page<DiscenteResponseDTO> response = discenteService.buscarPorPrograma(programaId, pageable);
+        Page<DiscenteResumoDTO> response = discenteService.buscarPorPrograma(programaId, pageable);
         return ResponseEntity.ok(response);
     }
 
@@ -107,11 +114,11 @@ public class DiscenteController {
     @GetMapping("/orientador/{orientadorId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'DOCENTE')")
     @Operation(summary = "Listar discentes por orientador", description = "Retorna orientandos de um docente")
-    public ResponseEntity<Page<DiscenteResponseDTO>> buscarPorOrientador(
+    public ResponseEntity<Page<DiscenteResumoDTO>> buscarPorOrientador(
             @PathVariable Long orientadorId,
             @PageableDefault(size = 20, sort = "id") Pageable pageable
     ) {
-        Page<DiscenteResponseDTO> response = discenteService.buscarPorOrientador(orientadorId, pageable);
+        Page<DiscenteResumoDTO> response = discenteService.buscarPorOrientador(orientadorId, pageable);
         return ResponseEntity.ok(response);
     }
 
@@ -121,11 +128,11 @@ public class DiscenteController {
     @GetMapping("/status/{status}")
     @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'DOCENTE')")
     @Operation(summary = "Listar discentes por status", description = "Filtra discentes por status")
-    public ResponseEntity<Page<DiscenteResponseDTO>> buscarPorStatus(
+    public ResponseEntity<Page<DiscenteResumoDTO>> buscarPorStatus(
             @PathVariable StatusDiscente status,
             @PageableDefault(size = 20, sort = "id") Pageable pageable
     ) {
-        Page<DiscenteResponseDTO> response = discenteService.buscarPorStatus(status, pageable);
+        Page<DiscenteResumoDTO> response = discenteService.buscarPorStatus(status, pageable);
         return ResponseEntity.ok(response);
     }
 
@@ -135,11 +142,11 @@ public class DiscenteController {
     @GetMapping("/tipo-curso/{tipoCurso}")
     @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'DOCENTE')")
     @Operation(summary = "Listar discentes por tipo de curso", description = "Filtra discentes por mestrado ou doutorado")
-    public ResponseEntity<Page<DiscenteResponseDTO>> buscarPorTipoCurso(
+    public ResponseEntity<Page<DiscenteResumoDTO>> buscarPorTipoCurso(
             @PathVariable TipoCurso tipoCurso,
             @PageableDefault(size = 20, sort = "id") Pageable pageable
     ) {
-        Page<DiscenteResponseDTO> response = discenteService.buscarPorTipoCurso(tipoCurso, pageable);
+        Page<DiscenteResumoDTO> response = discenteService.buscarPorTipoCurso(tipoCurso, pageable);
         return ResponseEntity.ok(response);
     }
 
@@ -257,6 +264,19 @@ public class DiscenteController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Aplica titulação ou desligamento a vários discentes
+     */
+    @PostMapping("/transicoes-lote")
+    @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR')")
+    @Operation(summary = "Transição de discentes em lote",
+               description = "Titula ou desliga todos os discentes. Com erros, nada é gravado (422)")
+    public ResponseEntity<TransicaoLoteResultadoDTO> transicaoEmLote(@Valid @RequestBody TransicaoLoteDTO dto) {
+        TransicaoLoteResultadoDTO resultado = transicaoLoteDiscenteService.aplicar(dto);
+        HttpStatus status = resultado.getErros().isEmpty() ? HttpStatus.OK : HttpStatus.UNPROCESSABLE_ENTITY;
+        return ResponseEntity.status(status).body(resultado);
+    }
+
     /**
      * Retorna estatísticas de discentes de um programa
      */
@@ -268,6 +288,21 @@ public class DiscenteController {
         return ResponseEntity.ok(stats);
     }
 
+    /**
+     * Prazos em risco de um programa
+     */
+    @GetMapping("/programa/{programaId}/prazos-em-risco")
+    @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'DOCENTE')")
+    @Operation(summary = "Prazos em risco",
+               description = "Prazos de qualificação e defesa vencidos ou que vencem nos próximos dias")
+    public ResponseEntity<List<PrazoDiscenteDTO>> getPrazosEmRisco(
+            @PathVariable Long programaId,
+            @RequestParam(defaultValue = "90") int dias
+    ) {
+        List<PrazoDiscenteDTO> response = discenteService.buscarPrazosEmRisco(programaId, dias);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Deleta um discente
      */
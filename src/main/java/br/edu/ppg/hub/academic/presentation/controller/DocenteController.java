@@ -2,9 +2,12 @@ package br.edu.ppg.hub.academic.presentation.controller;
 
 import br.edu.ppg.hub.academic.application.dto.docente.DocenteCreateDTO;
 import br.edu.ppg.hub.academic.application.dto.docente.DocenteResponseDTO;
+import br.edu.ppg.hub.academic.application.dto.docente.DocenteResumoDTO;
 import br.edu.ppg.hub.academic.application.dto.docente.DocenteUpdateDTO;
+import br.edu.ppg.hub.academic.application.dto.docente.OrientadorRecomendadoDTO;
 import br.edu.ppg.hub.academic.application.service.DocenteService;
 import br.edu.ppg.hub.academic.domain.enums.StatusDocente;
+import br.edu.ppg.hub.academic.domain.enums.TipoCurso;
 import br.edu.ppg.hub.academic.domain.enums.TipoVinculoDocente;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -79,10 +82,10 @@ public class DocenteController {
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'DOCENTE', 'DISCENTE')")
     @Operation(summary = "Listar todos os docentes", description = "Retorna lista paginada de docentes")
-    public ResponseEntity<Page<DocenteResponseDTO>> buscarTodos(
+    public ResponseEntity<Page<DocenteResumoDTO>> buscarTodos(
             @PageableDefault(size = 20, sort = "id") Pageable pageable
     ) {
-        Page<DocenteResponseDTO> response = docenteService.buscarTodos(pageable);
+        Page<DocenteResumoDTO> response = docenteService.buscarTodos(pageable);
         return ResponseEntity.ok(response);
     }
 
@@ -92,11 +95,11 @@ public class DocenteController {
     @GetMapping("/programa/{programaId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'DOCENTE', 'DISCENTE')")
     @Operation(summary = "Listar docentes por programa", description = "Retorna docentes de um programa específico")
-    public ResponseEntity<Page<DocenteResponseDTO>> buscarPorPrograma(
+    public ResponseEntity<Page<DocenteResumoDTO>> buscarPorPrograma(
             @PathVariable Long programaId,
             @PageableDefault(size = 20, sort = "id") Pageable pageable
     ) {
-        Page<DocenteResponseDTO> response = docenteService.buscarPorPrograma(programaId, pageable);
+        Page<DocenteResumoDTO> response = docenteService.buscarPorPrograma(programaId, pageable);
         return ResponseEntity.ok(response);
     }
 
@@ -106,12 +109,12 @@ public class DocenteController {
     @GetMapping("/programa/{programaId}/status/{status}")
     @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR')")
     @Operation(summary = "Listar docentes por programa e status", description = "Filtra docentes por status")
-    public ResponseEntity<Page<DocenteResponseDTO>> buscarPorProgramaEStatus(
+    public ResponseEntity<Page<DocenteResumoDTO>> buscarPorProgramaEStatus(
             @PathVariable Long programaId,
             @PathVariable StatusDocente status,
             @PageableDefault(size = 20, sort = "id") Pageable pageable
     ) {
-        Page<DocenteResponseDTO> response = docenteService.buscarPorProgramaEStatus(programaId, status, pageable);
+        Page<DocenteResumoDTO> response = docenteService.buscarPorProgramaEStatus(programaId, status, pageable);
         return ResponseEntity.ok(response);
     }
 
@@ -121,11 +124,11 @@ public class DocenteController {
     @GetMapping("/tipo-vinculo/{tipoVinculo}")
     @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR')")
     @Operation(summary = "Listar docentes por tipo de vínculo", description = "Filtra docentes por tipo de vínculo")
-    public ResponseEntity<Page<DocenteResponseDTO>> buscarPorTipoVinculo(
+    public ResponseEntity<Page<DocenteResumoDTO>> buscarPorTipoVinculo(
             @PathVariable TipoVinculoDocente tipoVinculo,
             @PageableDefault(size = 20, sort = "id") Pageable pageable
     ) {
-        Page<DocenteResponseDTO> response = docenteService.buscarPorTipoVinculo(tipoVinculo, pageable);
+        Page<DocenteResumoDTO> response = docenteService.buscarPorTipoVinculo(tipoVinculo, pageable);
         return ResponseEntity.ok(response);
     }
 
@@ -135,11 +138,11 @@ public class DocenteController {
     @GetMapping("/linha-pesquisa/{linhaPesquisaId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'DOCENTE', 'DISCENTE')")
     @Operation(summary = "Listar docentes por linha de pesquisa", description = "Retorna docentes de uma linha de pesquisa")
-    public ResponseEntity<Page<DocenteResponseDTO>> buscarPorLinhaPesquisa(
+    public ResponseEntity<Page<DocenteResumoDTO>> buscarPorLinhaPesquisa(
             @PathVariable Long linhaPesquisaId,
             @PageableDefault(size = 20, sort = "id") Pageable pageable
     ) {
-        Page<DocenteResponseDTO> response = docenteService.buscarPorLinhaPesquisa(linhaPesquisaId, pageable);
+        Page<DocenteResumoDTO> response = docenteService.buscarPorLinhaPesquisa(linhaPesquisaId, pageable);
         return ResponseEntity.ok(response);
     }
 
@@ -157,6 +160,24 @@ public class DocenteController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Recomenda orientadores para um novo discente
+     */
+    @GetMapping("/programa/{programaId}/orientadores-recomendados")
+    @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR')")
+    @Operation(summary = "Recomendar orientadores",
+               description = "Docentes com vagas, da linha de pesquisa informada primeiro e dos menos carregados")
+    public ResponseEntity<List<OrientadorRecomendadoDTO>> recomendarOrientadores(
+            @PathVariable Long programaId,
+            @RequestParam(required = false) Long linhaPesquisaId,
+            @RequestParam(defaultValue = "MESTRADO") TipoCurso tipoCurso,
+            @RequestParam(defaultValue = "5") int limite
+    ) {
+        List<OrientadorRecomendadoDTO> response =
+                docenteService.recomendarOrientadores(programaId, linhaPesquisaId, tipoCurso, limite);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Ativa um docente
      */
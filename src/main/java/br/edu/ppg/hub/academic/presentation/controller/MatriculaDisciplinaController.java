@@ -1,7 +1,9 @@
 package br.edu.ppg.hub.academic.presentation.controller;
 
+import br.edu.ppg.hub.academic.application.dto.matricula_disciplina.LancamentoLoteResultadoDTO;
 import br.edu.ppg.hub.academic.application.dto.matricula_disciplina.MatriculaDisciplinaCreateDTO;
 import br.edu.ppg.hub.academic.application.dto.matricula_disciplina.MatriculaDisciplinaResponseDTO;
+import br.edu.ppg.hub.academic.application.service.LancamentoLoteService;
 import br.edu.ppg.hub.academic.application.service.MatriculaDisciplinaService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -14,10 +16,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +40,7 @@ import java.util.Map;
 public class MatriculaDisciplinaController {
 
     private final MatriculaDisciplinaService matriculaService;
+    private final LancamentoLoteService lancamentoLoteService;
 
     /**
      * Matricula um discente em uma oferta de disciplina
@@ -137,6 +142,28 @@ public class MatriculaDisciplinaController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Lança notas e frequências em lote a partir de um CSV
+     */
+    @PostMapping(value = "/oferta/{ofertaId}/lancamentos", consumes = "text/csv")
+    @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'DOCENTE')")
+    @Operation(summary = "Lançar notas em lote (CSV)",
+               description = "Colunas: matriculaId ou numeroMatricula, nota e/ou frequencia. Com erros, nada é gravado (422)")
+    public ResponseEntity<LancamentoLoteResultadoDTO> lancarEmLoteCsv(@PathVariable Long ofertaId, InputStream conteudo) {
+        return respostaLancamento(lancamentoLoteService.importarCsv(ofertaId, conteudo));
+    }
+
+    /**
+     * Lança notas e frequências em lote a partir de um array JSON
+     */
+    @PostMapping(value = "/oferta/{ofertaId}/lancamentos", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'DOCENTE')")
+    @Operation(summary = "Lançar notas em lote (JSON)",
+               description = "Array de {matriculaId ou numeroMatricula, nota, frequencia}. Com erros, nada é gravado (422)")
+    public ResponseEntity<LancamentoLoteResultadoDTO> lancarEmLoteJson(@PathVariable Long ofertaId, InputStream conteudo) {
+        return respostaLancamento(lancamentoLoteService.importarJson(ofertaId, conteudo));
+    }
+
     /**
      * Calcula resultado final (aprovar/reprovar)
      */
@@ -159,6 +186,17 @@ public class MatriculaDisciplinaController {
         return ResponseEntity.ok(resultado);
     }
 
+    /**
+     * Fecha resultados de todas as ofertas de um período
+     */
+    @PostMapping("/periodo/{periodo}/calcular-resultados")
+    @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR')")
+    @Operation(summary = "Fechar resultados do período", description = "Calcula resultados de todas as ofertas de um período, em paralelo por oferta")
+    public ResponseEntity<Map<String, Object>> calcularResultadosPeriodo(@PathVariable String periodo) {
+        Map<String, Object> resultado = matriculaService.calcularResultadosPeriodo(periodo);
+        return ResponseEntity.ok(resultado);
+    }
+
     /**
      * Obtém estatísticas de um discente
      */
@@ -180,4 +218,9 @@ public class MatriculaDisciplinaController {
         matriculaService.deletar(id);
         return ResponseEntity.noContent().build();
     }
+
+    private ResponseEntity<LancamentoLoteResultadoDTO> respostaLancamento(LancamentoLoteResultadoDTO resultado) {
+        HttpStatus status = resultado.getErros().isEmpty() ? HttpStatus.OK : HttpStatus.UNPROCESSABLE_ENTITY;
+        return ResponseEntity.status(status).body(resultado);
+    }
 }
@@ -2,8 +2,10 @@ package br.edu.ppg.hub.academic.presentation.controller;
 
 import br.edu.ppg.hub.academic.application.dto.oferta_disciplina.OfertaDisciplinaCreateDTO;
 import br.edu.ppg.hub.academic.application.dto.oferta_disciplina.OfertaDisciplinaResponseDTO;
+import br.edu.ppg.hub.academic.application.dto.oferta_disciplina.OfertaDisciplinaResumoDTO;
 import br.edu.ppg.hub.academic.application.dto.oferta_disciplina.OfertaDisciplinaUpdateDTO;
 import br.edu.ppg.hub.academic.application.service.OfertaDisciplinaService;
+import br.edu.ppg.hub.academic.infrastructure.timetable.ConflitoHorario;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -77,10 +79,10 @@ public class OfertaDisciplinaController {
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'DOCENTE', 'DISCENTE')")
     @Operation(summary = "Listar todas as ofertas", description = "Retorna lista paginada de ofertas")
-    public ResponseEntity<Page<OfertaDisciplinaResponseDTO>> buscarTodas(
+    public ResponseEntity<Page<OfertaDisciplinaResumoDTO>> buscarTodas(
             @PageableDefault(size = 20, sort = "periodo,desc") Pageable pageable
     ) {
-        Page<OfertaDisciplinaResponseDTO> response = ofertaDisciplinaService.buscarTodas(pageable);
+        Page<OfertaDisciplinaResumoDTO> response = ofertaDisciplinaService.buscarTodas(pageable);
         return ResponseEntity.ok(response);
     }
 
@@ -90,25 +92,35 @@ public class OfertaDisciplinaController {
     @GetMapping("/periodo/{periodo}")
     @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'DOCENTE', 'DISCENTE')")
     @Operation(summary = "Listar ofertas por período", description = "Retorna ofertas de um período específico (ex: 2024.1)")
-    public ResponseEntity<Page<OfertaDisciplinaResponseDTO>> buscarPorPeriodo(
+    public ResponseEntity<Page<OfertaDisciplinaResumoDTO>> buscarPorPeriodo(
             @PathVariable String periodo,
             @PageableDefault(size = 20, sort = "disciplina.codigo") Pageable pageable
     ) {
-        Page<OfertaDisciplinaResponseDTO> response = ofertaDisciplinaService.buscarPorPeriodo(periodo, pageable);
+        Page<OfertaDisciplinaResumoDTO> response = ofertaDisciplinaService.buscarPorPeriodo(periodo, pageable);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Relatório de choques de horário do período
+     */
+    @GetMapping("/periodo/{periodo}/conflitos-horario")
+    @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'SECRETARIA')")
+    @Operation(summary = "Choques de horário do período", description = "Discentes, docentes e salas com ofertas sobrepostas no período (ex: 2024.1)")
+    public ResponseEntity<List<ConflitoHorario>> getConflitosHorario(@PathVariable String periodo) {
+        return ResponseEntity.ok(ofertaDisciplinaService.getConflitosHorario(periodo));
+    }
+
     /**
      * Busca ofertas por docente
      */
     @GetMapping("/docente/{docenteId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'DOCENTE', 'DISCENTE')")
     @Operation(summary = "Listar ofertas por docente", description = "Retorna ofertas de um docente específico")
-    public ResponseEntity<Page<OfertaDisciplinaResponseDTO>> buscarPorDocente(
+    public ResponseEntity<Page<OfertaDisciplinaResumoDTO>> buscarPorDocente(
             @PathVariable Long docenteId,
             @PageableDefault(size = 20, sort = "periodo,desc") Pageable pageable
     ) {
-        Page<OfertaDisciplinaResponseDTO> response = ofertaDisciplinaService.buscarPorDocente(docenteId, pageable);
+        Page<OfertaDisciplinaResumoDTO> response = ofertaDisciplinaService.buscarPorDocente(docenteId, pageable);
         return ResponseEntity.ok(response);
     }
 
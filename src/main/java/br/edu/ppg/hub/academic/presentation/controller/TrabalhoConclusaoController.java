@@ -1,21 +1,27 @@
 package br.edu.ppg.hub.academic.presentation.controller;
 
+import br.edu.ppg.hub.academic.application.dto.trabalho_conclusao.BuscaTrabalhoResultadoDTO;
 import br.edu.ppg.hub.academic.application.dto.trabalho_conclusao.TrabalhoConclusaoCreateDTO;
 import br.edu.ppg.hub.academic.application.dto.trabalho_conclusao.TrabalhoConclusaoResponseDTO;
+import br.edu.ppg.hub.academic.application.dto.trabalho_conclusao.TrabalhoConclusaoResumoDTO;
 import br.edu.ppg.hub.academic.application.dto.trabalho_conclusao.TrabalhoConclusaoUpdateDTO;
+import br.edu.ppg.hub.academic.application.service.BuscaTrabalhoService;
 import br.edu.ppg.hub.academic.application.service.TrabalhoConclusaoService;
 import br.edu.ppg.hub.academic.domain.enums.StatusTrabalho;
 import br.edu.ppg.hub.academic.domain.enums.TipoTrabalho;
+import br.edu.ppg.hub.shared.storage.DocumentoArmazenado;
+import br.edu.ppg.hub.shared.storage.EnvioDocumento;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -23,6 +29,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -42,6 +49,8 @@ import java.util.List;
 public class TrabalhoConclusaoController {
 
     private final TrabalhoConclusaoService trabalhoConclusaoService;
+    private final BuscaTrabalhoService buscaTrabalhoService;
+    private final EnvioDocumento envioDocumento;
 
     /**
      * Cria um novo trabalho de conclusão.
@@ -62,6 +71,7 @@ public class TrabalhoConclusaoController {
     @Operation(summary = "Buscar trabalho por ID", description = "Retorna dados completos de um trabalho de conclusão")
     public ResponseEntity<TrabalhoConclusaoResponseDTO> buscarPorId(@PathVariable Long id) {
         TrabalhoConclusaoResponseDTO response = trabalhoConclusaoService.buscarPorId(id);
+        trabalhoConclusaoService.registrarVisualizacao(id);
         return ResponseEntity.ok(response);
     }
 
@@ -71,10 +81,29 @@ public class TrabalhoConclusaoController {
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'DOCENTE', 'DISCENTE')")
     @Operation(summary = "Listar todos os trabalhos", description = "Retorna lista paginada de trabalhos de conclusão")
-    public ResponseEntity<Page<TrabalhoConclusaoResponseDTO>> listarTodos(
+    public ResponseEntity<Page<TrabalhoConclusaoResumoDTO>> listarTodos(
             @PageableDefault(size = 20, sort = "id") Pageable pageable
     ) {
-        Page<TrabalhoConclusaoResponseDTO> response = trabalhoConclusaoService.listarTodos(pageable);
+        Page<TrabalhoConclusaoResumoDTO> response = trabalhoConclusaoService.listarTodos(pageable);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Busca textual de trabalhos por relevância.
+     */
+    @GetMapping("/busca")
+    @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'DOCENTE', 'DISCENTE')")
+    @Operation(summary = "Buscar trabalhos por texto",
+               description = "Busca em títulos, palavras-chave e resumos, ordenada por relevância, com trechos destacados, " +
+                             "facetas de palavra-chave e paginação por cursor")
+    public ResponseEntity<BuscaTrabalhoResultadoDTO> buscarPorTexto(
+            @RequestParam String q,
+            @RequestParam(required = false) Long programaId,
+            @RequestParam(required = false) String palavraChave,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int tamanho
+    ) {
+        BuscaTrabalhoResultadoDTO response = buscaTrabalhoService.buscar(q, programaId, palavraChave, cursor, tamanho);
         return ResponseEntity.ok(response);
     }
 
@@ -95,11 +124,11 @@ public class TrabalhoConclusaoController {
     @GetMapping("/orientador/{orientadorId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'DOCENTE')")
     @Operation(summary = "Listar trabalhos por orientador", description = "Retorna trabalhos orientados por um docente")
-    public ResponseEntity<Page<TrabalhoConclusaoResponseDTO>> buscarPorOrientador(
+    public ResponseEntity<Page<TrabalhoConclusaoResumoDTO>> buscarPorOrientador(
             @PathVariable Long orientadorId,
             @PageableDefault(size = 20, sort = "id") Pageable pageable
     ) {
-        Page<TrabalhoConclusaoResponseDTO> response = trabalhoConclusaoService.buscarPorOrientador(orientadorId, pageable);
+        Page<TrabalhoConclusaoResumoDTO> response = trabalhoConclusaoService.buscarPorOrientador(orientadorId, pageable);
         return ResponseEntity.ok(response);
     }
 
@@ -109,11 +138,11 @@ public class TrabalhoConclusaoController {
     @GetMapping("/coorientador/{coorientadorId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'DOCENTE')")
     @Operation(summary = "Listar trabalhos por coorientador", description = "Retorna trabalhos coorientados por um docente")
-    public ResponseEntity<Page<TrabalhoConclusaoResponseDTO>> buscarPorCoorientador(
+    public ResponseEntity<Page<TrabalhoConclusaoResumoDTO>> buscarPorCoorientador(
             @PathVariable Long coorientadorId,
             @PageableDefault(size = 20, sort = "id") Pageable pageable
     ) {
-        Page<TrabalhoConclusaoResponseDTO> response = trabalhoConclusaoService.buscarPorCoorientador(coorientadorId, pageable);
+        Page<TrabalhoConclusaoResumoDTO> response = trabalhoConclusaoService.buscarPorCoorientador(coorientadorId, pageable);
         return ResponseEntity.ok(response);
     }
 
@@ -134,11 +163,11 @@ public class TrabalhoConclusaoController {
     @GetMapping("/tipo/{tipo}")
     @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'DOCENTE', 'DISCENTE')")
     @Operation(summary = "Listar trabalhos por tipo", description = "Retorna trabalhos de um tipo específico")
-    public ResponseEntity<Page<TrabalhoConclusaoResponseDTO>> buscarPorTipo(
+    public ResponseEntity<Page<TrabalhoConclusaoResumoDTO>> buscarPorTipo(
             @PathVariable TipoTrabalho tipo,
             @PageableDefault(size = 20, sort = "id") Pageable pageable
     ) {
-        Page<TrabalhoConclusaoResponseDTO> response = trabalhoConclusaoService.buscarPorTipo(tipo, pageable);
+        Page<TrabalhoConclusaoResumoDTO> response = trabalhoConclusaoService.buscarPorTipo(tipo, pageable);
         return ResponseEntity.ok(response);
     }
 
@@ -148,11 +177,11 @@ public class TrabalhoConclusaoController {
     @GetMapping("/status/{status}")
     @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'DOCENTE')")
     @Operation(summary = "Listar trabalhos por status", description = "Retorna trabalhos com status específico")
-    public ResponseEntity<Page<TrabalhoConclusaoResponseDTO>> buscarPorStatus(
+    public ResponseEntity<Page<TrabalhoConclusaoResumoDTO>> buscarPorStatus(
             @PathVariable StatusTrabalho status,
             @PageableDefault(size = 20, sort = "id") Pageable pageable
     ) {
-        Page<TrabalhoConclusaoResponseDTO> response = trabalhoConclusaoService.buscarPorStatus(status, pageable);
+        Page<TrabalhoConclusaoResumoDTO> response = trabalhoConclusaoService.buscarPorStatus(status, pageable);
         return ResponseEntity.ok(response);
     }
 
@@ -162,12 +191,12 @@ public class TrabalhoConclusaoController {
     @GetMapping("/periodo-defesa")
     @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'DOCENTE')")
     @Operation(summary = "Listar trabalhos por período", description = "Retorna trabalhos defendidos em um período")
-    public ResponseEntity<Page<TrabalhoConclusaoResponseDTO>> buscarPorPeriodoDefesa(
+    public ResponseEntity<Page<TrabalhoConclusaoResumoDTO>> buscarPorPeriodoDefesa(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim,
             @PageableDefault(size = 20, sort = "dataDefesa") Pageable pageable
     ) {
-        Page<TrabalhoConclusaoResponseDTO> response = trabalhoConclusaoService.buscarPorPeriodoDefesa(dataInicio, dataFim, pageable);
+        Page<TrabalhoConclusaoResumoDTO> response = trabalhoConclusaoService.buscarPorPeriodoDefesa(dataInicio, dataFim, pageable);
         return ResponseEntity.ok(response);
     }
 
@@ -245,20 +274,21 @@ public class TrabalhoConclusaoController {
 
     /**
      * Faz download do arquivo PDF do trabalho.
+     * Suporta GET condicional (ETag/Last-Modified) e Range para leitores de PDF.
      */
     @GetMapping("/{id}/download-arquivo")
     @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'DOCENTE', 'DISCENTE')")
-    @Operation(summary = "Download de arquivo", description = "Baixa arquivo PDF do trabalho")
-    public ResponseEntity<byte[]> downloadArquivo(@PathVariable Long id) {
-        byte[] conteudo = trabalhoConclusaoService.downloadArquivo(id);
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_PDF);
-        headers.setContentDispositionFormData("attachment", "trabalho-" + id + ".pdf");
-
-        return ResponseEntity.ok()
-                .headers(headers)
-                .body(conteudo);
+    @Operation(summary = "Download de arquivo",
+            description = "Baixa arquivo PDF do trabalho (aceita Range, If-None-Match e If-Modified-Since)")
+    public void downloadArquivo(
+            @PathVariable Long id,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        DocumentoArmazenado arquivo = trabalhoConclusaoService.buscarArquivo(id);
+        if (envioDocumento.enviar(arquivo, "trabalho-" + id + ".pdf", MediaType.APPLICATION_PDF, request, response)) {
+            trabalhoConclusaoService.registrarDownload(id);
+        }
     }
 
     /**
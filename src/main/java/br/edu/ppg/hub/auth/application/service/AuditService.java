@@ -4,21 +4,23 @@ import br.edu.ppg.hub.auth.application.dto.audit.AuditLogMapper;
 import br.edu.ppg.hub.auth.application.dto.audit.AuditLogResponseDTO;
 import br.edu.ppg.hub.auth.domain.model.AuditLog;
 import br.edu.ppg.hub.auth.domain.model.Usuario;
+import br.edu.ppg.hub.auth.infrastructure.audit.AsyncAuditLogWriter;
+import br.edu.ppg.hub.auth.infrastructure.audit.AuditEvent;
 import br.edu.ppg.hub.auth.infrastructure.repository.AuditLogRepository;
 import br.edu.ppg.hub.auth.infrastructure.security.SecurityUtils;
+import br.edu.ppg.hub.shared.config.AuditConfig;
 import br.edu.ppg.hub.shared.exception.ResourceNotFoundException;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -33,7 +35,8 @@ public class AuditService {
 
     private final AuditLogRepository auditLogRepository;
     private final AuditLogMapper auditLogMapper;
-    private final ObjectMapper objectMapper;
+    private final AsyncAuditLogWriter auditLogWriter;
+    private final AuditConfig auditConfig;
 
     /**
      * Busca todos os logs com paginação.
@@ -100,44 +103,78 @@ public class AuditService {
     }
 
     /**
-     * Busca logs recentes de um usuário.
+     * Busca logs recentes de um usuário (últimos {@code ppg.audit.janela-recentes-dias}).
      */
     public Page<AuditLogResponseDTO> findRecentByUsuario(Long usuarioId, Pageable pageable) {
         log.debug("Buscando logs recentes do usuário ID: {}", usuarioId);
-        return auditLogRepository.findRecentByUsuario(usuarioId, pageable)
+        LocalDateTime desde = LocalDateTime.now().minusDays(auditConfig.getJanelaRecentesDias());
+        return auditLogRepository.findRecentByUsuario(usuarioId, desde, pageable)
                 .map(auditLogMapper::toResponseDTO);
     }
 
     /**
      * Registra ação no log de auditoria.
+     *
+     * <p>Captura apenas o contexto do request (usuário, IP, user agent) e publica
+     * o evento no pipeline assíncrono; serialização e gravação ocorrem em lote.</p>
      */
-    @Transactional
     public void registrarAcao(String acao, String entidade, Long entidadeId, Object dadosAnteriores, Object dadosNovos) {
         try {
-            Usuario usuario = SecurityUtils.getCurrentUser();
             HttpServletRequest request = getCurrentRequest();
 
-            AuditLog auditLog = AuditLog.builder()
-                    .usuario(usuario)
+            AuditEvent event = AuditEvent.builder()
+                    .usuarioId(SecurityUtils.getCurrentUser().map(Usuario::getId).orElse(null))
                     .acao(acao)
                     .entidade(entidade)
                     .entidadeId(entidadeId)
-                    .dadosAnteriores(dadosAnteriores != null ? objectMapper.writeValueAsString(dadosAnteriores) : null)
-                    .dadosNovos(dadosNovos != null ? objectMapper.writeValueAsString(dadosNovos) : null)
-                    .ipAddress(request != null ? getClientIp(request) : null)
+                    .dadosAnteriores(dadosAnteriores)
+                    .dadosNovos(dadosNovos)
+                    .ipAddress(request != null ? SecurityUtils.getClientIp(request) : null)
                     .userAgent(request != null ? request.getHeader("User-Agent") : null)
+                    .createdAt(LocalDateTime.now())
                     .build();
 
-            auditLogRepository.save(auditLog);
+            auditLogWriter.publicar(event);
             log.debug("Ação auditada: {} em {} #{}", acao, entidade, entidadeId);
 
-        } catch (JsonProcessingException e) {
-            log.error("Erro ao converter dados para JSON na auditoria", e);
         } catch (Exception e) {
             log.error("Erro ao registrar log de auditoria", e);
         }
     }
 
+    /**
+     * Registra a mesma ação sobre várias entidades (operações em lote).
+     *
+     * <p>O contexto do request é capturado uma única vez e os eventos, um por
+     * entidade de {@code dadosNovos}, seguem juntos para a gravação em lote.</p>
+     */
+    public void registrarAcoes(String acao, String entidade,
+                               Map<Long, ?> dadosAnteriores, Map<Long, ?> dadosNovos) {
+        try {
+            HttpServletRequest request = getCurrentRequest();
+            Long usuarioId = SecurityUtils.getCurrentUser().map(Usuario::getId).orElse(null);
+            String ipAddress = request != null ? SecurityUtils.getClientIp(request) : null;
+            String userAgent = request != null ? request.getHeader("User-Agent") : null;
+            LocalDateTime agora = LocalDateTime.now();
+
+            dadosNovos.forEach((entidadeId, novos) -> auditLogWriter.publicar(AuditEvent.builder()
+                    .usuarioId(usuarioId)
+                    .acao(acao)
+                    .entidade(entidade)
+                    .entidadeId(entidadeId)
+                    .dadosAnteriores(dadosAnteriores.get(entidadeId))
+                    .dadosNovos(novos)
+                    .ipAddress(ipAddress)
+                    .userAgent(userAgent)
+                    .createdAt(agora)
+                    .build()));
+            log.debug("Ação auditada em lote: {} em {} ({} registros)", acao, entidade, dadosNovos.size());
+
+        } catch (Exception e) {
+            log.error("Erro ao registrar logs de auditoria em lote", e);
+        }
+    }
+
     /**
      * Registra criação de entidade.
      */
@@ -175,29 +212,47 @@ public class AuditService {
 
     /**
      * Retorna estatísticas de logs.
+     * Lidas da tabela de contadores mantida por trigger (custo independente do volume de logs).
      */
     public Map<String, Object> getEstatisticas() {
         log.debug("Calculando estatísticas de auditoria");
 
+        Map<String, Long> porAcao = new HashMap<>();
+        for (Object[] row : auditLogRepository.countGroupByAcao()) {
+            porAcao.put((String) row[0], ((Number) row[1]).longValue());
+        }
+
         Map<String, Object> stats = new HashMap<>();
-        stats.put("total", auditLogRepository.count());
-        stats.put("logins", auditLogRepository.countByAcao("LOGIN"));
-        stats.put("creates", auditLogRepository.countByAcao("CREATE"));
-        stats.put("updates", auditLogRepository.countByAcao("UPDATE"));
-        stats.put("deletes", auditLogRepository.countByAcao("DELETE"));
+        stats.put("total", porAcao.values().stream().mapToLong(Long::longValue).sum());
+        stats.put("logins", porAcao.getOrDefault("LOGIN", 0L));
+        stats.put("creates", porAcao.getOrDefault("CREATE", 0L));
+        stats.put("updates", porAcao.getOrDefault("UPDATE", 0L));
+        stats.put("deletes", porAcao.getOrDefault("DELETE", 0L));
 
         return stats;
     }
 
     /**
      * Limpa logs antigos (para manutenção).
+     * Remove partições mensais inteiras anteriores ao limite; o mês parcialmente
+     * dentro da retenção é mantido até sair completamente dela.
      */
     @Transactional
-    public void limparLogsAntigos(int diasRetencao) {
+    public int limparLogsAntigos(int diasRetencao) {
         log.info("Limpando logs de auditoria com mais de {} dias", diasRetencao);
         LocalDateTime dataLimite = LocalDateTime.now().minusDays(diasRetencao);
-        auditLogRepository.deleteByCreatedAtBefore(dataLimite);
-        log.info("Logs antigos removidos com sucesso");
+        Integer removidas = auditLogRepository.removerParticoesAnteriores(dataLimite);
+        log.info("Partições de auditoria removidas: {}", removidas);
+        return removidas != null ? removidas : 0;
+    }
+
+    /**
+     * Garante as partições mensais dos próximos meses.
+     */
+    @Transactional
+    public int criarParticoesFuturas(int mesesAFrente) {
+        Integer criadas = auditLogRepository.criarParticoes(LocalDate.now(), mesesAFrente);
+        return criadas != null ? criadas : 0;
     }
 
     /**
@@ -211,22 +266,4 @@ public class AuditService {
             return null;
         }
     }
-
-    /**
-     * Obtém IP do cliente considerando proxies.
-     */
-    private String getClientIp(HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("X-Real-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getRemoteAddr();
-        }
-        // Se houver múltiplos IPs (proxy chain), pega o primeiro
-        if (ip != null && ip.contains(",")) {
-            ip = ip.split(",")[0].trim();
-        }
-        return ip;
-    }
 }
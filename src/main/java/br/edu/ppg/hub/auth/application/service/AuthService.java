@@ -6,15 +6,12 @@ import br.edu.ppg.hub.auth.application.dto.usuario.UsuarioResponseDTO;
 import br.edu.ppg.hub.auth.domain.model.Usuario;
 import br.edu.ppg.hub.auth.infrastructure.repository.UsuarioRepository;
 import br.edu.ppg.hub.auth.infrastructure.security.JwtTokenProvider;
+import br.edu.ppg.hub.auth.infrastructure.security.LoginAttemptLimiter;
+import br.edu.ppg.hub.auth.infrastructure.security.LoginStateWriter;
+import br.edu.ppg.hub.auth.infrastructure.security.PasswordHasher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,100 +34,115 @@ import java.util.UUID;
 public class AuthService {
 
     private final UsuarioRepository usuarioRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
-    private final AuthenticationManager authenticationManager;
     private final UsuarioMapper usuarioMapper;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final LoginStateWriter loginStateWriter;
 
-    private static final int MAX_TENTATIVAS_LOGIN = 5;
-    private static final int BLOQUEIO_MINUTOS = 30;
     private static final int RESET_TOKEN_EXPIRACAO_MINUTOS = 60;
 
     /**
      * Realiza login de um usuário.
      *
+     * <p>O limitador de tentativas é consultado antes de qualquer acesso ao banco ou BCrypt.
+     * O usuário é buscado uma única vez e as atualizações de tentativas/último login
+     * são gravadas de forma assíncrona pelo {@link LoginStateWriter}.</p>
+     *
+     * <p>Não há transação envolvendo o método: a busca usa a transação curta do
+     * repositório e a verificação BCrypt ocorre depois, sem conexão presa.</p>
+     *
      * @param dto Dados de login
+     * @param ip IP do cliente (pode ser null)
      * @return Resposta com tokens JWT e dados do usuário
      */
-    @Transactional
-    public LoginResponseDTO login(LoginRequestDTO dto) {
+    public LoginResponseDTO login(LoginRequestDTO dto, String ip) {
         log.info("Tentativa de login: {}", dto.getEmail());
 
-        try {
-            // Buscar usuário
-            Usuario usuario = usuarioRepository.findByEmail(dto.getEmail())
-                    .orElseThrow(() -> new BadCredentialsException("Email ou senha inválidos"));
-
-            // Verificar se conta está bloqueada
-            if (usuario.getContaBloqueada() != null && usuario.getContaBloqueada()) {
-                if (usuario.getBloqueadaAte() != null && usuario.getBloqueadaAte().isAfter(LocalDateTime.now())) {
-                    log.warn("Tentativa de login em conta bloqueada: {}", dto.getEmail());
-                    throw new BadCredentialsException("Conta bloqueada. Tente novamente mais tarde.");
-                } else {
-                    // Bloqueio expirou, desbloquear
-                    usuario.resetarTentativasLogin();
-                }
-            }
-
-            // Verificar se usuário está ativo
-            if (!usuario.getAtivo()) {
-                log.warn("Tentativa de login em conta inativa: {}", dto.getEmail());
-                throw new BadCredentialsException("Conta inativa");
-            }
-
-            // Autenticar
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(dto.getEmail(), dto.getPassword())
-            );
+        // Rejeita antes de qualquer acesso ao banco
+        loginAttemptLimiter.verificarTentativa(ip, dto.getEmail());
 
-            // Login bem-sucedido - resetar tentativas
-            usuario.resetarTentativasLogin();
-            usuario.setUltimoLogin(LocalDateTime.now());
-            usuarioRepository.save(usuario);
+        // Buscar usuário
+        Usuario usuario = usuarioRepository.findByEmail(dto.getEmail())
+                .orElseThrow(() -> {
+                    log.warn("Falha no login: {}", dto.getEmail());
+                    return new BadCredentialsException("Email ou senha inválidos");
+                });
+
+        // Verificar se conta está bloqueada (bloqueio expirado é limpo no próximo sucesso)
+        if (Boolean.TRUE.equals(usuario.getContaBloqueada())
+                && usuario.getBloqueadaAte() != null
+                && usuario.getBloqueadaAte().isAfter(LocalDateTime.now())) {
+            log.warn("Tentativa de login em conta bloqueada: {}", dto.getEmail());
+            throw new BadCredentialsException("Conta bloqueada. Tente novamente mais tarde.");
+        }
 
-            // Gerar tokens
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String accessToken = jwtTokenProvider.generateAccessToken(userDetails);
-            String refreshToken = jwtTokenProvider.generateRefreshToken(userDetails);
+        // Verificar se usuário está ativo
+        if (!usuario.getAtivo()) {
+            log.warn("Tentativa de login em conta inativa: {}", dto.getEmail());
+            throw new BadCredentialsException("Conta inativa");
+        }
 
-            log.info("Login bem-sucedido: {}", dto.getEmail());
+        // Autenticar
+        if (!passwordHasher.matches(dto.getPassword(), usuario.getPasswordHash())) {
+            loginStateWriter.registrarFalha(usuario.getId());
+            if (loginAttemptLimiter.registrarFalha(dto.getEmail())) {
+                log.warn("Conta bloqueada por excesso de tentativas: {}", dto.getEmail());
+            }
+            log.warn("Falha no login: {}", dto.getEmail());
+            throw new BadCredentialsException("Email ou senha inválidos");
+        }
 
-            // Montar resposta
-            UsuarioResponseDTO usuarioResponse = usuarioMapper.toResponseDTO(usuario);
+        // Login bem-sucedido - resetar tentativas (trigger usuario_reset_tentativas)
+        loginAttemptLimiter.registrarSucesso(dto.getEmail());
+        loginStateWriter.registrarSucesso(usuario.getId());
+        rehashSeNecessario(usuario, dto.getPassword());
 
-            return LoginResponseDTO.builder()
-                    .accessToken(accessToken)
-                    .refreshToken(refreshToken)
-                    .tokenType("Bearer")
-                    .expiresIn(jwtTokenProvider.getAccessTokenExpirationInSeconds())
-                    .usuario(usuarioResponse)
-                    .build();
+        // Gerar tokens
+        String accessToken = jwtTokenProvider.generateAccessToken(usuario);
+        String refreshToken = jwtTokenProvider.generateRefreshToken(usuario);
 
-        } catch (AuthenticationException e) {
-            // Login falhou - incrementar tentativas
-            usuarioRepository.findByEmail(dto.getEmail()).ifPresent(usuario -> {
-                usuario.incrementarTentativasLogin();
+        log.info("Login bem-sucedido: {}", dto.getEmail());
 
-                if (usuario.getTentativasLogin() >= MAX_TENTATIVAS_LOGIN) {
-                    usuario.bloquearConta(BLOQUEIO_MINUTOS);
-                    log.warn("Conta bloqueada por excesso de tentativas: {}", dto.getEmail());
-                }
+        // Montar resposta
+        UsuarioResponseDTO usuarioResponse = usuarioMapper.toResponseDTO(usuario);
 
-                usuarioRepository.save(usuario);
-            });
+        return LoginResponseDTO.builder()
+                .accessToken(accessToken)
+                .refreshToken(refreshToken)
+                .tokenType("Bearer")
+                .expiresIn(jwtTokenProvider.getAccessTokenExpirationInSeconds())
+                .usuario(usuarioResponse)
+                .build();
+    }
 
-            log.warn("Falha no login: {}", dto.getEmail());
-            throw new BadCredentialsException("Email ou senha inválidos");
+    /**
+     * Refaz o hash em segundo plano quando o custo BCrypt configurado mudou.
+     */
+    private void rehashSeNecessario(Usuario usuario, String senha) {
+        if (!passwordHasher.precisaRehash(usuario.getPasswordHash())) {
+            return;
         }
+        Long usuarioId = usuario.getId();
+        String hashAnterior = usuario.getPasswordHash();
+        passwordHasher.encodeAsync(senha).whenComplete((hash, erro) -> {
+            if (erro == null) {
+                loginStateWriter.registrarNovoHash(usuarioId, hashAnterior, hash);
+            } else {
+                log.debug("Rehash adiado para usuário {}: {}", usuarioId, erro.getMessage());
+            }
+        });
     }
 
     /**
      * Registra um novo usuário.
      *
+     * <p>O hash da senha é calculado antes da gravação, fora de transação;
+     * e-mail duplicado em corrida é barrado pela constraint única.</p>
+     *
      * @param dto Dados de registro
      * @return Resposta com tokens JWT e dados do usuário
      */
-    @Transactional
     public LoginResponseDTO register(RegisterRequestDTO dto) {
         log.info("Registrando novo usuário: {}", dto.getEmail());
 
@@ -150,11 +162,14 @@ public class AuthService {
             throw new IllegalArgumentException("CPF ou Passaporte é obrigatório");
         }
 
+        // Hash antes de abrir a transação de escrita
+        String passwordHash = passwordHasher.encode(dto.getPassword());
+
         // Criar usuário
         Usuario usuario = Usuario.builder()
                 .nomeCompleto(dto.getNomeCompleto())
                 .email(dto.getEmail())
-                .passwordHash(passwordEncoder.encode(dto.getPassword()))
+                .passwordHash(passwordHash)
                 .cpf(dto.getCpf())
                 .telefone(dto.getTelefone())
                 .passaporte(dto.getPassaporte())
@@ -258,9 +273,10 @@ public class AuthService {
     /**
      * Reseta a senha usando o token de reset.
      *
+     * <p>O hash é calculado fora de transação; só o {@code save} grava.</p>
+     *
      * @param dto Dados de reset
      */
-    @Transactional
     public void resetPassword(ResetPasswordDTO dto) {
         log.info("Resetando senha com token");
 
@@ -273,7 +289,8 @@ public class AuthService {
         }
 
         // Atualizar senha
-        usuario.setPasswordHash(passwordEncoder.encode(dto.getNewPassword()));
+        String passwordHash = passwordHasher.encode(dto.getNewPassword());
+        usuario.setPasswordHash(passwordHash);
         usuario.limparResetToken();
         usuario.resetarTentativasLogin(); // Desbloquear conta se estava bloqueada
 
@@ -285,10 +302,11 @@ public class AuthService {
     /**
      * Altera a senha de um usuário autenticado.
      *
+     * <p>Verificação e hash BCrypt ocorrem fora de transação; só o {@code save} grava.</p>
+     *
      * @param dto Dados de alteração
      * @param email Email do usuário autenticado
      */
-    @Transactional
     public void changePassword(ChangePasswordDTO dto, String email) {
         log.info("Alterando senha: {}", email);
 
@@ -296,12 +314,13 @@ public class AuthService {
                 .orElseThrow(() -> new IllegalArgumentException("Usuário não encontrado"));
 
         // Verificar senha atual
-        if (!passwordEncoder.matches(dto.getOldPassword(), usuario.getPasswordHash())) {
+        if (!passwordHasher.matches(dto.getOldPassword(), usuario.getPasswordHash())) {
             throw new IllegalArgumentException("Senha atual incorreta");
         }
 
         // Atualizar senha
-        usuario.setPasswordHash(passwordEncoder.encode(dto.getNewPassword()));
+        String passwordHash = passwordHasher.encode(dto.getNewPassword());
+        usuario.setPasswordHash(passwordHash);
         usuarioRepository.save(usuario);
 
         log.info("Senha alterada com sucesso: {}", email);
@@ -6,11 +6,11 @@ import br.edu.ppg.hub.auth.application.dto.usuario.UsuarioResponseDTO;
 import br.edu.ppg.hub.auth.application.dto.usuario.UsuarioUpdateDTO;
 import br.edu.ppg.hub.auth.domain.model.Usuario;
 import br.edu.ppg.hub.auth.infrastructure.repository.UsuarioRepository;
+import br.edu.ppg.hub.auth.infrastructure.security.PasswordHasher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,7 +29,7 @@ public class UsuarioService {
 
     private final UsuarioRepository usuarioRepository;
     private final UsuarioMapper usuarioMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
 
     /**
      * Cria um novo usuário.
@@ -55,7 +55,7 @@ public class UsuarioService {
         Usuario usuario = usuarioMapper.toEntity(dto);
 
         // Encriptar senha
-        usuario.setPasswordHash(passwordEncoder.encode(dto.getPassword()));
+        usuario.setPasswordHash(passwordHasher.encode(dto.getPassword()));
 
         // Salvar
         Usuario saved = usuarioRepository.save(usuario);
@@ -136,14 +136,14 @@ public class UsuarioService {
      * Busca usuários pelo nome (busca parcial).
      *
      * @param nome Nome a buscar
-     * @return Lista de DTOs de resposta
+     * @param pageable Configuração de paginação
+     * @return Page de DTOs de resposta
      */
     @Transactional(readOnly = true)
-    public List<UsuarioResponseDTO> findByNome(String nome) {
+    public Page<UsuarioResponseDTO> findByNome(String nome, Pageable pageable) {
         log.debug("Buscando usuários por nome: {}", nome);
-        return usuarioRepository.findByNomeContaining(nome).stream()
-                .map(usuarioMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        return usuarioRepository.findByNomeContaining(nome, pageable)
+                .map(usuarioMapper::toResponseDTO);
     }
 
     /**
@@ -221,12 +221,12 @@ public class UsuarioService {
         Usuario usuario = findUsuarioById(id);
 
         // Verificar senha atual
-        if (!passwordEncoder.matches(oldPassword, usuario.getPasswordHash())) {
+        if (!passwordHasher.matches(oldPassword, usuario.getPasswordHash())) {
             throw new IllegalArgumentException("Senha atual incorreta");
         }
 
         // Atualizar senha
-        usuario.setPasswordHash(passwordEncoder.encode(newPassword));
+        usuario.setPasswordHash(passwordHasher.encode(newPassword));
         usuarioRepository.save(usuario);
 
         log.info("Senha alterada com sucesso para usuário ID: {}", id);
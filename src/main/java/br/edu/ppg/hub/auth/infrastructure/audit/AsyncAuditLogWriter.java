@@ -0,0 +1,313 @@
+package br.edu.ppg.hub.auth.infrastructure.audit;
+
+import br.edu.ppg.hub.shared.config.AuditConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gravador assíncrono de logs de auditoria.
+ *
+ * <p>Os eventos são enfileirados em um buffer circular limitado e gravados por uma
+ * thread dedicada em lotes, fora da transação e da thread do request. Cada lote é
+ * um único {@code INSERT ... SELECT FROM UNNEST}: o trigger de contadores de
+ * {@code audit_logs} roda uma vez por lote, e não uma vez por linha.</p>
+ *
+ * <p>Se o lote falhar, nada dele fica gravado e os eventos são regravados um a um,
+ * de modo que apenas as linhas com erro são perdidas (contadas em
+ * {@code ppg.audit.events.failed}).</p>
+ *
+ * <p>Política de backpressure: com o buffer cheio, o request aguarda até
+ * {@code ppg.audit.offer-timeout-ms}; esgotado o prazo, o próprio request grava
+ * o evento de forma síncrona (caller-runs). Nenhum evento é descartado.</p>
+ *
+ * <p>No desligamento, um marcador acorda a thread de gravação, que grava o lote em
+ * andamento; o buffer é drenado antes do fechamento do pool de conexões.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Component
+@Slf4j
+public class AsyncAuditLogWriter implements SmartLifecycle {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO auth.audit_logs
+                (usuario_id, acao, entidade, entidade_id, dados_anteriores, dados_novos,
+                 ip_address, user_agent, created_at)
+            VALUES (?, ?, ?, ?, CAST(? AS jsonb), CAST(? AS jsonb), CAST(? AS inet), ?, ?)
+            """;
+
+    private static final String INSERT_LOTE_SQL = """
+            INSERT INTO auth.audit_logs
+                (usuario_id, acao, entidade, entidade_id, dados_anteriores, dados_novos,
+                 ip_address, user_agent, created_at)
+            SELECT l.usuario_id, l.acao, l.entidade, l.entidade_id, CAST(l.dados_anteriores AS jsonb),
+                   CAST(l.dados_novos AS jsonb), CAST(l.ip_address AS inet), l.user_agent, l.created_at
+            FROM UNNEST(CAST(? AS BIGINT[]), CAST(? AS TEXT[]), CAST(? AS TEXT[]), CAST(? AS BIGINT[]),
+                        CAST(? AS TEXT[]), CAST(? AS TEXT[]), CAST(? AS TEXT[]), CAST(? AS TEXT[]),
+                        CAST(? AS TIMESTAMP[]))
+                AS l(usuario_id, acao, entidade, entidade_id, dados_anteriores, dados_novos,
+                     ip_address, user_agent, created_at)
+            """;
+
+    /**
+     * Marcador de parada: nunca é gravado
+     */
+    private static final AuditEvent PARADA = AuditEvent.builder().build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final AuditConfig auditConfig;
+    private final BlockingQueue<AuditEvent> buffer;
+
+    private final Counter eventosGravados;
+    private final Counter eventosSincronos;
+    private final Counter eventosComFalha;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AsyncAuditLogWriter(JdbcTemplate jdbcTemplate,
+                               ObjectMapper objectMapper,
+                               AuditConfig auditConfig,
+                               MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.auditConfig = auditConfig;
+        this.buffer = new ArrayBlockingQueue<>(auditConfig.getBufferCapacity());
+
+        Gauge.builder("ppg.audit.buffer.size", buffer, Collection::size)
+                .description("Eventos de auditoria aguardando gravação")
+                .register(meterRegistry);
+        this.eventosGravados = Counter.builder("ppg.audit.events.written")
+                .description("Eventos de auditoria gravados")
+                .register(meterRegistry);
+        this.eventosSincronos = Counter.builder("ppg.audit.events.caller_runs")
+                .description("Eventos gravados na thread do request por buffer cheio")
+                .register(meterRegistry);
+        this.eventosComFalha = Counter.builder("ppg.audit.events.failed")
+                .description("Eventos de auditoria não gravados por erro no banco")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Enfileira um evento para gravação assíncrona.
+     */
+    public void publicar(AuditEvent event) {
+        if (!running) {
+            gravarLote(List.of(event));
+            return;
+        }
+        try {
+            if (buffer.offer(event, auditConfig.getOfferTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+            log.warn("Buffer de auditoria cheio ({} eventos) - gravando de forma síncrona",
+                    auditConfig.getBufferCapacity());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        eventosSincronos.increment();
+        gravarLote(List.of(event));
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::processar, "ppg-audit-writer");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("Pipeline de auditoria iniciado (buffer={}, lote={}, flush={}ms)",
+                auditConfig.getBufferCapacity(), auditConfig.getBatchSize(), auditConfig.getFlushIntervalMs());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        buffer.offer(PARADA);
+        try {
+            worker.join(auditConfig.getShutdownTimeoutMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Eventos publicados durante a parada ou não processados pelo worker
+        List<AuditEvent> restantes = new ArrayList<>();
+        buffer.drainTo(restantes);
+        restantes.remove(PARADA);
+        if (!restantes.isEmpty()) {
+            gravarEmLotes(restantes);
+        }
+        log.info("Pipeline de auditoria encerrado - buffer drenado");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Para depois do servidor web (que para na fase DEFAULT_PHASE - 1024),
+     * garantindo que nenhum request em andamento publique após a drenagem.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /**
+     * Laço da thread de gravação: acumula eventos até completar o lote
+     * ou esgotar o intervalo de flush.
+     */
+    private void processar() {
+        int batchSize = auditConfig.getBatchSize();
+        List<AuditEvent> lote = new ArrayList<>(batchSize);
+
+        while (running || !buffer.isEmpty()) {
+            try {
+                AuditEvent primeiro = buffer.poll(auditConfig.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+                if (primeiro == null || primeiro == PARADA) {
+                    continue;
+                }
+                lote.add(primeiro);
+
+                long prazo = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(auditConfig.getFlushIntervalMs());
+                while (lote.size() < batchSize) {
+                    buffer.drainTo(lote, batchSize - lote.size());
+                    long restante = prazo - System.nanoTime();
+                    if (lote.size() >= batchSize || restante <= 0 || !running) {
+                        break;
+                    }
+                    AuditEvent proximo = buffer.poll(restante, TimeUnit.NANOSECONDS);
+                    if (proximo == null || proximo == PARADA) {
+                        break;
+                    }
+                    lote.add(proximo);
+                }
+                lote.remove(PARADA);
+
+                gravarLote(lote);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("Erro inesperado no pipeline de auditoria", e);
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+
+    private void gravarEmLotes(List<AuditEvent> eventos) {
+        int batchSize = auditConfig.getBatchSize();
+        for (int i = 0; i < eventos.size(); i += batchSize) {
+            gravarLote(eventos.subList(i, Math.min(i + batchSize, eventos.size())));
+        }
+    }
+
+    /**
+     * Serializa e grava um lote de eventos em um único INSERT; se o lote falhar,
+     * regrava os eventos um a um.
+     */
+    private void gravarLote(List<AuditEvent> eventos) {
+        int total = eventos.size();
+        List<Object[]> linhas = new ArrayList<>(total);
+        for (AuditEvent e : eventos) {
+            linhas.add(new Object[]{
+                    e.getUsuarioId(),
+                    e.getAcao(),
+                    e.getEntidade(),
+                    e.getEntidadeId(),
+                    toJson(e.getDadosAnteriores()),
+                    toJson(e.getDadosNovos()),
+                    e.getIpAddress(),
+                    e.getUserAgent(),
+                    Timestamp.valueOf(e.getCreatedAt())
+            });
+        }
+        try {
+            if (total == 1) {
+                jdbcTemplate.update(INSERT_SQL, linhas.get(0));
+            } else {
+                jdbcTemplate.update(INSERT_LOTE_SQL, colunas(linhas));
+            }
+            eventosGravados.increment(total);
+            log.debug("Lote de auditoria gravado: {} eventos", total);
+        } catch (Exception e) {
+            if (total == 1) {
+                eventosComFalha.increment();
+                log.error("Erro ao gravar evento de auditoria", e);
+                return;
+            }
+            log.warn("Erro ao gravar lote de auditoria com {} eventos - gravando um a um", total, e);
+            gravarIndividualmente(linhas);
+        }
+    }
+
+    /**
+     * Transpõe as linhas do lote em um array por coluna, na ordem de {@link #INSERT_LOTE_SQL}.
+     */
+    private Object[] colunas(List<Object[]> linhas) {
+        int total = linhas.size();
+        Long[] usuarios = new Long[total];
+        String[] acoes = new String[total];
+        String[] entidades = new String[total];
+        Long[] entidadeIds = new Long[total];
+        String[] anteriores = new String[total];
+        String[] novos = new String[total];
+        String[] ips = new String[total];
+        String[] userAgents = new String[total];
+        String[] datas = new String[total];
+        for (int i = 0; i < total; i++) {
+            Object[] linha = linhas.get(i);
+            usuarios[i] = (Long) linha[0];
+            acoes[i] = (String) linha[1];
+            entidades[i] = (String) linha[2];
+            entidadeIds[i] = (Long) linha[3];
+            anteriores[i] = (String) linha[4];
+            novos[i] = (String) linha[5];
+            ips[i] = (String) linha[6];
+            userAgents[i] = (String) linha[7];
+            datas[i] = linha[8].toString();
+        }
+        return new Object[]{usuarios, acoes, entidades, entidadeIds, anteriores, novos, ips, userAgents, datas};
+    }
+
+    private void gravarIndividualmente(List<Object[]> linhas) {
+        for (Object[] linha : linhas) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, linha);
+                eventosGravados.increment();
+            } catch (Exception e) {
+                eventosComFalha.increment();
+                log.error("Erro ao gravar evento de auditoria ({} em {} #{})", linha[1], linha[2], linha[3], e);
+            }
+        }
+    }
+
+    private String toJson(Object dados) {
+        if (dados == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(dados);
+        } catch (Exception e) {
+            log.error("Erro ao converter dados para JSON na auditoria", e);
+            return null;
+        }
+    }
+}
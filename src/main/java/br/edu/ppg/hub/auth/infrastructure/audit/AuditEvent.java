@@ -0,0 +1,35 @@
+package br.edu.ppg.hub.auth.infrastructure.audit;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento de auditoria capturado na thread do request.
+ *
+ * Guarda apenas referências e metadados da requisição; a serialização dos dados
+ * para JSON acontece na thread de gravação, fora do caminho crítico do request.
+ */
+@Getter
+@Builder
+public class AuditEvent {
+
+    private final Long usuarioId;
+
+    private final String acao;
+
+    private final String entidade;
+
+    private final Long entidadeId;
+
+    private final Object dadosAnteriores;
+
+    private final Object dadosNovos;
+
+    private final String ipAddress;
+
+    private final String userAgent;
+
+    private final LocalDateTime createdAt;
+}
@@ -0,0 +1,60 @@
+package br.edu.ppg.hub.auth.infrastructure.audit;
+
+import br.edu.ppg.hub.auth.application.service.AuditService;
+import br.edu.ppg.hub.shared.config.AuditConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Job agendado para manutenção das partições mensais de audit_logs.
+ * <p>
+ * Cria antecipadamente as partições dos próximos meses e, se configurada
+ * a retenção ({@code ppg.audit.retencao-dias}), remove as partições que
+ * saíram completamente do período de retenção.
+ * </p>
+ * <p>
+ * Configuração:
+ * - Cron: "0 30 0 * * *" - Todo dia às 00:30 (operação idempotente)
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class AuditPartitionJob {
+
+    private final AuditService auditService;
+    private final AuditConfig auditConfig;
+
+    /**
+     * Executa a manutenção das partições de auditoria.
+     */
+    @Scheduled(cron = "0 30 0 * * *")
+    public void manterParticoes() {
+        log.info("========================================");
+        log.info("Iniciando manutenção das partições de auditoria");
+        log.info("========================================");
+
+        try {
+            int criadas = auditService.criarParticoesFuturas(auditConfig.getParticoesMesesAFrente());
+            log.info("Partições criadas: {}", criadas);
+
+            if (auditConfig.getRetencaoDias() > 0) {
+                int removidas = auditService.limparLogsAntigos(auditConfig.getRetencaoDias());
+                log.info("Partições removidas: {}", removidas);
+            }
+
+            log.info("Manutenção das partições concluída");
+            log.info("========================================");
+
+        } catch (Exception e) {
+            log.error("========================================");
+            log.error("ERRO na manutenção das partições de auditoria: {}", e.getMessage(), e);
+            log.error("========================================");
+        }
+    }
+}
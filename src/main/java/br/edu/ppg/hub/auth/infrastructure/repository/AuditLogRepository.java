@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -49,25 +50,36 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
 
     /**
      * Busca logs recentes de um usuário.
+     * O limite em createdAt restringe a leitura às partições a partir de {@code desde}.
      */
-    @Query("SELECT a FROM AuditLog a WHERE a.usuario.id = :usuarioId ORDER BY a.createdAt DESC")
-    Page<AuditLog> findRecentByUsuario(@Param("usuarioId") Long usuarioId, Pageable pageable);
+    @Query("SELECT a FROM AuditLog a WHERE a.usuario.id = :usuarioId AND a.createdAt >= :desde " +
+           "ORDER BY a.createdAt DESC")
+    Page<AuditLog> findRecentByUsuario(
+            @Param("usuarioId") Long usuarioId,
+            @Param("desde") LocalDateTime desde,
+            Pageable pageable
+    );
 
     /**
      * Busca logs recentes de uma entidade.
+     * O limite em createdAt restringe a leitura às partições a partir de {@code desde}.
      */
-    @Query("SELECT a FROM AuditLog a WHERE a.entidade = :entidade AND a.entidadeId = :entidadeId ORDER BY a.createdAt DESC")
+    @Query("SELECT a FROM AuditLog a WHERE a.entidade = :entidade AND a.entidadeId = :entidadeId " +
+           "AND a.createdAt >= :desde ORDER BY a.createdAt DESC")
     List<AuditLog> findRecentByEntidade(
             @Param("entidade") String entidade,
             @Param("entidadeId") Long entidadeId,
+            @Param("desde") LocalDateTime desde,
             Pageable pageable
     );
 
     /**
      * Busca logs de ações críticas (CREATE, UPDATE, DELETE).
+     * O limite em createdAt restringe a leitura às partições a partir de {@code desde}.
      */
-    @Query("SELECT a FROM AuditLog a WHERE a.acao IN ('CREATE', 'UPDATE', 'DELETE') ORDER BY a.createdAt DESC")
-    Page<AuditLog> findCriticalActions(Pageable pageable);
+    @Query("SELECT a FROM AuditLog a WHERE a.acao IN ('CREATE', 'UPDATE', 'DELETE') AND a.createdAt >= :desde " +
+           "ORDER BY a.createdAt DESC")
+    Page<AuditLog> findCriticalActions(@Param("desde") LocalDateTime desde, Pageable pageable);
 
     /**
      * Conta logs por usuário.
@@ -75,12 +87,23 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
     long countByUsuarioId(Long usuarioId);
 
     /**
-     * Conta logs por ação.
+     * Totais por ação a partir dos contadores incrementais (sem varrer audit_logs).
+     * Retorna pares [acao, total].
+     */
+    @Query(value = "SELECT acao, SUM(total) FROM auth.audit_logs_contadores GROUP BY acao", nativeQuery = true)
+    List<Object[]> countGroupByAcao();
+
+    /**
+     * Garante partições mensais do mês informado até N meses à frente.
+     * Retorna a quantidade de partições criadas.
      */
-    long countByAcao(String acao);
+    @Query(value = "SELECT auth.criar_particoes_audit(CAST(:inicio AS DATE), :mesesAFrente)", nativeQuery = true)
+    Integer criarParticoes(@Param("inicio") LocalDate inicio, @Param("mesesAFrente") int mesesAFrente);
 
     /**
-     * Deleta logs antigos (para manutenção).
+     * Remove (DETACH + DROP) as partições mensais anteriores à data limite.
+     * Retorna a quantidade de partições removidas.
      */
-    void deleteByCreatedAtBefore(LocalDateTime dataLimite);
+    @Query(value = "SELECT auth.remover_particoes_audit(CAST(:dataLimite AS TIMESTAMP))", nativeQuery = true)
+    Integer removerParticoesAnteriores(@Param("dataLimite") LocalDateTime dataLimite);
 }
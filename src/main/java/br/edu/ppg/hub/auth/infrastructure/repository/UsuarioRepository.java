@@ -1,8 +1,11 @@
 package br.edu.ppg.hub.auth.infrastructure.repository;
 
 import br.edu.ppg.hub.auth.domain.model.Usuario;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -114,13 +117,17 @@ public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
     List<Usuario> findUsuariosComBloqueioExpirado(LocalDateTime agora);
 
     /**
-     * Busca usuários pelo nome (busca parcial).
+     * Busca usuários pelo nome (busca parcial, sem distinção de maiúsculas e acentos).
+     * Usa os índices trigram idx_usuarios_nome_busca e idx_usuarios_nome_preferido_busca.
      *
      * @param nome Nome a buscar
-     * @return Lista de usuários encontrados
+     * @param pageable Configuração de paginação
+     * @return Página de usuários encontrados
      */
-    @Query("SELECT u FROM Usuario u WHERE LOWER(u.nomeCompleto) LIKE LOWER(CONCAT('%', :nome, '%')) OR LOWER(u.nomePreferido) LIKE LOWER(CONCAT('%', :nome, '%'))")
-    List<Usuario> findByNomeContaining(String nome);
+    @Query("SELECT u FROM Usuario u WHERE " +
+           "function('core.normalizar_busca', u.nomeCompleto) LIKE CONCAT('%', function('core.normalizar_busca', :nome), '%') OR " +
+           "function('core.normalizar_busca', u.nomePreferido) LIKE CONCAT('%', function('core.normalizar_busca', :nome), '%')")
+    Page<Usuario> findByNomeContaining(@Param("nome") String nome, Pageable pageable);
 
     /**
      * Conta usuários ativos.
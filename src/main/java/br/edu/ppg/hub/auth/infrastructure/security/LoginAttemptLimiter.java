@@ -0,0 +1,175 @@
+package br.edu.ppg.hub.auth.infrastructure.security;
+
+import br.edu.ppg.hub.shared.config.LoginThrottleConfig;
+import br.edu.ppg.hub.shared.exception.TooManyRequestsException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limitador de tentativas de login em memória.
+ *
+ * <p>Mantém janelas deslizantes por IP (todas as tentativas) e por conta (apenas falhas).
+ * As verificações acontecem antes de qualquer acesso ao banco ou cálculo de BCrypt,
+ * de modo que rajadas de credential stuffing não consomem conexões do pool.</p>
+ *
+ * <p>O estado é local à instância; o bloqueio persistido em {@code auth.usuarios}
+ * continua sendo a referência entre instâncias.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoginAttemptLimiter {
+
+    private final LoginThrottleConfig config;
+
+    private final Map<String, JanelaDeslizante> janelasIp = new ConcurrentHashMap<>();
+    private final Map<String, JanelaDeslizante> janelasConta = new ConcurrentHashMap<>();
+
+    /**
+     * Verifica os limites e registra a tentativa do IP.
+     *
+     * @throws TooManyRequestsException se o IP ou a conta excederam o limite
+     */
+    public void verificarTentativa(String ip, String email) {
+        long agora = System.nanoTime();
+
+        JanelaDeslizante conta = janelasConta.get(normalizar(email));
+        if (conta != null) {
+            long espera = conta.esperaRestante(agora, janelaConta());
+            if (espera > 0) {
+                throw new TooManyRequestsException("Conta bloqueada. Tente novamente mais tarde.", segundos(espera));
+            }
+        }
+
+        if (ip != null) {
+            JanelaDeslizante janelaIp = obterJanela(janelasIp, ip, config.getIpMaxTentativas());
+            long espera = janelaIp.tentarRegistrar(agora, janelaIp());
+            if (espera > 0) {
+                log.warn("Limite de tentativas de login excedido para IP {}", ip);
+                throw new TooManyRequestsException("Muitas tentativas de login. Tente novamente mais tarde.", segundos(espera));
+            }
+        }
+    }
+
+    /**
+     * Registra falha de login de uma conta existente.
+     *
+     * @return true se a conta atingiu o limite de falhas e passou a ser bloqueada
+     */
+    public boolean registrarFalha(String email) {
+        long agora = System.nanoTime();
+        JanelaDeslizante conta = obterJanela(janelasConta, normalizar(email), config.getContaMaxFalhas());
+        conta.registrar(agora);
+        return conta.esperaRestante(agora, janelaConta()) > 0;
+    }
+
+    /**
+     * Limpa as falhas da conta após login bem-sucedido.
+     */
+    public void registrarSucesso(String email) {
+        janelasConta.remove(normalizar(email));
+    }
+
+    /**
+     * Remove janelas sem atividade recente.
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void limparJanelasExpiradas() {
+        long agora = System.nanoTime();
+        janelasIp.values().removeIf(j -> j.expirada(agora, janelaIp()));
+        janelasConta.values().removeIf(j -> j.expirada(agora, janelaConta()));
+    }
+
+    private JanelaDeslizante obterJanela(Map<String, JanelaDeslizante> janelas, String chave, int limite) {
+        JanelaDeslizante janela = janelas.get(chave);
+        if (janela != null) {
+            return janela;
+        }
+        if (janelas.size() >= config.getMaxChaves()) {
+            limparJanelasExpiradas();
+        }
+        return janelas.computeIfAbsent(chave, k -> new JanelaDeslizante(limite));
+    }
+
+    private long janelaIp() {
+        return TimeUnit.SECONDS.toNanos(config.getIpJanelaSegundos());
+    }
+
+    private long janelaConta() {
+        return TimeUnit.MINUTES.toNanos(config.getContaJanelaMinutos());
+    }
+
+    private static long segundos(long nanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(nanos) + 1);
+    }
+
+    private static String normalizar(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Janela deslizante exata: buffer circular com os instantes dos últimos N eventos.
+     * O limite é atingido quando o evento mais antigo do buffer ainda está dentro da janela.
+     */
+    static final class JanelaDeslizante {
+
+        private final long[] instantes;
+        private int proximo;
+        private int total;
+
+        JanelaDeslizante(int limite) {
+            this.instantes = new long[Math.max(1, limite)];
+        }
+
+        /**
+         * Registra o evento se houver espaço na janela.
+         *
+         * @return 0 se registrado, ou nanossegundos até liberar espaço
+         */
+        synchronized long tentarRegistrar(long agora, long janela) {
+            long espera = esperaRestante(agora, janela);
+            if (espera == 0) {
+                registrar(agora);
+            }
+            return espera;
+        }
+
+        synchronized void registrar(long agora) {
+            instantes[proximo] = agora;
+            proximo = (proximo + 1) % instantes.length;
+            if (total < instantes.length) {
+                total++;
+            }
+        }
+
+        /**
+         * Nanossegundos até o evento mais antigo sair da janela (0 se há espaço).
+         */
+        synchronized long esperaRestante(long agora, long janela) {
+            if (total < instantes.length) {
+                return 0;
+            }
+            long maisAntigo = instantes[proximo];
+            long decorrido = agora - maisAntigo;
+            return decorrido >= janela ? 0 : janela - decorrido;
+        }
+
+        synchronized boolean expirada(long agora, long janela) {
+            if (total == 0) {
+                return true;
+            }
+            int ultimo = (proximo - 1 + instantes.length) % instantes.length;
+            return agora - instantes[ultimo] >= janela;
+        }
+    }
+}
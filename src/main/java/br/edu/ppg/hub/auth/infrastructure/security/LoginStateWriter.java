@@ -0,0 +1,171 @@
+package br.edu.ppg.hub.auth.infrastructure.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persistência assíncrona do estado de login em {@code auth.usuarios}.
+ *
+ * <p>Falhas e sucessos são acumulados em memória e gravados a cada segundo com
+ * UPDATEs em lote, independentemente do volume de tentativas. Os triggers
+ * {@code usuario_bloquear_conta} e {@code usuario_reset_tentativas} aplicam o
+ * bloqueio e o desbloqueio no banco.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoginStateWriter {
+
+    private static final String UPDATE_FALHAS = """
+            UPDATE auth.usuarios u
+            SET tentativas_login = COALESCE(u.tentativas_login, 0) + v.falhas
+            FROM (SELECT UNNEST(CAST(? AS BIGINT[])) AS id, UNNEST(CAST(? AS INTEGER[])) AS falhas) v
+            WHERE u.id = v.id
+            """;
+
+    private static final String UPDATE_SUCESSOS = """
+            UPDATE auth.usuarios
+            SET ultimo_login = NOW()
+            WHERE id = ANY(CAST(? AS BIGINT[]))
+            """;
+
+    private static final String UPDATE_HASHES = """
+            UPDATE auth.usuarios u
+            SET password_hash = v.hash
+            FROM (SELECT UNNEST(CAST(? AS BIGINT[])) AS id, UNNEST(CAST(? AS TEXT[])) AS hash_anterior,
+                         UNNEST(CAST(? AS TEXT[])) AS hash) v
+            WHERE u.id = v.id
+              AND u.password_hash = v.hash_anterior
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Long, Integer> falhasPendentes = new ConcurrentHashMap<>();
+    private final Map<Long, Boolean> sucessosPendentes = new ConcurrentHashMap<>();
+    private final Map<Long, NovoHash> hashesPendentes = new ConcurrentHashMap<>();
+
+    /**
+     * Hash refeito e o hash a partir do qual foi verificado
+     */
+    private record NovoHash(String anterior, String hash) {
+    }
+
+    /**
+     * Agenda o incremento de tentativas de login do usuário.
+     */
+    public void registrarFalha(Long usuarioId) {
+        falhasPendentes.merge(usuarioId, 1, Integer::sum);
+    }
+
+    /**
+     * Agenda a atualização do último login (que reseta tentativas e bloqueio via trigger).
+     */
+    public void registrarSucesso(Long usuarioId) {
+        falhasPendentes.remove(usuarioId);
+        sucessosPendentes.put(usuarioId, Boolean.TRUE);
+    }
+
+    /**
+     * Agenda a troca do hash de senha refeito com o custo BCrypt atual.
+     * A troca só é gravada se o hash no banco ainda for {@code hashAnterior}: uma troca
+     * de senha feita enquanto o rehash aguardava o flush não é sobrescrita.
+     */
+    public void registrarNovoHash(Long usuarioId, String hashAnterior, String hash) {
+        hashesPendentes.put(usuarioId, new NovoHash(hashAnterior, hash));
+    }
+
+    /**
+     * Grava o estado acumulado.
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void flush() {
+        try {
+            gravarFalhas();
+            gravarSucessos();
+            gravarHashes();
+        } catch (Exception e) {
+            log.error("Erro ao gravar estado de login", e);
+        }
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        flush();
+    }
+
+    private void gravarFalhas() {
+        if (falhasPendentes.isEmpty()) {
+            return;
+        }
+        Map<Long, Integer> lote = new HashMap<>();
+        for (Long id : new ArrayList<>(falhasPendentes.keySet())) {
+            Integer falhas = falhasPendentes.remove(id);
+            if (falhas != null) {
+                lote.put(id, falhas);
+            }
+        }
+        if (lote.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = new ArrayList<>(lote.keySet());
+        Integer[] falhas = ids.stream().map(lote::get).toArray(Integer[]::new);
+        jdbcTemplate.update(UPDATE_FALHAS, ids.toArray(Long[]::new), falhas);
+        log.debug("Falhas de login gravadas para {} usuários", ids.size());
+    }
+
+    private void gravarSucessos() {
+        if (sucessosPendentes.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>();
+        for (Long id : new ArrayList<>(sucessosPendentes.keySet())) {
+            if (sucessosPendentes.remove(id) != null) {
+                ids.add(id);
+            }
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.update(UPDATE_SUCESSOS, (Object) ids.toArray(Long[]::new));
+        log.debug("Último login gravado para {} usuários", ids.size());
+    }
+
+    private void gravarHashes() {
+        if (hashesPendentes.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>();
+        List<String> anteriores = new ArrayList<>();
+        List<String> hashes = new ArrayList<>();
+        for (Long id : new ArrayList<>(hashesPendentes.keySet())) {
+            NovoHash novo = hashesPendentes.remove(id);
+            if (novo != null) {
+                ids.add(id);
+                anteriores.add(novo.anterior());
+                hashes.add(novo.hash());
+            }
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        int atualizados = jdbcTemplate.update(UPDATE_HASHES, ids.toArray(Long[]::new),
+                anteriores.toArray(String[]::new), hashes.toArray(String[]::new));
+        log.info("Hash de senha atualizado para o custo atual: {} de {} usuários", atualizados, ids.size());
+    }
+}
@@ -0,0 +1,174 @@
+package br.edu.ppg.hub.auth.infrastructure.security;
+
+import br.edu.ppg.hub.shared.config.PasswordHashingConfig;
+import br.edu.ppg.hub.shared.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor dedicado e limitado para hashing de senhas (BCrypt).
+ *
+ * <p>O BCrypt é CPU-bound: executá-lo nas threads do Tomcat permite que picos de
+ * login/cadastro consumam toda a CPU. Aqui os hashes rodam em um pool do tamanho
+ * do número de núcleos, com fila limitada. Com a fila cheia a requisição é
+ * rejeitada imediatamente com HTTP 429 (controle de admissão).</p>
+ *
+ * <p>Também detecta hashes gerados com custo diferente do configurado, permitindo
+ * refazer o hash de forma transparente no login.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Component
+@Slf4j
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingConfig config;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejeitados;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          PasswordHashingConfig config,
+                          MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.config = config;
+
+        int threads = config.getThreads() > 0 ? config.getThreads() : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequencia = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(config.getQueueCapacity()),
+                r -> {
+                    Thread t = new Thread(r, "ppg-password-hash-" + sequencia.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("ppg.password.hash.queue", executor, e -> e.getQueue().size())
+                .description("Hashes de senha aguardando execução")
+                .register(meterRegistry);
+        Gauge.builder("ppg.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hashes de senha em execução")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("ppg.password.hash")
+                .tag("operacao", "encode")
+                .tag("custo", String.valueOf(config.getBcryptStrength()))
+                .description("Tempo de CPU do BCrypt")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("ppg.password.hash")
+                .tag("operacao", "matches")
+                .tag("custo", String.valueOf(config.getBcryptStrength()))
+                .description("Tempo de CPU do BCrypt")
+                .register(meterRegistry);
+        this.rejeitados = Counter.builder("ppg.password.hash.rejected")
+                .description("Hashes rejeitados por fila cheia")
+                .register(meterRegistry);
+
+        log.info("Executor de hashing de senhas: {} threads, fila {}, custo BCrypt {}",
+                threads, config.getQueueCapacity(), config.getBcryptStrength());
+    }
+
+    /**
+     * Gera o hash da senha no executor dedicado.
+     */
+    public String encode(CharSequence senha) {
+        return aguardar(submeter(() -> encodeTimer.record(() -> passwordEncoder.encode(senha))));
+    }
+
+    /**
+     * Verifica a senha contra o hash no executor dedicado.
+     */
+    public boolean matches(CharSequence senha, String hash) {
+        Boolean resultado = aguardar(submeter(() -> matchesTimer.record(() -> passwordEncoder.matches(senha, hash))));
+        return Boolean.TRUE.equals(resultado);
+    }
+
+    /**
+     * Gera o hash sem bloquear o chamador (usado no rehash pós-login).
+     * Com o executor saturado, retorna um future já concluído com erro.
+     */
+    public CompletableFuture<String> encodeAsync(CharSequence senha) {
+        try {
+            return CompletableFuture.supplyAsync(() -> encodeTimer.record(() -> passwordEncoder.encode(senha)), executor);
+        } catch (RejectedExecutionException e) {
+            rejeitados.increment();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Indica se o hash foi gerado com custo diferente do configurado.
+     */
+    public boolean precisaRehash(String hash) {
+        // Formato BCrypt: $2a$12$<salt+hash>
+        if (hash == null || hash.length() < 7 || hash.charAt(0) != '$') {
+            return false;
+        }
+        int fim = hash.indexOf('$', 4);
+        if (fim < 0) {
+            return false;
+        }
+        try {
+            return Integer.parseInt(hash.substring(4, fim)) != config.getBcryptStrength();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdown();
+    }
+
+    private <T> Future<T> submeter(Callable<T> tarefa) {
+        try {
+            return executor.submit(tarefa);
+        } catch (RejectedExecutionException e) {
+            rejeitados.increment();
+            log.warn("Fila de hashing de senhas cheia ({}) - requisição rejeitada", config.getQueueCapacity());
+            throw new TooManyRequestsException("Servidor ocupado. Tente novamente em instantes.", 1);
+        }
+    }
+
+    private <T> T aguardar(Future<T> future) {
+        try {
+            return future.get(config.getTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // O BCrypt não responde a interrupção: um hash ainda na fila é descartado,
+            // mas um hash já em execução vai até o fim. O timeout limita a espera do
+            // chamador, não a CPU gasta; quem limita a CPU é o tamanho do pool.
+            future.cancel(false);
+            throw new TooManyRequestsException("Servidor ocupado. Tente novamente em instantes.", 1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Hashing de senha interrompido", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Erro no hashing de senha", e.getCause());
+        }
+    }
+}
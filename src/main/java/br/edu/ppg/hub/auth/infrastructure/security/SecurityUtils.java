@@ -1,6 +1,7 @@
 package br.edu.ppg.hub.auth.infrastructure.security;
 
 import br.edu.ppg.hub.auth.domain.model.Usuario;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -147,4 +148,21 @@ public class SecurityUtils {
     public static boolean isOwnerOrAdmin(Long usuarioId) {
         return isOwner(usuarioId) || hasAnyRole("ADMIN", "SUPERADMIN");
     }
+
+    /**
+     * Obtém IP do cliente.
+     *
+     * <p>Usa apenas o endereço da conexão: cabeçalhos como {@code X-Forwarded-For}
+     * podem ser forjados pelo cliente (e contornariam o limite de login por IP). Atrás
+     * de proxy reverso, o {@code RemoteIpValve} do Tomcat
+     * ({@code server.forward-headers-strategy: native}) substitui esse endereço pelo
+     * do cliente somente quando a conexão vem de um proxy confiável
+     * ({@code server.tomcat.remoteip.internal-proxies}).</p>
+     *
+     * @param request Requisição HTTP
+     * @return IP do cliente
+     */
+    public static String getClientIp(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
 }
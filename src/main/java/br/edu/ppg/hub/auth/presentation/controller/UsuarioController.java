@@ -153,19 +153,23 @@ public class UsuarioController {
      * Busca usuários por nome.
      *
      * @param nome Nome a buscar
-     * @return Lista de usuários encontrados
+     * @param pageable Configuração de paginação
+     * @return Página de usuários encontrados
      */
     @GetMapping("/search")
     @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'SECRETARIA')")
-    @Operation(summary = "Buscar Usuários por Nome", description = "Busca usuários pelo nome (busca parcial)")
+    @Operation(summary = "Buscar Usuários por Nome", description = "Busca usuários pelo nome (busca parcial, sem distinção de acentos), com paginação")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Lista de usuários encontrados"),
+            @ApiResponse(responseCode = "200", description = "Página de usuários encontrados"),
             @ApiResponse(responseCode = "401", description = "Não autenticado"),
             @ApiResponse(responseCode = "403", description = "Sem permissão")
     })
-    public ResponseEntity<List<UsuarioResponseDTO>> findByNome(@RequestParam String nome) {
+    public ResponseEntity<Page<UsuarioResponseDTO>> findByNome(
+            @RequestParam String nome,
+            @PageableDefault(size = 20, sort = "nomeCompleto") Pageable pageable
+    ) {
         log.info("GET /api/v1/usuarios/search?nome={}", nome);
-        List<UsuarioResponseDTO> usuarios = usuarioService.findByNome(nome);
+        Page<UsuarioResponseDTO> usuarios = usuarioService.findByNome(nome, pageable);
         return ResponseEntity.ok(usuarios);
     }
 
@@ -1,5 +1,7 @@
 package br.edu.ppg.hub.config;
 
+import br.edu.ppg.hub.academic.application.service.EstatisticasProgramaService;
+import br.edu.ppg.hub.academic.infrastructure.curriculum.MapaCurricular;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -29,12 +31,23 @@ public class CacheConfig {
      * - Expiração após 7 dias sem acesso
      * - Usado para cachear dados da API OpenAlex
      *
+     * Caches de estatísticas por programa (docentes e discentes):
+     * - Máximo de 500 programas
+     * - Invalidados por eventos de domínio; expiram após 1 hora como rede de segurança
+     *
+     * Cache de disciplinas aprovadas por discente (validação de pré-requisitos):
+     * - Máximo de 20000 discentes
+     * - Invalidado quando resultados são lançados; expira após 12 horas
+     *
      * @return CacheManager configurado
      */
     @Bean
     public CacheManager cacheManager() {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager("openalex");
         cacheManager.setCaffeine(caffeineCacheBuilder());
+        cacheManager.registerCustomCache(EstatisticasProgramaService.CACHE_DOCENTES, estatisticasCacheBuilder().build());
+        cacheManager.registerCustomCache(EstatisticasProgramaService.CACHE_DISCENTES, estatisticasCacheBuilder().build());
+        cacheManager.registerCustomCache(MapaCurricular.CACHE_APROVADAS, aprovacoesCacheBuilder().build());
         return cacheManager;
     }
 
@@ -49,4 +62,28 @@ public class CacheConfig {
                 .expireAfterWrite(7, TimeUnit.DAYS)         // Expira após 7 dias
                 .recordStats();                              // Habilita estatísticas
     }
+
+    /**
+     * Configura o Caffeine cache builder das estatísticas por programa.
+     *
+     * @return Caffeine configurado
+     */
+    private Caffeine<Object, Object> estatisticasCacheBuilder() {
+        return Caffeine.newBuilder()
+                .maximumSize(500)                           // Um registro por programa
+                .expireAfterWrite(1, TimeUnit.HOURS)        // Rede de segurança além dos eventos
+                .recordStats();
+    }
+
+    /**
+     * Configura o Caffeine cache builder das disciplinas aprovadas por discente.
+     *
+     * @return Caffeine configurado
+     */
+    private Caffeine<Object, Object> aprovacoesCacheBuilder() {
+        return Caffeine.newBuilder()
+                .maximumSize(20000)                         // Um registro por discente
+                .expireAfterWrite(12, TimeUnit.HOURS)       // Rede de segurança além dos eventos
+                .recordStats();
+    }
 }
@@ -0,0 +1,69 @@
+package br.edu.ppg.hub.core.application.service;
+
+import br.edu.ppg.hub.core.domain.enums.TipoResultadoBusca;
+import br.edu.ppg.hub.core.infrastructure.repository.BuscaUnificadaRepository;
+import br.edu.ppg.hub.core.infrastructure.repository.BuscaUnificadaRepository.ResultadoBusca;
+import br.edu.ppg.hub.shared.config.BuscaConfig;
+import br.edu.ppg.hub.shared.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Service da busca unificada por nome (usuários, instituições, programas e linhas de pesquisa).
+ * Sem distinção de maiúsculas e acentos, ordenada por similaridade.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BuscaUnificadaService {
+
+    /**
+     * Termos com menos de 3 caracteres não formam trigramas e varreriam os índices inteiros.
+     */
+    static final int TAMANHO_MINIMO_TERMO = 3;
+
+    private final BuscaUnificadaRepository buscaUnificadaRepository;
+    private final BuscaConfig config;
+
+    /**
+     * Busca paginada, ordenada por score (a ordenação do Pageable é ignorada).
+     * A contagem só é executada quando a página não revela o total.
+     */
+    public Page<ResultadoBusca> buscar(String termo, Set<TipoResultadoBusca> tipos, Pageable pageable) {
+        String normalizado = termo == null ? "" : termo.strip();
+        if (normalizado.length() < TAMANHO_MINIMO_TERMO) {
+            throw new BusinessException("O termo de busca deve ter ao menos " + TAMANHO_MINIMO_TERMO + " caracteres");
+        }
+        Set<TipoResultadoBusca> alvo = tiposOuTodos(tipos);
+        log.debug("Busca unificada: termo='{}', tipos={}, página={}", normalizado, alvo, pageable);
+
+        List<ResultadoBusca> conteudo = buscaUnificadaRepository.buscar(
+                normalizado, alvo, (int) pageable.getOffset(), pageable.getPageSize());
+        return PageableExecutionUtils.getPage(conteudo, pageable,
+                () -> buscaUnificadaRepository.contar(normalizado, alvo));
+    }
+
+    /**
+     * Sugestões para digitação (type-ahead): os melhores resultados dentro do orçamento de latência.
+     * Termos curtos demais retornam lista vazia em vez de erro.
+     */
+    public List<ResultadoBusca> autocompletar(String termo, Set<TipoResultadoBusca> tipos) {
+        String normalizado = termo == null ? "" : termo.strip();
+        if (normalizado.length() < TAMANHO_MINIMO_TERMO) {
+            return List.of();
+        }
+        return buscaUnificadaRepository.autocompletar(normalizado, tiposOuTodos(tipos), config.getAutocompletarMax());
+    }
+
+    private Set<TipoResultadoBusca> tiposOuTodos(Set<TipoResultadoBusca> tipos) {
+        return tipos == null || tipos.isEmpty() ? EnumSet.allOf(TipoResultadoBusca.class) : EnumSet.copyOf(tipos);
+    }
+}
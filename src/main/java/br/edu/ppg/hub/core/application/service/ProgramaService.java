@@ -7,6 +7,7 @@ import br.edu.ppg.hub.core.application.dto.programa.ProgramaMapper;
 import br.edu.ppg.hub.core.application.dto.programa.ProgramaResponseDTO;
 import br.edu.ppg.hub.core.application.dto.programa.ProgramaUpdateDTO;
 import br.edu.ppg.hub.core.domain.enums.StatusPrograma;
+import br.edu.ppg.hub.core.domain.event.ProgramaAlteradoEvent;
 import br.edu.ppg.hub.core.domain.model.Instituicao;
 import br.edu.ppg.hub.core.domain.model.Programa;
 import br.edu.ppg.hub.core.infrastructure.repository.InstituicaoRepository;
@@ -15,6 +16,7 @@ import br.edu.ppg.hub.shared.exception.ResourceNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -34,6 +36,7 @@ public class ProgramaService {
     private final InstituicaoRepository instituicaoRepository;
     private final UsuarioRepository usuarioRepository;
     private final ProgramaMapper programaMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Busca todos os programas com paginação.
@@ -128,6 +131,7 @@ public class ProgramaService {
         // Criar programa
         Programa programa = programaMapper.toEntity(dto, instituicao, coordenador, coordenadorAdjunto);
         Programa saved = programaRepository.save(programa);
+        eventPublisher.publishEvent(new ProgramaAlteradoEvent(saved.getId()));
 
         log.info("Programa criado com sucesso: {} (ID: {})", saved.getNome(), saved.getId());
         return programaMapper.toResponseDTO(saved);
@@ -173,6 +177,7 @@ public class ProgramaService {
         // Atualizar programa
         programaMapper.updateEntity(programa, dto, coordenador, coordenadorAdjunto);
         Programa updated = programaRepository.save(programa);
+        eventPublisher.publishEvent(new ProgramaAlteradoEvent(updated.getId()));
 
         log.info("Programa atualizado com sucesso: {} (ID: {})", updated.getNome(), updated.getId());
         return programaMapper.toResponseDTO(updated);
@@ -190,6 +195,7 @@ public class ProgramaService {
         }
 
         programaRepository.deleteById(id);
+        eventPublisher.publishEvent(new ProgramaAlteradoEvent(id));
         log.info("Programa deletado com sucesso: ID {}", id);
     }
 
@@ -205,6 +211,7 @@ public class ProgramaService {
 
         programa.setStatus(StatusPrograma.ATIVO);
         Programa updated = programaRepository.save(programa);
+        eventPublisher.publishEvent(new ProgramaAlteradoEvent(updated.getId()));
 
         log.info("Programa ativado: {} (ID: {})", updated.getNome(), updated.getId());
         return programaMapper.toResponseDTO(updated);
@@ -222,6 +229,7 @@ public class ProgramaService {
 
         programa.setStatus(StatusPrograma.SUSPENSO);
         Programa updated = programaRepository.save(programa);
+        eventPublisher.publishEvent(new ProgramaAlteradoEvent(updated.getId()));
 
         log.info("Programa suspenso: {} (ID: {})", updated.getNome(), updated.getId());
         return programaMapper.toResponseDTO(updated);
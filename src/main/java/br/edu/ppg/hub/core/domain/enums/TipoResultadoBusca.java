@@ -0,0 +1,26 @@
+package br.edu.ppg.hub.core.domain.enums;
+
+/**
+ * Tipo de registro retornado pela busca unificada.
+ */
+public enum TipoResultadoBusca {
+    /**
+     * Usuário (pessoa) ativo.
+     */
+    USUARIO,
+
+    /**
+     * Instituição de ensino ativa.
+     */
+    INSTITUICAO,
+
+    /**
+     * Programa de pós-graduação.
+     */
+    PROGRAMA,
+
+    /**
+     * Linha de pesquisa ativa.
+     */
+    LINHA_PESQUISA
+}
@@ -0,0 +1,13 @@
+package br.edu.ppg.hub.core.domain.event;
+
+/**
+ * Evento publicado quando um programa é criado, alterado, ativado, suspenso ou excluído.
+ *
+ * <p>Leva apenas o id: os interessados recarregam o estado atual após o commit
+ * (programa inexistente significa exclusão).</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public record ProgramaAlteradoEvent(Long programaId) {
+}
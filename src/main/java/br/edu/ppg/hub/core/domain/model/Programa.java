@@ -95,7 +95,7 @@ public class Programa {
      * Modalidade: Presencial, EAD ou Semipresencial.
      */
     @Enumerated(EnumType.STRING)
-    @Column(length = 50, columnDefinition = "VARCHAR(50) DEFAULT 'Presencial'")
+    @Column(length = 50, columnDefinition = "VARCHAR(50) DEFAULT 'PRESENCIAL'")
     private ModalidadePrograma modalidade = ModalidadePrograma.PRESENCIAL;
 
     /**
@@ -185,7 +185,7 @@ public class Programa {
      * Status do programa: Ativo, Suspenso ou Descredenciado.
      */
     @Enumerated(EnumType.STRING)
-    @Column(length = 50, columnDefinition = "VARCHAR(50) DEFAULT 'Ativo'")
+    @Column(length = 50, columnDefinition = "VARCHAR(50) DEFAULT 'ATIVO'")
     private StatusPrograma status = StatusPrograma.ATIVO;
 
     /**
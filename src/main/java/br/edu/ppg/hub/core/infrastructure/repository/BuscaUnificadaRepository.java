@@ -0,0 +1,192 @@
+package br.edu.ppg.hub.core.infrastructure.repository;
+
+import br.edu.ppg.hub.core.domain.enums.TipoResultadoBusca;
+import br.edu.ppg.hub.shared.config.BuscaConfig;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Busca por nome em usuários, instituições, programas e linhas de pesquisa.
+ *
+ * <p>Termo e colunas passam por core.normalizar_busca (minúsculas, sem acentos),
+ * a mesma expressão dos índices trigram de V12. Um registro casa quando o termo é
+ * substring do nome (LIKE '%termo%') ou quando a similaridade de palavra
+ * (operador {@code <%}) atinge o limiar; ambos os predicados usam os índices GIN.
+ * O score é a maior word_similarity entre o termo e as colunas do registro.</p>
+ *
+ * <p>Cada consulta roda em transação própria, só leitura, para que o limiar e o
+ * statement_timeout valham apenas para ela (set_config local).</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Repository
+public class BuscaUnificadaRepository {
+
+    private static final String TERMO = "core.normalizar_busca(:termo)";
+    private static final String PADRAO = "'%' || core.normalizar_busca(:termoLike) || '%'";
+
+    private static final Map<TipoResultadoBusca, String> RAMOS = new EnumMap<>(TipoResultadoBusca.class);
+
+    static {
+        RAMOS.put(TipoResultadoBusca.USUARIO, ramo("USUARIO",
+                "u.id", "u.nome_completo", "u.email",
+                "auth.usuarios u", "u.ativo = true",
+                "u.nome_completo", "u.nome_preferido"));
+        RAMOS.put(TipoResultadoBusca.INSTITUICAO, ramo("INSTITUICAO",
+                "i.id", "i.nome_completo", "i.sigla",
+                "core.instituicoes i", "i.ativo = true",
+                "i.nome_completo", "i.nome_abreviado", "i.sigla", "i.codigo"));
+        RAMOS.put(TipoResultadoBusca.PROGRAMA, ramo("PROGRAMA",
+                "p.id", "p.nome", "p.sigla",
+                "core.programas p", "true",
+                "p.nome", "p.sigla"));
+        RAMOS.put(TipoResultadoBusca.LINHA_PESQUISA, ramo("LINHA_PESQUISA",
+                "l.id", "l.nome", "lp.sigla",
+                "core.linhas_pesquisa l JOIN core.programas lp ON lp.id = l.programa_id", "l.ativa = true",
+                "l.nome"));
+    }
+
+    private static final RowMapper<ResultadoBusca> RESULTADO = (rs, i) -> new ResultadoBusca(
+            TipoResultadoBusca.valueOf(rs.getString("tipo")),
+            rs.getLong("id"),
+            rs.getString("nome"),
+            rs.getString("descricao"),
+            rs.getDouble("score"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final BuscaConfig config;
+    private final TransactionTemplate transacaoLeitura;
+
+    public BuscaUnificadaRepository(NamedParameterJdbcTemplate jdbcTemplate,
+                                    BuscaConfig config,
+                                    PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = config;
+        this.transacaoLeitura = new TransactionTemplate(transactionManager);
+        this.transacaoLeitura.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transacaoLeitura.setReadOnly(true);
+    }
+
+    /**
+     * Página de resultados ordenada por score.
+     */
+    public List<ResultadoBusca> buscar(String termo, Set<TipoResultadoBusca> tipos, int offset, int limite) {
+        String sql = "SELECT * FROM (" + uniao(tipos) + ") r " +
+                     "ORDER BY r.score DESC, r.nome, r.tipo, r.id " +
+                     "LIMIT :limite OFFSET :offset";
+        MapSqlParameterSource params = parametros(termo)
+                .addValue("limite", limite)
+                .addValue("offset", offset);
+
+        return transacaoLeitura.execute(status -> {
+            configurarLimiar();
+            return jdbcTemplate.query(sql, params, RESULTADO);
+        });
+    }
+
+    /**
+     * Total de registros que casam com o termo.
+     */
+    public long contar(String termo, Set<TipoResultadoBusca> tipos) {
+        String sql = "SELECT COUNT(*) FROM (" + uniao(tipos) + ") r";
+
+        Long total = transacaoLeitura.execute(status -> {
+            configurarLimiar();
+            return jdbcTemplate.queryForObject(sql, parametros(termo), Long.class);
+        });
+        return total != null ? total : 0;
+    }
+
+    /**
+     * Os k registros de maior score, limitados a autocompletar-timeout-ms.
+     * Cada tipo contribui no máximo com k candidatos antes da ordenação final.
+     *
+     * @return sugestões, ou lista vazia se o orçamento de tempo estourar
+     */
+    public List<ResultadoBusca> autocompletar(String termo, Set<TipoResultadoBusca> tipos, int k) {
+        String sql = tipos.stream()
+                .map(tipo -> "(" + RAMOS.get(tipo) + " ORDER BY score DESC LIMIT :limite)")
+                .collect(Collectors.joining(" UNION ALL ",
+                        "SELECT * FROM (", ") r ORDER BY r.score DESC, r.nome LIMIT :limite"));
+        MapSqlParameterSource params = parametros(termo).addValue("limite", k);
+
+        try {
+            return transacaoLeitura.execute(status -> {
+                configurarLimiar();
+                jdbcTemplate.queryForObject("SELECT set_config('statement_timeout', :timeout, true)",
+                        new MapSqlParameterSource("timeout", config.getAutocompletarTimeoutMs() + "ms"),
+                        String.class);
+                return jdbcTemplate.query(sql, params, RESULTADO);
+            });
+        } catch (QueryTimeoutException e) {
+            // Cancelada pelo statement_timeout: sem sugestões nesta tecla
+            return List.of();
+        }
+    }
+
+    private void configurarLimiar() {
+        jdbcTemplate.queryForObject("SELECT set_config('pg_trgm.word_similarity_threshold', :limiar, true)",
+                new MapSqlParameterSource("limiar", String.valueOf(config.getLimiarSimilaridade())),
+                String.class);
+    }
+
+    private static String uniao(Set<TipoResultadoBusca> tipos) {
+        return tipos.stream()
+                .map(RAMOS::get)
+                .collect(Collectors.joining(" UNION ALL "));
+    }
+
+    private static MapSqlParameterSource parametros(String termo) {
+        return new MapSqlParameterSource()
+                .addValue("termo", termo)
+                .addValue("termoLike", escaparLike(termo));
+    }
+
+    /**
+     * Escapa os curingas do LIKE para que o termo seja tratado literalmente.
+     */
+    static String escaparLike(String termo) {
+        return termo.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * SELECT de um tipo: casa por substring ou similaridade em qualquer das colunas.
+     */
+    private static String ramo(String tipo, String id, String nome, String descricao,
+                               String from, String filtro, String... colunas) {
+        StringBuilder casa = new StringBuilder();
+        StringBuilder score = new StringBuilder();
+        for (String coluna : colunas) {
+            String normalizada = "core.normalizar_busca(" + coluna + ")";
+            if (!casa.isEmpty()) {
+                casa.append(" OR ");
+                score.append(", ");
+            }
+            casa.append(normalizada).append(" LIKE ").append(PADRAO)
+                .append(" OR ").append(TERMO).append(" <% ").append(normalizada);
+            score.append("COALESCE(word_similarity(").append(TERMO).append(", ").append(normalizada).append("), 0)");
+        }
+        return "SELECT '" + tipo + "' AS tipo, " + id + " AS id, " + nome + " AS nome, "
+               + descricao + " AS descricao, GREATEST(" + score + ") AS score "
+               + "FROM " + from + " WHERE " + filtro + " AND (" + casa + ")";
+    }
+
+    /**
+     * Registro encontrado pela busca
+     */
+    public record ResultadoBusca(TipoResultadoBusca tipo, Long id, String nome, String descricao, double score) {
+    }
+}
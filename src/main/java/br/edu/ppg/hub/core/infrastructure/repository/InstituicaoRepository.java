@@ -68,23 +68,23 @@ public interface InstituicaoRepository extends JpaRepository<Instituicao, Long>
 
     /**
      * Busca instituições por termo livre (busca em múltiplos campos)
-     * Busca no código, nome completo, nome abreviado e sigla
+     * Busca no código, nome completo, nome abreviado e sigla, sem distinção de maiúsculas e acentos
      */
     @Query("SELECT i FROM Instituicao i WHERE " +
-           "LOWER(i.codigo) LIKE LOWER(CONCAT('%', :termo, '%')) OR " +
-           "LOWER(i.nomeCompleto) LIKE LOWER(CONCAT('%', :termo, '%')) OR " +
-           "LOWER(i.nomeAbreviado) LIKE LOWER(CONCAT('%', :termo, '%')) OR " +
-           "LOWER(i.sigla) LIKE LOWER(CONCAT('%', :termo, '%'))")
+           "function('core.normalizar_busca', i.codigo) LIKE CONCAT('%', function('core.normalizar_busca', :termo), '%') OR " +
+           "function('core.normalizar_busca', i.nomeCompleto) LIKE CONCAT('%', function('core.normalizar_busca', :termo), '%') OR " +
+           "function('core.normalizar_busca', i.nomeAbreviado) LIKE CONCAT('%', function('core.normalizar_busca', :termo), '%') OR " +
+           "function('core.normalizar_busca', i.sigla) LIKE CONCAT('%', function('core.normalizar_busca', :termo), '%')")
     Page<Instituicao> searchByTermo(@Param("termo") String termo, Pageable pageable);
 
     /**
      * Busca instituições ativas por termo livre
      */
     @Query("SELECT i FROM Instituicao i WHERE i.ativo = true AND (" +
-           "LOWER(i.codigo) LIKE LOWER(CONCAT('%', :termo, '%')) OR " +
-           "LOWER(i.nomeCompleto) LIKE LOWER(CONCAT('%', :termo, '%')) OR " +
-           "LOWER(i.nomeAbreviado) LIKE LOWER(CONCAT('%', :termo, '%')) OR " +
-           "LOWER(i.sigla) LIKE LOWER(CONCAT('%', :termo, '%')))")
+           "function('core.normalizar_busca', i.codigo) LIKE CONCAT('%', function('core.normalizar_busca', :termo), '%') OR " +
+           "function('core.normalizar_busca', i.nomeCompleto) LIKE CONCAT('%', function('core.normalizar_busca', :termo), '%') OR " +
+           "function('core.normalizar_busca', i.nomeAbreviado) LIKE CONCAT('%', function('core.normalizar_busca', :termo), '%') OR " +
+           "function('core.normalizar_busca', i.sigla) LIKE CONCAT('%', function('core.normalizar_busca', :termo), '%'))")
     Page<Instituicao> searchAtivasByTermo(@Param("termo") String termo, Pageable pageable);
 
     /**
@@ -43,15 +43,18 @@ public interface LinhaPesquisaRepository extends JpaRepository<LinhaPesquisa, Lo
     boolean existsByProgramaIdAndNome(Long programaId, String nome);
 
     /**
-     * Busca linhas por nome (busca parcial, case insensitive).
+     * Busca linhas por nome (busca parcial, sem distinção de maiúsculas e acentos).
+     * Usa o índice trigram idx_linhas_nome_busca.
      */
-    @Query("SELECT l FROM LinhaPesquisa l WHERE LOWER(l.nome) LIKE LOWER(CONCAT('%', :nome, '%'))")
+    @Query("SELECT l FROM LinhaPesquisa l WHERE " +
+           "function('core.normalizar_busca', l.nome) LIKE CONCAT('%', function('core.normalizar_busca', :nome), '%')")
     Page<LinhaPesquisa> findByNomeContainingIgnoreCase(@Param("nome") String nome, Pageable pageable);
 
     /**
      * Busca linhas por palavras-chave.
      */
-    @Query("SELECT l FROM LinhaPesquisa l WHERE LOWER(l.palavrasChave) LIKE LOWER(CONCAT('%', :palavra, '%'))")
+    @Query("SELECT l FROM LinhaPesquisa l WHERE " +
+           "function('core.normalizar_busca', l.palavrasChave) LIKE CONCAT('%', function('core.normalizar_busca', :palavra), '%')")
     Page<LinhaPesquisa> findByPalavrasChaveContainingIgnoreCase(@Param("palavra") String palavra, Pageable pageable);
 
     /**
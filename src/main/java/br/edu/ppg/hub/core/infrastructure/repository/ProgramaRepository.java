@@ -2,6 +2,7 @@ package br.edu.ppg.hub.core.infrastructure.repository;
 
 import br.edu.ppg.hub.core.domain.enums.StatusPrograma;
 import br.edu.ppg.hub.core.domain.model.Programa;
+import br.edu.ppg.hub.core.infrastructure.repository.projection.ProgramaAutocompletarProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -59,15 +60,18 @@ public interface ProgramaRepository extends JpaRepository<Programa, Long> {
     boolean existsByCodigoCapes(String codigoCapes);
 
     /**
-     * Busca programas por nome (busca parcial, case insensitive).
+     * Busca programas por nome (busca parcial, sem distinção de maiúsculas e acentos).
+     * Usa o índice trigram idx_programas_nome_busca.
      */
-    @Query("SELECT p FROM Programa p WHERE LOWER(p.nome) LIKE LOWER(CONCAT('%', :nome, '%'))")
+    @Query("SELECT p FROM Programa p WHERE " +
+           "function('core.normalizar_busca', p.nome) LIKE CONCAT('%', function('core.normalizar_busca', :nome), '%')")
     Page<Programa> findByNomeContainingIgnoreCase(@Param("nome") String nome, Pageable pageable);
 
     /**
      * Busca programas por área de concentração.
      */
-    @Query("SELECT p FROM Programa p WHERE LOWER(p.areaConcentracao) LIKE LOWER(CONCAT('%', :area, '%'))")
+    @Query("SELECT p FROM Programa p WHERE " +
+           "function('core.normalizar_busca', p.areaConcentracao) LIKE CONCAT('%', function('core.normalizar_busca', :area), '%')")
     Page<Programa> findByAreaConcentracaoContainingIgnoreCase(@Param("area") String area, Pageable pageable);
 
     /**
@@ -79,4 +83,17 @@ public interface ProgramaRepository extends JpaRepository<Programa, Long> {
      * Conta programas ativos por instituição.
      */
     long countByInstituicaoIdAndStatus(Long instituicaoId, StatusPrograma status);
+
+    /**
+     * Programas ativos para a carga do índice de autocompletar.
+     */
+    @Query("SELECT p.id AS id, p.sigla AS sigla, p.nome AS nome FROM Programa p WHERE p.status = 'ATIVO'")
+    List<ProgramaAutocompletarProjection> findItensAutocompletar();
+
+    /**
+     * Programa para atualização do índice de autocompletar (vazio se inexistente ou inativo).
+     */
+    @Query("SELECT p.id AS id, p.sigla AS sigla, p.nome AS nome FROM Programa p " +
+           "WHERE p.status = 'ATIVO' AND p.id = :id")
+    Optional<ProgramaAutocompletarProjection> findItemAutocompletar(@Param("id") Long id);
 }
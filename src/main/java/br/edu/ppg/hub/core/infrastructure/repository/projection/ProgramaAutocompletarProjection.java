@@ -0,0 +1,16 @@
+package br.edu.ppg.hub.core.infrastructure.repository.projection;
+
+/**
+ * Dados mínimos de programa para o índice de autocompletar.
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public interface ProgramaAutocompletarProjection {
+
+    Long getId();
+
+    String getSigla();
+
+    String getNome();
+}
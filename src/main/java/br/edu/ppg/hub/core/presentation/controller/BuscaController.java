@@ -0,0 +1,52 @@
+package br.edu.ppg.hub.core.presentation.controller;
+
+import br.edu.ppg.hub.core.application.service.BuscaUnificadaService;
+import br.edu.ppg.hub.core.domain.enums.TipoResultadoBusca;
+import br.edu.ppg.hub.core.infrastructure.repository.BuscaUnificadaRepository.ResultadoBusca;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Controller da busca unificada de pessoas e instituições.
+ */
+@RestController
+@RequestMapping("/api/v1/busca")
+@RequiredArgsConstructor
+@Tag(name = "Busca", description = "Busca unificada por nome em usuários, instituições, programas e linhas de pesquisa")
+@SecurityRequirement(name = "bearerAuth")
+public class BuscaController {
+
+    private final BuscaUnificadaService buscaUnificadaService;
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'SECRETARIA', 'DOCENTE')")
+    @Operation(summary = "Busca por nome, sem distinção de acentos, ordenada por similaridade")
+    public ResponseEntity<Page<ResultadoBusca>> buscar(
+            @RequestParam String termo,
+            @RequestParam(required = false) Set<TipoResultadoBusca> tipos,
+            @PageableDefault(size = 20) Pageable pageable
+    ) {
+        return ResponseEntity.ok(buscaUnificadaService.buscar(termo, tipos, pageable));
+    }
+
+    @GetMapping("/autocompletar")
+    @PreAuthorize("hasAnyRole('ADMIN', 'COORDENADOR', 'SECRETARIA', 'DOCENTE')")
+    @Operation(summary = "Sugestões de nomes para digitação (melhores resultados com latência limitada)")
+    public ResponseEntity<List<ResultadoBusca>> autocompletar(
+            @RequestParam String termo,
+            @RequestParam(required = false) Set<TipoResultadoBusca> tipos
+    ) {
+        return ResponseEntity.ok(buscaUnificadaService.autocompletar(termo, tipos));
+    }
+}
@@ -0,0 +1,147 @@
+package br.edu.ppg.hub.integration.capes.controller;
+
+import br.edu.ppg.hub.integration.capes.dto.ExportacaoCapesDTO;
+import br.edu.ppg.hub.integration.capes.service.ExportacaoCapesService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Controller REST da exportação anual de dados para a CAPES (Sucupira).
+ * <p>
+ * Endpoints disponíveis:
+ * - POST /programa/{id}?anoBase= - Solicitar exportação (gerada em segundo plano)
+ * - GET /programa/{id} - Exportações recentes do programa
+ * - GET /{id} - Situação da exportação
+ * - GET /{id}/pacote.zip - Pacote ZIP com os CSVs da exportação concluída
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@RestController
+@RequestMapping("/api/v1/capes/exportacoes")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Exportação CAPES", description = "APIs para exportação anual de dados para a CAPES (Sucupira)")
+@SecurityRequirement(name = "bearer-jwt")
+public class ExportacaoCapesController {
+
+    private static final MediaType APPLICATION_ZIP = MediaType.parseMediaType("application/zip");
+
+    private final ExportacaoCapesService exportacaoCapesService;
+
+    /**
+     * Solicita a exportação de um programa para um ano-base.
+     *
+     * @param programaId ID do programa
+     * @param anoBase Ano-base da exportação
+     * @return Exportação pendente
+     */
+    @PostMapping("/programa/{id}")
+    @PreAuthorize("hasAnyRole('COORDENADOR', 'ADMIN')")
+    @Operation(
+        summary = "Solicitar exportação CAPES",
+        description = "Enfileira a geração do pacote anual (docentes, discentes, disciplinas, bancas e trabalhos) "
+            + "do programa; acompanhe a situação pelo ID retornado"
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "202", description = "Exportação enfileirada",
+            content = @Content(schema = @Schema(implementation = ExportacaoCapesDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Ano-base inválido"),
+        @ApiResponse(responseCode = "404", description = "Programa não encontrado"),
+        @ApiResponse(responseCode = "409", description = "Exportação do programa/ano-base já em andamento")
+    })
+    public ResponseEntity<ExportacaoCapesDTO> solicitar(
+            @Parameter(description = "ID do programa", required = true)
+            @PathVariable("id") Long programaId,
+            @Parameter(description = "Ano-base", required = true, example = "2025")
+            @RequestParam int anoBase) {
+
+        log.info("Solicitação de exportação CAPES: programa {}, ano-base {}", programaId, anoBase);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(exportacaoCapesService.solicitar(programaId, anoBase));
+    }
+
+    /**
+     * Lista as exportações recentes de um programa.
+     *
+     * @param programaId ID do programa
+     * @return Exportações, das mais recentes para as mais antigas
+     */
+    @GetMapping("/programa/{id}")
+    @PreAuthorize("hasAnyRole('COORDENADOR', 'ADMIN')")
+    @Operation(summary = "Listar exportações CAPES do programa")
+    public ResponseEntity<List<ExportacaoCapesDTO>> listarPorPrograma(
+            @Parameter(description = "ID do programa", required = true)
+            @PathVariable("id") Long programaId) {
+
+        return ResponseEntity.ok(exportacaoCapesService.listarPorPrograma(programaId));
+    }
+
+    /**
+     * Situação de uma exportação.
+     *
+     * @param id ID da exportação
+     * @return Exportação com seção em andamento e registros gravados
+     */
+    @GetMapping("/{id}")
+    @PreAuthorize("hasAnyRole('COORDENADOR', 'ADMIN')")
+    @Operation(summary = "Consultar exportação CAPES")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Exportação encontrada"),
+        @ApiResponse(responseCode = "404", description = "Exportação não encontrada")
+    })
+    public ResponseEntity<ExportacaoCapesDTO> buscar(
+            @Parameter(description = "ID da exportação", required = true)
+            @PathVariable Long id) {
+
+        return ResponseEntity.ok(exportacaoCapesService.buscar(id));
+    }
+
+    /**
+     * Download do pacote de uma exportação concluída, lido do disco em streaming.
+     *
+     * @param id ID da exportação
+     * @return Pacote ZIP
+     */
+    @GetMapping("/{id}/pacote.zip")
+    @PreAuthorize("hasAnyRole('COORDENADOR', 'ADMIN')")
+    @Operation(summary = "Baixar pacote da exportação CAPES")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Pacote ZIP"),
+        @ApiResponse(responseCode = "400", description = "Exportação ainda não concluída"),
+        @ApiResponse(responseCode = "404", description = "Exportação ou pacote não encontrado")
+    })
+    public ResponseEntity<Resource> baixarPacote(
+            @Parameter(description = "ID da exportação", required = true)
+            @PathVariable Long id) {
+
+        Path pacote = exportacaoCapesService.buscarPacote(id);
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_ZIP)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(pacote.getFileName().toString())
+                        .build()
+                        .toString())
+                .body(new FileSystemResource(pacote));
+    }
+}
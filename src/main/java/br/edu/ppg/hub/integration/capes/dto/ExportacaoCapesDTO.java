@@ -0,0 +1,57 @@
+package br.edu.ppg.hub.integration.capes.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * DTO de uma exportação anual de dados do programa para a CAPES (Sucupira).
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Exportação anual de dados do programa para a CAPES")
+public class ExportacaoCapesDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Schema(description = "ID da exportação", example = "1")
+    private Long id;
+
+    @Schema(description = "ID do programa", example = "1")
+    private Long programaId;
+
+    @Schema(description = "Ano-base exportado", example = "2025")
+    private Integer anoBase;
+
+    @Schema(description = "Situação: PENDENTE, EM_EXECUCAO, CONCLUIDA ou FALHOU", example = "EM_EXECUCAO")
+    private String status;
+
+    @Schema(description = "Seção em geração (docentes, discentes, disciplinas, bancas, membros_banca, trabalhos)",
+            example = "DISCENTES")
+    private String secao;
+
+    @Schema(description = "Registros gravados até o último checkpoint", example = "1250")
+    private Long registros;
+
+    @Schema(description = "Tamanho do pacote ZIP, quando concluída", example = "48213")
+    private Long tamanhoBytes;
+
+    @Schema(description = "Mensagem de erro, quando falhou")
+    private String erro;
+
+    @Schema(description = "Data/hora da solicitação")
+    private LocalDateTime solicitadaEm;
+
+    @Schema(description = "Data/hora da conclusão")
+    private LocalDateTime concluidaEm;
+}
@@ -0,0 +1,128 @@
+package br.edu.ppg.hub.integration.capes.job;
+
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Arquivo CSV de uma seção, gravado em membros gzip concatenados.
+ *
+ * <p>As linhas de um lote vão direto para um membro gzip aberto no fim do
+ * arquivo; {@link #confirmar()} fecha o membro, força a gravação em disco e
+ * devolve o tamanho do arquivo, que é o que o checkpoint registra. Um arquivo
+ * de membros concatenados é um gzip válido. Ao reabrir a partir de um
+ * checkpoint, o que foi gravado depois dele (um membro incompleto) é truncado.</p>
+ *
+ * <p>Um arquivo novo começa com o BOM UTF-8 e o cabeçalho, como os CSVs dos
+ * relatórios. Não é thread-safe.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+final class ArquivoSecaoGzip implements Closeable {
+
+    static final String SEPARADOR = ",";
+    static final String QUEBRA_LINHA = "\r\n";
+
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+
+    private final FileChannel canal;
+    private Writer membro;
+
+    private ArquivoSecaoGzip(FileChannel canal) {
+        this.canal = canal;
+    }
+
+    /**
+     * Abre o arquivo da seção na posição do checkpoint.
+     *
+     * @param bytesConfirmados tamanho registrado no último checkpoint; 0 recomeça a seção
+     */
+    static ArquivoSecaoGzip abrir(Path caminho, long bytesConfirmados, Iterable<String> cabecalho)
+            throws IOException {
+        FileChannel canal = FileChannel.open(caminho, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            if (canal.size() < bytesConfirmados) {
+                throw new IOException("Arquivo " + caminho + " tem " + canal.size()
+                        + " bytes, menos que o checkpoint (" + bytesConfirmados + ")");
+            }
+            canal.truncate(bytesConfirmados);
+            canal.position(bytesConfirmados);
+        } catch (IOException e) {
+            canal.close();
+            throw e;
+        }
+        ArquivoSecaoGzip arquivo = new ArquivoSecaoGzip(canal);
+        if (bytesConfirmados == 0) {
+            // BOM para UTF-8 (compatibilidade Excel)
+            arquivo.escreverLinha('\ufeff' + String.join(SEPARADOR, cabecalho));
+        }
+        return arquivo;
+    }
+
+    /**
+     * Acrescenta uma linha ao lote em andamento; a quebra de linha é incluída.
+     */
+    void escreverLinha(String linha) throws IOException {
+        if (membro == null) {
+            OutputStream saida = new FilterOutputStream(Channels.newOutputStream(canal)) {
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    // O canal continua aberto para os próximos membros
+                    flush();
+                }
+            };
+            membro = new OutputStreamWriter(new GZIPOutputStream(saida, TAMANHO_BUFFER), StandardCharsets.UTF_8);
+        }
+        membro.write(linha);
+        membro.write(QUEBRA_LINHA);
+    }
+
+    /**
+     * Fecha o membro do lote, força a gravação em disco e devolve o tamanho do
+     * arquivo, a registrar no checkpoint.
+     */
+    long confirmar() throws IOException {
+        if (membro != null) {
+            membro.close();
+            membro = null;
+        }
+        canal.force(false);
+        return canal.size();
+    }
+
+    /**
+     * Fecha o arquivo; um lote não confirmado fica incompleto e é truncado na retomada.
+     */
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    /**
+     * Valor escapado conforme a RFC 4180.
+     */
+    static String escapar(String valor) {
+        if (valor == null) {
+            return "";
+        }
+        if (!valor.contains(SEPARADOR) && !valor.contains("\"") && !valor.contains("\n") && !valor.contains("\r")) {
+            return valor;
+        }
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,423 @@
+package br.edu.ppg.hub.integration.capes.job;
+
+import br.edu.ppg.hub.shared.config.ExportacaoCapesConfig;
+import br.edu.ppg.hub.shared.util.Transacoes;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Execução em segundo plano das exportações anuais para a CAPES.
+ *
+ * <p>Cada {@link SecaoCapes} é lida com um cursor do banco ({@code fetchSize}
+ * igual ao tamanho do lote) em uma transação somente leitura, sem entidades nem
+ * contexto de persistência: cada linha é convertida para CSV e escrita direto
+ * no membro gzip do lote em andamento ({@link ArquivoSecaoGzip}). Ao completar
+ * um lote, o arquivo é forçado para o disco e o checkpoint (seção, último id e
+ * tamanho do arquivo) é gravado em transação própria; em memória fica no máximo
+ * o buffer de um lote.</p>
+ *
+ * <p>Uma exportação interrompida (queda da instância, falha transitória de banco
+ * como conexão perdida, timeout ou deadlock) fica em execução sem checkpoints;
+ * depois de {@code ppg.capes.expiracao-minutos} ela pode ser reivindicada de novo,
+ * por esta ou outra instância, e continua do checkpoint: o arquivo da seção é
+ * truncado no tamanho confirmado e o cursor recomeça após o último id.
+ * Checkpoints de uma execução substituída são rejeitados e ela para. Os demais
+ * erros (SQL inválido, falha de disco) não se resolvem repetindo e marcam a
+ * exportação como {@code FALHOU}.</p>
+ *
+ * <p>Com todas as seções completas, os CSVs são descompactados em sequência
+ * para um ZIP, gravado em arquivo temporário e renomeado atomicamente.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Component
+@Slf4j
+public class ExportacaoCapesJob {
+
+    private static final String REIVINDICAR = """
+            UPDATE core.exportacoes_capes
+            SET status = 'EM_EXECUCAO', execucao = ?, iniciada_em = COALESCE(iniciada_em, NOW()),
+                updated_at = NOW()
+            WHERE id = ?
+              AND (status = 'PENDENTE'
+                   OR (status = 'EM_EXECUCAO' AND updated_at < NOW() - make_interval(mins => ?)))
+            RETURNING programa_id, ano_base, secao, ultimo_id, bytes_gravados, registros
+            """;
+
+    private static final String SELECT_RETOMAVEIS = """
+            SELECT id
+            FROM core.exportacoes_capes
+            WHERE status = 'PENDENTE'
+               OR (status = 'EM_EXECUCAO' AND updated_at < NOW() - make_interval(mins => ?))
+            ORDER BY id
+            """;
+
+    private static final String UPDATE_CHECKPOINT = """
+            UPDATE core.exportacoes_capes
+            SET secao = ?, ultimo_id = ?, bytes_gravados = ?, registros = ?, updated_at = NOW()
+            WHERE id = ? AND execucao = ? AND status = 'EM_EXECUCAO'
+            """;
+
+    private static final String UPDATE_CONCLUIDA = """
+            UPDATE core.exportacoes_capes
+            SET status = 'CONCLUIDA', secao = NULL, arquivo = ?, tamanho_bytes = ?, registros = ?,
+                concluida_em = NOW(), updated_at = NOW()
+            WHERE id = ? AND execucao = ? AND status = 'EM_EXECUCAO'
+            """;
+
+    private static final String UPDATE_FALHOU = """
+            UPDATE core.exportacoes_capes
+            SET status = 'FALHOU', erro = ?, updated_at = NOW()
+            WHERE id = ? AND execucao = ? AND status = 'EM_EXECUCAO'
+            """;
+
+    private static final String SELECT_PROGRAMA = """
+            SELECT COALESCE(codigo_capes, sigla) AS codigo
+            FROM core.programas
+            WHERE id = ?
+            """;
+
+    private static final int TAMANHO_BLOCO = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate cursor;
+    private final TransactionTemplate leitura;
+    private final TransactionTemplate novaTransacao;
+    private final ExportacaoCapesConfig config;
+    private final Path raiz;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "ppg-exportacao-capes");
+        t.setDaemon(true);
+        return t;
+    });
+    private final Set<Long> enfileiradas = ConcurrentHashMap.newKeySet();
+
+    public ExportacaoCapesJob(JdbcTemplate jdbcTemplate, DataSource dataSource,
+                              PlatformTransactionManager transactionManager, ExportacaoCapesConfig config) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Template próprio: o fetchSize vale só para os cursores da exportação
+        this.cursor = new JdbcTemplate(dataSource);
+        this.cursor.setFetchSize(config.getTamanhoLote());
+        // O PostgreSQL só usa cursor (fetchSize) dentro de uma transação
+        this.leitura = Transacoes.leituraPropria(transactionManager);
+        // Checkpoints gravados fora da transação de leitura, que fica aberta durante a seção
+        this.novaTransacao = Transacoes.propria(transactionManager);
+        this.config = config;
+        this.raiz = Paths.get(config.getDiretorio()).toAbsolutePath().normalize();
+    }
+
+    /**
+     * Enfileira a exportação para execução; ignorada se já estiver na fila desta instância.
+     */
+    public void submeter(long exportacaoId) {
+        if (enfileiradas.add(exportacaoId)) {
+            executor.execute(() -> {
+                try {
+                    executar(exportacaoId);
+                } finally {
+                    enfileiradas.remove(exportacaoId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Enfileira as exportações pendentes e as interrompidas (sem checkpoint dentro
+     * da expiração), inclusive as de uma instância que caiu.
+     */
+    @Scheduled(fixedDelay = 60_000, initialDelay = 30_000)
+    public void retomarPendentes() {
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_RETOMAVEIS, Long.class, config.getExpiracaoMinutos());
+        if (!ids.isEmpty()) {
+            log.info("Exportações CAPES a retomar: {}", ids);
+            ids.forEach(this::submeter);
+        }
+    }
+
+    /**
+     * Caminho do pacote de uma exportação concluída.
+     */
+    public Path caminhoPacote(long exportacaoId, String arquivo) {
+        return diretorio(exportacaoId).resolve(arquivo);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        // A exportação em andamento é retomada do último checkpoint após a expiração
+        executor.shutdownNow();
+    }
+
+    void executar(long exportacaoId) {
+        UUID execucao = UUID.randomUUID();
+        List<Checkpoint> reivindicadas = jdbcTemplate.query(REIVINDICAR,
+                (rs, rowNum) -> new Checkpoint(exportacaoId, execucao, rs.getLong("programa_id"),
+                        rs.getInt("ano_base"), secao(rs.getString("secao")), rs.getLong("ultimo_id"),
+                        rs.getLong("bytes_gravados"), rs.getLong("registros")),
+                execucao, exportacaoId, config.getExpiracaoMinutos());
+        if (reivindicadas.isEmpty()) {
+            return;
+        }
+        Checkpoint checkpoint = reivindicadas.get(0);
+        log.info("Exportação CAPES {} (programa {}, ano-base {}) iniciada em {}", exportacaoId,
+                checkpoint.programaId, checkpoint.anoBase, checkpoint.secao);
+        long inicio = System.currentTimeMillis();
+
+        try {
+            Path diretorio = diretorio(exportacaoId);
+            Files.createDirectories(diretorio);
+            SecaoCapes[] secoes = SecaoCapes.values();
+            for (int i = checkpoint.secao.ordinal(); i < secoes.length; i++) {
+                exportarSecao(checkpoint, diretorio);
+                if (i + 1 < secoes.length) {
+                    checkpoint.proximaSecao(secoes[i + 1]);
+                    gravarCheckpoint(checkpoint);
+                }
+            }
+            Path pacote = empacotar(checkpoint, diretorio);
+            concluir(checkpoint, pacote);
+            log.info("Exportação CAPES {} concluída: {} registros, {} bytes em {} ms", exportacaoId,
+                    checkpoint.registros, Files.size(pacote), System.currentTimeMillis() - inicio);
+        } catch (ExecucaoSubstituidaException e) {
+            log.warn("Exportação CAPES {} reivindicada por outra execução; esta execução para", exportacaoId);
+        } catch (Exception e) {
+            if (transitoria(e)) {
+                // Continua em execução: retomada do último checkpoint após a expiração
+                log.warn("Falha transitória na exportação CAPES {}; retomada após {} minutos: {}", exportacaoId,
+                        config.getExpiracaoMinutos(), e.getMessage());
+                return;
+            }
+            log.error("Erro na exportação CAPES {}: {}", exportacaoId, e.getMessage(), e);
+            novaTransacao.executeWithoutResult(status ->
+                    jdbcTemplate.update(UPDATE_FALHOU, e.getMessage(), exportacaoId, execucao));
+        }
+    }
+
+    private void exportarSecao(Checkpoint checkpoint, Path diretorio) throws IOException {
+        SecaoCapes secao = checkpoint.secao;
+        int colunas = secao.colunas().size();
+        int tamanhoLote = config.getTamanhoLote();
+        LocalDate inicio = LocalDate.of(checkpoint.anoBase, 1, 1);
+        LocalDate fim = LocalDate.of(checkpoint.anoBase, 12, 31);
+
+        try (ArquivoSecaoGzip arquivo = ArquivoSecaoGzip.abrir(
+                diretorio.resolve(secao.arquivo() + ".gz"), checkpoint.bytesGravados, secao.colunas())) {
+            int[] noLote = {0};
+            leitura.executeWithoutResult(status -> cursor.query(secao.sql(), rs -> {
+                try {
+                    arquivo.escreverLinha(linha(rs, colunas));
+                    checkpoint.ultimoId = rs.getLong(1);
+                    checkpoint.registros++;
+                    if (++noLote[0] == tamanhoLote) {
+                        confirmar(checkpoint, arquivo);
+                        noLote[0] = 0;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, checkpoint.programaId, inicio, fim, checkpoint.ultimoId));
+            confirmar(checkpoint, arquivo);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void confirmar(Checkpoint checkpoint, ArquivoSecaoGzip arquivo) throws IOException {
+        checkpoint.bytesGravados = arquivo.confirmar();
+        gravarCheckpoint(checkpoint);
+    }
+
+    private void gravarCheckpoint(Checkpoint checkpoint) {
+        Integer atualizadas = novaTransacao.execute(status -> jdbcTemplate.update(UPDATE_CHECKPOINT,
+                checkpoint.secao.name(), checkpoint.ultimoId, checkpoint.bytesGravados, checkpoint.registros,
+                checkpoint.exportacaoId, checkpoint.execucao));
+        if (atualizadas == null || atualizadas == 0) {
+            throw new ExecucaoSubstituidaException();
+        }
+    }
+
+    private Path empacotar(Checkpoint checkpoint, Path diretorio) throws IOException {
+        String nome = jdbcTemplate.queryForObject(SELECT_PROGRAMA,
+                (rs, rowNum) -> rs.getString("codigo"), checkpoint.programaId);
+        Path pacote = diretorio.resolve("capes_" + nome.replaceAll("[^A-Za-z0-9_-]", "") + "_"
+                + checkpoint.anoBase + ".zip");
+        Path temporario = Files.createTempFile(diretorio, ".pacote-", ".tmp");
+
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(temporario), StandardCharsets.UTF_8)) {
+            byte[] bloco = new byte[TAMANHO_BLOCO];
+            for (SecaoCapes secao : SecaoCapes.values()) {
+                zip.putNextEntry(new ZipEntry(secao.arquivo()));
+                try (InputStream entrada = new GZIPInputStream(
+                        Files.newInputStream(diretorio.resolve(secao.arquivo() + ".gz")), TAMANHO_BLOCO)) {
+                    copiar(entrada, zip, bloco);
+                }
+                zip.closeEntry();
+            }
+            zip.putNextEntry(new ZipEntry("manifesto.csv"));
+            zip.write(manifesto(checkpoint, nome).getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporario);
+            throw e;
+        }
+        Files.move(temporario, pacote, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return pacote;
+    }
+
+    private void concluir(Checkpoint checkpoint, Path pacote) throws IOException {
+        long tamanho = Files.size(pacote);
+        Integer atualizadas = novaTransacao.execute(status -> jdbcTemplate.update(UPDATE_CONCLUIDA,
+                pacote.getFileName().toString(), tamanho, checkpoint.registros,
+                checkpoint.exportacaoId, checkpoint.execucao));
+        if (atualizadas == null || atualizadas == 0) {
+            throw new ExecucaoSubstituidaException();
+        }
+        for (SecaoCapes secao : SecaoCapes.values()) {
+            Files.deleteIfExists(pacote.resolveSibling(secao.arquivo() + ".gz"));
+        }
+    }
+
+    private String manifesto(Checkpoint checkpoint, String codigoPrograma) {
+        StringJoiner secoes = new StringJoiner(";");
+        for (SecaoCapes secao : SecaoCapes.values()) {
+            secoes.add(secao.arquivo());
+        }
+        return '\ufeff' + String.join(ArquivoSecaoGzip.QUEBRA_LINHA,
+                "campo,valor",
+                "programa," + ArquivoSecaoGzip.escapar(codigoPrograma),
+                "ano_base," + checkpoint.anoBase,
+                "registros," + checkpoint.registros,
+                "secoes," + ArquivoSecaoGzip.escapar(secoes.toString()),
+                "gerado_em," + LocalDateTime.now().withNano(0)) + ArquivoSecaoGzip.QUEBRA_LINHA;
+    }
+
+    private Path diretorio(long exportacaoId) {
+        return raiz.resolve(String.valueOf(exportacaoId));
+    }
+
+    private static String linha(ResultSet rs, int colunas) throws SQLException {
+        StringJoiner linha = new StringJoiner(ArquivoSecaoGzip.SEPARADOR);
+        for (int i = 1; i <= colunas; i++) {
+            linha.add(ArquivoSecaoGzip.escapar(valor(rs.getObject(i))));
+        }
+        return linha.toString();
+    }
+
+    private static String valor(Object valor) {
+        if (valor == null) {
+            return null;
+        }
+        if (valor instanceof Boolean b) {
+            return b ? "Sim" : "Não";
+        }
+        if (valor instanceof Date data) {
+            return data.toLocalDate().toString();
+        }
+        if (valor instanceof Timestamp instante) {
+            return instante.toLocalDateTime().toString();
+        }
+        if (valor instanceof BigDecimal numero) {
+            return numero.toPlainString();
+        }
+        return valor.toString();
+    }
+
+    /**
+     * Erros de conexão, timeout ou concorrência do banco, que uma nova tentativa pode superar.
+     */
+    private static boolean transitoria(Exception e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    private static SecaoCapes secao(String nome) {
+        return nome == null ? SecaoCapes.values()[0] : SecaoCapes.valueOf(nome);
+    }
+
+    private static void copiar(InputStream entrada, OutputStream saida, byte[] bloco) throws IOException {
+        int lidos;
+        while ((lidos = entrada.read(bloco)) != -1) {
+            saida.write(bloco, 0, lidos);
+        }
+    }
+
+    /**
+     * Posição da exportação: seção em andamento, último id e tamanho confirmado do
+     * arquivo da seção, e total de registros gravados.
+     */
+    private static final class Checkpoint {
+
+        private final long exportacaoId;
+        private final UUID execucao;
+        private final long programaId;
+        private final int anoBase;
+        private SecaoCapes secao;
+        private long ultimoId;
+        private long bytesGravados;
+        private long registros;
+
+        private Checkpoint(long exportacaoId, UUID execucao, long programaId, int anoBase, SecaoCapes secao,
+                           long ultimoId, long bytesGravados, long registros) {
+            this.exportacaoId = exportacaoId;
+            this.execucao = execucao;
+            this.programaId = programaId;
+            this.anoBase = anoBase;
+            this.secao = secao;
+            this.ultimoId = ultimoId;
+            this.bytesGravados = bytesGravados;
+            this.registros = registros;
+        }
+
+        private void proximaSecao(SecaoCapes proxima) {
+            secao = proxima;
+            ultimoId = 0;
+            bytesGravados = 0;
+        }
+    }
+
+    /**
+     * A exportação foi reivindicada por outra execução depois da expiração.
+     */
+    private static final class ExecucaoSubstituidaException extends RuntimeException {
+    }
+}
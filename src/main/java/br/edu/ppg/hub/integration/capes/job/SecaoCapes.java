@@ -0,0 +1,162 @@
+package br.edu.ppg.hub.integration.capes.job;
+
+import java.util.List;
+
+/**
+ * Seções do pacote de exportação para a CAPES, na ordem em que são geradas.
+ *
+ * <p>Cada seção é um CSV com as colunas de {@link #colunas()}, na mesma ordem do
+ * SELECT. A primeira coluna é o id da linha, usado na paginação por chave: as
+ * consultas recebem programa, início e fim do ano-base e o último id gravado,
+ * e são ordenadas por esse id.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public enum SecaoCapes {
+
+    DOCENTES("docentes.csv", List.of(
+            "id_docente", "nome", "cpf", "email", "orcid", "lattes_id", "matricula", "categoria",
+            "regime_trabalho", "titulacao_maxima", "instituicao_titulacao", "ano_titulacao", "pais_titulacao",
+            "tipo_vinculo", "data_vinculacao", "data_desvinculacao", "linha_pesquisa",
+            "bolsista_produtividade", "nivel_bolsa_produtividade", "status"), """
+            SELECT d.id, u.nome_completo, u.cpf, u.email, u.orcid, u.lattes_id, d.matricula, d.categoria,
+                   d.regime_trabalho, d.titulacao_maxima, d.instituicao_titulacao, d.ano_titulacao, d.pais_titulacao,
+                   d.tipo_vinculo, d.data_vinculacao, d.data_desvinculacao, lp.nome,
+                   d.bolsista_produtividade, d.nivel_bolsa_produtividade, d.status
+            FROM academic.docentes d
+            CROSS JOIN (SELECT CAST(? AS INTEGER) AS programa_id, CAST(? AS DATE) AS inicio,
+                               CAST(? AS DATE) AS fim) p
+            JOIN auth.usuarios u ON u.id = d.usuario_id
+            LEFT JOIN core.linhas_pesquisa lp ON lp.id = d.linha_pesquisa_id
+            WHERE d.programa_id = p.programa_id
+              AND d.data_vinculacao <= p.fim
+              AND (d.data_desvinculacao IS NULL OR d.data_desvinculacao >= p.inicio)
+              AND d.id > ?
+            ORDER BY d.id
+            """),
+
+    DISCENTES("discentes.csv", List.of(
+            "id_discente", "nome", "cpf", "email", "matricula", "tipo_curso", "data_ingresso", "linha_pesquisa",
+            "id_orientador", "orientador", "titulo_projeto", "bolsista", "tipo_bolsa", "agencia_fomento",
+            "data_qualificacao", "data_defesa", "status", "data_desligamento", "motivo_desligamento"), """
+            SELECT s.id, u.nome_completo, u.cpf, u.email, s.numero_matricula, s.tipo_curso, s.data_ingresso, lp.nome,
+                   s.orientador_id, uo.nome_completo, s.titulo_projeto, s.bolsista, s.tipo_bolsa, s.agencia_fomento,
+                   s.data_qualificacao, s.data_defesa, s.status, s.data_desligamento, s.motivo_desligamento
+            FROM academic.discentes s
+            CROSS JOIN (SELECT CAST(? AS INTEGER) AS programa_id, CAST(? AS DATE) AS inicio,
+                               CAST(? AS DATE) AS fim) p
+            JOIN auth.usuarios u ON u.id = s.usuario_id
+            LEFT JOIN core.linhas_pesquisa lp ON lp.id = s.linha_pesquisa_id
+            LEFT JOIN academic.docentes o ON o.id = s.orientador_id
+            LEFT JOIN auth.usuarios uo ON uo.id = o.usuario_id
+            WHERE s.programa_id = p.programa_id
+              AND s.data_ingresso <= p.fim
+              AND (s.data_desligamento IS NULL OR s.data_desligamento >= p.inicio)
+              AND (s.data_defesa IS NULL OR s.data_defesa >= p.inicio)
+              AND s.id > ?
+            ORDER BY s.id
+            """),
+
+    DISCIPLINAS("disciplinas.csv", List.of(
+            "id_oferta", "codigo", "disciplina", "tipo", "nivel", "carga_horaria", "creditos", "ano", "semestre",
+            "turma", "id_docente_responsavel", "docente_responsavel", "vagas_oferecidas", "vagas_ocupadas",
+            "status"), """
+            SELECT o.id, di.codigo, di.nome, di.tipo, di.nivel, di.carga_horaria_total, di.creditos, o.ano, o.semestre,
+                   o.turma, o.docente_responsavel_id, u.nome_completo, o.vagas_oferecidas, o.vagas_ocupadas,
+                   o.status
+            FROM academic.ofertas_disciplinas o
+            CROSS JOIN (SELECT CAST(? AS INTEGER) AS programa_id, CAST(? AS DATE) AS inicio,
+                               CAST(? AS DATE) AS fim) p
+            JOIN academic.disciplinas di ON di.id = o.disciplina_id
+            JOIN academic.docentes d ON d.id = o.docente_responsavel_id
+            JOIN auth.usuarios u ON u.id = d.usuario_id
+            WHERE di.programa_id = p.programa_id
+              AND o.ano = EXTRACT(YEAR FROM p.inicio)
+              AND o.id > ?
+            ORDER BY o.id
+            """),
+
+    BANCAS("bancas.csv", List.of(
+            "id_banca", "id_discente", "matricula", "discente", "id_trabalho", "tipo", "data_agendada",
+            "data_realizacao", "modalidade", "id_presidente", "presidente", "resultado", "nota_final",
+            "status"), """
+            SELECT b.id, b.discente_id, s.numero_matricula, us.nome_completo, b.trabalho_conclusao_id, b.tipo,
+                   b.data_agendada, b.data_realizacao, b.modalidade, b.presidente_id, up.nome_completo, b.resultado,
+                   b.nota_final, b.status
+            FROM academic.bancas b
+            CROSS JOIN (SELECT CAST(? AS INTEGER) AS programa_id, CAST(? AS DATE) AS inicio,
+                               CAST(? AS DATE) AS fim) p
+            JOIN academic.discentes s ON s.id = b.discente_id
+            JOIN auth.usuarios us ON us.id = s.usuario_id
+            JOIN academic.docentes d ON d.id = b.presidente_id
+            JOIN auth.usuarios up ON up.id = d.usuario_id
+            WHERE s.programa_id = p.programa_id
+              AND COALESCE(b.data_realizacao, b.data_agendada) BETWEEN p.inicio AND p.fim
+              AND b.id > ?
+            ORDER BY b.id
+            """),
+
+    MEMBROS_BANCA("membros_banca.csv", List.of(
+            "id_membro", "id_banca", "id_docente", "nome", "instituicao", "titulacao", "funcao", "tipo",
+            "presente"), """
+            SELECT m.id, m.banca_id, m.docente_id, COALESCE(m.nome_completo, u.nome_completo), m.instituicao,
+                   COALESCE(m.titulacao, d.titulacao_maxima), m.funcao, m.tipo, m.presente
+            FROM academic.membros_banca m
+            CROSS JOIN (SELECT CAST(? AS INTEGER) AS programa_id, CAST(? AS DATE) AS inicio,
+                               CAST(? AS DATE) AS fim) p
+            JOIN academic.bancas b ON b.id = m.banca_id
+            JOIN academic.discentes s ON s.id = b.discente_id
+            LEFT JOIN academic.docentes d ON d.id = m.docente_id
+            LEFT JOIN auth.usuarios u ON u.id = d.usuario_id
+            WHERE s.programa_id = p.programa_id
+              AND COALESCE(b.data_realizacao, b.data_agendada) BETWEEN p.inicio AND p.fim
+              AND m.id > ?
+            ORDER BY m.id
+            """),
+
+    TRABALHOS("trabalhos.csv", List.of(
+            "id_trabalho", "id_discente", "discente", "tipo", "titulo", "titulo_ingles", "palavras_chave",
+            "area_cnpq", "data_defesa", "ano_defesa", "idioma", "numero_paginas", "id_orientador", "orientador",
+            "doi", "uri_repositorio", "status"), """
+            SELECT t.id, t.discente_id, us.nome_completo, t.tipo, t.titulo_portugues, t.titulo_ingles,
+                   t.palavras_chave_portugues, t.area_cnpq, t.data_defesa, t.ano_defesa, t.idioma, t.numero_paginas,
+                   t.orientador_id, uo.nome_completo, t.doi, t.uri_repositorio, t.status
+            FROM academic.trabalhos_conclusao t
+            CROSS JOIN (SELECT CAST(? AS INTEGER) AS programa_id, CAST(? AS DATE) AS inicio,
+                               CAST(? AS DATE) AS fim) p
+            JOIN academic.discentes s ON s.id = t.discente_id
+            JOIN auth.usuarios us ON us.id = s.usuario_id
+            JOIN academic.docentes o ON o.id = t.orientador_id
+            JOIN auth.usuarios uo ON uo.id = o.usuario_id
+            WHERE t.programa_id = p.programa_id
+              AND t.ano_defesa = EXTRACT(YEAR FROM p.inicio)
+              AND t.id > ?
+            ORDER BY t.id
+            """);
+
+    private final String arquivo;
+    private final List<String> colunas;
+    private final String sql;
+
+    SecaoCapes(String arquivo, List<String> colunas, String sql) {
+        this.arquivo = arquivo;
+        this.colunas = colunas;
+        this.sql = sql;
+    }
+
+    /**
+     * Nome do CSV da seção no pacote.
+     */
+    public String arquivo() {
+        return arquivo;
+    }
+
+    public List<String> colunas() {
+        return colunas;
+    }
+
+    String sql() {
+        return sql;
+    }
+}
@@ -0,0 +1,153 @@
+package br.edu.ppg.hub.integration.capes.service;
+
+import br.edu.ppg.hub.core.infrastructure.repository.ProgramaRepository;
+import br.edu.ppg.hub.integration.capes.dto.ExportacaoCapesDTO;
+import br.edu.ppg.hub.integration.capes.job.ExportacaoCapesJob;
+import br.edu.ppg.hub.shared.exception.BusinessException;
+import br.edu.ppg.hub.shared.exception.ConflictException;
+import br.edu.ppg.hub.shared.exception.ResourceNotFoundException;
+import br.edu.ppg.hub.shared.util.Transacoes;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Year;
+import java.util.List;
+
+/**
+ * Serviço das exportações anuais de dados dos programas para a CAPES (Sucupira).
+ * <p>
+ * Responsável por:
+ * - Registrar a solicitação e enfileirá-la após o commit
+ * - Consultar a situação das exportações
+ * - Localizar o pacote ZIP de uma exportação concluída
+ * </p>
+ * A geração do pacote é feita por {@link ExportacaoCapesJob}.
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ExportacaoCapesService {
+
+    private static final int PRIMEIRO_ANO_BASE = 2000;
+    private static final int MAX_LISTAGEM = 50;
+
+    private static final String INSERT_EXPORTACAO = """
+            INSERT INTO core.exportacoes_capes (programa_id, ano_base)
+            VALUES (?, ?)
+            RETURNING id
+            """;
+
+    private static final String SELECT_EXPORTACAO = """
+            SELECT id, programa_id, ano_base, status, secao, registros, tamanho_bytes, erro,
+                   created_at, concluida_em
+            FROM core.exportacoes_capes
+            """;
+
+    private static final String SELECT_PACOTE = """
+            SELECT status, arquivo
+            FROM core.exportacoes_capes
+            WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProgramaRepository programaRepository;
+    private final ExportacaoCapesJob exportacaoCapesJob;
+
+    /**
+     * Solicita a exportação de um programa/ano-base; a geração roda em segundo plano.
+     *
+     * @param programaId ID do programa
+     * @param anoBase ano-base (de 2000 ao ano corrente)
+     * @return Exportação pendente
+     */
+    @Transactional
+    public ExportacaoCapesDTO solicitar(Long programaId, int anoBase) {
+        if (!programaRepository.existsById(programaId)) {
+            throw new ResourceNotFoundException("Programa não encontrado com ID: " + programaId);
+        }
+        int anoAtual = Year.now().getValue();
+        if (anoBase < PRIMEIRO_ANO_BASE || anoBase > anoAtual) {
+            throw new BusinessException("Ano-base deve estar entre " + PRIMEIRO_ANO_BASE + " e " + anoAtual);
+        }
+
+        Long id;
+        try {
+            id = jdbcTemplate.queryForObject(INSERT_EXPORTACAO, Long.class, programaId, anoBase);
+        } catch (DuplicateKeyException e) {
+            throw new ConflictException("Já existe uma exportação CAPES em andamento para o programa "
+                    + programaId + " e ano-base " + anoBase);
+        }
+        log.info("Exportação CAPES {} solicitada: programa {}, ano-base {}", id, programaId, anoBase);
+        Transacoes.aposCommit(() -> exportacaoCapesJob.submeter(id));
+        return buscar(id);
+    }
+
+    /**
+     * Busca a situação de uma exportação.
+     */
+    public ExportacaoCapesDTO buscar(Long id) {
+        return jdbcTemplate.query(SELECT_EXPORTACAO + "WHERE id = ?\n", this::exportacao, id).stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Exportação CAPES não encontrada com ID: " + id));
+    }
+
+    /**
+     * Lista as exportações mais recentes de um programa.
+     */
+    public List<ExportacaoCapesDTO> listarPorPrograma(Long programaId) {
+        return jdbcTemplate.query(SELECT_EXPORTACAO + "WHERE programa_id = ?\nORDER BY created_at DESC\nLIMIT ?\n",
+                this::exportacao, programaId, MAX_LISTAGEM);
+    }
+
+    /**
+     * Pacote ZIP de uma exportação concluída.
+     *
+     * @throws BusinessException se a exportação não estiver concluída
+     */
+    public Path buscarPacote(Long id) {
+        List<String[]> exportacoes = jdbcTemplate.query(SELECT_PACOTE,
+                (rs, rowNum) -> new String[]{rs.getString("status"), rs.getString("arquivo")}, id);
+        if (exportacoes.isEmpty()) {
+            throw new ResourceNotFoundException("Exportação CAPES não encontrada com ID: " + id);
+        }
+        String status = exportacoes.get(0)[0];
+        if (!"CONCLUIDA".equals(status)) {
+            throw new BusinessException("Exportação CAPES " + id + " não está concluída (situação: "
+                    + status + ")");
+        }
+        Path pacote = exportacaoCapesJob.caminhoPacote(id, exportacoes.get(0)[1]);
+        if (!Files.isRegularFile(pacote)) {
+            throw new ResourceNotFoundException("Pacote da exportação CAPES " + id + " não encontrado");
+        }
+        return pacote;
+    }
+
+    private ExportacaoCapesDTO exportacao(ResultSet rs, int rowNum) throws SQLException {
+        Timestamp concluidaEm = rs.getTimestamp("concluida_em");
+        return ExportacaoCapesDTO.builder()
+                .id(rs.getLong("id"))
+                .programaId(rs.getLong("programa_id"))
+                .anoBase(rs.getInt("ano_base"))
+                .status(rs.getString("status"))
+                .secao(rs.getString("secao"))
+                .registros(rs.getLong("registros"))
+                .tamanhoBytes(rs.getObject("tamanho_bytes", Long.class))
+                .erro(rs.getString("erro"))
+                .solicitadaEm(rs.getTimestamp("created_at").toLocalDateTime())
+                .concluidaEm(concluidaEm != null ? concluidaEm.toLocalDateTime() : null)
+                .build();
+    }
+}
@@ -57,6 +57,11 @@ public class OpenAlexWorkDTO {
      */
     private String type;
 
+    /**
+     * Autores do trabalho, na ordem de autoria
+     */
+    private List<Authorship> authorships;
+
     /**
      * Verifica se é um artigo de periódico
      *
@@ -78,4 +83,38 @@ public class OpenAlexWorkDTO {
         int currentYear = java.time.Year.now().getValue();
         return publication_year >= (currentYear - 5);
     }
+
+    /**
+     * Autoria de um trabalho
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Authorship {
+
+        private Author author;
+    }
+
+    /**
+     * Autor resumido dentro de uma autoria
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Author {
+
+        /**
+         * ID do autor no OpenAlex (ex: https://openalex.org/A1234567890)
+         */
+        private String id;
+
+        private String display_name;
+
+        /**
+         * ORCID do autor (ex: https://orcid.org/0000-0001-2345-6789), quando conhecido
+         */
+        private String orcid;
+    }
 }
@@ -2,6 +2,8 @@ package br.edu.ppg.hub.integration.openalex.service;
 
 import br.edu.ppg.hub.academic.domain.model.Docente;
 import br.edu.ppg.hub.academic.domain.model.MetricaDocente;
+import br.edu.ppg.hub.academic.infrastructure.coautoria.GrafoCoautoria;
+import br.edu.ppg.hub.academic.infrastructure.coautoria.GrafoCoautoria.Coautoria;
 import br.edu.ppg.hub.academic.infrastructure.repository.DocenteRepository;
 import br.edu.ppg.hub.academic.infrastructure.repository.MetricaDocenteRepository;
 import br.edu.ppg.hub.auth.domain.model.Usuario;
@@ -12,14 +14,17 @@ import br.edu.ppg.hub.integration.openalex.dto.OpenAlexResponseDTO;
 import br.edu.ppg.hub.integration.openalex.dto.OpenAlexWorkDTO;
 import br.edu.ppg.hub.shared.exception.OpenAlexException;
 import br.edu.ppg.hub.shared.exception.ResourceNotFoundException;
-import lombok.RequiredArgsConstructor;
+import br.edu.ppg.hub.shared.util.Transacoes;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.time.Year;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,12 +36,15 @@ import java.util.Optional;
  * - Buscar dados de autores e publicações
  * - Cachear respostas da API
  * - Atualizar dados dos usuários e métricas
+ * - Alimentar o grafo de coautoria usado na verificação de conflito de interesse
+ *
+ * As chamadas HTTP ao OpenAlex ocorrem fora de transação; só a gravação do resultado
+ * de cada usuário abre uma transação, curta.
  *
  * @author PPG Hub
  * @since 1.0
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class OpenAlexService {
 
@@ -44,6 +52,24 @@ public class OpenAlexService {
     private final DocenteRepository docenteRepository;
     private final MetricaDocenteRepository metricaDocenteRepository;
     private final UsuarioRepository usuarioRepository;
+    private final GrafoCoautoria grafoCoautoria;
+    private final TransactionTemplate leitura;
+    private final TransactionTemplate porUsuario;
+
+    public OpenAlexService(OpenAlexClient openAlexClient,
+                           DocenteRepository docenteRepository,
+                           MetricaDocenteRepository metricaDocenteRepository,
+                           UsuarioRepository usuarioRepository,
+                           GrafoCoautoria grafoCoautoria,
+                           PlatformTransactionManager transactionManager) {
+        this.openAlexClient = openAlexClient;
+        this.docenteRepository = docenteRepository;
+        this.metricaDocenteRepository = metricaDocenteRepository;
+        this.usuarioRepository = usuarioRepository;
+        this.grafoCoautoria = grafoCoautoria;
+        this.leitura = Transacoes.leituraPropria(transactionManager);
+        this.porUsuario = Transacoes.propria(transactionManager);
+    }
 
     /**
      * Sincroniza métricas de um docente específico usando seu ORCID.
@@ -52,74 +78,24 @@ public class OpenAlexService {
      * - ID do autor no OpenAlex (no Usuario)
      * - Data da última sincronização (no Usuario)
      * - Métricas acadêmicas (cria nova MetricaDocente)
+     * - Coautores no grafo de coautoria
      *
      * @param docenteId ID do docente
      * @throws ResourceNotFoundException se docente não for encontrado
      * @throws OpenAlexException se houver erro na sincronização
      */
-    @Transactional
     public void syncDocenteMetrics(Long docenteId) {
         log.info("Iniciando sincronização de métricas do docente: {}", docenteId);
 
-        // Buscar docente
-        Docente docente = docenteRepository.findById(docenteId)
-                .orElseThrow(() -> new ResourceNotFoundException("Docente não encontrado"));
-
-        Usuario usuario = docente.getUsuario();
-
-        // Verificar se possui ORCID
-        if (usuario.getOrcid() == null || usuario.getOrcid().isBlank()) {
-            log.warn("Docente {} não possui ORCID cadastrado. Sincronização cancelada.", docenteId);
-            throw new OpenAlexException("Docente não possui ORCID cadastrado");
-        }
-
-        try {
-            // Normalizar ORCID (remover prefixo se houver)
-            String orcid = normalizeOrcid(usuario.getOrcid());
-
-            // Buscar autor no OpenAlex pelo ORCID
-            OpenAlexAuthorDTO author = searchAuthorByOrcid(orcid);
-
-            if (author == null) {
-                log.warn("Autor com ORCID {} não encontrado no OpenAlex", orcid);
-                throw new OpenAlexException("Autor não encontrado no OpenAlex");
-            }
-
-            // Atualizar dados do usuário
-            String authorId = extractOpenAlexId(author.getId());
-            usuario.setOpenalexAuthorId(authorId);
-            usuario.setUltimoSyncOpenalex(LocalDateTime.now());
-            usuarioRepository.save(usuario);
-
-            // Buscar trabalhos do autor
-            List<OpenAlexWorkDTO> works = searchWorksByAuthor(authorId);
-
-            // Calcular métricas
-            Integer totalPublicacoes = author.getWorks_count();
-            Integer totalCitacoes = author.getCited_by_count();
-            Integer hIndex = author.getHIndex();
-            Integer publicacoesUltimos5Anos = calculateRecentWorks(works);
-
-            // Criar nova métrica
-            MetricaDocente metrica = MetricaDocente.builder()
-                    .docente(docente)
-                    .hIndex(hIndex)
-                    .totalPublicacoes(totalPublicacoes)
-                    .totalCitacoes(totalCitacoes)
-                    .publicacoesUltimos5Anos(publicacoesUltimos5Anos)
-                    .fonte("OpenAlex")
-                    .dataColeta(LocalDateTime.now())
-                    .build();
-
-            metricaDocenteRepository.save(metrica);
+        // Buscar docente e usuário em leitura curta
+        Docente docente = leitura.execute(status -> {
+            Docente encontrado = docenteRepository.findById(docenteId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Docente não encontrado"));
+            Hibernate.initialize(encontrado.getUsuario());
+            return encontrado;
+        });
 
-            log.info("Métricas do docente {} sincronizadas com sucesso. H-index: {}, Publicações: {}, Citações: {}",
-                    docenteId, hIndex, totalPublicacoes, totalCitacoes);
-
-        } catch (Exception e) {
-            log.error("Erro ao sincronizar métricas do docente {}: {}", docenteId, e.getMessage(), e);
-            throw new OpenAlexException("Erro ao sincronizar métricas: " + e.getMessage(), e);
-        }
+        syncDocente(docente, docente.getUsuario());
     }
 
     /**
@@ -213,8 +189,11 @@ public class OpenAlexService {
      *
      * Busca todos os docentes ativos com ORCID e sincroniza suas métricas.
      * Continua a execução mesmo se houver erro em algum docente.
+     *
+     * Cada usuário é gravado em transação própria, aberta só depois das chamadas ao OpenAlex:
+     * o upsert no grafo de coautoria e a métrica são confirmados por usuário, sem segurar
+     * locks até o fim do lote, e uma falha desfaz apenas o usuário em que ocorreu.
      */
-    @Transactional
     public void syncAllDocentesMetrics() {
         log.info("Iniciando sincronização de métricas de todos os docentes");
 
@@ -233,14 +212,19 @@ public class OpenAlexService {
             Optional<Docente> docenteOpt = docenteRepository.findByUsuarioId(usuario.getId());
 
             if (docenteOpt.isEmpty()) {
-                log.debug("Usuário {} não é docente, pulando...", usuario.getId());
+                // Discentes não têm métricas, mas seus coautores entram na verificação de conflito de interesse
+                try {
+                    syncCoautoria(usuario);
+                } catch (Exception e) {
+                    log.error("Erro ao sincronizar coautoria do usuário {}: {}", usuario.getId(), e.getMessage());
+                }
                 continue;
             }
 
             Docente docente = docenteOpt.get();
 
             try {
-                syncDocenteMetrics(docente.getId());
+                syncDocente(docente, usuario);
                 sucessos++;
             } catch (Exception e) {
                 log.error("Erro ao sincronizar docente {}: {}", docente.getId(), e.getMessage());
@@ -255,6 +239,128 @@ public class OpenAlexService {
     // Métodos auxiliares privados
     // ===========================
 
+    /**
+     * Busca autor, trabalhos e métricas de um docente no OpenAlex e grava o resultado
+     * (usuário, grafo de coautoria e nova MetricaDocente) em uma transação curta.
+     *
+     * @param docente docente a sincronizar
+     * @param usuario usuário do docente
+     * @throws OpenAlexException se não houver ORCID ou houver erro na sincronização
+     */
+    private void syncDocente(Docente docente, Usuario usuario) {
+        Long docenteId = docente.getId();
+
+        // Verificar se possui ORCID
+        if (usuario.getOrcid() == null || usuario.getOrcid().isBlank()) {
+            log.warn("Docente {} não possui ORCID cadastrado. Sincronização cancelada.", docenteId);
+            throw new OpenAlexException("Docente não possui ORCID cadastrado");
+        }
+
+        try {
+            // Normalizar ORCID (remover prefixo se houver)
+            String orcid = normalizeOrcid(usuario.getOrcid());
+
+            // Buscar autor no OpenAlex pelo ORCID
+            OpenAlexAuthorDTO author = searchAuthorByOrcid(orcid);
+
+            if (author == null) {
+                log.warn("Autor com ORCID {} não encontrado no OpenAlex", orcid);
+                throw new OpenAlexException("Autor não encontrado no OpenAlex");
+            }
+
+            // Buscar trabalhos do autor
+            String authorId = extractOpenAlexId(author.getId());
+            List<OpenAlexWorkDTO> works = searchWorksByAuthor(authorId);
+
+            // Calcular métricas
+            Integer totalPublicacoes = author.getWorks_count();
+            Integer totalCitacoes = author.getCited_by_count();
+            Integer hIndex = author.getHIndex();
+            Integer publicacoesUltimos5Anos = calculateRecentWorks(works);
+            List<Coautoria> coautorias = extractCoautorias(works);
+
+            // Criar nova métrica
+            MetricaDocente metrica = MetricaDocente.builder()
+                    .docente(docente)
+                    .hIndex(hIndex)
+                    .totalPublicacoes(totalPublicacoes)
+                    .totalCitacoes(totalCitacoes)
+                    .publicacoesUltimos5Anos(publicacoesUltimos5Anos)
+                    .fonte("OpenAlex")
+                    .dataColeta(LocalDateTime.now())
+                    .build();
+
+            porUsuario.executeWithoutResult(status -> {
+                gravarAutor(usuario, authorId, coautorias);
+                metricaDocenteRepository.save(metrica);
+            });
+
+            log.info("Métricas do docente {} sincronizadas com sucesso. H-index: {}, Publicações: {}, Citações: {}",
+                    docenteId, hIndex, totalPublicacoes, totalCitacoes);
+
+        } catch (Exception e) {
+            log.error("Erro ao sincronizar métricas do docente {}: {}", docenteId, e.getMessage(), e);
+            throw new OpenAlexException("Erro ao sincronizar métricas: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Sincroniza apenas os coautores de um usuário que não é docente (discente com ORCID).
+     *
+     * @param usuario usuário com ORCID
+     */
+    private void syncCoautoria(Usuario usuario) {
+        OpenAlexAuthorDTO author = searchAuthorByOrcid(normalizeOrcid(usuario.getOrcid()));
+        if (author == null) {
+            log.debug("Usuário {} sem autor no OpenAlex, pulando...", usuario.getId());
+            return;
+        }
+
+        String authorId = extractOpenAlexId(author.getId());
+        List<Coautoria> coautorias = extractCoautorias(searchWorksByAuthor(authorId));
+
+        porUsuario.executeWithoutResult(status -> gravarAutor(usuario, authorId, coautorias));
+    }
+
+    /**
+     * Grava o ID do autor e a data de sincronização no usuário e atualiza seus coautores no grafo.
+     * Chamado dentro da transação do usuário.
+     */
+    private void gravarAutor(Usuario usuario, String authorId, List<Coautoria> coautorias) {
+        usuario.setOpenalexAuthorId(authorId);
+        usuario.setUltimoSyncOpenalex(LocalDateTime.now());
+        usuarioRepository.save(usuario);
+
+        grafoCoautoria.atualizar(GrafoCoautoria.autorId(authorId), coautorias);
+    }
+
+    /**
+     * Extrai os coautores dos trabalhos, com o ano de publicação de cada trabalho.
+     * O próprio autor é descartado pelo grafo.
+     *
+     * @param works lista de trabalhos
+     * @return coautorias (um item por autor e trabalho)
+     */
+    private List<Coautoria> extractCoautorias(List<OpenAlexWorkDTO> works) {
+        List<Coautoria> coautorias = new ArrayList<>();
+        for (OpenAlexWorkDTO work : works) {
+            if (work.getPublication_year() == null || work.getAuthorships() == null) {
+                continue;
+            }
+            for (OpenAlexWorkDTO.Authorship authorship : work.getAuthorships()) {
+                Long coautorId = authorship.getAuthor() == null
+                        ? null
+                        : GrafoCoautoria.autorId(authorship.getAuthor().getId());
+                if (coautorId != null) {
+                    coautorias.add(new Coautoria(coautorId,
+                            GrafoCoautoria.normalizarOrcid(authorship.getAuthor().getOrcid()),
+                            work.getPublication_year()));
+                }
+            }
+        }
+        return coautorias;
+    }
+
     /**
      * Normaliza ORCID removendo prefixos e mantendo apenas os números.
      *
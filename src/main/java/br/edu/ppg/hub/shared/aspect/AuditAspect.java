@@ -1,26 +1,68 @@
 package br.edu.ppg.hub.shared.aspect;
 
 import br.edu.ppg.hub.auth.application.service.AuditService;
-import lombok.RequiredArgsConstructor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.EntityType;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.hibernate.Hibernate;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Aspect para auditoria automática de operações CRUD.
  *
  * Intercepta métodos de Service e registra automaticamente no log de auditoria.
+ * Em atualizações grava apenas os campos alterados (diff) e em exclusões o estado removido.
+ *
+ * Atualizações e exclusões rodam em uma transação aberta pelo aspecto: o estado
+ * anterior é lido da entidade gerenciada ({@link EntityManager#find}), que o Service
+ * reaproveita do contexto de persistência, e o estado novo é a mesma instância após
+ * a alteração. Os logs são registrados após o commit.
  */
 @Aspect
 @Component
-@RequiredArgsConstructor
+@Order(AuditAspect.ORDEM)
 @Slf4j
 public class AuditAspect {
 
+    /**
+     * Antes (por fora) do advisor de transação, que usa a ordem padrão
+     * {@link Ordered#LOWEST_PRECEDENCE}.
+     */
+    public static final int ORDEM = Ordered.LOWEST_PRECEDENCE - 100;
+
+    /**
+     * Marcador de entidade não mapeada no cache de tipos
+     */
+    private static final Class<?> SEM_ENTIDADE = Void.class;
+
     private final AuditService auditService;
+    private final AuditFieldAccessor fieldAccessor;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transacao;
+    private final Map<String, Class<?>> entidades = new ConcurrentHashMap<>();
+
+    public AuditAspect(AuditService auditService,
+                       AuditFieldAccessor fieldAccessor,
+                       EntityManager entityManager,
+                       PlatformTransactionManager transactionManager) {
+        this.auditService = auditService;
+        this.fieldAccessor = fieldAccessor;
+        this.entityManager = entityManager;
+        this.transacao = new TransactionTemplate(transactionManager);
+    }
 
     /**
      * Pointcut para métodos create() em Services.
@@ -50,9 +92,10 @@ public class AuditAspect {
             String entityName = getEntityNameFromService(className);
 
             // Extrair ID do objeto retornado (se tiver)
-            Long entityId = extractId(result);
+            Long entityId = fieldAccessor.extractId(result);
 
-            auditService.registrarCriacao(entityName, entityId, result);
+            auditService.registrarCriacao(entityName, entityId,
+                    fieldAccessor.compactar(fieldAccessor.snapshot(result)));
             log.debug("Auditado CREATE: {} #{}", entityName, entityId);
 
         } catch (Exception e) {
@@ -61,45 +104,111 @@ public class AuditAspect {
     }
 
     /**
-     * Audita operações de atualização.
+     * Audita operações de atualização registrando apenas os campos alterados.
      */
-    @AfterReturning(pointcut = "updateMethods()", returning = "result")
-    public void auditUpdate(JoinPoint joinPoint, Object result) {
-        try {
-            String className = getSimpleClassName(joinPoint);
-            String entityName = getEntityNameFromService(className);
+    @Around("updateMethods()")
+    public Object auditUpdate(ProceedingJoinPoint joinPoint) throws Throwable {
+        // Primeiro argumento geralmente é o ID
+        Long entityId = getIdArgument(joinPoint);
+        String entityName = getEntityNameFromService(getSimpleClassName(joinPoint));
+        Estados estados = new Estados();
 
-            // Primeiro argumento geralmente é o ID
-            Object[] args = joinPoint.getArgs();
-            Long entityId = args.length > 0 && args[0] instanceof Long ? (Long) args[0] : extractId(result);
+        Object result = emTransacao(() -> {
+            Object entidade = carregarEntidade(entityName, entityId);
+            estados.anterior = fieldAccessor.snapshot(entidade);
+            Object retorno = joinPoint.proceed();
+            // Mesma instância gerenciada, já alterada pelo Service
+            estados.novo = fieldAccessor.snapshot(entidade != null ? entidade : retorno);
+            return retorno;
+        });
 
-            auditService.registrarAtualizacao(entityName, entityId, null, result);
-            log.debug("Auditado UPDATE: {} #{}", entityName, entityId);
+        try {
+            Long id = entityId != null ? entityId : fieldAccessor.extractId(result);
+            AuditFieldAccessor.AuditDiff diff = fieldAccessor.diff(estados.anterior, estados.novo);
+            auditService.registrarAtualizacao(entityName, id, diff.anteriores(), diff.novos());
+            log.debug("Auditado UPDATE: {} #{}", entityName, id);
 
         } catch (Exception e) {
             log.error("Erro ao auditar atualização", e);
         }
+        return result;
     }
 
     /**
-     * Audita operações de exclusão.
+     * Audita operações de exclusão registrando o estado removido.
      */
-    @AfterReturning(pointcut = "deleteMethods()")
-    public void auditDelete(JoinPoint joinPoint) {
-        try {
-            String className = getSimpleClassName(joinPoint);
-            String entityName = getEntityNameFromService(className);
+    @Around("deleteMethods()")
+    public Object auditDelete(ProceedingJoinPoint joinPoint) throws Throwable {
+        // Primeiro argumento geralmente é o ID
+        Long entityId = getIdArgument(joinPoint);
+        String entityName = getEntityNameFromService(getSimpleClassName(joinPoint));
+        Estados estados = new Estados();
 
-            // Primeiro argumento geralmente é o ID
-            Object[] args = joinPoint.getArgs();
-            Long entityId = args.length > 0 && args[0] instanceof Long ? (Long) args[0] : null;
+        Object result = emTransacao(() -> {
+            estados.anterior = fieldAccessor.snapshot(carregarEntidade(entityName, entityId));
+            return joinPoint.proceed();
+        });
 
-            auditService.registrarExclusao(entityName, entityId, null);
+        try {
+            auditService.registrarExclusao(entityName, entityId, fieldAccessor.compactar(estados.anterior));
             log.debug("Auditado DELETE: {} #{}", entityName, entityId);
 
         } catch (Exception e) {
             log.error("Erro ao auditar exclusão", e);
         }
+        return result;
+    }
+
+    /**
+     * Carrega a entidade pelo {@link EntityManager} na transação corrente. O Service,
+     * ao buscá-la em seguida, recebe a mesma instância do contexto de persistência,
+     * sem novo SELECT; apenas os campos escalares entram no snapshot (sem lazy loads).
+     */
+    private Object carregarEntidade(String entityName, Long entityId) {
+        if (entityId == null) {
+            return null;
+        }
+        try {
+            Class<?> tipo = entidades.computeIfAbsent(entityName, nome -> entityManager.getMetamodel()
+                    .getEntities().stream()
+                    .filter(entidade -> entidade.getName().equals(nome))
+                    .<Class<?>>map(EntityType::getJavaType)
+                    .findFirst()
+                    .orElse(SEM_ENTIDADE));
+            return tipo != SEM_ENTIDADE ? Hibernate.unproxy(entityManager.find(tipo, entityId)) : null;
+        } catch (Exception e) {
+            log.debug("Não foi possível capturar estado anterior de {} #{}", entityName, entityId, e);
+            return null;
+        }
+    }
+
+    /**
+     * Executa o método auditado em uma transação aberta pelo aspecto; a transação
+     * do Service participa dela. O registro de auditoria é feito pelo chamador
+     * depois do retorno, ou seja, após o commit.
+     */
+    private Object emTransacao(Acao acao) throws Throwable {
+        try {
+            return transacao.execute(status -> {
+                try {
+                    return acao.executar();
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new FalhaVerificada(e);
+                }
+            });
+        } catch (FalhaVerificada e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Obtém o ID do primeiro argumento, se for Long.
+     */
+    private Long getIdArgument(JoinPoint joinPoint) {
+        Object[] args = joinPoint.getArgs();
+        return args.length > 0 && args[0] instanceof Long ? (Long) args[0] : null;
     }
 
     /**
@@ -121,22 +230,27 @@ public class AuditAspect {
     }
 
     /**
-     * Tenta extrair ID de um objeto (busca método getId()).
+     * Trecho auditado, que pode lançar exceções verificadas
      */
-    private Long extractId(Object obj) {
-        try {
-            if (obj == null) {
-                return null;
-            }
-            // Tenta chamar getId() usando reflection
-            var method = obj.getClass().getMethod("getId");
-            Object id = method.invoke(obj);
-            if (id instanceof Long) {
-                return (Long) id;
-            }
-        } catch (Exception e) {
-            // Ignora se não conseguir extrair ID
+    @FunctionalInterface
+    private interface Acao {
+        Object executar() throws Throwable;
+    }
+
+    /**
+     * Estados capturados dentro da transação
+     */
+    private static final class Estados {
+        private Map<String, Object> anterior;
+        private Map<String, Object> novo;
+    }
+
+    /**
+     * Transporta uma exceção verificada através do {@link TransactionTemplate}
+     */
+    private static final class FalhaVerificada extends RuntimeException {
+        FalhaVerificada(Throwable causa) {
+            super(causa);
         }
-        return null;
     }
 }
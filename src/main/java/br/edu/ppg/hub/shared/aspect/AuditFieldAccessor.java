@@ -0,0 +1,201 @@
+package br.edu.ppg.hub.shared.aspect;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.temporal.Temporal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Acesso pré-computado aos campos auditáveis de DTOs e entidades.
+ *
+ * <p>Para cada tipo, os getters de valores escalares (texto, números, datas, enums,
+ * UUID, booleanos) são resolvidos uma única vez em {@link MethodHandle}s e mantidos
+ * em um {@link ClassValue}. Associações, coleções e campos sensíveis (senhas,
+ * tokens, hashes) ficam fora do snapshot.</p>
+ *
+ * <p>Os snapshots permitem gravar apenas a diferença entre o estado anterior e o
+ * novo em {@code dados_anteriores}/{@code dados_novos}.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Component
+@Slf4j
+public class AuditFieldAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * Campos de controle que não agregam informação ao diff.
+     */
+    private static final Set<String> CAMPOS_CONTROLE = Set.of("createdAt", "updatedAt");
+
+    private static final ClassValue<TypeAccessor> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected TypeAccessor computeValue(Class<?> type) {
+            return TypeAccessor.of(type);
+        }
+    };
+
+    /**
+     * Extrai o ID ({@code getId()}) do objeto, se houver.
+     */
+    public Long extractId(Object obj) {
+        if (obj == null) {
+            return null;
+        }
+        MethodHandle idHandle = ACCESSORS.get(obj.getClass()).id();
+        if (idHandle == null) {
+            return null;
+        }
+        try {
+            Object id = idHandle.invokeExact(obj);
+            return id instanceof Long ? (Long) id : null;
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * Captura os campos escalares do objeto (inclui valores nulos).
+     */
+    public Map<String, Object> snapshot(Object obj) {
+        if (obj == null) {
+            return null;
+        }
+        Map<String, MethodHandle> campos = ACCESSORS.get(obj.getClass()).campos();
+        Map<String, Object> valores = new LinkedHashMap<>(campos.size() * 2);
+        for (Map.Entry<String, MethodHandle> campo : campos.entrySet()) {
+            try {
+                valores.put(campo.getKey(), campo.getValue().invokeExact(obj));
+            } catch (Throwable e) {
+                log.trace("Campo {} ignorado na auditoria de {}", campo.getKey(), obj.getClass().getSimpleName());
+            }
+        }
+        return valores;
+    }
+
+    /**
+     * Remove valores nulos e campos de controle do snapshot.
+     */
+    public Map<String, Object> compactar(Map<String, Object> snapshot) {
+        if (snapshot == null) {
+            return null;
+        }
+        Map<String, Object> compacto = new LinkedHashMap<>();
+        snapshot.forEach((campo, valor) -> {
+            if (valor != null && !CAMPOS_CONTROLE.contains(campo)) {
+                compacto.put(campo, valor);
+            }
+        });
+        return compacto.isEmpty() ? null : compacto;
+    }
+
+    /**
+     * Calcula a diferença entre dois snapshots do mesmo tipo.
+     */
+    public AuditDiff diff(Map<String, Object> anterior, Map<String, Object> novo) {
+        if (anterior == null || novo == null) {
+            return new AuditDiff(compactar(anterior), compactar(novo));
+        }
+        Map<String, Object> antes = new LinkedHashMap<>();
+        Map<String, Object> depois = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> campo : novo.entrySet()) {
+            String nome = campo.getKey();
+            if (CAMPOS_CONTROLE.contains(nome)) {
+                continue;
+            }
+            Object valorAnterior = anterior.get(nome);
+            if (!Objects.equals(valorAnterior, campo.getValue())) {
+                antes.put(nome, valorAnterior);
+                depois.put(nome, campo.getValue());
+            }
+        }
+        return new AuditDiff(antes.isEmpty() ? null : antes, depois.isEmpty() ? null : depois);
+    }
+
+    /**
+     * Diferença entre os estados anterior e novo (apenas campos alterados).
+     */
+    public record AuditDiff(Map<String, Object> anteriores, Map<String, Object> novos) {
+    }
+
+    /**
+     * Handles pré-computados de um tipo.
+     */
+    private record TypeAccessor(MethodHandle id, Map<String, MethodHandle> campos) {
+
+        static TypeAccessor of(Class<?> type) {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            MethodHandle id = null;
+            Map<String, MethodHandle> campos = new LinkedHashMap<>();
+
+            Method[] metodos = type.getMethods();
+            Arrays.sort(metodos, Comparator.comparing(Method::getName));
+
+            for (Method metodo : metodos) {
+                String campo = nomeCampo(metodo);
+                if (campo == null || isSensivel(campo) || !isEscalar(metodo.getReturnType())) {
+                    continue;
+                }
+                try {
+                    MethodHandle handle = lookup.unreflect(metodo).asType(GETTER_TYPE);
+                    campos.put(campo, handle);
+                    if ("id".equals(campo)) {
+                        id = handle;
+                    }
+                } catch (IllegalAccessException e) {
+                    // Classe não pública (ex.: proxies): campo não auditado
+                }
+            }
+            return new TypeAccessor(id, Collections.unmodifiableMap(campos));
+        }
+
+        private static String nomeCampo(Method metodo) {
+            if (metodo.getParameterCount() != 0 || Modifier.isStatic(metodo.getModifiers())
+                    || metodo.getDeclaringClass() == Object.class) {
+                return null;
+            }
+            String nome = metodo.getName();
+            if (nome.startsWith("get") && nome.length() > 3) {
+                return Character.toLowerCase(nome.charAt(3)) + nome.substring(4);
+            }
+            if (nome.startsWith("is") && nome.length() > 2
+                    && (metodo.getReturnType() == boolean.class || metodo.getReturnType() == Boolean.class)) {
+                return Character.toLowerCase(nome.charAt(2)) + nome.substring(3);
+            }
+            return null;
+        }
+
+        private static boolean isSensivel(String campo) {
+            String nome = campo.toLowerCase(Locale.ROOT);
+            return nome.contains("password") || nome.contains("senha")
+                    || nome.contains("token") || nome.contains("hash");
+        }
+
+        private static boolean isEscalar(Class<?> tipo) {
+            return (tipo.isPrimitive() && tipo != void.class)
+                    || tipo == String.class
+                    || tipo == Boolean.class
+                    || tipo == Character.class
+                    || tipo == UUID.class
+                    || tipo.isEnum()
+                    || Number.class.isAssignableFrom(tipo)
+                    || Temporal.class.isAssignableFrom(tipo);
+        }
+    }
+}
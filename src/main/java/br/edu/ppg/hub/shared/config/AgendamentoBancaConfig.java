@@ -0,0 +1,49 @@
+package br.edu.ppg.hub.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configurações do agendamento de bancas externalizadas via application.yml
+ *
+ * Exemplo de uso no application.yml:
+ * <pre>
+ * ppg:
+ *   bancas:
+ *     duracao-padrao-minutos: 180   # bancas sem horário de término
+ *     prazo-alocacao-ms: 2000       # orçamento de tempo da alocação em lote
+ *     max-bancas-por-lote: 300
+ *     anos-conflito-coautoria: 5    # coautoria recente com discente/orientador
+ * </pre>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "ppg.bancas")
+public class AgendamentoBancaConfig {
+
+    /**
+     * Duração considerada para bancas sem horário de término e nas propostas de agendamento.
+     * Padrão: 180 minutos
+     */
+    private int duracaoPadraoMinutos = 180;
+
+    /**
+     * Tempo máximo da busca de horários para um lote; ao fim, devolve a melhor alocação encontrada.
+     * Padrão: 2000ms
+     */
+    private long prazoAlocacaoMs = 2000;
+
+    /**
+     * Número máximo de bancas em uma proposta de agendamento.
+     * Padrão: 300
+     */
+    private int maxBancasPorLote = 300;
+
+    /**
+     * Janela, em anos, em que uma coautoria (OpenAlex) entre membro externo e discente ou
+     * orientador caracteriza conflito de interesse.
+     * Padrão: 5 anos
+     */
+    private int anosConflitoCoautoria = 5;
+}
@@ -0,0 +1,78 @@
+package br.edu.ppg.hub.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configurações do pipeline assíncrono de auditoria externalizadas via application.yml
+ *
+ * Exemplo de uso no application.yml:
+ * <pre>
+ * ppg:
+ *   audit:
+ *     buffer-capacity: 8192     # eventos em memória antes de aplicar backpressure
+ *     batch-size: 500           # linhas por INSERT em lote
+ *     flush-interval-ms: 200    # intervalo máximo entre flushes
+ *     offer-timeout-ms: 50      # espera máxima do request quando o buffer está cheio
+ *     shutdown-timeout-ms: 10000
+ *     particoes-meses-a-frente: 3
+ *     retencao-dias: 0          # 0 = sem retenção automática
+ *     janela-recentes-dias: 90  # período lido pelas consultas de logs recentes
+ * </pre>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "ppg.audit")
+public class AuditConfig {
+
+    /**
+     * Capacidade do buffer circular de eventos.
+     * Padrão: 8192 eventos
+     */
+    private int bufferCapacity = 8192;
+
+    /**
+     * Número máximo de eventos gravados por lote.
+     * Padrão: 500
+     */
+    private int batchSize = 500;
+
+    /**
+     * Intervalo máximo (ms) que um evento aguarda no buffer antes do flush.
+     * Padrão: 200 ms
+     */
+    private long flushIntervalMs = 200;
+
+    /**
+     * Tempo máximo (ms) que a thread do request espera por espaço no buffer.
+     * Esgotado o prazo, o evento é gravado de forma síncrona pela própria thread
+     * (caller-runs), de modo que nenhum evento é descartado.
+     * Padrão: 50 ms
+     */
+    private long offerTimeoutMs = 50;
+
+    /**
+     * Tempo máximo (ms) para drenar o buffer no desligamento da aplicação.
+     * Padrão: 10 segundos
+     */
+    private long shutdownTimeoutMs = 10000;
+
+    /**
+     * Quantidade de partições mensais de audit_logs mantidas criadas à frente.
+     * Padrão: 3 meses
+     */
+    private int particoesMesesAFrente = 3;
+
+    /**
+     * Retenção automática em dias (remoção de partições inteiras pelo job diário).
+     * Padrão: 0 (desativada - limpeza apenas manual)
+     */
+    private int retencaoDias = 0;
+
+    /**
+     * Período (dias) lido pelas consultas de logs recentes, limitando as partições varridas.
+     * Padrão: 90 dias
+     */
+    private int janelaRecentesDias = 90;
+}
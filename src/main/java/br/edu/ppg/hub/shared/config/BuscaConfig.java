@@ -0,0 +1,43 @@
+package br.edu.ppg.hub.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configurações da busca unificada (pessoas e instituições) externalizadas via application.yml
+ *
+ * Exemplo de uso no application.yml:
+ * <pre>
+ * ppg:
+ *   busca:
+ *     limiar-similaridade: 0.3      # word_similarity mínima para casar sem substring
+ *     autocompletar-timeout-ms: 150 # orçamento de latência do autocompletar
+ *     autocompletar-max: 10         # sugestões por requisição
+ * </pre>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "ppg.busca")
+public class BuscaConfig {
+
+    /**
+     * Similaridade de palavra (pg_trgm.word_similarity_threshold) mínima para um
+     * registro casar por aproximação quando o termo não é substring do nome.
+     * Padrão: 0.3
+     */
+    private double limiarSimilaridade = 0.3;
+
+    /**
+     * Tempo máximo da consulta do autocompletar em milissegundos (statement_timeout).
+     * Ao estourar, o autocompletar responde sem sugestões em vez de atrasar a digitação.
+     * Padrão: 150ms
+     */
+    private long autocompletarTimeoutMs = 150;
+
+    /**
+     * Número máximo de sugestões do autocompletar.
+     * Padrão: 10
+     */
+    private int autocompletarMax = 10;
+}
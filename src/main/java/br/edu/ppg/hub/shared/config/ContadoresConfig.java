@@ -0,0 +1,36 @@
+package br.edu.ppg.hub.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configurações dos contadores de métricas dos trabalhos (downloads, visualizações, citações)
+ * externalizadas via application.yml
+ *
+ * Exemplo de uso no application.yml:
+ * <pre>
+ * ppg:
+ *   contadores:
+ *     flush-interval-ms: 1000                         # gravação em lote no banco
+ *     arquivo-pendentes: ./data/contadores-pendentes.csv # incrementos não gravados no encerramento
+ * </pre>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "ppg.contadores")
+public class ContadoresConfig {
+
+    /**
+     * Intervalo de gravação dos contadores em milissegundos.
+     * Padrão: 1000ms
+     */
+    private long flushIntervalMs = 1000;
+
+    /**
+     * Arquivo onde os incrementos são salvos se o banco estiver indisponível no
+     * encerramento; é relido e gravado na próxima inicialização.
+     * Padrão: ./data/contadores-pendentes.csv
+     */
+    private String arquivoPendentes = "./data/contadores-pendentes.csv";
+}
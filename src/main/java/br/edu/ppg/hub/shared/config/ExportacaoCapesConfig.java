@@ -0,0 +1,43 @@
+package br.edu.ppg.hub.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configurações da exportação anual para a CAPES (Sucupira) externalizadas via application.yml
+ *
+ * Exemplo de uso no application.yml:
+ * <pre>
+ * ppg:
+ *   capes:
+ *     diretorio: /var/lib/ppg-hub/exportacoes-capes
+ *     tamanho-lote: 1000        # linhas por checkpoint (e fetchSize do cursor)
+ *     expiracao-minutos: 10     # exportação sem checkpoint há mais tempo é retomada
+ * </pre>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "ppg.capes")
+public class ExportacaoCapesConfig {
+
+    /**
+     * Diretório das exportações. Cada exportação tem um subdiretório com as
+     * seções parciais e o pacote final.
+     * Padrão: ./data/exportacoes-capes
+     */
+    private String diretorio = "./data/exportacoes-capes";
+
+    /**
+     * Linhas lidas por vez do cursor e gravadas entre dois checkpoints.
+     * Padrão: 1000
+     */
+    private int tamanhoLote = 1000;
+
+    /**
+     * Tempo sem checkpoint após o qual uma exportação em execução é considerada
+     * interrompida e pode ser retomada por qualquer instância.
+     * Padrão: 10 minutos
+     */
+    private int expiracaoMinutos = 10;
+}
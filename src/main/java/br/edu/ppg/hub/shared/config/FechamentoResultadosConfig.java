@@ -0,0 +1,58 @@
+package br.edu.ppg.hub.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Configurações do fechamento de resultados por período externalizadas via application.yml
+ *
+ * Exemplo de uso no application.yml:
+ * <pre>
+ * ppg:
+ *   resultados:
+ *     paralelismo: 4        # ofertas fechadas ao mesmo tempo (cada uma ocupa uma conexão)
+ *     capacidade-fila: 256  # ofertas aguardando; com a fila cheia o chamador fecha a oferta
+ * </pre>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "ppg.resultados")
+public class FechamentoResultadosConfig {
+
+    /**
+     * Threads do executor compartilhado por todos os fechamentos em andamento.
+     * Limitado pelo pool de conexões: cada oferta fecha em uma transação própria.
+     * Padrão: 4
+     */
+    private int paralelismo = 4;
+
+    /**
+     * Ofertas aguardando uma thread livre.
+     * Padrão: 256
+     */
+    private int capacidadeFila = 256;
+
+    /**
+     * Executor único para o fechamento de resultados: fechamentos simultâneos de períodos
+     * diferentes dividem as mesmas threads em vez de criar um pool por chamada.
+     */
+    @Bean
+    public AsyncTaskExecutor fechamentoResultadosExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(paralelismo);
+        executor.setMaxPoolSize(paralelismo);
+        executor.setQueueCapacity(capacidadeFila);
+        executor.setThreadNamePrefix("ppg-fechamento-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,55 @@
+package br.edu.ppg.hub.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configurações de limitação de tentativas de login externalizadas via application.yml
+ *
+ * Exemplo de uso no application.yml:
+ * <pre>
+ * ppg:
+ *   login:
+ *     ip-max-tentativas: 20      # tentativas por IP na janela
+ *     ip-janela-segundos: 60
+ *     conta-max-falhas: 5        # falhas por conta antes do bloqueio
+ *     conta-janela-minutos: 30   # janela e duração do bloqueio da conta
+ *     max-chaves: 100000         # limite de IPs/contas monitorados em memória
+ * </pre>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "ppg.login")
+public class LoginThrottleConfig {
+
+    /**
+     * Tentativas de login permitidas por IP dentro da janela.
+     * Padrão: 20
+     */
+    private int ipMaxTentativas = 20;
+
+    /**
+     * Janela deslizante por IP em segundos.
+     * Padrão: 60 segundos
+     */
+    private long ipJanelaSegundos = 60;
+
+    /**
+     * Falhas permitidas por conta dentro da janela (alinhado ao trigger de bloqueio do banco).
+     * Padrão: 5
+     */
+    private int contaMaxFalhas = 5;
+
+    /**
+     * Janela deslizante por conta em minutos.
+     * Padrão: 30 minutos
+     */
+    private long contaJanelaMinutos = 30;
+
+    /**
+     * Quantidade máxima de chaves (IPs/contas) mantidas em memória.
+     * Padrão: 100000
+     */
+    private int maxChaves = 100000;
+}
@@ -0,0 +1,49 @@
+package br.edu.ppg.hub.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configurações de hashing de senhas externalizadas via application.yml
+ *
+ * Exemplo de uso no application.yml:
+ * <pre>
+ * ppg:
+ *   password:
+ *     bcrypt-strength: 12     # fator de custo (hashes com outro custo são refeitos no login)
+ *     threads: 0              # 0 = número de núcleos disponíveis
+ *     queue-capacity: 64      # hashes aguardando antes de rejeitar (HTTP 429)
+ *     timeout-ms: 5000
+ * </pre>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "ppg.password")
+public class PasswordHashingConfig {
+
+    /**
+     * Fator de custo do BCrypt.
+     * Padrão: 12
+     */
+    private int bcryptStrength = 12;
+
+    /**
+     * Threads dedicadas ao hashing (0 = núcleos disponíveis).
+     * Padrão: 0
+     */
+    private int threads = 0;
+
+    /**
+     * Capacidade da fila de hashes pendentes (controle de admissão).
+     * Padrão: 64
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * Tempo máximo de espera por um hash em milissegundos (hashes ainda na fila são
+     * descartados; um hash já em execução não é interrompido).
+     * Padrão: 5 segundos
+     */
+    private long timeoutMs = 5000;
+}
@@ -0,0 +1,50 @@
+package br.edu.ppg.hub.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Configurações do monitoramento de prazos de discentes externalizadas via application.yml
+ *
+ * Exemplo de uso no application.yml:
+ * <pre>
+ * ppg:
+ *   prazos:
+ *     antecedencias-dias: 90,30,7,0   # alertas antes do vencimento (0 = no dia)
+ *     meses-qualificacao-mestrado: 12 # a partir do ingresso
+ *     meses-qualificacao-doutorado: 24
+ *     tamanho-lote-alertas: 500
+ * </pre>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "ppg.prazos")
+public class PrazosConfig {
+
+    /**
+     * Dias antes do vencimento em que um alerta é emitido.
+     * Padrão: 90, 30, 7 e 0 (no dia)
+     */
+    private List<Integer> antecedenciasDias = List.of(90, 30, 7, 0);
+
+    /**
+     * Prazo de qualificação do mestrado, em meses a partir do ingresso.
+     * Padrão: 12 meses
+     */
+    private int mesesQualificacaoMestrado = 12;
+
+    /**
+     * Prazo de qualificação do doutorado, em meses a partir do ingresso.
+     * Padrão: 24 meses
+     */
+    private int mesesQualificacaoDoutorado = 24;
+
+    /**
+     * Número máximo de alertas por evento publicado.
+     * Padrão: 500
+     */
+    private int tamanhoLoteAlertas = 500;
+}
@@ -0,0 +1,36 @@
+package br.edu.ppg.hub.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configurações da alocação de vagas em ofertas de disciplina externalizadas via application.yml
+ *
+ * Exemplo de uso no application.yml:
+ * <pre>
+ * ppg:
+ *   enrollment:
+ *     alocador-em-memoria: true   # false = reserva direto no banco (várias instâncias)
+ *     flush-interval-ms: 500      # gravação em lote dos contadores de vagas
+ * </pre>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "ppg.enrollment")
+public class SeatAllocationConfig {
+
+    /**
+     * Mantém os contadores de vagas e a lista de espera em memória.
+     * Válido apenas com uma única instância da aplicação; com várias instâncias,
+     * desabilitar para reservar com UPDATE condicional no banco (sem lista de espera).
+     * Padrão: true
+     */
+    private boolean alocadorEmMemoria = true;
+
+    /**
+     * Intervalo de gravação dos contadores de vagas em milissegundos.
+     * Padrão: 500ms
+     */
+    private long flushIntervalMs = 500;
+}
@@ -44,6 +44,7 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthFilter;
     private final UserDetailsService userDetailsService;
+    private final PasswordHashingConfig passwordHashingConfig;
 
     /**
      * Configuração principal de segurança.
@@ -146,10 +147,11 @@ public class SecurityConfig {
     /**
      * Password encoder usando BCrypt.
      * BCrypt automaticamente adiciona salt e é resistente a ataques de força bruta.
+     * O custo vem de ppg.password.bcrypt-strength (quanto maior, mais seguro mas mais lento).
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12); // Strength 12 (quanto maior, mais seguro mas mais lento)
+        return new BCryptPasswordEncoder(passwordHashingConfig.getBcryptStrength());
     }
 
     /**
@@ -0,0 +1,34 @@
+package br.edu.ppg.hub.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configurações do armazenamento de documentos (PDFs de trabalhos) externalizadas via application.yml
+ *
+ * Exemplo de uso no application.yml:
+ * <pre>
+ * ppg:
+ *   storage:
+ *     diretorio: /var/lib/ppg-hub/documentos
+ *     tamanho-maximo-bytes: 52428800   # 50MB
+ * </pre>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "ppg.storage")
+public class StorageConfig {
+
+    /**
+     * Diretório raiz dos documentos. Os arquivos ficam em subdiretórios pelo hash do conteúdo.
+     * Padrão: ./data/documentos
+     */
+    private String diretorio = "./data/documentos";
+
+    /**
+     * Tamanho máximo de um documento, verificado durante a gravação.
+     * Padrão: 50MB
+     */
+    private long tamanhoMaximoBytes = 50L * 1024 * 1024;
+}
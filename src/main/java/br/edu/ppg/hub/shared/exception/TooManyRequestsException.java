@@ -0,0 +1,20 @@
+package br.edu.ppg.hub.shared.exception;
+
+import lombok.Getter;
+
+/**
+ * Exceção lançada quando o cliente excede o limite de requisições permitido.
+ */
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    /**
+     * Segundos até que uma nova tentativa seja aceita.
+     */
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
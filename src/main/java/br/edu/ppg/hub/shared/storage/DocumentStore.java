@@ -0,0 +1,52 @@
+package br.edu.ppg.hub.shared.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Armazenamento de documentos endereçado pelo conteúdo.
+ *
+ * <p>A chave de um documento é o SHA-256 dos seus bytes: gravar o mesmo arquivo
+ * duas vezes devolve a mesma chave e não ocupa espaço adicional. Documentos são
+ * imutáveis, o que permite usar a chave como ETag.</p>
+ *
+ * <p>A implementação padrão é {@link LocalDocumentStore}; outros backends (S3/MinIO)
+ * podem implementar esta interface sem alterar os serviços.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public interface DocumentStore {
+
+    /**
+     * Grava o conteúdo do stream, calculando o hash durante a cópia.
+     *
+     * @throws br.edu.ppg.hub.shared.exception.BusinessException se exceder o tamanho máximo
+     */
+    DocumentoArmazenado armazenar(InputStream conteudo) throws IOException;
+
+    /**
+     * Metadados do documento, se existir.
+     */
+    Optional<DocumentoArmazenado> buscar(String chave) throws IOException;
+
+    /**
+     * Copia {@code tamanho} bytes a partir de {@code inicio} para o canal de destino.
+     */
+    void transferir(String chave, long inicio, long tamanho, WritableByteChannel destino) throws IOException;
+
+    /**
+     * Remove o documento, se existir. Cabe ao chamador garantir que nenhum registro usa a chave.
+     */
+    void remover(String chave) throws IOException;
+
+    /**
+     * Caminho no sistema de arquivos local, quando o backend o possui (permite sendfile).
+     */
+    default Optional<Path> caminhoLocal(String chave) {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,15 @@
+package br.edu.ppg.hub.shared.storage;
+
+import java.time.Instant;
+
+/**
+ * Metadados de um documento no {@link DocumentStore}.
+ *
+ * @param chave       SHA-256 do conteúdo em hexadecimal (também usado como ETag)
+ * @param tamanho     tamanho em bytes
+ * @param modificadoEm data de gravação
+ * @author PPG Hub
+ * @since 1.0
+ */
+public record DocumentoArmazenado(String chave, long tamanho, Instant modificadoEm) {
+}
@@ -0,0 +1,127 @@
+package br.edu.ppg.hub.shared.storage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Envio de documentos do {@link DocumentStore} na resposta HTTP.
+ *
+ * <p>Suporta GET condicional (ETag = hash do conteúdo, Last-Modified) e um único
+ * intervalo {@code Range} com {@code If-Range}; pedidos com vários intervalos ou
+ * malformados recebem o documento inteiro. O corpo é enviado pelo sendfile do
+ * Tomcat quando o conector o suporta e o documento está em disco local, sem passar
+ * pela heap; caso contrário, é copiado em blocos para o stream da resposta.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class EnvioDocumento {
+
+    private static final String SENDFILE_SUPORTADO = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_ARQUIVO = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_INICIO = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_FIM = "org.apache.tomcat.sendfile.end";
+
+    private final DocumentStore documentStore;
+
+    /**
+     * Escreve o documento (ou o intervalo pedido) na resposta.
+     *
+     * @return true se o início do documento foi enviado, isto é, o pedido conta como download;
+     *         false para 304, 412, 416, HEAD e intervalos que não começam no byte 0
+     */
+    public boolean enviar(DocumentoArmazenado documento, String nomeArquivo, MediaType tipo,
+                          HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String etag = "\"" + documento.chave() + "\"";
+        long ultimaModificacao = documento.modificadoEm().toEpochMilli();
+        if (new ServletWebRequest(request, response).checkNotModified(etag, ultimaModificacao)) {
+            return false;
+        }
+
+        long tamanho = documento.tamanho();
+        long inicio = 0;
+        long fim = tamanho - 1;
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && tamanho > 0 && rangeAplicavel(request, etag, ultimaModificacao)) {
+            List<HttpRange> ranges = intervalos(range);
+            if (ranges.size() == 1) {
+                try {
+                    inicio = ranges.get(0).getRangeStart(tamanho);
+                    fim = ranges.get(0).getRangeEnd(tamanho);
+                } catch (IllegalArgumentException e) {
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + tamanho);
+                    return false;
+                }
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + inicio + "-" + fim + "/" + tamanho);
+            }
+        }
+
+        long quantidade = fim - inicio + 1;
+        response.setContentType(tipo.toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(nomeArquivo, StandardCharsets.UTF_8).build().toString());
+        response.setContentLengthLong(quantidade);
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || quantidade <= 0) {
+            return false;
+        }
+
+        Optional<Path> arquivo = documentStore.caminhoLocal(documento.chave());
+        if (arquivo.isPresent() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPORTADO))) {
+            // O conector transfere o arquivo direto do kernel depois que o controller retorna
+            request.setAttribute(SENDFILE_ARQUIVO, arquivo.get().toString());
+            request.setAttribute(SENDFILE_INICIO, inicio);
+            request.setAttribute(SENDFILE_FIM, fim + 1);
+        } else {
+            // O destino não é um canal de arquivo/socket: transferTo não é zero-copy aqui,
+            // o JDK lê o arquivo em blocos na heap e os escreve no stream da resposta
+            documentStore.transferir(documento.chave(), inicio, quantidade,
+                    Channels.newChannel(response.getOutputStream()));
+        }
+        return inicio == 0;
+    }
+
+    /**
+     * Sem {@code If-Range}, ou com ETag/data iguais às atuais, o intervalo é atendido;
+     * se o documento mudou, envia-se o documento inteiro.
+     */
+    private boolean rangeAplicavel(HttpServletRequest request, String etag, long ultimaModificacao) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null || ifRange.equals(etag)) {
+            return true;
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == ultimaModificacao / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private List<HttpRange> intervalos(String range) {
+        try {
+            return HttpRange.parseRanges(range);
+        } catch (IllegalArgumentException e) {
+            return List.of();
+        }
+    }
+}
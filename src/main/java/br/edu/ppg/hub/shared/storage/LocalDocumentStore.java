@@ -0,0 +1,155 @@
+package br.edu.ppg.hub.shared.storage;
+
+import br.edu.ppg.hub.shared.config.StorageConfig;
+import br.edu.ppg.hub.shared.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * {@link DocumentStore} em disco local.
+ *
+ * <p>O upload é copiado em blocos para um arquivo temporário no próprio diretório
+ * raiz, com o SHA-256 calculado na passagem ({@link DigestOutputStream}) e o limite
+ * de tamanho verificado a cada bloco; nada é mantido inteiro em memória. Ao final,
+ * o temporário é renomeado atomicamente para {@code raiz/ab/cd/<hash>}; se o
+ * conteúdo já existir, o temporário é descartado.</p>
+ *
+ * <p>Arquivos não referenciados por nenhum trabalho não são removidos automaticamente.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Component
+@Slf4j
+public class LocalDocumentStore implements DocumentStore {
+
+    private static final Pattern CHAVE = Pattern.compile("[0-9a-f]{64}");
+    private static final int TAMANHO_BLOCO = 64 * 1024;
+
+    private final Path raiz;
+    private final long tamanhoMaximo;
+
+    public LocalDocumentStore(StorageConfig config) {
+        this.raiz = Paths.get(config.getDiretorio()).toAbsolutePath().normalize();
+        this.tamanhoMaximo = config.getTamanhoMaximoBytes();
+    }
+
+    @Override
+    public DocumentoArmazenado armazenar(InputStream conteudo) throws IOException {
+        Files.createDirectories(raiz);
+        Path temporario = Files.createTempFile(raiz, ".envio-", ".tmp");
+        MessageDigest digest = sha256();
+        long tamanho;
+
+        try (InputStream entrada = conteudo;
+             OutputStream saida = new DigestOutputStream(Files.newOutputStream(temporario), digest)) {
+            tamanho = copiar(entrada, saida);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporario);
+            throw e;
+        }
+
+        String chave = HexFormat.of().formatHex(digest.digest());
+        Path destino = caminho(chave);
+        if (Files.exists(destino)) {
+            Files.delete(temporario);
+            log.debug("Documento {} já armazenado", chave);
+        } else {
+            Files.createDirectories(destino.getParent());
+            try {
+                Files.move(temporario, destino, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // Mesmo conteúdo gravado em paralelo por outro envio
+                Files.deleteIfExists(temporario);
+            }
+            log.info("Documento {} armazenado ({} bytes)", chave, tamanho);
+        }
+        return new DocumentoArmazenado(chave, tamanho, Files.getLastModifiedTime(destino).toInstant());
+    }
+
+    @Override
+    public Optional<DocumentoArmazenado> buscar(String chave) throws IOException {
+        Path arquivo = caminho(chave);
+        if (!Files.isRegularFile(arquivo)) {
+            return Optional.empty();
+        }
+        return Optional.of(new DocumentoArmazenado(chave, Files.size(arquivo),
+                Files.getLastModifiedTime(arquivo).toInstant()));
+    }
+
+    @Override
+    public void transferir(String chave, long inicio, long tamanho, WritableByteChannel destino) throws IOException {
+        try (FileChannel canal = FileChannel.open(caminho(chave), StandardOpenOption.READ)) {
+            long posicao = inicio;
+            long fim = inicio + tamanho;
+            while (posicao < fim) {
+                long enviados = canal.transferTo(posicao, fim - posicao, destino);
+                if (enviados <= 0 && posicao >= canal.size()) {
+                    throw new EOFException("Documento " + chave + " menor que o intervalo solicitado");
+                }
+                posicao += enviados;
+            }
+        }
+    }
+
+    @Override
+    public void remover(String chave) throws IOException {
+        if (Files.deleteIfExists(caminho(chave))) {
+            log.info("Documento {} removido", chave);
+        }
+    }
+
+    @Override
+    public Optional<Path> caminhoLocal(String chave) {
+        return Optional.of(caminho(chave));
+    }
+
+    private long copiar(InputStream entrada, OutputStream saida) throws IOException {
+        byte[] bloco = new byte[TAMANHO_BLOCO];
+        long total = 0;
+        int lidos;
+        while ((lidos = entrada.read(bloco)) != -1) {
+            total += lidos;
+            if (total > tamanhoMaximo) {
+                throw new BusinessException("Arquivo muito grande. Tamanho máximo: "
+                        + tamanhoMaximo / (1024 * 1024) + "MB");
+            }
+            saida.write(bloco, 0, lidos);
+        }
+        return total;
+    }
+
+    private Path caminho(String chave) {
+        if (chave == null || !CHAVE.matcher(chave).matches()) {
+            throw new IllegalArgumentException("Chave de documento inválida: " + chave);
+        }
+        return raiz.resolve(chave.substring(0, 2)).resolve(chave.substring(2, 4)).resolve(chave);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
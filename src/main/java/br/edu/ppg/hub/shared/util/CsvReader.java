@@ -0,0 +1,140 @@
+package br.edu.ppg.hub.shared.util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leitor incremental de CSV (um registro por vez, sem carregar o arquivo em memória).
+ *
+ * <p>O cabeçalho é lido na construção e define o delimitador: ponto e vírgula
+ * (padrão de planilhas em pt-BR) se presente, senão vírgula. Suporta campos entre
+ * aspas com delimitadores, aspas duplicadas e quebras de linha, BOM UTF-8 e
+ * finais de linha CRLF.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public class CsvReader implements Closeable {
+
+    private static final char ASPAS = '"';
+
+    private final BufferedReader reader;
+    private final char delimitador;
+    private final List<String> cabecalho;
+    private int linhaAtual;
+    private int linhaRegistro;
+
+    public CsvReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+
+        String primeiraLinha = reader.readLine();
+        if (primeiraLinha == null) {
+            throw new IllegalArgumentException("Arquivo CSV vazio");
+        }
+        if (!primeiraLinha.isEmpty() && primeiraLinha.charAt(0) == '\uFEFF') {
+            primeiraLinha = primeiraLinha.substring(1);
+        }
+        this.linhaAtual = 1;
+        this.delimitador = primeiraLinha.indexOf(';') >= 0 ? ';' : ',';
+        this.cabecalho = dividir(primeiraLinha).stream().map(String::trim).toList();
+    }
+
+    /**
+     * Colunas do cabeçalho.
+     */
+    public List<String> getCabecalho() {
+        return cabecalho;
+    }
+
+    /**
+     * Delimitador detectado no cabeçalho.
+     */
+    public char getDelimitador() {
+        return delimitador;
+    }
+
+    /**
+     * Número da linha (1 = cabeçalho) em que começa o último registro lido.
+     */
+    public int getLinhaRegistro() {
+        return linhaRegistro;
+    }
+
+    /**
+     * Lê o próximo registro, ignorando linhas em branco.
+     *
+     * @return campos do registro ou null no fim do arquivo
+     */
+    public List<String> proximoRegistro() throws IOException {
+        String linha;
+        do {
+            linha = reader.readLine();
+            if (linha == null) {
+                return null;
+            }
+            linhaAtual++;
+        } while (linha.isBlank());
+
+        linhaRegistro = linhaAtual;
+        StringBuilder registro = new StringBuilder(linha);
+        // Campo entre aspas com quebra de linha: continua na próxima linha física
+        while (aspasAbertas(registro)) {
+            String continuacao = reader.readLine();
+            if (continuacao == null) {
+                throw new IllegalArgumentException("Aspas não fechadas no registro da linha " + linhaRegistro);
+            }
+            linhaAtual++;
+            registro.append('\n').append(continuacao);
+        }
+        return dividir(registro);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private boolean aspasAbertas(CharSequence registro) {
+        boolean abertas = false;
+        for (int i = 0; i < registro.length(); i++) {
+            if (registro.charAt(i) == ASPAS) {
+                abertas = !abertas;
+            }
+        }
+        return abertas;
+    }
+
+    private List<String> dividir(CharSequence registro) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreAspas = false;
+
+        for (int i = 0; i < registro.length(); i++) {
+            char c = registro.charAt(i);
+            if (entreAspas) {
+                if (c == ASPAS) {
+                    if (i + 1 < registro.length() && registro.charAt(i + 1) == ASPAS) {
+                        campo.append(ASPAS);
+                        i++;
+                    } else {
+                        entreAspas = false;
+                    }
+                } else {
+                    campo.append(c);
+                }
+            } else if (c == ASPAS) {
+                entreAspas = true;
+            } else if (c == delimitador) {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else {
+                campo.append(c);
+            }
+        }
+        campos.add(campo.toString());
+        return campos;
+    }
+}
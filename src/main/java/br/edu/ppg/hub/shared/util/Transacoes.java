@@ -0,0 +1,93 @@
+package br.edu.ppg.hub.shared.util;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Ações adiadas para o fim da transação corrente.
+ *
+ * <p>Usado para atualizar estado em memória (índices, contadores, caches) e disparar
+ * trabalho assíncrono somente depois que a gravação foi confirmada: um rollback não
+ * deixa a memória à frente do banco. Sem transação ativa, {@link #aposCommit} executa
+ * a ação imediatamente.</p>
+ *
+ * <p>No {@code afterCommit} a conexão da transação original já foi finalizada. Ações que
+ * acessam o banco devem rodar em transação própria ({@link #propria}, {@link #leituraPropria}).
+ * O mesmo vale para os listeners {@code @TransactionalEventListener}, que rodam nessa
+ * mesma fase.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public final class Transacoes {
+
+    private Transacoes() {
+    }
+
+    /**
+     * Transação própria ({@code PROPAGATION_REQUIRES_NEW}) para trabalho após o commit
+     * ou para cada item de um lote que deve ser confirmado separadamente.
+     */
+    public static TransactionTemplate propria(PlatformTransactionManager transactionManager) {
+        TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+        transacao.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transacao;
+    }
+
+    /**
+     * Transação própria somente leitura, para recarregar estado em memória após o commit.
+     */
+    public static TransactionTemplate leituraPropria(PlatformTransactionManager transactionManager) {
+        TransactionTemplate transacao = propria(transactionManager);
+        transacao.setReadOnly(true);
+        return transacao;
+    }
+
+    /**
+     * Executa a ação após o commit da transação corrente (ou já, se não houver transação).
+     */
+    public static void aposCommit(Runnable acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            acao.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                acao.run();
+            }
+        });
+    }
+
+    /**
+     * Executa a ação após o commit, dentro de {@code transacao} quando houver transação corrente.
+     */
+    public static void aposCommit(TransactionTemplate transacao, Runnable acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            acao.run();
+            return;
+        }
+        aposCommit(() -> transacao.executeWithoutResult(status -> acao.run()));
+    }
+
+    /**
+     * Executa a ação, dentro de {@code transacao}, se a transação corrente sofrer rollback.
+     * Sem transação ativa não há o que desfazer e a ação é descartada.
+     */
+    public static void aposRollback(TransactionTemplate transacao, Runnable acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    transacao.executeWithoutResult(s -> acao.run());
+                }
+            }
+        });
+    }
+}
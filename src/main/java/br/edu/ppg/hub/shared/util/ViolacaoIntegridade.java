@@ -0,0 +1,53 @@
+package br.edu.ppg.hub.shared.util;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Identifica a constraint do banco violada em uma {@link DataIntegrityViolationException}.
+ *
+ * <p>Permite traduzir apenas a violação esperada (ex.: a constraint única de uma
+ * matrícula) e deixar as demais (FK, CHECK, NOT NULL) seguirem como erro. O nome vem
+ * da exceção do Hibernate quando a gravação passou pelo JPA, ou da mensagem do
+ * PostgreSQL ({@code ... violates unique constraint "nome"}) quando veio do JDBC.</p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public final class ViolacaoIntegridade {
+
+    private static final Pattern CONSTRAINT = Pattern.compile("constraint \"([^\"]+)\"");
+
+    private ViolacaoIntegridade() {
+    }
+
+    /**
+     * Indica se a violação foi da constraint informada.
+     */
+    public static boolean violou(DataIntegrityViolationException e, String constraint) {
+        return constraint.equalsIgnoreCase(constraint(e));
+    }
+
+    /**
+     * Nome da constraint violada, ou null se não for possível identificá-la.
+     */
+    public static String constraint(DataIntegrityViolationException e) {
+        for (Throwable causa = e; causa != null; causa = causa.getCause()) {
+            if (causa instanceof ConstraintViolationException violacao && violacao.getConstraintName() != null) {
+                return violacao.getConstraintName();
+            }
+        }
+        for (Throwable causa = e; causa != null; causa = causa.getCause()) {
+            if (causa.getMessage() != null) {
+                Matcher matcher = CONSTRAINT.matcher(causa.getMessage());
+                if (matcher.find()) {
+                    return matcher.group(1);
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,22 @@
+-- =====================================================
+-- PPG Hub
+-- Migration V10: Fechamento de resultados em lote
+-- =====================================================
+-- * O conceito de reprovação gravado pela aplicação ('Reprovado por Falta',
+--   'Reprovado por Nota') não cabia em VARCHAR(10) nem na constraint.
+-- * Índice parcial para localizar as matrículas com resultado pendente
+--   de cada oferta (fechamento por oferta e por período).
+-- =====================================================
+
+ALTER TABLE academic.matriculas_disciplinas
+    DROP CONSTRAINT IF EXISTS matriculas_disciplinas_conceito_check;
+
+ALTER TABLE academic.matriculas_disciplinas
+    ALTER COLUMN conceito TYPE VARCHAR(30),
+    ADD CONSTRAINT matriculas_disciplinas_conceito_check
+        CHECK (conceito IN ('A', 'B', 'C', 'D', 'E', 'Aprovado', 'Reprovado',
+                            'Reprovado por Falta', 'Reprovado por Nota'));
+
+CREATE INDEX idx_matriculas_resultado_pendente
+    ON academic.matriculas_disciplinas (oferta_disciplina_id)
+    WHERE situacao = 'MATRICULADO' AND status_final IS NULL;
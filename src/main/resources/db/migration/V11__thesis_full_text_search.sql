@@ -0,0 +1,71 @@
+-- =====================================================
+-- PPG Hub
+-- Migration V11: Busca textual de trabalhos de conclusão
+-- =====================================================
+-- * A coluna do título passa a ter o nome mapeado pela entidade
+--   (titulo_portugues); o índice trigram do título acompanha o rename.
+-- * documento_busca (tsvector) reúne título, palavras-chave e resumos em
+--   português e inglês, com pesos A (títulos), B (palavras-chave) e
+--   C (resumos), mantido por trigger a cada INSERT/UPDATE.
+-- * Índice GIN sobre documento_busca para consultas @@ com ts_rank.
+-- * Índice de (ts_rank, id) não é possível; a paginação por cursor
+--   (rank, id) é aplicada sobre o conjunto já filtrado pelo GIN.
+-- =====================================================
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = 'academic'
+                 AND table_name = 'trabalhos_conclusao'
+                 AND column_name = 'titulo') THEN
+        ALTER TABLE academic.trabalhos_conclusao RENAME COLUMN titulo TO titulo_portugues;
+    END IF;
+END $$;
+
+ALTER TABLE academic.trabalhos_conclusao
+    ADD COLUMN IF NOT EXISTS documento_busca TSVECTOR;
+
+CREATE OR REPLACE FUNCTION academic.trabalho_documento_busca(
+    titulo_portugues TEXT,
+    titulo_ingles TEXT,
+    palavras_chave_portugues TEXT,
+    palavras_chave_ingles TEXT,
+    resumo_portugues TEXT,
+    resumo_ingles TEXT,
+    abstract TEXT
+) RETURNS TSVECTOR AS $$
+    SELECT setweight(to_tsvector('portuguese', COALESCE(titulo_portugues, '')), 'A')
+        || setweight(to_tsvector('english', COALESCE(titulo_ingles, '')), 'A')
+        || setweight(to_tsvector('portuguese', COALESCE(palavras_chave_portugues, '')), 'B')
+        || setweight(to_tsvector('english', COALESCE(palavras_chave_ingles, '')), 'B')
+        || setweight(to_tsvector('portuguese', COALESCE(resumo_portugues, '')), 'C')
+        || setweight(to_tsvector('english', COALESCE(resumo_ingles, '') || ' ' || COALESCE(abstract, '')), 'C');
+$$ LANGUAGE sql IMMUTABLE;
+
+CREATE OR REPLACE FUNCTION academic.atualizar_documento_busca_trabalho()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.documento_busca := academic.trabalho_documento_busca(
+        NEW.titulo_portugues, NEW.titulo_ingles,
+        NEW.palavras_chave_portugues, NEW.palavras_chave_ingles,
+        NEW.resumo_portugues, NEW.resumo_ingles, NEW.abstract);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trabalhos_conclusao_documento_busca
+    BEFORE INSERT OR UPDATE OF titulo_portugues, titulo_ingles,
+        palavras_chave_portugues, palavras_chave_ingles,
+        resumo_portugues, resumo_ingles, abstract
+    ON academic.trabalhos_conclusao
+    FOR EACH ROW
+    EXECUTE FUNCTION academic.atualizar_documento_busca_trabalho();
+
+UPDATE academic.trabalhos_conclusao
+SET documento_busca = academic.trabalho_documento_busca(
+        titulo_portugues, titulo_ingles,
+        palavras_chave_portugues, palavras_chave_ingles,
+        resumo_portugues, resumo_ingles, abstract);
+
+CREATE INDEX idx_trabalhos_documento_busca
+    ON academic.trabalhos_conclusao USING gin(documento_busca);
@@ -0,0 +1,50 @@
+-- =====================================================
+-- PPG Hub
+-- Migration V12: Busca por nome sem acentos com índices trigram
+-- =====================================================
+-- * unaccent() é STABLE e não pode ser usada em índice; core.normalizar_busca
+--   fixa o dicionário e é declarada IMMUTABLE (minúsculas + sem acentos).
+-- * Os índices trigram de V3 eram sobre a coluna crua e as consultas usavam
+--   LOWER(col), então nunca eram usados. Passam a ser sobre a expressão
+--   normalizada, a mesma usada pelas consultas (LIKE '%x%', <% e similarity).
+-- =====================================================
+
+CREATE OR REPLACE FUNCTION core.normalizar_busca(texto TEXT)
+RETURNS TEXT AS $$
+    SELECT lower(public.unaccent('public.unaccent'::regdictionary, texto));
+$$ LANGUAGE sql IMMUTABLE STRICT PARALLEL SAFE;
+
+DROP INDEX IF EXISTS core.idx_instituicoes_nome_trgm;
+DROP INDEX IF EXISTS core.idx_programas_nome_trgm;
+DROP INDEX IF EXISTS core.idx_linhas_nome_trgm;
+DROP INDEX IF EXISTS auth.idx_usuarios_nome_trgm;
+
+-- Usuários
+CREATE INDEX idx_usuarios_nome_busca
+    ON auth.usuarios USING gin(core.normalizar_busca(nome_completo) gin_trgm_ops);
+CREATE INDEX idx_usuarios_nome_preferido_busca
+    ON auth.usuarios USING gin(core.normalizar_busca(nome_preferido) gin_trgm_ops);
+
+-- Instituições
+CREATE INDEX idx_instituicoes_nome_busca
+    ON core.instituicoes USING gin(core.normalizar_busca(nome_completo) gin_trgm_ops);
+CREATE INDEX idx_instituicoes_nome_abreviado_busca
+    ON core.instituicoes USING gin(core.normalizar_busca(nome_abreviado) gin_trgm_ops);
+CREATE INDEX idx_instituicoes_sigla_busca
+    ON core.instituicoes USING gin(core.normalizar_busca(sigla) gin_trgm_ops);
+CREATE INDEX idx_instituicoes_codigo_busca
+    ON core.instituicoes USING gin(core.normalizar_busca(codigo) gin_trgm_ops);
+
+-- Programas
+CREATE INDEX idx_programas_nome_busca
+    ON core.programas USING gin(core.normalizar_busca(nome) gin_trgm_ops);
+CREATE INDEX idx_programas_sigla_busca
+    ON core.programas USING gin(core.normalizar_busca(sigla) gin_trgm_ops);
+CREATE INDEX idx_programas_area_busca
+    ON core.programas USING gin(core.normalizar_busca(area_concentracao) gin_trgm_ops);
+
+-- Linhas de Pesquisa
+CREATE INDEX idx_linhas_nome_busca
+    ON core.linhas_pesquisa USING gin(core.normalizar_busca(nome) gin_trgm_ops);
+CREATE INDEX idx_linhas_palavras_chave_busca
+    ON core.linhas_pesquisa USING gin(core.normalizar_busca(palavras_chave) gin_trgm_ops);
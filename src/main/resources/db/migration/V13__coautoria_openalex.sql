@@ -0,0 +1,22 @@
+-- =====================================================
+-- PPG Hub
+-- Migration V13: Grafo de coautoria (OpenAlex) para conflito de interesse
+-- =====================================================
+-- * academic.coautorias guarda, para cada autor sincronizado com o OpenAlex,
+--   os coautores e o ano da colaboração mais recente. IDs do OpenAlex sem o
+--   prefixo 'A' (A5023888391 -> 5023888391). É a persistência do índice em
+--   memória; cada sincronização só acrescenta coautores ou avança o ano.
+-- * membros_banca.orcid identifica membros externos no grafo.
+-- =====================================================
+
+CREATE TABLE academic.coautorias (
+    autor_id BIGINT NOT NULL,
+    coautor_id BIGINT NOT NULL,
+    coautor_orcid VARCHAR(19),
+    ultimo_ano SMALLINT NOT NULL,
+    PRIMARY KEY (autor_id, coautor_id),
+    CHECK (autor_id <> coautor_id)
+);
+
+ALTER TABLE academic.membros_banca
+    ADD COLUMN orcid VARCHAR(19);
@@ -0,0 +1,103 @@
+-- =====================================================
+-- PPG Hub
+-- Migration V14: Monitoramento de prazos de discentes
+-- =====================================================
+-- * A constraint de status passa a aceitar os valores gravados pela
+--   aplicação (nome do enum, EnumType.STRING), como em V8.
+-- * As views de V5 que filtram por status do discente (orientacoes_docente
+--   e dashboard_programa) são recriadas com os novos valores.
+-- * data_limite_atual é preenchida onde faltava: prazo original ou
+--   ingresso mais o prazo máximo do curso (24 meses mestrado, 48 doutorado).
+-- * Índice parcial por data limite dos discentes ativos, usado na carga
+--   do monitor de prazos.
+-- =====================================================
+
+ALTER TABLE academic.discentes
+    DROP CONSTRAINT IF EXISTS discentes_status_check;
+
+UPDATE academic.discentes
+SET status = UPPER(status)
+WHERE status IN ('Matriculado', 'Cursando', 'Qualificado', 'Defendendo', 'Titulado', 'Desligado');
+
+ALTER TABLE academic.discentes
+    ALTER COLUMN status SET DEFAULT 'MATRICULADO',
+    ADD CONSTRAINT discentes_status_check
+        CHECK (status IN ('MATRICULADO', 'CURSANDO', 'QUALIFICADO', 'DEFENDENDO', 'TITULADO', 'DESLIGADO'));
+
+COMMENT ON COLUMN academic.discentes.status IS 'MATRICULADO, CURSANDO, QUALIFICADO, DEFENDENDO, TITULADO, DESLIGADO';
+
+-- Views de V5 que comparam o status do discente
+DROP VIEW IF EXISTS academic.orientacoes_docente;
+
+CREATE VIEW academic.orientacoes_docente AS
+SELECT
+    doc.id as docente_id,
+    doc.usuario_id,
+    doc.programa_id,
+    COUNT(dis.id) FILTER (WHERE dis.tipo_curso = 'Mestrado' AND dis.status IN ('MATRICULADO', 'CURSANDO', 'QUALIFICADO')) as mestrado_andamento,
+    COUNT(dis.id) FILTER (WHERE dis.tipo_curso = 'Doutorado' AND dis.status IN ('MATRICULADO', 'CURSANDO', 'QUALIFICADO')) as doutorado_andamento,
+    COUNT(dis.id) FILTER (WHERE dis.tipo_curso = 'Mestrado' AND dis.status = 'TITULADO') as mestrado_concluidas,
+    COUNT(dis.id) FILTER (WHERE dis.tipo_curso = 'Doutorado' AND dis.status = 'TITULADO') as doutorado_concluidas,
+    COUNT(dis.id) FILTER (WHERE dis.coorientador_interno_id = doc.id) as coorientacoes,
+    COUNT(dis.id) as total_orientacoes
+FROM academic.docentes doc
+LEFT JOIN academic.discentes dis ON dis.orientador_id = doc.id
+GROUP BY doc.id, doc.usuario_id, doc.programa_id;
+
+COMMENT ON VIEW academic.orientacoes_docente IS 'Contagem de orientações por docente';
+
+DROP MATERIALIZED VIEW IF EXISTS academic.dashboard_programa;
+
+CREATE MATERIALIZED VIEW academic.dashboard_programa AS
+SELECT
+    p.id as programa_id,
+    p.nome as programa_nome,
+    p.sigla,
+    p.conceito_capes,
+    i.nome_abreviado as instituicao,
+    -- Docentes
+    COUNT(DISTINCT doc.id) FILTER (WHERE doc.status = 'Ativo') as total_docentes_ativos,
+    COUNT(DISTINCT doc.id) FILTER (WHERE doc.tipo_vinculo = 'Permanente' AND doc.status = 'Ativo') as docentes_permanentes,
+    COUNT(DISTINCT doc.id) FILTER (WHERE doc.tipo_vinculo IN ('Colaborador', 'Visitante') AND doc.status = 'Ativo') as docentes_colaboradores,
+    -- Discentes
+    COUNT(DISTINCT dis.id) FILTER (WHERE dis.status IN ('MATRICULADO', 'CURSANDO', 'QUALIFICADO')) as total_discentes_ativos,
+    COUNT(DISTINCT dis.id) FILTER (WHERE dis.tipo_curso = 'Mestrado' AND dis.status IN ('MATRICULADO', 'CURSANDO', 'QUALIFICADO')) as mestrandos_ativos,
+    COUNT(DISTINCT dis.id) FILTER (WHERE dis.tipo_curso = 'Doutorado' AND dis.status IN ('MATRICULADO', 'CURSANDO', 'QUALIFICADO')) as doutorandos_ativos,
+    COUNT(DISTINCT dis.id) FILTER (WHERE dis.status = 'TITULADO') as total_egressos,
+    COUNT(DISTINCT dis.id) FILTER (WHERE dis.bolsista = true AND dis.status IN ('MATRICULADO', 'CURSANDO', 'QUALIFICADO')) as discentes_bolsistas,
+    -- Disciplinas
+    COUNT(DISTINCT d.id) FILTER (WHERE d.status = 'Ativa') as total_disciplinas_ativas,
+    COUNT(DISTINCT d.id) FILTER (WHERE d.tipo = 'Obrigatória' AND d.status = 'Ativa') as disciplinas_obrigatorias,
+    COUNT(DISTINCT d.id) FILTER (WHERE d.tipo = 'Eletiva' AND d.status = 'Ativa') as disciplinas_eletivas,
+    -- Produções
+    COUNT(DISTINCT tc.id) as total_trabalhos_conclusao,
+    COUNT(DISTINCT tc.id) FILTER (WHERE tc.tipo = 'Dissertação') as total_dissertacoes,
+    COUNT(DISTINCT tc.id) FILTER (WHERE tc.tipo = 'Tese') as total_teses,
+    COUNT(DISTINCT tc.id) FILTER (WHERE EXTRACT(YEAR FROM tc.data_defesa) = EXTRACT(YEAR FROM CURRENT_DATE)) as defesas_ano_corrente,
+    -- Linhas de Pesquisa
+    COUNT(DISTINCT lp.id) FILTER (WHERE lp.ativa = true) as total_linhas_ativas,
+    -- Timestamps
+    NOW() as atualizado_em
+FROM core.programas p
+LEFT JOIN core.instituicoes i ON i.id = p.instituicao_id
+LEFT JOIN academic.docentes doc ON doc.programa_id = p.id
+LEFT JOIN academic.discentes dis ON dis.programa_id = p.id
+LEFT JOIN academic.disciplinas d ON d.programa_id = p.id
+LEFT JOIN academic.trabalhos_conclusao tc ON tc.programa_id = p.id
+LEFT JOIN core.linhas_pesquisa lp ON lp.programa_id = p.id
+WHERE p.status = 'Ativo'
+GROUP BY p.id, p.nome, p.sigla, p.conceito_capes, i.nome_abreviado;
+
+CREATE UNIQUE INDEX ON academic.dashboard_programa(programa_id);
+
+COMMENT ON MATERIALIZED VIEW academic.dashboard_programa IS 'Dashboard consolidado de métricas do programa - refresh diário';
+
+UPDATE academic.discentes
+SET data_limite_atual = COALESCE(prazo_original,
+        data_ingresso + CASE WHEN UPPER(tipo_curso) = 'DOUTORADO' THEN INTERVAL '48 months'
+                             ELSE INTERVAL '24 months' END)
+WHERE data_limite_atual IS NULL;
+
+CREATE INDEX idx_discentes_prazo_ativos ON academic.discentes(data_limite_atual)
+    WHERE status IN ('MATRICULADO', 'CURSANDO', 'QUALIFICADO', 'DEFENDENDO')
+      AND data_limite_atual IS NOT NULL;
@@ -0,0 +1,62 @@
+-- =====================================================
+-- PPG Hub
+-- Migration V15: Contadores de orientação mantidos pela aplicação
+-- =====================================================
+-- * Os contadores de orientações dos docentes passam a ser mantidos com
+--   incrementos atômicos e reconciliados diariamente; aqui são
+--   recalculados uma vez a partir dos discentes ativos e não aceitam
+--   valores negativos.
+-- * O trigger de limite de orientandos contava status que a aplicação
+--   não grava ('Matriculado' etc.); passa a usar os nomes do enum (V14).
+-- =====================================================
+
+UPDATE academic.docentes doc
+SET orientacoes_mestrado_andamento = c.mestrado,
+    orientacoes_doutorado_andamento = c.doutorado
+FROM (
+    SELECT d.id,
+           COUNT(s.id) FILTER (WHERE UPPER(s.tipo_curso) = 'MESTRADO') AS mestrado,
+           COUNT(s.id) FILTER (WHERE UPPER(s.tipo_curso) = 'DOUTORADO') AS doutorado
+    FROM academic.docentes d
+    LEFT JOIN academic.discentes s
+           ON s.orientador_id = d.id
+          AND s.status IN ('MATRICULADO', 'CURSANDO', 'QUALIFICADO', 'DEFENDENDO')
+    GROUP BY d.id
+) c
+WHERE c.id = doc.id;
+
+UPDATE academic.docentes
+SET orientacoes_mestrado_concluidas = COALESCE(orientacoes_mestrado_concluidas, 0),
+    orientacoes_doutorado_concluidas = COALESCE(orientacoes_doutorado_concluidas, 0)
+WHERE orientacoes_mestrado_concluidas IS NULL
+   OR orientacoes_doutorado_concluidas IS NULL;
+
+ALTER TABLE academic.docentes
+    ADD CONSTRAINT docentes_orientacoes_nao_negativas
+        CHECK (orientacoes_mestrado_andamento >= 0
+           AND orientacoes_doutorado_andamento >= 0
+           AND orientacoes_mestrado_concluidas >= 0
+           AND orientacoes_doutorado_concluidas >= 0);
+
+CREATE OR REPLACE FUNCTION validar_limite_orientandos()
+RETURNS TRIGGER AS $$
+DECLARE
+    orientandos_atuais INTEGER;
+    limite_orientandos INTEGER := 10; -- 5 mestrado + 5 doutorado
+BEGIN
+    -- Contar orientandos ativos do orientador
+    SELECT COUNT(*)
+    INTO orientandos_atuais
+    FROM academic.discentes
+    WHERE orientador_id = NEW.orientador_id
+      AND id IS DISTINCT FROM NEW.id
+      AND status IN ('MATRICULADO', 'CURSANDO', 'QUALIFICADO', 'DEFENDENDO');
+
+    -- Verificar limite
+    IF orientandos_atuais >= limite_orientandos THEN
+        RAISE EXCEPTION 'Docente já atingiu o limite máximo de % orientandos', limite_orientandos;
+    END IF;
+
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
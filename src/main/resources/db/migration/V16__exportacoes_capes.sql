@@ -0,0 +1,42 @@
+-- =====================================================
+-- PPG Hub
+-- Migration V16: Exportação anual para a CAPES (Sucupira)
+-- =====================================================
+-- * Cada exportação de um programa/ano-base é um job em segundo plano.
+--   O checkpoint (seção em andamento, último id gravado e tamanho
+--   confirmado do arquivo da seção) é atualizado a cada lote; uma
+--   exportação interrompida é retomada a partir dele.
+-- * execucao identifica a execução que reivindicou o job: checkpoints de
+--   uma execução substituída são rejeitados.
+-- * No máximo uma exportação pendente ou em execução por programa/ano.
+-- =====================================================
+
+CREATE TABLE core.exportacoes_capes (
+    id BIGSERIAL PRIMARY KEY,
+    programa_id INTEGER NOT NULL REFERENCES core.programas(id) ON DELETE CASCADE,
+    ano_base INTEGER NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDENTE'
+        CHECK (status IN ('PENDENTE', 'EM_EXECUCAO', 'CONCLUIDA', 'FALHOU')),
+    execucao UUID,
+    secao VARCHAR(30),
+    ultimo_id BIGINT NOT NULL DEFAULT 0,
+    bytes_gravados BIGINT NOT NULL DEFAULT 0,
+    registros BIGINT NOT NULL DEFAULT 0,
+    arquivo TEXT,
+    tamanho_bytes BIGINT,
+    erro TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    iniciada_em TIMESTAMP,
+    concluida_em TIMESTAMP
+);
+
+COMMENT ON TABLE core.exportacoes_capes IS 'Exportações anuais de dados dos programas para a CAPES (Sucupira)';
+COMMENT ON COLUMN core.exportacoes_capes.secao IS 'Seção em andamento; as anteriores estão completas';
+COMMENT ON COLUMN core.exportacoes_capes.ultimo_id IS 'Último id gravado da seção em andamento';
+COMMENT ON COLUMN core.exportacoes_capes.bytes_gravados IS 'Tamanho confirmado do arquivo da seção em andamento';
+
+CREATE UNIQUE INDEX uq_exportacoes_capes_ativas ON core.exportacoes_capes(programa_id, ano_base)
+    WHERE status IN ('PENDENTE', 'EM_EXECUCAO');
+
+CREATE INDEX idx_exportacoes_capes_programa ON core.exportacoes_capes(programa_id, created_at DESC);
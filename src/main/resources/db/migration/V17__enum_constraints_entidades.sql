@@ -0,0 +1,277 @@
+-- =====================================================
+-- PPG Hub
+-- Migration V17: Nomes de enum nas colunas das entidades
+-- =====================================================
+-- * As entidades gravam os enums pelo nome (EnumType.STRING), que as
+--   constraints de V1/V2 rejeitavam: um Programa ou Docente criado pela
+--   aplicação não passava no CHECK.
+-- * Como em V8 e V14, os valores antigos são convertidos para o nome do
+--   enum, as constraints e os defaults passam a aceitar só esses nomes,
+--   e as views de V5 e os índices parciais de V3 são recriados.
+-- * matriculas_disciplinas.status_final continua com os valores antigos,
+--   que é o que MatriculaDisciplina grava.
+-- =====================================================
+
+-- Programas
+ALTER TABLE core.programas
+    DROP CONSTRAINT IF EXISTS programas_nivel_check,
+    DROP CONSTRAINT IF EXISTS programas_modalidade_check,
+    DROP CONSTRAINT IF EXISTS programas_status_check;
+
+UPDATE core.programas
+SET nivel = CASE nivel
+        WHEN 'Mestrado' THEN 'MESTRADO'
+        WHEN 'Doutorado' THEN 'DOUTORADO'
+        WHEN 'Mestrado/Doutorado' THEN 'MESTRADO_DOUTORADO'
+        ELSE nivel
+    END,
+    modalidade = CASE modalidade
+        WHEN 'Presencial' THEN 'PRESENCIAL'
+        WHEN 'Semipresencial' THEN 'SEMIPRESENCIAL'
+        ELSE modalidade
+    END,
+    status = UPPER(status)
+WHERE nivel IN ('Mestrado', 'Doutorado', 'Mestrado/Doutorado')
+   OR modalidade IN ('Presencial', 'Semipresencial')
+   OR status IN ('Ativo', 'Suspenso', 'Descredenciado');
+
+ALTER TABLE core.programas
+    ALTER COLUMN modalidade SET DEFAULT 'PRESENCIAL',
+    ALTER COLUMN status SET DEFAULT 'ATIVO',
+    ADD CONSTRAINT programas_nivel_check
+        CHECK (nivel IN ('MESTRADO', 'DOUTORADO', 'MESTRADO_DOUTORADO')),
+    ADD CONSTRAINT programas_modalidade_check
+        CHECK (modalidade IN ('PRESENCIAL', 'EAD', 'SEMIPRESENCIAL')),
+    ADD CONSTRAINT programas_status_check
+        CHECK (status IN ('ATIVO', 'SUSPENSO', 'DESCREDENCIADO'));
+
+COMMENT ON COLUMN core.programas.nivel IS 'MESTRADO, DOUTORADO ou MESTRADO_DOUTORADO';
+
+-- Docentes
+ALTER TABLE academic.docentes
+    DROP CONSTRAINT IF EXISTS docentes_categoria_check,
+    DROP CONSTRAINT IF EXISTS docentes_regime_trabalho_check,
+    DROP CONSTRAINT IF EXISTS docentes_tipo_vinculo_check,
+    DROP CONSTRAINT IF EXISTS docentes_status_check;
+
+UPDATE academic.docentes
+SET categoria = CASE categoria
+        WHEN 'Professor Titular' THEN 'TITULAR'
+        WHEN 'Professor Associado' THEN 'ASSOCIADO'
+        WHEN 'Professor Adjunto' THEN 'ADJUNTO'
+        WHEN 'Professor Assistente' THEN 'ASSISTENTE'
+        ELSE categoria
+    END,
+    regime_trabalho = CASE regime_trabalho
+        WHEN 'DE' THEN 'DEDICACAO_EXCLUSIVA'
+        WHEN '40h' THEN 'QUARENTA_HORAS'
+        WHEN '20h' THEN 'VINTE_HORAS'
+        ELSE regime_trabalho
+    END,
+    tipo_vinculo = CASE tipo_vinculo
+        WHEN 'Permanente' THEN 'PERMANENTE'
+        WHEN 'Colaborador' THEN 'COLABORADOR'
+        WHEN 'Visitante' THEN 'VISITANTE'
+        WHEN 'Voluntário' THEN 'VOLUNTARIO'
+        ELSE tipo_vinculo
+    END,
+    status = UPPER(status)
+WHERE categoria IN ('Professor Titular', 'Professor Associado', 'Professor Adjunto', 'Professor Assistente')
+   OR regime_trabalho IN ('DE', '40h', '20h')
+   OR tipo_vinculo IN ('Permanente', 'Colaborador', 'Visitante', 'Voluntário')
+   OR status IN ('Ativo', 'Afastado', 'Aposentado', 'Desligado');
+
+ALTER TABLE academic.docentes
+    ALTER COLUMN status SET DEFAULT 'ATIVO',
+    ADD CONSTRAINT docentes_categoria_check
+        CHECK (categoria IN ('TITULAR', 'ASSOCIADO', 'ADJUNTO', 'ASSISTENTE')),
+    ADD CONSTRAINT docentes_regime_trabalho_check
+        CHECK (regime_trabalho IN ('DEDICACAO_EXCLUSIVA', 'QUARENTA_HORAS', 'VINTE_HORAS')),
+    ADD CONSTRAINT docentes_tipo_vinculo_check
+        CHECK (tipo_vinculo IN ('PERMANENTE', 'COLABORADOR', 'VISITANTE', 'VOLUNTARIO')),
+    ADD CONSTRAINT docentes_status_check
+        CHECK (status IN ('ATIVO', 'AFASTADO', 'APOSENTADO', 'DESLIGADO'));
+
+COMMENT ON COLUMN academic.docentes.tipo_vinculo IS 'PERMANENTE, COLABORADOR, VISITANTE, VOLUNTARIO';
+
+-- Discentes (status já convertido em V14)
+ALTER TABLE academic.discentes
+    DROP CONSTRAINT IF EXISTS discentes_tipo_curso_check;
+
+UPDATE academic.discentes
+SET tipo_curso = UPPER(tipo_curso)
+WHERE tipo_curso IN ('Mestrado', 'Doutorado');
+
+ALTER TABLE academic.discentes
+    ADD CONSTRAINT discentes_tipo_curso_check
+        CHECK (tipo_curso IN ('MESTRADO', 'DOUTORADO'));
+
+COMMENT ON COLUMN academic.discentes.tipo_curso IS 'MESTRADO ou DOUTORADO';
+
+-- Disciplinas
+ALTER TABLE academic.disciplinas
+    DROP CONSTRAINT IF EXISTS disciplinas_tipo_check,
+    DROP CONSTRAINT IF EXISTS disciplinas_status_check;
+
+UPDATE academic.disciplinas
+SET tipo = CASE tipo
+        WHEN 'Obrigatória' THEN 'OBRIGATORIA'
+        WHEN 'Eletiva' THEN 'ELETIVA'
+        WHEN 'Tópicos Especiais' THEN 'TOPICOS_ESPECIAIS'
+        ELSE tipo
+    END,
+    status = UPPER(status)
+WHERE tipo IN ('Obrigatória', 'Eletiva', 'Tópicos Especiais')
+   OR status IN ('Ativa', 'Inativa', 'Suspensa');
+
+ALTER TABLE academic.disciplinas
+    ALTER COLUMN status SET DEFAULT 'ATIVA',
+    ADD CONSTRAINT disciplinas_tipo_check
+        CHECK (tipo IN ('OBRIGATORIA', 'ELETIVA', 'SEMINARIO', 'TOPICOS_ESPECIAIS')),
+    ADD CONSTRAINT disciplinas_status_check
+        CHECK (status IN ('ATIVA', 'INATIVA', 'SUSPENSA', 'CANCELADA'));
+
+COMMENT ON COLUMN academic.disciplinas.tipo IS 'OBRIGATORIA, ELETIVA, SEMINARIO ou TOPICOS_ESPECIAIS';
+
+-- Trabalhos de conclusão
+ALTER TABLE academic.trabalhos_conclusao
+    DROP CONSTRAINT IF EXISTS trabalhos_conclusao_tipo_check,
+    DROP CONSTRAINT IF EXISTS trabalhos_conclusao_status_check;
+
+UPDATE academic.trabalhos_conclusao
+SET tipo = CASE tipo
+        WHEN 'Dissertação' THEN 'DISSERTACAO_MESTRADO'
+        WHEN 'Tese' THEN 'TESE_DOUTORADO'
+        ELSE tipo
+    END,
+    status = UPPER(status)
+WHERE tipo IN ('Dissertação', 'Tese')
+   OR status IN ('Em_Preparacao', 'Qualificado', 'Defendido', 'Aprovado', 'Publicado');
+
+ALTER TABLE academic.trabalhos_conclusao
+    ALTER COLUMN status SET DEFAULT 'EM_PREPARACAO',
+    ADD CONSTRAINT trabalhos_conclusao_tipo_check
+        CHECK (tipo IN ('DISSERTACAO_MESTRADO', 'TESE_DOUTORADO', 'ARTIGO', 'PROJETO')),
+    ADD CONSTRAINT trabalhos_conclusao_status_check
+        CHECK (status IN ('EM_PREPARACAO', 'QUALIFICADO', 'DEFENDIDO', 'APROVADO', 'PUBLICADO'));
+
+-- Bancas
+ALTER TABLE academic.bancas
+    DROP CONSTRAINT IF EXISTS bancas_tipo_check,
+    DROP CONSTRAINT IF EXISTS bancas_resultado_check;
+
+UPDATE academic.bancas
+SET tipo = CASE tipo
+        WHEN 'Qualificação' THEN 'QUALIFICACAO'
+        WHEN 'Defesa_Dissertacao' THEN 'DEFESA_DISSERTACAO'
+        WHEN 'Defesa_Tese' THEN 'DEFESA_TESE'
+        ELSE tipo
+    END,
+    resultado = CASE resultado
+        WHEN 'Aprovado' THEN 'APROVADO'
+        WHEN 'Reprovado' THEN 'REPROVADO'
+        WHEN 'Aprovado_com_Correcoes' THEN 'APROVADO_COM_RESTRICOES'
+        WHEN 'Aprovado_com_Restricoes' THEN 'APROVADO_COM_RESTRICOES'
+        ELSE resultado
+    END
+WHERE tipo IN ('Qualificação', 'Defesa_Dissertacao', 'Defesa_Tese')
+   OR resultado IN ('Aprovado', 'Reprovado', 'Aprovado_com_Correcoes', 'Aprovado_com_Restricoes');
+
+ALTER TABLE academic.bancas
+    ADD CONSTRAINT bancas_tipo_check
+        CHECK (tipo IN ('QUALIFICACAO', 'DEFESA_DISSERTACAO', 'DEFESA_TESE')),
+    ADD CONSTRAINT bancas_resultado_check
+        CHECK (resultado IN ('APROVADO', 'REPROVADO', 'APROVADO_COM_RESTRICOES', 'APROVADO_COM_DISTINCAO'));
+
+-- Índices parciais de V3
+DROP INDEX IF EXISTS academic.idx_trabalhos_programa_ano_status;
+
+CREATE INDEX idx_trabalhos_programa_ano_status
+    ON academic.trabalhos_conclusao(programa_id, ano_defesa, status)
+    WHERE status IN ('DEFENDIDO', 'APROVADO', 'PUBLICADO');
+
+DROP INDEX IF EXISTS academic.idx_docentes_programa_status;
+
+CREATE INDEX idx_docentes_programa_status
+    ON academic.docentes(programa_id, status)
+    WHERE status = 'ATIVO';
+
+-- Views de V5
+CREATE OR REPLACE VIEW academic.historico_discente AS
+SELECT
+    d.id as discente_id,
+    d.numero_matricula,
+    d.programa_id,
+    COUNT(md.id) FILTER (WHERE md.status_final = 'Aprovado') as disciplinas_aprovadas,
+    COUNT(md.id) FILTER (WHERE md.status_final = 'Reprovado') as disciplinas_reprovadas,
+    COUNT(md.id) FILTER (WHERE md.situacao = 'TRANCADO') as disciplinas_trancadas,
+    SUM(disc.creditos) FILTER (WHERE md.status_final = 'Aprovado' AND disc.tipo = 'OBRIGATORIA') as creditos_obrigatorios,
+    SUM(disc.creditos) FILTER (WHERE md.status_final = 'Aprovado' AND disc.tipo = 'ELETIVA') as creditos_eletivos,
+    SUM(disc.creditos) FILTER (WHERE md.status_final = 'Aprovado') as total_creditos_aprovados,
+    ROUND(AVG(md.nota_final) FILTER (WHERE md.status_final = 'Aprovado'), 2) as coeficiente_rendimento
+FROM academic.discentes d
+LEFT JOIN academic.matriculas_disciplinas md ON md.discente_id = d.id
+LEFT JOIN academic.ofertas_disciplinas od ON od.id = md.oferta_disciplina_id
+LEFT JOIN academic.disciplinas disc ON disc.id = od.disciplina_id
+GROUP BY d.id, d.numero_matricula, d.programa_id;
+
+CREATE OR REPLACE VIEW academic.orientacoes_docente AS
+SELECT
+    doc.id as docente_id,
+    doc.usuario_id,
+    doc.programa_id,
+    COUNT(dis.id) FILTER (WHERE dis.tipo_curso = 'MESTRADO' AND dis.status IN ('MATRICULADO', 'CURSANDO', 'QUALIFICADO')) as mestrado_andamento,
+    COUNT(dis.id) FILTER (WHERE dis.tipo_curso = 'DOUTORADO' AND dis.status IN ('MATRICULADO', 'CURSANDO', 'QUALIFICADO')) as doutorado_andamento,
+    COUNT(dis.id) FILTER (WHERE dis.tipo_curso = 'MESTRADO' AND dis.status = 'TITULADO') as mestrado_concluidas,
+    COUNT(dis.id) FILTER (WHERE dis.tipo_curso = 'DOUTORADO' AND dis.status = 'TITULADO') as doutorado_concluidas,
+    COUNT(dis.id) FILTER (WHERE dis.coorientador_interno_id = doc.id) as coorientacoes,
+    COUNT(dis.id) as total_orientacoes
+FROM academic.docentes doc
+LEFT JOIN academic.discentes dis ON dis.orientador_id = doc.id
+GROUP BY doc.id, doc.usuario_id, doc.programa_id;
+
+DROP MATERIALIZED VIEW IF EXISTS academic.dashboard_programa;
+
+CREATE MATERIALIZED VIEW academic.dashboard_programa AS
+SELECT
+    p.id as programa_id,
+    p.nome as programa_nome,
+    p.sigla,
+    p.conceito_capes,
+    i.nome_abreviado as instituicao,
+    -- Docentes
+    COUNT(DISTINCT doc.id) FILTER (WHERE doc.status = 'ATIVO') as total_docentes_ativos,
+    COUNT(DISTINCT doc.id) FILTER (WHERE doc.tipo_vinculo = 'PERMANENTE' AND doc.status = 'ATIVO') as docentes_permanentes,
+    COUNT(DISTINCT doc.id) FILTER (WHERE doc.tipo_vinculo IN ('COLABORADOR', 'VISITANTE') AND doc.status = 'ATIVO') as docentes_colaboradores,
+    -- Discentes
+    COUNT(DISTINCT dis.id) FILTER (WHERE dis.status IN ('MATRICULADO', 'CURSANDO', 'QUALIFICADO')) as total_discentes_ativos,
+    COUNT(DISTINCT dis.id) FILTER (WHERE dis.tipo_curso = 'MESTRADO' AND dis.status IN ('MATRICULADO', 'CURSANDO', 'QUALIFICADO')) as mestrandos_ativos,
+    COUNT(DISTINCT dis.id) FILTER (WHERE dis.tipo_curso = 'DOUTORADO' AND dis.status IN ('MATRICULADO', 'CURSANDO', 'QUALIFICADO')) as doutorandos_ativos,
+    COUNT(DISTINCT dis.id) FILTER (WHERE dis.status = 'TITULADO') as total_egressos,
+    COUNT(DISTINCT dis.id) FILTER (WHERE dis.bolsista = true AND dis.status IN ('MATRICULADO', 'CURSANDO', 'QUALIFICADO')) as discentes_bolsistas,
+    -- Disciplinas
+    COUNT(DISTINCT d.id) FILTER (WHERE d.status = 'ATIVA') as total_disciplinas_ativas,
+    COUNT(DISTINCT d.id) FILTER (WHERE d.tipo = 'OBRIGATORIA' AND d.status = 'ATIVA') as disciplinas_obrigatorias,
+    COUNT(DISTINCT d.id) FILTER (WHERE d.tipo = 'ELETIVA' AND d.status = 'ATIVA') as disciplinas_eletivas,
+    -- Produções
+    COUNT(DISTINCT tc.id) as total_trabalhos_conclusao,
+    COUNT(DISTINCT tc.id) FILTER (WHERE tc.tipo = 'DISSERTACAO_MESTRADO') as total_dissertacoes,
+    COUNT(DISTINCT tc.id) FILTER (WHERE tc.tipo = 'TESE_DOUTORADO') as total_teses,
+    COUNT(DISTINCT tc.id) FILTER (WHERE EXTRACT(YEAR FROM tc.data_defesa) = EXTRACT(YEAR FROM CURRENT_DATE)) as defesas_ano_corrente,
+    -- Linhas de Pesquisa
+    COUNT(DISTINCT lp.id) FILTER (WHERE lp.ativa = true) as total_linhas_ativas,
+    -- Timestamps
+    NOW() as atualizado_em
+FROM core.programas p
+LEFT JOIN core.instituicoes i ON i.id = p.instituicao_id
+LEFT JOIN academic.docentes doc ON doc.programa_id = p.id
+LEFT JOIN academic.discentes dis ON dis.programa_id = p.id
+LEFT JOIN academic.disciplinas d ON d.programa_id = p.id
+LEFT JOIN academic.trabalhos_conclusao tc ON tc.programa_id = p.id
+LEFT JOIN core.linhas_pesquisa lp ON lp.programa_id = p.id
+WHERE p.status = 'ATIVO'
+GROUP BY p.id, p.nome, p.sigla, p.conceito_capes, i.nome_abreviado;
+
+CREATE UNIQUE INDEX ON academic.dashboard_programa(programa_id);
+
+COMMENT ON MATERIALIZED VIEW academic.dashboard_programa IS 'Dashboard consolidado de métricas do programa - refresh diário';
@@ -0,0 +1,192 @@
+-- =====================================================
+-- PPG Hub
+-- Migration V7: Particionamento mensal de auth.audit_logs
+-- =====================================================
+-- * audit_logs passa a ser particionada por mês (created_at)
+-- * Retenção por DETACH + DROP de partições (sem DELETE massivo)
+-- * Contadores por mês/ação mantidos incrementalmente em
+--   auth.audit_logs_contadores para as estatísticas
+-- =====================================================
+
+-- =====================================================
+-- 1. Nova tabela particionada
+-- =====================================================
+ALTER TABLE auth.audit_logs RENAME TO audit_logs_legado;
+
+-- Qualificados: o search_path do Flyway começa por core
+
+ALTER INDEX IF EXISTS auth.idx_audit_usuario RENAME TO idx_audit_legado_usuario;
+ALTER INDEX IF EXISTS auth.idx_audit_acao RENAME TO idx_audit_legado_acao;
+ALTER INDEX IF EXISTS auth.idx_audit_entidade RENAME TO idx_audit_legado_entidade;
+ALTER INDEX IF EXISTS auth.idx_audit_created RENAME TO idx_audit_legado_created;
+ALTER INDEX IF EXISTS auth.idx_audit_dados_novos RENAME TO idx_audit_legado_dados_novos;
+
+CREATE TABLE auth.audit_logs (
+    id BIGSERIAL,
+    usuario_id INTEGER REFERENCES auth.usuarios(id),
+    acao VARCHAR(100) NOT NULL,
+    entidade VARCHAR(100),
+    entidade_id INTEGER,
+    dados_anteriores JSONB,
+    dados_novos JSONB,
+    ip_address INET,
+    user_agent TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+COMMENT ON TABLE auth.audit_logs IS 'Log de auditoria de todas as ações no sistema (particionado por mês)';
+
+-- Registros fora das partições mensais existentes; criar_particoes_audit move
+-- para a nova partição as linhas do mês que tenham caído aqui
+CREATE TABLE auth.audit_logs_default PARTITION OF auth.audit_logs DEFAULT;
+
+-- Índices criados no pai são propagados para todas as partições
+CREATE INDEX idx_audit_usuario ON auth.audit_logs(usuario_id, created_at DESC) WHERE usuario_id IS NOT NULL;
+CREATE INDEX idx_audit_acao ON auth.audit_logs(acao, created_at DESC);
+CREATE INDEX idx_audit_entidade ON auth.audit_logs(entidade, entidade_id, created_at DESC);
+CREATE INDEX idx_audit_created ON auth.audit_logs(created_at DESC);
+CREATE INDEX idx_audit_dados_novos ON auth.audit_logs USING gin(dados_novos);
+
+-- =====================================================
+-- 2. Contadores incrementais por mês e ação
+-- =====================================================
+CREATE TABLE auth.audit_logs_contadores (
+    mes DATE NOT NULL,
+    acao VARCHAR(100) NOT NULL,
+    total BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (mes, acao)
+);
+
+COMMENT ON TABLE auth.audit_logs_contadores IS 'Total de logs de auditoria por mês e ação (mantido por trigger)';
+
+CREATE OR REPLACE FUNCTION auth.atualizar_contadores_audit()
+RETURNS TRIGGER AS $$
+BEGIN
+    -- Uma única agregação por statement: o pipeline de auditoria grava cada
+    -- lote com um único INSERT ... SELECT FROM UNNEST, gerando um upsert por
+    -- mês/ação do lote, não um por linha
+    INSERT INTO auth.audit_logs_contadores (mes, acao, total)
+    SELECT date_trunc('month', created_at)::DATE, acao, COUNT(*)
+    FROM novos
+    GROUP BY 1, 2
+    ON CONFLICT (mes, acao)
+    DO UPDATE SET total = auth.audit_logs_contadores.total + EXCLUDED.total;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_contadores_audit
+    AFTER INSERT ON auth.audit_logs
+    REFERENCING NEW TABLE AS novos
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION auth.atualizar_contadores_audit();
+
+-- =====================================================
+-- 3. Manutenção de partições
+-- =====================================================
+CREATE OR REPLACE FUNCTION auth.criar_particoes_audit(p_inicio DATE, p_meses_a_frente INTEGER DEFAULT 3)
+RETURNS INTEGER AS $$
+DECLARE
+    v_mes DATE := date_trunc('month', p_inicio)::DATE;
+    v_fim DATE := (date_trunc('month', CURRENT_DATE) + make_interval(months => p_meses_a_frente))::DATE;
+    v_nome TEXT;
+    v_criadas INTEGER := 0;
+BEGIN
+    WHILE v_mes <= v_fim LOOP
+        v_nome := 'audit_logs_' || to_char(v_mes, 'YYYY_MM');
+
+        IF to_regclass('auth.' || v_nome) IS NULL THEN
+            IF EXISTS (SELECT 1 FROM auth.audit_logs_default
+                       WHERE created_at >= v_mes AND created_at < v_mes + INTERVAL '1 month') THEN
+                -- CREATE ... PARTITION OF falharia com linhas do mês na DEFAULT:
+                -- a partição é criada avulsa, recebe as linhas e só então é anexada
+                EXECUTE format(
+                    'CREATE TABLE auth.%I (LIKE auth.audit_logs INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+                    v_nome
+                );
+                EXECUTE format(
+                    'WITH movidas AS (
+                         DELETE FROM auth.audit_logs_default
+                         WHERE created_at >= %L AND created_at < %L
+                         RETURNING *
+                     )
+                     INSERT INTO auth.%I SELECT * FROM movidas',
+                    v_mes, (v_mes + INTERVAL '1 month')::DATE, v_nome
+                );
+                EXECUTE format(
+                    'ALTER TABLE auth.audit_logs ATTACH PARTITION auth.%I FOR VALUES FROM (%L) TO (%L)',
+                    v_nome, v_mes, (v_mes + INTERVAL '1 month')::DATE
+                );
+            ELSE
+                EXECUTE format(
+                    'CREATE TABLE auth.%I PARTITION OF auth.audit_logs FOR VALUES FROM (%L) TO (%L)',
+                    v_nome, v_mes, (v_mes + INTERVAL '1 month')::DATE
+                );
+            END IF;
+            v_criadas := v_criadas + 1;
+        END IF;
+
+        v_mes := (v_mes + INTERVAL '1 month')::DATE;
+    END LOOP;
+
+    RETURN v_criadas;
+END;
+$$ LANGUAGE plpgsql;
+
+COMMENT ON FUNCTION auth.criar_particoes_audit IS 'Cria partições mensais de audit_logs do mês de p_inicio até N meses à frente';
+
+CREATE OR REPLACE FUNCTION auth.remover_particoes_audit(p_data_limite TIMESTAMP)
+RETURNS INTEGER AS $$
+DECLARE
+    v_particao RECORD;
+    v_removidas INTEGER := 0;
+BEGIN
+    -- Somente partições mensais inteiramente anteriores à data limite
+    FOR v_particao IN
+        SELECT c.relname,
+               to_date(substring(c.relname FROM 'audit_logs_(\d{4}_\d{2})$'), 'YYYY_MM') AS mes
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        JOIN pg_class p ON p.oid = i.inhparent
+        JOIN pg_namespace n ON n.oid = p.relnamespace
+        WHERE n.nspname = 'auth'
+          AND p.relname = 'audit_logs'
+          AND c.relname ~ '^audit_logs_\d{4}_\d{2}$'
+    LOOP
+        IF v_particao.mes + INTERVAL '1 month' <= p_data_limite THEN
+            EXECUTE format('ALTER TABLE auth.audit_logs DETACH PARTITION auth.%I', v_particao.relname);
+            EXECUTE format('DROP TABLE auth.%I', v_particao.relname);
+            DELETE FROM auth.audit_logs_contadores WHERE mes = v_particao.mes;
+            v_removidas := v_removidas + 1;
+        END IF;
+    END LOOP;
+
+    RETURN v_removidas;
+END;
+$$ LANGUAGE plpgsql;
+
+COMMENT ON FUNCTION auth.remover_particoes_audit IS 'Remove (DETACH + DROP) partições mensais anteriores à data limite';
+
+-- =====================================================
+-- 4. Migração dos dados existentes
+-- =====================================================
+SELECT auth.criar_particoes_audit(
+    COALESCE((SELECT MIN(created_at)::DATE FROM auth.audit_logs_legado), CURRENT_DATE),
+    3
+);
+
+INSERT INTO auth.audit_logs
+    (id, usuario_id, acao, entidade, entidade_id, dados_anteriores, dados_novos, ip_address, user_agent, created_at)
+SELECT id, usuario_id, acao, entidade, entidade_id, dados_anteriores, dados_novos, ip_address, user_agent,
+       COALESCE(created_at, NOW())
+FROM auth.audit_logs_legado;
+
+SELECT setval(
+    pg_get_serial_sequence('auth.audit_logs', 'id'),
+    COALESCE((SELECT MAX(id) FROM auth.audit_logs), 0) + 1,
+    false
+);
+
+DROP TABLE auth.audit_logs_legado;
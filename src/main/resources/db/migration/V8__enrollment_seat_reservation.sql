@@ -0,0 +1,84 @@
+-- =====================================================
+-- PPG Hub
+-- Migration V8: Reserva atômica de vagas em ofertas
+-- =====================================================
+-- * A aplicação reserva/libera vagas com UPDATE condicional atômico
+--   (vagas_ocupadas < vagas_oferecidas). O trigger matricula_atualiza_vagas
+--   passaria a contar cada matrícula duas vezes, então é removido.
+-- * As constraints de status passam a aceitar os valores gravados pela
+--   aplicação (nome do enum, EnumType.STRING).
+-- * vagas_ocupadas é recalculado a partir das matrículas ativas.
+-- * A view historico_discente (V5) e o índice parcial
+--   idx_ofertas_periodo_status (V3) são recriados com os novos valores.
+-- =====================================================
+
+DROP TRIGGER IF EXISTS matricula_atualiza_vagas ON academic.matriculas_disciplinas;
+DROP FUNCTION IF EXISTS atualizar_vagas_oferta();
+
+-- Situação da matrícula
+ALTER TABLE academic.matriculas_disciplinas
+    DROP CONSTRAINT IF EXISTS matriculas_disciplinas_situacao_check;
+
+UPDATE academic.matriculas_disciplinas
+SET situacao = UPPER(situacao)
+WHERE situacao IN ('Matriculado', 'Trancado', 'Cancelado');
+
+ALTER TABLE academic.matriculas_disciplinas
+    ALTER COLUMN situacao SET DEFAULT 'MATRICULADO',
+    ADD CONSTRAINT matriculas_disciplinas_situacao_check
+        CHECK (situacao IN ('MATRICULADO', 'TRANCADO', 'APROVADO', 'REPROVADO', 'DESISTENTE', 'CANCELADO'));
+
+CREATE OR REPLACE VIEW academic.historico_discente AS
+SELECT
+    d.id as discente_id,
+    d.numero_matricula,
+    d.programa_id,
+    COUNT(md.id) FILTER (WHERE md.status_final = 'Aprovado') as disciplinas_aprovadas,
+    COUNT(md.id) FILTER (WHERE md.status_final = 'Reprovado') as disciplinas_reprovadas,
+    COUNT(md.id) FILTER (WHERE md.situacao = 'TRANCADO') as disciplinas_trancadas,
+    SUM(disc.creditos) FILTER (WHERE md.status_final = 'Aprovado' AND disc.tipo = 'Obrigatória') as creditos_obrigatorios,
+    SUM(disc.creditos) FILTER (WHERE md.status_final = 'Aprovado' AND disc.tipo = 'Eletiva') as creditos_eletivos,
+    SUM(disc.creditos) FILTER (WHERE md.status_final = 'Aprovado') as total_creditos_aprovados,
+    ROUND(AVG(md.nota_final) FILTER (WHERE md.status_final = 'Aprovado'), 2) as coeficiente_rendimento
+FROM academic.discentes d
+LEFT JOIN academic.matriculas_disciplinas md ON md.discente_id = d.id
+LEFT JOIN academic.ofertas_disciplinas od ON od.id = md.oferta_disciplina_id
+LEFT JOIN academic.disciplinas disc ON disc.id = od.disciplina_id
+GROUP BY d.id, d.numero_matricula, d.programa_id;
+
+-- Status da oferta
+ALTER TABLE academic.ofertas_disciplinas
+    DROP CONSTRAINT IF EXISTS ofertas_disciplinas_status_check;
+
+UPDATE academic.ofertas_disciplinas
+SET status = CASE status
+    WHEN 'Planejada' THEN 'PLANEJADA'
+    WHEN 'Aberta' THEN 'ABERTA'
+    WHEN 'Em_Curso' THEN 'EM_CURSO'
+    WHEN 'Concluída' THEN 'CONCLUIDA'
+    WHEN 'Cancelada' THEN 'CANCELADA'
+    ELSE status
+END;
+
+ALTER TABLE academic.ofertas_disciplinas
+    ALTER COLUMN status SET DEFAULT 'PLANEJADA',
+    ADD CONSTRAINT ofertas_disciplinas_status_check
+        CHECK (status IN ('PLANEJADA', 'ABERTA', 'FECHADA', 'EM_CURSO', 'CONCLUIDA', 'CANCELADA'));
+
+DROP INDEX IF EXISTS academic.idx_ofertas_periodo_status;
+
+CREATE INDEX idx_ofertas_periodo_status
+    ON academic.ofertas_disciplinas(ano, semestre, status)
+    WHERE status IN ('ABERTA', 'EM_CURSO');
+
+-- Recalcular vagas ocupadas a partir das matrículas que ocupam vaga
+UPDATE academic.ofertas_disciplinas o
+SET vagas_ocupadas = COALESCE(m.total, 0)
+FROM (
+    SELECT od.id, COUNT(md.id) AS total
+    FROM academic.ofertas_disciplinas od
+    LEFT JOIN academic.matriculas_disciplinas md
+        ON md.oferta_disciplina_id = od.id AND md.situacao IN ('MATRICULADO', 'APROVADO', 'REPROVADO')
+    GROUP BY od.id
+) m
+WHERE m.id = o.id;
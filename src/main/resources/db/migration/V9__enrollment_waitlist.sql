@@ -0,0 +1,23 @@
+-- =====================================================
+-- PPG Hub
+-- Migration V9: Lista de espera de matrículas
+-- =====================================================
+-- * Discentes sem vaga ficam em matriculas_disciplinas com situacao
+--   'LISTA_ESPERA' e são promovidos na ordem de inscrição (id).
+-- * ofertas_disciplinas.vagas_ocupadas e lista_espera são gravados em lote
+--   pelo alocador de vagas e reconciliados na inicialização.
+-- =====================================================
+
+ALTER TABLE academic.matriculas_disciplinas
+    DROP CONSTRAINT IF EXISTS matriculas_disciplinas_situacao_check;
+
+ALTER TABLE academic.matriculas_disciplinas
+    ADD CONSTRAINT matriculas_disciplinas_situacao_check
+        CHECK (situacao IN ('MATRICULADO', 'LISTA_ESPERA', 'TRANCADO', 'APROVADO', 'REPROVADO', 'DESISTENTE', 'CANCELADO'));
+
+-- Fila por oferta em ordem de inscrição (reconstrução do alocador)
+CREATE INDEX idx_matriculas_lista_espera
+    ON academic.matriculas_disciplinas (oferta_disciplina_id, id)
+    WHERE situacao = 'LISTA_ESPERA';
+
+COMMENT ON COLUMN academic.ofertas_disciplinas.lista_espera IS 'Discentes em lista de espera (gravado em lote pelo alocador de vagas)';
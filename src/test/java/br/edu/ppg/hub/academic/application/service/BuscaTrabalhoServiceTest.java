@@ -0,0 +1,86 @@
+package br.edu.ppg.hub.academic.application.service;
+
+import br.edu.ppg.hub.academic.application.dto.trabalho_conclusao.BuscaTrabalhoResultadoDTO;
+import br.edu.ppg.hub.academic.infrastructure.repository.BuscaTrabalhoRepository;
+import br.edu.ppg.hub.academic.infrastructure.repository.BuscaTrabalhoRepository.FacetaPalavraChave;
+import br.edu.ppg.hub.academic.infrastructure.repository.BuscaTrabalhoRepository.TrabalhoEncontrado;
+import br.edu.ppg.hub.shared.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para BuscaTrabalhoService.
+ * <p>
+ * Testa:
+ * - Cursor da próxima página a partir da última linha entregue
+ * - Facetas apenas na primeira página
+ * - Rejeição de cursor inválido
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BuscaTrabalhoService - Testes Unitários")
+class BuscaTrabalhoServiceTest {
+
+    @Mock
+    private BuscaTrabalhoRepository buscaTrabalhoRepository;
+
+    @InjectMocks
+    private BuscaTrabalhoService buscaTrabalhoService;
+
+    @Test
+    @DisplayName("Deve retornar cursor da última linha e continuar a partir dele")
+    void shouldContinueFromLastRow_WhenCursorIsReturned() {
+        // Given
+        float rank = 0.0607927f;
+        when(buscaTrabalhoRepository.buscar(eq("aprendizado"), isNull(), isNull(), isNull(), isNull(), eq(3)))
+                .thenReturn(List.of(trabalho(9L, 0.3f), trabalho(7L, rank), trabalho(4L, 0.01f)));
+        when(buscaTrabalhoRepository.facetas("aprendizado", null, null, BuscaTrabalhoService.LIMITE_FACETAS))
+                .thenReturn(List.of(new FacetaPalavraChave("aprendizado de máquina", 2)));
+
+        // When
+        BuscaTrabalhoResultadoDTO primeira = buscaTrabalhoService.buscar("aprendizado", null, " ", null, 2);
+
+        // Then
+        assertEquals(2, primeira.getItens().size());
+        assertEquals(1, primeira.getFacetas().size());
+        assertNotNull(primeira.getProximoCursor());
+
+        // When
+        when(buscaTrabalhoRepository.buscar("aprendizado", null, null, rank, 7L, 3))
+                .thenReturn(List.of(trabalho(4L, 0.01f)));
+        BuscaTrabalhoResultadoDTO segunda =
+                buscaTrabalhoService.buscar("aprendizado", null, null, primeira.getProximoCursor(), 2);
+
+        // Then
+        assertEquals(1, segunda.getItens().size());
+        assertTrue(segunda.getFacetas().isEmpty());
+        assertNull(segunda.getProximoCursor());
+        verify(buscaTrabalhoRepository, times(1)).facetas(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor inválido")
+    void shouldReject_WhenCursorIsInvalid() {
+        assertThrows(BusinessException.class,
+                () -> buscaTrabalhoService.buscar("aprendizado", null, null, "nao-e-cursor", 20));
+        verifyNoInteractions(buscaTrabalhoRepository);
+    }
+
+    private TrabalhoEncontrado trabalho(Long id, float rank) {
+        return new TrabalhoEncontrado(id, "DISSERTACAO", "Título " + id, "Discente " + id,
+                2024, "PUBLICADO", rank, "<mark>aprendizado</mark>");
+    }
+}
@@ -0,0 +1,131 @@
+package br.edu.ppg.hub.academic.application.service;
+
+import br.edu.ppg.hub.academic.domain.event.DiscenteAlteradoEvent;
+import br.edu.ppg.hub.academic.domain.event.DocenteAlteradoEvent;
+import br.edu.ppg.hub.academic.infrastructure.repository.DiscenteRepository;
+import br.edu.ppg.hub.academic.infrastructure.repository.DocenteRepository;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.EstatisticasDiscentesProjection;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.EstatisticasDocentesProjection;
+import br.edu.ppg.hub.core.infrastructure.repository.ProgramaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para EstatisticasProgramaService.
+ * <p>
+ * Testa:
+ * - Estatísticas servidas do cache a partir da segunda leitura
+ * - Invalidação apenas do grupo e do programa alterados
+ * - Leitura concorrente com a invalidação não deixa contagens antigas no cache
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EstatisticasProgramaService - Testes Unitários")
+class EstatisticasProgramaServiceTest {
+
+    private static final Long PROGRAMA_ID = 1L;
+
+    @Mock
+    private DocenteRepository docenteRepository;
+
+    @Mock
+    private DiscenteRepository discenteRepository;
+
+    @Mock
+    private ProgramaRepository programaRepository;
+
+    private EstatisticasProgramaService estatisticasProgramaService;
+
+    @BeforeEach
+    void setUp() {
+        estatisticasProgramaService = new EstatisticasProgramaService(docenteRepository, discenteRepository,
+                programaRepository, new ConcurrentMapCacheManager(
+                        EstatisticasProgramaService.CACHE_DOCENTES, EstatisticasProgramaService.CACHE_DISCENTES));
+        when(programaRepository.existsById(PROGRAMA_ID)).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Deve calcular uma vez e servir as leituras seguintes do cache")
+    void shouldCalculateOnce_AndServeFromCache() {
+        // Given
+        EstatisticasDocentesProjection stats = docentes(5L);
+        when(docenteRepository.getEstatisticasPorPrograma(PROGRAMA_ID)).thenReturn(stats);
+
+        // When
+        estatisticasProgramaService.docentes(PROGRAMA_ID);
+        Object ativos = estatisticasProgramaService.docentes(PROGRAMA_ID).get("ativos");
+
+        // Then
+        assertEquals(5L, ativos);
+        verify(docenteRepository, times(1)).getEstatisticasPorPrograma(PROGRAMA_ID);
+    }
+
+    @Test
+    @DisplayName("Deve recalcular apenas o grupo invalidado pelo evento")
+    void shouldRecalculateOnlyInvalidatedGroup() {
+        // Given
+        EstatisticasDocentesProjection docentes = docentes(5L);
+        EstatisticasDiscentesProjection discentes = discentes(20L);
+        when(docenteRepository.getEstatisticasPorPrograma(PROGRAMA_ID)).thenReturn(docentes);
+        when(discenteRepository.getEstatisticasPorPrograma(PROGRAMA_ID)).thenReturn(discentes);
+        estatisticasProgramaService.docentes(PROGRAMA_ID);
+        estatisticasProgramaService.discentes(PROGRAMA_ID);
+
+        // When
+        estatisticasProgramaService.onDiscenteAlterado(new DiscenteAlteradoEvent(100L, null, PROGRAMA_ID));
+        estatisticasProgramaService.docentes(PROGRAMA_ID);
+        estatisticasProgramaService.discentes(PROGRAMA_ID);
+
+        // Then
+        verify(docenteRepository, times(1)).getEstatisticasPorPrograma(PROGRAMA_ID);
+        verify(discenteRepository, times(2)).getEstatisticasPorPrograma(PROGRAMA_ID);
+    }
+
+    @Test
+    @DisplayName("Não deve servir contagens lidas antes de uma invalidação concorrente")
+    void shouldNotServeStaleCounts_WhenInvalidatedDuringRead() {
+        // Given: a alteração é confirmada (e o cache invalidado) enquanto a leitura consulta o banco
+        EstatisticasDocentesProjection antes = docentes(5L);
+        EstatisticasDocentesProjection depois = docentes(6L);
+        when(docenteRepository.getEstatisticasPorPrograma(PROGRAMA_ID))
+                .thenAnswer(invocation -> {
+                    estatisticasProgramaService.onDocenteAlterado(new DocenteAlteradoEvent(10L, null, PROGRAMA_ID));
+                    return antes;
+                })
+                .thenReturn(depois);
+
+        // When
+        Object lidoDuranteAlteracao = estatisticasProgramaService.docentes(PROGRAMA_ID).get("ativos");
+        Object lidoDepois = estatisticasProgramaService.docentes(PROGRAMA_ID).get("ativos");
+        Object lidoDoCache = estatisticasProgramaService.docentes(PROGRAMA_ID).get("ativos");
+
+        // Then
+        assertEquals(5L, lidoDuranteAlteracao);
+        assertEquals(6L, lidoDepois);
+        assertEquals(6L, lidoDoCache);
+        verify(docenteRepository, times(2)).getEstatisticasPorPrograma(PROGRAMA_ID);
+    }
+
+    private EstatisticasDocentesProjection docentes(Long ativos) {
+        EstatisticasDocentesProjection stats = mock(EstatisticasDocentesProjection.class);
+        when(stats.getAtivos()).thenReturn(ativos);
+        return stats;
+    }
+
+    private EstatisticasDiscentesProjection discentes(Long ativos) {
+        EstatisticasDiscentesProjection stats = mock(EstatisticasDiscentesProjection.class);
+        when(stats.getAtivos()).thenReturn(ativos);
+        return stats;
+    }
+}
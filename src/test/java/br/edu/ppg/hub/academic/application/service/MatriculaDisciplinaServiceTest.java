@@ -0,0 +1,209 @@
+package br.edu.ppg.hub.academic.application.service;
+
+import br.edu.ppg.hub.academic.application.dto.matricula_disciplina.MatriculaDisciplinaMapper;
+import br.edu.ppg.hub.academic.domain.enums.StatusMatricula;
+import br.edu.ppg.hub.academic.domain.enums.StatusOferta;
+import br.edu.ppg.hub.academic.domain.event.ResultadosLancadosEvent;
+import br.edu.ppg.hub.academic.domain.model.Discente;
+import br.edu.ppg.hub.academic.domain.model.MatriculaDisciplina;
+import br.edu.ppg.hub.academic.domain.model.OfertaDisciplina;
+import br.edu.ppg.hub.academic.infrastructure.enrollment.SeatAllocator;
+import br.edu.ppg.hub.academic.infrastructure.repository.DiscenteRepository;
+import br.edu.ppg.hub.academic.infrastructure.repository.MatriculaDisciplinaRepository;
+import br.edu.ppg.hub.academic.infrastructure.repository.OfertaDisciplinaRepository;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.FechamentoResultadosProjection;
+import br.edu.ppg.hub.academic.infrastructure.timetable.GradeHorarios;
+import br.edu.ppg.hub.shared.config.FechamentoResultadosConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para MatriculaDisciplinaService.
+ * <p>
+ * Testa:
+ * - Fechamento do período em paralelo, limitado ao executor compartilhado
+ * - Falha de uma oferta reportada sem desfazer as demais
+ * - Mesmas threads reaproveitadas entre fechamentos
+ * - Remoção de matrícula invalida as aprovações em cache do discente
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MatriculaDisciplinaService - Testes Unitários")
+class MatriculaDisciplinaServiceTest {
+
+    private static final int PARALELISMO = 2;
+
+    @Mock
+    private MatriculaDisciplinaRepository matriculaRepository;
+
+    @Mock
+    private OfertaDisciplinaRepository ofertaDisciplinaRepository;
+
+    @Mock
+    private DiscenteRepository discenteRepository;
+
+    @Mock
+    private MatriculaDisciplinaMapper matriculaMapper;
+
+    @Mock
+    private SeatAllocator seatAllocator;
+
+    @Mock
+    private GradeHorarios gradeHorarios;
+
+    @Mock
+    private RequisitosDisciplinaService requisitosDisciplinaService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ThreadPoolTaskExecutor executor;
+    private MatriculaDisciplinaService matriculaDisciplinaService;
+
+    private final AtomicInteger emExecucao = new AtomicInteger();
+    private final AtomicInteger maximoSimultaneo = new AtomicInteger();
+    private final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() {
+        FechamentoResultadosConfig config = new FechamentoResultadosConfig();
+        config.setParalelismo(PARALELISMO);
+        executor = (ThreadPoolTaskExecutor) config.fechamentoResultadosExecutor();
+        matriculaDisciplinaService = new MatriculaDisciplinaService(matriculaRepository, ofertaDisciplinaRepository,
+                discenteRepository, matriculaMapper, seatAllocator, gradeHorarios, requisitosDisciplinaService,
+                eventPublisher, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve fechar as ofertas em paralelo sem passar do limite do executor")
+    void shouldCloseOffersInParallel_WithinExecutorLimit() {
+        // Given
+        when(matriculaRepository.findOfertasComResultadosPendentes("2024.1"))
+                .thenReturn(List.of(1L, 2L, 3L, 4L, 5L, 6L));
+        when(matriculaRepository.fecharResultadosOferta(anyLong())).thenAnswer(invocation -> fechar(3L, 2L, 1L));
+
+        // When
+        Map<String, Object> resultado = matriculaDisciplinaService.calcularResultadosPeriodo("2024.1");
+
+        // Then
+        assertEquals(18L, resultado.get("totalProcessadas"));
+        assertEquals(12L, resultado.get("aprovados"));
+        assertEquals(6L, resultado.get("reprovados"));
+        assertEquals(List.of(), resultado.get("ofertasComErro"));
+        assertTrue(maximoSimultaneo.get() <= PARALELISMO);
+        verify(matriculaRepository, times(6)).fecharResultadosOferta(anyLong());
+        verify(eventPublisher).publishEvent(ResultadosLancadosEvent.emLote());
+    }
+
+    @Test
+    @DisplayName("Deve reportar a oferta com erro e somar as demais")
+    void shouldReportFailedOffer_AndSumTheOthers() {
+        // Given
+        when(matriculaRepository.findOfertasComResultadosPendentes("2024.1")).thenReturn(List.of(1L, 2L, 3L));
+        when(matriculaRepository.fecharResultadosOferta(anyLong())).thenAnswer(invocation -> {
+            if (invocation.<Long>getArgument(0) == 2L) {
+                throw new IllegalStateException("deadlock detectado");
+            }
+            return fechar(2L, 2L, 0L);
+        });
+
+        // When
+        Map<String, Object> resultado = matriculaDisciplinaService.calcularResultadosPeriodo("2024.1");
+
+        // Then
+        assertEquals(4L, resultado.get("totalProcessadas"));
+        assertEquals(List.of(2L), resultado.get("ofertasComErro"));
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar as threads do executor entre fechamentos")
+    void shouldReuseExecutorThreads_AcrossCalls() {
+        // Given
+        when(matriculaRepository.findOfertasComResultadosPendentes(anyString())).thenReturn(List.of(1L, 2L, 3L, 4L));
+        when(matriculaRepository.fecharResultadosOferta(anyLong())).thenAnswer(invocation -> fechar(1L, 1L, 0L));
+
+        // When
+        matriculaDisciplinaService.calcularResultadosPeriodo("2024.1");
+        matriculaDisciplinaService.calcularResultadosPeriodo("2024.2");
+
+        // Then
+        assertTrue(threads.size() <= PARALELISMO);
+        assertTrue(threads.stream().allMatch(nome -> nome.startsWith("ppg-fechamento-")));
+    }
+
+    @Test
+    @DisplayName("Deve publicar ResultadosLancadosEvent ao remover uma matrícula")
+    void shouldPublishResultsEvent_WhenDeletingEnrollment() {
+        // Given
+        OfertaDisciplina oferta = OfertaDisciplina.builder().id(20L).status(StatusOferta.ABERTA).build();
+        Discente discente = Discente.builder().id(30L).build();
+        MatriculaDisciplina matricula = MatriculaDisciplina.builder()
+                .id(10L)
+                .discente(discente)
+                .ofertaDisciplina(oferta)
+                .situacao(StatusMatricula.MATRICULADO)
+                .build();
+        when(matriculaRepository.findById(10L)).thenReturn(Optional.of(matricula));
+
+        // When
+        matriculaDisciplinaService.deletar(10L);
+
+        // Then
+        verify(matriculaRepository).delete(matricula);
+        verify(seatAllocator).liberar(20L);
+        verify(eventPublisher).publishEvent(new ResultadosLancadosEvent(30L));
+    }
+
+    private FechamentoResultadosProjection fechar(long processadas, long aprovados, long reprovados)
+            throws InterruptedException {
+        threads.add(Thread.currentThread().getName());
+        maximoSimultaneo.accumulateAndGet(emExecucao.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(20);
+        } finally {
+            emExecucao.decrementAndGet();
+        }
+        return new FechamentoResultadosProjection() {
+            @Override
+            public Long getTotalProcessadas() {
+                return processadas;
+            }
+
+            @Override
+            public Long getAprovados() {
+                return aprovados;
+            }
+
+            @Override
+            public Long getReprovados() {
+                return reprovados;
+            }
+        };
+    }
+}
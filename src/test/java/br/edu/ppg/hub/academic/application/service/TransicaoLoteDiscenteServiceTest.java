@@ -0,0 +1,165 @@
+package br.edu.ppg.hub.academic.application.service;
+
+import br.edu.ppg.hub.academic.application.dto.discente.TransicaoLoteDTO;
+import br.edu.ppg.hub.academic.application.dto.discente.TransicaoLoteResultadoDTO;
+import br.edu.ppg.hub.academic.domain.enums.StatusDiscente;
+import br.edu.ppg.hub.academic.domain.enums.TipoCurso;
+import br.edu.ppg.hub.academic.domain.enums.TransicaoDiscente;
+import br.edu.ppg.hub.academic.domain.event.PrazosDiscentesAlteradosEvent;
+import br.edu.ppg.hub.academic.infrastructure.orientacao.CargaOrientacoes;
+import br.edu.ppg.hub.academic.infrastructure.orientacao.CargaOrientacoes.ConclusoesDocente;
+import br.edu.ppg.hub.academic.infrastructure.repository.TransicaoDiscenteRepository;
+import br.edu.ppg.hub.academic.infrastructure.repository.TransicaoDiscenteRepository.SituacaoDiscente;
+import br.edu.ppg.hub.auth.application.service.AuditService;
+import br.edu.ppg.hub.shared.exception.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para TransicaoLoteDiscenteService.
+ * <p>
+ * Testa:
+ * - Nenhuma gravação quando algum discente do lote é inválido
+ * - Titulação em um único UPDATE, recalculando cada orientador uma vez
+ * - Motivo obrigatório no desligamento
+ * - Trancamento em lote recusado, sem gravação nem auditoria
+ * - Auditoria do lote publicada apenas após o commit
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransicaoLoteDiscenteService - Testes Unitários")
+class TransicaoLoteDiscenteServiceTest {
+
+    private static final LocalDate DEFESA = LocalDate.of(2024, 6, 20);
+
+    @Mock
+    private TransicaoDiscenteRepository transicaoDiscenteRepository;
+
+    @Mock
+    private CargaOrientacoes cargaOrientacoes;
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private TransicaoLoteDiscenteService transicaoLoteDiscenteService;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Não deve gravar nada quando algum discente é inválido")
+    void shouldApplyNothing_WhenAnyDiscenteIsInvalid() {
+        // Given: um válido, um sem defesa, um titulado, um inexistente e um repetido
+        when(transicaoDiscenteRepository.buscarParaTransicao(any())).thenReturn(List.of(
+                situacao(1L, StatusDiscente.DEFENDENDO, 10L, DEFESA),
+                situacao(2L, StatusDiscente.QUALIFICADO, 10L, null),
+                situacao(3L, StatusDiscente.TITULADO, 10L, DEFESA)));
+
+        // When
+        TransicaoLoteResultadoDTO resultado = transicaoLoteDiscenteService.aplicar(
+                lote(TransicaoDiscente.TITULAR, null, 1L, 2L, 3L, 4L, 1L));
+
+        // Then
+        assertEquals(5, resultado.getTotal());
+        assertEquals(0, resultado.getAtualizados());
+        assertEquals(List.of(1L, 2L, 3L, 4L),
+                resultado.getErros().stream().map(TransicaoLoteResultadoDTO.ErroDiscente::getDiscenteId).toList());
+        verify(transicaoDiscenteRepository, never()).titular(any());
+        verifyNoInteractions(cargaOrientacoes, auditService, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Deve titular o lote e recalcular cada orientador uma única vez")
+    void shouldTitleBatch_AndRecalculateEachAdvisorOnce() {
+        // Given
+        when(transicaoDiscenteRepository.buscarParaTransicao(any())).thenReturn(List.of(
+                situacao(1L, StatusDiscente.DEFENDENDO, 10L, DEFESA),
+                situacao(2L, StatusDiscente.DEFENDENDO, 10L, DEFESA),
+                situacao(3L, StatusDiscente.QUALIFICADO, null, DEFESA)));
+        when(transicaoDiscenteRepository.titular(any())).thenReturn(3);
+
+        // When
+        TransicaoLoteResultadoDTO resultado = transicaoLoteDiscenteService.aplicar(
+                lote(TransicaoDiscente.TITULAR, null, 1L, 2L, 3L));
+
+        // Then
+        assertTrue(resultado.getErros().isEmpty());
+        assertEquals(3, resultado.getAtualizados());
+        verify(transicaoDiscenteRepository).titular(new Long[]{1L, 2L, 3L});
+        verify(cargaOrientacoes).recalcular(List.of(new ConclusoesDocente(10L, 2, 0)));
+        verify(eventPublisher).publishEvent(new PrazosDiscentesAlteradosEvent(List.of(1L, 2L, 3L)));
+        verify(auditService).registrarAcoes(eq("TRANSICAO_LOTE"), eq("Discente"), anyMap(), anyMap());
+    }
+
+    @Test
+    @DisplayName("Deve exigir motivo no desligamento")
+    void shouldRequireReason_WhenDismissing() {
+        assertThrows(BusinessException.class, () -> transicaoLoteDiscenteService.aplicar(
+                lote(TransicaoDiscente.DESLIGAR, " ", 1L)));
+        verifyNoInteractions(transicaoDiscenteRepository);
+    }
+
+    @Test
+    @DisplayName("Deve recusar trancamento em lote sem gravar nem auditar")
+    void shouldRejectBatchLock_WithoutWritingOrAuditing() {
+        assertThrows(BusinessException.class, () -> transicaoLoteDiscenteService.aplicar(
+                lote(TransicaoDiscente.TRANCAR, "Licença médica", 1L)));
+        verifyNoInteractions(transicaoDiscenteRepository, cargaOrientacoes, auditService, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Deve publicar a auditoria do lote somente após o commit")
+    void shouldPublishAudit_OnlyAfterCommit() {
+        // Given
+        when(transicaoDiscenteRepository.buscarParaTransicao(any())).thenReturn(List.of(
+                situacao(1L, StatusDiscente.DEFENDENDO, 10L, DEFESA)));
+        when(transicaoDiscenteRepository.titular(any())).thenReturn(1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        transicaoLoteDiscenteService.aplicar(lote(TransicaoDiscente.TITULAR, null, 1L));
+        verifyNoInteractions(auditService);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        verify(auditService).registrarAcoes(eq("TRANSICAO_LOTE"), eq("Discente"), anyMap(), anyMap());
+    }
+
+    private TransicaoLoteDTO lote(TransicaoDiscente transicao, String motivo, Long... ids) {
+        return TransicaoLoteDTO.builder()
+                .transicao(transicao)
+                .discenteIds(List.of(ids))
+                .motivo(motivo)
+                .build();
+    }
+
+    private SituacaoDiscente situacao(Long id, StatusDiscente status, Long orientadorId, LocalDate dataDefesa) {
+        return new SituacaoDiscente(id, 1L, status, TipoCurso.MESTRADO, orientadorId, dataDefesa);
+    }
+}
@@ -0,0 +1,84 @@
+package br.edu.ppg.hub.academic.infrastructure.autocomplete;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para IndicePrefixos.
+ * <p>
+ * Testa:
+ * - Busca por prefixo sem distinção de acentos e maiúsculas
+ * - Consulta com vários termos
+ * - Substituição e remoção de itens
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@DisplayName("IndicePrefixos - Testes Unitários")
+class IndicePrefixosTest {
+
+    @Test
+    @DisplayName("Deve casar prefixos ignorando acentos e maiúsculas")
+    void shouldMatchPrefix_WhenQueryHasNoAccents() {
+        // Given
+        IndicePrefixos indice = new IndicePrefixos();
+        indice.colocar(1, "José da Silva", null, "José da Silva");
+        indice.colocar(2, "Joana Araújo", null, "Joana Araújo");
+        indice.colocar(3, "Marcos Josué", null, "Marcos Josué");
+
+        // When
+        List<ItemAutocompletar> encontrados = indice.buscar("JOS", 10);
+
+        // Then
+        assertEquals(List.of(1L, 3L), ids(encontrados));
+        assertEquals(List.of(2L), ids(indice.buscar("arau", 10)));
+        assertTrue(indice.buscar("silvana", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve exigir que todos os termos casem com algum token")
+    void shouldRequireAllTerms_WhenQueryHasSeveralWords() {
+        // Given
+        IndicePrefixos indice = new IndicePrefixos();
+        indice.colocar(10, "Aprendizado de Máquina", "PPGCC-101", "PPGCC-101 Aprendizado de Máquina");
+        indice.colocar(11, "Aprendizado Profundo", "PPGCC-102", "PPGCC-102 Aprendizado Profundo");
+
+        // When / Then
+        assertEquals(List.of(10L), ids(indice.buscar("apr maq", 10)));
+        assertEquals(List.of(11L), ids(indice.buscar("102", 10)));
+        assertEquals(List.of(10L, 11L), ids(indice.buscar("ppgcc", 10)));
+        assertEquals(1, indice.buscar("ppgcc", 1).size());
+    }
+
+    @Test
+    @DisplayName("Deve refletir substituição e remoção de itens")
+    void shouldReflectChanges_WhenItemIsReplacedOrRemoved() {
+        // Given
+        IndicePrefixos indice = new IndicePrefixos();
+        indice.colocar(1, "Estatística", "EST-01", "EST-01 Estatística");
+
+        // When
+        indice.colocar(1, "Probabilidade", "EST-01", "EST-01 Probabilidade");
+
+        // Then
+        assertTrue(indice.buscar("estat", 10).isEmpty());
+        assertEquals("Probabilidade", indice.buscar("prob", 10).get(0).rotulo());
+
+        // When
+        indice.remover(1);
+
+        // Then
+        assertFalse(indice.contem(1));
+        assertEquals(0, indice.tamanho());
+        assertTrue(indice.buscar("est", 10).isEmpty());
+    }
+
+    private List<Long> ids(List<ItemAutocompletar> itens) {
+        return itens.stream().map(ItemAutocompletar::id).toList();
+    }
+}
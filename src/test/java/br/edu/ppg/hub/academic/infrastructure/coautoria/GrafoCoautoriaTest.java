@@ -0,0 +1,102 @@
+package br.edu.ppg.hub.academic.infrastructure.coautoria;
+
+import br.edu.ppg.hub.academic.infrastructure.coautoria.GrafoCoautoria.Coautoria;
+import br.edu.ppg.hub.academic.infrastructure.coautoria.GrafoCoautoria.Conflito;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para GrafoCoautoria.
+ * <p>
+ * Testa:
+ * - Coautoria detectada a partir da lista de qualquer um dos dois autores
+ * - Sincronizações sucessivas mantêm o ano mais recente
+ * - Conversão de IDs do OpenAlex e ORCIDs
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GrafoCoautoria - Testes Unitários")
+class GrafoCoautoriaTest {
+
+    private static final long ORIENTADOR = 5001L;
+    private static final long DISCENTE = 5002L;
+    private static final long EXTERNO = 7001L;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private GrafoCoautoria grafo;
+
+    @BeforeEach
+    void setUp() {
+        grafo = new GrafoCoautoria(jdbcTemplate, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Deve detectar membro coautor do orientador dentro da janela")
+    void shouldDetectConflict_WhenMemberCoauthoredWithOrientador() {
+        // Given
+        grafo.atualizar(ORIENTADOR, List.of(
+                new Coautoria(EXTERNO, "0000-0002-1825-0097", 2019),
+                new Coautoria(EXTERNO, null, 2023),
+                new Coautoria(DISCENTE, null, 2024),
+                new Coautoria(ORIENTADOR, null, 2024)));
+
+        // When
+        Optional<Long> membro = grafo.autorPorOrcid("https://orcid.org/0000-0002-1825-0097");
+        List<Conflito> conflitos = grafo.conflitos(List.of(EXTERNO), List.of(DISCENTE, ORIENTADOR), 2021);
+
+        // Then
+        assertEquals(Optional.of(EXTERNO), membro);
+        assertEquals(List.of(new Conflito(EXTERNO, ORIENTADOR, 2023)), conflitos);
+        assertEquals(2024, grafo.ultimaColaboracao(DISCENTE, ORIENTADOR));
+        assertTrue(grafo.conflitos(List.of(EXTERNO), List.of(ORIENTADOR), 2024).isEmpty());
+        verify(jdbcTemplate).update(anyString(), eq(ORIENTADOR), any(Long[].class), any(String[].class),
+                any(Integer[].class));
+    }
+
+    @Test
+    @DisplayName("Deve manter o ano mais recente entre sincronizações")
+    void shouldKeepLatestYear_WhenSyncedAgain() {
+        // Given
+        grafo.atualizar(ORIENTADOR, List.of(new Coautoria(EXTERNO, null, 2022)));
+
+        // When
+        grafo.atualizar(ORIENTADOR, List.of(new Coautoria(EXTERNO, null, 2015), new Coautoria(8001L, null, 2020)));
+
+        // Then
+        assertEquals(2022, grafo.ultimaColaboracao(EXTERNO, ORIENTADOR));
+        assertEquals(2020, grafo.ultimaColaboracao(ORIENTADOR, 8001L));
+        assertEquals(-1, grafo.ultimaColaboracao(EXTERNO, 8001L));
+    }
+
+    @Test
+    @DisplayName("Deve converter IDs do OpenAlex e normalizar ORCIDs")
+    void shouldParseIdentifiers() {
+        assertEquals(5023888391L, GrafoCoautoria.autorId("https://openalex.org/A5023888391"));
+        assertEquals(5023888391L, GrafoCoautoria.autorId("A5023888391"));
+        assertNull(GrafoCoautoria.autorId("https://openalex.org/W2741809807"));
+        assertNull(GrafoCoautoria.autorId(null));
+        assertEquals("0000-0002-1694-233X", GrafoCoautoria.normalizarOrcid("https://orcid.org/0000-0002-1694-233x"));
+        assertNull(GrafoCoautoria.normalizarOrcid("0000-0002"));
+    }
+}
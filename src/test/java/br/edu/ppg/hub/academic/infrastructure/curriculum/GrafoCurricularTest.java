@@ -0,0 +1,94 @@
+package br.edu.ppg.hub.academic.infrastructure.curriculum;
+
+import br.edu.ppg.hub.academic.infrastructure.curriculum.GrafoCurricular.Requisitos;
+import br.edu.ppg.hub.shared.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para GrafoCurricular.
+ * <p>
+ * Testa:
+ * - Elegibilidade como subconjunto dos pré-requisitos diretos
+ * - Fechamento transitivo e detecção de ciclo em novo pré-requisito
+ * - Ciclo existente nas colunas de requisitos
+ * - Bitsets indexados pela posição no programa, não pelo id global
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@DisplayName("GrafoCurricular - Testes Unitários")
+class GrafoCurricularTest {
+
+    // 1 <- 2 <- 3, 1 <- 4; 5 é co-requisito de 4
+    private final GrafoCurricular grafo = GrafoCurricular.construir(Map.of(
+            1L, Requisitos.parse("[]", "[]"),
+            2L, Requisitos.parse("[1]", "[]"),
+            3L, Requisitos.parse("[2]", "[]"),
+            4L, Requisitos.parse("[1]", "[5]"),
+            5L, Requisitos.parse("[]", "[]")));
+
+    @Test
+    @DisplayName("Deve liberar a disciplina quando os pré-requisitos diretos foram aprovados")
+    void shouldBeEligible_WhenDirectPrerequisitesApproved() {
+        // Given
+        BitSet aprovadas = grafo.bits(List.of(1L));
+
+        // Then
+        assertTrue(grafo.preRequisitosFaltantes(2L, aprovadas).isEmpty());
+        assertEquals(List.of(2L), grafo.ids(grafo.preRequisitosFaltantes(3L, aprovadas)));
+        assertEquals(List.of(1L, 2L), grafo.ids(grafo.trilhaPendente(3L, new BitSet())));
+        assertEquals(List.of(5L), grafo.ids(grafo.coRequisitosFaltantes(4L, aprovadas)));
+        assertTrue(grafo.ciclo().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve apontar pré-requisitos que fechariam um ciclo")
+    void shouldDetectCycle_WhenNewPrerequisiteDependsOnDiscipline() {
+        assertEquals(List.of(3L), grafo.criariamCiclo(1L, Set.of(3L)));
+        assertEquals(List.of(1L), grafo.criariamCiclo(1L, Set.of(1L)));
+        assertTrue(grafo.criariamCiclo(3L, Set.of(4L)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve registrar ciclo existente e rejeitar requisitos malformados")
+    void shouldReportCycle_WhenColumnsAreCyclic() {
+        // When
+        GrafoCurricular ciclico = GrafoCurricular.construir(Map.of(
+                1L, Requisitos.parse("[3]", "[]"),
+                2L, Requisitos.parse("[1]", "[]"),
+                3L, Requisitos.parse("[2]", "[]")));
+
+        // Then
+        assertEquals(3, ciclico.ciclo().size());
+        assertThrows(BusinessException.class, () -> Requisitos.parse("{\"id\": 1}", "[]"));
+        assertThrows(BusinessException.class, () -> Requisitos.parse("[\"abc\"]", "[]"));
+    }
+
+    @Test
+    @DisplayName("Deve indexar os bitsets pela posição da disciplina no programa")
+    void shouldIndexBitsByPosition_WhenIdsAreLarge() {
+        // Given: ids globais altos e esparsos
+        GrafoCurricular esparso = GrafoCurricular.construir(Map.of(
+                90_000_001L, Requisitos.parse("[]", "[]"),
+                90_500_000L, Requisitos.parse("[90000001]", "[]"),
+                3_000_000_000L, Requisitos.parse("[90500000]", "[]")));
+
+        // When
+        BitSet aprovadas = esparso.bits(new long[]{90_000_001L, 7L});
+        BitSet trilha = esparso.trilhaPendente(3_000_000_000L, aprovadas);
+
+        // Then: bitsets do tamanho do currículo; ids de fora do programa ignorados
+        assertEquals(1, aprovadas.length());
+        assertEquals(List.of(90_500_000L), esparso.ids(trilha));
+        assertEquals(List.of(3_000_000_000L), esparso.criariamCiclo(90_000_001L, Set.of(3_000_000_000L)));
+    }
+}
@@ -0,0 +1,92 @@
+package br.edu.ppg.hub.academic.infrastructure.enrollment;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para VagasOferta.
+ * <p>
+ * Testa:
+ * - Reservas concorrentes nunca ultrapassam a capacidade
+ * - Promoção da lista de espera na ordem de inscrição
+ * - Novas inscrições não furam a fila
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@DisplayName("VagasOferta - Testes Unitários")
+class VagasOfertaTest {
+
+    @Test
+    @DisplayName("Deve conceder exatamente as vagas disponíveis sob concorrência")
+    void shouldGrantExactlyAvailableSeats_WhenConcurrentRequests() throws Exception {
+        // Given
+        VagasOferta vagas = new VagasOferta(120, 20, List.of());
+        AtomicInteger concedidas = new AtomicInteger();
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+
+        // When
+        for (int i = 0; i < 500; i++) {
+            executor.submit(() -> {
+                largada.await();
+                if (vagas.reservar()) {
+                    concedidas.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        largada.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        // Then
+        assertEquals(100, concedidas.get());
+        assertEquals(120, vagas.getOcupadas());
+    }
+
+    @Test
+    @DisplayName("Deve promover a lista de espera em ordem FIFO")
+    void shouldPromoteWaitlistInFifoOrder_WhenSeatsAreReleased() {
+        // Given - fila reconstruída do banco (ordenada por id)
+        VagasOferta vagas = new VagasOferta(2, 2, List.of(10L, 11L));
+        vagas.enfileirar(12L);
+
+        // When
+        vagas.desocupar();
+        Long primeiro = vagas.promoverProximo();
+        Long semVaga = vagas.promoverProximo();
+        vagas.desocupar();
+        Long segundo = vagas.promoverProximo();
+
+        // Then
+        assertEquals(10L, primeiro);
+        assertNull(semVaga);
+        assertEquals(11L, segundo);
+        assertEquals(1, vagas.getTamanhoFila());
+        assertEquals(2, vagas.getOcupadas());
+    }
+
+    @Test
+    @DisplayName("Deve negar nova reserva enquanto houver fila de espera")
+    void shouldDenyNewReservation_WhenWaitlistIsNotEmpty() {
+        // Given
+        VagasOferta vagas = new VagasOferta(2, 1, List.of(7L));
+
+        // When / Then
+        assertFalse(vagas.reservar());
+        assertEquals(7L, vagas.promoverProximo());
+        assertFalse(vagas.removerDaFila(99L));
+        assertEquals(0, vagas.getTamanhoFila());
+    }
+}
@@ -0,0 +1,125 @@
+package br.edu.ppg.hub.academic.infrastructure.metrics;
+
+import br.edu.ppg.hub.academic.infrastructure.metrics.ContadoresTrabalho.Metrica;
+import br.edu.ppg.hub.shared.config.ContadoresConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ContadoresTrabalho.
+ * <p>
+ * Testa:
+ * - Incrementos de várias métricas agregados em um único UPDATE
+ * - Incrementos devolvidos ao contador quando o UPDATE falha
+ * - Acumulado acima de INTEGER gravado em lotes, sem perder o excedente
+ * - Persistência em arquivo no encerramento e recuperação na inicialização
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ContadoresTrabalho - Testes Unitários")
+class ContadoresTrabalhoTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path diretorio;
+
+    private ContadoresTrabalho contadores;
+
+    @BeforeEach
+    void setUp() {
+        ContadoresConfig config = new ContadoresConfig();
+        config.setArquivoPendentes(diretorio.resolve("pendentes.csv").toString());
+        contadores = new ContadoresTrabalho(jdbcTemplate, config);
+    }
+
+    @Test
+    @DisplayName("Deve agregar os incrementos de cada trabalho em um único UPDATE")
+    void shouldAggregateIncrements_WhenFlushing() {
+        // Given
+        contadores.registrar(Metrica.DOWNLOADS, 1L);
+        contadores.registrar(Metrica.DOWNLOADS, 1L);
+        contadores.registrar(Metrica.VISUALIZACOES, 1L);
+        contadores.registrar(Metrica.CITACOES, 2L, 5);
+
+        // When
+        contadores.flush();
+        contadores.flush();
+
+        // Then
+        ArgumentCaptor<Object> argumentos = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate, times(1)).update(anyString(), argumentos.capture(), argumentos.capture(),
+                argumentos.capture(), argumentos.capture());
+        List<Object> valores = argumentos.getAllValues();
+        Long[] ids = (Long[]) valores.get(0);
+        int trabalho1 = List.of(ids).indexOf(1L);
+        int trabalho2 = List.of(ids).indexOf(2L);
+        assertEquals(2, ((Integer[]) valores.get(1))[trabalho1]);
+        assertEquals(1, ((Integer[]) valores.get(2))[trabalho1]);
+        assertEquals(5, ((Integer[]) valores.get(3))[trabalho2]);
+    }
+
+    @Test
+    @DisplayName("Deve manter no contador o excedente que não cabe em INTEGER")
+    void shouldKeepOverflowPending_WhenTotalExceedsInteger() {
+        // Given
+        contadores.registrar(Metrica.DOWNLOADS, 3L, Integer.MAX_VALUE + 5L);
+
+        // When
+        contadores.flush();
+        contadores.flush();
+
+        // Then
+        verify(jdbcTemplate).update(anyString(), eq(new Long[]{3L}), eq(new Integer[]{Integer.MAX_VALUE}),
+                eq(new Integer[]{0}), eq(new Integer[]{0}));
+        verify(jdbcTemplate).update(anyString(), eq(new Long[]{3L}), eq(new Integer[]{5}),
+                eq(new Integer[]{0}), eq(new Integer[]{0}));
+    }
+
+    @Test
+    @DisplayName("Deve salvar incrementos não gravados no encerramento e recuperá-los depois")
+    void shouldPersistToFile_WhenDatabaseUnavailableOnShutdown() throws Exception {
+        // Given
+        when(jdbcTemplate.update(anyString(), any(), any(), any(), any()))
+                .thenThrow(new DataAccessResourceFailureException("banco indisponível"));
+        contadores.registrar(Metrica.DOWNLOADS, 7L);
+        contadores.flush();
+        contadores.registrar(Metrica.DOWNLOADS, 7L);
+
+        // When
+        contadores.encerrar();
+
+        // Then
+        Path arquivo = diretorio.resolve("pendentes.csv");
+        assertEquals(List.of("7;2;0;0"), Files.readAllLines(arquivo));
+
+        // When
+        reset(jdbcTemplate);
+        contadores.recuperarPendentes();
+
+        // Then
+        assertFalse(Files.exists(arquivo));
+        verify(jdbcTemplate).update(anyString(), eq(new Long[]{7L}), eq(new Integer[]{2}),
+                eq(new Integer[]{0}), eq(new Integer[]{0}));
+    }
+}
@@ -0,0 +1,102 @@
+package br.edu.ppg.hub.academic.infrastructure.orientacao;
+
+import br.edu.ppg.hub.academic.domain.enums.TipoCurso;
+import br.edu.ppg.hub.academic.infrastructure.orientacao.CargaOrientacoes.CargaDocente;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para CargaOrientacoes.
+ * <p>
+ * Testa:
+ * - Recomendação pela linha de pesquisa e pela carga, sem docentes no limite
+ * - Contadores atualizados em SQL refletidos na recomendação
+ * - Reconciliação bloqueia os docentes antes de recontar
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CargaOrientacoes - Testes Unitários")
+class CargaOrientacoesTest {
+
+    private static final long PROGRAMA = 1L;
+    private static final long LINHA = 10L;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CargaOrientacoes carga;
+
+    @BeforeEach
+    void setUp() {
+        carga = new CargaOrientacoes(jdbcTemplate, transactionManager);
+        when(jdbcTemplate.query(anyString(), ArgumentMatchers.<RowMapper<Object>>any())).thenReturn(List.of(
+                new CargaDocente(101L, PROGRAMA, LINHA, "Ana", 3, 2),
+                new CargaDocente(102L, PROGRAMA, 20L, "Bruno", 0, 1),
+                new CargaDocente(103L, PROGRAMA, LINHA, "Carla", 1, 1),
+                new CargaDocente(104L, PROGRAMA, LINHA, "Davi", 5, 3),
+                new CargaDocente(105L, 2L, LINHA, "Eva", 0, 0)));
+        carga.carregar();
+    }
+
+    @Test
+    @DisplayName("Deve recomendar a mesma linha primeiro e, nela, os menos carregados")
+    void shouldRankByResearchLineThenLoad() {
+        // When
+        List<CargaDocente> recomendados = carga.recomendar(PROGRAMA, LINHA, TipoCurso.MESTRADO, 10);
+
+        // Then
+        assertEquals(List.of(103L, 101L, 102L), recomendados.stream().map(CargaDocente::docenteId).toList());
+        assertEquals(List.of(102L), carga.recomendar(PROGRAMA, null, TipoCurso.MESTRADO, 1).stream()
+                .map(CargaDocente::docenteId).toList());
+    }
+
+    @Test
+    @DisplayName("Deve refletir na recomendação os contadores retornados pelo incremento")
+    void shouldApplyUpdatedCounters_WhenOrientacaoStarts() {
+        // Given
+        when(jdbcTemplate.query(anyString(), ArgumentMatchers.<RowMapper<Object>>any(),
+                any(), any(), any(), any(), any())).thenReturn(List.of(new int[]{4, 1}));
+
+        // When
+        carga.iniciar(103L, TipoCurso.MESTRADO);
+
+        // Then
+        verify(jdbcTemplate).query(anyString(), ArgumentMatchers.<RowMapper<Object>>any(),
+                eq(1), eq(0), eq(0), eq(0), eq(103L));
+        assertEquals(List.of(101L, 103L, 102L), carga.recomendar(PROGRAMA, LINHA, TipoCurso.MESTRADO, 10).stream()
+                .map(CargaDocente::docenteId).toList());
+    }
+
+    @Test
+    @DisplayName("Deve bloquear os docentes antes de recontar na reconciliação")
+    void shouldLockDocentesBeforeRecount_WhenReconciling() {
+        // When
+        carga.reconciliar();
+
+        // Then
+        InOrder ordem = inOrder(jdbcTemplate);
+        ordem.verify(jdbcTemplate).queryForList(contains("FOR UPDATE"), eq(Long.class));
+        ordem.verify(jdbcTemplate).update(contains("UPDATE academic.docentes doc"));
+    }
+}
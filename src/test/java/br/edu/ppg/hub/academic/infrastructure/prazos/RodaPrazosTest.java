@@ -0,0 +1,96 @@
+package br.edu.ppg.hub.academic.infrastructure.prazos;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para RodaPrazos.
+ * <p>
+ * Testa:
+ * - Itens vencem no dia agendado, em ordem, inclusive além do primeiro nível
+ * - Cancelamento e reagendamento
+ * - Itens agendados para dias já processados vencem no próximo avanço
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@DisplayName("RodaPrazos - Testes Unitários")
+class RodaPrazosTest {
+
+    private static final long HOJE = 20_000;
+
+    @Test
+    @DisplayName("Deve vencer cada item no dia agendado, em todos os níveis")
+    void shouldExpireEachItemOnItsDay_AcrossLevels() {
+        // Given: 2000 itens espalhados por 15 anos
+        RodaPrazos<Integer> roda = new RodaPrazos<>(HOJE);
+        Random random = new Random(42);
+        long[] dias = new long[2000];
+        for (int i = 0; i < dias.length; i++) {
+            dias[i] = HOJE + 1 + random.nextInt(15 * 365);
+            roda.agendar(i, dias[i]);
+        }
+
+        // When: avança dia a dia, com saltos ocasionais
+        List<Integer> vencidos = new ArrayList<>();
+        long dia = HOJE;
+        while (roda.tamanho() > 0) {
+            dia += random.nextInt(10) == 0 ? 100 : 1;
+            for (int item : roda.avancar(dia)) {
+                // Then
+                assertTrue(dias[item] <= dia, "Item " + item + " venceu antes do dia");
+                assertTrue(dias[item] > dia - 100, "Item " + item + " venceu atrasado");
+                vencidos.add(item);
+            }
+        }
+        assertEquals(dias.length, vencidos.size());
+        for (int i = 1; i < vencidos.size(); i++) {
+            assertTrue(dias[vencidos.get(i - 1)] <= dias[vencidos.get(i)], "Vencimentos fora de ordem");
+        }
+    }
+
+    @Test
+    @DisplayName("Deve respeitar cancelamento e reagendamento")
+    void shouldHonorCancelAndReschedule() {
+        // Given
+        RodaPrazos<String> roda = new RodaPrazos<>(HOJE);
+        roda.agendar("qualificacao", HOJE + 30);
+        roda.agendar("defesa", HOJE + 5000);
+        roda.agendar("desligado", HOJE + 10);
+
+        // When
+        assertTrue(roda.cancelar("desligado"));
+        roda.agendar("defesa", HOJE + 90);
+
+        // Then
+        assertFalse(roda.cancelar("desligado"));
+        assertEquals(List.of(), roda.avancar(HOJE + 29));
+        assertEquals(List.of("qualificacao"), roda.avancar(HOJE + 30));
+        assertEquals(List.of("defesa"), roda.avancar(HOJE + 200));
+        assertEquals(0, roda.tamanho());
+        assertEquals(HOJE + 200, roda.ultimoDiaProcessado());
+    }
+
+    @Test
+    @DisplayName("Deve vencer no próximo avanço item agendado para dia já processado")
+    void shouldExpireOnNextAdvance_WhenScheduledInThePast() {
+        // Given
+        RodaPrazos<String> roda = new RodaPrazos<>(HOJE);
+        roda.agendar("atrasado", HOJE - 3);
+        roda.agendar("hoje", HOJE);
+
+        // When
+        List<String> vencidos = roda.avancar(HOJE);
+
+        // Then
+        assertEquals(List.of("atrasado", "hoje"), vencidos);
+        assertEquals(0, roda.tamanho());
+    }
+}
@@ -0,0 +1,219 @@
+package br.edu.ppg.hub.academic.infrastructure.repository;
+
+import br.edu.ppg.hub.academic.domain.model.Discente;
+import br.edu.ppg.hub.academic.domain.model.Disciplina;
+import br.edu.ppg.hub.academic.domain.model.Docente;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.BancaResumoProjection;
+import br.edu.ppg.hub.academic.infrastructure.repository.projection.OfertaDisciplinaResumoProjection;
+import br.edu.ppg.hub.core.domain.model.LinhaPesquisa;
+import br.edu.ppg.hub.core.domain.model.Programa;
+import br.edu.ppg.hub.support.PostgresMigrado;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Orçamento de comandos SQL das listagens do módulo acadêmico.
+ * <p>
+ * Popula um PostgreSQL real (Testcontainers, schema das migrations Flyway), executa as consultas de listagem e
+ * percorre as mesmas associações lidas pelos mappers de resposta, contando os
+ * comandos preparados pelo Hibernate.
+ * </p>
+ * <p>
+ * Verifica:
+ * - Listagem paginada: no máximo a consulta da página e a contagem
+ * - Listagem não paginada: uma única consulta
+ * - Nenhuma carga lazy adicional por linha (N+1)
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Grafos de listagem - Orçamento de SQL")
+class GrafoListagemConsultasTest {
+
+    private static final int DISCENTES = 20;
+    private static final int DOCENTES = 4;
+    private static final int OFERTAS = 8;
+    private static final PageRequest PAGINA = PageRequest.of(0, DISCENTES);
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        PostgresMigrado.registrar(registry);
+    }
+
+    /**
+     * Contexto mínimo de JPA (sem Feign, segurança ou web da aplicação).
+     */
+    @SpringBootConfiguration
+    @EntityScan("br.edu.ppg.hub")
+    @EnableJpaRepositories("br.edu.ppg.hub.academic.infrastructure.repository")
+    @EnableJpaAuditing
+    static class JpaConfig {
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DiscenteRepository discenteRepository;
+
+    @Autowired
+    private DocenteRepository docenteRepository;
+
+    @Autowired
+    private BancaRepository bancaRepository;
+
+    @Autowired
+    private OfertaDisciplinaRepository ofertaDisciplinaRepository;
+
+    private Statistics statistics;
+    private Long programaId;
+
+    @BeforeEach
+    void setUp() {
+        ListagemFixture fixture = new ListagemFixture(entityManager);
+        Programa programa = fixture.programa();
+        LinhaPesquisa linha = fixture.linhaPesquisa(programa);
+        programaId = programa.getId();
+
+        Docente[] docentes = new Docente[DOCENTES];
+        for (int i = 0; i < DOCENTES; i++) {
+            docentes[i] = fixture.docente(programa, linha, i);
+        }
+
+        for (int i = 0; i < DISCENTES; i++) {
+            Discente discente = entityManager.persist(fixture.discente(programa, linha, i)
+                    .orientador(docentes[i % DOCENTES])
+                    .coorientadorInterno(docentes[(i + 1) % DOCENTES])
+                    .build());
+            fixture.banca(discente, docentes[(i + 2) % DOCENTES]);
+        }
+
+        for (int i = 0; i < OFERTAS; i++) {
+            Disciplina disciplina = fixture.disciplina(programa, i);
+            fixture.oferta(disciplina, docentes[i % DOCENTES]);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Deve listar discentes paginados com a página e a contagem apenas")
+    void shouldListDiscentesWithTwoStatements_WhenPaged() {
+        // When
+        Page<Discente> pagina = discenteRepository.findAll(PAGINA);
+        pagina.forEach(this::percorrerDiscente);
+
+        // Then
+        assertEquals(DISCENTES, pagina.getNumberOfElements());
+        assertComandosNoMaximo(2);
+    }
+
+    @Test
+    @DisplayName("Deve listar discentes do programa em uma única consulta")
+    void shouldListDiscentesWithOneStatement_WhenFilteringByPrograma() {
+        // When
+        List<Discente> discentes = discenteRepository.findByProgramaId(programaId);
+        discentes.forEach(this::percorrerDiscente);
+
+        // Then
+        assertEquals(DISCENTES, discentes.size());
+        assertComandosNoMaximo(1);
+    }
+
+    @Test
+    @DisplayName("Deve listar docentes paginados com a página e a contagem apenas")
+    void shouldListDocentesWithTwoStatements_WhenPaged() {
+        // When
+        Page<Docente> pagina = docenteRepository.findByProgramaId(programaId, PAGINA);
+        pagina.forEach(this::percorrerDocente);
+
+        // Then
+        assertEquals(DOCENTES, pagina.getNumberOfElements());
+        assertComandosNoMaximo(2);
+    }
+
+    @Test
+    @DisplayName("Deve listar bancas (BancaService.listarTodas) com a página e a contagem apenas")
+    void shouldListBancasWithTwoStatements_WhenPaged() {
+        // When
+        Page<BancaResumoProjection> pagina = bancaRepository.findResumos(PAGINA);
+
+        // Then
+        assertEquals(DISCENTES, pagina.getNumberOfElements());
+        pagina.forEach(banca -> {
+            assertNotNull(banca.getDiscenteNome());
+            assertNotNull(banca.getPresidenteNome());
+        });
+        assertComandosNoMaximo(2);
+    }
+
+    @Test
+    @DisplayName("Deve listar ofertas (OfertaDisciplinaService.buscarTodas) com a página e a contagem apenas")
+    void shouldListOfertasWithTwoStatements_WhenPaged() {
+        // When
+        Page<OfertaDisciplinaResumoProjection> pagina = ofertaDisciplinaRepository.findResumos(PAGINA);
+
+        // Then
+        assertEquals(OFERTAS, pagina.getNumberOfElements());
+        pagina.forEach(oferta -> {
+            assertNotNull(oferta.getDisciplinaNome());
+            assertNotNull(oferta.getDocenteResponsavelNome());
+        });
+        assertComandosNoMaximo(2);
+    }
+
+    /**
+     * Mesmas associações lidas por DiscenteMapper.toResponseDTO.
+     */
+    private void percorrerDiscente(Discente discente) {
+        assertNotNull(discente.getUsuario().getNomeCompleto());
+        assertNotNull(discente.getPrograma().getSigla());
+        assertNotNull(discente.getLinhaPesquisa().getNome());
+        assertNotNull(discente.getOrientador().getUsuario().getNomeCompleto());
+        assertNotNull(discente.getCoorientadorInterno().getUsuario().getNomeCompleto());
+    }
+
+    /**
+     * Mesmas associações lidas por DocenteMapper.toResponseDTO.
+     */
+    private void percorrerDocente(Docente docente) {
+        assertNotNull(docente.getUsuario().getEmail());
+        assertNotNull(docente.getPrograma().getNome());
+        assertNotNull(docente.getLinhaPesquisa().getNome());
+    }
+
+    private void assertComandosNoMaximo(long limite) {
+        long comandos = statistics.getPrepareStatementCount();
+        assertTrue(comandos <= limite,
+                "Esperado no máximo " + limite + " comandos SQL, executados " + comandos);
+    }
+}
@@ -0,0 +1,137 @@
+package br.edu.ppg.hub.academic.infrastructure.repository;
+
+import br.edu.ppg.hub.academic.domain.enums.TipoBanca;
+import br.edu.ppg.hub.academic.domain.enums.TipoCurso;
+import br.edu.ppg.hub.academic.domain.enums.TipoDisciplina;
+import br.edu.ppg.hub.academic.domain.enums.TipoVinculoDocente;
+import br.edu.ppg.hub.academic.domain.model.Banca;
+import br.edu.ppg.hub.academic.domain.model.Discente;
+import br.edu.ppg.hub.academic.domain.model.Disciplina;
+import br.edu.ppg.hub.academic.domain.model.Docente;
+import br.edu.ppg.hub.academic.domain.model.OfertaDisciplina;
+import br.edu.ppg.hub.auth.domain.model.Usuario;
+import br.edu.ppg.hub.core.domain.enums.NivelPrograma;
+import br.edu.ppg.hub.core.domain.model.Instituicao;
+import br.edu.ppg.hub.core.domain.model.LinhaPesquisa;
+import br.edu.ppg.hub.core.domain.model.Programa;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Massa de dados mínima e válida para os testes de listagem do módulo acadêmico.
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+final class ListagemFixture {
+
+    private final TestEntityManager entityManager;
+
+    ListagemFixture(TestEntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    Programa programa() {
+        Instituicao instituicao = entityManager.persist(Instituicao.builder()
+                .codigo("UEPB")
+                .nomeCompleto("Universidade Estadual da Paraíba")
+                .nomeAbreviado("UEPB")
+                .sigla("UEPB")
+                .tipo("Estadual")
+                .build());
+
+        Programa programa = new Programa();
+        programa.setInstituicao(instituicao);
+        programa.setNome("Programa de Pós-Graduação em Ciência da Computação");
+        programa.setSigla("PPGCC");
+        programa.setNivel(NivelPrograma.MESTRADO_DOUTORADO);
+        return entityManager.persist(programa);
+    }
+
+    LinhaPesquisa linhaPesquisa(Programa programa) {
+        LinhaPesquisa linha = new LinhaPesquisa();
+        linha.setPrograma(programa);
+        linha.setNome("Engenharia de Software");
+        return entityManager.persist(linha);
+    }
+
+    Docente docente(Programa programa, LinhaPesquisa linha, int indice) {
+        return entityManager.persist(Docente.builder()
+                .usuario(usuario("docente" + indice))
+                .programa(programa)
+                .linhaPesquisa(linha)
+                .tipoVinculo(TipoVinculoDocente.PERMANENTE)
+                .dataVinculacao(LocalDate.of(2020, 3, 1))
+                .build());
+    }
+
+    /**
+     * Discente com os campos obrigatórios preenchidos; o chamador completa e persiste.
+     */
+    Discente.DiscenteBuilder discente(Programa programa, LinhaPesquisa linha, int indice) {
+        return Discente.builder()
+                .usuario(usuario("discente" + indice))
+                .programa(programa)
+                .linhaPesquisa(linha)
+                .numeroMatricula(String.format("2024%05d", indice))
+                .tipoCurso(TipoCurso.MESTRADO)
+                .turma(2024)
+                .semestreIngresso("2024.1")
+                .dataIngresso(LocalDate.of(2024, 3, 1));
+    }
+
+    Disciplina disciplina(Programa programa, int indice) {
+        return entityManager.persist(Disciplina.builder()
+                .programa(programa)
+                .codigo(String.format("PPGCC%03d", indice))
+                .nome("Disciplina " + indice)
+                .cargaHorariaTotal(60)
+                .creditos(4)
+                .tipo(TipoDisciplina.ELETIVA)
+                .nivel("Mestrado")
+                .build());
+    }
+
+    OfertaDisciplina oferta(Disciplina disciplina, Docente responsavel) {
+        return entityManager.persist(OfertaDisciplina.builder()
+                .disciplina(disciplina)
+                .docenteResponsavel(responsavel)
+                .ano(2024)
+                .semestre(1)
+                .periodo("2024.1")
+                .horarios("[]")
+                .dataInicio(LocalDate.of(2024, 3, 4))
+                .dataFim(LocalDate.of(2024, 7, 5))
+                .vagasOferecidas(30)
+                .build());
+    }
+
+    /**
+     * Qualificação agendada para daqui a um mês (a tabela rejeita datas com mais de um ano).
+     */
+    Banca banca(Discente discente, Docente presidente) {
+        return entityManager.persist(Banca.builder()
+                .discente(discente)
+                .presidente(presidente)
+                .tipo(TipoBanca.QUALIFICACAO)
+                .dataAgendada(LocalDate.now().plusMonths(1))
+                .horarioInicio(LocalTime.of(14, 0))
+                .build());
+    }
+
+    Usuario usuario(String login) {
+        return entityManager.persist(Usuario.builder()
+                .uuid(UUID.randomUUID())
+                .nomeCompleto("Usuário " + login)
+                .email(login + "@ppg.edu.br")
+                .passwordHash("hash")
+                .emailVerificado(true)
+                .tentativasLogin(0)
+                .contaBloqueada(false)
+                .ativo(true)
+                .build());
+    }
+}
@@ -0,0 +1,200 @@
+package br.edu.ppg.hub.academic.infrastructure.repository;
+
+import br.edu.ppg.hub.academic.application.dto.discente.DiscenteMapper;
+import br.edu.ppg.hub.academic.domain.model.Docente;
+import br.edu.ppg.hub.core.domain.model.LinhaPesquisa;
+import br.edu.ppg.hub.core.domain.model.Programa;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark da listagem paginada de discentes: entidade + mapper contra projeção.
+ * <p>
+ * Cada discente carrega prorrogações e documentos (jsonb) de tamanho realista. As
+ * duas abordagens percorrem todas as páginas, limpando o contexto de persistência
+ * a cada página como em requisições distintas. São medidos linhas por segundo e
+ * bytes alocados na thread (com.sun.management.ThreadMXBean).
+ * </p>
+ * <p>
+ * Verifica:
+ * - Ambas as abordagens retornam as mesmas linhas
+ * - A projeção aloca menos memória que a entidade completa
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DiscenteMapper.class)
+@Testcontainers(disabledWithoutDocker = true)
+@Slf4j
+@DisplayName("Listagem resumida - Benchmark")
+class ListagemResumoBenchmarkTest {
+
+    private static final int DISCENTES = 2000;
+    private static final int TAMANHO_PAGINA = 50;
+    private static final int AQUECIMENTO = 3;
+    private static final int RODADAS = 5;
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @SpringBootConfiguration
+    @EntityScan("br.edu.ppg.hub")
+    @EnableJpaRepositories("br.edu.ppg.hub.academic.infrastructure.repository")
+    @EnableJpaAuditing
+    static class JpaConfig {
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DiscenteRepository discenteRepository;
+
+    @Autowired
+    private DiscenteMapper discenteMapper;
+
+    @BeforeEach
+    void setUp() {
+        ListagemFixture fixture = new ListagemFixture(entityManager);
+        Programa programa = fixture.programa();
+        LinhaPesquisa linha = fixture.linhaPesquisa(programa);
+        Docente orientador = fixture.docente(programa, linha, 0);
+
+        for (int i = 0; i < DISCENTES; i++) {
+            entityManager.persist(fixture.discente(programa, linha, i)
+                    .orientador(orientador)
+                    .tituloProjeto("Projeto de pesquisa " + i)
+                    .resumoProjeto("Resumo ".repeat(150))
+                    .prorrogacoes(prorrogacoes())
+                    .documentos(documentos())
+                    .build());
+            if (i % TAMANHO_PAGINA == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Deve listar via projeção com menos alocação que via entidade")
+    void shouldAllocateLess_WhenListingThroughProjection() {
+        // When
+        Medicao entidade = medir("entidade + mapper",
+                pagina -> discenteRepository.findAll(pagina).map(discenteMapper::toResponseDTO));
+        Medicao projecao = medir("projeção + mapper",
+                pagina -> discenteRepository.findResumos(pagina).map(discenteMapper::toResumoDTO));
+
+        // Then
+        assertEquals(DISCENTES, entidade.linhas());
+        assertEquals(DISCENTES, projecao.linhas());
+        assertTrue(projecao.bytesPorLinha() < entidade.bytesPorLinha(),
+                "Projeção alocou " + projecao.bytesPorLinha() + " B/linha, entidade " + entidade.bytesPorLinha());
+    }
+
+    private Medicao medir(String nome, Function<Pageable, Page<?>> listagem) {
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            percorrer(listagem);
+        }
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long linhas = 0;
+        long bytesInicio = threads.getCurrentThreadAllocatedBytes();
+        long inicio = System.nanoTime();
+        for (int i = 0; i < RODADAS; i++) {
+            linhas = percorrer(listagem);
+        }
+        long nanos = System.nanoTime() - inicio;
+        long bytes = threads.getCurrentThreadAllocatedBytes() - bytesInicio;
+
+        Medicao medicao = new Medicao(linhas, linhas * RODADAS * 1_000_000_000.0 / nanos,
+                bytes / (linhas * RODADAS));
+        log.info("{}: {} linhas/s, {} bytes/linha", nome, Math.round(medicao.linhasPorSegundo()),
+                medicao.bytesPorLinha());
+        return medicao;
+    }
+
+    /**
+     * Percorre todas as páginas; cada página em um contexto de persistência novo.
+     */
+    private long percorrer(Function<Pageable, Page<?>> listagem) {
+        long linhas = 0;
+        Pageable pagina = PageRequest.of(0, TAMANHO_PAGINA);
+        Page<?> resultado;
+        do {
+            resultado = listagem.apply(pagina);
+            linhas += resultado.getNumberOfElements();
+            entityManager.clear();
+            pagina = resultado.nextPageable();
+        } while (resultado.hasNext());
+        return linhas;
+    }
+
+    private static List<Map<String, Object>> prorrogacoes() {
+        List<Map<String, Object>> prorrogacoes = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            prorrogacoes.add(Map.of(
+                    "numero", i,
+                    "meses", 6,
+                    "justificativa", "Justificativa da prorrogação ".repeat(20),
+                    "aprovadaEm", "2025-0" + i + "-15"));
+        }
+        return prorrogacoes;
+    }
+
+    private static Map<String, String> documentos() {
+        Map<String, String> documentos = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            documentos.put("documento_" + i, "/arquivos/discentes/documento_" + i + ".pdf");
+        }
+        return documentos;
+    }
+
+    private record Medicao(long linhas, double linhasPorSegundo, long bytesPorLinha) {
+    }
+}
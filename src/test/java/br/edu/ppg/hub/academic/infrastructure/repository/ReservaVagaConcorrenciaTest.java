@@ -0,0 +1,213 @@
+package br.edu.ppg.hub.academic.infrastructure.repository;
+
+import br.edu.ppg.hub.shared.util.ViolacaoIntegridade;
+import br.edu.ppg.hub.support.PostgresMigrado;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Teste de carga da reserva de vagas com 500 requisições simultâneas.
+ * <p>
+ * Executa o mesmo SQL de {@link OfertaDisciplinaRepository#reservarVaga(Long)} contra
+ * o schema das migrations (Testcontainers), na mesma ordem do serviço: INSERT da
+ * matrícula (duplicadas barradas pela constraint única) seguido da reserva condicional.
+ * </p>
+ * <p>
+ * Verifica:
+ * - Nenhuma oferta ultrapassa vagas_oferecidas
+ * - vagas_ocupadas igual ao número de matrículas gravadas
+ * - Matrículas duplicadas rejeitadas pela constraint única, identificada pelo nome
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Reserva de vagas - Teste de Concorrência")
+@Slf4j
+class ReservaVagaConcorrenciaTest {
+
+    private static final int REQUISICOES = 500;
+    private static final int VAGAS = 120;
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static NamedParameterJdbcTemplate namedJdbcTemplate;
+    private static TransactionTemplate transactionTemplate;
+    private static String reservarVagaSql;
+    private static long ofertaId;
+    private static long primeiroDiscenteId;
+
+    @BeforeAll
+    static void setUpAll() throws Exception {
+        dataSource = PostgresMigrado.dataSource(50);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        namedJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        reservarVagaSql = OfertaDisciplinaRepository.class
+                .getMethod("reservarVaga", Long.class)
+                .getAnnotation(Query.class)
+                .value();
+
+        Long instituicaoId = jdbcTemplate.queryForObject("""
+                INSERT INTO core.instituicoes (codigo, nome_completo, nome_abreviado, sigla, tipo)
+                VALUES ('RESERVA', 'Instituição do teste de reserva', 'Reserva', 'RSV', 'Estadual') RETURNING id
+                """, Long.class);
+        Long programaId = jdbcTemplate.queryForObject("""
+                INSERT INTO core.programas (instituicao_id, nome, sigla, nivel)
+                VALUES (?, 'Programa do teste de reserva', 'PPGRSV', 'MESTRADO') RETURNING id
+                """, Long.class, instituicaoId);
+        jdbcTemplate.update("""
+                INSERT INTO auth.usuarios (nome_completo, email, password_hash)
+                SELECT 'Usuário ' || n, 'reserva-' || n || '@ppg.edu.br', 'hash'
+                FROM generate_series(0, ?) n
+                """, REQUISICOES);
+        Long docenteId = jdbcTemplate.queryForObject("""
+                INSERT INTO academic.docentes (usuario_id, programa_id, tipo_vinculo, data_vinculacao)
+                SELECT id, ?, 'PERMANENTE', DATE '2020-03-01'
+                FROM auth.usuarios WHERE email = 'reserva-' || ? || '@ppg.edu.br' RETURNING id
+                """, Long.class, programaId, REQUISICOES);
+        jdbcTemplate.update("""
+                INSERT INTO academic.discentes (usuario_id, programa_id, numero_matricula, tipo_curso, turma,
+                                                semestre_ingresso, data_ingresso)
+                SELECT u.id, ?, 'RSV' || n, 'MESTRADO', 2024, '2024.1', DATE '2024-03-01'
+                FROM generate_series(0, ? - 1) n
+                JOIN auth.usuarios u ON u.email = 'reserva-' || n || '@ppg.edu.br'
+                ORDER BY n
+                """, programaId, REQUISICOES);
+        primeiroDiscenteId = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM academic.discentes WHERE programa_id = ?", Long.class, programaId);
+        Long disciplinaId = jdbcTemplate.queryForObject("""
+                INSERT INTO academic.disciplinas (programa_id, codigo, nome, carga_horaria_total,
+                                                  carga_horaria_teorica, creditos, tipo, nivel)
+                VALUES (?, 'RSV001', 'Disciplina do teste de reserva', 60, 60, 4, 'ELETIVA', 'Mestrado') RETURNING id
+                """, Long.class, programaId);
+        ofertaId = jdbcTemplate.queryForObject("""
+                INSERT INTO academic.ofertas_disciplinas (disciplina_id, docente_responsavel_id, ano, semestre, periodo,
+                                                          horarios, data_inicio, data_fim, vagas_oferecidas, status)
+                VALUES (?, ?, 2024, 1, '2024.1', '[]', DATE '2024-03-01', DATE '2024-07-01', ?, 'ABERTA') RETURNING id
+                """, Long.class, disciplinaId, docenteId, VAGAS);
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+        if (dataSource == null) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM academic.disciplinas WHERE codigo = 'RSV001'");
+        jdbcTemplate.update("DELETE FROM academic.discentes WHERE numero_matricula LIKE 'RSV%'");
+        jdbcTemplate.update("""
+                DELETE FROM academic.docentes
+                WHERE programa_id IN (SELECT id FROM core.programas WHERE sigla = 'PPGRSV')
+                """);
+        jdbcTemplate.update("DELETE FROM core.programas WHERE sigla = 'PPGRSV'");
+        jdbcTemplate.update("DELETE FROM core.instituicoes WHERE codigo = 'RESERVA'");
+        jdbcTemplate.update("DELETE FROM auth.usuarios WHERE email LIKE 'reserva-%'");
+        dataSource.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM academic.matriculas_disciplinas WHERE oferta_disciplina_id = ?", ofertaId);
+        jdbcTemplate.update("UPDATE academic.ofertas_disciplinas SET vagas_ocupadas = 0 WHERE id = ?", ofertaId);
+    }
+
+    @Test
+    @DisplayName("Deve preencher exatamente as vagas com 500 requisições simultâneas")
+    void shouldFillExactlyAvailableSeats_With500ConcurrentRequests() throws Exception {
+        // Given - a cada 10 requisições, uma repete o discente anterior
+        AtomicInteger matriculados = new AtomicInteger();
+        AtomicInteger semVaga = new AtomicInteger();
+        AtomicInteger duplicados = new AtomicInteger();
+        CountDownLatch largada = new CountDownLatch(1);
+        CountDownLatch fim = new CountDownLatch(REQUISICOES);
+        ExecutorService executor = Executors.newFixedThreadPool(REQUISICOES);
+
+        for (int i = 0; i < REQUISICOES; i++) {
+            long discenteId = primeiroDiscenteId + ((i % 10 == 9) ? i - 1 : i);
+            executor.submit(() -> {
+                try {
+                    largada.await();
+                    matricular(discenteId, matriculados, semVaga, duplicados);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    fim.countDown();
+                }
+            });
+        }
+
+        // When
+        long inicio = System.nanoTime();
+        largada.countDown();
+        assertTrue(fim.await(2, TimeUnit.MINUTES), "Requisições não concluíram a tempo");
+        long duracaoNanos = System.nanoTime() - inicio;
+        executor.shutdown();
+
+        // Then
+        Map<String, Object> oferta = jdbcTemplate.queryForMap(
+                "SELECT vagas_ocupadas, vagas_oferecidas FROM academic.ofertas_disciplinas WHERE id = ?", ofertaId);
+        Integer gravadas = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM academic.matriculas_disciplinas WHERE oferta_disciplina_id = ?", Integer.class,
+                ofertaId);
+
+        assertEquals(VAGAS, oferta.get("vagas_ocupadas"));
+        assertEquals(VAGAS, gravadas);
+        assertEquals(VAGAS, matriculados.get());
+        assertEquals(REQUISICOES, matriculados.get() + semVaga.get() + duplicados.get());
+
+        double segundos = duracaoNanos / 1_000_000_000.0;
+        log.info("Reserva de vagas: {} requisições em {} s ({} req/s) - matriculados={}, sem vaga={}, duplicados={}",
+                REQUISICOES, String.format("%.3f", segundos), String.format("%.0f", REQUISICOES / segundos),
+                matriculados.get(), semVaga.get(), duplicados.get());
+    }
+
+    /**
+     * Mesma sequência de {@code MatriculaDisciplinaService.matricular}: INSERT e reserva por último.
+     */
+    private void matricular(long discenteId, AtomicInteger matriculados, AtomicInteger semVaga, AtomicInteger duplicados) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(
+                        "INSERT INTO academic.matriculas_disciplinas (discente_id, oferta_disciplina_id) VALUES (?, ?)",
+                        discenteId, ofertaId);
+
+                List<Integer> restantes = namedJdbcTemplate.queryForList(reservarVagaSql, Map.of("id", ofertaId),
+                        Integer.class);
+                if (restantes.isEmpty()) {
+                    status.setRollbackOnly();
+                    semVaga.incrementAndGet();
+                } else {
+                    matriculados.incrementAndGet();
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Só a constraint única conta como duplicada: qualquer outra violação falha o teste
+            assertTrue(ViolacaoIntegridade.violou(e, MatriculaDisciplinaRepository.UK_DISCENTE_OFERTA), e.getMessage());
+            duplicados.incrementAndGet();
+        }
+    }
+}
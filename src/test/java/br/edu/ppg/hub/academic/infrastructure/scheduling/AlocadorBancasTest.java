@@ -0,0 +1,139 @@
+package br.edu.ppg.hub.academic.infrastructure.scheduling;
+
+import br.edu.ppg.hub.academic.infrastructure.scheduling.AlocadorBancas.Alocacao;
+import br.edu.ppg.hub.academic.infrastructure.scheduling.AlocadorBancas.Resultado;
+import br.edu.ppg.hub.academic.infrastructure.timetable.ConflitoHorario.Recurso;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para AlocadorBancas.
+ * <p>
+ * Testa:
+ * - Docente compartilhado nunca fica com duas bancas no mesmo horário
+ * - Compromissos existentes e salas ocupadas respeitados
+ * - Lote de 200 bancas alocado dentro do prazo
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@DisplayName("AlocadorBancas - Testes Unitários")
+class AlocadorBancasTest {
+
+    private static final LocalDate SEGUNDA = LocalDate.of(2030, 3, 4);
+
+    @Test
+    @DisplayName("Deve deixar sem horário a banca cujo docente não tem mais horários livres")
+    void shouldLeaveBancaUnassigned_WhenSharedDocenteHasNoFreeSlot() {
+        // Given
+        List<HorarioBanca> horarios = List.of(
+                horario(SEGUNDA, 9), horario(SEGUNDA, 14), horario(SEGUNDA.plusDays(1), 9));
+        List<BancaPendente> bancas = List.of(
+                new BancaPendente(1, 101, Set.of(10L), false),
+                new BancaPendente(2, 102, Set.of(10L, 11L), false),
+                new BancaPendente(3, 103, Set.of(10L), false));
+        // Docente 10 tem aula na segunda à tarde
+        AlocadorBancas.Disponibilidade disponibilidade = (recurso, id, horario) ->
+                !(recurso == Recurso.DOCENTE && id.equals("10") && horario.equals(horario(SEGUNDA, 14)));
+
+        // When
+        Resultado resultado = new AlocadorBancas(bancas, horarios, List.of(), disponibilidade).resolver(1000);
+
+        // Then
+        assertEquals(2, resultado.alocacoes().size());
+        assertEquals(1, resultado.semHorario().size());
+        assertFalse(resultado.tempoEsgotado());
+        assertTrue(resultado.alocacoes().stream().noneMatch(a -> a.horario().equals(horario(SEGUNDA, 14))));
+        assertSemConflito(bancas, resultado.alocacoes());
+    }
+
+    @Test
+    @DisplayName("Deve alocar salas livres às bancas presenciais")
+    void shouldAssignFreeRooms_WhenBancasArePresencial() {
+        // Given
+        List<HorarioBanca> horarios = List.of(horario(SEGUNDA, 9));
+        List<BancaPendente> bancas = List.of(
+                new BancaPendente(1, 101, Set.of(10L), true),
+                new BancaPendente(2, 102, Set.of(11L), true),
+                new BancaPendente(3, 103, Set.of(12L), false));
+        AlocadorBancas.Disponibilidade disponibilidade = (recurso, id, horario) ->
+                !(recurso == Recurso.SALA && id.equals("Sala 1"));
+
+        // When
+        Resultado resultado = new AlocadorBancas(bancas, horarios, List.of("Sala 1", "Sala 2", "Sala 3"),
+                disponibilidade).resolver(1000);
+
+        // Then
+        Map<Long, Alocacao> porBanca = resultado.alocacoes().stream()
+                .collect(Collectors.toMap(Alocacao::bancaId, Function.identity()));
+        assertEquals(Set.of(1L, 2L, 3L), porBanca.keySet());
+        assertEquals(Set.of("Sala 2", "Sala 3"), Set.of(porBanca.get(1L).sala(), porBanca.get(2L).sala()));
+        assertNull(porBanca.get(3L).sala());
+    }
+
+    @Test
+    @DisplayName("Deve alocar um lote de 200 bancas dentro do prazo")
+    void shouldAllocateLargeBatch_WithinTimeBudget() {
+        // Given: 40 docentes, 3 por banca; 4 semanas úteis com 2 horários por dia
+        List<HorarioBanca> horarios = new ArrayList<>();
+        for (int dia = 0; dia < 28; dia++) {
+            LocalDate data = SEGUNDA.plusDays(dia);
+            if (data.getDayOfWeek().getValue() <= 5) {
+                horarios.add(horario(data, 9));
+                horarios.add(horario(data, 14));
+            }
+        }
+        List<BancaPendente> bancas = new ArrayList<>();
+        for (int b = 0; b < 200; b++) {
+            bancas.add(new BancaPendente(b, 1000 + b,
+                    Set.of((long) b % 40, (long) (b * 7 + 1) % 40, (long) (b * 13 + 2) % 40), true));
+        }
+        List<String> salas = List.of("A", "B", "C", "D", "E", "F");
+
+        // When
+        long inicio = System.nanoTime();
+        Resultado resultado = new AlocadorBancas(bancas, horarios, salas, (r, id, h) -> true).resolver(2000);
+        long duracaoMs = (System.nanoTime() - inicio) / 1_000_000;
+
+        // Then
+        assertTrue(duracaoMs < 3000, "Alocação levou " + duracaoMs + "ms");
+        assertEquals(200, resultado.alocacoes().size() + resultado.semHorario().size());
+        assertTrue(resultado.alocacoes().size() >= 190, "Alocadas: " + resultado.alocacoes().size());
+        assertSemConflito(bancas, resultado.alocacoes());
+    }
+
+    private static HorarioBanca horario(LocalDate data, int hora) {
+        return new HorarioBanca(data, LocalTime.of(hora, 0), LocalTime.of(hora + 3, 0));
+    }
+
+    private static void assertSemConflito(List<BancaPendente> bancas, List<Alocacao> alocacoes) {
+        Map<Long, BancaPendente> porId = bancas.stream()
+                .collect(Collectors.toMap(BancaPendente::bancaId, Function.identity()));
+        for (int i = 0; i < alocacoes.size(); i++) {
+            for (int j = i + 1; j < alocacoes.size(); j++) {
+                Alocacao a = alocacoes.get(i);
+                Alocacao b = alocacoes.get(j);
+                if (!a.horario().sobrepoe(b.horario())) {
+                    continue;
+                }
+                Set<Long> comuns = new HashSet<>(porId.get(a.bancaId()).docentes());
+                comuns.retainAll(porId.get(b.bancaId()).docentes());
+                assertTrue(comuns.isEmpty(), "Docentes " + comuns + " em duas bancas no mesmo horário");
+                assertTrue(a.sala() == null || !a.sala().equals(b.sala()), "Sala " + a.sala() + " duplicada");
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package br.edu.ppg.hub.academic.infrastructure.timetable;
+
+import br.edu.ppg.hub.shared.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para IndiceIntervalos e HorariosOferta.
+ * <p>
+ * Testa:
+ * - Conversão do JSON de horários em intervalos semanais
+ * - Sobreposição parcial detectada; horários adjacentes e vigências disjuntas liberados
+ * - Remoção de oferta e varredura de pares do relatório
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@DisplayName("IndiceIntervalos - Testes Unitários")
+class IndiceIntervalosTest {
+
+    private static final Ocupacao.Vigencia SEMESTRE =
+            new Ocupacao.Vigencia(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 7, 15));
+
+    @Test
+    @DisplayName("Deve converter horários em intervalos semanais ordenados")
+    void shouldParseHorarios_WhenJsonIsValid() {
+        // When
+        List<Intervalo> intervalos = HorariosOferta.parse(
+                "[{\"dia\": \"Quarta-feira\", \"inicio\": \"8:00\", \"fim\": \"10:00\"}," +
+                " {\"dia\": \"Terça\", \"inicio\": \"14:00\", \"fim\": \"16:30\"}]");
+
+        // Then
+        assertEquals(2, intervalos.size());
+        assertEquals(DayOfWeek.TUESDAY, intervalos.get(0).dia());
+        assertEquals(LocalTime.of(16, 30), intervalos.get(0).horaFim());
+        assertEquals(DayOfWeek.WEDNESDAY, intervalos.get(1).dia());
+        assertThrows(BusinessException.class,
+                () -> HorariosOferta.parse("[{\"dia\": \"Feriado\", \"inicio\": \"8:00\", \"fim\": \"10:00\"}]"));
+        assertThrows(BusinessException.class,
+                () -> HorariosOferta.parse("[{\"dia\": \"Segunda\", \"inicio\": \"10:00\", \"fim\": \"8:00\"}]"));
+    }
+
+    @Test
+    @DisplayName("Deve detectar sobreposição e ignorar horários adjacentes ou em outras datas")
+    void shouldDetectOverlap_WhenIntervalsIntersect() {
+        // Given
+        IndiceIntervalos indice = new IndiceIntervalos();
+        indice.adicionar(1L, SEMESTRE, horarios("Segunda", "14:00", "16:00"));
+        indice.adicionar(2L, new Ocupacao.Vigencia(LocalDate.of(2024, 8, 1), LocalDate.of(2024, 8, 30)),
+                horarios("Segunda", "14:00", "18:00"));
+
+        // When
+        List<Ocupacao> sobrepostas = indice.sobrepostas(3L, SEMESTRE, horarios("Segunda", "15:00", "17:00").get(0));
+
+        // Then
+        assertEquals(1, sobrepostas.size());
+        assertEquals(1L, sobrepostas.get(0).ofertaId());
+        assertTrue(indice.sobrepostas(3L, SEMESTRE, horarios("Segunda", "16:00", "18:00").get(0)).isEmpty());
+        assertTrue(indice.sobrepostas(3L, SEMESTRE, horarios("Terça", "14:00", "16:00").get(0)).isEmpty());
+        assertTrue(indice.sobrepostas(1L, SEMESTRE, horarios("Segunda", "14:00", "16:00").get(0)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve listar pares sobrepostos e refletir remoção de oferta")
+    void shouldListOverlappingPairs_WhenOffersShareResource() {
+        // Given
+        IndiceIntervalos indice = new IndiceIntervalos();
+        indice.adicionar(1L, SEMESTRE, horarios("Sexta", "08:00", "12:00"));
+        indice.adicionar(2L, SEMESTRE, horarios("Sexta", "09:00", "10:00"));
+        indice.adicionar(3L, SEMESTRE, horarios("Sexta", "11:00", "13:00"));
+
+        // When
+        List<Ocupacao[]> pares = indice.paresSobrepostos();
+
+        // Then
+        assertEquals(2, pares.size());
+
+        // When
+        indice.remover(1L);
+
+        // Then
+        assertTrue(indice.paresSobrepostos().isEmpty());
+        assertFalse(indice.isVazio());
+    }
+
+    private List<Intervalo> horarios(String dia, String inicio, String fim) {
+        return HorariosOferta.parse(String.format("[{\"dia\": \"%s\", \"inicio\": \"%s\", \"fim\": \"%s\"}]",
+                dia, inicio, fim));
+    }
+}
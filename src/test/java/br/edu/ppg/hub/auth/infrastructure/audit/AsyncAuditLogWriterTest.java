@@ -0,0 +1,155 @@
+package br.edu.ppg.hub.auth.infrastructure.audit;
+
+import br.edu.ppg.hub.shared.config.AuditConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para AsyncAuditLogWriter.
+ * <p>
+ * Testa:
+ * - Gravação em lotes limitados a batch-size, um INSERT por lote
+ * - Gravação do lote em andamento e do buffer no desligamento
+ * - Regravação um a um quando o lote falha
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AsyncAuditLogWriter - Testes Unitários")
+class AsyncAuditLogWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Integer> lotes = new CopyOnWriteArrayList<>();
+    private AuditConfig config;
+
+    @BeforeEach
+    void setUp() {
+        config = new AuditConfig();
+        config.setBatchSize(3);
+        config.setFlushIntervalMs(20);
+        config.setShutdownTimeoutMs(5000);
+    }
+
+    @Test
+    @DisplayName("Deve gravar os eventos em lotes de até batch-size")
+    void shouldWriteInBatches_UpToBatchSize() {
+        // Given
+        registrarLotes();
+        AsyncAuditLogWriter writer = novoWriter();
+        writer.start();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            writer.publicar(evento("UPDATE"));
+        }
+        writer.stop();
+
+        // Then
+        assertEquals(10, lotes.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(lotes.stream().allMatch(tamanho -> tamanho <= 3));
+        assertEquals(10, meterRegistry.counter("ppg.audit.events.written").count());
+    }
+
+    @Test
+    @DisplayName("Deve gravar tudo o que foi publicado ao parar, sem esperar o flush")
+    void shouldFlushEverything_OnStop() {
+        // Given: intervalo de flush maior que o tempo de espera do desligamento
+        config.setBatchSize(500);
+        config.setFlushIntervalMs(60_000);
+        config.setShutdownTimeoutMs(2000);
+        registrarLotes();
+        AsyncAuditLogWriter writer = novoWriter();
+        writer.start();
+        for (int i = 0; i < 5; i++) {
+            writer.publicar(evento("CREATE"));
+        }
+
+        // When
+        long inicio = System.nanoTime();
+        writer.stop();
+
+        // Then
+        assertTrue(System.nanoTime() - inicio < 2_000_000_000L);
+        assertEquals(5, lotes.stream().mapToInt(Integer::intValue).sum());
+        assertFalse(writer.isRunning());
+    }
+
+    @Test
+    @DisplayName("Deve regravar um a um quando o lote falha, perdendo só a linha inválida")
+    void shouldFallBackToSingleRows_WhenBatchFails() {
+        // Given
+        config.setFlushIntervalMs(60_000);
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            if (isLote(invocation.getArgument(0))) {
+                throw new DataIntegrityViolationException("lote rejeitado");
+            }
+            if ("INVALIDA".equals(invocation.getArgument(2))) {
+                throw new DataIntegrityViolationException("linha rejeitada");
+            }
+            return 1;
+        });
+        AsyncAuditLogWriter writer = novoWriter();
+        writer.start();
+
+        // When
+        writer.publicar(evento("UPDATE"));
+        writer.publicar(evento("INVALIDA"));
+        writer.publicar(evento("DELETE"));
+        writer.stop();
+
+        // Then
+        assertEquals(2, meterRegistry.counter("ppg.audit.events.written").count());
+        assertEquals(1, meterRegistry.counter("ppg.audit.events.failed").count());
+    }
+
+    /**
+     * Registra o tamanho de cada gravação: o INSERT em lote recebe um array por coluna
+     */
+    private void registrarLotes() {
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            int tamanho = isLote(invocation.getArgument(0))
+                    ? ((Object[]) invocation.getArgument(1)).length : 1;
+            lotes.add(tamanho);
+            return tamanho;
+        });
+    }
+
+    private boolean isLote(String sql) {
+        return sql.contains("UNNEST");
+    }
+
+    private AsyncAuditLogWriter novoWriter() {
+        return new AsyncAuditLogWriter(jdbcTemplate, new ObjectMapper(), config, meterRegistry);
+    }
+
+    private AuditEvent evento(String acao) {
+        return AuditEvent.builder()
+                .usuarioId(1L)
+                .acao(acao)
+                .entidade("Discente")
+                .entidadeId(10L)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
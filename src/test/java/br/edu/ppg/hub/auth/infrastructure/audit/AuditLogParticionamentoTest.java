@@ -0,0 +1,161 @@
+package br.edu.ppg.hub.auth.infrastructure.audit;
+
+import br.edu.ppg.hub.shared.config.AuditConfig;
+import br.edu.ppg.hub.support.PostgresMigrado;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Particionamento de auth.audit_logs contra o schema das migrations (Testcontainers).
+ * <p>
+ * Testa:
+ * - Migration V7: tabela particionada e índices recriados no schema auth
+ * - Contadores por mês/ação atualizados pelos lotes do pipeline de auditoria
+ * - Criação de partição para um mês com linhas já gravadas na DEFAULT
+ * - Retenção por remoção de partições inteiras e dos seus contadores
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Particionamento de audit_logs - Testes de Integração")
+class AuditLogParticionamentoTest {
+
+    private static final DateTimeFormatter SUFIXO = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUpAll() {
+        dataSource = PostgresMigrado.dataSource(4);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM auth.audit_logs WHERE acao LIKE 'TESTE_%'");
+        jdbcTemplate.update("DELETE FROM auth.audit_logs_contadores WHERE acao LIKE 'TESTE_%'");
+    }
+
+    @Test
+    @DisplayName("Deve migrar audit_logs para tabela particionada com os índices no schema auth")
+    void shouldMigrateToPartitionedTable_WithIndexesInAuthSchema() {
+        Integer particionada = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM pg_partitioned_table pt
+                WHERE pt.partrelid = to_regclass('auth.audit_logs')
+                """, Integer.class);
+        List<String> indices = jdbcTemplate.queryForList(
+                "SELECT indexname FROM pg_indexes WHERE schemaname = 'auth' AND tablename = 'audit_logs'",
+                String.class);
+
+        assertEquals(1, particionada);
+        assertTrue(indices.containsAll(List.of("idx_audit_usuario", "idx_audit_acao", "idx_audit_entidade",
+                "idx_audit_created", "idx_audit_dados_novos")));
+        assertNull(jdbcTemplate.queryForObject("SELECT to_regclass('auth.audit_logs_legado')", String.class));
+    }
+
+    @Test
+    @DisplayName("Deve contar no mês/ação os eventos gravados em lote pelo pipeline")
+    void shouldCountBatchedEvents_PerMonthAndAction() {
+        // Given
+        AuditConfig config = new AuditConfig();
+        config.setBatchSize(10);
+        AsyncAuditLogWriter writer = new AsyncAuditLogWriter(jdbcTemplate, new ObjectMapper(), config,
+                new SimpleMeterRegistry());
+        writer.start();
+
+        // When
+        for (int i = 0; i < 7; i++) {
+            writer.publicar(AuditEvent.builder()
+                    .acao("TESTE_LOTE")
+                    .entidade("Discente")
+                    .entidadeId((long) i)
+                    .dadosNovos(Map.of("status", "TITULADO"))
+                    .ipAddress("10.0.0." + i)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        writer.stop();
+
+        // Then
+        assertEquals(7, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM auth.audit_logs WHERE acao = 'TESTE_LOTE'", Integer.class));
+        assertEquals(7L, jdbcTemplate.queryForObject(
+                "SELECT SUM(total) FROM auth.audit_logs_contadores WHERE acao = 'TESTE_LOTE'", Long.class));
+    }
+
+    @Test
+    @DisplayName("Deve criar a partição do mês movendo as linhas que caíram na DEFAULT")
+    void shouldCreatePartition_MovingRowsFromDefault() {
+        // Given: um mês além das partições criadas pela migration
+        LocalDate mes = LocalDate.now().withDayOfMonth(1).plusMonths(5);
+        jdbcTemplate.update("INSERT INTO auth.audit_logs (acao, created_at) VALUES ('TESTE_DEFAULT', ?)",
+                mes.plusDays(10).atStartOfDay());
+        assertEquals("auth.audit_logs_default", particaoDe("TESTE_DEFAULT"));
+
+        // When
+        Integer criadas = jdbcTemplate.queryForObject(
+                "SELECT auth.criar_particoes_audit(CURRENT_DATE, 6)", Integer.class);
+
+        // Then
+        assertTrue(criadas >= 1);
+        assertEquals("auth.audit_logs_" + mes.format(SUFIXO), particaoDe("TESTE_DEFAULT"));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM auth.audit_logs_default WHERE acao = 'TESTE_DEFAULT'", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Deve remover partições inteiras anteriores ao limite com os seus contadores")
+    void shouldDropWholePartitions_BeforeLimit() {
+        // Given
+        LocalDate mesAtual = LocalDate.now().withDayOfMonth(1);
+        LocalDate antigo = mesAtual.minusMonths(2);
+        jdbcTemplate.queryForObject("SELECT auth.criar_particoes_audit(CAST(? AS DATE), 0)", Integer.class, antigo);
+        jdbcTemplate.update("INSERT INTO auth.audit_logs (acao, created_at) VALUES ('TESTE_RETENCAO', ?)",
+                antigo.plusDays(3).atStartOfDay());
+
+        // When
+        Integer removidas = jdbcTemplate.queryForObject(
+                "SELECT auth.remover_particoes_audit(CAST(? AS TIMESTAMP))", Integer.class,
+                mesAtual.minusMonths(1).atStartOfDay());
+
+        // Then
+        assertEquals(1, removidas);
+        assertNull(jdbcTemplate.queryForObject("SELECT to_regclass(?)", String.class,
+                "auth.audit_logs_" + antigo.format(SUFIXO)));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM auth.audit_logs_contadores WHERE acao = 'TESTE_RETENCAO'", Integer.class));
+        assertNotNull(jdbcTemplate.queryForObject("SELECT to_regclass(?)", String.class,
+                "auth.audit_logs_" + mesAtual.format(SUFIXO)));
+    }
+
+    private String particaoDe(String acao) {
+        return jdbcTemplate.queryForObject(
+                "SELECT tableoid::regclass::text FROM auth.audit_logs WHERE acao = ?", String.class, acao);
+    }
+}
@@ -0,0 +1,77 @@
+package br.edu.ppg.hub.auth.infrastructure.security;
+
+import br.edu.ppg.hub.shared.config.LoginThrottleConfig;
+import br.edu.ppg.hub.shared.exception.TooManyRequestsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para LoginAttemptLimiter.
+ * <p>
+ * Testa:
+ * - Limite de tentativas por IP
+ * - Bloqueio de conta após falhas consecutivas
+ * - Liberação da conta após login bem-sucedido
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@DisplayName("LoginAttemptLimiter - Testes Unitários")
+class LoginAttemptLimiterTest {
+
+    private LoginAttemptLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        LoginThrottleConfig config = new LoginThrottleConfig();
+        config.setIpMaxTentativas(3);
+        config.setContaMaxFalhas(2);
+        limiter = new LoginAttemptLimiter(config);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar IP após exceder o limite da janela")
+    void shouldRejectIp_WhenLimitExceeded() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            limiter.verificarTentativa("10.0.0.1", "usuario" + i + "@ppg.edu.br");
+        }
+
+        // When / Then
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+                () -> limiter.verificarTentativa("10.0.0.1", "outro@ppg.edu.br"));
+        assertTrue(ex.getRetryAfterSeconds() > 0);
+        assertDoesNotThrow(() -> limiter.verificarTentativa("10.0.0.2", "outro@ppg.edu.br"));
+    }
+
+    @Test
+    @DisplayName("Deve bloquear conta após atingir o limite de falhas")
+    void shouldBlockAccount_WhenFailuresReachLimit() {
+        // Given
+        assertFalse(limiter.registrarFalha("Maria@PPG.edu.br"));
+        assertTrue(limiter.registrarFalha("maria@ppg.edu.br"));
+
+        // When / Then
+        assertThrows(TooManyRequestsException.class,
+                () -> limiter.verificarTentativa("10.0.0.9", "maria@ppg.edu.br"));
+    }
+
+    @Test
+    @DisplayName("Deve liberar conta após login bem-sucedido")
+    void shouldClearAccount_WhenLoginSucceeds() {
+        // Given
+        limiter.registrarFalha("joao@ppg.edu.br");
+        limiter.registrarSucesso("joao@ppg.edu.br");
+
+        // When
+        boolean bloqueada = limiter.registrarFalha("joao@ppg.edu.br");
+
+        // Then
+        assertFalse(bloqueada);
+        assertDoesNotThrow(() -> limiter.verificarTentativa("10.0.0.3", "joao@ppg.edu.br"));
+    }
+}
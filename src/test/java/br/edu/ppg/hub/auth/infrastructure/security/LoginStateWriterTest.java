@@ -0,0 +1,136 @@
+package br.edu.ppg.hub.auth.infrastructure.security;
+
+import br.edu.ppg.hub.support.PostgresMigrado;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Gravação em lote do estado de login contra o schema das migrations (Testcontainers).
+ * <p>
+ * Testa:
+ * - Falhas acumuladas por usuário gravadas em um único UPDATE por flush
+ * - Login bem-sucedido descartando as falhas ainda não gravadas
+ * - Rehash gravado somente sobre o hash a partir do qual foi refeito
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("LoginStateWriter - Testes de Integração")
+class LoginStateWriterTest {
+
+    private static final String HASH_CUSTO_10 = "$2a$10$hashantigo";
+    private static final String HASH_CUSTO_12 = "$2a$12$hashrefeito";
+
+    private static HikariDataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private LoginStateWriter writer;
+
+    @BeforeAll
+    static void setUpAll() {
+        dataSource = PostgresMigrado.dataSource(2);
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = spy(new JdbcTemplate(dataSource));
+        writer = new LoginStateWriter(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM auth.usuarios WHERE email LIKE 'login-state-%'");
+    }
+
+    @Test
+    @DisplayName("Deve somar as falhas de cada usuário em um único UPDATE")
+    void shouldSumFailures_InSingleUpdate() {
+        // Given
+        Long ana = criarUsuario("ana", HASH_CUSTO_10);
+        Long bruno = criarUsuario("bruno", HASH_CUSTO_10);
+        writer.registrarFalha(ana);
+        writer.registrarFalha(ana);
+        writer.registrarFalha(ana);
+        writer.registrarFalha(bruno);
+
+        // When
+        writer.flush();
+
+        // Then
+        assertEquals(3, tentativas(ana));
+        assertEquals(1, tentativas(bruno));
+        verify(jdbcTemplate, times(1)).update(contains("tentativas_login"), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve descartar as falhas pendentes quando o login é bem-sucedido")
+    void shouldDiscardPendingFailures_OnSuccess() {
+        // Given
+        Long ana = criarUsuario("ana", HASH_CUSTO_10);
+        writer.registrarFalha(ana);
+        writer.registrarSucesso(ana);
+
+        // When
+        writer.flush();
+
+        // Then
+        assertEquals(0, tentativas(ana));
+        assertNotNull(jdbcTemplate.queryForObject(
+                "SELECT ultimo_login FROM auth.usuarios WHERE id = ?", Object.class, ana));
+    }
+
+    @Test
+    @DisplayName("Deve gravar o rehash apenas onde o hash não mudou desde o login")
+    void shouldWriteRehash_OnlyWhenHashUnchanged() {
+        // Given: o segundo usuário trocou a senha enquanto o rehash aguardava o flush
+        Long ana = criarUsuario("ana", HASH_CUSTO_10);
+        Long bruno = criarUsuario("bruno", HASH_CUSTO_10);
+        writer.registrarNovoHash(ana, HASH_CUSTO_10, HASH_CUSTO_12);
+        writer.registrarNovoHash(bruno, HASH_CUSTO_10, HASH_CUSTO_12);
+        jdbcTemplate.update("UPDATE auth.usuarios SET password_hash = '$2a$12$senhanova' WHERE id = ?", bruno);
+
+        // When
+        writer.flush();
+
+        // Then
+        assertEquals(HASH_CUSTO_12, hash(ana));
+        assertEquals("$2a$12$senhanova", hash(bruno));
+    }
+
+    private Long criarUsuario(String nome, String hash) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO auth.usuarios (nome_completo, email, password_hash)
+                VALUES (?, ?, ?) RETURNING id
+                """, Long.class, nome, "login-state-" + nome + "@ppg.edu.br", hash);
+    }
+
+    private int tentativas(Long usuarioId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(tentativas_login, 0) FROM auth.usuarios WHERE id = ?", Integer.class, usuarioId);
+    }
+
+    private String hash(Long usuarioId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT password_hash FROM auth.usuarios WHERE id = ?", String.class, usuarioId);
+    }
+}
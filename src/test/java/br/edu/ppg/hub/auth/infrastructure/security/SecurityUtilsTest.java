@@ -0,0 +1,34 @@
+package br.edu.ppg.hub.auth.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para SecurityUtils.
+ * <p>
+ * Testa:
+ * - IP do cliente obtido da conexão, sem confiar em X-Forwarded-For enviado pelo cliente
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@DisplayName("SecurityUtils - Testes Unitários")
+class SecurityUtilsTest {
+
+    @Test
+    @DisplayName("Deve ignorar X-Forwarded-For e X-Real-IP enviados pelo cliente")
+    void shouldIgnoreForwardedHeaders_SentByClient() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("203.0.113.7");
+        request.addHeader("X-Forwarded-For", "10.9.8.7, 203.0.113.7");
+        request.addHeader("X-Real-IP", "10.9.8.7");
+
+        // When / Then
+        assertEquals("203.0.113.7", SecurityUtils.getClientIp(request));
+    }
+}
@@ -0,0 +1,76 @@
+package br.edu.ppg.hub.core.application.service;
+
+import br.edu.ppg.hub.core.domain.enums.TipoResultadoBusca;
+import br.edu.ppg.hub.core.infrastructure.repository.BuscaUnificadaRepository;
+import br.edu.ppg.hub.core.infrastructure.repository.BuscaUnificadaRepository.ResultadoBusca;
+import br.edu.ppg.hub.shared.config.BuscaConfig;
+import br.edu.ppg.hub.shared.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para BuscaUnificadaService.
+ * <p>
+ * Testa:
+ * - Contagem omitida quando a primeira página já revela o total
+ * - Tipos vazios equivalem a todos os tipos
+ * - Termos curtos: erro na busca paginada, lista vazia no autocompletar
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BuscaUnificadaService - Testes Unitários")
+class BuscaUnificadaServiceTest {
+
+    @Mock
+    private BuscaUnificadaRepository buscaUnificadaRepository;
+
+    @Spy
+    private BuscaConfig config = new BuscaConfig();
+
+    @InjectMocks
+    private BuscaUnificadaService buscaUnificadaService;
+
+    @Test
+    @DisplayName("Deve buscar em todos os tipos sem contar quando a página não está cheia")
+    void shouldSkipCount_WhenFirstPageIsNotFull() {
+        // Given
+        ResultadoBusca resultado = new ResultadoBusca(TipoResultadoBusca.USUARIO, 1L, "José Antônio", "jose@ppg.edu.br", 1.0);
+        when(buscaUnificadaRepository.buscar("jose", EnumSet.allOf(TipoResultadoBusca.class), 0, 20))
+                .thenReturn(List.of(resultado));
+
+        // When
+        Page<ResultadoBusca> pagina = buscaUnificadaService.buscar("  jose ", Set.of(), PageRequest.of(0, 20));
+
+        // Then
+        assertEquals(1, pagina.getTotalElements());
+        assertEquals(resultado, pagina.getContent().get(0));
+        verify(buscaUnificadaRepository, never()).contar(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar termo curto na busca e não sugerir no autocompletar")
+    void shouldHandleShortTerm_WhenTermHasLessThanThreeCharacters() {
+        assertThrows(BusinessException.class,
+                () -> buscaUnificadaService.buscar("jo", null, PageRequest.of(0, 20)));
+        assertTrue(buscaUnificadaService.autocompletar("jo", null).isEmpty());
+        verifyNoInteractions(buscaUnificadaRepository);
+    }
+}
@@ -0,0 +1,72 @@
+package br.edu.ppg.hub.integration.capes.job;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para ArquivoSecaoGzip.
+ * <p>
+ * Testa:
+ * - Retomada a partir do checkpoint descartando o lote não confirmado
+ * - Escape de valores conforme a RFC 4180
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@DisplayName("ArquivoSecaoGzip - Testes Unitários")
+class ArquivoSecaoGzipTest {
+
+    private static final List<String> CABECALHO = List.of("id", "nome");
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    @DisplayName("Deve retomar do checkpoint descartando o lote não confirmado")
+    void shouldResumeFromCheckpoint_DiscardingUnconfirmedBatch() throws IOException {
+        // Given: um lote confirmado e outro interrompido antes do checkpoint
+        Path caminho = diretorio.resolve("docentes.csv.gz");
+        long checkpoint;
+        try (ArquivoSecaoGzip arquivo = ArquivoSecaoGzip.abrir(caminho, 0, CABECALHO)) {
+            arquivo.escreverLinha("1,Ana");
+            arquivo.escreverLinha("2,Bruno");
+            checkpoint = arquivo.confirmar();
+            arquivo.escreverLinha("3,Carla");
+            arquivo.escreverLinha("4,Davi");
+        }
+
+        // When
+        try (ArquivoSecaoGzip arquivo = ArquivoSecaoGzip.abrir(caminho, checkpoint, CABECALHO)) {
+            arquivo.escreverLinha("3,Carla");
+            assertTrue(arquivo.confirmar() > checkpoint);
+        }
+
+        // Then
+        try (InputStream entrada = new GZIPInputStream(Files.newInputStream(caminho))) {
+            assertEquals("\ufeffid,nome\r\n1,Ana\r\n2,Bruno\r\n3,Carla\r\n",
+                    new String(entrada.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve escapar separador, aspas e quebras de linha")
+    void shouldEscapeValuesPerRfc4180() {
+        assertEquals("", ArquivoSecaoGzip.escapar(null));
+        assertEquals("Ana", ArquivoSecaoGzip.escapar("Ana"));
+        assertEquals("\"Silva, Ana\"", ArquivoSecaoGzip.escapar("Silva, Ana"));
+        assertEquals("\"O \"\"PPG\"\"\"", ArquivoSecaoGzip.escapar("O \"PPG\""));
+        assertEquals("\"linha\nnova\"", ArquivoSecaoGzip.escapar("linha\nnova"));
+    }
+}
@@ -0,0 +1,263 @@
+package br.edu.ppg.hub.integration.capes.job;
+
+import br.edu.ppg.hub.shared.config.ExportacaoCapesConfig;
+import br.edu.ppg.hub.support.PostgresMigrado;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Year;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Exportação CAPES de ponta a ponta contra o schema das migrations (Testcontainers).
+ * <p>
+ * Testa:
+ * - Consultas de todas as seções sobre o schema migrado e pacote ZIP com os CSVs e o manifesto
+ * - Checkpoint gravado a cada lote
+ * - Falha transitória deixa a exportação em execução, retomada do checkpoint sem duplicar linhas
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("ExportacaoCapesJob - Testes de Integração")
+class ExportacaoCapesJobTest {
+
+    private static final int ANO_BASE = Year.now().getValue();
+    private static final String TITULO = "Dissertação exportada para a CAPES";
+
+    private static HikariDataSource dataSource;
+
+    @TempDir
+    Path diretorio;
+
+    private JdbcTemplate jdbcTemplate;
+    private ExportacaoCapesJob job;
+    private long programaId;
+
+    @BeforeAll
+    static void setUpAll() {
+        dataSource = PostgresMigrado.dataSource(4);
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        ExportacaoCapesConfig config = new ExportacaoCapesConfig();
+        config.setDiretorio(diretorio.toString());
+        config.setTamanhoLote(1);
+        jdbcTemplate = spy(new JdbcTemplate(dataSource));
+        job = new ExportacaoCapesJob(jdbcTemplate, dataSource, new DataSourceTransactionManager(dataSource), config);
+        programaId = criarPrograma();
+    }
+
+    @AfterEach
+    void tearDown() {
+        job.encerrar();
+        JdbcTemplate limpeza = new JdbcTemplate(dataSource);
+        limpeza.update("DELETE FROM academic.trabalhos_conclusao WHERE programa_id = ?", programaId);
+        limpeza.update("DELETE FROM academic.discentes WHERE programa_id = ?", programaId);
+        limpeza.update("""
+                DELETE FROM academic.ofertas_disciplinas
+                WHERE disciplina_id IN (SELECT id FROM academic.disciplinas WHERE programa_id = ?)
+                """, programaId);
+        limpeza.update("DELETE FROM academic.disciplinas WHERE programa_id = ?", programaId);
+        limpeza.update("DELETE FROM academic.docentes WHERE programa_id = ?", programaId);
+        limpeza.update("DELETE FROM core.programas WHERE id = ?", programaId);
+        limpeza.update("DELETE FROM core.instituicoes WHERE codigo = 'CAPES-EXP'");
+        limpeza.update("DELETE FROM auth.usuarios WHERE email LIKE 'capes-exp-%'");
+    }
+
+    @Test
+    @DisplayName("Deve exportar todas as seções e gerar o pacote com os CSVs e o manifesto")
+    void shouldExportAllSections_AndBuildPackage() throws IOException {
+        // Given
+        long exportacaoId = solicitar();
+
+        // When
+        job.executar(exportacaoId);
+
+        // Then
+        Map<String, Object> exportacao = exportacao(exportacaoId);
+        assertEquals("CONCLUIDA", exportacao.get("status"), String.valueOf(exportacao.get("erro")));
+        assertEquals(7L, exportacao.get("registros"));
+
+        Map<String, String> pacote = pacote(exportacaoId, (String) exportacao.get("arquivo"));
+        assertEquals(SecaoCapes.values().length + 1, pacote.size());
+        assertEquals(2, linhas(pacote.get("discentes.csv")));
+        assertEquals(1, linhas(pacote.get("trabalhos.csv")));
+        assertTrue(pacote.get("trabalhos.csv").contains(TITULO));
+        assertTrue(pacote.get("manifesto.csv").contains("registros,7"));
+    }
+
+    @Test
+    @DisplayName("Deve gravar um checkpoint por lote")
+    void shouldWriteCheckpoint_PerBatch() {
+        // Given
+        long exportacaoId = solicitar();
+
+        // When
+        job.executar(exportacaoId);
+
+        // Then: lote de 1 linha; um checkpoint por registro, um ao fim de cada seção e um a cada troca
+        int secoes = SecaoCapes.values().length;
+        verify(jdbcTemplate, times(7 + secoes + secoes - 1))
+                .update(contains("SET secao = ?"), any(), any(), any(), any(), any(), any());
+        assertEquals("CONCLUIDA", exportacao(exportacaoId).get("status"));
+    }
+
+    @Test
+    @DisplayName("Deve retomar do checkpoint após falha transitória sem duplicar linhas")
+    void shouldResumeFromCheckpoint_AfterTransientFailure() throws IOException {
+        // Given: o checkpoint do segundo discente falha por timeout
+        long exportacaoId = solicitar();
+        AtomicInteger checkpointsDiscentes = new AtomicInteger();
+        doAnswer(invocation -> {
+            if ("DISCENTES".equals(invocation.getArgument(1)) && !Long.valueOf(0).equals(invocation.getArgument(2))
+                    && checkpointsDiscentes.incrementAndGet() == 2) {
+                throw new QueryTimeoutException("timeout no checkpoint");
+            }
+            return invocation.callRealMethod();
+        }).when(jdbcTemplate).update(contains("SET secao = ?"), any(), any(), any(), any(), any(), any());
+        job.executar(exportacaoId);
+        assertEquals("EM_EXECUCAO", exportacao(exportacaoId).get("status"));
+
+        // When: a execução expira e a exportação é reivindicada de novo
+        new JdbcTemplate(dataSource).update(
+                "UPDATE core.exportacoes_capes SET updated_at = NOW() - INTERVAL '1 hour' WHERE id = ?",
+                exportacaoId);
+        job.executar(exportacaoId);
+
+        // Then
+        Map<String, Object> exportacao = exportacao(exportacaoId);
+        assertEquals("CONCLUIDA", exportacao.get("status"), String.valueOf(exportacao.get("erro")));
+        assertEquals(7L, exportacao.get("registros"));
+        String discentes = pacote(exportacaoId, (String) exportacao.get("arquivo")).get("discentes.csv");
+        assertEquals(2, linhas(discentes));
+        assertEquals(2, discentes.lines().skip(1).distinct().count());
+    }
+
+    private long criarPrograma() {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        Long instituicaoId = jdbc.queryForObject("""
+                INSERT INTO core.instituicoes (codigo, nome_completo, nome_abreviado, sigla, tipo)
+                VALUES ('CAPES-EXP', 'Instituição do teste de exportação', 'Exportação', 'EXP', 'Federal')
+                RETURNING id
+                """, Long.class);
+        Long programa = jdbc.queryForObject("""
+                INSERT INTO core.programas (instituicao_id, codigo_capes, nome, sigla, nivel, modalidade, status)
+                VALUES (?, '99001017001P0', 'Programa do teste de exportação', 'PPGEXP', 'MESTRADO',
+                        'PRESENCIAL', 'ATIVO')
+                RETURNING id
+                """, Long.class, instituicaoId);
+        Long docenteId = jdbc.queryForObject("""
+                INSERT INTO academic.docentes (usuario_id, programa_id, tipo_vinculo, data_vinculacao, status)
+                VALUES (?, ?, 'PERMANENTE', DATE '2020-03-01', 'ATIVO')
+                RETURNING id
+                """, Long.class, usuario(jdbc, "docente", "000.000.001-91"), programa);
+        Long discenteId = discente(jdbc, programa, docenteId, "EXP1", usuario(jdbc, "ana", "000.000.002-72"));
+        discente(jdbc, programa, docenteId, "EXP2", usuario(jdbc, "bruno", "000.000.003-53"));
+
+        Long disciplinaId = jdbc.queryForObject("""
+                INSERT INTO academic.disciplinas (programa_id, codigo, nome, carga_horaria_total,
+                                                  carga_horaria_teorica, creditos, tipo, nivel, status)
+                VALUES (?, 'EXP001', 'Disciplina do teste de exportação', 60, 60, 4, 'OBRIGATORIA', 'Mestrado',
+                        'ATIVA')
+                RETURNING id
+                """, Long.class, programa);
+        jdbc.update("""
+                INSERT INTO academic.ofertas_disciplinas (disciplina_id, docente_responsavel_id, ano, semestre, periodo,
+                                                          horarios, data_inicio, data_fim, vagas_oferecidas, status)
+                VALUES (?, ?, ?, 1, ? || '.1', '[]', make_date(?, 3, 1), make_date(?, 7, 1), 10, 'ABERTA')
+                """, disciplinaId, docenteId, ANO_BASE, String.valueOf(ANO_BASE), ANO_BASE, ANO_BASE);
+
+        Long bancaId = jdbc.queryForObject("""
+                INSERT INTO academic.bancas (discente_id, tipo, data_agendada, horario_inicio, presidente_id)
+                VALUES (?, 'QUALIFICACAO', CURRENT_DATE, TIME '14:00', ?)
+                RETURNING id
+                """, Long.class, discenteId, docenteId);
+        jdbc.update("""
+                INSERT INTO academic.membros_banca (banca_id, docente_id, funcao, tipo)
+                VALUES (?, ?, 'Presidente', 'Interno')
+                """, bancaId, docenteId);
+        jdbc.update("""
+                INSERT INTO academic.trabalhos_conclusao (discente_id, programa_id, orientador_id, tipo,
+                                                          titulo_portugues, ano_defesa, status)
+                VALUES (?, ?, ?, 'DISSERTACAO_MESTRADO', ?, ?, 'DEFENDIDO')
+                """, discenteId, programa, docenteId, TITULO, ANO_BASE);
+        return programa;
+    }
+
+    private Long usuario(JdbcTemplate jdbc, String nome, String cpf) {
+        return jdbc.queryForObject("""
+                INSERT INTO auth.usuarios (nome_completo, email, cpf, password_hash)
+                VALUES (?, ?, ?, 'hash')
+                RETURNING id
+                """, Long.class, "Usuário " + nome, "capes-exp-" + nome + "@ppg.edu.br", cpf);
+    }
+
+    private Long discente(JdbcTemplate jdbc, Long programa, Long orientadorId, String matricula, Long usuarioId) {
+        return jdbc.queryForObject("""
+                INSERT INTO academic.discentes (usuario_id, programa_id, orientador_id, numero_matricula, tipo_curso,
+                                                turma, semestre_ingresso, data_ingresso)
+                VALUES (?, ?, ?, ?, 'MESTRADO', 2020, '2020.1', DATE '2020-03-01')
+                RETURNING id
+                """, Long.class, usuarioId, programa, orientadorId, matricula);
+    }
+
+    private long solicitar() {
+        return new JdbcTemplate(dataSource).queryForObject("""
+                INSERT INTO core.exportacoes_capes (programa_id, ano_base) VALUES (?, ?) RETURNING id
+                """, Long.class, programaId, ANO_BASE);
+    }
+
+    private Map<String, Object> exportacao(long exportacaoId) {
+        return new JdbcTemplate(dataSource).queryForMap(
+                "SELECT status, registros, arquivo, erro FROM core.exportacoes_capes WHERE id = ?", exportacaoId);
+    }
+
+    private Map<String, String> pacote(long exportacaoId, String arquivo) throws IOException {
+        Map<String, String> conteudo = new HashMap<>();
+        try (ZipFile zip = new ZipFile(job.caminhoPacote(exportacaoId, arquivo).toFile())) {
+            for (ZipEntry entrada : zip.stream().toList()) {
+                conteudo.put(entrada.getName(),
+                        new String(zip.getInputStream(entrada).readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return conteudo;
+    }
+
+    /**
+     * Linhas de dados do CSV, sem o cabeçalho.
+     */
+    private static long linhas(String csv) {
+        return csv.lines().count() - 1;
+    }
+}
@@ -1,5 +1,9 @@
 package br.edu.ppg.hub.integration.openalex.service;
 
+import br.edu.ppg.hub.academic.infrastructure.coautoria.GrafoCoautoria;
+import br.edu.ppg.hub.academic.infrastructure.repository.DocenteRepository;
+import br.edu.ppg.hub.auth.domain.model.Usuario;
+import br.edu.ppg.hub.auth.infrastructure.repository.UsuarioRepository;
 import br.edu.ppg.hub.integration.openalex.client.OpenAlexClient;
 import br.edu.ppg.hub.integration.openalex.dto.OpenAlexAuthorDTO;
 import br.edu.ppg.hub.integration.openalex.dto.OpenAlexResponseDTO;
@@ -8,13 +12,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -29,6 +36,7 @@ import static org.mockito.Mockito.*;
  * - Busca de trabalho por DOI
  * - Cache de respostas
  * - Tratamento de erros
+ * - Sincronização em lote com uma transação por usuário, aberta após as chamadas HTTP
  * </p>
  *
  * @author PPG Hub
@@ -41,6 +49,18 @@ class OpenAlexServiceTest {
     @Mock
     private OpenAlexClient openAlexClient;
 
+    @Mock
+    private UsuarioRepository usuarioRepository;
+
+    @Mock
+    private DocenteRepository docenteRepository;
+
+    @Mock
+    private GrafoCoautoria grafoCoautoria;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private OpenAlexService openAlexService;
 
@@ -294,4 +314,35 @@ class OpenAlexServiceTest {
         assertEquals(1, responseWithResults.getResultsSize());
         assertEquals(0, emptyResponse.getResultsSize());
     }
+
+    @Test
+    @DisplayName("Deve chamar o OpenAlex fora de transação e gravar cada usuário em transação própria")
+    void shouldCallOpenAlexOutsideTransaction_AndWriteEachUserInOwnTransaction() {
+        // Given
+        Usuario falhaHttp = Usuario.builder().id(1L).orcid("0000-0001-0000-0001").build();
+        Usuario falhaGravacao = Usuario.builder().id(2L).orcid("0000-0001-0000-0002").build();
+        Usuario sucesso = Usuario.builder().id(3L).orcid("0000-0001-2345-6789").build();
+        when(usuarioRepository.findAll()).thenReturn(List.of(falhaHttp, falhaGravacao, sucesso));
+        when(docenteRepository.findByUsuarioId(anyLong())).thenReturn(Optional.empty());
+        when(openAlexClient.searchAuthors(isNull(), anyString(), eq(1)))
+                .thenThrow(new RuntimeException("timeout"))
+                .thenReturn(mockAuthorResponse);
+        when(openAlexClient.searchWorks(anyString(), isNull(), eq(200))).thenReturn(mockWorksResponse);
+        doThrow(new RuntimeException("deadlock"))
+                .doNothing()
+                .when(grafoCoautoria).atualizar(anyLong(), anyCollection());
+
+        // When
+        openAlexService.syncAllDocentesMetrics();
+
+        // Then - a falha HTTP não abre transação; a falha na gravação desfaz só o próprio usuário
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+        verify(usuarioRepository).save(sucesso);
+
+        InOrder ordem = inOrder(openAlexClient, transactionManager);
+        ordem.verify(openAlexClient).searchWorks(anyString(), isNull(), eq(200));
+        ordem.verify(transactionManager).getTransaction(any());
+    }
 }
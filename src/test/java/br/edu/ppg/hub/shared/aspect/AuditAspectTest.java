@@ -0,0 +1,112 @@
+package br.edu.ppg.hub.shared.aspect;
+
+import br.edu.ppg.hub.auth.application.service.AuditService;
+import br.edu.ppg.hub.core.domain.model.Programa;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para AuditAspect.
+ * <p>
+ * Testa:
+ * - Estado anterior lido da entidade gerenciada, sem findById do Service
+ * - Diff entre a entidade antes e depois da alteração
+ * - Nenhum registro quando o método auditado falha
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditAspect - Testes Unitários")
+class AuditAspectTest {
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Metamodel metamodel;
+
+    @Mock
+    private EntityType<Programa> entityType;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    private AuditAspect aspect;
+    private Programa programa;
+
+    @BeforeEach
+    void setUp() {
+        aspect = new AuditAspect(auditService, new AuditFieldAccessor(), entityManager, transactionManager);
+        programa = Programa.builder().id(1L).nome("Programa Antigo").sigla("PPGA").build();
+
+        when(entityManager.getMetamodel()).thenReturn(metamodel);
+        doReturn(Set.of(entityType)).when(metamodel).getEntities();
+        when(entityType.getName()).thenReturn("Programa");
+        doReturn(Programa.class).when(entityType).getJavaType();
+        when(entityManager.find(Programa.class, 1L)).thenReturn(programa);
+        when(joinPoint.getArgs()).thenReturn(new Object[]{1L});
+        when(joinPoint.getTarget()).thenReturn(new ProgramaService());
+    }
+
+    @Test
+    @DisplayName("Deve auditar apenas os campos alterados na entidade gerenciada")
+    void shouldAuditChangedFields_FromManagedEntity() throws Throwable {
+        // Given: o Service altera a mesma instância carregada pelo aspecto
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            programa.setNome("Programa Novo");
+            return "dto";
+        });
+
+        // When
+        Object resultado = aspect.auditUpdate(joinPoint);
+
+        // Then
+        assertEquals("dto", resultado);
+        verify(entityManager, times(1)).find(Programa.class, 1L);
+        verify(auditService).registrarAtualizacao("Programa", 1L,
+                Map.of("nome", "Programa Antigo"), Map.of("nome", "Programa Novo"));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Não deve registrar auditoria quando a atualização falha")
+    void shouldNotAudit_WhenUpdateFails() throws Throwable {
+        // Given
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("falha"));
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> aspect.auditUpdate(joinPoint));
+        verify(transactionManager).rollback(any());
+        verifyNoInteractions(auditService);
+    }
+
+    /**
+     * Alvo com o nome de um Service, de onde o aspecto deriva a entidade
+     */
+    private static class ProgramaService {
+    }
+}
@@ -0,0 +1,88 @@
+package br.edu.ppg.hub.shared.aspect;
+
+import br.edu.ppg.hub.auth.application.dto.usuario.UsuarioResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para AuditFieldAccessor.
+ * <p>
+ * Testa:
+ * - Extração de ID sem reflection por chamada
+ * - Snapshot compacto (sem nulos e campos de controle)
+ * - Diff contendo apenas campos alterados
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@DisplayName("AuditFieldAccessor - Testes Unitários")
+class AuditFieldAccessorTest {
+
+    private final AuditFieldAccessor accessor = new AuditFieldAccessor();
+
+    @Test
+    @DisplayName("Deve extrair ID do DTO")
+    void shouldExtractId_WhenObjectHasGetId() {
+        // Given
+        UsuarioResponseDTO dto = UsuarioResponseDTO.builder().id(42L).build();
+
+        // When / Then
+        assertEquals(42L, accessor.extractId(dto));
+        assertNull(accessor.extractId("sem id"));
+        assertNull(accessor.extractId(null));
+    }
+
+    @Test
+    @DisplayName("Deve gerar snapshot compacto sem nulos e campos de controle")
+    void shouldCompactSnapshot_WithoutNullsAndControlFields() {
+        // Given
+        UsuarioResponseDTO dto = UsuarioResponseDTO.builder()
+                .id(1L)
+                .nomeCompleto("Maria Santos")
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        // When
+        Map<String, Object> compacto = accessor.compactar(accessor.snapshot(dto));
+
+        // Then
+        assertEquals(Map.of("id", 1L, "nomeCompleto", "Maria Santos"), compacto);
+    }
+
+    @Test
+    @DisplayName("Deve registrar apenas campos alterados no diff")
+    void shouldDiffOnlyChangedFields() {
+        // Given
+        UsuarioResponseDTO antes = UsuarioResponseDTO.builder()
+                .id(1L).nomeCompleto("Maria Santos").telefone("1111").build();
+        UsuarioResponseDTO depois = UsuarioResponseDTO.builder()
+                .id(1L).nomeCompleto("Maria Santos").telefone("2222").build();
+
+        // When
+        AuditFieldAccessor.AuditDiff diff = accessor.diff(accessor.snapshot(antes), accessor.snapshot(depois));
+
+        // Then
+        assertEquals(Map.of("telefone", "1111"), diff.anteriores());
+        assertEquals(Map.of("telefone", "2222"), diff.novos());
+    }
+
+    @Test
+    @DisplayName("Deve retornar diff vazio quando nada muda")
+    void shouldReturnEmptyDiff_WhenNothingChanges() {
+        // Given
+        UsuarioResponseDTO dto = UsuarioResponseDTO.builder().id(1L).nomeCompleto("Maria").build();
+
+        // When
+        AuditFieldAccessor.AuditDiff diff = accessor.diff(accessor.snapshot(dto), accessor.snapshot(dto));
+
+        // Then
+        assertNull(diff.anteriores());
+        assertNull(diff.novos());
+    }
+}
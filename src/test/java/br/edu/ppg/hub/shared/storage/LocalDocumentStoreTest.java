@@ -0,0 +1,114 @@
+package br.edu.ppg.hub.shared.storage;
+
+import br.edu.ppg.hub.shared.config.StorageConfig;
+import br.edu.ppg.hub.shared.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para LocalDocumentStore.
+ * <p>
+ * Testa:
+ * - Chave SHA-256 e deduplicação de conteúdo igual
+ * - Transferência de intervalo
+ * - Limite de tamanho sem deixar arquivos temporários
+ * - Remoção de documento
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@DisplayName("LocalDocumentStore - Testes Unitários")
+class LocalDocumentStoreTest {
+
+    // SHA-256 de "abc"
+    private static final String CHAVE_ABC = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+
+    @TempDir
+    Path raiz;
+
+    private LocalDocumentStore store;
+
+    @BeforeEach
+    void setUp() {
+        StorageConfig config = new StorageConfig();
+        config.setDiretorio(raiz.toString());
+        config.setTamanhoMaximoBytes(8);
+        store = new LocalDocumentStore(config);
+    }
+
+    @Test
+    @DisplayName("Deve armazenar pelo hash e reaproveitar conteúdo repetido")
+    void shouldDeduplicate_WhenSameContentStoredTwice() throws Exception {
+        // When
+        DocumentoArmazenado primeiro = store.armazenar(conteudo("abc"));
+        DocumentoArmazenado segundo = store.armazenar(conteudo("abc"));
+
+        // Then
+        assertEquals(CHAVE_ABC, primeiro.chave());
+        assertEquals(primeiro.chave(), segundo.chave());
+        assertEquals(3, primeiro.tamanho());
+        assertTrue(Files.isRegularFile(raiz.resolve("ba").resolve("78").resolve(CHAVE_ABC)));
+        assertEquals(1, arquivos());
+    }
+
+    @Test
+    @DisplayName("Deve transferir apenas o intervalo solicitado")
+    void shouldTransferRange_WhenOffsetGiven() throws Exception {
+        // Given
+        DocumentoArmazenado documento = store.armazenar(conteudo("abcdefgh"));
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        // When
+        store.transferir(documento.chave(), 2, 3, Channels.newChannel(saida));
+
+        // Then
+        assertEquals("cde", saida.toString(StandardCharsets.UTF_8));
+        assertTrue(store.buscar(CHAVE_ABC).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar arquivo acima do limite e descartar o temporário")
+    void shouldReject_WhenContentExceedsLimit() throws Exception {
+        assertThrows(BusinessException.class, () -> store.armazenar(conteudo("123456789")));
+        assertEquals(0, arquivos());
+        assertThrows(IllegalArgumentException.class, () -> store.buscar("../etc/passwd"));
+    }
+
+    @Test
+    @DisplayName("Deve remover o documento e ignorar chave inexistente")
+    void shouldRemoveDocument() throws Exception {
+        // Given
+        DocumentoArmazenado documento = store.armazenar(conteudo("abc"));
+
+        // When
+        store.remover(documento.chave());
+        store.remover(documento.chave());
+
+        // Then
+        assertTrue(store.buscar(documento.chave()).isEmpty());
+        assertEquals(0, arquivos());
+    }
+
+    private ByteArrayInputStream conteudo(String texto) {
+        return new ByteArrayInputStream(texto.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long arquivos() throws Exception {
+        try (Stream<Path> caminhos = Files.walk(raiz)) {
+            return caminhos.filter(Files::isRegularFile).count();
+        }
+    }
+}
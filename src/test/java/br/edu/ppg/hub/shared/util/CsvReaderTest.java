@@ -0,0 +1,72 @@
+package br.edu.ppg.hub.shared.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para CsvReader.
+ * <p>
+ * Testa:
+ * - Detecção do delimitador pelo cabeçalho
+ * - Campos entre aspas com delimitador, aspas e quebra de linha
+ * - Número da linha de cada registro
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@DisplayName("CsvReader - Testes Unitários")
+class CsvReaderTest {
+
+    @Test
+    @DisplayName("Deve detectar ponto e vírgula e ler registros com decimal em vírgula")
+    void shouldReadSemicolonRecords_WhenHeaderUsesSemicolon() throws Exception {
+        // Given
+        String csv = "\uFEFFnumeroMatricula;nota;frequencia\r\n2024001;8,5;90\r\n\r\n2024002;;75\r\n";
+
+        // When
+        try (CsvReader reader = new CsvReader(new BufferedReader(new StringReader(csv)))) {
+            // Then
+            assertEquals(';', reader.getDelimitador());
+            assertEquals(List.of("numeroMatricula", "nota", "frequencia"), reader.getCabecalho());
+
+            assertEquals(List.of("2024001", "8,5", "90"), reader.proximoRegistro());
+            assertEquals(2, reader.getLinhaRegistro());
+
+            assertEquals(List.of("2024002", "", "75"), reader.proximoRegistro());
+            assertEquals(4, reader.getLinhaRegistro());
+
+            assertNull(reader.proximoRegistro());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ler campos entre aspas com vírgula, aspas e quebra de linha")
+    void shouldReadQuotedFields_WhenFieldContainsSpecialCharacters() throws Exception {
+        // Given
+        String csv = "matriculaId,nota,obs\n1,\"7,5\",\"disse \"\"ok\"\"\nfim\"\n2,9,x\n";
+
+        // When
+        try (CsvReader reader = new CsvReader(new BufferedReader(new StringReader(csv)))) {
+            // Then
+            assertEquals(',', reader.getDelimitador());
+            assertEquals(List.of("1", "7,5", "disse \"ok\"\nfim"), reader.proximoRegistro());
+            assertEquals(2, reader.getLinhaRegistro());
+            assertEquals(List.of("2", "9", "x"), reader.proximoRegistro());
+            assertEquals(4, reader.getLinhaRegistro());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar arquivo vazio")
+    void shouldReject_WhenFileIsEmpty() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new CsvReader(new BufferedReader(new StringReader(""))));
+    }
+}
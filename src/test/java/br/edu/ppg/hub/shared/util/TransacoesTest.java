@@ -0,0 +1,100 @@
+package br.edu.ppg.hub.shared.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para Transacoes.
+ * <p>
+ * Testa:
+ * - Execução imediata sem transação ativa
+ * - Ação adiada até o commit, e descartada no rollback
+ * - Ação de rollback executada em transação própria
+ * - Transações próprias criadas com REQUIRES_NEW
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@DisplayName("Transacoes - Testes Unitários")
+class TransacoesTest {
+
+    private final List<String> executadas = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve executar imediatamente quando não há transação")
+    void shouldRunImmediately_WithoutTransaction() {
+        Transacoes.aposCommit(() -> executadas.add("commit"));
+        Transacoes.aposRollback(mock(TransactionTemplate.class), () -> executadas.add("rollback"));
+
+        assertEquals(List.of("commit"), executadas);
+    }
+
+    @Test
+    @DisplayName("Deve adiar a ação até o commit e ignorá-la no rollback")
+    void shouldDeferUntilCommit_AndSkipOnRollback() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        Transacoes.aposCommit(() -> executadas.add("commit"));
+        assertTrue(executadas.isEmpty());
+
+        // When
+        List<TransactionSynchronization> sincronizacoes = TransactionSynchronizationManager.getSynchronizations();
+        sincronizacoes.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertTrue(executadas.isEmpty());
+        sincronizacoes.forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertEquals(List.of("commit"), executadas);
+    }
+
+    @Test
+    @DisplayName("Deve executar a ação de rollback dentro da transação informada")
+    void shouldRunRollbackAction_InGivenTransaction() {
+        // Given
+        TransactionTemplate transacao = spy(new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        TransactionSynchronizationManager.initSynchronization();
+        Transacoes.aposRollback(transacao, () -> executadas.add("rollback"));
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        assertEquals(List.of("rollback"), executadas);
+        verify(transacao).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("Deve criar transações próprias, de escrita e somente leitura")
+    void shouldCreateOwnTransactions() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+        TransactionTemplate propria = Transacoes.propria(transactionManager);
+        TransactionTemplate leitura = Transacoes.leituraPropria(transactionManager);
+
+        assertEquals(TransactionDefinition.PROPAGATION_REQUIRES_NEW, propria.getPropagationBehavior());
+        assertFalse(propria.isReadOnly());
+        assertEquals(TransactionDefinition.PROPAGATION_REQUIRES_NEW, leitura.getPropagationBehavior());
+        assertTrue(leitura.isReadOnly());
+    }
+}
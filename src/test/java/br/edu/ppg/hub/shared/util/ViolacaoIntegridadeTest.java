@@ -0,0 +1,62 @@
+package br.edu.ppg.hub.shared.util;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para ViolacaoIntegridade.
+ * <p>
+ * Testa:
+ * - Nome da constraint vindo da exceção do Hibernate
+ * - Nome da constraint vindo da mensagem do PostgreSQL
+ * - Violações de outras constraints não reconhecidas como a esperada
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+@DisplayName("ViolacaoIntegridade - Testes Unitários")
+class ViolacaoIntegridadeTest {
+
+    private static final String UNICA = "matriculas_disciplinas_discente_id_oferta_disciplina_id_key";
+
+    @Test
+    @DisplayName("Deve identificar a constraint informada pelo Hibernate")
+    void shouldIdentifyConstraint_FromHibernateException() {
+        // Given
+        DataIntegrityViolationException e = new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("duplicate key", new SQLException("23505"), UNICA));
+
+        // When / Then
+        assertTrue(ViolacaoIntegridade.violou(e, UNICA));
+    }
+
+    @Test
+    @DisplayName("Deve identificar a constraint pela mensagem do PostgreSQL")
+    void shouldIdentifyConstraint_FromPostgresMessage() {
+        // Given
+        DataIntegrityViolationException e = new DataIntegrityViolationException("PreparedStatementCallback",
+                new SQLException("ERROR: duplicate key value violates unique constraint \"" + UNICA + "\""));
+
+        // When / Then
+        assertEquals(UNICA, ViolacaoIntegridade.constraint(e));
+    }
+
+    @Test
+    @DisplayName("Não deve tratar chave estrangeira ou violação sem nome como a constraint única")
+    void shouldNotMatch_OtherViolations() {
+        DataIntegrityViolationException chaveEstrangeira = new DataIntegrityViolationException("insert",
+                new SQLException("ERROR: insert or update on table \"matriculas_disciplinas\" violates foreign key "
+                        + "constraint \"matriculas_disciplinas_discente_id_fkey\""));
+        DataIntegrityViolationException semNome = new DataIntegrityViolationException("erro de integridade");
+
+        assertFalse(ViolacaoIntegridade.violou(chaveEstrangeira, UNICA));
+        assertFalse(ViolacaoIntegridade.violou(semNome, UNICA));
+    }
+}
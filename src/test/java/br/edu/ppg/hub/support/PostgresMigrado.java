@@ -0,0 +1,73 @@
+package br.edu.ppg.hub.support;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * PostgreSQL de teste (Testcontainers) com o schema criado pelas migrations Flyway
+ * da aplicação ({@code classpath:db/migration}), e não pelo Hibernate.
+ * <p>
+ * O container é iniciado e migrado uma única vez por JVM e compartilhado pelos
+ * testes de integração; cada teste limpa os dados que criar.
+ * </p>
+ *
+ * @author PPG Hub
+ * @since 1.0
+ */
+public final class PostgresMigrado {
+
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static boolean migrado;
+
+    private PostgresMigrado() {
+    }
+
+    /**
+     * Inicia o container, se necessário, e aplica as migrations
+     */
+    public static synchronized PostgreSQLContainer<?> iniciar() {
+        if (!POSTGRES.isRunning()) {
+            POSTGRES.start();
+        }
+        if (!migrado) {
+            Flyway.configure()
+                    .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                    .schemas("core", "auth", "academic")
+                    .createSchemas(true)
+                    .locations("classpath:db/migration")
+                    .load()
+                    .migrate();
+            migrado = true;
+        }
+        return POSTGRES;
+    }
+
+    /**
+     * Pool de conexões para o banco migrado
+     */
+    public static HikariDataSource dataSource(int maximoConexoes) {
+        PostgreSQLContainer<?> postgres = iniciar();
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(postgres.getJdbcUrl());
+        dataSource.setUsername(postgres.getUsername());
+        dataSource.setPassword(postgres.getPassword());
+        dataSource.setMaximumPoolSize(maximoConexoes);
+        return dataSource;
+    }
+
+    /**
+     * Aponta o datasource do contexto Spring para o banco migrado, sem rodar o Flyway
+     * de novo nem gerar schema pelo Hibernate
+     */
+    public static void registrar(DynamicPropertyRegistry registry) {
+        PostgreSQLContainer<?> postgres = iniciar();
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.flyway.enabled", () -> "false");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+    }
+}